@@ -0,0 +1,65 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.benchmarks;
+
+import java.io.File;
+
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataDictionary;
+import com.refinitiv.eta.transport.Error;
+import com.refinitiv.eta.transport.TransportFactory;
+
+/**
+ * Helpers shared by the benchmark states.
+ * <p>
+ * The dictionary files are read from the directory named by the <code>benchmarks.etcDir</code>
+ * system property, which the <code>jmh</code> Gradle task sets, and default to <code>../etc</code>.
+ */
+public class BenchmarkSupport
+{
+    public static final String ETC_DIR_PROPERTY = "benchmarks.etcDir";
+
+    private BenchmarkSupport()
+    {
+    }
+
+    /**
+     * Loads the RDMFieldDictionary and enumtype.def shipped in Java/etc.
+     *
+     * @return the loaded dictionary
+     * @throws IllegalStateException if either file cannot be loaded
+     */
+    public static DataDictionary loadDictionary()
+    {
+        String etcDir = System.getProperty(ETC_DIR_PROPERTY, ".." + File.separator + "etc");
+        DataDictionary dictionary = CodecFactory.createDataDictionary();
+        Error error = TransportFactory.createError();
+
+        dictionary.clear();
+        if (dictionary.loadFieldDictionary(new File(etcDir, "RDMFieldDictionary").getPath(), error) < CodecReturnCodes.SUCCESS)
+            throw new IllegalStateException("Unable to load field dictionary: " + error.text());
+        if (dictionary.loadEnumTypeDictionary(new File(etcDir, "enumtype.def").getPath(), error) < CodecReturnCodes.SUCCESS)
+            throw new IllegalStateException("Unable to load enum type dictionary: " + error.text());
+
+        return dictionary;
+    }
+
+    /**
+     * Fails the benchmark setup if a codec call did not succeed.
+     *
+     * @param ret return code of the call
+     * @param what description of the call used in the exception message
+     */
+    public static void check(int ret, String what)
+    {
+        if (ret < CodecReturnCodes.SUCCESS)
+            throw new IllegalStateException(what + " failed: " + CodecReturnCodes.toString(ret));
+    }
+}
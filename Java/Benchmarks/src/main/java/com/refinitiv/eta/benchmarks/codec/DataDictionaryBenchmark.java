@@ -0,0 +1,107 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.benchmarks.codec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.refinitiv.eta.benchmarks.BenchmarkSupport;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.DataDictionary;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.DictionaryEntry;
+import com.refinitiv.eta.codec.Enum;
+
+/**
+ * Looks up DataDictionaryImpl entries by field id, by acronym and enumerated values by entry.
+ * Every benchmark method walks the same set of fields that are defined in RDMFieldDictionary,
+ * so results are per lookup batch rather than per single lookup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataDictionaryBenchmark
+{
+    static final int LOOKUP_COUNT = 256;
+
+    DataDictionary dictionary;
+    int[] fieldIds;
+    String[] acronyms;
+    DictionaryEntry[] enumEntries;
+    Enum enumValue = CodecFactory.createEnum();
+
+    @Setup
+    public void setup()
+    {
+        dictionary = BenchmarkSupport.loadDictionary();
+
+        // spread the lookups over the whole dictionary, including the negative fids
+        List<DictionaryEntry> entries = new ArrayList<DictionaryEntry>();
+        List<DictionaryEntry> enums = new ArrayList<DictionaryEntry>();
+        for (int fid = dictionary.minFid(); fid <= dictionary.maxFid(); fid++)
+        {
+            DictionaryEntry entry = dictionary.entry(fid);
+            if (entry == null)
+                continue;
+            entries.add(entry);
+            if (entry.rwfType() == DataTypes.ENUM && entry.enumTypeTable() != null)
+                enums.add(entry);
+        }
+
+        fieldIds = new int[LOOKUP_COUNT];
+        acronyms = new String[LOOKUP_COUNT];
+        enumEntries = new DictionaryEntry[LOOKUP_COUNT];
+        int step = Math.max(1, entries.size() / LOOKUP_COUNT);
+        for (int i = 0; i < LOOKUP_COUNT; i++)
+        {
+            DictionaryEntry entry = entries.get((i * step) % entries.size());
+            fieldIds[i] = entry.fid();
+            acronyms[i] = entry.acronym().toString();
+            enumEntries[i] = enums.get(i % enums.size());
+        }
+    }
+
+    @Benchmark
+    public void entryByFieldId(Blackhole blackhole)
+    {
+        for (int i = 0; i < LOOKUP_COUNT; i++)
+            blackhole.consume(dictionary.entry(fieldIds[i]));
+    }
+
+    @Benchmark
+    public void entryByAcronym(Blackhole blackhole)
+    {
+        for (int i = 0; i < LOOKUP_COUNT; i++)
+            blackhole.consume(dictionary.entry(acronyms[i]));
+    }
+
+    @Benchmark
+    public void entryEnumType(Blackhole blackhole)
+    {
+        enumValue.value(1);
+        for (int i = 0; i < LOOKUP_COUNT; i++)
+            blackhole.consume(dictionary.entryEnumType(enumEntries[i], enumValue));
+    }
+}
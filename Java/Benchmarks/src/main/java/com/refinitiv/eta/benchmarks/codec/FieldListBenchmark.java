@@ -0,0 +1,198 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.benchmarks.codec;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.refinitiv.eta.benchmarks.BenchmarkSupport;
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.Codec;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataDictionary;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.Date;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.DictionaryEntry;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.Enum;
+import com.refinitiv.eta.codec.FieldEntry;
+import com.refinitiv.eta.codec.FieldList;
+import com.refinitiv.eta.codec.Real;
+import com.refinitiv.eta.codec.RealHints;
+import com.refinitiv.eta.codec.Time;
+import com.refinitiv.eta.codec.UInt;
+
+/**
+ * Encodes and decodes a MarketPrice style field list: prices, volumes, a trade date and time,
+ * an enumeration and a display name. Decoding goes through the dictionary to pick the primitive
+ * decoder of each entry, as a consumer application does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldListBenchmark
+{
+    static final int BID = 22;
+    static final int ASK = 25;
+    static final int TRDPRC_1 = 6;
+    static final int BIDSIZE = 30;
+    static final int ASKSIZE = 31;
+    static final int ACVOL_1 = 32;
+    static final int TRADE_DATE = 16;
+    static final int TRDTIME_1 = 18;
+    static final int PRCTCK_1 = 14;
+    static final int DSPLY_NAME = 3;
+
+    DataDictionary dictionary;
+
+    EncodeIterator encodeIter = CodecFactory.createEncodeIterator();
+    DecodeIterator decodeIter = CodecFactory.createDecodeIterator();
+    FieldList fieldList = CodecFactory.createFieldList();
+    FieldEntry fieldEntry = CodecFactory.createFieldEntry();
+
+    Real real = CodecFactory.createReal();
+    UInt uint = CodecFactory.createUInt();
+    Date date = CodecFactory.createDate();
+    Time time = CodecFactory.createTime();
+    Enum enumValue = CodecFactory.createEnum();
+    Buffer displayName = CodecFactory.createBuffer();
+    Buffer decodedBuffer = CodecFactory.createBuffer();
+
+    ByteBuffer encodeBytes = ByteBuffer.allocate(1024);
+    Buffer encodeBuffer = CodecFactory.createBuffer();
+    Buffer encodedFieldList = CodecFactory.createBuffer();
+
+    @Setup
+    public void setup()
+    {
+        dictionary = BenchmarkSupport.loadDictionary();
+        displayName.data("LSEG.L");
+
+        BenchmarkSupport.check(encodeFieldList(), "FieldList encode");
+        encodedFieldList.data(ByteBuffer.allocate(encodeBuffer.length()));
+        encodeBuffer.copy(encodedFieldList);
+    }
+
+    int encodeFieldList()
+    {
+        encodeBytes.clear();
+        encodeBuffer.data(encodeBytes);
+        encodeIter.clear();
+        encodeIter.setBufferAndRWFVersion(encodeBuffer, Codec.majorVersion(), Codec.minorVersion());
+
+        fieldList.clear();
+        fieldList.applyHasStandardData();
+        int ret = fieldList.encodeInit(encodeIter, null, 0);
+        if (ret < CodecReturnCodes.SUCCESS)
+            return ret;
+
+        real.value(39924, RealHints.EXPONENT_2);
+        encodeEntry(BID, DataTypes.REAL).encode(encodeIter, real);
+        real.value(39926, RealHints.EXPONENT_2);
+        encodeEntry(ASK, DataTypes.REAL).encode(encodeIter, real);
+        real.value(39925, RealHints.EXPONENT_2);
+        encodeEntry(TRDPRC_1, DataTypes.REAL).encode(encodeIter, real);
+        real.value(1200, RealHints.EXPONENT0);
+        encodeEntry(BIDSIZE, DataTypes.REAL).encode(encodeIter, real);
+        real.value(800, RealHints.EXPONENT0);
+        encodeEntry(ASKSIZE, DataTypes.REAL).encode(encodeIter, real);
+        real.value(15366200, RealHints.EXPONENT0);
+        encodeEntry(ACVOL_1, DataTypes.REAL).encode(encodeIter, real);
+        date.day(11);
+        date.month(12);
+        date.year(2025);
+        encodeEntry(TRADE_DATE, DataTypes.DATE).encode(encodeIter, date);
+        time.hour(8);
+        time.minute(15);
+        time.second(42);
+        encodeEntry(TRDTIME_1, DataTypes.TIME).encode(encodeIter, time);
+        enumValue.value(1);
+        encodeEntry(PRCTCK_1, DataTypes.ENUM).encode(encodeIter, enumValue);
+        encodeEntry(DSPLY_NAME, DataTypes.RMTES_STRING).encode(encodeIter, displayName);
+
+        ret = fieldList.encodeComplete(encodeIter, true);
+        encodeBuffer.data(encodeBuffer.data(), 0, encodeBuffer.data().position());
+        return ret;
+    }
+
+    FieldEntry encodeEntry(int fieldId, int dataType)
+    {
+        fieldEntry.clear();
+        fieldEntry.fieldId(fieldId);
+        fieldEntry.dataType(dataType);
+        return fieldEntry;
+    }
+
+    @Benchmark
+    public int encode()
+    {
+        return encodeFieldList();
+    }
+
+    @Benchmark
+    public void decode(Blackhole blackhole)
+    {
+        decodeIter.clear();
+        decodeIter.setBufferAndRWFVersion(encodedFieldList, Codec.majorVersion(), Codec.minorVersion());
+
+        fieldList.decode(decodeIter, null);
+        int ret;
+        while ((ret = fieldEntry.decode(decodeIter)) != CodecReturnCodes.END_OF_CONTAINER)
+        {
+            if (ret < CodecReturnCodes.SUCCESS)
+                throw new IllegalStateException("FieldEntry decode failed: " + CodecReturnCodes.toString(ret));
+
+            DictionaryEntry entry = dictionary.entry(fieldEntry.fieldId());
+            switch (entry.rwfType())
+            {
+                case DataTypes.REAL:
+                    real.decode(decodeIter);
+                    blackhole.consume(real.toLong());
+                    break;
+                case DataTypes.UINT:
+                    uint.decode(decodeIter);
+                    blackhole.consume(uint.toLong());
+                    break;
+                case DataTypes.DATE:
+                    date.decode(decodeIter);
+                    blackhole.consume(date.day());
+                    break;
+                case DataTypes.TIME:
+                    time.decode(decodeIter);
+                    blackhole.consume(time.second());
+                    break;
+                case DataTypes.ENUM:
+                    enumValue.decode(decodeIter);
+                    blackhole.consume(enumValue.toInt());
+                    break;
+                default:
+                    decodedBuffer.decode(decodeIter);
+                    blackhole.consume(decodedBuffer.length());
+                    break;
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.benchmarks.codec;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.refinitiv.eta.benchmarks.BenchmarkSupport;
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.Codec;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.FieldEntry;
+import com.refinitiv.eta.codec.FieldList;
+import com.refinitiv.eta.codec.Map;
+import com.refinitiv.eta.codec.MapEntry;
+import com.refinitiv.eta.codec.MapEntryActions;
+import com.refinitiv.eta.codec.Real;
+import com.refinitiv.eta.codec.RealHints;
+
+/**
+ * Encodes and decodes a MarketByOrder style map: buffer keyed entries, each carrying a small
+ * field list with an order price and size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapBenchmark
+{
+    static final int ORDER_PRC = 3427;
+    static final int ORDER_SIZE = 3428;
+
+    @Param({"10", "100"})
+    public int entryCount;
+
+    EncodeIterator encodeIter = CodecFactory.createEncodeIterator();
+    DecodeIterator decodeIter = CodecFactory.createDecodeIterator();
+    Map map = CodecFactory.createMap();
+    MapEntry mapEntry = CodecFactory.createMapEntry();
+    FieldList fieldList = CodecFactory.createFieldList();
+    FieldEntry fieldEntry = CodecFactory.createFieldEntry();
+    Real real = CodecFactory.createReal();
+    Buffer decodedKey = CodecFactory.createBuffer();
+
+    Buffer[] orderIds;
+    ByteBuffer encodeBytes;
+    Buffer encodeBuffer = CodecFactory.createBuffer();
+    Buffer encodedMap = CodecFactory.createBuffer();
+
+    @Setup
+    public void setup()
+    {
+        orderIds = new Buffer[entryCount];
+        for (int i = 0; i < entryCount; i++)
+        {
+            orderIds[i] = CodecFactory.createBuffer();
+            orderIds[i].data("ORDER" + (100000 + i));
+        }
+        encodeBytes = ByteBuffer.allocate(64 + entryCount * 64);
+
+        BenchmarkSupport.check(encodeMap(), "Map encode");
+        encodedMap.data(ByteBuffer.allocate(encodeBuffer.length()));
+        encodeBuffer.copy(encodedMap);
+    }
+
+    int encodeMap()
+    {
+        encodeBytes.clear();
+        encodeBuffer.data(encodeBytes);
+        encodeIter.clear();
+        encodeIter.setBufferAndRWFVersion(encodeBuffer, Codec.majorVersion(), Codec.minorVersion());
+
+        map.clear();
+        map.keyPrimitiveType(DataTypes.BUFFER);
+        map.containerType(DataTypes.FIELD_LIST);
+        int ret = map.encodeInit(encodeIter, 0, 0);
+        if (ret < CodecReturnCodes.SUCCESS)
+            return ret;
+
+        for (int i = 0; i < entryCount; i++)
+        {
+            mapEntry.clear();
+            mapEntry.action(MapEntryActions.ADD);
+            if ((ret = mapEntry.encodeInit(encodeIter, orderIds[i], 0)) < CodecReturnCodes.SUCCESS)
+                return ret;
+
+            fieldList.clear();
+            fieldList.applyHasStandardData();
+            if ((ret = fieldList.encodeInit(encodeIter, null, 0)) < CodecReturnCodes.SUCCESS)
+                return ret;
+
+            fieldEntry.clear();
+            fieldEntry.fieldId(ORDER_PRC);
+            fieldEntry.dataType(DataTypes.REAL);
+            real.value(39900 + i, RealHints.EXPONENT_2);
+            fieldEntry.encode(encodeIter, real);
+
+            fieldEntry.clear();
+            fieldEntry.fieldId(ORDER_SIZE);
+            fieldEntry.dataType(DataTypes.REAL);
+            real.value(100 * (i + 1), RealHints.EXPONENT0);
+            fieldEntry.encode(encodeIter, real);
+
+            if ((ret = fieldList.encodeComplete(encodeIter, true)) < CodecReturnCodes.SUCCESS)
+                return ret;
+            if ((ret = mapEntry.encodeComplete(encodeIter, true)) < CodecReturnCodes.SUCCESS)
+                return ret;
+        }
+
+        ret = map.encodeComplete(encodeIter, true);
+        encodeBuffer.data(encodeBuffer.data(), 0, encodeBuffer.data().position());
+        return ret;
+    }
+
+    @Benchmark
+    public int encode()
+    {
+        return encodeMap();
+    }
+
+    @Benchmark
+    public void decode(Blackhole blackhole)
+    {
+        decodeIter.clear();
+        decodeIter.setBufferAndRWFVersion(encodedMap, Codec.majorVersion(), Codec.minorVersion());
+
+        map.decode(decodeIter);
+        while (mapEntry.decode(decodeIter, decodedKey) != CodecReturnCodes.END_OF_CONTAINER)
+        {
+            blackhole.consume(decodedKey.length());
+            fieldList.decode(decodeIter, null);
+            while (fieldEntry.decode(decodeIter) != CodecReturnCodes.END_OF_CONTAINER)
+            {
+                real.decode(decodeIter);
+                blackhole.consume(real.toLong());
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.benchmarks.codec;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.refinitiv.eta.benchmarks.BenchmarkSupport;
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.Codec;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.DateTime;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.Real;
+import com.refinitiv.eta.codec.RealHints;
+
+/**
+ * Encodes and decodes the Real and DateTime primitives on their own, outside of any container,
+ * together with the double to Real conversion applications use when publishing prices.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveBenchmark
+{
+    EncodeIterator encodeIter = CodecFactory.createEncodeIterator();
+    DecodeIterator decodeIter = CodecFactory.createDecodeIterator();
+
+    Real real = CodecFactory.createReal();
+    DateTime dateTime = CodecFactory.createDateTime();
+    double price = 399.24;
+
+    ByteBuffer encodeBytes = ByteBuffer.allocate(64);
+    Buffer encodeBuffer = CodecFactory.createBuffer();
+    Buffer encodedReal = CodecFactory.createBuffer();
+    Buffer encodedDateTime = CodecFactory.createBuffer();
+
+    @Setup
+    public void setup()
+    {
+        BenchmarkSupport.check(encodeReal(), "Real encode");
+        copyEncoded(encodedReal);
+
+        BenchmarkSupport.check(encodeDateTime(), "DateTime encode");
+        copyEncoded(encodedDateTime);
+    }
+
+    void copyEncoded(Buffer destination)
+    {
+        encodeBuffer.data(encodeBuffer.data(), 0, encodeBuffer.data().position());
+        destination.data(ByteBuffer.allocate(encodeBuffer.length()));
+        encodeBuffer.copy(destination);
+    }
+
+    void resetEncodeIterator()
+    {
+        encodeBytes.clear();
+        encodeBuffer.data(encodeBytes);
+        encodeIter.clear();
+        encodeIter.setBufferAndRWFVersion(encodeBuffer, Codec.majorVersion(), Codec.minorVersion());
+    }
+
+    @Benchmark
+    public int encodeReal()
+    {
+        resetEncodeIterator();
+        real.value(39924, RealHints.EXPONENT_2);
+        return real.encode(encodeIter);
+    }
+
+    @Benchmark
+    public long decodeReal()
+    {
+        decodeIter.clear();
+        decodeIter.setBufferAndRWFVersion(encodedReal, Codec.majorVersion(), Codec.minorVersion());
+        real.decode(decodeIter);
+        return real.toLong();
+    }
+
+    @Benchmark
+    public int realFromDouble()
+    {
+        return real.value(price, RealHints.EXPONENT_2);
+    }
+
+    @Benchmark
+    public int encodeDateTime()
+    {
+        resetEncodeIterator();
+        dateTime.year(2025);
+        dateTime.month(12);
+        dateTime.day(11);
+        dateTime.hour(8);
+        dateTime.minute(15);
+        dateTime.second(42);
+        dateTime.millisecond(123);
+        dateTime.microsecond(456);
+        dateTime.nanosecond(789);
+        return dateTime.encode(encodeIter);
+    }
+
+    @Benchmark
+    public int decodeDateTime()
+    {
+        decodeIter.clear();
+        decodeIter.setBufferAndRWFVersion(encodedDateTime, Codec.majorVersion(), Codec.minorVersion());
+        dateTime.decode(decodeIter);
+        return dateTime.nanosecond();
+    }
+}
@@ -0,0 +1,192 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.benchmarks.json;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.refinitiv.eta.benchmarks.BenchmarkSupport;
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.Codec;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataDictionary;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.FieldEntry;
+import com.refinitiv.eta.codec.FieldList;
+import com.refinitiv.eta.codec.Msg;
+import com.refinitiv.eta.codec.MsgClasses;
+import com.refinitiv.eta.codec.Real;
+import com.refinitiv.eta.codec.RealHints;
+import com.refinitiv.eta.codec.UpdateMsg;
+import com.refinitiv.eta.json.converter.ConverterFactory;
+import com.refinitiv.eta.json.converter.DecodeJsonMsgOptions;
+import com.refinitiv.eta.json.converter.GetJsonMsgOptions;
+import com.refinitiv.eta.json.converter.JsonConverter;
+import com.refinitiv.eta.json.converter.JsonConverterError;
+import com.refinitiv.eta.json.converter.JsonMsg;
+import com.refinitiv.eta.json.converter.JsonProtocol;
+import com.refinitiv.eta.json.converter.ParseJsonFlags;
+import com.refinitiv.eta.json.converter.ParseJsonOptions;
+import com.refinitiv.eta.json.converter.RWFToJsonOptions;
+import com.refinitiv.eta.rdm.DomainTypes;
+
+/**
+ * Converts a MarketPrice update between RWF and JSON in both directions with the JsonConverter.
+ * The JSON to RWF direction runs with and without ParseJsonFlags.JSON_PJF_STREAMING_DECODE.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonConverterBenchmark
+{
+    static final int[] PRICE_FIDS = { 22, 25, 6, 12, 13, 19, 21, 30, 31, 32 };
+
+    @State(Scope.Thread)
+    public static class ParseOptions
+    {
+        @Param({"false", "true"})
+        public boolean streamingDecode;
+
+        ParseJsonOptions parseJsonOptions = ConverterFactory.createParseJsonOptions();
+
+        @Setup
+        public void setup()
+        {
+            parseJsonOptions.setProtocolType(JsonProtocol.JSON_JPT_JSON2);
+            parseJsonOptions.setConverterFlags(streamingDecode ? ParseJsonFlags.JSON_PJF_STREAMING_DECODE : ParseJsonFlags.JSON_PJF_NONE);
+        }
+    }
+
+    JsonConverter converter;
+    JsonConverterError error = ConverterFactory.createJsonConverterError();
+    RWFToJsonOptions rwfToJsonOptions = ConverterFactory.createRWFToJsonOptions();
+    GetJsonMsgOptions getJsonMsgOptions = ConverterFactory.createGetJsonMsgOptions();
+    DecodeJsonMsgOptions decodeJsonMsgOptions = ConverterFactory.createDecodeJsonMsgOptions();
+    JsonMsg jsonMsg = ConverterFactory.createJsonMsg();
+
+    Msg rwfMsg = CodecFactory.createMsg();
+    Buffer rwfBuffer = CodecFactory.createBuffer();
+    ByteBuffer jsonBytes = ByteBuffer.allocate(4096);
+    Buffer jsonOutput = CodecFactory.createBuffer();
+    Buffer jsonInput = CodecFactory.createBuffer();
+
+    @Setup
+    public void setup()
+    {
+        DataDictionary dictionary = BenchmarkSupport.loadDictionary();
+        converter = ConverterFactory.createJsonConverterBuilder()
+                .setDictionary(dictionary)
+                .build(error);
+        if (converter == null)
+            throw new IllegalStateException("JsonConverter build failed: " + error.getText());
+
+        rwfToJsonOptions.setJsonProtocolType(JsonProtocol.JSON_JPT_JSON2);
+        getJsonMsgOptions.jsonProtocolType(JsonProtocol.JSON_JPT_JSON2);
+        decodeJsonMsgOptions.setJsonProtocolType(JsonProtocol.JSON_JPT_JSON2);
+
+        encodeUpdate();
+
+        DecodeIterator decodeIter = CodecFactory.createDecodeIterator();
+        decodeIter.setBufferAndRWFVersion(rwfBuffer, Codec.majorVersion(), Codec.minorVersion());
+        BenchmarkSupport.check(rwfMsg.decode(decodeIter), "UpdateMsg decode");
+
+        BenchmarkSupport.check(rwfToJson(), "RWF to JSON");
+        byte[] json = new byte[jsonOutput.data().position()];
+        jsonOutput.data().flip();
+        jsonOutput.data().get(json);
+        jsonInput.data(ByteBuffer.wrap(json));
+
+        ParseJsonOptions parseJsonOptions = ConverterFactory.createParseJsonOptions();
+        parseJsonOptions.setProtocolType(JsonProtocol.JSON_JPT_JSON2);
+        BenchmarkSupport.check(jsonToRwf(parseJsonOptions), "JSON to RWF");
+    }
+
+    void encodeUpdate()
+    {
+        rwfBuffer.data(ByteBuffer.allocate(512));
+        EncodeIterator encodeIter = CodecFactory.createEncodeIterator();
+        encodeIter.setBufferAndRWFVersion(rwfBuffer, Codec.majorVersion(), Codec.minorVersion());
+
+        UpdateMsg updateMsg = (UpdateMsg)CodecFactory.createMsg();
+        updateMsg.msgClass(MsgClasses.UPDATE);
+        updateMsg.streamId(5);
+        updateMsg.domainType(DomainTypes.MARKET_PRICE);
+        updateMsg.containerType(DataTypes.FIELD_LIST);
+        if (updateMsg.encodeInit(encodeIter, 0) != CodecReturnCodes.ENCODE_CONTAINER)
+            throw new IllegalStateException("UpdateMsg encodeInit failed");
+
+        FieldList fieldList = CodecFactory.createFieldList();
+        FieldEntry fieldEntry = CodecFactory.createFieldEntry();
+        Real real = CodecFactory.createReal();
+        fieldList.applyHasStandardData();
+        BenchmarkSupport.check(fieldList.encodeInit(encodeIter, null, 0), "FieldList encodeInit");
+        for (int i = 0; i < PRICE_FIDS.length; i++)
+        {
+            fieldEntry.clear();
+            fieldEntry.fieldId(PRICE_FIDS[i]);
+            fieldEntry.dataType(DataTypes.REAL);
+            real.value(39900 + i, RealHints.EXPONENT_2);
+            BenchmarkSupport.check(fieldEntry.encode(encodeIter, real), "FieldEntry encode");
+        }
+        BenchmarkSupport.check(fieldList.encodeComplete(encodeIter, true), "FieldList encodeComplete");
+        BenchmarkSupport.check(updateMsg.encodeComplete(encodeIter, true), "UpdateMsg encodeComplete");
+        rwfBuffer.data(rwfBuffer.data(), 0, rwfBuffer.data().position());
+    }
+
+    int rwfToJson()
+    {
+        int ret = converter.convertRWFToJson(rwfMsg, rwfToJsonOptions, error);
+        if (ret < CodecReturnCodes.SUCCESS)
+            return ret;
+
+        jsonBytes.clear();
+        jsonOutput.data(jsonBytes);
+        return converter.getJsonBuffer(jsonOutput, getJsonMsgOptions, error);
+    }
+
+    int jsonToRwf(ParseJsonOptions parseJsonOptions)
+    {
+        int ret = converter.parseJsonBuffer(jsonInput, parseJsonOptions, error);
+        if (ret < CodecReturnCodes.SUCCESS)
+            return ret;
+
+        jsonMsg.clear();
+        return converter.decodeJsonMsg(jsonMsg, decodeJsonMsgOptions, error);
+    }
+
+    @Benchmark
+    public int rwfToJsonConversion()
+    {
+        return rwfToJson();
+    }
+
+    @Benchmark
+    public int jsonToRwfConversion(ParseOptions options)
+    {
+        return jsonToRwf(options.parseJsonOptions);
+    }
+}
@@ -0,0 +1,476 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.benchmarks.reactor;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.refinitiv.eta.benchmarks.BenchmarkSupport;
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.Codec;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.DataStates;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.FieldEntry;
+import com.refinitiv.eta.codec.FieldList;
+import com.refinitiv.eta.codec.MsgClasses;
+import com.refinitiv.eta.codec.Qos;
+import com.refinitiv.eta.codec.QosRates;
+import com.refinitiv.eta.codec.QosTimeliness;
+import com.refinitiv.eta.codec.Real;
+import com.refinitiv.eta.codec.RealHints;
+import com.refinitiv.eta.codec.RefreshMsg;
+import com.refinitiv.eta.codec.RequestMsg;
+import com.refinitiv.eta.codec.StateCodes;
+import com.refinitiv.eta.codec.StreamStates;
+import com.refinitiv.eta.codec.UpdateMsg;
+import com.refinitiv.eta.rdm.DomainTypes;
+import com.refinitiv.eta.transport.BindOptions;
+import com.refinitiv.eta.transport.ConnectionTypes;
+import com.refinitiv.eta.transport.Server;
+import com.refinitiv.eta.transport.Transport;
+import com.refinitiv.eta.transport.TransportFactory;
+import com.refinitiv.eta.valueadd.domainrep.rdm.directory.DirectoryMsgFactory;
+import com.refinitiv.eta.valueadd.domainrep.rdm.directory.DirectoryMsgType;
+import com.refinitiv.eta.valueadd.domainrep.rdm.directory.DirectoryRefresh;
+import com.refinitiv.eta.valueadd.domainrep.rdm.directory.DirectoryRequest;
+import com.refinitiv.eta.valueadd.domainrep.rdm.directory.Service;
+import com.refinitiv.eta.valueadd.domainrep.rdm.login.LoginMsgFactory;
+import com.refinitiv.eta.valueadd.domainrep.rdm.login.LoginMsgType;
+import com.refinitiv.eta.valueadd.domainrep.rdm.login.LoginRefresh;
+import com.refinitiv.eta.valueadd.domainrep.rdm.login.LoginRequest;
+import com.refinitiv.eta.valueadd.reactor.ConsumerCallback;
+import com.refinitiv.eta.valueadd.reactor.ConsumerRole;
+import com.refinitiv.eta.valueadd.reactor.ProviderCallback;
+import com.refinitiv.eta.valueadd.reactor.ProviderRole;
+import com.refinitiv.eta.valueadd.reactor.RDMDictionaryMsgEvent;
+import com.refinitiv.eta.valueadd.reactor.RDMDirectoryMsgEvent;
+import com.refinitiv.eta.valueadd.reactor.RDMLoginMsgEvent;
+import com.refinitiv.eta.valueadd.reactor.Reactor;
+import com.refinitiv.eta.valueadd.reactor.ReactorAcceptOptions;
+import com.refinitiv.eta.valueadd.reactor.ReactorCallbackReturnCodes;
+import com.refinitiv.eta.valueadd.reactor.ReactorChannel;
+import com.refinitiv.eta.valueadd.reactor.ReactorChannelEvent;
+import com.refinitiv.eta.valueadd.reactor.ReactorChannelEventTypes;
+import com.refinitiv.eta.valueadd.reactor.ReactorConnectInfo;
+import com.refinitiv.eta.valueadd.reactor.ReactorConnectOptions;
+import com.refinitiv.eta.valueadd.reactor.ReactorDispatchOptions;
+import com.refinitiv.eta.valueadd.reactor.ReactorErrorInfo;
+import com.refinitiv.eta.valueadd.reactor.ReactorFactory;
+import com.refinitiv.eta.valueadd.reactor.ReactorMsgEvent;
+import com.refinitiv.eta.valueadd.reactor.ReactorOptions;
+import com.refinitiv.eta.valueadd.reactor.ReactorReturnCodes;
+import com.refinitiv.eta.valueadd.reactor.ReactorSubmitOptions;
+
+/**
+ * Measures Reactor.dispatchAll on a consumer with the watchlist enabled.
+ * <p>
+ * A provider Reactor and a consumer Reactor run in the benchmark thread and are connected over
+ * loopback. Setup completes the login and directory exchange and opens one MarketPrice item.
+ * Each invocation has the provider submit a batch of updates on that item, then dispatches
+ * both Reactors until the watchlist has delivered all of them to the default message callback.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReactorDispatchBenchmark
+{
+    static final long SETUP_TIMEOUT_MSEC = 10000;
+    static final int SERVICE_ID = 1;
+    static final String SERVICE_NAME = "DEFAULT_SERVICE";
+    static final int ITEM_STREAM_ID = 5;
+
+    @Param({"15602"})
+    public String port;
+
+    @Param({"1", "100"})
+    public int updateCount;
+
+    ReactorErrorInfo errorInfo = ReactorFactory.createReactorErrorInfo();
+    ReactorDispatchOptions dispatchOptions = ReactorFactory.createReactorDispatchOptions();
+    ReactorSubmitOptions submitOptions = ReactorFactory.createReactorSubmitOptions();
+
+    Server server;
+    Reactor providerReactor;
+    Reactor consumerReactor;
+    ReactorChannel providerChannel;
+    ReactorChannel consumerChannel;
+    boolean consumerReady;
+
+    int providerItemStreamId;
+    boolean refreshReceived;
+    long updatesReceived;
+
+    Buffer payload = CodecFactory.createBuffer();
+    UpdateMsg updateMsg = (UpdateMsg)CodecFactory.createMsg();
+    RefreshMsg refreshMsg = (RefreshMsg)CodecFactory.createMsg();
+
+    class BenchmarkProvider implements ProviderCallback
+    {
+        LoginRefresh loginRefresh = (LoginRefresh)LoginMsgFactory.createMsg();
+        DirectoryRefresh directoryRefresh = (DirectoryRefresh)DirectoryMsgFactory.createMsg();
+        ReactorSubmitOptions providerSubmitOptions = ReactorFactory.createReactorSubmitOptions();
+        ReactorErrorInfo providerErrorInfo = ReactorFactory.createReactorErrorInfo();
+
+        @Override
+        public int reactorChannelEventCallback(ReactorChannelEvent event)
+        {
+            if (event.eventType() == ReactorChannelEventTypes.CHANNEL_UP)
+                providerChannel = event.reactorChannel();
+            return ReactorCallbackReturnCodes.SUCCESS;
+        }
+
+        @Override
+        public int rdmLoginMsgCallback(RDMLoginMsgEvent event)
+        {
+            if (event.rdmLoginMsg().rdmMsgType() != LoginMsgType.REQUEST)
+                return ReactorCallbackReturnCodes.SUCCESS;
+
+            LoginRequest loginRequest = (LoginRequest)event.rdmLoginMsg();
+            loginRefresh.clear();
+            loginRefresh.rdmMsgType(LoginMsgType.REFRESH);
+            loginRefresh.applySolicited();
+            loginRefresh.userName(loginRequest.userName());
+            loginRefresh.streamId(loginRequest.streamId());
+            loginRefresh.state().streamState(StreamStates.OPEN);
+            loginRefresh.state().dataState(DataStates.OK);
+            loginRefresh.state().code(StateCodes.NONE);
+            loginRefresh.state().text().data("Login OK");
+
+            providerSubmitOptions.clear();
+            check(event.reactorChannel().submit(loginRefresh, providerSubmitOptions, providerErrorInfo), "login refresh submit");
+            return ReactorCallbackReturnCodes.SUCCESS;
+        }
+
+        @Override
+        public int rdmDirectoryMsgCallback(RDMDirectoryMsgEvent event)
+        {
+            if (event.rdmDirectoryMsg().rdmMsgType() != DirectoryMsgType.REQUEST)
+                return ReactorCallbackReturnCodes.SUCCESS;
+
+            DirectoryRequest directoryRequest = (DirectoryRequest)event.rdmDirectoryMsg();
+            directoryRefresh.clear();
+            directoryRefresh.rdmMsgType(DirectoryMsgType.REFRESH);
+            directoryRefresh.streamId(directoryRequest.streamId());
+            directoryRefresh.filter(directoryRequest.filter());
+            directoryRefresh.applySolicited();
+            directoryRefresh.applyClearCache();
+            directoryRefresh.state().streamState(StreamStates.OPEN);
+            directoryRefresh.state().dataState(DataStates.OK);
+            directoryRefresh.state().code(StateCodes.NONE);
+            directoryRefresh.state().text().data("Source Directory Refresh Complete");
+            directoryRefresh.serviceList().add(createService());
+
+            providerSubmitOptions.clear();
+            check(event.reactorChannel().submit(directoryRefresh, providerSubmitOptions, providerErrorInfo), "directory refresh submit");
+            return ReactorCallbackReturnCodes.SUCCESS;
+        }
+
+        @Override
+        public int rdmDictionaryMsgCallback(RDMDictionaryMsgEvent event)
+        {
+            return ReactorCallbackReturnCodes.SUCCESS;
+        }
+
+        @Override
+        public int defaultMsgCallback(ReactorMsgEvent event)
+        {
+            if (event.msg().msgClass() != MsgClasses.REQUEST || event.msg().domainType() != DomainTypes.MARKET_PRICE)
+                return ReactorCallbackReturnCodes.SUCCESS;
+
+            RequestMsg requestMsg = (RequestMsg)event.msg();
+            providerItemStreamId = requestMsg.streamId();
+
+            refreshMsg.clear();
+            refreshMsg.msgClass(MsgClasses.REFRESH);
+            refreshMsg.streamId(providerItemStreamId);
+            refreshMsg.domainType(DomainTypes.MARKET_PRICE);
+            refreshMsg.containerType(DataTypes.FIELD_LIST);
+            refreshMsg.applySolicited();
+            refreshMsg.applyRefreshComplete();
+            refreshMsg.applyClearCache();
+            refreshMsg.applyHasMsgKey();
+            refreshMsg.msgKey().applyHasServiceId();
+            refreshMsg.msgKey().serviceId(SERVICE_ID);
+            refreshMsg.msgKey().applyHasName();
+            refreshMsg.msgKey().name(requestMsg.msgKey().name());
+            refreshMsg.applyHasQos();
+            refreshMsg.qos().timeliness(QosTimeliness.REALTIME);
+            refreshMsg.qos().rate(QosRates.TICK_BY_TICK);
+            refreshMsg.state().streamState(StreamStates.OPEN);
+            refreshMsg.state().dataState(DataStates.OK);
+            refreshMsg.state().code(StateCodes.NONE);
+            refreshMsg.encodedDataBody(payload);
+
+            providerSubmitOptions.clear();
+            check(event.reactorChannel().submit(refreshMsg, providerSubmitOptions, providerErrorInfo), "item refresh submit");
+            return ReactorCallbackReturnCodes.SUCCESS;
+        }
+    }
+
+    class BenchmarkConsumer implements ConsumerCallback
+    {
+        @Override
+        public int reactorChannelEventCallback(ReactorChannelEvent event)
+        {
+            switch (event.eventType())
+            {
+                case ReactorChannelEventTypes.CHANNEL_UP:
+                    consumerChannel = event.reactorChannel();
+                    break;
+                case ReactorChannelEventTypes.CHANNEL_READY:
+                    consumerReady = true;
+                    break;
+                case ReactorChannelEventTypes.CHANNEL_DOWN:
+                case ReactorChannelEventTypes.CHANNEL_DOWN_RECONNECTING:
+                    consumerReady = false;
+                    break;
+                default:
+                    break;
+            }
+            return ReactorCallbackReturnCodes.SUCCESS;
+        }
+
+        @Override
+        public int defaultMsgCallback(ReactorMsgEvent event)
+        {
+            if (event.msg().msgClass() == MsgClasses.UPDATE)
+                updatesReceived++;
+            else if (event.msg().msgClass() == MsgClasses.REFRESH)
+                refreshReceived = true;
+            return ReactorCallbackReturnCodes.SUCCESS;
+        }
+
+        @Override
+        public int rdmLoginMsgCallback(RDMLoginMsgEvent event)
+        {
+            return ReactorCallbackReturnCodes.SUCCESS;
+        }
+
+        @Override
+        public int rdmDirectoryMsgCallback(RDMDirectoryMsgEvent event)
+        {
+            return ReactorCallbackReturnCodes.SUCCESS;
+        }
+
+        @Override
+        public int rdmDictionaryMsgCallback(RDMDictionaryMsgEvent event)
+        {
+            return ReactorCallbackReturnCodes.SUCCESS;
+        }
+    }
+
+    @Setup
+    public void setup() throws IOException
+    {
+        encodePayload();
+
+        ReactorOptions reactorOptions = ReactorFactory.createReactorOptions();
+        providerReactor = ReactorFactory.createReactor(reactorOptions, errorInfo);
+        consumerReactor = ReactorFactory.createReactor(reactorOptions, errorInfo);
+        if (providerReactor == null || consumerReactor == null)
+            throw new IllegalStateException("Reactor creation failed: " + errorInfo.error().text());
+
+        BindOptions bindOpts = TransportFactory.createBindOptions();
+        bindOpts.serviceName(port);
+        bindOpts.majorVersion(Codec.majorVersion());
+        bindOpts.minorVersion(Codec.minorVersion());
+        bindOpts.guaranteedOutputBuffers(1000);
+        bindOpts.tcpOpts().tcpNoDelay(true);
+        server = Transport.bind(bindOpts, errorInfo.error());
+        if (server == null)
+            throw new IllegalStateException("Transport.bind failed: " + errorInfo.error().text());
+
+        BenchmarkConsumer consumer = new BenchmarkConsumer();
+        ConsumerRole consumerRole = ReactorFactory.createConsumerRole();
+        consumerRole.initDefaultRDMLoginRequest();
+        consumerRole.channelEventCallback(consumer);
+        consumerRole.defaultMsgCallback(consumer);
+        consumerRole.loginMsgCallback(consumer);
+        consumerRole.directoryMsgCallback(consumer);
+        consumerRole.dictionaryMsgCallback(consumer);
+        consumerRole.watchlistOptions().enableWatchlist(true);
+        consumerRole.watchlistOptions().requestTimeout(0);
+
+        ReactorConnectOptions connectOpts = ReactorFactory.createReactorConnectOptions();
+        ReactorConnectInfo connectInfo = ReactorFactory.createReactorConnectInfo();
+        connectInfo.connectOptions().connectionType(ConnectionTypes.SOCKET);
+        connectInfo.connectOptions().majorVersion(Codec.majorVersion());
+        connectInfo.connectOptions().minorVersion(Codec.minorVersion());
+        connectInfo.connectOptions().unifiedNetworkInfo().address("localhost");
+        connectInfo.connectOptions().unifiedNetworkInfo().serviceName(port);
+        connectInfo.connectOptions().tcpOpts().tcpNoDelay(true);
+        connectOpts.connectionList().add(connectInfo);
+        connectOpts.reconnectAttemptLimit(0);
+        check(consumerReactor.connect(connectOpts, consumerRole, errorInfo), "Reactor.connect");
+
+        try (Selector selector = Selector.open())
+        {
+            server.selectableChannel().register(selector, SelectionKey.OP_ACCEPT);
+            if (selector.select(SETUP_TIMEOUT_MSEC) == 0)
+                throw new IllegalStateException("server did not receive the connection");
+        }
+
+        BenchmarkProvider provider = new BenchmarkProvider();
+        ProviderRole providerRole = ReactorFactory.createProviderRole();
+        providerRole.channelEventCallback(provider);
+        providerRole.defaultMsgCallback(provider);
+        providerRole.loginMsgCallback(provider);
+        providerRole.directoryMsgCallback(provider);
+        providerRole.dictionaryMsgCallback(provider);
+
+        ReactorAcceptOptions acceptOpts = ReactorFactory.createReactorAcceptOptions();
+        check(providerReactor.accept(server, acceptOpts, providerRole, errorInfo), "Reactor.accept");
+
+        long stopTime = System.currentTimeMillis() + SETUP_TIMEOUT_MSEC;
+        while (!consumerReady)
+            dispatchBoth(stopTime, "consumer channel ready");
+
+        RequestMsg requestMsg = (RequestMsg)CodecFactory.createMsg();
+        requestMsg.msgClass(MsgClasses.REQUEST);
+        requestMsg.streamId(ITEM_STREAM_ID);
+        requestMsg.domainType(DomainTypes.MARKET_PRICE);
+        requestMsg.containerType(DataTypes.NO_DATA);
+        requestMsg.applyStreaming();
+        requestMsg.msgKey().applyHasName();
+        requestMsg.msgKey().name().data("TRI.N");
+        submitOptions.clear();
+        submitOptions.serviceName(SERVICE_NAME);
+        check(consumerChannel.submit(requestMsg, submitOptions, errorInfo), "item request submit");
+
+        while (!refreshReceived)
+            dispatchBoth(stopTime, "item refresh");
+
+        updateMsg.clear();
+        updateMsg.msgClass(MsgClasses.UPDATE);
+        updateMsg.streamId(providerItemStreamId);
+        updateMsg.domainType(DomainTypes.MARKET_PRICE);
+        updateMsg.containerType(DataTypes.FIELD_LIST);
+        updateMsg.encodedDataBody(payload);
+        submitOptions.clear();
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        if (consumerReactor != null)
+            consumerReactor.shutdown(errorInfo);
+        if (providerReactor != null)
+            providerReactor.shutdown(errorInfo);
+        if (server != null)
+            server.close(errorInfo.error());
+    }
+
+    @Benchmark
+    public long dispatchUpdates()
+    {
+        for (int i = 0; i < updateCount; i++)
+        {
+            int ret;
+            while ((ret = providerChannel.submit(updateMsg, submitOptions, errorInfo)) == ReactorReturnCodes.NO_BUFFERS)
+                dispatchUpdateLoop();
+            check(ret, "update submit");
+        }
+
+        long target = updatesReceived + updateCount;
+        while (updatesReceived < target)
+            dispatchUpdateLoop();
+
+        return updatesReceived;
+    }
+
+    void dispatchUpdateLoop()
+    {
+        // the provider reactor has to process FLUSH_DONE from its worker before it requests the next flush
+        check(providerReactor.dispatchAll(null, dispatchOptions, errorInfo), "provider dispatch");
+        int ret = consumerReactor.dispatchAll(null, dispatchOptions, errorInfo);
+        if (ret < ReactorReturnCodes.SUCCESS || !consumerReady)
+            throw new IllegalStateException("consumer dispatch failed: " + errorInfo.error().text());
+    }
+
+    void dispatchBoth(long stopTime, String waitingFor)
+    {
+        if (System.currentTimeMillis() > stopTime)
+            throw new IllegalStateException("timed out waiting for " + waitingFor);
+        check(providerReactor.dispatchAll(null, dispatchOptions, errorInfo), "provider dispatch");
+        check(consumerReactor.dispatchAll(null, dispatchOptions, errorInfo), "consumer dispatch");
+    }
+
+    void encodePayload()
+    {
+        payload.data(ByteBuffer.allocate(128));
+        EncodeIterator encodeIter = CodecFactory.createEncodeIterator();
+        encodeIter.setBufferAndRWFVersion(payload, Codec.majorVersion(), Codec.minorVersion());
+
+        FieldList fieldList = CodecFactory.createFieldList();
+        FieldEntry fieldEntry = CodecFactory.createFieldEntry();
+        Real real = CodecFactory.createReal();
+
+        fieldList.applyHasStandardData();
+        BenchmarkSupport.check(fieldList.encodeInit(encodeIter, null, 0), "FieldList encodeInit");
+        fieldEntry.fieldId(22); // BID
+        fieldEntry.dataType(DataTypes.REAL);
+        real.value(39924, RealHints.EXPONENT_2);
+        BenchmarkSupport.check(fieldEntry.encode(encodeIter, real), "FieldEntry encode");
+        fieldEntry.fieldId(25); // ASK
+        real.value(39926, RealHints.EXPONENT_2);
+        BenchmarkSupport.check(fieldEntry.encode(encodeIter, real), "FieldEntry encode");
+        BenchmarkSupport.check(fieldList.encodeComplete(encodeIter, true), "FieldList encodeComplete");
+        payload.data(payload.data(), 0, payload.data().position());
+    }
+
+    static Service createService()
+    {
+        Service service = DirectoryMsgFactory.createService();
+        service.clear();
+        service.serviceId(SERVICE_ID);
+        service.applyHasInfo();
+        service.info().serviceName().data(SERVICE_NAME);
+        service.info().capabilitiesList(new ArrayList<Long>());
+        service.info().capabilitiesList().add((long)DomainTypes.MARKET_PRICE);
+        service.info().applyHasQos();
+        service.info().qosList(new ArrayList<Qos>());
+        Qos qos = CodecFactory.createQos();
+        qos.timeliness(QosTimeliness.REALTIME);
+        qos.rate(QosRates.TICK_BY_TICK);
+        service.info().qosList().add(qos);
+        service.applyHasState();
+        service.state().serviceState(1);
+        service.state().applyHasAcceptingRequests();
+        service.state().acceptingRequests(1);
+        return service;
+    }
+
+    static void check(int ret, String what)
+    {
+        if (ret < ReactorReturnCodes.SUCCESS)
+            throw new IllegalStateException(what + " failed with " + ret);
+    }
+}
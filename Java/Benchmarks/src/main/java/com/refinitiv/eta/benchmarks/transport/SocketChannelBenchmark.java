@@ -0,0 +1,198 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.benchmarks.transport;
+
+import java.io.IOException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.refinitiv.eta.codec.Codec;
+import com.refinitiv.eta.transport.AcceptOptions;
+import com.refinitiv.eta.transport.BindOptions;
+import com.refinitiv.eta.transport.Channel;
+import com.refinitiv.eta.transport.ChannelState;
+import com.refinitiv.eta.transport.ConnectOptions;
+import com.refinitiv.eta.transport.ConnectionTypes;
+import com.refinitiv.eta.transport.Error;
+import com.refinitiv.eta.transport.InProgInfo;
+import com.refinitiv.eta.transport.InitArgs;
+import com.refinitiv.eta.transport.ReadArgs;
+import com.refinitiv.eta.transport.Server;
+import com.refinitiv.eta.transport.Transport;
+import com.refinitiv.eta.transport.TransportBuffer;
+import com.refinitiv.eta.transport.TransportFactory;
+import com.refinitiv.eta.transport.TransportReturnCodes;
+import com.refinitiv.eta.transport.WriteArgs;
+import com.refinitiv.eta.transport.WriteFlags;
+
+/**
+ * Writes and flushes messages over a loopback RsslSocketChannel pair and reads them back
+ * on the accepted side. Each invocation writes a batch of messages, flushes once and drains
+ * the reader, so the score is the cost of one batch including the loopback hop.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SocketChannelBenchmark
+{
+    static final long INIT_TIMEOUT_MSEC = 10000;
+
+    @Param({"15601"})
+    public String port;
+
+    @Param({"128", "1024"})
+    public int messageSize;
+
+    @Param({"1", "16"})
+    public int batchSize;
+
+    Error error = TransportFactory.createError();
+    Server server;
+    Channel writer;
+    Channel reader;
+
+    WriteArgs writeArgs = TransportFactory.createWriteArgs();
+    ReadArgs readArgs = TransportFactory.createReadArgs();
+    byte[] payload;
+
+    @Setup
+    public void setup() throws IOException
+    {
+        InitArgs initArgs = TransportFactory.createInitArgs();
+        initArgs.globalLocking(false);
+        check(Transport.initialize(initArgs, error), "Transport.initialize");
+
+        BindOptions bindOpts = TransportFactory.createBindOptions();
+        bindOpts.serviceName(port);
+        bindOpts.majorVersion(Codec.majorVersion());
+        bindOpts.minorVersion(Codec.minorVersion());
+        bindOpts.protocolType(Codec.protocolType());
+        bindOpts.serverBlocking(false);
+        bindOpts.channelsBlocking(false);
+        bindOpts.tcpOpts().tcpNoDelay(true);
+        server = Transport.bind(bindOpts, error);
+        if (server == null)
+            throw new IllegalStateException("Transport.bind failed: " + error.text());
+
+        ConnectOptions connectOpts = TransportFactory.createConnectOptions();
+        connectOpts.connectionType(ConnectionTypes.SOCKET);
+        connectOpts.unifiedNetworkInfo().address("localhost");
+        connectOpts.unifiedNetworkInfo().serviceName(port);
+        connectOpts.majorVersion(Codec.majorVersion());
+        connectOpts.minorVersion(Codec.minorVersion());
+        connectOpts.protocolType(Codec.protocolType());
+        connectOpts.blocking(false);
+        connectOpts.tcpOpts().tcpNoDelay(true);
+        writer = Transport.connect(connectOpts, error);
+        if (writer == null)
+            throw new IllegalStateException("Transport.connect failed: " + error.text());
+
+        try (Selector selector = Selector.open())
+        {
+            server.selectableChannel().register(selector, SelectionKey.OP_ACCEPT);
+            if (selector.select(INIT_TIMEOUT_MSEC) == 0)
+                throw new IllegalStateException("server did not receive the connection");
+        }
+        AcceptOptions acceptOpts = TransportFactory.createAcceptOptions();
+        reader = server.accept(acceptOpts, error);
+        if (reader == null)
+            throw new IllegalStateException("Server.accept failed: " + error.text());
+
+        InProgInfo inProg = TransportFactory.createInProgInfo();
+        long stopTime = System.currentTimeMillis() + INIT_TIMEOUT_MSEC;
+        while (writer.state() != ChannelState.ACTIVE || reader.state() != ChannelState.ACTIVE)
+        {
+            if (System.currentTimeMillis() > stopTime)
+                throw new IllegalStateException("channel initialization timed out");
+            if (writer.state() == ChannelState.INITIALIZING)
+                check(writer.init(inProg, error), "writer init");
+            if (reader.state() == ChannelState.INITIALIZING)
+                check(reader.init(inProg, error), "reader init");
+        }
+
+        payload = new byte[messageSize];
+        for (int i = 0; i < messageSize; i++)
+            payload[i] = (byte)i;
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        if (writer != null)
+            writer.close(error);
+        if (reader != null)
+            reader.close(error);
+        if (server != null)
+            server.close(error);
+        Transport.uninitialize();
+    }
+
+    @Benchmark
+    public int writeFlushRead()
+    {
+        for (int i = 0; i < batchSize; i++)
+        {
+            TransportBuffer buffer = writer.getBuffer(messageSize, false, error);
+            if (buffer == null)
+                throw new IllegalStateException("getBuffer failed: " + error.text());
+            buffer.data().put(payload);
+
+            writeArgs.clear();
+            writeArgs.flags(WriteFlags.NO_FLAGS);
+            check(writer.write(buffer, writeArgs, error), "write");
+        }
+
+        int ret;
+        while ((ret = writer.flush(error)) > TransportReturnCodes.SUCCESS)
+            ;
+        check(ret, "flush");
+
+        int bytesRead = 0;
+        int received = 0;
+        while (received < batchSize)
+        {
+            readArgs.clear();
+            TransportBuffer msg = reader.read(readArgs, error);
+            if (msg != null)
+            {
+                received++;
+                bytesRead += msg.length();
+            }
+            else if (readArgs.readRetVal() == TransportReturnCodes.FAILURE || reader.state() != ChannelState.ACTIVE)
+            {
+                throw new IllegalStateException("read failed: " + error.text());
+            }
+        }
+
+        return bytesRead;
+    }
+
+    static void check(int ret, String what)
+    {
+        if (ret < TransportReturnCodes.SUCCESS)
+            throw new IllegalStateException(what + " failed with " + ret);
+    }
+}
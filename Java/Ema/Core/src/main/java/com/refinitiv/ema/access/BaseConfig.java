@@ -18,6 +18,7 @@ abstract class BaseConfig
 	final static int DEFAULT_MAX_DISPATCH_COUNT_USER_THREAD	    = 100;
 	final static int DEFAULT_DISPATCH_TIMEOUT_API_THREAD		= 0;
 	final static int DEFAULT_USER_DISPATCH						= OmmConsumerConfig.OperationModel.API_DISPATCH;
+	final static int DEFAULT_DISPATCH_MODE						= OmmConsumerConfig.DispatchMode.SELECT;
 	final static int DEFAULT_CONVERTER_SERVICE_ID 				= 1;
 	final static boolean DEFAULT_JSON_ENUM_EXPAND_FIELDS		= false;
 	final static boolean DEFAULT_CATCH_UNKNOWN_JSON_KEYS		= false;
@@ -36,6 +37,7 @@ abstract class BaseConfig
 		maxDispatchCountApiThread = DEFAULT_MAX_DISPATCH_COUNT_API_THREAD;
 		maxDispatchCountUserThread = DEFAULT_MAX_DISPATCH_COUNT_USER_THREAD;
 		userDispatch = DEFAULT_USER_DISPATCH;
+		dispatchMode = DEFAULT_DISPATCH_MODE;
 		xmlTraceEnable = ActiveConfig.DEFAULT_XML_TRACE_ENABLE;
 		xmlTraceToFileEnable = ActiveConfig.DEFAULT_XML_TRACE_TO_FILE_ENABLE;
 		xmlTraceMaxFileSize = ActiveConfig.DEFAULT_XML_TRACE_MAX_FILE_SIZE;
@@ -64,6 +66,7 @@ abstract class BaseConfig
 		maxDispatchCountApiThread = DEFAULT_MAX_DISPATCH_COUNT_API_THREAD;
 		maxDispatchCountUserThread = DEFAULT_MAX_DISPATCH_COUNT_USER_THREAD;
 		userDispatch = DEFAULT_USER_DISPATCH;
+		dispatchMode = DEFAULT_DISPATCH_MODE;
 		configuredName = null;
 		instanceName = null;
 		xmlTraceEnable = ActiveConfig.DEFAULT_XML_TRACE_ENABLE;
@@ -93,6 +96,7 @@ abstract class BaseConfig
 		.append("\n\t maxDispatchCountApiThread: ").append(maxDispatchCountApiThread) 
 		.append("\n\t maxDispatchCountUserThread: ").append(maxDispatchCountUserThread) 
 		.append("\n\t userDispatch: ").append(userDispatch) 
+		.append("\n\t dispatchMode: ").append(dispatchMode) 
 		.append("\n\t configuredName: ").append(configuredName)
 		.append("\n\t instanceName: ").append(instanceName) 
 		.append("\n\t xmlTraceEnable: ").append(xmlTraceEnable)
@@ -130,6 +134,7 @@ abstract class BaseConfig
 	int						maxDispatchCountApiThread;
 	int						maxDispatchCountUserThread;
 	int		    			userDispatch;
+	int						dispatchMode;
 	boolean 				xmlTraceEnable;
 	boolean 				xmlTraceToFileEnable;
 	long 					xmlTraceMaxFileSize;
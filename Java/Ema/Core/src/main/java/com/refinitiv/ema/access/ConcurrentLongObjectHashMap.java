@@ -0,0 +1,108 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+/* Thread safe LongObjectMap for the API_DISPATCH and multi threaded submit cases.
+ * Keys are spread over segments by the high bits of their hash, each segment is a
+ * LongObjectHashMap guarded by its own monitor, so threads using different keys
+ * rarely wait for each other. */
+class ConcurrentLongObjectHashMap<V> implements LongObjectMap<V>
+{
+	static final int SEGMENT_BITS = 4;
+	static final int SEGMENT_COUNT = 1 << SEGMENT_BITS;
+
+	private final LongObjectHashMap<V>[] _segments;
+
+	ConcurrentLongObjectHashMap()
+	{
+		this(LongObjectHashMap.DEFAULT_CAPACITY * SEGMENT_COUNT);
+	}
+
+	/* Creates a map that holds about expectedSize entries without resizing. */
+	@SuppressWarnings("unchecked")
+	ConcurrentLongObjectHashMap(int expectedSize)
+	{
+		_segments = (LongObjectHashMap<V>[]) new LongObjectHashMap<?>[SEGMENT_COUNT];
+		for (int i = 0; i < SEGMENT_COUNT; i++)
+		{
+			_segments[i] = new LongObjectHashMap<V>(expectedSize / SEGMENT_COUNT);
+		}
+	}
+
+	private LongObjectHashMap<V> segmentFor(long key)
+	{
+		return _segments[LongObjectHashMap.hash(key) >>> (32 - SEGMENT_BITS)];
+	}
+
+	@Override
+	public V get(long key)
+	{
+		LongObjectHashMap<V> segment = segmentFor(key);
+		synchronized (segment)
+		{
+			return segment.get(key);
+		}
+	}
+
+	@Override
+	public V put(long key, V value)
+	{
+		LongObjectHashMap<V> segment = segmentFor(key);
+		synchronized (segment)
+		{
+			return segment.put(key, value);
+		}
+	}
+
+	@Override
+	public V remove(long key)
+	{
+		LongObjectHashMap<V> segment = segmentFor(key);
+		synchronized (segment)
+		{
+			return segment.remove(key);
+		}
+	}
+
+	@Override
+	public boolean containsKey(long key)
+	{
+		LongObjectHashMap<V> segment = segmentFor(key);
+		synchronized (segment)
+		{
+			return segment.containsKey(key);
+		}
+	}
+
+	@Override
+	public int size()
+	{
+		int size = 0;
+		for (LongObjectHashMap<V> segment : _segments)
+		{
+			synchronized (segment)
+			{
+				size += segment.size();
+			}
+		}
+		return size;
+	}
+
+	@Override
+	public void clear()
+	{
+		for (LongObjectHashMap<V> segment : _segments)
+		{
+			synchronized (segment)
+			{
+				segment.clear();
+			}
+		}
+	}
+}
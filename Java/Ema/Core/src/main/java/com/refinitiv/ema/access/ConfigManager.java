@@ -139,6 +139,7 @@ class ConfigManager
 	
 	public static final int UpdateTypeFilter = 64;
 	public static final int NegativeUpdateTypeFilter = 65;
+	public static final int DispatchMode = 66;
 
 	public static final int ClientSessionCountHint = 61;
 
@@ -380,6 +381,7 @@ class ConfigManager
 		ConsumerTagDict.add( "DictionaryRequestTimeOut",DictionaryRequestTimeOut );
 		ConsumerTagDict.add( "DirectoryRequestTimeOut",DirectoryRequestTimeOut );
 		ConsumerTagDict.add( "DispatchTimeoutApiThread",DispatchTimeoutApiThread );
+		ConsumerTagDict.add( "DispatchMode",DispatchMode );
 		ConsumerTagDict.add( "ItemCountHint",ItemCountHint );
 		ConsumerTagDict.add( "LoginRequestTimeOut",LoginRequestTimeOut );
 		ConsumerTagDict.add( "MaxDispatchCountApiThread",MaxDispatchCountApiThread );
@@ -504,6 +506,7 @@ class ConfigManager
 		NiProviderTagDict.add( "Directory", NiProviderDirectoryName);
         NiProviderTagDict.add( "DictionaryRequestTimeOut",DictionaryRequestTimeOut );
 		NiProviderTagDict.add( "DispatchTimeoutApiThread",DispatchTimeoutApiThread );
+		NiProviderTagDict.add( "DispatchMode",DispatchMode );
 		NiProviderTagDict.add( "ItemCountHint",ItemCountHint );
 		NiProviderTagDict.add( "LoginRequestTimeOut",LoginRequestTimeOut );
 		NiProviderTagDict.add( "MaxDispatchCountApiThread",MaxDispatchCountApiThread );
@@ -883,6 +886,7 @@ class ConfigManager
 		"DictionaryRequestTimeOut",
 		"DirectoryRequestTimeOut",
 		"DisconnectOnGap",
+		"DispatchMode",
 		"EnableSessionManagement", 
 		"EnforceAckIDValidation",
 		"EnumTypeFragmentSize",
@@ -2,14 +2,13 @@
  *|            This source code is provided under the Apache 2.0 license
  *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
  *|                See the project's LICENSE.md for details.
- *|           Copyright (C) 2020,2022-2024 LSEG. All rights reserved.
+ *|           Copyright (C) 2020,2022-2025 LSEG. All rights reserved.
  *|-----------------------------------------------------------------------------
  */
 
 package com.refinitiv.ema.access;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -36,7 +35,6 @@ class DataDictionaryImpl implements DataDictionary
     private StringBuilder                                       errorString;
     private com.refinitiv.eta.codec.DecodeIterator 		rsslDecodeIterator;
     private boolean												ownRsslDataDictionary;
-    private HashMap<String,Integer>								fieldNametoIdMap;
     
     private DictionaryEntryImpl									dictionaryEntryImpl = new DictionaryEntryImpl();
     private EnumTypeImpl										enumTypeImpl = new EnumTypeImpl();
@@ -108,11 +106,6 @@ class DataDictionaryImpl implements DataDictionary
 
 			clearEnumTypeTableList();
 
-			if (fieldNametoIdMap != null)
-			 {
-				fieldNametoIdMap.clear();
-			}
-
 			if( !ownRsslDataDictionary )
 			{
 				loadedFieldDictionary = true;
@@ -173,11 +166,6 @@ class DataDictionaryImpl implements DataDictionary
 
 			clearEnumTypeTableList();
 
-			if ( fieldNametoIdMap != null)
-			{
-				fieldNametoIdMap.clear();
-			}
-
 			if ( rsslDataDictionary != null)
 			{
 				rsslDataDictionary.clear();
@@ -954,9 +942,7 @@ class DataDictionaryImpl implements DataDictionary
 				return false;
 			}
 
-			HashMap<String, Integer> nameToIdMap = fieldNameToIdMap();
-
-			return nameToIdMap != null ? nameToIdMap.containsKey(fieldName) : false;
+			return rsslDataDictionary.hasEntry(fieldName);
 		} finally {
 			dictionaryLock.unlock();
 		}
@@ -988,12 +974,14 @@ class DataDictionaryImpl implements DataDictionary
 				throw ommIUExcept().message("The field dictionary information was not loaded", OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 			}
 
-			if ( !hasEntry(fieldName) )
+			com.refinitiv.eta.codec.DictionaryEntry dictionaryEntry = rsslDataDictionary.entry(fieldName);
+
+			if ( dictionaryEntry == null )
 			{
 				throw ommIUExcept().message("The Field name " + fieldName + " does not exist in the field dictionary", OmmInvalidUsageException.ErrorCode.INVALID_ARGUMENT);
 			}
 
-			getEntry(fieldNameToIdMap().get(fieldName), entryDst);
+			getEntry(dictionaryEntry.fid(), entryDst);
 		} finally {
 			dictionaryLock.unlock();
 		}
@@ -1019,35 +1007,6 @@ class DataDictionaryImpl implements DataDictionary
 		return rsslDataDictionary;
 	}
 	
-	
-	private HashMap<String,Integer> fieldNameToIdMap()
-	{
-		if ( loadedFieldDictionary )
-		{
-			if ( fieldNametoIdMap == null )
-			{
-				fieldNametoIdMap = new HashMap<>(rsslDataDictionary.numberOfEntries());
-			}
-
-			if ( fieldNametoIdMap.size() == 0 )
-			{
-				com.refinitiv.eta.codec.DictionaryEntry dictionaryEntry;
-
-				for( int fieldId = rsslDataDictionary.minFid(); fieldId <= rsslDataDictionary.maxFid(); fieldId++ )
-				{
-					dictionaryEntry = rsslDataDictionary.entry(fieldId);
-
-					if ( dictionaryEntry != null && dictionaryEntry.acronym().data() != null )
-					{
-						fieldNametoIdMap.put(dictionaryEntry.acronym().toString(), dictionaryEntry.fid());
-					}
-				}
-			}
-		}
-
-		return fieldNametoIdMap;
-	}
-	
 	private DictionaryEntryImpl getDictionaryEntry(DataDictionaryImpl dataDictionary, 
 			com.refinitiv.eta.codec.DictionaryEntry dictionaryEntry)
 	{
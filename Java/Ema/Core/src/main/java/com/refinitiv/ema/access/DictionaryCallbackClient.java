@@ -22,6 +22,7 @@ import com.refinitiv.eta.codec.CloseMsg;
 import com.refinitiv.eta.codec.CodecFactory;
 import com.refinitiv.eta.codec.CodecReturnCodes;
 import com.refinitiv.eta.codec.DataDictionary;
+import com.refinitiv.eta.codec.DataDictionaryRegistry;
 import com.refinitiv.eta.codec.DataStates;
 import com.refinitiv.eta.codec.DataTypes;
 import com.refinitiv.eta.codec.DecodeIterator;
@@ -56,10 +57,17 @@ class DictionaryCallbackClient<T> extends CallbackClient<T> implements RDMDictio
 	protected static final String DICTIONARY_RWFFID = "RWFFld";
 	protected static final String DICTIONARY_RWFENUM = "RWFEnum";
 	
+	// stream ids of the field and enumerated types dictionary requests
+	static final int FIELD_DICTIONARY_STREAM_ID = 3;
+	static final int ENUM_TYPE_DICTIONARY_STREAM_ID = 4;
+	
 	private List<ChannelDictionary<T>>						_channelDictList;
 	private ArrayDeque<ChannelDictionary<T>>							_channelDictPool;
 	private com.refinitiv.eta.codec.DataDictionary		_rsslLocalDictionary;
 	private ChannelDictionary<T> 						_channelDictionary;
+	private String										_sharedDictionaryKey;
+	private boolean										_holdsSharedDictionary;
+	private com.refinitiv.eta.codec.DataDictionary		_sharedDictionary;
 	private com.refinitiv.eta.codec.Buffer 			_rsslEncBuffer;
 	private com.refinitiv.eta.transport.Error			_rsslError;
 	private com.refinitiv.eta.codec.Int 				_rsslCurrentFid;
@@ -117,7 +125,13 @@ class DictionaryCallbackClient<T> extends CallbackClient<T> implements RDMDictio
 		{
 			_channelDictList = new ArrayList<>();
 			_channelDictPool = new ArrayDeque<>();
-			_channelDictionary = new ChannelDictionary<T>(_ommBaseImpl);
+			
+			/* A dictionary already downloaded from the same servers by another client is used instead of downloading it again. */
+			_sharedDictionaryKey = downloadedDictionaryKey();
+			_sharedDictionary = DataDictionaryRegistry.acquire(_sharedDictionaryKey);
+			_holdsSharedDictionary = (_sharedDictionary != null);
+			
+			_channelDictionary = newChannelDict(_ommBaseImpl);
 			_channelDictPool.add(_channelDictionary);
 		}
 	}
@@ -203,8 +217,45 @@ class DictionaryCallbackClient<T> extends CallbackClient<T> implements RDMDictio
 		return ReactorCallbackReturnCodes.SUCCESS;
 }
 	
+	void uninitialize()
+	{
+		releaseSharedDictionary();
+	}
+	
 	void loadDictionaryFromFile()
 	{
+		/* The dictionary may be shared with other clients, so it is released rather than cleared. */
+		if (_holdsSharedDictionary)
+		{
+			releaseSharedDictionary();
+			_rsslLocalDictionary = null;
+		}
+		
+		String sharedDictionaryKey = DataDictionaryRegistry.fileKey(_ommBaseImpl.activeConfig().dictionaryConfig.rdmfieldDictionaryFileName,
+				_ommBaseImpl.activeConfig().dictionaryConfig.enumtypeDefFileName);
+		DataDictionary sharedDictionary = DataDictionaryRegistry.acquire(sharedDictionaryKey);
+		if (sharedDictionary != null)
+		{
+			_rsslLocalDictionary = sharedDictionary;
+			_sharedDictionaryKey = sharedDictionaryKey;
+			_holdsSharedDictionary = true;
+			
+			if (_baseImpl.loggerClient().isTraceEnabled())
+			{
+				StringBuilder temp = _baseImpl.strBuilder();
+				temp.append("Using local dictionaries already loaded by another instance: ")
+					.append(OmmLoggerClient.CR)
+					.append("RDMFieldDictionary file named ")
+					.append(_ommBaseImpl.activeConfig().dictionaryConfig.rdmfieldDictionaryFileName)
+					.append(OmmLoggerClient.CR)
+					.append("EnumTypeDef file named ")
+					.append(_ommBaseImpl.activeConfig().dictionaryConfig.enumtypeDefFileName);
+				_baseImpl.loggerClient().trace(_baseImpl.formatLogMessage(CLIENT_NAME, temp.toString(),
+																			Severity.TRACE).toString());
+			}
+			return;
+		}
+		
 		if (_rsslLocalDictionary == null)
 			_rsslLocalDictionary = CodecFactory.createDataDictionary();
 		else
@@ -265,6 +316,65 @@ class DictionaryCallbackClient<T> extends CallbackClient<T> implements RDMDictio
 																		Severity.TRACE).toString());
 		}
 
+		if (sharedDictionaryKey != null)
+		{
+			_rsslLocalDictionary = DataDictionaryRegistry.register(sharedDictionaryKey, _rsslLocalDictionary);
+			_sharedDictionaryKey = sharedDictionaryKey;
+			_holdsSharedDictionary = true;
+		}
+	}
+	
+	/* Returns the key under which the dictionary downloaded by this client is shared with other clients connecting
+	 * to the same servers, or null if the dictionary is not shared. The dictionary is only shared when it is requested
+	 * by name, not through dictionary requests set with addAdminMsg(). */
+	private String downloadedDictionaryKey()
+	{
+		ActiveConfig activeConfig = _ommBaseImpl.activeConfig();
+		if (activeConfig.rsslFldDictRequest != null || activeConfig.rsslEnumDictRequest != null
+				|| activeConfig.channelConfigSet == null || activeConfig.channelConfigSet.isEmpty())
+			return null;
+		
+		StringBuilder key = new StringBuilder("download:");
+		for (ChannelConfig channelConfig : activeConfig.channelConfigSet)
+		{
+			if (!(channelConfig instanceof SocketChannelConfig))
+				return null;
+			
+			SocketChannelConfig socketChannelConfig = (SocketChannelConfig)channelConfig;
+			key.append(socketChannelConfig.rsslConnectionType).append('/')
+				.append(socketChannelConfig.hostName).append(':').append(socketChannelConfig.serviceName).append(',');
+		}
+		
+		key.append('|').append(activeConfig.dictionaryConfig.rdmFieldDictionaryItemName)
+			.append('|').append(activeConfig.dictionaryConfig.enumTypeDefItemName);
+		
+		return key.toString();
+	}
+	
+	/* Registers a dictionary downloaded by this client, so other clients connecting to the same servers can use it.
+	 * Returns the registered dictionary, which is another client's if it registered one first, or null if this
+	 * client does not register the dictionary. */
+	DataDictionary registerSharedDictionary(DataDictionary dictionary)
+	{
+		if (_sharedDictionaryKey == null || _holdsSharedDictionary)
+			return null;
+		
+		_holdsSharedDictionary = true;
+		return DataDictionaryRegistry.register(_sharedDictionaryKey, dictionary);
+	}
+	
+	boolean registersDownloadedDictionary()
+	{
+		return _sharedDictionaryKey != null && !_holdsSharedDictionary && _channelDictList != null;
+	}
+	
+	private void releaseSharedDictionary()
+	{
+		if (_holdsSharedDictionary)
+		{
+			DataDictionaryRegistry.release(_sharedDictionaryKey);
+			_holdsSharedDictionary = false;
+		}
 	}
 	
 	void processRefreshMsg(RefreshMsgImpl refreshMsg, DictionaryItem<T> dictItem)
@@ -338,10 +448,19 @@ class DictionaryCallbackClient<T> extends CallbackClient<T> implements RDMDictio
 		}
 		else
 		{
-			return (new ChannelDictionary<T>(baseImpl));
+			return newChannelDict(baseImpl);
 		}
 	}
 	
+	private ChannelDictionary<T> newChannelDict(OmmBaseImpl<T> baseImpl)
+	{
+		ChannelDictionary<T> channelDict = new ChannelDictionary<T>(baseImpl);
+		if (_sharedDictionary != null)
+			channelDict.sharedDictionary(_sharedDictionary);
+		
+		return channelDict;
+	}
+	
 	void returnToChannelDictPool(ChannelDictionary<T> channelDict)
 	{
 		_channelDictPool.add(channelDict);
@@ -360,7 +479,7 @@ class DictionaryCallbackClient<T> extends CallbackClient<T> implements RDMDictio
 		if (_channelDictList != null && !_channelDictList.isEmpty())
 			return _channelDictList.get(0).fldStreamId();
 		else
-			return 3;
+			return FIELD_DICTIONARY_STREAM_ID;
 	}
 	
 	int enumStreamId()
@@ -368,7 +487,7 @@ class DictionaryCallbackClient<T> extends CallbackClient<T> implements RDMDictio
 		if (_channelDictList != null && !_channelDictList.isEmpty())
 			return _channelDictList.get(0).enumStreamId();
 		else
-			return 4;
+			return ENUM_TYPE_DICTIONARY_STREAM_ID;
 	}
 	
 	List< ChannelDictionary<T> > channelDictionaryList()
@@ -423,6 +542,27 @@ class DictionaryCallbackClient<T> extends CallbackClient<T> implements RDMDictio
 		//ChannelDictionary<T> dictionary = pollChannelDict(_ommBaseImpl);
 		dictionary.channelInfo(directory.channelInfo());
 		
+		if (dictionary.isShared())
+		{
+			if (_baseImpl.loggerClient().isTraceEnabled())
+			{
+				StringBuilder temp = _baseImpl.strBuilder();
+				temp.append("Using Dictionary already downloaded by another instance ")
+					.append("for Service ").append(directory.serviceName()).append(OmmLoggerClient.CR)
+					.append("on Channel ").append(OmmLoggerClient.CR)
+					.append(directory.channelInfo().toString());
+				_baseImpl.loggerClient().trace(_baseImpl.formatLogMessage(CLIENT_NAME, temp.toString(),
+																			Severity.TRACE).toString());
+			}
+			
+			_channelDictList.add(dictionary);
+			
+			return true;
+		}
+		
+		if (registersDownloadedDictionary())
+			dictionary.registerWhenLoaded();
+		
 		ReactorSubmitOptions rsslSubmitOptions = _ommBaseImpl.rsslSubmitOptions();
 		ReactorErrorInfo rsslErrorInfo = _ommBaseImpl.rsslErrorInfo();
 		ReactorChannel rsslChannel = directory.channelInfo().rsslReactorChannel();
@@ -430,7 +570,7 @@ class DictionaryCallbackClient<T> extends CallbackClient<T> implements RDMDictio
 		rsslSubmitOptions.serviceName(directory.serviceName());
 		rsslSubmitOptions.requestMsgOptions().userSpecObj(dictionary);
 
-		int streamId = 3;
+		int streamId = FIELD_DICTIONARY_STREAM_ID;
 
 		List<String> dictionariesUsed = directory.service().info().dictionariesUsedList();
 		for (String dictName : dictionariesUsed)
@@ -502,7 +642,7 @@ class DictionaryCallbackClient<T> extends CallbackClient<T> implements RDMDictio
 		msgKey.applyHasFilter();
 		msgKey.filter(rsslDictRequest.verbosity());
 		msgKey.name(rsslDictRequest.dictionaryName());
-		rsslRequestMsg.streamId(3);
+		rsslRequestMsg.streamId(FIELD_DICTIONARY_STREAM_ID);
 
 		//ChannelDictionary<T> dictionary = pollChannelDict(_ommBaseImpl);
 		dictionary.channelInfo(directory.channelInfo());
@@ -567,7 +707,7 @@ class DictionaryCallbackClient<T> extends CallbackClient<T> implements RDMDictio
 		msgKey.applyHasFilter();
 		msgKey.filter(rsslEnumDictRequest.verbosity());
 		msgKey.name(rsslEnumDictRequest.dictionaryName());
-		rsslRequestMsg.streamId(4);
+		rsslRequestMsg.streamId(ENUM_TYPE_DICTIONARY_STREAM_ID);
 
         rsslErrorInfo.clear();
         if (ReactorReturnCodes.SUCCESS > rsslChannel.submit(rsslRequestMsg, rsslSubmitOptions, rsslErrorInfo))
@@ -740,6 +880,8 @@ class ChannelDictionary<T>
 	private ReentrantLock 				_channelDictLock;
 	private List<DictionaryItem<T>>		_listenerList;
 	private DataDictionary				_rsslDictionary = CodecFactory.createDataDictionary();
+	private boolean						_isShared;
+	private boolean						_registerWhenLoaded;
 	
 	
 	ChannelDictionary(OmmBaseImpl<T> baseImpl)
@@ -747,6 +889,30 @@ class ChannelDictionary<T>
 		_baseImpl = baseImpl;
 	}
 	
+	/* Uses a dictionary from the DataDictionaryRegistry, which is read-only and already loaded, so no dictionary is requested. */
+	ChannelDictionary<T> sharedDictionary(DataDictionary dictionary)
+	{
+		_rsslDictionary = dictionary;
+		_isShared = true;
+		_isFldLoaded = true;
+		_isEnumLoaded = true;
+		_fldStreamId = DictionaryCallbackClient.FIELD_DICTIONARY_STREAM_ID;
+		_enumStreamId = DictionaryCallbackClient.ENUM_TYPE_DICTIONARY_STREAM_ID;
+		return this;
+	}
+	
+	boolean isShared()
+	{
+		return _isShared;
+	}
+	
+	/* Registers the requested dictionary in the DataDictionaryRegistry once it is loaded. It is shared from then
+	 * on, so a later streaming dictionary refresh is decoded into a new dictionary of the channel instead. */
+	void registerWhenLoaded()
+	{
+		_registerWhenLoaded = true;
+	}
+	
 	ChannelInfo channelInfo()
 	{
 		return _channelInfo;
@@ -762,11 +928,17 @@ class ChannelDictionary<T>
 	ChannelDictionary<T> clear()
 	{
 		_channelInfo = null;
-		_isFldLoaded = false;
-		_isEnumLoaded = false;
-		_fldStreamId = 0;
-		_enumStreamId = 0;
-		_rsslDictionary.clear();
+		_registerWhenLoaded = false;
+		
+		/* A shared dictionary stays loaded and must not be cleared. */
+		if (!_isShared)
+		{
+			_isFldLoaded = false;
+			_isEnumLoaded = false;
+			_fldStreamId = 0;
+			_enumStreamId = 0;
+			_rsslDictionary.clear();
+		}
 		
 		if (_listenerList != null && _listenerList.size() > 0)
 		{
@@ -1078,7 +1250,18 @@ class ChannelDictionary<T>
 			if (_fldStreamId == rsslMsg.streamId())
 			{
 				if (_isFldLoaded == true && _isEnumLoaded == true)
-					_rsslDictionary.clear();
+				{
+					/* A shared dictionary is read-only, the new version is decoded into a dictionary of the channel. */
+					if (_isShared)
+					{
+						_rsslDictionary = CodecFactory.createDataDictionary();
+						_isShared = false;
+						if (_channelInfo != null)
+							_channelInfo.rsslDictionary(_rsslDictionary);
+					}
+					else
+						_rsslDictionary.clear();
+				}
 				
 	    		if (CodecReturnCodes.SUCCESS == _rsslDictionary.decodeFieldDictionary(dIter, 
 	    																				com.refinitiv.eta.rdm.Dictionary.VerbosityValues.VERBOSE,
@@ -1175,6 +1358,20 @@ class ChannelDictionary<T>
 				return ReactorCallbackReturnCodes.SUCCESS;
 			}
 
+			if (_registerWhenLoaded && isLoaded())
+			{
+				_registerWhenLoaded = false;
+				
+				DataDictionary registeredDictionary = _baseImpl.dictionaryCallbackClient().registerSharedDictionary(_rsslDictionary);
+				if (registeredDictionary != null)
+				{
+					_rsslDictionary = registeredDictionary;
+					_isShared = true;
+					if (_channelInfo != null)
+						_channelInfo.rsslDictionary(_rsslDictionary);
+				}
+			}
+
 			break;
 		}
 		case MsgClasses.STATUS:
@@ -1420,7 +1617,7 @@ class DictionaryItem<T> extends SingleItem<T> implements TimeoutClient
 	@Override
 	boolean close()
 	{
-		if (_streamId > 4)
+		if (_streamId > DictionaryCallbackClient.ENUM_TYPE_DICTIONARY_STREAM_ID)
 		{
 			super.close();
 		}
@@ -1467,7 +1664,6 @@ class DictionaryItem<T> extends SingleItem<T> implements TimeoutClient
 			if(!_removed) 
 			{
 				_baseImpl.itemCallbackClient().removeFromMap(this, true);
-				this.itemIdObj().returnToPool();
 				this.returnToPool();
 				_removed = true;
 			}
@@ -2212,6 +2408,8 @@ class NiProviderDictionaryItem<T> extends SingleItem<T> implements ProviderItem
 			{
 				_reqTimeoutEvent.cancel();
 			}
+			// a canceled event goes back to the pool and may be handed out again
+			_reqTimeoutEvent = null;
 		}
 	}
 	
@@ -2,7 +2,7 @@
  *|            This source code is provided under the Apache 2.0 license
  *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
  *|                See the project's LICENSE.md for details.
- *|           Copyright (C) 2020,2024 LSEG. All rights reserved.
+ *|           Copyright (C) 2020,2024-2025 LSEG. All rights reserved.
  *|-----------------------------------------------------------------------------
  */
 
@@ -170,10 +170,8 @@ class ElementEntryImpl extends EntryImpl implements ElementEntry
 
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.INT )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getInt();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.INT;
 		}
@@ -190,10 +188,8 @@ class ElementEntryImpl extends EntryImpl implements ElementEntry
 
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.UINT )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getUInt();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.UINT;
 		}
@@ -210,10 +206,8 @@ class ElementEntryImpl extends EntryImpl implements ElementEntry
 
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.UINT )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getUInt();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.UINT;
 		}
@@ -230,10 +224,8 @@ class ElementEntryImpl extends EntryImpl implements ElementEntry
 
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.REAL )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getReal();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.REAL;
 		}
@@ -263,10 +255,8 @@ class ElementEntryImpl extends EntryImpl implements ElementEntry
 
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.REAL )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getReal();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.REAL;
 		}
@@ -290,10 +280,8 @@ class ElementEntryImpl extends EntryImpl implements ElementEntry
 
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.FLOAT )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getFloat();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.FLOAT;
 		}
@@ -310,10 +298,8 @@ class ElementEntryImpl extends EntryImpl implements ElementEntry
 
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.DOUBLE )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getDouble();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.DOUBLE;
 		}
@@ -430,10 +416,8 @@ class ElementEntryImpl extends EntryImpl implements ElementEntry
 
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.QOS )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getQos();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.QOS;
 		}
@@ -478,10 +462,8 @@ class ElementEntryImpl extends EntryImpl implements ElementEntry
 
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.ENUM )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getEnum();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.ENUM; 
 		}
@@ -507,10 +489,8 @@ class ElementEntryImpl extends EntryImpl implements ElementEntry
 		
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.BUFFER )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getBuffer();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.BUFFER;
 		}
@@ -530,10 +510,8 @@ class ElementEntryImpl extends EntryImpl implements ElementEntry
 		
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.BUFFER )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getBuffer();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.BUFFER;
 		}
@@ -553,10 +531,8 @@ class ElementEntryImpl extends EntryImpl implements ElementEntry
 		
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.BUFFER )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getBuffer();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.BUFFER;
 		}
@@ -576,10 +552,8 @@ class ElementEntryImpl extends EntryImpl implements ElementEntry
 		
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.BUFFER )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getBuffer();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.BUFFER;
 		}
@@ -599,10 +573,8 @@ class ElementEntryImpl extends EntryImpl implements ElementEntry
 		
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.BUFFER )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getBuffer();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.BUFFER;
 		}
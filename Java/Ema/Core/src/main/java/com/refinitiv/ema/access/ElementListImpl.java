@@ -2,7 +2,7 @@
  *|            This source code is provided under the Apache 2.0 license
  *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
  *|                See the project's LICENSE.md for details.
- *|           Copyright (C) 2020,2022-2024 LSEG. All rights reserved.
+ *|           Copyright (C) 2020,2022-2025 LSEG. All rights reserved.
  *|-----------------------------------------------------------------------------
  */
 
@@ -70,14 +70,12 @@ class ElementListImpl extends CollectionDataImpl implements ElementList
 			if (collectionSize > 0)
 			{
 				ElementEntryImpl elementEntryImpl;
-				GlobalPool.lock();
 				for (int index = 0; index < collectionSize; ++index)
 				{
 					elementEntryImpl = (ElementEntryImpl)_elementListCollection.get(index);
 					GlobalPool.returnPool(elementEntryImpl._previousEncodingType, elementEntryImpl._entryData);
 					elementEntryImpl._previousEncodingType = com.refinitiv.eta.codec.DataTypes.UNKNOWN;
 				}
-				GlobalPool.unlock();
 		
 				_elementListCollection.clear();
 			}
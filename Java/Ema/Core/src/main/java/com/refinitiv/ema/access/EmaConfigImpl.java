@@ -9,6 +9,7 @@ package com.refinitiv.ema.access;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ThreadFactory;
 
 import com.refinitiv.ema.access.ConfigReader.XMLConfigReader;
 
@@ -454,6 +455,8 @@ abstract class EmaConfigImpl extends EmaConfigBaseImpl
 	}
 	
 	abstract String channelName(String instanceName);
+
+	abstract ThreadFactory dispatchThreadFactory();
 	
 	abstract String warmStandbyChannelSet(String instanceName);
 	
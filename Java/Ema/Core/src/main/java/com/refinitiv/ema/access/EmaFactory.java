@@ -8,6 +8,8 @@
 
 package com.refinitiv.ema.access;
 
+import java.util.function.IntFunction;
+
 import com.refinitiv.ema.access.OmmProviderConfig.ProviderRole;
 import com.refinitiv.ema.domain.login.Login.LoginRefresh;
 import com.refinitiv.ema.domain.login.Login.LoginReq;
@@ -304,8 +306,7 @@ public class EmaFactory
 	 */
 	public static OmmConsumer createOmmConsumer(OmmConsumerConfig config)
 	{
-		((OmmConsumerConfigImpl)config).validateSpecifiedSessionName();
-		return new OmmConsumerImpl(config);
+		return createShardedOmmConsumer(config, shard -> new OmmConsumerImpl(config));
 	}
 	
 	/**
@@ -317,8 +318,7 @@ public class EmaFactory
 	 */
 	public static OmmConsumer createOmmConsumer(OmmConsumerConfig config, OmmOAuth2ConsumerClient OAuthClient)
 	{
-		((OmmConsumerConfigImpl)config).validateSpecifiedSessionName();
-		return new OmmConsumerImpl(config, OAuthClient);
+		return createShardedOmmConsumer(config, shard -> new OmmConsumerImpl(config, OAuthClient));
 	}
 	
 	/**
@@ -331,8 +331,7 @@ public class EmaFactory
 	 */
 	public static OmmConsumer createOmmConsumer(OmmConsumerConfig config, OmmOAuth2ConsumerClient OAuthClient, Object closure)
 	{
-		((OmmConsumerConfigImpl)config).validateSpecifiedSessionName();
-		return new OmmConsumerImpl(config, OAuthClient, closure);
+		return createShardedOmmConsumer(config, shard -> new OmmConsumerImpl(config, OAuthClient, closure));
 	}
 	
 	/**
@@ -343,8 +342,7 @@ public class EmaFactory
 	 */
 	public static OmmConsumer createOmmConsumer(OmmConsumerConfig config, OmmConsumerClient client)
 	{
-		((OmmConsumerConfigImpl)config).validateSpecifiedSessionName();
-		return new OmmConsumerImpl(config, client);
+		return createShardedOmmConsumer(config, shard -> new OmmConsumerImpl(config, shard == 0 ? client : null));
 	}
 	
 	/**
@@ -357,8 +355,7 @@ public class EmaFactory
 	 */
 	public static OmmConsumer createOmmConsumer(OmmConsumerConfig config, OmmConsumerClient adminClient, OmmOAuth2ConsumerClient OAuthClient)
 	{
-		((OmmConsumerConfigImpl)config).validateSpecifiedSessionName();
-		return new OmmConsumerImpl(config, adminClient, OAuthClient);
+		return createShardedOmmConsumer(config, shard -> new OmmConsumerImpl(config, shard == 0 ? adminClient : null, OAuthClient));
 	}
 	
 	/**
@@ -372,8 +369,7 @@ public class EmaFactory
 	 */
 	public static OmmConsumer createOmmConsumer(OmmConsumerConfig config, OmmConsumerClient adminClient, OmmOAuth2ConsumerClient OAuthClient, Object closure)
 	{
-		((OmmConsumerConfigImpl)config).validateSpecifiedSessionName();
-		return new OmmConsumerImpl(config, adminClient, OAuthClient, closure);
+		return createShardedOmmConsumer(config, shard -> new OmmConsumerImpl(config, shard == 0 ? adminClient : null, OAuthClient, closure));
 	}
 	
 	/**
@@ -385,8 +381,7 @@ public class EmaFactory
 	 */
 	public static OmmConsumer createOmmConsumer(OmmConsumerConfig config, OmmConsumerClient client, Object closure)
 	{
-		((OmmConsumerConfigImpl)config).validateSpecifiedSessionName();
-		return new OmmConsumerImpl(config, client, closure);
+		return createShardedOmmConsumer(config, shard -> new OmmConsumerImpl(config, shard == 0 ? client : null, closure));
 	}
 	
 	/**
@@ -399,8 +394,7 @@ public class EmaFactory
 	 */
 	public static OmmConsumer createOmmConsumer(OmmConsumerConfig config, OmmConsumerErrorClient client)
 	{
-		((OmmConsumerConfigImpl)config).validateSpecifiedSessionName();
-		return new OmmConsumerImpl(config, client);
+		return createShardedOmmConsumer(config, shard -> new OmmConsumerImpl(config, client));
 	}
 	
 	/**
@@ -413,8 +407,7 @@ public class EmaFactory
 	 */
 	public static OmmConsumer createOmmConsumer(OmmConsumerConfig config, OmmConsumerErrorClient errorClient, OmmOAuth2ConsumerClient OAuthClient)
 	{
-		((OmmConsumerConfigImpl)config).validateSpecifiedSessionName();
-		return new OmmConsumerImpl(config, errorClient, OAuthClient);
+		return createShardedOmmConsumer(config, shard -> new OmmConsumerImpl(config, errorClient, OAuthClient));
 	}
 	
 	/**
@@ -428,8 +421,7 @@ public class EmaFactory
 	 */
 	public static OmmConsumer createOmmConsumer(OmmConsumerConfig config, OmmConsumerErrorClient errorClient, OmmOAuth2ConsumerClient OAuthClient, Object closure)
 	{
-		((OmmConsumerConfigImpl)config).validateSpecifiedSessionName();
-		return new OmmConsumerImpl(config, errorClient, OAuthClient, closure);
+		return createShardedOmmConsumer(config, shard -> new OmmConsumerImpl(config, errorClient, OAuthClient, closure));
 	}
 	
 	/**
@@ -442,8 +434,7 @@ public class EmaFactory
 	 */
 	public static OmmConsumer createOmmConsumer(OmmConsumerConfig config, OmmConsumerClient adminClient, OmmConsumerErrorClient errorClient)
 	{
-		((OmmConsumerConfigImpl)config).validateSpecifiedSessionName();
-		return new OmmConsumerImpl(config, adminClient, errorClient);
+		return createShardedOmmConsumer(config, shard -> new OmmConsumerImpl(config, shard == 0 ? adminClient : null, errorClient));
 	}
 	
 	/**
@@ -457,8 +448,7 @@ public class EmaFactory
 	 */
 	public static OmmConsumer createOmmConsumer(OmmConsumerConfig config, OmmConsumerClient adminClient, OmmConsumerErrorClient errorClient, Object closure)
 	{
-		((OmmConsumerConfigImpl)config).validateSpecifiedSessionName();
-		return new OmmConsumerImpl(config, adminClient, errorClient, closure);
+		return createShardedOmmConsumer(config, shard -> new OmmConsumerImpl(config, shard == 0 ? adminClient : null, errorClient, closure));
 	}
 	
 	/**
@@ -472,8 +462,7 @@ public class EmaFactory
 	 */
 	public static OmmConsumer createOmmConsumer(OmmConsumerConfig config, OmmConsumerClient adminClient, OmmConsumerErrorClient errorClient, OmmOAuth2ConsumerClient OAuthClient)
 	{
-		((OmmConsumerConfigImpl)config).validateSpecifiedSessionName();
-		return new OmmConsumerImpl(config, adminClient, errorClient, OAuthClient);
+		return createShardedOmmConsumer(config, shard -> new OmmConsumerImpl(config, shard == 0 ? adminClient : null, errorClient, OAuthClient));
 	}
 	
 	/**
@@ -487,9 +476,19 @@ public class EmaFactory
 	 * @return {@link com.refinitiv.ema.access.OmmConsumer}
 	 */
 	public static OmmConsumer createOmmConsumer(OmmConsumerConfig config, OmmConsumerClient adminClient, OmmConsumerErrorClient errorClient, OmmOAuth2ConsumerClient OAuthClient, Object closure)
+	{
+		return createShardedOmmConsumer(config, shard -> new OmmConsumerImpl(config, shard == 0 ? adminClient : null, errorClient, OAuthClient, closure));
+	}
+	
+	/* Creates one OmmConsumerImpl, or a ShardedOmmConsumerImpl of OmmConsumerImpl shards
+	 * when more than one reactor shard is configured. consumerFactory creates the consumer
+	 * of the given shard index, only the one of shard 0 gets the admin client. */
+	private static OmmConsumer createShardedOmmConsumer(OmmConsumerConfig config, IntFunction<OmmConsumerImpl> consumerFactory)
 	{
 		((OmmConsumerConfigImpl)config).validateSpecifiedSessionName();
-		return new OmmConsumerImpl(config, adminClient, errorClient, OAuthClient, closure);
+		
+		int shardCount = ((OmmConsumerConfigImpl)config).reactorShardCount();
+		return shardCount > 1 ? new ShardedOmmConsumerImpl(consumerFactory, shardCount) : consumerFactory.apply(0);
 	}
 	
 	/**
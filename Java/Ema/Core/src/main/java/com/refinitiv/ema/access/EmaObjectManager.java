@@ -16,8 +16,7 @@ import java.util.Deque;
 import java.util.List;
 
 import java.util.concurrent.ConcurrentLinkedDeque;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.LongAdder;
 
 import com.refinitiv.eta.valueadd.common.VaPool;
 
@@ -29,8 +28,13 @@ class EmaObjectManager
 	private final static int MAX_BYTE_BUFFER_CAPABILITY = 2000;
 	private final static int DEFAULT_ETA_CONTAINER_SIZE = 10;
 
-	private Lock _byteBufferLock = null;
 	private List<ByteBuffer>[] _byteBufferList;
+	/* The byte buffers of the global object manager, which are shared by all threads without a lock.
+	 * Buffers of a size class are pooled in _byteBufferPools, larger buffers in _largeByteBuffers. */
+	private MagazinePool<ByteBuffer>[] _byteBufferPools;
+	private ConcurrentLinkedDeque<ByteBuffer> _largeByteBuffers;
+	private LongAdder _largeByteBufferHits;
+	private LongAdder _largeByteBufferMisses;
 	private boolean _intialized;
 	
 	static EmaObjectManager GlobalObjectManager;
@@ -120,7 +124,7 @@ class EmaObjectManager
 	{
 		if (globalLock)
 		{
-			_byteBufferLock = new ReentrantLock();
+			initByteBufferPools();
 		}
 
 		_ommIntPool = new VaPool(globalLock);
@@ -382,47 +386,39 @@ class EmaObjectManager
 	
 	ByteBuffer acquireByteBuffer(int length)
 	{
+		if (_byteBufferPools != null)
+			return acquireSharedByteBuffer(length);
+
 		int pos = length / DEFAULT_BYTE_BUFFER_SIZE;
 		ByteBuffer retVal;
 
-		if (_byteBufferLock != null)
-			_byteBufferLock.lock();
-
-		try
+		if (pos < MAX_NUM_BYTE_BUFFER)
 		{
-			if (pos < MAX_NUM_BYTE_BUFFER)
+			if (!_byteBufferList[pos].isEmpty())
 			{
-				if (!_byteBufferList[pos].isEmpty())
-				{
-					retVal = _byteBufferList[pos].remove(_byteBufferList[pos].size() - 1);
-					retVal.clear();
-					return retVal;
-				}
+				retVal = _byteBufferList[pos].remove(_byteBufferList[pos].size() - 1);
+				retVal.clear();
+				return retVal;
+			}
 
-				return ByteBuffer.allocate((pos + 1) * DEFAULT_BYTE_BUFFER_SIZE);
-			} else
+			return ByteBuffer.allocate((pos + 1) * DEFAULT_BYTE_BUFFER_SIZE);
+		} else
+		{
+			if (!_byteBufferList[MAX_NUM_BYTE_BUFFER].isEmpty())
 			{
-				if (!_byteBufferList[MAX_NUM_BYTE_BUFFER].isEmpty())
+				int size = _byteBufferList[MAX_NUM_BYTE_BUFFER].size() - 1;
+				for (int index = size; index >= 0; --index)
 				{
-					int size = _byteBufferList[MAX_NUM_BYTE_BUFFER].size() - 1;
-					for (int index = size; index >= 0; --index)
+					if (length < _byteBufferList[MAX_NUM_BYTE_BUFFER].get(index).capacity())
 					{
-						if (length < _byteBufferList[MAX_NUM_BYTE_BUFFER].get(index).capacity())
-						{
-							retVal = _byteBufferList[MAX_NUM_BYTE_BUFFER].remove(index);
-							retVal.clear();
-							return retVal;
-						}
+						retVal = _byteBufferList[MAX_NUM_BYTE_BUFFER].remove(index);
+						retVal.clear();
+						return retVal;
 					}
 				}
-
-				return ByteBuffer.allocate(length);
 			}
-		}
-		finally
-		{
-			if (_byteBufferLock != null)
-				_byteBufferLock.unlock();
+
+			return ByteBuffer.allocate(length);
 		}
 	}
 
@@ -431,29 +427,106 @@ class EmaObjectManager
 		if (buffer == null)
 			return;
 
-		if (_byteBufferLock != null)
-			_byteBufferLock.lock();
+		int pos = buffer.capacity() / DEFAULT_BYTE_BUFFER_SIZE - 1;
 
-		try
+		if (_byteBufferPools != null)
 		{
-			int pos = buffer.capacity() / DEFAULT_BYTE_BUFFER_SIZE - 1;
-
 			if (pos < MAX_NUM_BYTE_BUFFER)
-				_byteBufferList[pos].add(buffer);
+				_byteBufferPools[pos].release(buffer);
 			else
-				_byteBufferList[MAX_NUM_BYTE_BUFFER].add(buffer);
+				_largeByteBuffers.addFirst(buffer);
 		}
-		finally
+		else if (pos < MAX_NUM_BYTE_BUFFER)
+			_byteBufferList[pos].add(buffer);
+		else
+			_byteBufferList[MAX_NUM_BYTE_BUFFER].add(buffer);
+	}
+	
+	/* The number of byte buffers taken from the pools of the global object manager. */
+	long byteBufferHitCount()
+	{
+		if (_byteBufferPools == null)
+			return 0;
+
+		long count = _largeByteBufferHits.sum();
+		for (MagazinePool<ByteBuffer> pool : _byteBufferPools)
+			count += pool.hitCount();
+
+		return count;
+	}
+	
+	/* The number of byte buffers allocated by the global object manager since its pools were empty. */
+	long byteBufferMissCount()
+	{
+		if (_byteBufferPools == null)
+			return 0;
+
+		long count = _largeByteBufferMisses.sum();
+		for (MagazinePool<ByteBuffer> pool : _byteBufferPools)
+			count += pool.missCount();
+
+		return count;
+	}
+	
+	private ByteBuffer acquireSharedByteBuffer(int length)
+	{
+		int pos = length / DEFAULT_BYTE_BUFFER_SIZE;
+		ByteBuffer retVal;
+
+		if (pos < MAX_NUM_BYTE_BUFFER)
 		{
-			if (_byteBufferLock != null)
-				_byteBufferLock.unlock();
+			retVal = _byteBufferPools[pos].get();
+			retVal.clear();
+			return retVal;
 		}
+
+		// another thread may take the buffer first, the search then continues
+		for (ByteBuffer buffer : _largeByteBuffers)
+		{
+			if (length < buffer.capacity() && _largeByteBuffers.removeFirstOccurrence(buffer))
+			{
+				_largeByteBufferHits.increment();
+				buffer.clear();
+				return buffer;
+			}
+		}
+
+		_largeByteBufferMisses.increment();
+		return ByteBuffer.allocate(length);
+	}
+	
+	@SuppressWarnings("unchecked")
+	private void initByteBufferPools()
+	{
+		_byteBufferPools = (MagazinePool<ByteBuffer>[]) new MagazinePool<?>[MAX_NUM_BYTE_BUFFER];
+		for (int pos = 0; pos < MAX_NUM_BYTE_BUFFER; ++pos)
+		{
+			int allocatedSize = (pos + 1) * DEFAULT_BYTE_BUFFER_SIZE;
+			_byteBufferPools[pos] = new MagazinePool<>(() -> ByteBuffer.allocate(allocatedSize));
+		}
+
+		_largeByteBuffers = new ConcurrentLinkedDeque<ByteBuffer>();
+		_largeByteBufferHits = new LongAdder();
+		_largeByteBufferMisses = new LongAdder();
 	}
 	
 	@SuppressWarnings("unchecked")
 	private void initByteBufferList()
 	{
-		_byteBufferList = new ArrayList[MAX_NUM_BYTE_BUFFER+1];
+		if (_byteBufferPools != null)
+		{
+			for (int pos = 0; pos < MAX_NUM_BYTE_BUFFER; ++pos)
+			{
+				int allocatedSize = (pos + 1) * DEFAULT_BYTE_BUFFER_SIZE;
+				_byteBufferPools[pos].add(ByteBuffer.allocate(allocatedSize));
+				_byteBufferPools[pos].add(ByteBuffer.allocate(allocatedSize));
+			}
+
+			_largeByteBuffers.add(ByteBuffer.allocate(MAX_BYTE_BUFFER_CAPABILITY));
+			return;
+		}
+
+		_byteBufferList = (List<ByteBuffer>[]) new List<?>[MAX_NUM_BYTE_BUFFER+1];
 		for (int pos = 0; pos <= MAX_NUM_BYTE_BUFFER; ++pos)
 		{
 			_byteBufferList[pos] = new ArrayList<ByteBuffer>();
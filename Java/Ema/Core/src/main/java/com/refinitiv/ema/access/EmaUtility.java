@@ -2,7 +2,7 @@
  *|            This source code is provided under the Apache 2.0 license
  *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
  *|                See the project's LICENSE.md for details.
- *|           Copyright (C) 2020,2024 LSEG. All rights reserved.
+ *|           Copyright (C) 2020,2024-2025 LSEG. All rights reserved.
  *|-----------------------------------------------------------------------------
  */
 
@@ -183,4 +183,26 @@ public class EmaUtility
 	{
 		return asString( ommBuffer, Charset.forName( "US-ASCII" ) );
 	}		
+	
+	/**
+	 * Returns the number of objects taken from the object pools shared by all the EMA instances of the JVM.
+	 * These pools hold the primitive values and the byte buffers of the entries encoded and decoded by EMA.
+	 * 
+	 * @return the number of pooled objects that were reused
+	 */
+	public static long globalPoolHitCount()
+	{
+		return GlobalPool.hitCount() + EmaObjectManager.GlobalObjectManager.byteBufferHitCount();
+	}
+	
+	/**
+	 * Returns the number of objects created because the object pools shared by all the EMA instances
+	 * of the JVM were empty.
+	 * 
+	 * @return the number of objects that were not taken from a pool
+	 */
+	public static long globalPoolMissCount()
+	{
+		return GlobalPool.missCount() + EmaObjectManager.GlobalObjectManager.byteBufferMissCount();
+	}
 }
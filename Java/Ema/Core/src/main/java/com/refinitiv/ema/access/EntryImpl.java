@@ -2,7 +2,7 @@
  *|            This source code is provided under the Apache 2.0 license
  *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
  *|                See the project's LICENSE.md for details.
- *|           Copyright (C) 2020-2021,2024 LSEG. All rights reserved.
+ *|           Copyright (C) 2020-2021,2024-2025 LSEG. All rights reserved.
  *|-----------------------------------------------------------------------------
  */
 
@@ -632,10 +632,8 @@ abstract class EntryImpl extends VaNode
 		
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.DATETIME )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			cacheEntryData = GlobalPool.getDateTime();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.DATETIME;
 		}
@@ -677,10 +675,8 @@ abstract class EntryImpl extends VaNode
 		
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.DATE )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			cacheEntryData = GlobalPool.getDate();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.DATE;
 		}
@@ -711,10 +707,8 @@ abstract class EntryImpl extends VaNode
 		
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.TIME )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			cacheEntryData = GlobalPool.getTime();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.TIME;
 		}
@@ -750,10 +744,8 @@ abstract class EntryImpl extends VaNode
         
         if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.STATE )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			cacheEntryData = GlobalPool.getState();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.STATE;
 		}
@@ -2,7 +2,7 @@
  *|            This source code is provided under the Apache 2.0 license
  *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
  *|                See the project's LICENSE.md for details.
- *|           Copyright (C) 2020,2024 LSEG. All rights reserved.
+ *|           Copyright (C) 2020,2024-2025 LSEG. All rights reserved.
  *|-----------------------------------------------------------------------------
  */
 
@@ -226,10 +226,8 @@ class FieldEntryImpl extends EntryImpl implements FieldEntry
 
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.INT )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getInt();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.INT;
 		}
@@ -246,10 +244,8 @@ class FieldEntryImpl extends EntryImpl implements FieldEntry
 
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.UINT )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getUInt();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.UINT;
 		}
@@ -266,10 +262,8 @@ class FieldEntryImpl extends EntryImpl implements FieldEntry
 
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.UINT )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getUInt();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.UINT;
 		}
@@ -286,10 +280,8 @@ class FieldEntryImpl extends EntryImpl implements FieldEntry
 
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.REAL )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getReal();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.REAL;
 		}
@@ -319,10 +311,8 @@ class FieldEntryImpl extends EntryImpl implements FieldEntry
 
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.REAL )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getReal();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.REAL;
 		}
@@ -346,10 +336,8 @@ class FieldEntryImpl extends EntryImpl implements FieldEntry
 
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.FLOAT )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getFloat();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.FLOAT;
 		}
@@ -366,10 +354,8 @@ class FieldEntryImpl extends EntryImpl implements FieldEntry
 
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.DOUBLE )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getDouble();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.DOUBLE;
 		}
@@ -485,10 +471,8 @@ class FieldEntryImpl extends EntryImpl implements FieldEntry
 
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.QOS )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getQos();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.QOS;
 		}
@@ -533,10 +517,8 @@ class FieldEntryImpl extends EntryImpl implements FieldEntry
 
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.ENUM )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getEnum();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.ENUM; 
 		}
@@ -562,10 +544,8 @@ class FieldEntryImpl extends EntryImpl implements FieldEntry
 		
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.BUFFER )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getBuffer();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.BUFFER;
 		}
@@ -585,10 +565,8 @@ class FieldEntryImpl extends EntryImpl implements FieldEntry
 		
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.BUFFER )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getBuffer();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.BUFFER;
 		}
@@ -608,10 +586,8 @@ class FieldEntryImpl extends EntryImpl implements FieldEntry
 		
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.BUFFER )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getBuffer();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.BUFFER;
 		}
@@ -631,10 +607,8 @@ class FieldEntryImpl extends EntryImpl implements FieldEntry
 		
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.BUFFER )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getBuffer();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.BUFFER;
 		}
@@ -654,10 +628,8 @@ class FieldEntryImpl extends EntryImpl implements FieldEntry
 		
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.BUFFER )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getBuffer();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.BUFFER;
 		}
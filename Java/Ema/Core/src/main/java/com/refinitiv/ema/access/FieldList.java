@@ -2,7 +2,7 @@
  *|            This source code is provided under the Apache 2.0 license
  *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
  *|                See the project's LICENSE.md for details.
- *|           Copyright (C) 2020,2023-2024 LSEG. All rights reserved.
+ *|           Copyright (C) 2020,2023-2025 LSEG. All rights reserved.
  *|-----------------------------------------------------------------------------
  */
 
@@ -140,4 +140,16 @@ public interface FieldList extends ComplexType, Collection<FieldEntry>
 	 * @return iterator for a reference of a single decoded FieldEntry.
 	 */
 	public Iterator<FieldEntry> iteratorByRef();
+
+	/**
+	 * Restricts a decoded FieldList to the entries of the given field ids.<br>
+	 * Entries of other fields are skipped when the FieldList is iterated, without being
+	 * decoded, and are not counted by size(). The filter applies until the FieldList is
+	 * cleared or decoded again.<br>
+	 * For the payload of all the messages of an item, use {@link ReqMsg#fieldIdFilter(int[])}.
+	 * 
+	 * @param fieldIds the field ids of interest, or null to remove the filter
+	 * @return reference to this object
+	 */
+	public FieldList fieldIdFilter(int[] fieldIds);
 }
\ No newline at end of file
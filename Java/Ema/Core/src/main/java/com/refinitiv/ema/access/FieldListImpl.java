@@ -2,13 +2,14 @@
  *|            This source code is provided under the Apache 2.0 license
  *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
  *|                See the project's LICENSE.md for details.
- *|           Copyright (C) 2020-2024 LSEG. All rights reserved.
+ *|           Copyright (C) 2020-2025 LSEG. All rights reserved.
  *|-----------------------------------------------------------------------------
  */
 
 package com.refinitiv.ema.access;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -27,6 +28,10 @@ class FieldListImpl extends CollectionDataImpl implements FieldList
 	private FieldListIterImpl _fieldListIterImpl = null;
 	DataDictionaryImpl _dataDictionaryImpl;
 	
+	// sorted field ids of the entries to decode, all entries are decoded when null
+	int[] _fieldIdFilter;
+	private int[] _fieldIdFilterArray;
+	
 	FieldListImpl() 
 	{
 		super(null);
@@ -105,6 +110,39 @@ class FieldListImpl extends CollectionDataImpl implements FieldList
 		return new EmaIterator<FieldEntry>(_fieldListCollection.iterator());
 	}
 	
+	@Override
+	public FieldList fieldIdFilter(int[] fieldIds)
+	{
+		if (fieldIds == null)
+			return sortedFieldIdFilter(null);
+		
+		if (_fieldIdFilterArray == null || _fieldIdFilterArray.length != fieldIds.length)
+			_fieldIdFilterArray = new int[fieldIds.length];
+		
+		System.arraycopy(fieldIds, 0, _fieldIdFilterArray, 0, fieldIds.length);
+		Arrays.sort(_fieldIdFilterArray);
+		
+		return sortedFieldIdFilter(_fieldIdFilterArray);
+	}
+	
+	/* Sets the filter to the given sorted field ids, which are shared and not copied. */
+	FieldList sortedFieldIdFilter(int[] sortedFieldIds)
+	{
+		_fieldIdFilter = sortedFieldIds;
+		
+		// restart the decoding of the entries, in case they were already decoded without the filter
+		if (_rsslEncodeIter == null && _rsslBuffer != null && _fillCollection == false && _errorCode == ErrorCode.NO_ERROR)
+			decodeFieldList();
+		
+		return this;
+	}
+	
+	/* Returns true if the entries of the field id are decoded. */
+	final boolean isFieldIdDecoded(int fieldId)
+	{
+		return _fieldIdFilter == null || Arrays.binarySearch(_fieldIdFilter, fieldId) >= 0;
+	}
+	
 	@Override
 	public Iterator<FieldEntry> iteratorByRef()
 	{
@@ -148,14 +186,12 @@ class FieldListImpl extends CollectionDataImpl implements FieldList
 			if (collectionSize > 0)
 			{
 				FieldEntryImpl fieldEntryImpl;
-				GlobalPool.lock();
 				for (int index = 0; index < collectionSize; ++index)
 				{
 					fieldEntryImpl = (FieldEntryImpl)_fieldListCollection.poll();
 					GlobalPool.returnPool(fieldEntryImpl._previousEncodingType, fieldEntryImpl._entryData);
 					fieldEntryImpl._previousEncodingType = com.refinitiv.eta.codec.DataTypes.UNKNOWN;
 				}
-				GlobalPool.unlock();
 		
 //				_fieldListCollection.clear();
 			}
@@ -330,6 +366,8 @@ class FieldListImpl extends CollectionDataImpl implements FieldList
 		_rsslDictionary = rsslDictionary;
 
 		_rsslLocalFLSetDefDb = (com.refinitiv.eta.codec.LocalFieldSetDefDb)localFlSetDefDb;
+		
+		_fieldIdFilter = null;
 
 		if (_rsslDictionary == null)
 		{
@@ -339,8 +377,16 @@ class FieldListImpl extends CollectionDataImpl implements FieldList
 		
 		_dataDictionaryImpl.rsslDataDictionary(rsslDictionary);
 
+		decodeFieldList();
+	}
+	
+	/* Positions the decode iterator on the first entry of the field list. */
+	private void decodeFieldList()
+	{
+		_fillCollection = true;
+		
 		_rsslDecodeIter.clear();
-		int retCode = _rsslDecodeIter.setBufferAndRWFVersion(rsslBuffer, _rsslMajVer, _rsslMinVer);
+		int retCode = _rsslDecodeIter.setBufferAndRWFVersion(_rsslBuffer, _rsslMajVer, _rsslMinVer);
 		if (com.refinitiv.eta.codec.CodecReturnCodes.SUCCESS != retCode)
 		{
 			_errorCode = ErrorCode.ITERATOR_SET_FAILURE;
@@ -398,6 +444,13 @@ class FieldListImpl extends CollectionDataImpl implements FieldList
 			switch(retCode)
 			{
 			case com.refinitiv.eta.codec.CodecReturnCodes.SUCCESS :
+				// skip the entry without a dictionary lookup or decoding its data
+				if (!isFieldIdDecoded(fieldEntry._rsslFieldEntry.fieldId()))
+				{
+					fieldEntry._rsslFieldEntry.clear();
+					continue;
+				}
+				
 				rsslDictionaryEntry = _rsslDictionary.entry(fieldEntry._rsslFieldEntry.fieldId());
 				if (rsslDictionaryEntry == null)
 				{
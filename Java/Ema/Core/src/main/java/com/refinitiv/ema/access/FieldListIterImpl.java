@@ -70,7 +70,14 @@ class FieldListIterImpl implements Iterator<FieldEntry>
 			retCode = _rsslFieldList.decode(_rsslDecodeIter, _fieldListImpl._rsslLocalFLSetDefDb);
 		}
 		
-		if ((retCode  = _fieldEntry._rsslFieldEntry.decode(_rsslDecodeIter)) != com.refinitiv.eta.codec.CodecReturnCodes.END_OF_CONTAINER)
+		// entries of the fields that are not of interest are skipped without being decoded
+		while ((retCode  = _fieldEntry._rsslFieldEntry.decode(_rsslDecodeIter)) == com.refinitiv.eta.codec.CodecReturnCodes.SUCCESS
+				&& !_fieldListImpl.isFieldIdDecoded(_fieldEntry._rsslFieldEntry.fieldId()))
+		{
+			_fieldEntry._rsslFieldEntry.clear();
+		}
+		
+		if (retCode != com.refinitiv.eta.codec.CodecReturnCodes.END_OF_CONTAINER)
 		{
 			switch(retCode)
 			{
@@ -13,30 +13,29 @@ import com.refinitiv.eta.codec.Enum;
 import com.refinitiv.eta.codec.Float;
 import com.refinitiv.eta.codec.*;
 
-import java.util.ArrayDeque;
-import java.util.concurrent.locks.ReentrantLock;
-
+/* The ETA primitives of the entries of all EMA instances. The pools are shared without a lock,
+ * see MagazinePool, so their methods may be called from any thread. */
 class GlobalPool
 {
 	private final static int DATA_POOL_INITIAL_SIZE = 40;
 
-	static ReentrantLock _globalLock = new java.util.concurrent.locks.ReentrantLock();
-	
-	private static ArrayDeque<Date> _DatePool = new ArrayDeque<>(DATA_POOL_INITIAL_SIZE); 
-	private static ArrayDeque<DateTime> _DateTimePool = new ArrayDeque<>(DATA_POOL_INITIAL_SIZE);
-	private static ArrayDeque<Double> _DoublePool = new ArrayDeque<>(DATA_POOL_INITIAL_SIZE);
-	private static ArrayDeque<Enum> _EnumPool = new ArrayDeque<>(DATA_POOL_INITIAL_SIZE);
-	private static ArrayDeque<Float> _FloatPool = new ArrayDeque<>(DATA_POOL_INITIAL_SIZE);
-	private static ArrayDeque<Int> _IntPool = new ArrayDeque<>(DATA_POOL_INITIAL_SIZE);
-	private static ArrayDeque<Qos> _QosPool = new ArrayDeque<>(DATA_POOL_INITIAL_SIZE);
-	private static ArrayDeque<Real> _RealPool = new ArrayDeque<>(DATA_POOL_INITIAL_SIZE);
-	private static ArrayDeque<Buffer> _BufferPool = new ArrayDeque<>(DATA_POOL_INITIAL_SIZE);
-	private static ArrayDeque<State> _StatePool = new ArrayDeque<>(DATA_POOL_INITIAL_SIZE);
-	private static ArrayDeque<Time> _TimePool = new ArrayDeque<>(DATA_POOL_INITIAL_SIZE);
-	private static ArrayDeque<UInt> _UIntPool = new ArrayDeque<>(DATA_POOL_INITIAL_SIZE);
+	private static MagazinePool<Date> _DatePool = new MagazinePool<>(CodecFactory::createDate);
+	private static MagazinePool<DateTime> _DateTimePool = new MagazinePool<>(CodecFactory::createDateTime);
+	private static MagazinePool<Double> _DoublePool = new MagazinePool<>(CodecFactory::createDouble);
+	private static MagazinePool<Enum> _EnumPool = new MagazinePool<>(CodecFactory::createEnum);
+	private static MagazinePool<Float> _FloatPool = new MagazinePool<>(CodecFactory::createFloat);
+	private static MagazinePool<Int> _IntPool = new MagazinePool<>(CodecFactory::createInt);
+	private static MagazinePool<Qos> _QosPool = new MagazinePool<>(CodecFactory::createQos);
+	private static MagazinePool<Real> _RealPool = new MagazinePool<>(CodecFactory::createReal);
+	private static MagazinePool<Buffer> _BufferPool = new MagazinePool<>(CodecFactory::createBuffer);
+	private static MagazinePool<State> _StatePool = new MagazinePool<>(CodecFactory::createState);
+	private static MagazinePool<Time> _TimePool = new MagazinePool<>(CodecFactory::createTime);
+	private static MagazinePool<UInt> _UIntPool = new MagazinePool<>(CodecFactory::createUInt);
+	private static MagazinePool<?>[] _pools = { _DatePool, _DateTimePool, _DoublePool, _EnumPool, _FloatPool,
+			_IntPool, _QosPool, _RealPool, _BufferPool, _StatePool, _TimePool, _UIntPool };
 	private static boolean _intialized = false;
 	
-	static void initialize()
+	static synchronized void initialize()
 	{
 		if ( _intialized )
 			return;
@@ -44,151 +43,101 @@ class GlobalPool
 		
 		for(int i = 0; i < DATA_POOL_INITIAL_SIZE; i++)
 		{
-			_DatePool.push(CodecFactory.createDate());
-			_DateTimePool.push(CodecFactory.createDateTime());
-			_DoublePool.push(CodecFactory.createDouble());
-			_EnumPool.push(CodecFactory.createEnum());
-			_FloatPool.push(CodecFactory.createFloat());
-			_IntPool.push(CodecFactory.createInt());
-			_QosPool.push(CodecFactory.createQos());
-			_RealPool.push(CodecFactory.createReal());
-			_BufferPool.push(CodecFactory.createBuffer());
-			_StatePool.push(CodecFactory.createState());
-			_TimePool.push(CodecFactory.createTime());
-			_UIntPool.push(CodecFactory.createUInt());
+			_DatePool.add(CodecFactory.createDate());
+			_DateTimePool.add(CodecFactory.createDateTime());
+			_DoublePool.add(CodecFactory.createDouble());
+			_EnumPool.add(CodecFactory.createEnum());
+			_FloatPool.add(CodecFactory.createFloat());
+			_IntPool.add(CodecFactory.createInt());
+			_QosPool.add(CodecFactory.createQos());
+			_RealPool.add(CodecFactory.createReal());
+			_BufferPool.add(CodecFactory.createBuffer());
+			_StatePool.add(CodecFactory.createState());
+			_TimePool.add(CodecFactory.createTime());
+			_UIntPool.add(CodecFactory.createUInt());
 		}
 		
 		_intialized = true;
 	}
 	
-	static void lock()
+	/* The number of objects taken from the pools. */
+	static long hitCount()
 	{
-		_globalLock.lock();
+		long count = 0;
+		for (MagazinePool<?> pool : _pools)
+			count += pool.hitCount();
+		
+		return count;
 	}
 	
-	static void unlock()
+	/* The number of objects created since the pools were empty. */
+	static long missCount()
 	{
-		_globalLock.unlock();
+		long count = 0;
+		for (MagazinePool<?> pool : _pools)
+			count += pool.missCount();
+		
+		return count;
 	}
 	
 	static Date getDate()
 	{
-		if ( _DatePool.size() == 0)
-		{
-			return CodecFactory.createDate();
-		}
-		
-		return _DatePool.pop();
+		return _DatePool.get();
 	}
 	
 	static DateTime getDateTime()
 	{
-		if ( _DateTimePool.size() == 0)
-		{
-			return CodecFactory.createDateTime();
-		}
-		
-		return _DateTimePool.pop();
+		return _DateTimePool.get();
 	}
 	
 	static Double getDouble()
 	{
-		if ( _DoublePool.size() == 0)
-		{
-			return CodecFactory.createDouble();
-		}
-		
-		return _DoublePool.pop();
+		return _DoublePool.get();
 	}
 	
 	static Enum getEnum()
 	{
-		if ( _EnumPool.size() == 0)
-		{
-			return CodecFactory.createEnum();
-		}
-		
-		return _EnumPool.pop();
+		return _EnumPool.get();
 	}
 	
 	static Float getFloat()
 	{
-		if ( _FloatPool.size() == 0)
-		{
-			return CodecFactory.createFloat();
-		}
-		
-		return _FloatPool.pop();
+		return _FloatPool.get();
 	}
 	
 	static Int getInt()
 	{
-		if ( _IntPool.size() == 0)
-		{
-			return CodecFactory.createInt();
-		}
-		
-		return _IntPool.pop();
+		return _IntPool.get();
 	}
 	
 	static Qos getQos()
 	{
-		if ( _QosPool.size() == 0)
-		{
-			return CodecFactory.createQos();
-		}
-		
-		return _QosPool.pop();
+		return _QosPool.get();
 	}
 	
 	static Real getReal()
 	{
-		if ( _RealPool.size() == 0)
-		{
-			return CodecFactory.createReal();
-		}
-		
-		return _RealPool.pop();
+		return _RealPool.get();
 	}
 	
 	static Buffer getBuffer()
 	{
-		if ( _BufferPool.size() == 0)
-		{
-			return CodecFactory.createBuffer();
-		}
-		
-		return _BufferPool.pop();
+		return _BufferPool.get();
 	}
 	
 	static State getState()
 	{
-		if ( _StatePool.size() == 0)
-		{
-			return CodecFactory.createState();
-		}
-		
-		return _StatePool.pop();
+		return _StatePool.get();
 	}
 	
 	static Time getTime()
 	{
-		if ( _TimePool.size() == 0)
-		{
-			return CodecFactory.createTime();
-		}
-		
-		return _TimePool.pop();
+		return _TimePool.get();
 	}
 	
 	static UInt getUInt()
 	{
-		if ( _UIntPool.size() == 0)
-		{
-			return CodecFactory.createUInt();
-		}
-		
-		return _UIntPool.pop();
+		return _UIntPool.get();
 	}
 	
 
@@ -200,40 +149,40 @@ class GlobalPool
 		switch(dataType)
 		{
 		case com.refinitiv.eta.codec.DataTypes.DATE:
-			_DatePool.push((Date)value);
+			_DatePool.release((Date)value);
 			break;
 		case com.refinitiv.eta.codec.DataTypes.DATETIME:
-			_DateTimePool.push((DateTime)value);
+			_DateTimePool.release((DateTime)value);
 			break;
 		case com.refinitiv.eta.codec.DataTypes.DOUBLE:
-			_DoublePool.push((Double)value);
+			_DoublePool.release((Double)value);
 			break;
 		case com.refinitiv.eta.codec.DataTypes.ENUM:
-			_EnumPool.push((Enum)value);
+			_EnumPool.release((Enum)value);
 			break;
 		case com.refinitiv.eta.codec.DataTypes.FLOAT:
-			_FloatPool.push((Float)value);
+			_FloatPool.release((Float)value);
 			break;
 		case com.refinitiv.eta.codec.DataTypes.INT:
-			_IntPool.push((Int)value);
+			_IntPool.release((Int)value);
 			break;
 		case com.refinitiv.eta.codec.DataTypes.QOS:
-			_QosPool.push((Qos)value);
+			_QosPool.release((Qos)value);
 			break;
 		case com.refinitiv.eta.codec.DataTypes.REAL:
-			_RealPool.push((Real)value);
+			_RealPool.release((Real)value);
 			break;
 		case com.refinitiv.eta.codec.DataTypes.BUFFER:
-			_BufferPool.push((Buffer)value);
+			_BufferPool.release((Buffer)value);
 			break;
 		case com.refinitiv.eta.codec.DataTypes.STATE:
-			_StatePool.push((State)value);
+			_StatePool.release((State)value);
 			break;
 		case com.refinitiv.eta.codec.DataTypes.TIME:
-			_TimePool.push((Time)value);
+			_TimePool.release((Time)value);
 			break;
 		case com.refinitiv.eta.codec.DataTypes.UINT:
-			_UIntPool.push((UInt)value);
+			_UIntPool.release((UInt)value);
 			break;
 		default:
 			break;
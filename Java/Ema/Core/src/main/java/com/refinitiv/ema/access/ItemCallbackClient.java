@@ -9,12 +9,9 @@
 package com.refinitiv.ema.access;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
 
 import com.refinitiv.ema.access.DirectoryServiceStore.ServiceIdInteger;
@@ -1140,15 +1137,15 @@ TunnelStreamStatusEventCallback
 	private static final int  PROVIDER_STARTING_STREAM_ID = 0;
 	private static final int CONSUMER_MAX_STREAM_ID_MINUSONE = Integer.MAX_VALUE -1;
 	
-	private Map<LongObject, Item<T>>	_itemMap;
-	private Map<IntObject, Item<T>> _streamIdMap;
-	private LongObject _longObjHolder;
-	private IntObject _intObjHolder;
+	private LongObjectMap<Item<T>>	_itemMap;
+	private LongObjectMap<Item<T>> _streamIdMap;
 	protected LoginMsg _rsslRDMLoginMsg;
 	private int	_nextStreamId;
 	boolean	_nextStreamIdWrapAround;
 	private ReentrantLock _streamIdAccessLock;
 	private ConsumerSession<T> _consumerSession; /* This is used when there is a consumer session */
+	private ShardedOmmConsumerImpl _shardedConsumer;
+	private OmmConsumerImpl _shard;
 
 	ItemCallbackClient(OmmBaseImpl<T> baseImpl)
 	{
@@ -1157,7 +1154,7 @@ TunnelStreamStatusEventCallback
 		_consumerSession = baseImpl.consumerSession();
 		
 		if(_consumerSession != null)
-		{	/* Gets HashMap from the watchlist when the consumer session is enabled. */
+		{	/* Gets the item maps from the watchlist when the consumer session is enabled. */
 			_itemMap = _consumerSession.watchlist().itemHandleMap();
 			_streamIdMap = _consumerSession.watchlist().streamIdMap();
 			_consumerSession.watchlist().callbackClient(this);
@@ -1166,21 +1163,18 @@ TunnelStreamStatusEventCallback
 		{
 			if(baseImpl.activeConfig().userDispatch == OmmConsumerConfig.OperationModel.API_DISPATCH)
 			{
-				_itemMap = new ConcurrentHashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
-				_streamIdMap = new ConcurrentHashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
+				_itemMap = new ConcurrentLongObjectHashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
+				_streamIdMap = new ConcurrentLongObjectHashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
 			}
 			else
 			{
-				_itemMap = new HashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
-				_streamIdMap = new HashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
+				_itemMap = new LongObjectHashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
+				_streamIdMap = new LongObjectHashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
 			}
 		}
 
 		_updateMsg = new UpdateMsgImpl(_baseImpl.objManager());
 		
-		_longObjHolder = new LongObject();
-		_intObjHolder = new IntObject();
-		
 		if ( baseImpl.implType() == OmmCommonImpl.ImplementationType.CONSUMER )
 		{
 			_nextStreamId = CONSUMER_STARTING_STREAM_ID;
@@ -1199,20 +1193,17 @@ TunnelStreamStatusEventCallback
 
 		if(baseImpl.activeConfig().userDispatch == OmmConsumerConfig.OperationModel.API_DISPATCH)
 		{
-			_itemMap = new ConcurrentHashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
-			_streamIdMap = new ConcurrentHashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
+			_itemMap = new ConcurrentLongObjectHashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
+			_streamIdMap = new ConcurrentLongObjectHashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
 		}
 		else
 		{
-			_itemMap = new HashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
-			_streamIdMap = new HashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
+			_itemMap = new LongObjectHashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
+			_streamIdMap = new LongObjectHashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
 		}
 
 		_updateMsg = new UpdateMsgImpl(_baseImpl.objManager());
 		
-		_longObjHolder = new LongObject();
-		_intObjHolder = new IntObject();
-		
 		_nextStreamId = PROVIDER_STARTING_STREAM_ID;
 		_nextStreamIdWrapAround = false;
 	}
@@ -1648,7 +1639,7 @@ TunnelStreamStatusEventCallback
         {
         	if ( _baseImpl.implType() != OmmCommonImpl.ImplementationType.CONSUMER )
         	{
-        		_eventImpl._item = _streamIdMap.get(_intObjHolder.value(msg.streamId()));
+        		_eventImpl._item = _streamIdMap.get(msg.streamId());
         		
         		if ( _eventImpl._item == null )
         		{
@@ -1804,7 +1795,7 @@ TunnelStreamStatusEventCallback
 		Msg msg = event.msg();
 		ClientSession clientSession = (ClientSession)event.reactorChannel().userSpecObj();
         
-		_eventImpl._item = _streamIdMap.get(_intObjHolder.value(msg.streamId()));
+		_eventImpl._item = _streamIdMap.get(msg.streamId());
 		_eventImpl._clientHandle = clientSession.clientHandle();
 		_eventImpl._ommProvider = ((OmmServerBaseImpl)_baseImpl).provider();
 		
@@ -1924,6 +1915,8 @@ TunnelStreamStatusEventCallback
 			}
 		}
 
+		_refreshMsg.payloadFieldIdFilter(_eventImpl._item.fieldIdFilter());
+
 		if(_eventImpl._item.directory() != null)
 		{
 			_refreshMsg.service(_eventImpl._item.directory().serviceName());
@@ -2029,6 +2022,8 @@ TunnelStreamStatusEventCallback
 			}
 		}
 
+		_updateMsg.payloadFieldIdFilter(_eventImpl._item.fieldIdFilter());
+
 		if(_eventImpl._item.directory() != null)
 		{
 			_updateMsg.service(_eventImpl._item.directory().serviceName());
@@ -2492,7 +2487,7 @@ TunnelStreamStatusEventCallback
 		}
 		else 
 		{
-			Item<T> parent = _itemMap.get(_longObjHolder.value(parentHandle));
+			Item<T> parent = _itemMap.get(parentHandle);
 			if (parent == null)
 			{
 				StringBuilder temp = _baseImpl.strBuilder();
@@ -2573,7 +2568,7 @@ TunnelStreamStatusEventCallback
 	
 	void reissue(com.refinitiv.ema.access.ReqMsg reqMsg, long handle)
 	{
-		Item<T> item = _itemMap.get(_longObjHolder.value(handle));
+		Item<T> item = _itemMap.get(handle);
 		if (item == null || item._closedStatusClient != null)
 		{
 			StringBuilder temp = _baseImpl.strBuilder();
@@ -2594,14 +2589,14 @@ TunnelStreamStatusEventCallback
 
 	void unregister(long handle)
 	{
-		Item<T> item = _itemMap.get(_longObjHolder.value(handle));
+		Item<T> item = _itemMap.get(handle);
 		if (item != null)
 			item.close();
 	}
 	
 	void submit(com.refinitiv.ema.access.RefreshMsg refreshMsg, long handle)
 	{
-		Item<T> found = _itemMap.get(_longObjHolder.value(handle));
+		Item<T> found = _itemMap.get(handle);
 		if ( found == null )
 		{
 			StringBuilder temp = _baseImpl.strBuilder();
@@ -2622,7 +2617,7 @@ TunnelStreamStatusEventCallback
 	
 	void submit(com.refinitiv.ema.access.UpdateMsg updateMsg, long handle)
 	{
-		Item<T> found = _itemMap.get(_longObjHolder.value(handle));
+		Item<T> found = _itemMap.get(handle);
 		if ( found == null )
 		{
 			StringBuilder temp = _baseImpl.strBuilder();
@@ -2643,7 +2638,7 @@ TunnelStreamStatusEventCallback
 	
 	void submit(com.refinitiv.ema.access.StatusMsg statusMsg, long handle)
 	{
-		Item<T> found = _itemMap.get(_longObjHolder.value(handle));
+		Item<T> found = _itemMap.get(handle);
 		if ( found == null )
 		{
 			StringBuilder temp = _baseImpl.strBuilder();
@@ -2664,7 +2659,7 @@ TunnelStreamStatusEventCallback
 
 	void submit(com.refinitiv.ema.access.PostMsg postMsg, long handle)
 	{
-		Item<T> found = _itemMap.get(_longObjHolder.value(handle));
+		Item<T> found = _itemMap.get(handle);
 		if ( found == null )
 		{
 			StringBuilder temp = _baseImpl.strBuilder();
@@ -2685,7 +2680,7 @@ TunnelStreamStatusEventCallback
 
 	void submit(com.refinitiv.ema.access.GenericMsg genericMsg, long handle)
 	{
-		Item<T> found = _itemMap.get(_longObjHolder.value(handle));
+		Item<T> found = _itemMap.get(handle);
 		if ( found == null )
 		{
 			StringBuilder temp = _baseImpl.strBuilder();
@@ -2706,16 +2701,15 @@ TunnelStreamStatusEventCallback
 
 	long addToMap(long itemId, Item<T> item)
 	{
-		LongObject itemIdObj = _baseImpl.objManager().createLongObject().value(itemId);
-		IntObject streamIdObj = _baseImpl.objManager().createIntObject().value(item._streamId);
-		item.itemId(itemIdObj, streamIdObj);
-		_itemMap.put(itemIdObj, item);
-		_streamIdMap.put(streamIdObj, item);
+		item.itemId(itemId, item._streamId);
+		_itemMap.put(itemId, item);
+		_streamIdMap.put(item._streamId, item);
+		itemAdded(itemId);
 		
 		if (_baseImpl.loggerClient().isTraceEnabled())
 		{
 			StringBuilder temp = _baseImpl.strBuilder();
-			temp.append("Added Item ").append(itemId).append(" of StreamId ").append(streamIdObj.value()).append(" to item map" ).append( OmmLoggerClient.CR )
+			temp.append("Added Item ").append(itemId).append(" of StreamId ").append(item._streamId).append(" to item map" ).append( OmmLoggerClient.CR )
 			.append( "Instance name " ).append( _baseImpl .instanceName() );
 			
 			_baseImpl.loggerClient().trace(_baseImpl.formatLogMessage(ItemCallbackClient.CLIENT_NAME, temp.toString(), Severity.TRACE));
@@ -2726,9 +2720,9 @@ TunnelStreamStatusEventCallback
 	
 	long addToItemMap(long itemId, Item<T> item)
 	{
-		LongObject itemIdObj = _baseImpl.objManager().createLongObject().value(itemId);
-		item.itemId(itemIdObj, null);
-		_itemMap.put(itemIdObj, item);
+		item.itemId(itemId);
+		_itemMap.put(itemId, item);
+		itemAdded(itemId);
 		
 		if (_baseImpl.loggerClient().isTraceEnabled())
 		{
@@ -2744,7 +2738,28 @@ TunnelStreamStatusEventCallback
 	
 	Item<T> getItem(long handle)
 	{
-		return _itemMap.get(_longObjHolder.value(handle));
+		return _itemMap.get(handle);
+	}
+	
+	/* Set when the consumer is a shard of shardedConsumer, which routes the handles of the items in the item map to it */
+	void shardedConsumer(ShardedOmmConsumerImpl shardedConsumer, OmmConsumerImpl shard)
+	{
+		_shardedConsumer = shardedConsumer;
+		_shard = shard;
+	}
+	
+	/* Called under the user lock after an item is added to the item map */
+	void itemAdded(long handle)
+	{
+		if (_shardedConsumer != null)
+			_shardedConsumer.itemAdded(_shard, handle);
+	}
+	
+	/* Called under the user lock after an item is removed from the item map */
+	void itemRemoved(long handle)
+	{
+		if (_shardedConsumer != null)
+			_shardedConsumer.itemRemoved(handle);
 	}
 	
 	void removeFromMap(Item<T> item, boolean returnToPool)
@@ -2752,8 +2767,8 @@ TunnelStreamStatusEventCallback
 		if (_baseImpl.loggerClient().isTraceEnabled())
 		{
 			StringBuilder temp = _baseImpl.strBuilder();
-			if (item.streamIdObj() != null)
-				temp.append("Removed Item ").append(item._itemId).append(" of StreamId ").append(item.streamIdObj().value()).append(" from item map" ).append( OmmLoggerClient.CR )
+			if (item._inStreamIdMap)
+				temp.append("Removed Item ").append(item._itemId).append(" of StreamId ").append(item._mappedStreamId).append(" from item map" ).append( OmmLoggerClient.CR )
 			.append( "Instance name " ).append( _baseImpl .instanceName() );
 			else
 				temp.append("Removed Item ").append(item._itemId).append(" from item map" ).append( OmmLoggerClient.CR )
@@ -2762,14 +2777,15 @@ TunnelStreamStatusEventCallback
 			_baseImpl.loggerClient().trace(_baseImpl.formatLogMessage(ItemCallbackClient.CLIENT_NAME, temp.toString(), Severity.TRACE));
 		}
 
-		if(item.itemIdObj() != null)
+		if(item._inItemMap)
 		{
-			_itemMap.remove(item.itemIdObj());
+			_itemMap.remove(item._itemId);
+			itemRemoved(item._itemId);
 		}
 
-		if(item.streamIdObj() != null)
+		if(item._inStreamIdMap)
 		{
-			_streamIdMap.remove(item.streamIdObj());
+			_streamIdMap.remove(item._mappedStreamId);
 		}
 
 		if(returnToPool)
@@ -2780,7 +2796,7 @@ TunnelStreamStatusEventCallback
 
 	boolean isStreamIdInUse(int nextStreamId)
 	{
-		return (_streamIdMap.containsKey(_intObjHolder.value(nextStreamId)));
+		return (_streamIdMap.containsKey(nextStreamId));
 	}
 	
 	int nextStreamId(int numOfItem)
@@ -2847,10 +2863,18 @@ class ItemCallbackClientConsumer extends ItemCallbackClient<OmmConsumerClient>
 {
 	private static final String CLIENT_NAME = "ItemCallbackClientConsumer";
 	
+	private ItemCallbackExecutor _callbackExecutor;
+	
 	ItemCallbackClientConsumer(OmmBaseImpl<OmmConsumerClient> baseImpl) {
 		super(baseImpl);
 	}
 	
+	ItemCallbackClientConsumer(OmmBaseImpl<OmmConsumerClient> baseImpl, ItemCallbackExecutor callbackExecutor) {
+		super(baseImpl);
+		
+		_callbackExecutor = callbackExecutor;
+	}
+	
 	@Override
 	void notifyOnAllMsg(com.refinitiv.ema.access.Msg msg)
 	{
@@ -2862,6 +2886,11 @@ class ItemCallbackClientConsumer extends ItemCallbackClient<OmmConsumerClient>
 				_baseImpl.loggerClient().error(_baseImpl.formatLogMessage(CLIENT_NAME, tempErr.toString(), Severity.WARNING));
 			return;
 		}
+		if (_callbackExecutor != null)
+		{
+			_callbackExecutor.submit(ItemCallbackExecutor.CallbackType.ALL_MSG, _eventImpl._item.client(), (MsgImpl)msg, _eventImpl);
+			return;
+		}
 		_eventImpl._item.client().onAllMsg(msg, _eventImpl);
 	}
 	
@@ -2876,6 +2905,11 @@ class ItemCallbackClientConsumer extends ItemCallbackClient<OmmConsumerClient>
 				_baseImpl.loggerClient().error(_baseImpl.formatLogMessage(CLIENT_NAME, tempErr.toString(), Severity.WARNING));
 			return;
 		}
+		if (_callbackExecutor != null)
+		{
+			_callbackExecutor.submit(ItemCallbackExecutor.CallbackType.REFRESH_MSG, _eventImpl._item.client(), _refreshMsg, _eventImpl);
+			return;
+		}
 		_eventImpl._item.client().onRefreshMsg(_refreshMsg, _eventImpl);
 	}
 	
@@ -2890,6 +2924,11 @@ class ItemCallbackClientConsumer extends ItemCallbackClient<OmmConsumerClient>
 				_baseImpl.loggerClient().error(_baseImpl.formatLogMessage(CLIENT_NAME, tempErr.toString(), Severity.WARNING));
 			return;
 		}
+		if (_callbackExecutor != null)
+		{
+			_callbackExecutor.submit(ItemCallbackExecutor.CallbackType.UPDATE_MSG, _eventImpl._item.client(), _updateMsg, _eventImpl);
+			return;
+		}
 		_eventImpl._item.client().onUpdateMsg(_updateMsg, _eventImpl);
 	}
 	
@@ -2904,6 +2943,11 @@ class ItemCallbackClientConsumer extends ItemCallbackClient<OmmConsumerClient>
 				_baseImpl.loggerClient().error(_baseImpl.formatLogMessage(CLIENT_NAME, tempErr.toString(), Severity.WARNING));
 			return;
 		}
+		if (_callbackExecutor != null)
+		{
+			_callbackExecutor.submit(ItemCallbackExecutor.CallbackType.STATUS_MSG, _eventImpl._item.client(), _statusMsg, _eventImpl);
+			return;
+		}
 		_eventImpl._item.client().onStatusMsg(_statusMsg, _eventImpl);
 	}
 	
@@ -2918,6 +2962,11 @@ class ItemCallbackClientConsumer extends ItemCallbackClient<OmmConsumerClient>
 				_baseImpl.loggerClient().error(_baseImpl.formatLogMessage(CLIENT_NAME, tempErr.toString(), Severity.WARNING));
 			return;
 		}
+		if (_callbackExecutor != null)
+		{
+			_callbackExecutor.submit(ItemCallbackExecutor.CallbackType.GENERIC_MSG, _eventImpl._item.client(), _genericMsg, _eventImpl);
+			return;
+		}
 		_eventImpl._item.client().onGenericMsg(_genericMsg, _eventImpl);
 	} 
 	
@@ -2932,6 +2981,11 @@ class ItemCallbackClientConsumer extends ItemCallbackClient<OmmConsumerClient>
 				_baseImpl.loggerClient().error(_baseImpl.formatLogMessage(CLIENT_NAME, tempErr.toString(), Severity.WARNING));
 			return;
 		}
+		if (_callbackExecutor != null)
+		{
+			_callbackExecutor.submit(ItemCallbackExecutor.CallbackType.ACK_MSG, _eventImpl._item.client(), _ackMsg, _eventImpl);
+			return;
+		}
 		_eventImpl._item.client().onAckMsg(_ackMsg, _eventImpl);
 	}
 }
@@ -3001,8 +3055,9 @@ abstract class Item<T> extends VaNode
 	T						_client;
 	long 					_itemId;
 	boolean					_assignedItemId;
-	LongObject _itemIdObj;
-	IntObject _streamIdObj;
+	boolean					_inItemMap;
+	boolean					_inStreamIdMap;
+	int						_mappedStreamId;
 	ClosedStatusClient<T>	_closedStatusClient;
 
 	Item() {}
@@ -3031,17 +3086,25 @@ abstract class Item<T> extends VaNode
 		return _parent;
 	}
 	
-	void itemId(LongObject itemIdObj, IntObject streamIdObj)
+	void itemId(long itemId)
+	{
+		_itemId = itemId;
+		_inItemMap = true;
+		_inStreamIdMap = false;
+	}
+	
+	void itemId(long itemId, int streamId)
 	{
-		_itemId = itemIdObj.value();
-		_itemIdObj = itemIdObj;
-		_streamIdObj = streamIdObj;
+		_itemId = itemId;
+		_inItemMap = true;
+		_mappedStreamId = streamId;
+		_inStreamIdMap = true;
 	}
 	
 	void backToPool()
 	{
-		if (_itemIdObj != null) _itemIdObj.returnToPool();
-		if (_streamIdObj != null) _streamIdObj.returnToPool();
+		_inItemMap = false;
+		_inStreamIdMap = false;
 	
 		_closure = null;
 		_parent = null;
@@ -3057,14 +3120,10 @@ abstract class Item<T> extends VaNode
 		return _itemId;
 	}
 	
-	LongObject itemIdObj()
+	/* The sorted field ids of interest in the payload of this item, or null for all fields. */
+	int[] fieldIdFilter()
 	{
-		return _itemIdObj;
-	}
-	
-	IntObject streamIdObj()
-	{
-		return _streamIdObj;
+		return null;
 	}
 	
 	void reset(T client, Object closure, Item<T> parent)
@@ -3126,6 +3185,7 @@ class SingleItem<T> extends Item<T>
 	protected boolean _retrytosameChannel = false;
 	protected OpenSuspectClient<T> _openSuspectClient;
 	String _itemName = "";
+	int[] _fieldIdFilter;
 	
 	/* The following is used to handle the closed status message from provider. */
 	HashSet<Directory<T>> _itemClosedDirHash; /* This keep a list of Directory objects which sends item closed status for this item */
@@ -3179,6 +3239,8 @@ class SingleItem<T> extends Item<T>
 		
 		_itemName = "";
 		
+		_fieldIdFilter = null;
+		
 		_requestMsg = null;
 		
 		_serviceName = null;
@@ -3218,6 +3280,12 @@ class SingleItem<T> extends Item<T>
 	{
 		return ItemType.SINGLE_ITEM;
 	}
+	
+	@Override
+	int[] fieldIdFilter()
+	{
+		return _fieldIdFilter;
+	}
 
 	@SuppressWarnings("unchecked")
 	@Override
@@ -3228,6 +3296,8 @@ class SingleItem<T> extends Item<T>
 		LoginRefresh loginRefreshMsg = null;
 		RequestMsg rsslRequestMsg = ((ReqMsgImpl)reqMsg).rsslMsg();
 		SessionDirectory<T> sessionDirectory = null;
+		
+		_fieldIdFilter = ((ReqMsgImpl)reqMsg).sortedFieldIdFilter();
 
 		if (reqMsg.hasServiceName())
 		{	
@@ -3590,6 +3660,10 @@ class SingleItem<T> extends Item<T>
 	@Override
 	boolean modify(com.refinitiv.ema.access.ReqMsg reqMsg)
 	{
+		/* A reissue without a field id filter keeps the filter of the item. */
+		if (((ReqMsgImpl) reqMsg).sortedFieldIdFilter() != null)
+			_fieldIdFilter = ((ReqMsgImpl) reqMsg).sortedFieldIdFilter();
+		
 		return rsslSubmit(((ReqMsgImpl) reqMsg).rsslMsg(), true);
 	}
 
@@ -4918,6 +4992,8 @@ abstract class IProviderSingleItem extends Item<OmmProviderClient> implements Pr
 			{
 				_reqTimeoutEvent.cancel();
 			}
+			// a canceled event goes back to the pool and may be handed out again
+			_reqTimeoutEvent = null;
 		}
 	}
 	
@@ -4959,6 +5035,10 @@ class BatchItem<T> extends SingleItem<T>
 	@Override
 	boolean open(com.refinitiv.ema.access.ReqMsg reqMsg)
 	{
+		int[] fieldIdFilter = ((ReqMsgImpl)reqMsg).sortedFieldIdFilter();
+		for (SingleItem<T> item : _singleItemList)
+			item._fieldIdFilter = fieldIdFilter;
+		
 		return super.open(reqMsg);
 	}
 	
@@ -5048,6 +5128,8 @@ class BatchItem<T> extends SingleItem<T>
 		else
 			item.reset(_baseImpl, _client, 0, this);
 		
+		item._fieldIdFilter = _fieldIdFilter;
+		
 		return item;
 	}
 	
@@ -0,0 +1,378 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.refinitiv.ema.access.DataType.DataTypes;
+import com.refinitiv.ema.access.OmmLoggerClient.Severity;
+
+/* Hands OmmConsumerClient callbacks off from the dispatching thread to an application supplied Executor.
+ * Items are spread over a fixed number of item groups by handle. Each group runs its callbacks one at a
+ * time and in arrival order, so callbacks of one item are never reordered or run concurrently, while
+ * callbacks of items in different groups run in parallel.
+ * Messages are copied into pooled messages before the hand-off, as the dispatching thread reuses its
+ * messages for the next event. The number of queued callbacks is bounded: once it reaches the limit,
+ * the dispatching thread stops reading from the reactor until the backlog drains (see awaitCapacity()). */
+class ItemCallbackExecutor
+{
+	private static final String CLIENT_NAME = "ItemCallbackExecutor";
+
+	static final int DEFAULT_ITEM_GROUPS = 64;
+	static final int DEFAULT_MAX_PENDING_CALLBACKS = 10000;
+
+	/* Number of callbacks a group runs before it gives its executor thread back. */
+	static final int GROUP_BATCH_SIZE = 64;
+
+	static final int COPY_BUFFER_INIT_SIZE = 1024;
+
+	static final class CallbackType
+	{
+		final static int ALL_MSG = 0;
+		final static int REFRESH_MSG = 1;
+		final static int UPDATE_MSG = 2;
+		final static int STATUS_MSG = 3;
+		final static int GENERIC_MSG = 4;
+		final static int ACK_MSG = 5;
+	}
+
+	/* Event handed to the callback. It keeps its own copy of the item details, as the item may be
+	 * closed or reused by the time the callback runs. */
+	static final class ItemCallbackEvent extends OmmEventImpl<OmmConsumerClient>
+	{
+		long _parentHandle;
+
+		ItemCallbackEvent(OmmBaseImpl<OmmConsumerClient> baseImpl)
+		{
+			super(baseImpl);
+			_handle = new LongObject();
+		}
+
+		void set(OmmEventImpl<OmmConsumerClient> event)
+		{
+			_handle.value(event.handle());
+			_closure = event.closure();
+			_parentHandle = event.parentHandle();
+			_channel = event._channel;
+		}
+
+		void clear()
+		{
+			_closure = null;
+			_channel = null;
+			_channelInfo = null;
+		}
+
+		@Override
+		public long parentHandle()
+		{
+			return _parentHandle;
+		}
+	}
+
+	final class CallbackTask
+	{
+		int _type;
+		OmmConsumerClient _client;
+		MsgImpl _msg;
+		ItemCallbackEvent _event = new ItemCallbackEvent(_baseImpl);
+
+		void run()
+		{
+			switch (_type)
+			{
+			case CallbackType.ALL_MSG:
+				_client.onAllMsg(_msg, _event);
+				break;
+			case CallbackType.REFRESH_MSG:
+				_client.onRefreshMsg((RefreshMsg)_msg, _event);
+				break;
+			case CallbackType.UPDATE_MSG:
+				_client.onUpdateMsg((UpdateMsg)_msg, _event);
+				break;
+			case CallbackType.STATUS_MSG:
+				_client.onStatusMsg((StatusMsg)_msg, _event);
+				break;
+			case CallbackType.GENERIC_MSG:
+				_client.onGenericMsg((GenericMsg)_msg, _event);
+				break;
+			case CallbackType.ACK_MSG:
+				_client.onAckMsg((AckMsg)_msg, _event);
+				break;
+			default:
+				break;
+			}
+		}
+	}
+
+	/* Runs the callbacks of its items one at a time on the executor. At most one run of a group
+	 * is scheduled at any time. */
+	final class ItemGroup implements Runnable
+	{
+		final ConcurrentLinkedQueue<CallbackTask> _tasks = new ConcurrentLinkedQueue<CallbackTask>();
+		final AtomicBoolean _scheduled = new AtomicBoolean();
+
+		void add(CallbackTask task)
+		{
+			_tasks.add(task);
+			if (_scheduled.compareAndSet(false, true))
+				schedule(this);
+		}
+
+		@Override
+		public void run()
+		{
+			CallbackTask task;
+			int count = 0;
+			while (count++ < GROUP_BATCH_SIZE && (task = _tasks.poll()) != null)
+			{
+				callbackStarted();
+				try
+				{
+					if (!_closed)
+						task.run();
+				}
+				catch (RuntimeException exception)
+				{
+					logCallbackException(task, exception);
+				}
+				finally
+				{
+					returnTask(task);
+				}
+			}
+
+			_scheduled.set(false);
+
+			/* Reschedule when callbacks are left after the batch, or were added after the last poll
+			 * by a writer that still saw this group as scheduled. */
+			if (!_tasks.isEmpty() && _scheduled.compareAndSet(false, true))
+				schedule(this);
+		}
+	}
+
+	private final OmmBaseImpl<OmmConsumerClient> _baseImpl;
+	private final Executor _executor;
+	private final ItemGroup[] _groups;
+	private final int _maxPendingCallbacks;
+	private final AtomicInteger _pendingCallbacks = new AtomicInteger();
+	private final Object _capacityLock = new Object();
+	private volatile boolean _closed;
+
+	private final ConcurrentLinkedQueue<CallbackTask> _taskPool = new ConcurrentLinkedQueue<CallbackTask>();
+	private final ConcurrentLinkedQueue<RefreshMsgImpl> _refreshMsgPool = new ConcurrentLinkedQueue<RefreshMsgImpl>();
+	private final ConcurrentLinkedQueue<UpdateMsgImpl> _updateMsgPool = new ConcurrentLinkedQueue<UpdateMsgImpl>();
+	private final ConcurrentLinkedQueue<StatusMsgImpl> _statusMsgPool = new ConcurrentLinkedQueue<StatusMsgImpl>();
+	private final ConcurrentLinkedQueue<GenericMsgImpl> _genericMsgPool = new ConcurrentLinkedQueue<GenericMsgImpl>();
+	private final ConcurrentLinkedQueue<AckMsgImpl> _ackMsgPool = new ConcurrentLinkedQueue<AckMsgImpl>();
+
+	ItemCallbackExecutor(OmmBaseImpl<OmmConsumerClient> baseImpl, Executor executor, int itemGroups, int maxPendingCallbacks)
+	{
+		_baseImpl = baseImpl;
+		_executor = executor;
+		_groups = new ItemGroup[itemGroups > 0 ? itemGroups : DEFAULT_ITEM_GROUPS];
+		for (int i = 0; i < _groups.length; ++i)
+			_groups[i] = new ItemGroup();
+		_maxPendingCallbacks = maxPendingCallbacks > 0 ? maxPendingCallbacks : DEFAULT_MAX_PENDING_CALLBACKS;
+	}
+
+	/* Copies msg and queues the callback to the group of the event's item. Called on the dispatching thread. */
+	void submit(int type, OmmConsumerClient client, MsgImpl msg, OmmEventImpl<OmmConsumerClient> event)
+	{
+		CallbackTask task = _taskPool.poll();
+		if (task == null)
+			task = new CallbackTask();
+
+		task._type = type;
+		task._client = client;
+		task._msg = copyMsg(msg);
+		task._event.set(event);
+
+		// the copy is decoded again, so it needs the field id filter of the item
+		if (event._item != null && (msg.dataType() == DataTypes.REFRESH_MSG || msg.dataType() == DataTypes.UPDATE_MSG))
+			task._msg.payloadFieldIdFilter(event._item.fieldIdFilter());
+
+		_pendingCallbacks.incrementAndGet();
+		_groups[groupIndex(task._event.handle())].add(task);
+	}
+
+	int groupIndex(long handle)
+	{
+		int hash = (int)(handle ^ (handle >>> 32));
+		return (hash & 0x7FFFFFFF) % _groups.length;
+	}
+
+	/* Blocks the dispatching thread while the number of queued callbacks is at the limit and returns
+	 * whether it had to wait. It must be called without the user lock held, as callbacks may call back
+	 * into the OmmConsumer. */
+	boolean awaitCapacity()
+	{
+		if (_pendingCallbacks.get() < _maxPendingCallbacks)
+			return false;
+
+		synchronized (_capacityLock)
+		{
+			while (!_closed && _pendingCallbacks.get() >= _maxPendingCallbacks)
+			{
+				try
+				{
+					_capacityLock.wait(10);
+				}
+				catch (InterruptedException e)
+				{
+					Thread.currentThread().interrupt();
+					return true;
+				}
+			}
+		}
+
+		return true;
+	}
+
+	int pendingCallbacks()
+	{
+		return _pendingCallbacks.get();
+	}
+
+	/* Drops callbacks that have not started yet and releases a dispatching thread waiting for capacity. */
+	void close()
+	{
+		_closed = true;
+		synchronized (_capacityLock)
+		{
+			_capacityLock.notifyAll();
+		}
+	}
+
+	void schedule(ItemGroup group)
+	{
+		try
+		{
+			_executor.execute(group);
+		}
+		catch (RuntimeException exception)
+		{
+			/* The executor is shut down or saturated; run the group here rather than lose its callbacks. */
+			if (_baseImpl.loggerClient().isWarnEnabled())
+			{
+				StringBuilder temp = new StringBuilder();
+				temp.append("Callback executor rejected a task; running the callbacks on the dispatching thread. Reason='")
+					.append(exception.getMessage()).append("'.");
+				_baseImpl.loggerClient().warn(_baseImpl.formatLogMessage(CLIENT_NAME, temp.toString(), Severity.WARNING));
+			}
+			group.run();
+		}
+	}
+
+	void callbackStarted()
+	{
+		/* Counted as started before the callback runs, so a callback that calls dispatch() does not
+		 * wait for itself. */
+		if (_pendingCallbacks.decrementAndGet() == _maxPendingCallbacks - 1)
+		{
+			synchronized (_capacityLock)
+			{
+				_capacityLock.notifyAll();
+			}
+		}
+	}
+
+	void logCallbackException(CallbackTask task, RuntimeException exception)
+	{
+		if (_baseImpl.loggerClient().isErrorEnabled())
+		{
+			StringBuilder temp = new StringBuilder();
+			temp.append("Exception thrown by OmmConsumerClient callback for handle ")
+				.append(task._event.handle()).append(". Exception='").append(exception).append("'.");
+			_baseImpl.loggerClient().error(_baseImpl.formatLogMessage(CLIENT_NAME, temp.toString(), Severity.ERROR));
+		}
+	}
+
+	MsgImpl copyMsg(MsgImpl msg)
+	{
+		switch (msg.dataType())
+		{
+		case DataTypes.REFRESH_MSG:
+		{
+			RefreshMsgImpl copy = _refreshMsgPool.poll();
+			if (copy == null)
+				copy = new RefreshMsgImpl(COPY_BUFFER_INIT_SIZE);
+			((RefreshMsgImpl)msg).copy(copy);
+			return copy;
+		}
+		case DataTypes.UPDATE_MSG:
+		{
+			UpdateMsgImpl copy = _updateMsgPool.poll();
+			if (copy == null)
+				copy = new UpdateMsgImpl(COPY_BUFFER_INIT_SIZE);
+			((UpdateMsgImpl)msg).copy(copy);
+			return copy;
+		}
+		case DataTypes.STATUS_MSG:
+		{
+			StatusMsgImpl copy = _statusMsgPool.poll();
+			if (copy == null)
+				copy = new StatusMsgImpl(COPY_BUFFER_INIT_SIZE);
+			((StatusMsgImpl)msg).copy(copy);
+			return copy;
+		}
+		case DataTypes.GENERIC_MSG:
+		{
+			GenericMsgImpl copy = _genericMsgPool.poll();
+			if (copy == null)
+				copy = new GenericMsgImpl(COPY_BUFFER_INIT_SIZE);
+			((GenericMsgImpl)msg).copy(copy);
+			return copy;
+		}
+		case DataTypes.ACK_MSG:
+		{
+			AckMsgImpl copy = _ackMsgPool.poll();
+			if (copy == null)
+				copy = new AckMsgImpl(COPY_BUFFER_INIT_SIZE);
+			((AckMsgImpl)msg).copy(copy);
+			return copy;
+		}
+		default:
+			return msg;
+		}
+	}
+
+	void returnTask(CallbackTask task)
+	{
+		MsgImpl msg = task._msg;
+		switch (msg.dataType())
+		{
+		case DataTypes.REFRESH_MSG:
+			_refreshMsgPool.add((RefreshMsgImpl)((RefreshMsgImpl)msg).clear());
+			break;
+		case DataTypes.UPDATE_MSG:
+			_updateMsgPool.add((UpdateMsgImpl)((UpdateMsgImpl)msg).clear());
+			break;
+		case DataTypes.STATUS_MSG:
+			_statusMsgPool.add((StatusMsgImpl)((StatusMsgImpl)msg).clear());
+			break;
+		case DataTypes.GENERIC_MSG:
+			_genericMsgPool.add((GenericMsgImpl)((GenericMsgImpl)msg).clear());
+			break;
+		case DataTypes.ACK_MSG:
+			_ackMsgPool.add((AckMsgImpl)((AckMsgImpl)msg).clear());
+			break;
+		default:
+			break;
+		}
+
+		task._msg = null;
+		task._client = null;
+		task._event.clear();
+		_taskPool.add(task);
+	}
+}
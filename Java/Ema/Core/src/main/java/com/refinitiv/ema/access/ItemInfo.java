@@ -24,8 +24,9 @@ class ItemInfo extends VaNode
     private LongObject _handle;
     private	LongObject _streamId;
     private MsgKey _msgKey;
-    private boolean _sentRefresh;
+    private volatile boolean _sentRefresh;
     private java.util.Map<Long, Integer> _postIdsCount;
+    private Buffer _nameKey;
     
     class ItemInfoFlags
     {
@@ -175,6 +176,17 @@ class ItemInfo extends VaNode
     {
     	_sentRefresh = true;
     }
+
+    /* The key of the name index entry of OmmServerBaseImpl that holds this item, or null. */
+    Buffer nameKey()
+    {
+        return _nameKey;
+    }
+
+    void nameKey(Buffer nameKey)
+    {
+        _nameKey = nameKey;
+    }
     
     public void addPostId(long postId){
         if(_postIdsCount == null){
@@ -263,6 +275,7 @@ class ItemInfo extends VaNode
         _streamId.clear();
         _domainType = 0;
         _msgKey.clear();
+        _nameKey = null;
         if(_postIdsCount != null) {
             _postIdsCount.clear();
         }
@@ -275,6 +288,7 @@ class ItemInfo extends VaNode
         }
         
         _clientSession = null;
+        _nameKey = null;
         
         super.returnToPool();
     }
@@ -48,6 +48,7 @@ public class JUnitTestConnect
 	public static final int ClientSessionCountHint  = ConfigManager.ClientSessionCountHint;
 	public static final int ClientSessionPoolLimit  = ConfigManager.ClientSessionPoolLimit;
 	public static final int DispatchTimeoutApiThread  = ConfigManager.DispatchTimeoutApiThread; 
+	public static final int DispatchMode = ConfigManager.DispatchMode;
 	public static final int MaxDispatchCountApiThread  = ConfigManager.MaxDispatchCountApiThread; 
 	public static final int MaxDispatchCountUserThread  = ConfigManager.MaxDispatchCountUserThread; 
 	public static final int RequestTimeout  = ConfigManager.RequestTimeout; 
@@ -1662,6 +1663,8 @@ public class JUnitTestConnect
 				return activeConfig.maxOutstandingPosts;
 			else if (configParam == DispatchTimeoutApiThread)
 				return activeConfig.dispatchTimeoutApiThread;
+			else if (configParam == DispatchMode)
+				return activeConfig.dispatchMode;
 			else if (configParam == MaxDispatchCountUserThread)
 				return activeConfig.maxDispatchCountUserThread;
 			else if (configParam == MaxDispatchCountApiThread)
@@ -2101,6 +2104,8 @@ public class JUnitTestConnect
 				return activeConfig.requestTimeout;
 			else if (configParam == DispatchTimeoutApiThread)
 				return activeConfig.dispatchTimeoutApiThread;
+			else if (configParam == DispatchMode)
+				return activeConfig.dispatchMode;
 			else if (configParam == MaxDispatchCountUserThread)
 				return activeConfig.maxDispatchCountUserThread;
 			else if (configParam == MaxDispatchCountApiThread)
@@ -0,0 +1,211 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+import java.util.Arrays;
+
+/* Open addressing hash table keyed by a primitive long. Keys and values are kept in
+ * parallel arrays with linear probing, so entries do not need a node object. Removed
+ * slots are marked deleted and reclaimed on the next resize. Not thread safe. */
+class LongObjectHashMap<V> implements LongObjectMap<V>
+{
+	static final int DEFAULT_CAPACITY = 16;
+	static final int NONE = -1;
+
+	/* Marks a slot whose entry was removed, so probing continues past it. */
+	static final Object DELETED = new Object();
+
+	private long[] _keys;
+	private Object[] _values; // null for a free slot, DELETED for a removed entry
+	private int _size;
+	private int _used; // live plus deleted slots
+	private int _mask;
+
+	LongObjectHashMap()
+	{
+		this(DEFAULT_CAPACITY);
+	}
+
+	/* Creates a table that holds expectedSize entries without resizing. */
+	LongObjectHashMap(int expectedSize)
+	{
+		allocate(tableSizeFor(expectedSize));
+	}
+
+	/* Keeps the load factor at or below one half. */
+	static int tableSizeFor(int expectedSize)
+	{
+		int capacity = DEFAULT_CAPACITY;
+		while (capacity < (1 << 30) && capacity < expectedSize * 2)
+		{
+			capacity <<= 1;
+		}
+		return capacity;
+	}
+
+	static int hash(long key)
+	{
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int)(h ^ (h >>> 32));
+	}
+
+	private void allocate(int capacity)
+	{
+		_keys = new long[capacity];
+		_values = new Object[capacity];
+		_mask = capacity - 1;
+		_size = 0;
+		_used = 0;
+	}
+
+	/* Returns the slot of key, or NONE if the key is not in the table. */
+	private int indexOf(long key)
+	{
+		int index = hash(key) & _mask;
+		Object value;
+		while ((value = _values[index]) != null)
+		{
+			if (value != DELETED && _keys[index] == key)
+			{
+				return index;
+			}
+			index = (index + 1) & _mask;
+		}
+		return NONE;
+	}
+
+	@Override
+	public int size()
+	{
+		return _size;
+	}
+
+	@Override
+	public boolean containsKey(long key)
+	{
+		return indexOf(key) != NONE;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public V get(long key)
+	{
+		int index = indexOf(key);
+		return index != NONE ? (V)_values[index] : null;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public V put(long key, V value)
+	{
+		assert (value != null);
+		int index = hash(key) & _mask;
+		int deletedIndex = NONE;
+		Object current;
+		while ((current = _values[index]) != null)
+		{
+			if (current == DELETED)
+			{
+				if (deletedIndex == NONE)
+				{
+					deletedIndex = index;
+				}
+			}
+			else if (_keys[index] == key)
+			{
+				_values[index] = value;
+				return (V)current;
+			}
+			index = (index + 1) & _mask;
+		}
+
+		if (deletedIndex != NONE)
+		{
+			index = deletedIndex;
+		}
+		else
+		{
+			if ((_used + 1) * 2 > _values.length)
+			{
+				resize();
+				insertNew(key, value);
+				return null;
+			}
+			_used++;
+		}
+
+		_keys[index] = key;
+		_values[index] = value;
+		_size++;
+		return null;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public V remove(long key)
+	{
+		int index = indexOf(key);
+		if (index == NONE)
+		{
+			return null;
+		}
+		V value = (V)_values[index];
+		_values[index] = DELETED;
+		_size--;
+		return value;
+	}
+
+	@Override
+	public void clear()
+	{
+		if (_used == 0)
+		{
+			return;
+		}
+		Arrays.fill(_values, null);
+		_size = 0;
+		_used = 0;
+	}
+
+	/* Rebuilds the table for one more entry, dropping deleted slots and
+	 * doubling the capacity only when live entries need it. */
+	private void resize()
+	{
+		long[] keys = _keys;
+		Object[] values = _values;
+		int capacity = tableSizeFor(_size + 1);
+		if (capacity < values.length)
+		{
+			capacity = values.length;
+		}
+
+		allocate(capacity);
+		for (int index = 0; index < values.length; index++)
+		{
+			if (values[index] != null && values[index] != DELETED)
+			{
+				insertNew(keys[index], values[index]);
+			}
+		}
+	}
+
+	/* Inserts a key known not to be present into a table without deleted slots. */
+	private void insertNew(long key, Object value)
+	{
+		int index = hash(key) & _mask;
+		while (_values[index] != null)
+		{
+			index = (index + 1) & _mask;
+		}
+		_keys[index] = key;
+		_values[index] = value;
+		_size++;
+		_used++;
+	}
+}
@@ -0,0 +1,28 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+/* Map keyed by a primitive long (item handle) or int (stream id), so that lookups
+ * do not need a key object. Values must not be null. */
+interface LongObjectMap<V>
+{
+	V get(long key);
+
+	/* Adds or replaces the value for key. Returns the previous value, or null if there was none. */
+	V put(long key, V value);
+
+	/* Removes key. Returns its value, or null if the key is not in the map. */
+	V remove(long key);
+
+	boolean containsKey(long key);
+
+	int size();
+
+	void clear();
+}
@@ -0,0 +1,108 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/* An object pool shared by all threads without a lock.
+ * Each thread keeps a magazine of the objects it has released, and takes from and returns to it
+ * without synchronization. A thread whose magazine is empty refills half of it from a lock-free
+ * depot shared by all threads, and a thread whose magazine is full moves half of it to the depot. */
+final class MagazinePool<T>
+{
+	final static int MAGAZINE_SIZE = 32;
+
+	private final static class Magazine
+	{
+		final Object[] _objects = new Object[MAGAZINE_SIZE];
+		int _count;
+	}
+
+	private final Supplier<T> _factory;
+	private final ConcurrentLinkedQueue<T> _depot = new ConcurrentLinkedQueue<>();
+	private final ThreadLocal<Magazine> _magazine = ThreadLocal.withInitial(Magazine::new);
+	private final LongAdder _hits = new LongAdder();
+	private final LongAdder _misses = new LongAdder();
+
+	/* factory creates an object when the pool is empty */
+	MagazinePool(Supplier<T> factory)
+	{
+		_factory = factory;
+	}
+
+	/* Adds an object to the depot. */
+	void add(T object)
+	{
+		_depot.add(object);
+	}
+
+	/* Returns a pooled object, or a new object if the pool is empty. */
+	@SuppressWarnings("unchecked")
+	T get()
+	{
+		Magazine magazine = _magazine.get();
+		if (magazine._count == 0 && refill(magazine) == 0)
+		{
+			_misses.increment();
+			return _factory.get();
+		}
+
+		_hits.increment();
+		T object = (T)magazine._objects[--magazine._count];
+		magazine._objects[magazine._count] = null;
+		return object;
+	}
+
+	/* Returns an object to the pool of the calling thread. */
+	void release(T object)
+	{
+		Magazine magazine = _magazine.get();
+		if (magazine._count == MAGAZINE_SIZE)
+			flush(magazine);
+
+		magazine._objects[magazine._count++] = object;
+	}
+
+	long hitCount()
+	{
+		return _hits.sum();
+	}
+
+	long missCount()
+	{
+		return _misses.sum();
+	}
+
+	/* The number of objects in the depot, excluding the magazines of the threads. */
+	int depotSize()
+	{
+		return _depot.size();
+	}
+
+	private int refill(Magazine magazine)
+	{
+		T object;
+		while (magazine._count < MAGAZINE_SIZE / 2 && (object = _depot.poll()) != null)
+			magazine._objects[magazine._count++] = object;
+
+		return magazine._count;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void flush(Magazine magazine)
+	{
+		while (magazine._count > MAGAZINE_SIZE / 2)
+		{
+			_depot.add((T)magazine._objects[--magazine._count]);
+			magazine._objects[magazine._count] = null;
+		}
+	}
+}
@@ -361,6 +361,13 @@ class MsgImpl extends DataImpl implements Msg
 		return _payloadDecoded;
 	}
 	
+	/* Restricts a FieldList payload to the sorted field ids, until the message is decoded again. */
+	void payloadFieldIdFilter(int[] sortedFieldIds)
+	{
+		if (sortedFieldIds != null && _payloadDecoded instanceof FieldListImpl)
+			((FieldListImpl)_payloadDecoded).sortedFieldIdFilter(sortedFieldIds);
+	}
+	
 	void msgServiceName(String serviceName)
 	{
 		if (serviceName == null)
@@ -2,7 +2,7 @@
  *|            This source code is provided under the Apache 2.0 license
  *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
  *|                See the project's LICENSE.md for details.
- *|           Copyright (C) 2020,2024 LSEG. All rights reserved.
+ *|           Copyright (C) 2020,2024-2025 LSEG. All rights reserved.
  *|-----------------------------------------------------------------------------
  */
 
@@ -50,10 +50,8 @@ class OmmArrayEntryImpl extends EntryImpl implements OmmArrayEntry
 	{
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.INT )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getInt();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.INT;
 		}
@@ -69,10 +67,8 @@ class OmmArrayEntryImpl extends EntryImpl implements OmmArrayEntry
 	{
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.UINT )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getUInt();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.UINT;
 		}
@@ -89,10 +85,8 @@ class OmmArrayEntryImpl extends EntryImpl implements OmmArrayEntry
 	{
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.UINT )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getUInt();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.UINT;
 		}
@@ -109,10 +103,8 @@ class OmmArrayEntryImpl extends EntryImpl implements OmmArrayEntry
 	{
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.REAL )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getReal();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.REAL;
 		}
@@ -142,10 +134,8 @@ class OmmArrayEntryImpl extends EntryImpl implements OmmArrayEntry
 	{
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.REAL )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getReal();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.REAL;
 		}
@@ -169,10 +159,8 @@ class OmmArrayEntryImpl extends EntryImpl implements OmmArrayEntry
 	{
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.FLOAT )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getFloat();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.FLOAT;
 		}
@@ -189,10 +177,8 @@ class OmmArrayEntryImpl extends EntryImpl implements OmmArrayEntry
 	{
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.DOUBLE )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getDouble();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.DOUBLE;
 		}
@@ -307,10 +293,8 @@ class OmmArrayEntryImpl extends EntryImpl implements OmmArrayEntry
 	{
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.QOS )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getQos();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.QOS;
 		}
@@ -355,10 +339,8 @@ class OmmArrayEntryImpl extends EntryImpl implements OmmArrayEntry
 	{
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.ENUM )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getEnum();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.ENUM; 
 		}
@@ -384,10 +366,8 @@ class OmmArrayEntryImpl extends EntryImpl implements OmmArrayEntry
 		
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.BUFFER )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getBuffer();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.BUFFER;
 		}
@@ -407,10 +387,8 @@ class OmmArrayEntryImpl extends EntryImpl implements OmmArrayEntry
 		
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.BUFFER )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getBuffer();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.BUFFER;
 		}
@@ -430,10 +408,8 @@ class OmmArrayEntryImpl extends EntryImpl implements OmmArrayEntry
 		
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.BUFFER )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getBuffer();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.BUFFER;
 		}
@@ -453,10 +429,8 @@ class OmmArrayEntryImpl extends EntryImpl implements OmmArrayEntry
 		
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.BUFFER )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getBuffer();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.BUFFER;
 		}
@@ -476,10 +450,8 @@ class OmmArrayEntryImpl extends EntryImpl implements OmmArrayEntry
 		
 		if ( _previousEncodingType != com.refinitiv.eta.codec.DataTypes.BUFFER )
 		{
-			GlobalPool.lock();
 			GlobalPool.returnPool(_previousEncodingType, _entryData);
 			_entryData = GlobalPool.getBuffer();
-			GlobalPool.unlock();
 			
 			_previousEncodingType = com.refinitiv.eta.codec.DataTypes.BUFFER;
 		}
@@ -2,7 +2,7 @@
  *|            This source code is provided under the Apache 2.0 license
  *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
  *|                See the project's LICENSE.md for details.
- *|           Copyright (C) 2020,2022-2024 LSEG. All rights reserved.
+ *|           Copyright (C) 2020,2022-2025 LSEG. All rights reserved.
  *|-----------------------------------------------------------------------------
  */
 
@@ -156,14 +156,12 @@ class OmmArrayImpl extends CollectionDataImpl implements OmmArray
 			if (collectionSize > 0)
 			{
 				OmmArrayEntryImpl arrayEntryImpl;
-				GlobalPool.lock();
 				for (int index = 0; index < collectionSize; ++index)
 				{
 					arrayEntryImpl = (OmmArrayEntryImpl)_ommArrayCollection.get(index);
 					GlobalPool.returnPool(arrayEntryImpl._previousEncodingType, arrayEntryImpl._entryData);
 					arrayEntryImpl._previousEncodingType = com.refinitiv.eta.codec.DataTypes.UNKNOWN;
 				}
-				GlobalPool.unlock();
 		
 				_ommArrayCollection.clear();
 			}
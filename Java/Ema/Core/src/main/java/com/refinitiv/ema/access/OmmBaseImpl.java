@@ -18,7 +18,6 @@ import java.nio.channels.Selector;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -35,6 +34,7 @@ import com.refinitiv.ema.access.ConfigManager.ConfigAttributes;
 import com.refinitiv.ema.access.ConfigManager.ConfigElement;
 import com.refinitiv.ema.access.OmmConsumer.DispatchReturn;
 import com.refinitiv.ema.access.OmmConsumer.DispatchTimeout;
+import com.refinitiv.ema.access.OmmConsumerConfig.DispatchMode;
 import com.refinitiv.ema.access.OmmConsumerConfig.OperationModel;
 import com.refinitiv.ema.access.OmmLoggerClient.Severity;
 import com.refinitiv.ema.access.ProgrammaticConfigure.InstanceEntryFlag;
@@ -184,8 +184,11 @@ abstract class OmmBaseImpl<T> implements OmmCommonImpl, Runnable, TimeoutClient,
 	private Selector _selector;
 	private ExecutorService _executor;
 	private volatile boolean _threadRunning = false;
+	private long _busySpinIdleCount;		// API thread polls in DispatchMode.BUSY_SPIN that found no events
+	private long _busySpinDispatchCount;	// API thread polls in DispatchMode.BUSY_SPIN that dispatched events
+	private boolean _readBufferedMessages;	// channels may hold messages read from their sockets but not dispatched yet
 	protected boolean _eventTimeout;
-	protected ConcurrentLinkedQueue<TimeoutEvent> _timeoutEventQueue = new ConcurrentLinkedQueue<TimeoutEvent>();
+	protected TimeoutEventQueue _timeoutEventQueue = new TimeoutEventQueue();
 	protected EmaObjectManager _objManager = new EmaObjectManager();
 	private Pipe _pipe;
 	private AtomicLong _pipeWriteCount = new AtomicLong();
@@ -226,9 +229,7 @@ abstract class OmmBaseImpl<T> implements OmmCommonImpl, Runnable, TimeoutClient,
 		{
 			_objManager.initialize(EmaObjectManager.DATA_POOL_INITIAL_SIZE);
 			
-			GlobalPool.lock();
 			GlobalPool.initialize();
-			GlobalPool.unlock();
 			
 			_userLock.lock();
 			
@@ -380,7 +381,12 @@ abstract class OmmBaseImpl<T> implements OmmCommonImpl, Runnable, TimeoutClient,
 				_threadRunning = true;
 
 				if (_executor == null)
-					_executor = Executors.newSingleThreadExecutor();
+				{
+					if (config.dispatchThreadFactory() != null)
+						_executor = Executors.newSingleThreadExecutor(config.dispatchThreadFactory());
+					else
+						_executor = Executors.newSingleThreadExecutor();
+				}
 
 				_executor.execute(this);
 			}
@@ -426,9 +432,7 @@ abstract class OmmBaseImpl<T> implements OmmCommonImpl, Runnable, TimeoutClient,
 		{
 			_objManager.initialize(EmaObjectManager.DATA_POOL_INITIAL_SIZE);
 			
-			GlobalPool.lock();
 			GlobalPool.initialize();
-			GlobalPool.unlock();
 			
 			_userLock.lock();
 			
@@ -478,6 +482,15 @@ abstract class OmmBaseImpl<T> implements OmmCommonImpl, Runnable, TimeoutClient,
 					}
 				}			
 				_userLock.lock();
+
+				if (_activeConfig.dispatchMode == DispatchMode.BUSY_SPIN && _loggerClient.isInfoEnabled())
+				{
+					long totalCount = _busySpinIdleCount + _busySpinDispatchCount;
+					strBuilder().append("API thread busy spin statistics: idle polls ").append(_busySpinIdleCount)
+						.append(", dispatching polls ").append(_busySpinDispatchCount)
+						.append(", idle ratio ").append(totalCount > 0 ? (_busySpinIdleCount * 100 / totalCount) : 0).append("%.");
+					_loggerClient.info(formatLogMessage(_activeConfig.instanceName, _strBuilder.toString(), Severity.INFO));
+				}
 			}
 			else
 			{
@@ -487,6 +500,10 @@ abstract class OmmBaseImpl<T> implements OmmCommonImpl, Runnable, TimeoutClient,
 				_selector.wakeup();
 			}
 
+			/* Releases a dictionary shared with other instances, also when initialization failed. */
+			if (_dictionaryCallbackClient != null)
+				_dictionaryCallbackClient.uninitialize();
+
 			if (ommImplState() == OmmImplState.NOT_INITIALIZED)
 				return;
 
@@ -774,7 +791,7 @@ abstract class OmmBaseImpl<T> implements OmmCommonImpl, Runnable, TimeoutClient,
 		
 	}
 
-	ConcurrentLinkedQueue<TimeoutEvent> timerEventQueue()
+	TimeoutEventQueue timerEventQueue()
 	{
 		return _timeoutEventQueue;
 	}
@@ -885,6 +902,13 @@ abstract class OmmBaseImpl<T> implements OmmCommonImpl, Runnable, TimeoutClient,
 				if (value >= 0)
 					_activeConfig.dispatchTimeoutApiThread = value;
 			}
+
+			if ((ce = attributes.getPrimitiveValue(ConfigManager.DispatchMode)) != null)
+			{
+				value = ce.intLongValue();
+				if (value == OmmConsumerConfig.DispatchMode.SELECT || value == OmmConsumerConfig.DispatchMode.BUSY_SPIN)
+					_activeConfig.dispatchMode = value;
+			}
 			
 			if ((ce = attributes.getPrimitiveValue(ConfigManager.MaxDispatchCountApiThread)) != null)
 			{
@@ -2090,6 +2114,13 @@ abstract class OmmBaseImpl<T> implements OmmCommonImpl, Runnable, TimeoutClient,
 	}
 	
 	boolean rsslReactorDispatchLoop(long timeOut, int count)
+	{
+		return rsslReactorDispatchLoop(timeOut, count, false);
+	}
+
+	/* With busySpin set, polls the selector with selectNow() until timeOut expires instead of
+	 * waiting in select(), trading a CPU core for the latency of selector wakeups. */
+	boolean rsslReactorDispatchLoop(long timeOut, int count, boolean busySpin)
 	{
 		if (ommImplState() == OmmImplState.NOT_INITIALIZED)
 		{
@@ -2117,7 +2148,7 @@ abstract class OmmBaseImpl<T> implements OmmCommonImpl, Runnable, TimeoutClient,
 		long endTime = 0;
 		
 		timeOut = timeOut*1000;
-		long userTimeout = TimeoutEvent.userTimeOutExist(_timeoutEventQueue);
+		long userTimeout = _timeoutEventQueue.userTimeOutExist();
 		boolean userTimeoutExist = false;
 		if (userTimeout >= 0)
 		{
@@ -2144,7 +2175,7 @@ abstract class OmmBaseImpl<T> implements OmmCommonImpl, Runnable, TimeoutClient,
 					if ( timeOut <=0 )
 					{
 						if (userTimeoutExist)
-							TimeoutEvent.execute(_timeoutEventQueue);
+							_timeoutEventQueue.execute();
 					}
 				}
 
@@ -2157,18 +2188,51 @@ abstract class OmmBaseImpl<T> implements OmmCommonImpl, Runnable, TimeoutClient,
 			{
 				startTime = endTime;
 				
-				int selectTimeout = (int)(timeOut/MIN_TIME_FOR_SELECT); 
-				int selectCount = _selector.select(selectTimeout > 0 ? selectTimeout : MIN_TIME_FOR_SELECT_IN_MILLISEC);
-				if (selectCount > 0 || !_selector.selectedKeys().isEmpty())
+				int selectCount;
+				if (_readBufferedMessages)
+				{
+					selectCount = _selector.selectNow();
+				}
+				else if (busySpin)
+				{
+					selectCount = _selector.selectNow();
+					if (selectCount > 0 || !_selector.selectedKeys().isEmpty())
+						_busySpinDispatchCount++;
+					else
+						_busySpinIdleCount++;
+				}
+				else
+				{
+					int selectTimeout = (int)(timeOut/MIN_TIME_FOR_SELECT); 
+					selectCount = _selector.select(selectTimeout > 0 ? selectTimeout : MIN_TIME_FOR_SELECT_IN_MILLISEC);
+				}
+				if (selectCount > 0 || !_selector.selectedKeys().isEmpty() || _readBufferedMessages)
 				{
 					if(_selector.selectedKeys().contains(_pipeSelectKey))
 					{
 						pipeRead();
 					}
 
+					if (awaitCallbackCapacity())
+						_readBufferedMessages = true;
+
 					_userLock.lock();
 					try {
-						ret = _rsslReactor.dispatchAll(_selector.selectedKeys(), _rsslDispatchOptions, _rsslErrorInfo);
+						/* A dispatch that stopped at the maximum count, or a wait for callback capacity while the peer filled
+						 * the socket, leaves messages in the channels that no new bytes wake the selector for. The last read
+						 * returns a positive value while its channel holds more, and the channels are read round robin until
+						 * they are drained. */
+						if (_readBufferedMessages && _selector.selectedKeys().isEmpty())
+						{
+							ret = _rsslReactor.dispatchAll(null, _rsslDispatchOptions, _rsslErrorInfo);
+							_readBufferedMessages = ret > ReactorReturnCodes.SUCCESS;
+						}
+						else
+						{
+							ret = _rsslReactor.dispatchAll(_selector.selectedKeys(), _rsslDispatchOptions, _rsslErrorInfo);
+							if (ret > ReactorReturnCodes.SUCCESS || _rsslDispatchOptions.readArgs().readRetVal() > 0)
+								_readBufferedMessages = true;
+						}
 					} finally {
 						if (_userLock.isHeldByCurrentThread())	// Check in case failure during dispatch unlocks this lock
 						{
@@ -2200,13 +2264,13 @@ abstract class OmmBaseImpl<T> implements OmmCommonImpl, Runnable, TimeoutClient,
 					
 					if (_eventReceived) return true;
 
-					TimeoutEvent.execute(_timeoutEventQueue);
+					_timeoutEventQueue.execute();
 
 					if (_eventReceived) return true;
 				} //selectCount > 0
 				else if (selectCount == 0)
 				{
-					TimeoutEvent.execute(_timeoutEventQueue);
+					_timeoutEventQueue.execute();
 						
 					if ( _eventReceived ) return true;
 				}
@@ -2336,8 +2400,9 @@ abstract class OmmBaseImpl<T> implements OmmCommonImpl, Runnable, TimeoutClient,
 	@Override
 	public void run() 
 	{
+		boolean busySpin = _activeConfig.dispatchMode == DispatchMode.BUSY_SPIN;
 		while (_threadRunning)
-			rsslReactorDispatchLoop(_activeConfig.dispatchTimeoutApiThread, _activeConfig.maxDispatchCountApiThread);
+			rsslReactorDispatchLoop(_activeConfig.dispatchTimeoutApiThread, _activeConfig.maxDispatchCountApiThread, busySpin);
 	}
 	
 	@Override
@@ -2519,6 +2584,12 @@ abstract class OmmBaseImpl<T> implements OmmCommonImpl, Runnable, TimeoutClient,
 	void setActiveRsslReactorChannel(ChannelInfo activeChannelInfo) {}
 	
 	void unsetActiveRsslReactorChannel(ChannelInfo cancelChannelInfo) {}
+
+	/* Waits while callbacks handed off to a callback executor are at their limit. Called without the user lock held. */
+	boolean awaitCallbackCapacity()
+	{
+		return false;
+	}
 	
 	protected void modifyIOCtl(int code, int value, ReactorChannel reactorChannel)
 	{
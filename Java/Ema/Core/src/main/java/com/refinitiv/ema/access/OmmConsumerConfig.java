@@ -8,6 +8,9 @@
 
 package com.refinitiv.ema.access;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+
 import com.refinitiv.ema.rdm.DataDictionary;
 
 /**
@@ -51,6 +54,24 @@ public interface OmmConsumerConfig
 		public static final int API_DISPATCH = 1;
 	}
 
+	/**
+	 * Specifies how the API thread waits for events when the operation model is
+	 * {@link OperationModel#API_DISPATCH}. Set with the DispatchMode configuration parameter.
+	 */
+	public static class DispatchMode
+	{
+		/**
+		 * specifies the API thread waits on its selector for up to DispatchTimeoutApiThread
+		 */
+		public static final int SELECT = 0;
+
+		/**
+		 * specifies the API thread polls its selector without waiting, using a full CPU core
+		 * to avoid the latency of selector wakeups
+		 */
+		public static final int BUSY_SPIN = 1;
+	}
+
 	/**
 	 * Clears the OmmConsumerConfig and sets all the defaults.
 	 * Invoking clear() method clears all the values and resets all the defaults.
@@ -232,6 +253,60 @@ public interface OmmConsumerConfig
 	 */
 	public OmmConsumerConfig operationModel(int operationModel);
 
+	/**
+	 * Specifies the thread factory used to create the API thread when the operation model
+	 * is {@link OperationModel#API_DISPATCH}, for example to name the thread, set its priority
+	 * or pin it to a CPU core. By default the API thread is created by a default thread factory.
+	 * 
+	 * @param threadFactory specifies the factory for the API thread, or null for the default
+	 * @return reference to this object
+	 */
+	public OmmConsumerConfig dispatchThreadFactory(ThreadFactory threadFactory);
+
+	/**
+	 * Specifies an executor that runs the OmmConsumerClient callbacks of items instead of the
+	 * thread that dispatches the events.<br>
+	 * Messages are copied before they are handed off, so the callbacks may keep working on them
+	 * while the next events are dispatched. Callbacks of the same item handle run one at a time
+	 * and in order; callbacks of different items may run concurrently on the executor threads.
+	 * A virtual thread per task executor, where available, is a good fit.<br>
+	 * By default callbacks run on the dispatching thread.
+	 * 
+	 * @param executor specifies the executor for item callbacks, or null to run them on the dispatching thread
+	 * @return reference to this object
+	 */
+	public OmmConsumerConfig callbackExecutor(Executor executor);
+
+	/**
+	 * Specifies an executor that runs the OmmConsumerClient callbacks of items, see {@link #callbackExecutor(Executor)}.<br>
+	 * Items are spread over itemGroups groups by handle and each group runs its callbacks one at a time.
+	 * Once maxPendingCallbacks callbacks are queued, the dispatching thread stops reading new events
+	 * until the callbacks catch up.
+	 * 
+	 * @param executor specifies the executor for item callbacks, or null to run them on the dispatching thread
+	 * @param itemGroups specifies the number of item groups that may run callbacks concurrently. Default is 64.
+	 * @param maxPendingCallbacks specifies the number of queued callbacks at which dispatching pauses. Default is 10000.
+	 * @return reference to this object
+	 * @throws OmmInvalidUsageException if itemGroups or maxPendingCallbacks is not greater than zero
+	 */
+	public OmmConsumerConfig callbackExecutor(Executor executor, int itemGroups, int maxPendingCallbacks);
+
+	/**
+	 * Specifies the number of shards the created OmmConsumer spreads its items over.<br>
+	 * Each shard is an internal consumer with its own Reactor, channel(s), login and, with
+	 * {@link OperationModel#API_DISPATCH}, its own API thread, so the items are dispatched on several cores.
+	 * Items are assigned to a shard by a hash of their service and item names. Requests of the
+	 * login, directory and dictionary domains go to the first shard, requests without an item name
+	 * such as batch requests are spread round robin, and sub-streams go to the shard of their tunnel stream.
+	 * Handles returned by the OmmConsumer are unique across all shards.<br>
+	 * By default there is one shard, which is the same as a plain OmmConsumer.
+	 * 
+	 * @param shardCount specifies the number of shards, from 1 to 64
+	 * @return reference to this object
+	 * @throws OmmInvalidUsageException if shardCount is out of range
+	 */
+	public OmmConsumerConfig reactorShardCount(int shardCount);
+
 	/**
 	 * Create an OmmConsumer with consumer name.<br>
 	 * The OmmConsumer enables functionality that includes
@@ -11,6 +11,8 @@ package com.refinitiv.ema.access;
 
 import java.util.Map;
 import java.util.HashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
 
 import com.refinitiv.ema.access.OmmLoggerClient.Severity;
 import com.refinitiv.ema.access.ProgrammaticConfigure.InstanceEntryFlag;
@@ -19,6 +21,11 @@ import com.refinitiv.ema.rdm.DataDictionary;
 class OmmConsumerConfigImpl extends EmaConfigImpl implements OmmConsumerConfig
 {
 	private int 				_operationModel;
+	private ThreadFactory		_dispatchThreadFactory;
+	private Executor			_callbackExecutor;
+	private int					_callbackItemGroups;
+	private int					_maxPendingCallbacks;
+	private int					_reactorShardCount;
 	private DataDictionary 		dataDictionary;
 	private Map<String, ServiceListImpl> 	_serviceListMap;
 	
@@ -43,6 +50,11 @@ class OmmConsumerConfigImpl extends EmaConfigImpl implements OmmConsumerConfig
 	{
 		clearInt();
 		_operationModel = OperationModel.API_DISPATCH;
+		_dispatchThreadFactory = null;
+		_callbackExecutor = null;
+		_callbackItemGroups = ItemCallbackExecutor.DEFAULT_ITEM_GROUPS;
+		_maxPendingCallbacks = ItemCallbackExecutor.DEFAULT_MAX_PENDING_CALLBACKS;
+		_reactorShardCount = 1;
 		dataDictionary = null;
 		return this;
 	}
@@ -203,6 +215,48 @@ class OmmConsumerConfigImpl extends EmaConfigImpl implements OmmConsumerConfig
 		return this;
 	}
 
+	@Override
+	public OmmConsumerConfig dispatchThreadFactory(ThreadFactory threadFactory)
+	{
+		_dispatchThreadFactory = threadFactory;
+		return this;
+	}
+
+	@Override
+	public OmmConsumerConfig callbackExecutor(Executor executor)
+	{
+		_callbackExecutor = executor;
+		return this;
+	}
+
+	@Override
+	public OmmConsumerConfig callbackExecutor(Executor executor, int itemGroups, int maxPendingCallbacks)
+	{
+		if (itemGroups <= 0 || maxPendingCallbacks <= 0)
+		{
+			String temp = "Invalid itemGroups or maxPendingCallbacks for callbackExecutor(). Both must be greater than zero.";
+			throw ommIUExcept().message(temp, OmmInvalidUsageException.ErrorCode.INVALID_ARGUMENT);
+		}
+
+		_callbackExecutor = executor;
+		_callbackItemGroups = itemGroups;
+		_maxPendingCallbacks = maxPendingCallbacks;
+		return this;
+	}
+
+	@Override
+	public OmmConsumerConfig reactorShardCount(int shardCount)
+	{
+		if (shardCount < 1 || shardCount > ShardedOmmConsumerImpl.MAX_SHARD_COUNT)
+		{
+			String temp = "Invalid shardCount for reactorShardCount(). It must be from 1 to " + ShardedOmmConsumerImpl.MAX_SHARD_COUNT + ".";
+			throw ommIUExcept().message(temp, OmmInvalidUsageException.ErrorCode.INVALID_ARGUMENT);
+		}
+
+		_reactorShardCount = shardCount;
+		return this;
+	}
+
 	@Override
 	public OmmConsumerConfig consumerName(String consumerName)
 	{
@@ -280,6 +334,32 @@ class OmmConsumerConfigImpl extends EmaConfigImpl implements OmmConsumerConfig
 	{
 		return _operationModel;
 	}
+
+	@Override
+	ThreadFactory dispatchThreadFactory()
+	{
+		return _dispatchThreadFactory;
+	}
+
+	Executor callbackExecutor()
+	{
+		return _callbackExecutor;
+	}
+
+	int reactorShardCount()
+	{
+		return _reactorShardCount;
+	}
+
+	int callbackItemGroups()
+	{
+		return _callbackItemGroups;
+	}
+
+	int maxPendingCallbacks()
+	{
+		return _maxPendingCallbacks;
+	}
 	
 	@Override
 	String configuredName()
@@ -39,6 +39,7 @@ class OmmConsumerImpl extends OmmBaseImpl<OmmConsumerClient> implements OmmConsu
 	private OmmOAuth2ConsumerClient _OAuthConsumerClient = null;
 	private final ConsumerSessionInfo sessionInfo = new ConsumerSessionInfo();
 	private final ReactorJsonConverterOptions jsonConverterOptions = ReactorFactory.createReactorJsonConverterOptions();
+	private ItemCallbackExecutor	_itemCallbackExecutor;
 
 	OmmConsumerImpl(OmmConsumerConfig config)
 	{
@@ -245,9 +246,23 @@ class OmmConsumerImpl extends OmmBaseImpl<OmmConsumerClient> implements OmmConsu
 	@Override
 	public void uninitialize()
 	{
+		if (_itemCallbackExecutor != null)
+			_itemCallbackExecutor.close();
+
 		super.uninitialize();
 	}
 
+	@Override
+	boolean awaitCallbackCapacity()
+	{
+		return _itemCallbackExecutor != null && _itemCallbackExecutor.awaitCapacity();
+	}
+
+	ItemCallbackExecutor itemCallbackExecutor()
+	{
+		return _itemCallbackExecutor;
+	}
+
 	@Override
 	public String consumerName()
 	{
@@ -613,7 +628,12 @@ class OmmConsumerImpl extends OmmBaseImpl<OmmConsumerClient> implements OmmConsu
 		_directoryCallbackClient = new DirectoryCallbackClientConsumer(this);
 		_directoryCallbackClient.initialize();
 
-		_itemCallbackClient = new ItemCallbackClientConsumer(this);
+		OmmConsumerConfigImpl consumerConfig = (OmmConsumerConfigImpl)config;
+		if (consumerConfig.callbackExecutor() != null)
+			_itemCallbackExecutor = new ItemCallbackExecutor(this, consumerConfig.callbackExecutor(),
+					consumerConfig.callbackItemGroups(), consumerConfig.maxPendingCallbacks());
+
+		_itemCallbackClient = new ItemCallbackClientConsumer(this, _itemCallbackExecutor);
 		_itemCallbackClient.initialize();
 
 
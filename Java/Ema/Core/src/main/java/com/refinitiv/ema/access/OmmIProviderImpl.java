@@ -8,6 +8,8 @@
 
 package com.refinitiv.ema.access;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.slf4j.Logger;
@@ -16,11 +18,16 @@ import org.slf4j.LoggerFactory;
 import com.refinitiv.ema.access.ConfigManager.ConfigAttributes;
 import com.refinitiv.ema.access.ConfigManager.ConfigElement;
 import com.refinitiv.ema.access.OmmLoggerClient.Severity;
+import com.refinitiv.ema.access.DirectoryServiceStore.ServiceIdInteger;
 import com.refinitiv.ema.access.ServiceIdConverter.ServiceIdConversionError;
 import com.refinitiv.ema.rdm.EmaRdm;
 import com.refinitiv.eta.codec.AckMsgFlags;
 import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.Codec;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
 import com.refinitiv.eta.codec.DataStates;
+import com.refinitiv.eta.codec.EncodeIterator;
 import com.refinitiv.eta.codec.Msg;
 import com.refinitiv.eta.codec.MsgClasses;
 import com.refinitiv.eta.codec.State;
@@ -31,6 +38,7 @@ import com.refinitiv.eta.transport.Channel;
 import com.refinitiv.eta.transport.ChannelInfo;
 import com.refinitiv.eta.transport.ComponentInfo;
 import com.refinitiv.eta.transport.Error;
+import com.refinitiv.eta.transport.TransportBuffer;
 import com.refinitiv.eta.transport.TransportFactory;
 import com.refinitiv.eta.transport.TransportReturnCodes;
 import com.refinitiv.eta.valueadd.domainrep.rdm.MsgBase;
@@ -44,6 +52,8 @@ import com.refinitiv.eta.valueadd.domainrep.rdm.directory.Service.ServiceState;
 import com.refinitiv.eta.valueadd.reactor.ReactorChannel;
 import com.refinitiv.eta.valueadd.reactor.ReactorChannelEvent;
 import com.refinitiv.eta.valueadd.reactor.ReactorChannelEventTypes;
+import com.refinitiv.eta.valueadd.reactor.ReactorErrorInfo;
+import com.refinitiv.eta.valueadd.reactor.ReactorFactory;
 import com.refinitiv.eta.valueadd.reactor.ReactorReturnCodes;
 
 class OmmIProviderImpl extends OmmServerBaseImpl implements OmmProvider, DirectoryServiceStoreClient
@@ -56,6 +66,13 @@ class OmmIProviderImpl extends OmmServerBaseImpl implements OmmProvider, Directo
 	protected EmaObjectManager _objManager = new EmaObjectManager();
 	private ItemWatchList	_itemWatchList;
 	private ServiceIdConverter	_serviceIdConverter;
+	private ArrayList<ItemInfo> _fanoutItemInfoList = new ArrayList<ItemInfo>();
+	private EncodeIterator _fanoutEncodeIter = CodecFactory.createEncodeIterator();
+	private Buffer _fanoutBuffer = CodecFactory.createBuffer();
+	private ByteBuffer _fanoutByteBuffer = ByteBuffer.allocate(FANOUT_BUFFER_SIZE);
+	private int _fanoutMsgLength;
+	private final ThreadLocal<ReactorErrorInfo> _submitErrorInfo = ThreadLocal.withInitial(ReactorFactory::createReactorErrorInfo);	// submits without the user lock
+	private static final int FANOUT_BUFFER_SIZE = 1024;
 	private static final long MIN_LONG_VALUE = 1;
     private static final long MAX_LONG_VALUE = Long.MAX_VALUE;
     
@@ -547,10 +564,18 @@ class OmmIProviderImpl extends OmmServerBaseImpl implements OmmProvider, Directo
 	@Override
 	public void submit(UpdateMsg updateMsg, long handle)
 	{
-		userLock().lock();
-		
 		UpdateMsgImpl updateMsgImpl = (UpdateMsgImpl)updateMsg;
 		
+		/* Updates of item streams without a service to convert only need the client session */
+		if ( handle != 0 && updateMsgImpl.domainType() > EmaRdm.MMT_DICTIONARY
+				&& !updateMsgImpl.hasServiceName() && !updateMsgImpl.hasServiceId() )
+		{
+			submitOnClientSession(updateMsgImpl, handle);
+			return;
+		}
+		
+		userLock().lock();
+		
 		ItemInfo itemInfo = getItemInfo(handle);
 		
 		if( itemInfo == null && handle != 0 )
@@ -695,6 +720,287 @@ class OmmIProviderImpl extends OmmServerBaseImpl implements OmmProvider, Directo
 		
 		userLock().unlock();
 	}
+	
+	/* Submits an UpdateMsg taking the user lock only to write it: the item is looked up and checked without
+	 * the lock, then checked again under it. Items are removed under the user lock, so the update cannot reach
+	 * a stream that was closed, or opened again for another item, after the first check. */
+	private void submitOnClientSession(UpdateMsgImpl updateMsgImpl, long handle)
+	{
+		ItemInfo itemInfo = getItemInfo(handle);
+		ClientSession clientSession = itemInfo != null ? itemInfo.clientSession() : null;
+		
+		if ( clientSession == null )
+		{
+			submitOnRemovedItem(handle);
+			return;
+		}
+		
+		if ( _activeConfig.refreshFirstRequired && !itemInfo.isSentRefresh() )
+		{
+			StringBuilder temp = new StringBuilder();
+			temp.append("Attempt to submit UpdateMsg while RefreshMsg was not submitted on this stream yet. Handle = ");
+			temp.append(handle);
+			handleSessionSubmitError(temp.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
+			return;
+		}
+		
+		if (loggerClient().isTraceEnabled())
+		{
+			StringBuilder text = new StringBuilder();
+			text.append("Received UpdateMsg with domain type ")
+			.append(Utilities.rdmDomainAsString(updateMsgImpl.domainType()))
+			.append("; handle = ").append(handle).append(", user assigned streamId = ")
+			.append(updateMsgImpl.streamId()).append(".");
+			
+			loggerClient().trace(formatLogMessage(instanceName(),text.toString(), Severity.TRACE));
+		}
+		
+		ReactorErrorInfo errorInfo = _submitErrorInfo.get();
+		errorInfo.clear();
+		long clientHandle = 0;
+		int ret;
+		
+		userLock().lock();
+		try
+		{
+			/* the ItemInfo is pooled, it may have been removed and reused for another item since the first check */
+			if ( getItemInfo(handle) != itemInfo || itemInfo.clientSession() != clientSession )
+			{
+				clientSession = null;
+				ret = ReactorReturnCodes.SUCCESS;
+			}
+			else
+			{
+				clientHandle = clientSession.clientHandle().value();
+				updateMsgImpl._rsslMsg.streamId((int)itemInfo.streamId().value());
+				ret = clientSession.channel().submit(updateMsgImpl._rsslMsg, _rsslSubmitOptions, errorInfo);
+			}
+		}
+		finally
+		{
+			userLock().unlock();
+		}
+		
+		if ( clientSession == null )
+		{
+			submitOnRemovedItem(handle);
+			return;
+		}
+		
+		if ( ReactorReturnCodes.SUCCESS > ret )
+		{
+			com.refinitiv.eta.transport.Error error = errorInfo.error();
+			
+			if (loggerClient().isErrorEnabled())
+			{
+				StringBuilder temp = new StringBuilder();
+				temp.append("Internal error: rsslChannel.submit() failed in OmmProviderImpl.submit(")
+					.append(DataType.asString(updateMsgImpl.dataType())).append(")").append(OmmLoggerClient.CR)
+					.append("Client handle ").append(clientHandle).append(OmmLoggerClient.CR)
+					.append("Error Id ").append(error.errorId()).append(OmmLoggerClient.CR)
+					.append("Internal sysError ").append(error.sysError()).append(OmmLoggerClient.CR)
+					.append("Error Location ").append(errorInfo.location()).append(OmmLoggerClient.CR)
+					.append("Error Text ").append(error.text());
+				
+				loggerClient().error(formatLogMessage(instanceName() , temp.toString(), Severity.ERROR));
+			}
+			
+			StringBuilder temp = new StringBuilder();
+			temp.append("Failed to submit ")
+				.append(DataType.asString(updateMsgImpl.dataType())).append(". Reason: ")
+				.append(ReactorReturnCodes.toString(ret))
+				.append(". Error text: ")
+				.append(error.text());
+			
+			handleSessionSubmitError(temp.toString(), ret);
+		}
+	}
+	
+	private void submitOnRemovedItem(long handle)
+	{
+		StringBuilder temp = new StringBuilder();
+		temp.append("Attempt to submit UpdateMsg with non existent Handle = ")
+		.append(handle).append(".");
+		handleSessionSubmitError(temp.toString(), OmmInvalidUsageException.ErrorCode.INVALID_ARGUMENT);
+	}
+	
+	/* The exception thrown by handleInvalidUsage() is shared and only safe under the user lock,
+	 * so submits without the user lock throw their own. */
+	private void handleSessionSubmitError(String text, int errorCode)
+	{
+		if ( hasErrorClient() )
+			handleInvalidUsage(text, errorCode);
+		else
+			throw new OmmInvalidUsageExceptionImpl().message(text, errorCode);
+	}
+	
+	@Override
+	public void submit(UpdateMsg updateMsg, long[] handles)
+	{
+		userLock().lock();
+		
+		_fanoutItemInfoList.clear();
+		
+		for( int index = 0; index < handles.length; index++ )
+		{
+			ItemInfo itemInfo = getItemInfo(handles[index]);
+			
+			if( itemInfo == null )
+			{
+				userLock().unlock();
+				StringBuilder temp = strBuilder();
+				temp.append("Attempt to submit UpdateMsg with non existent Handle = ")
+				.append(handles[index]).append(".");
+				handleInvalidUsage(temp.toString(), OmmInvalidUsageException.ErrorCode.INVALID_ARGUMENT);
+				return;
+			}
+			
+			_fanoutItemInfoList.add(itemInfo);
+		}
+		
+		fanout((UpdateMsgImpl)updateMsg);
+	}
+	
+	@Override
+	public void submit(UpdateMsg updateMsg, String serviceName, String name)
+	{
+		userLock().lock();
+		
+		UpdateMsgImpl updateMsgImpl = (UpdateMsgImpl)updateMsg;
+		
+		ServiceIdInteger serviceId = _ommIProviderDirectoryStore.serviceId(serviceName);
+		
+		if( serviceId == null )
+		{
+			userLock().unlock();
+			StringBuilder temp = strBuilder();
+			temp.append("Attempt to fanout UpdateMsg with service name of ").append(serviceName)
+			.append(" that was not included in the SourceDirectory.");
+			handleInvalidUsage(temp.toString(), OmmInvalidUsageException.ErrorCode.INVALID_ARGUMENT);
+			return;
+		}
+		
+		_fanoutItemInfoList.clear();
+		
+		List<ItemInfo> itemInfoList = getItemInfoList(name);
+		
+		if( itemInfoList != null )
+		{
+			for( int index = 0; index < itemInfoList.size(); index++ )
+			{
+				ItemInfo itemInfo = itemInfoList.get(index);
+				
+				if( itemInfo.domainType() == updateMsgImpl.domainType() && itemInfo.msgKey().checkHasServiceId()
+						&& itemInfo.serviceId() == serviceId.value() )
+				{
+					_fanoutItemInfoList.add(itemInfo);
+				}
+			}
+		}
+		
+		fanout(updateMsgImpl);
+	}
+	
+	/* Sends the UpdateMsg on the items of _fanoutItemInfoList, and unlocks the user lock.
+	 * The message is encoded once, then copied to a buffer of each client channel. */
+	private void fanout(UpdateMsgImpl updateMsgImpl)
+	{
+		if ( updateMsgImpl.domainType() == EmaRdm.MMT_LOGIN || updateMsgImpl.domainType() == EmaRdm.MMT_DIRECTORY
+				|| updateMsgImpl.domainType() == EmaRdm.MMT_DICTIONARY )
+		{
+			userLock().unlock();
+			StringBuilder temp = strBuilder();
+			temp.append("Attempt to fanout UpdateMsg with domain type ")
+			.append(Utilities.rdmDomainAsString(updateMsgImpl.domainType())).append(" while this is not supported.");
+			handleInvalidUsage(temp.toString(), OmmInvalidUsageException.ErrorCode.INVALID_ARGUMENT);
+			return;
+		}
+		
+		if ( _fanoutItemInfoList.isEmpty() )
+		{
+			userLock().unlock();
+			return;
+		}
+		
+		if (loggerClient().isTraceEnabled())
+		{
+			StringBuilder text = strBuilder();
+			text.append("Received UpdateMsg with domain type ")
+			.append(Utilities.rdmDomainAsString(updateMsgImpl.domainType()))
+			.append(" to fanout on ").append(_fanoutItemInfoList.size()).append(" handles.");
+			
+			loggerClient().trace(formatLogMessage(instanceName(), text.toString(), Severity.TRACE));
+		}
+		
+		ServiceIdConversionError encodingError =
+				_serviceIdConverter.encodeServiceId(updateMsgImpl, UpdateMsgFlags.HAS_MSG_KEY);
+		if(encodingError != ServiceIdConversionError.NONE){
+			handleServiceIdConversionError(encodingError, updateMsgImpl);
+			return;
+		}
+		
+		int ret;
+		if ( (ret = encodeFanoutMsg(updateMsgImpl)) != CodecReturnCodes.SUCCESS )
+		{
+			userLock().unlock();
+			StringBuilder temp = strBuilder();
+			temp.append("Failed to encode UpdateMsg for fanout. Reason: ")
+			.append(CodecReturnCodes.toString(ret)).append(".");
+			handleInvalidUsage(temp.toString(), OmmInvalidUsageException.ErrorCode.INVALID_ARGUMENT);
+			return;
+		}
+		
+		for( int index = 0; index < _fanoutItemInfoList.size(); index++ )
+		{
+			ItemInfo itemInfo = _fanoutItemInfoList.get(index);
+			
+			if ( _activeConfig.refreshFirstRequired && !itemInfo.isSentRefresh() )
+			{
+				if (loggerClient().isWarnEnabled())
+				{
+					strBuilder().append("Skip sending update message for handle ")
+					.append(itemInfo.handle().value()).append(", client handle ")
+					.append(itemInfo.clientSession().clientHandle().value()).append(" as refresh message is required first.");
+					
+					loggerClient().warn(formatLogMessage(instanceName() , _strBuilder.toString(), Severity.WARNING));
+				}
+				
+				continue;
+			}
+			
+			if ( !submitEncoded(updateMsgImpl, itemInfo) )
+			{
+				return;
+			}
+		}
+		
+		_fanoutItemInfoList.clear();
+		
+		userLock().unlock();
+	}
+	
+	/* Encodes the message once for fanout, growing the encoding buffer as needed. */
+	private int encodeFanoutMsg(MsgImpl msgImpl)
+	{
+		int ret;
+		
+		while (true)
+		{
+			_fanoutByteBuffer.clear();
+			_fanoutBuffer.data(_fanoutByteBuffer, 0, _fanoutByteBuffer.capacity());
+			_fanoutEncodeIter.clear();
+			_fanoutEncodeIter.setBufferAndRWFVersion(_fanoutBuffer, Codec.majorVersion(), Codec.minorVersion());
+			
+			if ( (ret = msgImpl._rsslMsg.encode(_fanoutEncodeIter)) != CodecReturnCodes.BUFFER_TOO_SMALL )
+				break;
+			
+			_fanoutByteBuffer = ByteBuffer.allocate(_fanoutByteBuffer.capacity() * 2);
+		}
+		
+		_fanoutMsgLength = _fanoutByteBuffer.position();
+		
+		return ret;
+	}
 
 	@Override
 	public void submit(StatusMsg statusMsg, long handle)
@@ -1089,36 +1395,78 @@ class OmmIProviderImpl extends OmmServerBaseImpl implements OmmProvider, Directo
 		_rsslErrorInfo.clear();
 		int ret;
 		if (ReactorReturnCodes.SUCCESS > (ret = clientSession.channel().submit(msgImpl._rsslMsg, _rsslSubmitOptions, _rsslErrorInfo)))
-	    {			
-			if (loggerClient().isErrorEnabled())
-        	{
-				com.refinitiv.eta.transport.Error error = _rsslErrorInfo.error();
-				
-	        	strBuilder().append("Internal error: rsslChannel.submit() failed in OmmProviderImpl.submit(")
-	        		.append(DataType.asString(msgImpl.dataType())).append(")").append(OmmLoggerClient.CR)
-	        		.append("Client handle ").append(clientSession.clientHandle().value()).append(OmmLoggerClient.CR)
-	    			.append("Error Id ").append(error.errorId()).append(OmmLoggerClient.CR)
-	    			.append("Internal sysError ").append(error.sysError()).append(OmmLoggerClient.CR)
-	    			.append("Error Location ").append(_rsslErrorInfo.location()).append(OmmLoggerClient.CR)
-	    			.append("Error Text ").append(error.text());
-	        	
-	        	loggerClient().error(formatLogMessage(instanceName() , _strBuilder.toString(), Severity.ERROR));
-        	}
-			
-			userLock().unlock();
-			strBuilder().append("Failed to submit ")
-				.append(DataType.asString(msgImpl.dataType())).append(". Reason: ")
-				.append(ReactorReturnCodes.toString(ret))
-				.append(". Error text: ")
-				.append(_rsslErrorInfo.error().text());
-			
-			handleInvalidUsage(_strBuilder.toString(), ret);
+	    {
+			handleSubmitError(msgImpl, clientSession, ret);
 			return false;
 	    }
 		
 		return true;
 	}
 	
+	/* Encodes the message into a buffer of the channel by copying the message encoded by
+	 * encodeFanoutMsg(), and replacing its stream id. */
+	boolean submitEncoded(MsgImpl msgImpl, ItemInfo itemInfo)
+	{
+		ClientSession clientSession = itemInfo.clientSession();
+		ReactorChannel reactorChannel = clientSession.channel();
+		int streamId = (int)itemInfo.streamId().value();
+		
+		_rsslErrorInfo.clear();
+		TransportBuffer buffer = null;
+		if ( reactorChannel.majorVersion() == Codec.majorVersion() )
+			buffer = reactorChannel.getBuffer(_fanoutMsgLength, false, _rsslErrorInfo);
+		
+		if ( buffer == null )
+		{
+			/* encodes for the channel, and reports a lack of buffers as submit() does */
+			msgImpl._rsslMsg.streamId(streamId);
+			return submit(msgImpl, clientSession);
+		}
+		
+		_fanoutEncodeIter.clear();
+		_fanoutEncodeIter.setBufferAndRWFVersion(buffer, reactorChannel.majorVersion(), reactorChannel.minorVersion());
+		_fanoutByteBuffer.limit(_fanoutMsgLength).position(0);
+		buffer.data().put(_fanoutByteBuffer);
+		_fanoutEncodeIter.replaceStreamId(streamId);
+		
+		int ret;
+		if (ReactorReturnCodes.SUCCESS > (ret = reactorChannel.submit(buffer, _rsslSubmitOptions, _rsslErrorInfo)))
+	    {
+			reactorChannel.releaseBuffer(buffer, _rsslErrorInfo);
+			handleSubmitError(msgImpl, clientSession, ret);
+			return false;
+	    }
+		
+		return true;
+	}
+	
+	private void handleSubmitError(MsgImpl msgImpl, ClientSession clientSession, int ret)
+	{
+		if (loggerClient().isErrorEnabled())
+		{
+			com.refinitiv.eta.transport.Error error = _rsslErrorInfo.error();
+			
+			strBuilder().append("Internal error: rsslChannel.submit() failed in OmmProviderImpl.submit(")
+				.append(DataType.asString(msgImpl.dataType())).append(")").append(OmmLoggerClient.CR)
+				.append("Client handle ").append(clientSession.clientHandle().value()).append(OmmLoggerClient.CR)
+				.append("Error Id ").append(error.errorId()).append(OmmLoggerClient.CR)
+				.append("Internal sysError ").append(error.sysError()).append(OmmLoggerClient.CR)
+				.append("Error Location ").append(_rsslErrorInfo.location()).append(OmmLoggerClient.CR)
+				.append("Error Text ").append(error.text());
+			
+			loggerClient().error(formatLogMessage(instanceName() , _strBuilder.toString(), Severity.ERROR));
+		}
+		
+		userLock().unlock();
+		strBuilder().append("Failed to submit ")
+			.append(DataType.asString(msgImpl.dataType())).append(". Reason: ")
+			.append(ReactorReturnCodes.toString(ret))
+			.append(". Error text: ")
+			.append(_rsslErrorInfo.error().text());
+		
+		handleInvalidUsage(_strBuilder.toString(), ret);
+	}
+	
 	void handleItemGroup(ItemInfo itemInfo, Buffer groupId, State state)
 	{
 		if ( ( groupId.length() < 2 ) || ( groupId.data().get(0) == 0 && groupId.data().get(1) == 0 ) 
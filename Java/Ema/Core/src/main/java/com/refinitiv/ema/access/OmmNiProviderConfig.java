@@ -2,12 +2,14 @@
  *|            This source code is provided under the Apache 2.0 license
  *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
  *|                See the project's LICENSE.md for details.
- *|           Copyright (C) 2020,2023-2024 LSEG. All rights reserved.
+ *|           Copyright (C) 2020,2023-2025 LSEG. All rights reserved.
  *|-----------------------------------------------------------------------------
  */
 
 package com.refinitiv.ema.access;
 
+import java.util.concurrent.ThreadFactory;
+
 /**
  * OmmNiProviderConfig is used to modify configuration and behavior of OmmProvider<br>
  * for non-interactive application.
@@ -56,6 +58,24 @@ public interface OmmNiProviderConfig extends OmmProviderConfig
 		 */
 		public static final int API_DISPATCH = 1;
 	}
+
+	/**
+	 * Specifies how the API thread waits for events when the operation model is
+	 * {@link OperationModel#API_DISPATCH}. Set with the DispatchMode configuration parameter.
+	 */
+	public static class DispatchMode
+	{
+		/**
+		 * specifies the API thread waits on its selector for up to DispatchTimeoutApiThread
+		 */
+		public static final int SELECT = 0;
+
+		/**
+		 * specifies the API thread polls its selector without waiting, using a full CPU core
+		 * to avoid the latency of selector wakeups
+		 */
+		public static final int BUSY_SPIN = 1;
+	}
 	
 	public static class AdminControl
 	{
@@ -170,6 +190,16 @@ public interface OmmNiProviderConfig extends OmmProviderConfig
 	 * @return reference to this object
 	 */
 	public OmmNiProviderConfig operationModel(int operationModel);
+
+	/**
+	 * Specifies the thread factory used to create the API thread when the operation model
+	 * is {@link OperationModel#API_DISPATCH}, for example to name the thread, set its priority
+	 * or pin it to a CPU core. By default the API thread is created by a default thread factory.
+	 * 
+	 * @param threadFactory specifies the factory for the API thread, or null for the default
+	 * @return reference to this object
+	 */
+	public OmmNiProviderConfig dispatchThreadFactory(ThreadFactory threadFactory);
 	
 	/**
 	 * Specifies whether API or user controls sending of Directory<br>
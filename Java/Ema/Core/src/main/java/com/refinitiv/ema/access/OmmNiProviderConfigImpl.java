@@ -8,6 +8,7 @@
 
 package com.refinitiv.ema.access;
 
+import java.util.concurrent.ThreadFactory;
 
 import com.refinitiv.ema.access.OmmLoggerClient.Severity;
 import com.refinitiv.ema.access.ProgrammaticConfigure.InstanceEntryFlag;
@@ -15,6 +16,7 @@ import com.refinitiv.ema.access.ProgrammaticConfigure.InstanceEntryFlag;
 class OmmNiProviderConfigImpl extends EmaConfigImpl implements OmmNiProviderConfig
 {
 	private int 					_operationModel;
+	private ThreadFactory			_dispatchThreadFactory;
 	private int                     _adminControlDirectory;
 	
 	OmmNiProviderConfigImpl()
@@ -37,6 +39,7 @@ class OmmNiProviderConfigImpl extends EmaConfigImpl implements OmmNiProviderConf
 	public OmmNiProviderConfig clear() {
 		clearInt();
 		_operationModel = OperationModel.API_DISPATCH;
+		_dispatchThreadFactory = null;
 		_adminControlDirectory = AdminControl.API_CONTROL;
 		return this;
 	}
@@ -117,6 +120,12 @@ class OmmNiProviderConfigImpl extends EmaConfigImpl implements OmmNiProviderConf
 		return this;
 	}
 
+	@Override
+	public OmmNiProviderConfig dispatchThreadFactory(ThreadFactory threadFactory) {
+		_dispatchThreadFactory = threadFactory;
+		return this;
+	}
+
 	@Override
 	public OmmNiProviderConfig adminControlDirectory(int control) {
 		_adminControlDirectory = control;
@@ -190,6 +199,12 @@ class OmmNiProviderConfigImpl extends EmaConfigImpl implements OmmNiProviderConf
 	{
 		return _operationModel;
 	}
+
+	@Override
+	ThreadFactory dispatchThreadFactory()
+	{
+		return _dispatchThreadFactory;
+	}
 	
 	int adminControlDirectory()
 	{
@@ -2930,6 +2930,20 @@ class OmmNiProviderImpl extends OmmBaseImpl<OmmProviderClient> implements OmmPro
 		}
 	}
 
+	@Override
+	public void submit(UpdateMsg updateMsg, long[] handles) {
+		StringBuilder temp = strBuilder();
+		temp.append("NIProvider applications do not support the fanout submit method");
+		handleInvalidUsage(temp.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
+	}
+
+	@Override
+	public void submit(UpdateMsg updateMsg, String serviceName, String name) {
+		StringBuilder temp = strBuilder();
+		temp.append("NIProvider applications do not support the fanout submit method");
+		handleInvalidUsage(temp.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
+	}
+
 	@Override
 	public void connectedClientChannelInfo(List<ChannelInformation> ci) {
 		StringBuilder temp = strBuilder();
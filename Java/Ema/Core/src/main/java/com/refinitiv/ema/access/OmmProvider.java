@@ -314,6 +314,36 @@ public interface OmmProvider
 	 */
 	public void submit(UpdateMsg updateMsg, long handle);
 	
+	/**
+	 * Sends a UpdateMsg on each of the given open item streams. Only relevant to IProvider applications.
+	 * <p>The UpdateMsg is encoded once, and the encoded message is copied to each client channel
+	 * with the stream id of the item stream.</p>
+	 * <p>This method is ObjectLevelSafe.</p>
+	 * 
+	 * @throws OmmInvalidUsageException if failed to submit updateMsg, if a handle does not refer to an open
+	 *         item stream or if is called by an NiProvider application
+	 * 
+	 * @param updateMsg specifies UpdateMsg to be sent on the open item streams
+	 * @param handles identifies item streams on which to send the UpdateMsg
+	 */
+	public void submit(UpdateMsg updateMsg, long[] handles);
+	
+	/**
+	 * Sends a UpdateMsg on each open item stream of the UpdateMsg domain type with the given
+	 * service name and item name. Only relevant to IProvider applications.
+	 * <p>The UpdateMsg is encoded once, and the encoded message is copied to each client channel
+	 * with the stream id of the item stream.</p>
+	 * <p>This method is ObjectLevelSafe.</p>
+	 * 
+	 * @throws OmmInvalidUsageException if failed to submit updateMsg, if the service name is not
+	 *         in the source directory or if is called by an NiProvider application
+	 * 
+	 * @param updateMsg specifies UpdateMsg to be sent on the open item streams
+	 * @param serviceName specifies service name of the item streams
+	 * @param name specifies item name of the item streams
+	 */
+	public void submit(UpdateMsg updateMsg, String serviceName, String name);
+	
 	/**
 	 * Sends a StatusMsg.
 	 * <p>This method is ObjectLevelSafe.</p>
@@ -19,7 +19,6 @@ import java.nio.channels.Selector;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -73,7 +72,9 @@ abstract class OmmServerBaseImpl implements OmmCommonImpl, Runnable, TimeoutClie
 	private OmmJsonConverterExceptionImpl ommJCExcept;
 	protected LongObject _longValue = new LongObject();
 	
-	private HashMap<LongObject, ItemInfo>	_itemInfoMap;
+	private LongObjectMap<ItemInfo>	_itemInfoMap;
+	private HashMap<Buffer, ArrayList<ItemInfo>> _itemNameToItemInfoList;
+	private Buffer _itemName = CodecFactory.createBuffer();
 	
 	private ReentrantLock _userLock = new java.util.concurrent.locks.ReentrantLock();
 	private ReentrantLock _dispatchLock = new java.util.concurrent.locks.ReentrantLock();	
@@ -114,7 +115,7 @@ abstract class OmmServerBaseImpl implements OmmCommonImpl, Runnable, TimeoutClie
 	private boolean _logError = true;	
 	
 	protected boolean _eventTimeout;
-	protected ConcurrentLinkedQueue<TimeoutEvent> _timeoutEventQueue = new ConcurrentLinkedQueue<TimeoutEvent>();
+	protected TimeoutEventQueue _timeoutEventQueue = new TimeoutEventQueue();
 	protected EmaObjectManager _objManager = new EmaObjectManager();
 	protected ServerPool _serverPool = new ServerPool();
 	
@@ -160,7 +161,8 @@ abstract class OmmServerBaseImpl implements OmmCommonImpl, Runnable, TimeoutClie
 
 	OmmServerBaseImpl(OmmProviderClient ommProviderClient, Object closure)
 	{
-		_itemInfoMap = new HashMap<>();
+		_itemInfoMap = new ConcurrentLongObjectHashMap<>();
+		_itemNameToItemInfoList = new HashMap<>();
 		_ommProviderClient = ommProviderClient;
 		_closure = closure;
 		_ommProviderEvent = new OmmEventImpl<OmmProviderEvent>();
@@ -169,7 +171,8 @@ abstract class OmmServerBaseImpl implements OmmCommonImpl, Runnable, TimeoutClie
 
 	OmmServerBaseImpl(OmmProviderClient ommProviderClient, OmmProviderErrorClient providerErrorClient, Object closure)
 	{
-		_itemInfoMap = new HashMap<>();
+		_itemInfoMap = new ConcurrentLongObjectHashMap<>();
+		_itemNameToItemInfoList = new HashMap<>();
 		_ommProviderClient = ommProviderClient;
 		_ommProviderErrorClient = providerErrorClient;
 		_closure = closure;
@@ -185,9 +188,7 @@ abstract class OmmServerBaseImpl implements OmmCommonImpl, Runnable, TimeoutClie
 		{
 			_objManager.initialize(EmaObjectManager.DATA_POOL_INITIAL_SIZE);
 			
-			GlobalPool.lock();
 			GlobalPool.initialize();
-			GlobalPool.unlock();
 			
 			_userLock.lock();
 			
@@ -197,6 +198,9 @@ abstract class OmmServerBaseImpl implements OmmCommonImpl, Runnable, TimeoutClie
 			
 			readCustomConfig(config);
 
+			if (_activeServerConfig.itemCountHint != 0)
+				_itemInfoMap = new ConcurrentLongObjectHashMap<>(_activeServerConfig.itemCountHint);
+
 			_serverPool.initialize(this,
 					_activeServerConfig.clientSessionCountHint,
 					_activeServerConfig.itemCountHint,
@@ -483,9 +487,7 @@ abstract class OmmServerBaseImpl implements OmmCommonImpl, Runnable, TimeoutClie
 		{
 			_objManager.initialize(EmaObjectManager.DATA_POOL_INITIAL_SIZE);
 			
-			GlobalPool.lock();
 			GlobalPool.initialize();
-			GlobalPool.unlock();
 			
 			_userLock.lock();
 			
@@ -1237,7 +1239,7 @@ abstract class OmmServerBaseImpl implements OmmCommonImpl, Runnable, TimeoutClie
 
 		boolean noWait = timeOut == OmmProvider.DispatchTimeout.NO_WAIT;
 		timeOut = timeOut * 1000;
-		long userTimeout = TimeoutEvent.userTimeOutExist(_timeoutEventQueue);
+		long userTimeout = _timeoutEventQueue.userTimeOutExist();
 		boolean userTimeoutExist = false;
 		if (userTimeout >= 0)
 		{
@@ -1262,7 +1264,7 @@ abstract class OmmServerBaseImpl implements OmmCommonImpl, Runnable, TimeoutClie
 					if ( timeOut <=0 )
 					{
 						if (userTimeoutExist)
-							TimeoutEvent.execute(_timeoutEventQueue);
+							_timeoutEventQueue.execute();
 					}
 				}
 				
@@ -1400,13 +1402,13 @@ abstract class OmmServerBaseImpl implements OmmCommonImpl, Runnable, TimeoutClie
 
 					if ( _eventReceived ) return true;
 					
-					TimeoutEvent.execute(_timeoutEventQueue);
+					_timeoutEventQueue.execute();
 					
 					if ( _eventReceived ) return true;
 				} //selectCount > 0
 				else if (selectCount == 0)
 				{
-					TimeoutEvent.execute(_timeoutEventQueue);
+					_timeoutEventQueue.execute();
 						
 					if ( _eventReceived ) return true;
 				}
@@ -1491,9 +1493,30 @@ abstract class OmmServerBaseImpl implements OmmCommonImpl, Runnable, TimeoutClie
 	{
 		_userLock.lock();
 		
-		_itemInfoMap.put(itemInfo.handle(), itemInfo);
+		_itemInfoMap.put(itemInfo.handle().value(), itemInfo);
 		itemInfo.clientSession().addItemInfo(itemInfo);
 		
+		if ( itemInfo.msgKey().checkHasName() )
+		{
+			ArrayList<ItemInfo> itemInfoList = _itemNameToItemInfoList.get(itemInfo.name());
+			
+			if ( itemInfoList != null )
+			{
+				itemInfo.nameKey(itemInfoList.get(0).nameKey());
+			}
+			else
+			{
+				Buffer nameKey = CodecFactory.createBuffer();
+				nameKey.data(itemInfo.name().toString());
+				itemInfo.nameKey(nameKey);
+				
+				itemInfoList = new ArrayList<ItemInfo>();
+				_itemNameToItemInfoList.put(nameKey, itemInfoList);
+			}
+			
+			itemInfoList.add(itemInfo);
+		}
+		
 		if ( loggerClient().isTraceEnabled( ))
 		{
 			StringBuilder temp = strBuilder();
@@ -1509,9 +1532,30 @@ abstract class OmmServerBaseImpl implements OmmCommonImpl, Runnable, TimeoutClie
 	{
 		_userLock.lock();
 		
-		_itemInfoMap.remove(itemInfo.handle());
+		_itemInfoMap.remove(itemInfo.handle().value());
 		itemInfo.clientSession().removeItemInfo(itemInfo);
 		
+		if ( itemInfo.nameKey() != null )
+		{
+			ArrayList<ItemInfo> itemInfoList = _itemNameToItemInfoList.get(itemInfo.nameKey());
+			
+			if ( itemInfoList != null )
+			{
+				/* ItemInfo.equals() compares the message keys, items of other clients may be equal */
+				for ( int index = 0; index < itemInfoList.size(); index++ )
+				{
+					if ( itemInfoList.get(index) == itemInfo )
+					{
+						itemInfoList.remove(index);
+						break;
+					}
+				}
+				
+				if ( itemInfoList.isEmpty() )
+					_itemNameToItemInfoList.remove(itemInfo.nameKey());
+			}
+		}
+		
 		if ( eraseItemGroup && itemInfo.hasItemGroup() )
 		{
 			removeItemGroup(itemInfo);
@@ -1526,21 +1570,22 @@ abstract class OmmServerBaseImpl implements OmmCommonImpl, Runnable, TimeoutClie
 		}
 		
 		itemInfo.returnToPool();
-
+		
 		_userLock.unlock();
 	}
 	
+	/* Does not take the user lock, the ItemInfo must be checked again under the user lock before it is used. */
 	public ItemInfo getItemInfo(long handle)
 	{
-		_userLock.lock();
-		
-		_longValue.value(handle);
-		
-		ItemInfo itemInfo = _itemInfoMap.get(_longValue);
-		
-		_userLock.unlock();
+		return _itemInfoMap.get(handle);
+	}
+	
+	/* Returns the items opened with the name, or null. The list must be used under the user lock. */
+	ArrayList<ItemInfo> getItemInfoList(String name)
+	{
+		_itemName.data(name);
 		
-		return itemInfo;
+		return _itemNameToItemInfoList.get(_itemName);
 	}
 	
 	void addItemGroup(ItemInfo itemInfo, Buffer groupId)
@@ -1056,6 +1056,11 @@ class ProgrammaticConfigure
 											if (eentry.intValue() >= 0)
 												activeConfig.dispatchTimeoutApiThread = convertToInt(eentry.intValue());
 										}
+										else if ( eentry.name().equals("DispatchMode") )
+										{
+											if (eentry.intValue() == OmmConsumerConfig.DispatchMode.SELECT || eentry.intValue() == OmmConsumerConfig.DispatchMode.BUSY_SPIN)
+												activeConfig.dispatchMode = convertToInt(eentry.intValue());
+										}
 										else if (eentry.name().equals("MsgKeyInUpdates"))
 										{
 											((ActiveConfig)activeConfig).msgKeyInUpdates = eentry.intValue() > 0 ? true : false;
@@ -1100,6 +1105,10 @@ class ProgrammaticConfigure
 									case DataTypes.UINT:
 										if (eentry.name().equals("SendJsonConvError")) {
 											activeConfig.sendJsonConvError = eentry.uintValue() > 0 ? true : false;
+										} else if (eentry.name().equals("DispatchMode"))
+										{
+											if (eentry.uintValue() == OmmConsumerConfig.DispatchMode.SELECT || eentry.uintValue() == OmmConsumerConfig.DispatchMode.BUSY_SPIN)
+												activeConfig.dispatchMode = convertToInt(eentry.uintValue());
 										} else if (eentry.name().equals("EnablePreferredHostOptions"))
 										{
 											((ActiveConfig)activeConfig).enablePreferredHostOptions = eentry.uintValue() > 0 ? true : false;
@@ -309,6 +309,18 @@ public interface ReqMsg extends Msg
 	 */
 	public ReqMsg serviceListName(String serviceListName);
 
+	/**
+	 * Specifies the field ids of interest in the payload of the item.<br>
+	 * <p>The FieldList payload of the refresh and update messages of the item skips the entries
+	 * of other fields when it is decoded, see {@link FieldList#fieldIdFilter(int[])}.</p>
+	 * <p>The filter is applied by EMA and is not sent to the provider; use a view to also
+	 * reduce the fields sent by the provider.</p>
+	 * 
+	 * @param fieldIds specifies the field ids of interest, or null to decode all fields
+	 * @return reference to this object
+	 */
+	public ReqMsg fieldIdFilter(int[] fieldIds);
+
 	/**
 	 * Specifies ServiceId.<br>
 	 * One service identification must be set, either id or name.
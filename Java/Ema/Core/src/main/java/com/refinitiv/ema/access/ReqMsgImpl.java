@@ -15,6 +15,7 @@ import com.refinitiv.eta.codec.*;
 
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 class ReqMsgImpl extends MsgImpl implements ReqMsg
@@ -41,6 +42,7 @@ class ReqMsgImpl extends MsgImpl implements ReqMsg
 	private com.refinitiv.eta.codec.Buffer _rsslItemBuffer;
     private List<String> _batchItemList;
     private String _serviceListName;
+    private int[] _fieldIdFilter;
     
 	
     ReqMsgImpl()
@@ -153,6 +155,7 @@ class ReqMsgImpl extends MsgImpl implements ReqMsg
 		msgClear();
 		initialEncoding();
 		_serviceListName = null;
+		_fieldIdFilter = null;
 		return this;
 	}
 
@@ -598,6 +601,26 @@ class ReqMsgImpl extends MsgImpl implements ReqMsg
 			
 		return this;
 	}
+	
+	@Override
+	public ReqMsg fieldIdFilter(int[] fieldIds)
+	{
+		if (fieldIds == null)
+		{
+			_fieldIdFilter = null;
+			return this;
+		}
+		
+		_fieldIdFilter = Arrays.copyOf(fieldIds, fieldIds.length);
+		Arrays.sort(_fieldIdFilter);
+		return this;
+	}
+	
+	/* The sorted field ids of interest, or null for all fields. */
+	int[] sortedFieldIdFilter()
+	{
+		return _fieldIdFilter;
+	}
 
 	@Override
 	public ReqMsg serviceId(int serviceId)
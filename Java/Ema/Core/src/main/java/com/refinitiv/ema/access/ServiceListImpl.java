@@ -28,7 +28,6 @@ class ServiceListImpl implements ServiceList {
 	
 	private ArrayDeque<SingleItem<OmmConsumerClient>> _pendingItemQueue; // This is used to recover items when the concrete service is available.
 	
-	private LongObject tmpLongObject = new LongObject();
 	
 	ServiceListImpl(String name)
 	{
@@ -143,10 +142,8 @@ class ServiceListImpl implements ServiceList {
 		
 		while(singleItem != null)
 		{
-			tmpLongObject.value(singleItem.itemId());
-			
 			/* Handles this item when it hasn't been removed from the item map */
-			if(consumerSession.watchlist().itemHandleMap().containsKey(tmpLongObject))
+			if(consumerSession.watchlist().itemHandleMap().containsKey(singleItem.itemId()))
 			{
 				directory = sessionDirectory.directory(singleItem._requestMsg);
 				
@@ -184,10 +181,8 @@ class ServiceListImpl implements ServiceList {
 		
 		while(singleItem != null && singleItem._requestMsg != null)
 		{
-			tmpLongObject.value(singleItem.itemId());
-			
 			/* Handles this item when it hasn't been removed from the item map */
-			if(consumerSession.watchlist().itemHandleMap().containsKey(tmpLongObject))
+			if(consumerSession.watchlist().itemHandleMap().containsKey(singleItem.itemId()))
 			{
 				consumerSession.watchlist().sendItemStatus(singleItem, singleItem._requestMsg, OmmState.StreamState.CLOSED,
 						OmmState.DataState.SUSPECT, OmmState.StatusCode.NONE, "Consumer session is closed.");
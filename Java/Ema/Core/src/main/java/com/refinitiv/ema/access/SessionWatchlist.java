@@ -9,7 +9,6 @@
 package com.refinitiv.ema.access;
 
 import java.util.ArrayDeque;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 
@@ -31,8 +30,6 @@ import com.refinitiv.eta.valueadd.reactor.ReactorChannel;
 import com.refinitiv.eta.valueadd.reactor.ReactorChannelType;
 import com.refinitiv.eta.valueadd.reactor.ReactorWarmStandbyMode;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 class WatchlistResult
 {
@@ -65,8 +62,8 @@ class WatchlistResult
 
 class SessionWatchlist<T>
 {
-	private Map<LongObject, Item<T>> _itemHandleMap;
-	private Map<IntObject, Item<T>>  _streamIdMap;
+	private LongObjectMap<Item<T>> _itemHandleMap;
+	private LongObjectMap<Item<T>>  _streamIdMap;
 	
 	/* The message queue is used to queue item when there is no suitable ReactorChannel to submit a request message */
 	private ArrayDeque<RequestMsg> _recoveryItemQueue;
@@ -79,9 +76,6 @@ class SessionWatchlist<T>
 	ConsumerSession<T> _consumerSession;
 	CallbackClient<T> callbackClient;
 	
-	LongObject tmpLongObject = new LongObject();
-	IntObject tmpIntObject = new IntObject();
-	
 	Qos _defaultQos = CodecFactory.createQos();
 	Qos _defaultWorstQos = CodecFactory.createQos();
 	Qos _matchedQos = CodecFactory.createQos();
@@ -96,13 +90,13 @@ class SessionWatchlist<T>
 		
 		if(consumerSession.ommBaseImpl().activeConfig().userDispatch == OmmConsumerConfig.OperationModel.API_DISPATCH)
 		{
-			_itemHandleMap = new ConcurrentHashMap<>( itemCountHint == 0 ? 1024 : itemCountHint);
-			_streamIdMap = new ConcurrentHashMap<>( itemCountHint == 0 ? 1024 : itemCountHint);
+			_itemHandleMap = new ConcurrentLongObjectHashMap<>( itemCountHint == 0 ? 1024 : itemCountHint);
+			_streamIdMap = new ConcurrentLongObjectHashMap<>( itemCountHint == 0 ? 1024 : itemCountHint);
 		}
 		else
 		{
-			_itemHandleMap = new HashMap<>( itemCountHint == 0 ? 1024 : itemCountHint);
-			_streamIdMap = new HashMap<>( itemCountHint == 0 ? 1024 : itemCountHint);
+			_itemHandleMap = new LongObjectHashMap<>( itemCountHint == 0 ? 1024 : itemCountHint);
+			_streamIdMap = new LongObjectHashMap<>( itemCountHint == 0 ? 1024 : itemCountHint);
 		}
 		
 		 _sessionEnhancedItemRecovery = consumerSession.ommBaseImpl().activeConfig().sessionEnhancedItemRecovery;
@@ -128,12 +122,12 @@ class SessionWatchlist<T>
 		callbackClient = client;
 	}
 	
-	Map<LongObject, Item<T>> itemHandleMap()
+	LongObjectMap<Item<T>> itemHandleMap()
 	{
 		return _itemHandleMap;
 	}
 	
-	Map<IntObject, Item<T>> streamIdMap()
+	LongObjectMap<Item<T>> streamIdMap()
 	{
 		return _streamIdMap;
 	}
@@ -192,9 +186,7 @@ class SessionWatchlist<T>
 		
 		while(rsslRequestMsg != null)
 		{
-			tmpIntObject.value(rsslRequestMsg.streamId());
-			
-			SingleItem<T> item = (SingleItem<T>) _streamIdMap.get(tmpIntObject);
+			SingleItem<T> item = (SingleItem<T>) _streamIdMap.get(rsslRequestMsg.streamId());
 			
 			/* Checks to ensure that the item exists. */
 			if(item != null && (item.state() == SingleItem.ItemStates.RECOVERING || item.state() == SingleItem.ItemStates.RECOVERING_NO_MATHCING))
@@ -902,9 +894,7 @@ class SessionWatchlist<T>
 		
 		while(rsslRequestMsg != null)
 		{
-			tmpIntObject.value(rsslRequestMsg.streamId());
-			
-			SingleItem<T> item = (SingleItem<T>) _streamIdMap.get(tmpIntObject);
+			SingleItem<T> item = (SingleItem<T>) _streamIdMap.get(rsslRequestMsg.streamId());
 			
 			if(item != null)
 			{
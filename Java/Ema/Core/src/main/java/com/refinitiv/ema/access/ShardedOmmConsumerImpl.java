@@ -0,0 +1,293 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import com.refinitiv.ema.rdm.EmaRdm;
+
+/* OmmConsumer spreading its items over several OmmConsumerImpl shards, each with its own
+ * Reactor, channels and dispatch thread. Item handles come from the process wide LongIdGenerator,
+ * so the handles of all shards are already unique and are returned to the application as they are.
+ * Calls for a handle go to the shard holding its item: each shard reports the items added to and
+ * removed from its item map, batch items and items closed by the provider included. Only the first
+ * shard is created with the admin client, so the application gets the login events once. */
+class ShardedOmmConsumerImpl implements OmmConsumer
+{
+	static final int MAX_SHARD_COUNT = 64;
+
+	/* Time in microseconds spent waiting on one shard before moving on to the next
+	 * one in dispatch(long) with the USER_DISPATCH operation model. */
+	static final int DISPATCH_SLICE = 1000;
+
+	private final OmmConsumerImpl[] _shards;
+	private final boolean _userDispatch;
+	private final AtomicInteger _nextRequestShard = new AtomicInteger();
+	private final ConcurrentLongObjectHashMap<OmmConsumerImpl> _shardOfHandle = new ConcurrentLongObjectHashMap<>(1024);
+	private int _nextDispatchShard;
+
+	/* shardFactory creates the consumer of the given shard index */
+	ShardedOmmConsumerImpl(IntFunction<OmmConsumerImpl> shardFactory, int shardCount)
+	{
+		_shards = new OmmConsumerImpl[shardCount];
+
+		try
+		{
+			for (int i = 0; i < shardCount; i++)
+			{
+				_shards[i] = shardFactory.apply(i);
+
+				_shards[i].userLock().lock();
+				try
+				{
+					_shards[i].itemCallbackClient().shardedConsumer(this, _shards[i]);
+				}
+				finally
+				{
+					_shards[i].userLock().unlock();
+				}
+			}
+		}
+		catch (RuntimeException excp)
+		{
+			uninitialize();
+			throw excp;
+		}
+
+		_userDispatch = _shards[0].activeConfig().userDispatch == OmmConsumerConfig.OperationModel.USER_DISPATCH;
+	}
+
+	int shardCount()
+	{
+		return _shards.length;
+	}
+
+	OmmConsumerImpl shard(int index)
+	{
+		return _shards[index];
+	}
+
+	/* Returns the shard holding handle, or the first shard which reports the invalid handle. */
+	OmmConsumerImpl shardOf(long handle)
+	{
+		OmmConsumerImpl shard = _shardOfHandle.get(handle);
+		return shard != null ? shard : _shards[0];
+	}
+
+	/* Called by shard under its user lock */
+	void itemAdded(OmmConsumerImpl shard, long handle)
+	{
+		_shardOfHandle.put(handle, shard);
+	}
+
+	/* Called by the shard holding handle under its user lock */
+	void itemRemoved(long handle)
+	{
+		_shardOfHandle.remove(handle);
+	}
+
+	OmmConsumerImpl shardFor(ReqMsg reqMsg, long parentHandle)
+	{
+		if (parentHandle != 0)
+			return shardOf(parentHandle);
+
+		if (reqMsg.domainType() <= EmaRdm.MMT_DICTIONARY)
+			return _shards[0];
+
+		if (!reqMsg.hasName())
+			return _shards[Math.floorMod(_nextRequestShard.getAndIncrement(), _shards.length)];
+
+		int hash = reqMsg.name().hashCode();
+		if (reqMsg.hasServiceName())
+			hash = 31 * hash + reqMsg.serviceName().hashCode();
+		else if (reqMsg.hasServiceId())
+			hash = 31 * hash + reqMsg.serviceId();
+
+		return _shards[Math.floorMod(hash ^ (hash >>> 16), _shards.length)];
+	}
+
+	@Override
+	public String consumerName()
+	{
+		return _shards[0].consumerName();
+	}
+
+	@Override
+	public long registerClient(ReqMsg reqMsg, OmmConsumerClient client)
+	{
+		OmmConsumerImpl shard = shardFor(reqMsg, 0);
+		return shard.registerClient(reqMsg, client);
+	}
+
+	@Override
+	public long registerClient(ReqMsg reqMsg, OmmConsumerClient client, Object closure)
+	{
+		OmmConsumerImpl shard = shardFor(reqMsg, 0);
+		return shard.registerClient(reqMsg, client, closure);
+	}
+
+	@Override
+	public long registerClient(ReqMsg reqMsg, OmmConsumerClient client, Object closure, long parentHandle)
+	{
+		OmmConsumerImpl shard = shardFor(reqMsg, parentHandle);
+		return shard.registerClient(reqMsg, client, closure, parentHandle);
+	}
+
+	@Override
+	public long registerClient(TunnelStreamRequest tunnelStreamRequest, OmmConsumerClient client)
+	{
+		return registerClient(tunnelStreamRequest, client, null);
+	}
+
+	@Override
+	public long registerClient(TunnelStreamRequest tunnelStreamRequest, OmmConsumerClient client, Object closure)
+	{
+		OmmConsumerImpl shard = tunnelStreamRequest.hasName() ?
+				_shards[Math.floorMod(tunnelStreamRequest.name().hashCode(), _shards.length)] : _shards[0];
+
+		return shard.registerClient(tunnelStreamRequest, client, closure);
+	}
+
+	@Override
+	public void reissue(ReqMsg reqMsg, long handle)
+	{
+		shardOf(handle).reissue(reqMsg, handle);
+	}
+
+	@Override
+	public void submit(GenericMsg genericMsg, long handle)
+	{
+		shardOf(handle).submit(genericMsg, handle);
+	}
+
+	@Override
+	public void submit(PostMsg postMsg, long handle)
+	{
+		shardOf(handle).submit(postMsg, handle);
+	}
+
+	@Override
+	public long dispatch()
+	{
+		long ret = DispatchReturn.TIMEOUT;
+
+		for (OmmConsumerImpl shard : _shards)
+		{
+			if (shard.dispatch() == DispatchReturn.DISPATCHED)
+				ret = DispatchReturn.DISPATCHED;
+		}
+
+		return ret;
+	}
+
+	@Override
+	public long dispatch(long timeOut)
+	{
+		if (dispatch() == DispatchReturn.DISPATCHED)
+			return DispatchReturn.DISPATCHED;
+
+		if (!_userDispatch || timeOut == DispatchTimeout.NO_WAIT)
+			return DispatchReturn.TIMEOUT;
+
+		/* waits on the shards in turn so that none of them is starved while another is idle */
+		long deadline = timeOut == DispatchTimeout.INFINITE_WAIT ? Long.MAX_VALUE : System.nanoTime() + timeOut * 1000;
+
+		do
+		{
+			OmmConsumerImpl shard = _shards[_nextDispatchShard];
+			_nextDispatchShard = (_nextDispatchShard + 1) % _shards.length;
+
+			if (shard.dispatch(DISPATCH_SLICE) == DispatchReturn.DISPATCHED)
+				return DispatchReturn.DISPATCHED;
+		}
+		while (System.nanoTime() < deadline);
+
+		return DispatchReturn.TIMEOUT;
+	}
+
+	@Override
+	public void unregister(long handle)
+	{
+		shardOf(handle).unregister(handle);
+	}
+
+	@Override
+	public void uninitialize()
+	{
+		for (OmmConsumerImpl shard : _shards)
+		{
+			if (shard != null)
+				shard.uninitialize();
+		}
+
+		_shardOfHandle.clear();
+	}
+
+	@Override
+	public void channelInformation(ChannelInformation channelInformation)
+	{
+		_shards[0].channelInformation(channelInformation);
+	}
+
+	@Override
+	public void sessionChannelInfo(List<ChannelInformation> sessionChannelInfo)
+	{
+		if (sessionChannelInfo == null)
+			return;
+
+		List<ChannelInformation> shardChannelInfo = new ArrayList<>();
+		sessionChannelInfo.clear();
+
+		for (OmmConsumerImpl shard : _shards)
+		{
+			shard.sessionChannelInfo(shardChannelInfo);
+			sessionChannelInfo.addAll(shardChannelInfo);
+		}
+	}
+
+	@Override
+	public void modifyIOCtl(int code, int value)
+	{
+		for (OmmConsumerImpl shard : _shards)
+			shard.modifyIOCtl(code, value);
+	}
+
+	@Override
+	public void modifyIOCtl(int code, Object value)
+	{
+		for (OmmConsumerImpl shard : _shards)
+			shard.modifyIOCtl(code, value);
+	}
+
+	@Override
+	public void renewOAuthCredentials(OAuth2CredentialRenewal credentials)
+	{
+		/* only valid in the callback of the shard asking for the credentials */
+		for (OmmConsumerImpl shard : _shards)
+		{
+			if (shard._inOAuth2Callback)
+			{
+				shard.renewOAuthCredentials(credentials);
+				return;
+			}
+		}
+
+		_shards[0].renewOAuthCredentials(credentials);
+	}
+
+	@Override
+	public void fallbackPreferredHost()
+	{
+		for (OmmConsumerImpl shard : _shards)
+			shard.fallbackPreferredHost();
+	}
+}
@@ -2,17 +2,16 @@
  *|            This source code is provided under the Apache 2.0 license
  *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
  *|                See the project's LICENSE.md for details.
- *|           Copyright (C) 2020,2023-2024 LSEG. All rights reserved.
+ *|           Copyright (C) 2020,2023-2025 LSEG. All rights reserved.
  *|-----------------------------------------------------------------------------
  */
 
 package com.refinitiv.ema.access;
 
-import java.util.Iterator;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.locks.ReentrantLock;
 
 import com.refinitiv.eta.valueadd.common.VaNode;
+import com.refinitiv.eta.valueadd.common.VaTimerWheel;
 
 interface TimeoutClient 
 {
@@ -25,6 +24,22 @@ class TimeoutEvent extends VaNode
 	private long _timeoutInNanoSec;
 	private boolean _cancelled;
 	private TimeoutClient _client;
+	private TimeoutEventQueue _queue;
+	
+	private TimeoutEvent _timerNext, _timerPrev;
+	private int _timerBucket = VaTimerWheel.NOT_SCHEDULED;
+	static class TimerLink implements VaTimerWheel.TimerLink<TimeoutEvent>
+	{
+		public TimeoutEvent getPrev(TimeoutEvent thisPrev) { return thisPrev._timerPrev; }
+		public void setPrev(TimeoutEvent thisPrev, TimeoutEvent thatPrev) { thisPrev._timerPrev = thatPrev; }
+		public TimeoutEvent getNext(TimeoutEvent thisNext) { return thisNext._timerNext; }
+		public void setNext(TimeoutEvent thisNext, TimeoutEvent thatNext) { thisNext._timerNext = thatNext; }
+		public long deadline(TimeoutEvent timer) { return timer._timeoutInNanoSec; }
+		public int bucket(TimeoutEvent timer) { return timer._timerBucket; }
+		public void bucket(TimeoutEvent timer, int bucket) { timer._timerBucket = bucket; }
+	}
+	
+	static final TimerLink TIMER_LINK = new TimerLink();
 	
 	TimeoutEvent(long timeoutInNanoSec, TimeoutClient client)
 	{
@@ -53,70 +68,17 @@ class TimeoutEvent extends VaNode
 	void cancel()
 	{
 		_cancelled = true;
+		if (_queue != null)
+			_queue.cancel(this);
 	}
 	
-	TimeoutClient client()
-	{
-		return _client;
-	}
-	
-	static <T> long userTimeOutExist(ConcurrentLinkedQueue<TimeoutEvent> timeoutEventQueue)
+	void queue(TimeoutEventQueue queue)
 	{
-		if (timeoutEventQueue.size() == 0)
-			return -1;
-		
-		TimeoutEvent event;
-		Iterator<TimeoutEvent> iter = timeoutEventQueue.iterator();
-		 while (iter.hasNext())
-		 {
-        	event = iter.next();
-        	if (event.cancelled())
-        	{
-        		iter.remove();
-        		event.returnToPool();
-        		continue;
-        	}
-           
-        	long currentTime = System.nanoTime();
-        	if ((currentTime - event.timeoutInNanoSerc()) >= 0)
-				return 0;
-            else  
-            	return (event.timeoutInNanoSerc() - currentTime);
-        }
-        
-        return -1;
+		_queue = queue;
 	}
 	
-	static <T> void execute(ConcurrentLinkedQueue<TimeoutEvent> timeoutEventQueue)
+	TimeoutClient client()
 	{
-		if ( timeoutEventQueue.size() == 0)
-			return; 
-		
-		TimeoutEvent event;
-		Iterator<TimeoutEvent> iter = timeoutEventQueue.iterator();
-		while (iter.hasNext())
-        {
-			event = iter.next();
-	    	if (System.nanoTime() >= event.timeoutInNanoSerc())
-	    	{
-	    		iter.remove();
-	    		 
-	        	if (!event.cancelled() && event.client() != null) {
-					event.client().userLock().lock();
-					try
-					{
-						event.client().handleTimeoutEvent();
-					}
-					finally
-					{
-						event.client().userLock().unlock();
-					}
-				}
-
-	    		event.returnToPool();
-	    	}
-	    	else
-	    		 return;
-        }
+		return _client;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,139 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.refinitiv.eta.valueadd.common.VaTimerWheel;
+
+/* Timeout events of an OmmBaseImpl or OmmServerBaseImpl.
+ *
+ * Events can be added from any thread; they are handed to the dispatching thread through a
+ * concurrent queue and scheduled in a timing wheel when the dispatching thread next checks its
+ * timeouts, so expired events are found without visiting every pending event. */
+class TimeoutEventQueue
+{
+	private ConcurrentLinkedQueue<TimeoutEvent> _addedEvents = new ConcurrentLinkedQueue<TimeoutEvent>();
+	private VaTimerWheel<TimeoutEvent> _timerWheel = new VaTimerWheel<TimeoutEvent>(TimeoutEvent.TIMER_LINK);
+	private ReentrantLock _timerWheelLock = new ReentrantLock();
+
+	void add(TimeoutEvent event)
+	{
+		event.queue(this);
+		_addedEvents.add(event);
+	}
+
+	/* Removes a canceled event from the wheel, so it does not hold the next timeout of the dispatching thread,
+	 * and returns it to the pool. An event not yet scheduled is returned by scheduleAddedEvents(), and an event
+	 * already polled by execute() is returned there. */
+	void cancel(TimeoutEvent event)
+	{
+		_timerWheelLock.lock();
+		try
+		{
+			if (_timerWheel.cancel(event))
+				event.returnToPool();
+		}
+		finally
+		{
+			_timerWheelLock.unlock();
+		}
+	}
+
+	/* Returns -1 if there is no event, 0 if an event expired, or else the nanoseconds until the next event expires. */
+	long userTimeOutExist()
+	{
+		if (_addedEvents.isEmpty() && _timerWheel.count() == 0)
+			return -1;
+
+		long nextDeadline;
+		_timerWheelLock.lock();
+		try
+		{
+			scheduleAddedEvents();
+			nextDeadline = _timerWheel.nextDeadline();
+		}
+		finally
+		{
+			_timerWheelLock.unlock();
+		}
+
+		if (nextDeadline == Long.MAX_VALUE)
+			return -1;
+
+		long currentTime = System.nanoTime();
+		if ((currentTime - nextDeadline) >= 0)
+			return 0;
+		else
+			return nextDeadline - currentTime;
+	}
+
+	/* Calls the clients of the expired events. Clients are called without holding the wheel lock, so they can add events. */
+	void execute()
+	{
+		if (_addedEvents.isEmpty() && _timerWheel.count() == 0)
+			return;
+
+		_timerWheelLock.lock();
+		try
+		{
+			scheduleAddedEvents();
+			_timerWheel.expire(System.nanoTime());
+		}
+		finally
+		{
+			_timerWheelLock.unlock();
+		}
+
+		TimeoutEvent event;
+		while ((event = pollExpired()) != null)
+		{
+			if (!event.cancelled() && event.client() != null)
+			{
+				event.client().userLock().lock();
+				try
+				{
+					event.client().handleTimeoutEvent();
+				}
+				finally
+				{
+					event.client().userLock().unlock();
+				}
+			}
+
+			event.returnToPool();
+		}
+	}
+
+	private TimeoutEvent pollExpired()
+	{
+		_timerWheelLock.lock();
+		try
+		{
+			return _timerWheel.pollExpired();
+		}
+		finally
+		{
+			_timerWheelLock.unlock();
+		}
+	}
+
+	private void scheduleAddedEvents()
+	{
+		TimeoutEvent event;
+		while ((event = _addedEvents.poll()) != null)
+		{
+			if (!event.cancelled())
+				_timerWheel.schedule(event);
+			else
+				event.returnToPool();
+		}
+	}
+}
@@ -95,6 +95,8 @@ public class EmaFileConfigJunitTests extends TestCase
 		TestUtilities.checkResult("MaxOutstandingPosts value == 90000", intLongValue == 90000 );
 		int intValue = JUnitTestConnect.configGetIntValue(testConfig, defaultConsName, JUnitTestConnect.ConfigGroupTypeConsumer, JUnitTestConnect.DispatchTimeoutApiThread);
 		TestUtilities.checkResult("DispatchTimeoutApiThread value == 90", intValue == 90 );
+		intLongValue = JUnitTestConnect.configGetIntLongValue(testConfig, defaultConsName, JUnitTestConnect.ConfigGroupTypeConsumer, JUnitTestConnect.DispatchMode);
+		TestUtilities.checkResult("DispatchMode value == 1", intLongValue == 1 );
 		intValue = testConfig.xmlConfig().getGlobalConfig().getPrimitiveValue(ConfigManager.ReactorMsgEventPoolLimit).intValue();
 		TestUtilities.checkResult("ReactorMsgEventPoolLimit value == 2000", intValue == 2000);
 		intValue = testConfig.xmlConfig().getGlobalConfig().getPrimitiveValue(ConfigManager.ReactorChannelEventPoolLimit).intValue();
@@ -1411,6 +1413,7 @@ public class EmaFileConfigJunitTests extends TestCase
 			innerElementList.add(EmaFactory.createElementEntry().intValue("RequestTimeout", 2400));
 			innerElementList.add(EmaFactory.createElementEntry().intValue("MaxOutstandingPosts", 9999));
 			innerElementList.add(EmaFactory.createElementEntry().intValue("DispatchTimeoutApiThread", 60));
+			innerElementList.add(EmaFactory.createElementEntry().intValue("DispatchMode", 1));
 			innerElementList.add(EmaFactory.createElementEntry().intValue("CatchUnhandledException", 1));
 			innerElementList.add(EmaFactory.createElementEntry().intValue("MaxDispatchCountApiThread", 300));
 			innerElementList.add(EmaFactory.createElementEntry().intValue("MaxDispatchCountUserThread", 700));
@@ -1535,6 +1538,8 @@ public class EmaFileConfigJunitTests extends TestCase
 			TestUtilities.checkResult("MaxOutstandingPosts value == 9999", intLongValue == 9999 );
 			int intValue = JUnitTestConnect.activeConfigGetIntLongValue(cons, JUnitTestConnect.ConfigGroupTypeConsumer, JUnitTestConnect.DispatchTimeoutApiThread, -1);
 			TestUtilities.checkResult("DispatchTimeoutApiThread value == 60", intValue == 60 );
+			intValue = JUnitTestConnect.activeConfigGetIntLongValue(cons, JUnitTestConnect.ConfigGroupTypeConsumer, JUnitTestConnect.DispatchMode, -1);
+			TestUtilities.checkResult("DispatchMode value == 1", intValue == 1 );
 
 			intLongValue = JUnitTestConnect.activeConfigGetIntLongValue(cons, JUnitTestConnect.ConfigGroupTypeConsumer, JUnitTestConnect.MaxDispatchCountApiThread, -1);
 			TestUtilities.checkResult("MaxDispatchCountApiThread value == 300", intLongValue == 300 );
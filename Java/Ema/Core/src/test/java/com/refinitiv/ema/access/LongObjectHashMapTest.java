@@ -0,0 +1,123 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class LongObjectHashMapTest
+{
+    @Test
+    public void shouldPutGetAndRemove()
+    {
+        LongObjectMap<String> map = new LongObjectHashMap<>();
+
+        assertNull(map.put(5, "five"));
+        assertNull(map.put(-1, "minus one"));
+        assertNull(map.put(Long.MAX_VALUE, "max"));
+        assertEquals("five", map.put(5, "FIVE"));
+        assertEquals(3, map.size());
+
+        assertEquals("FIVE", map.get(5));
+        assertEquals("minus one", map.get(-1));
+        assertEquals("max", map.get(Long.MAX_VALUE));
+        assertNull(map.get(6));
+        assertTrue(map.containsKey(-1));
+
+        assertEquals("minus one", map.remove(-1));
+        assertNull(map.remove(-1));
+        assertFalse(map.containsKey(-1));
+        assertEquals(2, map.size());
+
+        map.clear();
+        assertEquals(0, map.size());
+        assertNull(map.get(5));
+    }
+
+    @Test
+    public void shouldMatchHashMapUnderRandomUse()
+    {
+        LongObjectMap<Long> map = new LongObjectHashMap<>(4);
+        HashMap<Long, Long> expected = new HashMap<>();
+        Random random = new Random(23);
+
+        // a small key range makes removed slots get reused and the table rebuilt
+        for (int i = 0; i < 200000; i++)
+        {
+            long key = random.nextInt(5000) * 1000003L;
+            if (random.nextInt(3) == 0)
+            {
+                assertEquals(expected.remove(key), map.remove(key));
+            }
+            else
+            {
+                Long value = random.nextLong();
+                assertEquals(expected.put(key, value), map.put(key, value));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+
+        for (long key = 0; key < 5000; key++)
+            assertEquals(expected.get(key * 1000003L), map.get(key * 1000003L));
+    }
+
+    @Test
+    public void shouldKeepEntriesOfConcurrentThreads() throws InterruptedException
+    {
+        final int threadCount = 4;
+        final int keysPerThread = 50000;
+        LongObjectMap<Long> map = new ConcurrentLongObjectHashMap<>(16);
+        AtomicInteger failures = new AtomicInteger();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++)
+        {
+            final long base = (long)t * keysPerThread;
+            threads.add(new Thread(() -> {
+                for (long key = base; key < base + keysPerThread; key++)
+                {
+                    Long value = key;
+                    map.put(key, value);
+                    if (map.get(key) != value)
+                        failures.incrementAndGet();
+                    // removes every other key again
+                    if ((key & 1) == 1 && map.remove(key) != value)
+                        failures.incrementAndGet();
+                }
+            }));
+        }
+
+        for (Thread thread : threads)
+            thread.start();
+        for (Thread thread : threads)
+            thread.join();
+
+        assertEquals(0, failures.get());
+        assertEquals(threadCount * keysPerThread / 2, map.size());
+        for (long key = 0; key < threadCount * keysPerThread; key++)
+            assertEquals((key & 1) == 0, map.containsKey(key));
+
+        Long value = 7L;
+        map.put(7, value);
+        assertSame(value, map.get(7));
+        map.clear();
+        assertEquals(0, map.size());
+    }
+}
@@ -0,0 +1,139 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MagazinePoolTest
+{
+    @Test
+    public void shouldReuseReleasedObjectOnSameThread()
+    {
+        MagazinePool<Object> pool = new MagazinePool<>(Object::new);
+
+        Object created = pool.get();
+        assertEquals(0, pool.hitCount());
+        assertEquals(1, pool.missCount());
+
+        pool.release(created);
+        assertSame(created, pool.get());
+        assertEquals(1, pool.hitCount());
+        assertEquals(1, pool.missCount());
+    }
+
+    @Test
+    public void shouldShareObjectsBetweenThreadsThroughDepot() throws InterruptedException
+    {
+        MagazinePool<Object> pool = new MagazinePool<>(Object::new);
+        Set<Object> released = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        // fills the magazine of this thread, then moves half of it to the depot
+        for (int i = 0; i <= MagazinePool.MAGAZINE_SIZE; i++)
+        {
+            Object object = new Object();
+            released.add(object);
+            pool.release(object);
+        }
+        assertEquals(MagazinePool.MAGAZINE_SIZE / 2, pool.depotSize());
+
+        List<Object> taken = Collections.synchronizedList(new ArrayList<>());
+        Thread thread = new Thread(() -> {
+            for (int i = 0; i < MagazinePool.MAGAZINE_SIZE / 2; i++)
+                taken.add(pool.get());
+        });
+        thread.start();
+        thread.join();
+
+        assertEquals(MagazinePool.MAGAZINE_SIZE / 2, taken.size());
+        for (Object object : taken)
+            assertTrue(released.contains(object));
+        assertEquals(0, pool.depotSize());
+        assertEquals(0, pool.missCount());
+    }
+
+    @Test
+    public void shouldNotHandOutObjectTwiceUnderConcurrentUse() throws InterruptedException
+    {
+        final int threadCount = 4;
+        final int iterations = 20000;
+        MagazinePool<AtomicInteger> pool = new MagazinePool<>(AtomicInteger::new);
+        AtomicInteger failures = new AtomicInteger();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++)
+        {
+            threads.add(new Thread(() -> {
+                List<AtomicInteger> held = new ArrayList<>();
+                for (int i = 0; i < iterations; i++)
+                {
+                    AtomicInteger object = pool.get();
+                    if (!object.compareAndSet(0, 1))
+                        failures.incrementAndGet();
+                    held.add(object);
+
+                    // releases in bursts larger than a magazine so objects go through the depot
+                    if (held.size() == MagazinePool.MAGAZINE_SIZE * 2)
+                    {
+                        for (AtomicInteger heldObject : held)
+                        {
+                            heldObject.set(0);
+                            pool.release(heldObject);
+                        }
+                        held.clear();
+                    }
+                }
+            }));
+        }
+
+        for (Thread thread : threads)
+            thread.start();
+        for (Thread thread : threads)
+            thread.join();
+
+        assertEquals(0, failures.get());
+        assertEquals(threadCount * iterations, pool.hitCount() + pool.missCount());
+        assertTrue(pool.hitCount() > pool.missCount());
+    }
+
+    @Test
+    public void shouldPoolByteBuffersOfGlobalObjectManager()
+    {
+        EmaObjectManager objManager = new EmaObjectManager(true);
+        objManager.initialize(EmaObjectManager.DATA_POOL_INITIAL_SIZE);
+
+        ByteBuffer small = objManager.acquireByteBuffer(12);
+        assertEquals(15, small.capacity());
+        objManager.releaseByteBuffer(small);
+        assertSame(small, objManager.acquireByteBuffer(14));
+
+        ByteBuffer large = objManager.acquireByteBuffer(1000);
+        assertEquals(2000, large.capacity());
+        ByteBuffer larger = objManager.acquireByteBuffer(3000);
+        assertEquals(3000, larger.capacity());
+        objManager.releaseByteBuffer(large);
+        assertNotSame(large, objManager.acquireByteBuffer(2500));
+        assertSame(large, objManager.acquireByteBuffer(1500));
+
+        assertEquals(4, objManager.byteBufferHitCount());
+        assertEquals(2, objManager.byteBufferMissCount());
+    }
+}
@@ -20,8 +20,14 @@ import static org.junit.Assert.assertThrows;
 
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.*;
 import org.junit.runners.MethodSorters;
@@ -7863,4 +7869,485 @@ public class OmmConsumerTests extends TestCase
 			ommprovider_2.uninitialize();
 		}
 	}
+
+	@Test
+	public void testItemCallbacksOnCallbackExecutor()
+	{
+		TestUtilities.printTestHead("testItemCallbacksOnCallbackExecutor","");
+
+		String emaConfigFileLocation = "./src/test/resources/com/refinitiv/ema/unittest/OmmConsumerTests/EmaConfigTest.xml";
+
+		OmmIProviderConfig config = EmaFactory.createOmmIProviderConfig(emaConfigFileLocation);
+
+		ProviderTestOptions providerTestOptions = new ProviderTestOptions();
+
+		ProviderTestClient providerClient1 = new ProviderTestClient(providerTestOptions);
+
+		// Provider_1 provides the DIRECT_FEED service name
+		OmmProvider ommprovider = EmaFactory.createOmmProvider(config.port("19001").providerName("Provider_1"), providerClient1);
+
+		assertNotNull(ommprovider);
+
+		ProviderTestClient providerClient2 = new ProviderTestClient(providerTestOptions);
+
+		OmmProvider ommprovider2 = EmaFactory.createOmmProvider(config.port("19004").providerName("Provider_1"), providerClient2);
+
+		assertNotNull(ommprovider2);
+
+		ExecutorService callbackExecutor = Executors.newFixedThreadPool(2, runnable -> new Thread(runnable, "CallbackExecutor"));
+
+		List<String> refreshThreads = Collections.synchronizedList(new ArrayList<String>());
+		List<Long> refreshHandles = Collections.synchronizedList(new ArrayList<Long>());
+		List<String> refreshNames = Collections.synchronizedList(new ArrayList<String>());
+
+		OmmConsumerClient consumerClient = new OmmConsumerClient()
+		{
+			@Override
+			public void onRefreshMsg(RefreshMsg refreshMsg, OmmConsumerEvent consumerEvent)
+			{
+				refreshThreads.add(Thread.currentThread().getName());
+				refreshHandles.add(consumerEvent.handle());
+				refreshNames.add(refreshMsg.name());
+			}
+
+			public void onUpdateMsg(UpdateMsg updateMsg, OmmConsumerEvent consumerEvent) {}
+			public void onStatusMsg(StatusMsg statusMsg, OmmConsumerEvent consumerEvent) {}
+			public void onGenericMsg(GenericMsg genericMsg, OmmConsumerEvent consumerEvent) {}
+			public void onAckMsg(AckMsg ackMsg, OmmConsumerEvent consumerEvent) {}
+			public void onAllMsg(Msg msg, OmmConsumerEvent consumerEvent) {}
+		};
+
+		OmmConsumer consumer = null;
+
+		try
+		{
+			consumer  = EmaFactory.createOmmConsumer(EmaFactory.createOmmConsumerConfig(emaConfigFileLocation).consumerName("Consumer_9")
+					.callbackExecutor(callbackExecutor, 2, 100));
+
+			ReqMsg reqMsg = EmaFactory.createReqMsg();
+
+			long itemHandle1 = consumer.registerClient(reqMsg.clear().serviceName("DIRECT_FEED").name("LSEG.O"), consumerClient);
+			long itemHandle2 = consumer.registerClient(reqMsg.clear().serviceName("DIRECT_FEED").name("IBM.N"), consumerClient);
+			long itemHandle3 = consumer.registerClient(reqMsg.clear().serviceName("DIRECT_FEED").name("TRI.N"), consumerClient);
+
+			Thread.sleep(2000);
+
+			/* The refresh messages are copies delivered on the executor threads. */
+			assertEquals(3, refreshHandles.size());
+			for (String threadName : refreshThreads)
+				assertEquals("CallbackExecutor", threadName);
+
+			assertEquals("LSEG.O", refreshNames.get(refreshHandles.indexOf(itemHandle1)));
+			assertEquals("IBM.N", refreshNames.get(refreshHandles.indexOf(itemHandle2)));
+			assertEquals("TRI.N", refreshNames.get(refreshHandles.indexOf(itemHandle3)));
+
+			consumer.unregister(itemHandle1);
+			consumer.unregister(itemHandle2);
+			consumer.unregister(itemHandle3);
+		}
+		catch(OmmException excep)
+		{
+			assertFalse(true);
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+		}
+		finally {
+			System.out.println("Uninitializing...");
+
+			consumer.uninitialize();
+			ommprovider.uninitialize();
+			ommprovider2.uninitialize();
+			callbackExecutor.shutdown();
+		}
+	}
+
+	@Test
+	public void testItemCallbacksOnCallbackExecutorKeepItemOrder()
+	{
+		TestUtilities.printTestHead("testItemCallbacksOnCallbackExecutorKeepItemOrder","");
+
+		String emaConfigFileLocation = "./src/test/resources/com/refinitiv/ema/unittest/OmmConsumerTests/EmaConfigTest.xml";
+
+		OmmIProviderConfig config = EmaFactory.createOmmIProviderConfig(emaConfigFileLocation);
+
+		ProviderTestOptions providerTestOptions = new ProviderTestOptions();
+
+		ProviderTestClient providerClient = new ProviderTestClient(providerTestOptions);
+
+		// Provider_1 provides the DIRECT_FEED service name
+		OmmProvider ommprovider = EmaFactory.createOmmProvider(config.port("19001").providerName("Provider_1"), providerClient);
+
+		assertNotNull(ommprovider);
+
+		ExecutorService callbackExecutor = Executors.newFixedThreadPool(4, runnable -> new Thread(runnable, "CallbackExecutor"));
+
+		final int updateCount = 500;
+		final String[] itemNames = { "LSEG.O", "IBM.N", "TRI.N" };
+		List<List<Long>> receivedValues = new ArrayList<List<Long>>();
+
+		OmmConsumerClient consumerClient = new OmmConsumerClient()
+		{
+			@SuppressWarnings("unchecked")
+			@Override
+			public void onRefreshMsg(RefreshMsg refreshMsg, OmmConsumerEvent consumerEvent)
+			{
+				((List<Long>)consumerEvent.closure()).add(-1L);
+			}
+
+			@SuppressWarnings("unchecked")
+			@Override
+			public void onUpdateMsg(UpdateMsg updateMsg, OmmConsumerEvent consumerEvent)
+			{
+				for (FieldEntry fieldEntry : updateMsg.payload().fieldList())
+				{
+					if (fieldEntry.fieldId() == 22)
+						((List<Long>)consumerEvent.closure()).add(fieldEntry.real().mantissa());
+				}
+
+				// give the other executor threads a chance to overtake this callback
+				if (ThreadLocalRandom.current().nextInt(8) == 0)
+					Thread.yield();
+			}
+
+			public void onStatusMsg(StatusMsg statusMsg, OmmConsumerEvent consumerEvent) {}
+			public void onGenericMsg(GenericMsg genericMsg, OmmConsumerEvent consumerEvent) {}
+			public void onAckMsg(AckMsg ackMsg, OmmConsumerEvent consumerEvent) {}
+			public void onAllMsg(Msg msg, OmmConsumerEvent consumerEvent) {}
+		};
+
+		OmmConsumer consumer = null;
+
+		try
+		{
+			consumer  = EmaFactory.createOmmConsumer(EmaFactory.createOmmConsumerConfig(emaConfigFileLocation).consumerName("Consumer_1")
+					.callbackExecutor(callbackExecutor, 2, 100));
+
+			ReqMsg reqMsg = EmaFactory.createReqMsg();
+
+			long[] itemHandles = new long[itemNames.length];
+			for (int i = 0; i < itemNames.length; ++i)
+			{
+				receivedValues.add(Collections.synchronizedList(new ArrayList<Long>()));
+				itemHandles[i] = consumer.registerClient(reqMsg.clear().serviceName("DIRECT_FEED").name(itemNames[i]), consumerClient, receivedValues.get(i));
+			}
+
+			Thread.sleep(2000);
+
+			FieldList fieldList = EmaFactory.createFieldList();
+			UpdateMsg updateMsg = EmaFactory.createUpdateMsg();
+			for (int value = 0; value < updateCount; ++value)
+			{
+				for (String itemName : itemNames)
+				{
+					fieldList.clear();
+					fieldList.add(EmaFactory.createFieldEntry().real(22, value, OmmReal.MagnitudeType.EXPONENT_0));
+					ommprovider.submit(updateMsg.clear().payload(fieldList), providerClient.retriveItemHandle(itemName));
+				}
+			}
+
+			long endTime = System.currentTimeMillis() + 10000;
+			while (System.currentTimeMillis() < endTime && receivedValues.stream().mapToInt(List::size).sum() < (updateCount + 1) * itemNames.length)
+				Thread.sleep(100);
+
+			/* Every item sees its refresh and then its updates in the order the provider sent them. */
+			for (List<Long> values : receivedValues)
+			{
+				assertEquals(updateCount + 1, values.size());
+				assertEquals(-1L, (long)values.get(0));
+				for (int value = 0; value < updateCount; ++value)
+					assertEquals(value, (long)values.get(value + 1));
+			}
+
+			for (long itemHandle : itemHandles)
+				consumer.unregister(itemHandle);
+		}
+		catch(OmmException excep)
+		{
+			assertFalse(true);
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+		}
+		finally {
+			System.out.println("Uninitializing...");
+
+			if (consumer != null)
+				consumer.uninitialize();
+			ommprovider.uninitialize();
+			callbackExecutor.shutdown();
+		}
+	}
+
+	@Test
+	public void testItemCallbacksOnCallbackExecutorBackpressure()
+	{
+		TestUtilities.printTestHead("testItemCallbacksOnCallbackExecutorBackpressure","");
+
+		String emaConfigFileLocation = "./src/test/resources/com/refinitiv/ema/unittest/OmmConsumerTests/EmaConfigTest.xml";
+
+		OmmIProviderConfig config = EmaFactory.createOmmIProviderConfig(emaConfigFileLocation);
+
+		ProviderTestOptions providerTestOptions = new ProviderTestOptions();
+
+		ProviderTestClient providerClient = new ProviderTestClient(providerTestOptions);
+
+		// Provider_1 provides the DIRECT_FEED service name
+		OmmProvider ommprovider = EmaFactory.createOmmProvider(config.port("19001").providerName("Provider_1"), providerClient);
+
+		assertNotNull(ommprovider);
+
+		ExecutorService callbackExecutor = Executors.newFixedThreadPool(2, runnable -> new Thread(runnable, "CallbackExecutor"));
+
+		final int maxPendingCallbacks = 10;
+		final int updateCount = 1000;
+		CountDownLatch releaseCallbacks = new CountDownLatch(1);
+		List<Long> receivedValues = Collections.synchronizedList(new ArrayList<Long>());
+
+		OmmConsumerClient consumerClient = new OmmConsumerClient()
+		{
+			@Override
+			public void onUpdateMsg(UpdateMsg updateMsg, OmmConsumerEvent consumerEvent)
+			{
+				// the first update holds up the item's callbacks until the test releases them
+				try
+				{
+					releaseCallbacks.await(30, TimeUnit.SECONDS);
+				}
+				catch (InterruptedException e)
+				{
+					Thread.currentThread().interrupt();
+				}
+
+				for (FieldEntry fieldEntry : updateMsg.payload().fieldList())
+				{
+					if (fieldEntry.fieldId() == 22)
+						receivedValues.add(fieldEntry.real().mantissa());
+				}
+			}
+
+			public void onRefreshMsg(RefreshMsg refreshMsg, OmmConsumerEvent consumerEvent) {}
+			public void onStatusMsg(StatusMsg statusMsg, OmmConsumerEvent consumerEvent) {}
+			public void onGenericMsg(GenericMsg genericMsg, OmmConsumerEvent consumerEvent) {}
+			public void onAckMsg(AckMsg ackMsg, OmmConsumerEvent consumerEvent) {}
+			public void onAllMsg(Msg msg, OmmConsumerEvent consumerEvent) {}
+		};
+
+		OmmConsumer consumer = null;
+
+		try
+		{
+			consumer  = EmaFactory.createOmmConsumer(EmaFactory.createOmmConsumerConfig(emaConfigFileLocation).consumerName("Consumer_1")
+					.callbackExecutor(callbackExecutor, 2, maxPendingCallbacks));
+
+			ItemCallbackExecutor itemCallbackExecutor = ((OmmConsumerImpl)consumer).itemCallbackExecutor();
+
+			ReqMsg reqMsg = EmaFactory.createReqMsg();
+
+			long itemHandle = consumer.registerClient(reqMsg.clear().serviceName("DIRECT_FEED").name("LSEG.O"), consumerClient);
+
+			Thread.sleep(2000);
+
+			FieldList fieldList = EmaFactory.createFieldList();
+			UpdateMsg updateMsg = EmaFactory.createUpdateMsg();
+			for (int value = 0; value < updateCount; ++value)
+			{
+				fieldList.clear();
+				fieldList.add(EmaFactory.createFieldEntry().real(22, value, OmmReal.MagnitudeType.EXPONENT_0));
+				ommprovider.submit(updateMsg.clear().payload(fieldList), providerClient.retriveItemHandle("LSEG.O"));
+			}
+
+			Thread.sleep(2000);
+
+			/* The queue is full, so the dispatching thread stopped reading: the backlog neither grows nor drains. */
+			int pendingCallbacks = itemCallbackExecutor.pendingCallbacks();
+			assertTrue("pending callbacks " + pendingCallbacks, pendingCallbacks >= maxPendingCallbacks);
+			assertTrue("pending callbacks " + pendingCallbacks, pendingCallbacks < updateCount - 1);
+
+			Thread.sleep(1000);
+
+			assertEquals(pendingCallbacks, itemCallbackExecutor.pendingCallbacks());
+			assertEquals(0, receivedValues.size());
+
+			/* Once the callbacks run again, the dispatching thread reads the rest of the updates. */
+			releaseCallbacks.countDown();
+
+			long endTime = System.currentTimeMillis() + 10000;
+			while (System.currentTimeMillis() < endTime && receivedValues.size() < updateCount)
+				Thread.sleep(100);
+
+			assertEquals(updateCount, receivedValues.size());
+			for (int value = 0; value < updateCount; ++value)
+				assertEquals(value, (long)receivedValues.get(value));
+			assertEquals(0, itemCallbackExecutor.pendingCallbacks());
+
+			consumer.unregister(itemHandle);
+		}
+		catch(OmmException excep)
+		{
+			assertFalse(true);
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+		}
+		finally {
+			System.out.println("Uninitializing...");
+
+			releaseCallbacks.countDown();
+			if (consumer != null)
+				consumer.uninitialize();
+			ommprovider.uninitialize();
+			callbackExecutor.shutdown();
+		}
+	}
+
+	@Test
+	public void testRegisterClientWithFieldIdFilter()
+	{
+		TestUtilities.printTestHead("testRegisterClientWithFieldIdFilter","");
+
+		String emaConfigFileLocation = "./src/test/resources/com/refinitiv/ema/unittest/OmmConsumerTests/EmaConfigTest.xml";
+
+		OmmIProviderConfig config = EmaFactory.createOmmIProviderConfig(emaConfigFileLocation);
+
+		ProviderTestOptions providerTestOptions = new ProviderTestOptions();
+
+		ProviderTestClient providerClient1 = new ProviderTestClient(providerTestOptions);
+
+		// Provider_1 provides the DIRECT_FEED service name
+		OmmProvider ommprovider = EmaFactory.createOmmProvider(config.port("19001").providerName("Provider_1"), providerClient1);
+
+		assertNotNull(ommprovider);
+
+		ProviderTestClient providerClient2 = new ProviderTestClient(providerTestOptions);
+
+		OmmProvider ommprovider2 = EmaFactory.createOmmProvider(config.port("19004").providerName("Provider_1"), providerClient2);
+
+		assertNotNull(ommprovider2);
+
+		List<Long> refreshHandles = Collections.synchronizedList(new ArrayList<Long>());
+		List<List<Integer>> refreshFieldIds = Collections.synchronizedList(new ArrayList<List<Integer>>());
+
+		OmmConsumerClient consumerClient = new OmmConsumerClient()
+		{
+			@Override
+			public void onRefreshMsg(RefreshMsg refreshMsg, OmmConsumerEvent consumerEvent)
+			{
+				List<Integer> fieldIds = new ArrayList<Integer>();
+				for (FieldEntry fieldEntry : refreshMsg.payload().fieldList())
+					fieldIds.add(fieldEntry.fieldId());
+
+				refreshHandles.add(consumerEvent.handle());
+				refreshFieldIds.add(fieldIds);
+			}
+
+			public void onUpdateMsg(UpdateMsg updateMsg, OmmConsumerEvent consumerEvent) {}
+			public void onStatusMsg(StatusMsg statusMsg, OmmConsumerEvent consumerEvent) {}
+			public void onGenericMsg(GenericMsg genericMsg, OmmConsumerEvent consumerEvent) {}
+			public void onAckMsg(AckMsg ackMsg, OmmConsumerEvent consumerEvent) {}
+			public void onAllMsg(Msg msg, OmmConsumerEvent consumerEvent) {}
+		};
+
+		OmmConsumer consumer = null;
+
+		try
+		{
+			consumer  = EmaFactory.createOmmConsumer(EmaFactory.createOmmConsumerConfig(emaConfigFileLocation).consumerName("Consumer_9"));
+
+			ReqMsg reqMsg = EmaFactory.createReqMsg();
+
+			long itemHandle1 = consumer.registerClient(reqMsg.clear().serviceName("DIRECT_FEED").name("LSEG.O").fieldIdFilter(new int[] {31, 25}), consumerClient);
+			long itemHandle2 = consumer.registerClient(reqMsg.clear().serviceName("DIRECT_FEED").name("IBM.N"), consumerClient);
+
+			Thread.sleep(2000);
+
+			/* Only the entries of the field id filter are decoded from the payload of the first item. */
+			assertEquals(2, refreshHandles.size());
+			assertEquals(java.util.Arrays.asList(25, 31), refreshFieldIds.get(refreshHandles.indexOf(itemHandle1)));
+			assertEquals(java.util.Arrays.asList(22, 25, 30, 31), refreshFieldIds.get(refreshHandles.indexOf(itemHandle2)));
+
+			consumer.unregister(itemHandle1);
+			consumer.unregister(itemHandle2);
+		}
+		catch(OmmException excep)
+		{
+			assertFalse(true);
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+		}
+		finally {
+			System.out.println("Uninitializing...");
+
+			consumer.uninitialize();
+			ommprovider.uninitialize();
+			ommprovider2.uninitialize();
+		}
+	}
+
+	@Test
+	public void testSharingDictionaryBetweenConsumers()
+	{
+		TestUtilities.printTestHead("testSharingDictionaryBetweenConsumers","");
+
+		String emaConfigFileLocation = "./src/test/resources/com/refinitiv/ema/unittest/OmmConsumerTests/EmaConfigTest.xml";
+
+		OmmIProviderConfig config = EmaFactory.createOmmIProviderConfig(emaConfigFileLocation);
+
+		ProviderTestOptions providerTestOptions = new ProviderTestOptions();
+
+		ProviderTestClient providerClient1 = new ProviderTestClient(providerTestOptions);
+
+		// Provider_1 provides the DIRECT_FEED service name
+		OmmProvider ommprovider = EmaFactory.createOmmProvider(config.port("19001").providerName("Provider_1"), providerClient1);
+
+		assertNotNull(ommprovider);
+
+		ProviderTestClient providerClient2 = new ProviderTestClient(providerTestOptions);
+
+		OmmProvider ommprovider2 = EmaFactory.createOmmProvider(config.port("19004").providerName("Provider_1"), providerClient2);
+
+		assertNotNull(ommprovider2);
+
+		OmmConsumerImpl consumer1 = null;
+		OmmConsumerImpl consumer2 = null;
+		OmmConsumerImpl consumer3 = null;
+		OmmConsumerImpl consumer4 = null;
+
+		try
+		{
+			/* Consumer_11 downloads the dictionary and shares it, the second instance uses the dictionary downloaded by the first one. */
+			consumer1 = (OmmConsumerImpl)EmaFactory.createOmmConsumer(EmaFactory.createOmmConsumerConfig(emaConfigFileLocation).consumerName("Consumer_11"));
+			consumer2 = (OmmConsumerImpl)EmaFactory.createOmmConsumer(EmaFactory.createOmmConsumerConfig(emaConfigFileLocation).consumerName("Consumer_11"));
+
+			assertTrue(consumer1.dictionaryCallbackClient().channelDictionaryList().get(0).isShared());
+			assertTrue(consumer2.dictionaryCallbackClient().channelDictionaryList().get(0).isShared());
+			assertTrue(consumer2.dictionaryCallbackClient().isDictionaryReady());
+			assertSame(consumer1.dictionaryCallbackClient().defaultRsslDictionary(), consumer2.dictionaryCallbackClient().defaultRsslDictionary());
+			assertTrue(consumer2.dictionaryCallbackClient().defaultRsslDictionary().numberOfEntries() > 0);
+			assertTrue(consumer2.dictionaryCallbackClient().defaultRsslDictionary().enumTableCount() > 0);
+
+			/* Consumer_9 loads the dictionary from files, which are loaded once. */
+			consumer3 = (OmmConsumerImpl)EmaFactory.createOmmConsumer(EmaFactory.createOmmConsumerConfig(emaConfigFileLocation).consumerName("Consumer_9"));
+			consumer4 = (OmmConsumerImpl)EmaFactory.createOmmConsumer(EmaFactory.createOmmConsumerConfig(emaConfigFileLocation).consumerName("Consumer_9"));
+
+			assertTrue(consumer3.dictionaryCallbackClient().isLocalDictionary());
+			assertSame(consumer3.dictionaryCallbackClient().defaultRsslDictionary(), consumer4.dictionaryCallbackClient().defaultRsslDictionary());
+			assertTrue(consumer4.dictionaryCallbackClient().defaultRsslDictionary().numberOfEntries() > 0);
+		}
+		catch(OmmException excep)
+		{
+			assertFalse(true);
+		}
+		finally {
+			System.out.println("Uninitializing...");
+
+			if (consumer1 != null)
+				consumer1.uninitialize();
+			if (consumer2 != null)
+				consumer2.uninitialize();
+			if (consumer3 != null)
+				consumer3.uninitialize();
+			if (consumer4 != null)
+				consumer4.uninitialize();
+			ommprovider.uninitialize();
+			ommprovider2.uninitialize();
+		}
+	}
 }
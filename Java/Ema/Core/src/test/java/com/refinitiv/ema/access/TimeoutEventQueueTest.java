@@ -0,0 +1,126 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.junit.Test;
+
+import com.refinitiv.eta.valueadd.common.VaPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TimeoutEventQueueTest
+{
+	private static final long LONG_TIMEOUT = 60000000000L;
+
+	private final VaPool _pool = new VaPool(true);
+	private final TimeoutEventQueue _queue = new TimeoutEventQueue();
+	private final Set<TimeoutEvent> _created = Collections.newSetFromMap(new IdentityHashMap<TimeoutEvent, Boolean>());
+	private int _timeoutCount;
+
+	private final TimeoutClient _client = new TimeoutClient()
+	{
+		private final ReentrantLock _userLock = new ReentrantLock();
+
+		@Override
+		public void handleTimeoutEvent()
+		{
+			_timeoutCount++;
+		}
+
+		@Override
+		public ReentrantLock userLock()
+		{
+			return _userLock;
+		}
+	};
+
+	/* Same as OmmBaseImpl.addTimeoutEvent(), without the wakeup of the dispatching thread. */
+	private TimeoutEvent addTimeoutEvent(long timeoutInNanoSec)
+	{
+		TimeoutEvent event = (TimeoutEvent) _pool.poll();
+		if (event == null)
+		{
+			event = new TimeoutEvent(timeoutInNanoSec, _client);
+			_pool.updatePool(event);
+			_created.add(event);
+		}
+		else
+			event.timeoutInNanoSec(timeoutInNanoSec, _client);
+		_queue.add(event);
+		return event;
+	}
+
+	@Test
+	public void canceledScheduledEventsAreReused()
+	{
+		for (int round = 0; round < 1000; round++)
+		{
+			List<TimeoutEvent> events = new ArrayList<TimeoutEvent>();
+			for (int i = 0; i < 10; i++)
+				events.add(addTimeoutEvent(LONG_TIMEOUT));
+
+			// schedule the events in the wheel, then cancel them
+			assertTrue(_queue.userTimeOutExist() > 0);
+			for (TimeoutEvent event : events)
+				event.cancel();
+
+			assertEquals(-1, _queue.userTimeOutExist());
+			assertEquals(10, _pool.size());
+		}
+
+		assertEquals(10, _created.size());
+	}
+
+	@Test
+	public void canceledEventsNotYetScheduledAreReused()
+	{
+		for (int round = 0; round < 1000; round++)
+		{
+			TimeoutEvent event = addTimeoutEvent(LONG_TIMEOUT);
+			event.cancel();
+			assertEquals(0, _pool.size());
+
+			// the event is returned once the dispatching thread takes it off the added events
+			assertEquals(-1, _queue.userTimeOutExist());
+			assertEquals(1, _pool.size());
+		}
+
+		assertEquals(1, _created.size());
+	}
+
+	@Test
+	public void eventIsReturnedToPoolOnce()
+	{
+		TimeoutEvent canceled = addTimeoutEvent(LONG_TIMEOUT);
+		_queue.userTimeOutExist();
+		canceled.cancel();
+		canceled.cancel();
+		assertEquals(1, _pool.size());
+
+		// an expired event goes back to the pool after its client is called, canceling it afterwards does nothing
+		TimeoutEvent expired = addTimeoutEvent(0);
+		_queue.execute();
+		assertEquals(1, _timeoutCount);
+		assertEquals(1, _pool.size());
+		expired.cancel();
+		assertEquals(1, _pool.size());
+		assertFalse(_queue.userTimeOutExist() >= 0);
+
+		assertEquals(1, _created.size());
+	}
+}
@@ -12,7 +12,10 @@ import java.nio.ByteBuffer;
 
 import org.junit.Test;
 
+import com.refinitiv.ema.access.EmaFactory;
 import com.refinitiv.ema.access.EmaUtility;
+import com.refinitiv.ema.access.FieldList;
+import com.refinitiv.ema.access.OmmReal;
 
 import junit.framework.TestCase;
 
@@ -64,4 +67,19 @@ public class EmaUtilityTests extends TestCase {
 		
 		TestUtilities.checkResult(hexString.equals(expectedOutput), "EmaUtility.asHexString(ByteBuffer buffer) with no bytes");
 	}
+
+	@Test
+	public void testGlobalPoolCounters()
+	{
+		long hits = EmaUtility.globalPoolHitCount();
+		long misses = EmaUtility.globalPoolMissCount();
+
+		// each entry takes its ETA primitive from the global pool
+		FieldList fieldList = EmaFactory.createFieldList();
+		for (int i = 0; i < 10; i++)
+			fieldList.add(EmaFactory.createFieldEntry().real(22, 3990 + i, OmmReal.MagnitudeType.EXPONENT_NEG_2));
+
+		TestUtilities.checkResult(EmaUtility.globalPoolHitCount() + EmaUtility.globalPoolMissCount() >= hits + misses + 10,
+				"EmaUtility.globalPoolHitCount() and globalPoolMissCount() count the pooled primitives");
+	}
 }
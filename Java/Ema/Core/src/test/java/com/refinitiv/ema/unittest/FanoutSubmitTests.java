@@ -0,0 +1,504 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.unittest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.refinitiv.ema.access.AckMsg;
+import com.refinitiv.ema.access.EmaFactory;
+import com.refinitiv.ema.access.FieldEntry;
+import com.refinitiv.ema.access.FieldList;
+import com.refinitiv.ema.access.GenericMsg;
+import com.refinitiv.ema.access.Msg;
+import com.refinitiv.ema.access.OmmConsumer;
+import com.refinitiv.ema.access.OmmConsumerClient;
+import com.refinitiv.ema.access.OmmConsumerEvent;
+import com.refinitiv.ema.access.OmmException;
+import com.refinitiv.ema.access.OmmIProviderConfig;
+import com.refinitiv.ema.access.OmmInvalidUsageException;
+import com.refinitiv.ema.access.OmmProvider;
+import com.refinitiv.ema.access.OmmProviderClient;
+import com.refinitiv.ema.access.OmmProviderEvent;
+import com.refinitiv.ema.access.OmmReal;
+import com.refinitiv.ema.access.OmmState;
+import com.refinitiv.ema.access.PostMsg;
+import com.refinitiv.ema.access.RefreshMsg;
+import com.refinitiv.ema.access.ReqMsg;
+import com.refinitiv.ema.access.Series;
+import com.refinitiv.ema.access.StatusMsg;
+import com.refinitiv.ema.access.UpdateMsg;
+import com.refinitiv.ema.rdm.DataDictionary;
+import com.refinitiv.ema.rdm.EmaRdm;
+
+import junit.framework.TestCase;
+
+public class FanoutSubmitTests extends TestCase
+{
+	private static final int CONSUMER_COUNT = 3;
+
+	public FanoutSubmitTests(String name)
+	{
+		super(name);
+	}
+
+	class OmmConsumerTestClient implements OmmConsumerClient
+	{
+		public List<Long> updateValues = new ArrayList<Long>();
+
+		public void onRefreshMsg(RefreshMsg refreshMsg, OmmConsumerEvent consumerEvent) {}
+
+		public synchronized void onUpdateMsg(UpdateMsg updateMsg, OmmConsumerEvent consumerEvent)
+		{
+			TestUtilities.checkResult(updateMsg.hasServiceId(), "UpdateMsg.hasServiceId()");
+
+			TestUtilities.checkResult(updateMsg.serviceId() == 1 , "UpdateMsg.serviceId()");
+
+			for (FieldEntry fieldEntry : updateMsg.payload().fieldList())
+			{
+				if (fieldEntry.fieldId() == 22)
+					updateValues.add(fieldEntry.real().mantissa());
+			}
+		}
+
+		public synchronized List<Long> updateValues()
+		{
+			return new ArrayList<Long>(updateValues);
+		}
+
+		public void onStatusMsg(StatusMsg statusMsg, OmmConsumerEvent consumerEvent) {}
+		public void onGenericMsg(GenericMsg genericMsg, OmmConsumerEvent consumerEvent) {}
+		public void onAckMsg(AckMsg ackMsg, OmmConsumerEvent consumerEvent) {}
+		public void onAllMsg(Msg msg, OmmConsumerEvent consumerEvent) {}
+	}
+
+	class OmmProviderTestClient implements OmmProviderClient
+	{
+		public List<Long> itemHandles = new ArrayList<Long>();
+		public DataDictionary dataDictionary = EmaFactory.createDataDictionary();
+		private Series series = EmaFactory.createSeries();
+
+		OmmProviderTestClient()
+		{
+			dataDictionary.loadFieldDictionary( TestDictionaries.fieldDictionaryFileName );
+			dataDictionary.loadEnumTypeDictionary( TestDictionaries.enumTableFileName );
+		}
+
+		public void onRefreshMsg(RefreshMsg refreshMsg, OmmProviderEvent providerEvent) {}
+		public void onStatusMsg(StatusMsg statusMsg, OmmProviderEvent providerEvent) {}
+		public void onGenericMsg(GenericMsg genericMsg, OmmProviderEvent providerEvent) {}
+		public void onPostMsg(PostMsg postMsg, OmmProviderEvent providerEvent) {}
+		public void onReissue(ReqMsg reqMsg, OmmProviderEvent providerEvent) {}
+		public void onClose(ReqMsg reqMsg, OmmProviderEvent providerEvent) {}
+		public void onAllMsg(Msg msg, OmmProviderEvent providerEvent) {}
+
+		@Override
+		public void onReqMsg(ReqMsg reqMsg, OmmProviderEvent event)
+		{
+			switch (reqMsg.domainType())
+			{
+				case EmaRdm.MMT_LOGIN :
+					event.provider().submit( EmaFactory.createRefreshMsg().domainType(EmaRdm.MMT_LOGIN).name(reqMsg.name()).
+							nameType(EmaRdm.USER_NAME).complete(true).solicited(true).
+							state(OmmState.StreamState.OPEN, OmmState.DataState.OK, OmmState.StatusCode.NONE, "Login accepted"),
+							event.handle() );
+					break;
+				case EmaRdm.MMT_MARKET_PRICE :
+					FieldList fieldList = EmaFactory.createFieldList();
+					fieldList.add( EmaFactory.createFieldEntry().real(22, 3990, OmmReal.MagnitudeType.EXPONENT_NEG_2));
+
+					event.provider().submit( EmaFactory.createRefreshMsg().name(reqMsg.name()).serviceId(reqMsg.serviceId()).solicited(true).
+							state(OmmState.StreamState.OPEN, OmmState.DataState.OK, OmmState.StatusCode.NONE, "Refresh Completed").
+							payload(fieldList).complete(true),
+							event.handle() );
+
+					itemHandles.add(event.handle());
+					break;
+				case EmaRdm.MMT_DICTIONARY:
+					processDictionaryRequest(reqMsg, event);
+					break;
+				default :
+					event.provider().submit( EmaFactory.createStatusMsg().name(reqMsg.name()).serviceName(reqMsg.serviceName()).
+							state(OmmState.StreamState.CLOSED, OmmState.DataState.SUSPECT,	OmmState.StatusCode.NOT_FOUND, "Item not found"),
+							event.handle() );
+					break;
+			}
+		}
+
+		void processDictionaryRequest(ReqMsg reqMsg, OmmProviderEvent event)
+		{
+			RefreshMsg refreshMsg = EmaFactory.createRefreshMsg();
+			boolean result = false;
+
+			if ( reqMsg.name().equals( "RWFFld" ) )
+			{
+				int currentValue = dataDictionary.minFid();
+
+				while ( !result )
+				{
+					currentValue = dataDictionary.encodeFieldDictionary( series, currentValue, reqMsg.filter(), 96000 );
+
+					result = currentValue == dataDictionary.maxFid();
+
+					event.provider().submit( refreshMsg.clear().name( reqMsg.name() ).serviceName( reqMsg.serviceName() ).
+							domainType( EmaRdm.MMT_DICTIONARY ).filter( reqMsg.filter() ).payload( series ).complete( result ).
+							solicited( true ), event.handle() );
+				}
+			}
+			else if ( reqMsg.name().equals( "RWFEnum" ) )
+			{
+				int currentValue = 0;
+
+				while ( !result )
+				{
+					currentValue = dataDictionary.encodeEnumTypeDictionary( series, currentValue, reqMsg.filter(), 96000 );
+
+					result = currentValue == dataDictionary.enumTables().size();
+
+					event.provider().submit( refreshMsg.clear().name( reqMsg.name() ).serviceName( reqMsg.serviceName() ).
+							domainType( EmaRdm.MMT_DICTIONARY ).filter( reqMsg.filter() ).payload( series ).complete( result ).
+							solicited( true ), event.handle() );
+				}
+			}
+		}
+	}
+
+	class ConsumerThread extends Thread
+	{
+		OmmConsumer consumer = null;
+		OmmConsumerTestClient consumerClient = new OmmConsumerTestClient();
+		String[] itemNames = { "IBM.N" };
+		List<Long> itemHandles = Collections.synchronizedList(new ArrayList<Long>());
+
+		public void run()
+		{
+			try {
+				consumer = EmaFactory.createOmmConsumer(EmaFactory.createOmmConsumerConfig().host("localhost:14012").username("user"));
+
+				for (String itemName : itemNames)
+					itemHandles.add(consumer.registerClient(EmaFactory.createReqMsg().serviceName("DIRECT_FEED").name(itemName), consumerClient));
+			}
+			catch (Exception e) {
+
+			}
+		}
+
+		public void shutdown()
+		{
+			if (consumer != null)
+				consumer.uninitialize();
+		}
+	}
+
+	private UpdateMsg createUpdateMsg(long value)
+	{
+		FieldList fieldList = EmaFactory.createFieldList();
+		fieldList.add(EmaFactory.createFieldEntry().real(22, value, OmmReal.MagnitudeType.EXPONENT_NEG_2));
+
+		return EmaFactory.createUpdateMsg().serviceName("DIRECT_FEED").payload(fieldList);
+	}
+
+	public void testFanoutSubmit_HandlesAndName()
+	{
+		TestUtilities.printTestHead("testFanoutSubmit_HandlesAndName", "Fanout UpdateMsgs to the item streams of several EMA OmmConsumers by handles, and by service and item names");
+
+		OmmProvider provider = null;
+		OmmProviderTestClient providerClient = new OmmProviderTestClient();
+		ConsumerThread[] consumerThreads = new ConsumerThread[CONSUMER_COUNT];
+
+		try {
+			OmmIProviderConfig providerConfig = EmaFactory.createOmmIProviderConfig();
+			provider = EmaFactory.createOmmProvider(providerConfig.port("14012").
+					adminControlDictionary(OmmIProviderConfig.AdminControl.USER_CONTROL), providerClient);
+
+			for (int i = 0; i < CONSUMER_COUNT; i++)
+			{
+				consumerThreads[i] = new ConsumerThread();
+				consumerThreads[i].start();
+			}
+
+			for (int i = 0; i < 20 && providerClient.itemHandles.size() < CONSUMER_COUNT; i++)
+			{
+				provider.dispatch(1000);
+				Thread.sleep(500);
+			}
+			TestUtilities.checkResult(providerClient.itemHandles.size() == CONSUMER_COUNT);
+
+			long[] handles = new long[CONSUMER_COUNT - 1];
+			for (int i = 0; i < handles.length; i++)
+				handles[i] = providerClient.itemHandles.get(i);
+
+			provider.submit(createUpdateMsg(3991), handles);
+			provider.submit(createUpdateMsg(3992), "DIRECT_FEED", "IBM.N");
+			provider.submit(createUpdateMsg(3993), "DIRECT_FEED", "TRI.N");
+
+			try
+			{
+				provider.submit(createUpdateMsg(3994), new long[] { handles[0], 12345678 });
+				TestUtilities.checkResult(false);
+			}
+			catch (OmmInvalidUsageException excp)
+			{
+				TestUtilities.checkResult(excp.getMessage().contains("non existent Handle = 12345678"));
+			}
+
+			try
+			{
+				provider.submit(createUpdateMsg(3995), "UNKNOWN_FEED", "IBM.N");
+				TestUtilities.checkResult(false);
+			}
+			catch (OmmInvalidUsageException excp)
+			{
+				TestUtilities.checkResult(excp.getMessage().contains("UNKNOWN_FEED"));
+			}
+
+			provider.dispatch(1000);
+			Thread.sleep(2000); // Allow time for the consumers to get the messages
+		}
+		catch (InterruptedException | OmmException excp)
+		{
+			System.out.println(excp.getMessage());
+			TestUtilities.checkResult(false);
+		}
+		finally
+		{
+			for (ConsumerThread consumerThread : consumerThreads)
+			{
+				if (consumerThread != null)
+					consumerThread.shutdown();
+			}
+			if (provider != null) provider.uninitialize();
+		}
+
+		/* The consumers of the given handles get both updates, the other consumer only gets the update sent by name. */
+		int bothUpdates = 0;
+		int nameUpdateOnly = 0;
+		for (ConsumerThread consumerThread : consumerThreads)
+		{
+			List<Long> updateValues = consumerThread.consumerClient.updateValues();
+			if (updateValues.size() == 2 && updateValues.get(0) == 3991 && updateValues.get(1) == 3992)
+				bothUpdates++;
+			else if (updateValues.size() == 1 && updateValues.get(0) == 3992)
+				nameUpdateOnly++;
+		}
+		TestUtilities.checkResult(bothUpdates == CONSUMER_COUNT - 1);
+		TestUtilities.checkResult(nameUpdateOnly == 1);
+	}
+
+	public void testSubmit_ConcurrentPerClientSession()
+	{
+		TestUtilities.printTestHead("testSubmit_ConcurrentPerClientSession", "Submit UpdateMsgs from one thread per EMA OmmConsumer while the provider dispatches");
+
+		final int updateCount = 200;
+		OmmProvider provider = null;
+		OmmProviderTestClient providerClient = new OmmProviderTestClient();
+		ConsumerThread[] consumerThreads = new ConsumerThread[CONSUMER_COUNT];
+		List<Thread> publisherThreads = new ArrayList<Thread>();
+		List<Throwable> failures = new ArrayList<Throwable>();
+
+		try {
+			OmmIProviderConfig providerConfig = EmaFactory.createOmmIProviderConfig();
+			final OmmProvider ommProvider = provider = EmaFactory.createOmmProvider(providerConfig.port("14012").
+					adminControlDictionary(OmmIProviderConfig.AdminControl.USER_CONTROL), providerClient);
+
+			for (int i = 0; i < CONSUMER_COUNT; i++)
+			{
+				consumerThreads[i] = new ConsumerThread();
+				consumerThreads[i].start();
+			}
+
+			for (int i = 0; i < 20 && providerClient.itemHandles.size() < CONSUMER_COUNT; i++)
+			{
+				provider.dispatch(1000);
+				Thread.sleep(500);
+			}
+			TestUtilities.checkResult(providerClient.itemHandles.size() == CONSUMER_COUNT);
+
+			for (final long handle : providerClient.itemHandles)
+			{
+				publisherThreads.add(new Thread(() -> {
+					try
+					{
+						for (int i = 0; i < updateCount; i++)
+						{
+							FieldList fieldList = EmaFactory.createFieldList();
+							fieldList.add(EmaFactory.createFieldEntry().real(22, i, OmmReal.MagnitudeType.EXPONENT_NEG_2));
+							ommProvider.submit(EmaFactory.createUpdateMsg().payload(fieldList), handle);
+						}
+					}
+					catch (Throwable excp)
+					{
+						synchronized (failures)
+						{
+							failures.add(excp);
+						}
+					}
+				}));
+			}
+
+			for (Thread publisherThread : publisherThreads)
+				publisherThread.start();
+
+			for (Thread publisherThread : publisherThreads)
+			{
+				while (publisherThread.isAlive())
+				{
+					provider.dispatch(10);
+				}
+			}
+
+			provider.dispatch(1000);
+			Thread.sleep(2000); // Allow time for the consumers to get the messages
+		}
+		catch (InterruptedException | OmmException excp)
+		{
+			System.out.println(excp.getMessage());
+			TestUtilities.checkResult(false);
+		}
+		finally
+		{
+			for (ConsumerThread consumerThread : consumerThreads)
+			{
+				if (consumerThread != null)
+					consumerThread.shutdown();
+			}
+			if (provider != null) provider.uninitialize();
+		}
+
+		TestUtilities.checkResult(failures.isEmpty());
+
+		/* Every consumer gets the updates of its publisher thread in order. */
+		for (ConsumerThread consumerThread : consumerThreads)
+		{
+			List<Long> updateValues = consumerThread.consumerClient.updateValues();
+			TestUtilities.checkResult(updateValues.size() == updateCount);
+			for (int i = 0; i < updateValues.size(); i++)
+				TestUtilities.checkResult(updateValues.get(i) == i);
+		}
+	}
+
+	public void testSubmit_ConcurrentWithItemClose()
+	{
+		TestUtilities.printTestHead("testSubmit_ConcurrentWithItemClose", "Submit UpdateMsgs from several threads while the consumers close the items");
+
+		final int itemCount = 10;
+		OmmProvider provider = null;
+		OmmProviderTestClient providerClient = new OmmProviderTestClient();
+		ConsumerThread[] consumerThreads = new ConsumerThread[CONSUMER_COUNT];
+		List<Thread> publisherThreads = new ArrayList<Thread>();
+		List<Throwable> failures = new ArrayList<Throwable>();
+		boolean publishersStopped = false;
+
+		try {
+			OmmIProviderConfig providerConfig = EmaFactory.createOmmIProviderConfig();
+			final OmmProvider ommProvider = provider = EmaFactory.createOmmProvider(providerConfig.port("14012").
+					adminControlDictionary(OmmIProviderConfig.AdminControl.USER_CONTROL), providerClient);
+
+			for (int i = 0; i < CONSUMER_COUNT; i++)
+			{
+				consumerThreads[i] = new ConsumerThread();
+				consumerThreads[i].itemNames = new String[itemCount];
+				for (int j = 0; j < itemCount; j++)
+					consumerThreads[i].itemNames[j] = "ITEM" + j;
+				consumerThreads[i].start();
+			}
+
+			for (int i = 0; i < 20 && providerClient.itemHandles.size() < CONSUMER_COUNT * itemCount; i++)
+			{
+				provider.dispatch(1000);
+				Thread.sleep(500);
+			}
+			TestUtilities.checkResult(providerClient.itemHandles.size() == CONSUMER_COUNT * itemCount);
+
+			/* Every publisher thread submits to its item until the item is closed. */
+			for (final long handle : providerClient.itemHandles)
+			{
+				publisherThreads.add(new Thread(() -> {
+					try
+					{
+						FieldList fieldList = EmaFactory.createFieldList();
+						UpdateMsg updateMsg = EmaFactory.createUpdateMsg();
+						for (long i = 0; ; i++)
+						{
+							fieldList.clear();
+							fieldList.add(EmaFactory.createFieldEntry().real(22, i, OmmReal.MagnitudeType.EXPONENT_NEG_2));
+							try
+							{
+								ommProvider.submit(updateMsg.clear().payload(fieldList), handle);
+							}
+							catch (OmmInvalidUsageException excp)
+							{
+								if (excp.getMessage().contains("non existent Handle = " + handle))
+									break;
+								if (!excp.getMessage().contains("out of buffers"))
+									throw excp;
+							}
+
+							if (i % 20 == 0)
+								Thread.sleep(1); // let the provider flush to the consumers
+						}
+					}
+					catch (Throwable excp)
+					{
+						synchronized (failures)
+						{
+							failures.add(excp);
+						}
+					}
+				}));
+			}
+
+			/* daemon threads, so that a deadlock with the dispatching thread of the provider fails the test instead of hanging it */
+			for (Thread publisherThread : publisherThreads)
+			{
+				publisherThread.setDaemon(true);
+				publisherThread.start();
+			}
+
+			Thread.sleep(200);
+
+			/* The dispatching thread of the provider removes the items of the closes while the publishers submit. */
+			for (ConsumerThread consumerThread : consumerThreads)
+			{
+				for (long itemHandle : consumerThread.itemHandles)
+				{
+					consumerThread.consumer.unregister(itemHandle);
+					Thread.sleep(10);
+				}
+			}
+
+			long endTime = System.currentTimeMillis() + 10000;
+			publishersStopped = true;
+			for (Thread publisherThread : publisherThreads)
+			{
+				publisherThread.join(Math.max(1, endTime - System.currentTimeMillis()));
+				publishersStopped &= !publisherThread.isAlive();
+			}
+		}
+		catch (InterruptedException | OmmException excp)
+		{
+			System.out.println(excp.getMessage());
+			TestUtilities.checkResult(false);
+		}
+		finally
+		{
+			for (ConsumerThread consumerThread : consumerThreads)
+			{
+				if (consumerThread != null)
+					consumerThread.shutdown();
+			}
+			/* a deadlocked provider cannot be uninitialized */
+			if (provider != null && publishersStopped) provider.uninitialize();
+		}
+
+		TestUtilities.checkResult(publishersStopped, "publisher threads stopped after the close of their items");
+		TestUtilities.checkResult(failures.isEmpty());
+	}
+}
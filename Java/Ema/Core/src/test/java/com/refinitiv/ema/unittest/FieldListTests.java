@@ -2,7 +2,7 @@
  *|            This source code is provided under the Apache 2.0 license
  *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
  *|                See the project's LICENSE.md for details.
- *|           Copyright (C) 2020,2022-2024 LSEG. All rights reserved.
+ *|           Copyright (C) 2020,2022-2025 LSEG. All rights reserved.
  *|-----------------------------------------------------------------------------
  */
 
@@ -2180,4 +2180,61 @@ public void testFieldList_DecodeErrorFieldList()
 			System.out.println(excp);
 		}
 	}
+
+	public void testFieldList_EncodeEMA_DecodeEMA_FieldIdFilter()
+	{
+		TestUtilities.printTestHead("testFieldList_EncodeEMA_DecodeEMA_FieldIdFilter", "Encode FieldList with EMA and Decode the entries of a field id filter with EMA");
+		
+		FieldList flEnc = EmaFactory.createFieldList();
+		flEnc.add(EmaFactory.createFieldEntry().real( 6, 5236, OmmReal.MagnitudeType.EXPONENT_NEG_2)); // TRDPRC_1
+		flEnc.add(EmaFactory.createFieldEntry().uintValue( 1, 64)); // PROD_PERM
+		flEnc.add(EmaFactory.createFieldEntry().time(286, 23, 59,60) ); // HIGH_TIME
+		flEnc.add(EmaFactory.createFieldEntry().enumValue(270, 5)); // ACT_TP_1
+		
+		try {
+			FieldList flDec = JUnitTestConnect.createFieldList();
+			JUnitTestConnect.setRsslData(flDec, flEnc, Codec.majorVersion(), Codec.minorVersion(), TestUtilities.getDataDictionary(), null);
+			
+			// the filter is set before the entries are decoded
+			flDec.fieldIdFilter(new int[] { 270, 6, 22 });
+			TestUtilities.checkResult("FieldList.size() with filter", flDec.size() == 2 );
+			
+			Iterator<FieldEntry> iter = flDec.iterator();
+			TestUtilities.checkResult("FieldList with filter - first entry", iter.hasNext());
+			FieldEntry fe1 = iter.next();
+			TestUtilities.checkResult("FieldEntry.fieldId()", fe1.fieldId() == 6 );
+			TestUtilities.checkResult("FieldEntry.real().mantissa()", fe1.real().mantissa() == 5236 );
+			TestUtilities.checkResult("FieldList with filter - second entry", iter.hasNext());
+			FieldEntry fe2 = iter.next();
+			TestUtilities.checkResult("FieldEntry.fieldId()", fe2.fieldId() == 270 );
+			TestUtilities.checkResult("FieldEntry.enumValue()", fe2.enumValue() == 5 );
+			TestUtilities.checkResult("FieldList with filter - third hasNext()", !iter.hasNext());
+			
+			Iterator<FieldEntry> iterByRef = flDec.iteratorByRef();
+			TestUtilities.checkResult("FieldList with filter by reference - first entry", iterByRef.hasNext() && iterByRef.next().fieldId() == 6);
+			TestUtilities.checkResult("FieldList with filter by reference - second entry", iterByRef.hasNext() && iterByRef.next().fieldId() == 270);
+			TestUtilities.checkResult("FieldList with filter by reference - third hasNext()", !iterByRef.hasNext());
+			
+			// a filter set after the entries are decoded decodes them again
+			flDec.fieldIdFilter(new int[] { 1 });
+			iter = flDec.iterator();
+			TestUtilities.checkResult("FieldList with changed filter - first entry", iter.hasNext() && iter.next().uintValue() == 64);
+			TestUtilities.checkResult("FieldList with changed filter - second hasNext()", !iter.hasNext());
+			
+			flDec.fieldIdFilter(null);
+			TestUtilities.checkResult("FieldList.size() without filter", flDec.size() == 4 );
+			
+			flDec.fieldIdFilter(new int[] { 22 });
+			TestUtilities.checkResult("FieldList.isEmpty() with filter of a missing field", flDec.isEmpty());
+			
+			// decoding the FieldList again removes the filter
+			JUnitTestConnect.setRsslData(flDec, flEnc, Codec.majorVersion(), Codec.minorVersion(), TestUtilities.getDataDictionary(), null);
+			TestUtilities.checkResult("FieldList.size() after decode", flDec.size() == 4 );
+			
+			TestUtilities.checkResult("FieldList with filter - exception not expected", true);
+		} catch ( OmmException excp  ) {
+			TestUtilities.checkResult( "FieldList with filter - exception not expected" , false);
+			System.out.println(excp);
+		}
+	}
 }
@@ -0,0 +1,474 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.unittest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.refinitiv.ema.access.AckMsg;
+import com.refinitiv.ema.access.ElementList;
+import com.refinitiv.ema.access.EmaFactory;
+import com.refinitiv.ema.access.FieldList;
+import com.refinitiv.ema.access.GenericMsg;
+import com.refinitiv.ema.access.Msg;
+import com.refinitiv.ema.access.OmmConsumer;
+import com.refinitiv.ema.access.OmmConsumerClient;
+import com.refinitiv.ema.access.OmmConsumerConfig;
+import com.refinitiv.ema.access.OmmConsumerEvent;
+import com.refinitiv.ema.access.OmmException;
+import com.refinitiv.ema.access.OmmIProviderConfig;
+import com.refinitiv.ema.access.OmmInvalidUsageException;
+import com.refinitiv.ema.access.OmmProvider;
+import com.refinitiv.ema.access.OmmProviderClient;
+import com.refinitiv.ema.access.OmmProviderEvent;
+import com.refinitiv.ema.access.OmmReal;
+import com.refinitiv.ema.access.OmmState;
+import com.refinitiv.ema.access.PostMsg;
+import com.refinitiv.ema.access.RefreshMsg;
+import com.refinitiv.ema.access.ReqMsg;
+import com.refinitiv.ema.access.Series;
+import com.refinitiv.ema.access.StatusMsg;
+import com.refinitiv.ema.access.UpdateMsg;
+import com.refinitiv.ema.rdm.DataDictionary;
+import com.refinitiv.ema.rdm.EmaRdm;
+
+import junit.framework.TestCase;
+
+public class ShardedConsumerTests extends TestCase
+{
+	private static final int SHARD_COUNT = 3;
+	private static final int ITEM_COUNT = 30;
+
+	public ShardedConsumerTests(String name)
+	{
+		super(name);
+	}
+
+	class OmmConsumerTestClient implements OmmConsumerClient
+	{
+		public Set<Long> refreshHandles = new HashSet<Long>();
+		public Set<String> refreshThreads = new HashSet<String>();
+		public int refreshMsgCount;
+
+		public synchronized void onRefreshMsg(RefreshMsg refreshMsg, OmmConsumerEvent consumerEvent)
+		{
+			refreshMsgCount++;
+			refreshHandles.add(consumerEvent.handle());
+			refreshThreads.add(Thread.currentThread().getName());
+		}
+
+		public synchronized int refreshCount()
+		{
+			return refreshHandles.size();
+		}
+
+		public synchronized boolean hasRefresh(long handle)
+		{
+			return refreshHandles.contains(handle);
+		}
+
+		public void onUpdateMsg(UpdateMsg updateMsg, OmmConsumerEvent consumerEvent) {}
+		public void onStatusMsg(StatusMsg statusMsg, OmmConsumerEvent consumerEvent) {}
+		public void onGenericMsg(GenericMsg genericMsg, OmmConsumerEvent consumerEvent) {}
+		public void onAckMsg(AckMsg ackMsg, OmmConsumerEvent consumerEvent) {}
+		public void onAllMsg(Msg msg, OmmConsumerEvent consumerEvent) {}
+	}
+
+	class OmmProviderTestClient implements OmmProviderClient
+	{
+		public Set<Long> loginClientHandles = new HashSet<Long>();
+		public Set<Long> itemClientHandles = new HashSet<Long>();
+		/* provider handles of the item streams and of the streams the consumer sent messages on */
+		public Set<Long> itemHandles = Collections.synchronizedSet(new HashSet<Long>());
+		public Set<Long> reissueHandles = Collections.synchronizedSet(new HashSet<Long>());
+		public Set<Long> genericHandles = Collections.synchronizedSet(new HashSet<Long>());
+		public Set<Long> postHandles = Collections.synchronizedSet(new HashSet<Long>());
+		public volatile int closeCount;
+		public DataDictionary dataDictionary = EmaFactory.createDataDictionary();
+		private Series series = EmaFactory.createSeries();
+
+		OmmProviderTestClient()
+		{
+			dataDictionary.loadFieldDictionary( TestDictionaries.fieldDictionaryFileName );
+			dataDictionary.loadEnumTypeDictionary( TestDictionaries.enumTableFileName );
+		}
+
+		public void onRefreshMsg(RefreshMsg refreshMsg, OmmProviderEvent providerEvent) {}
+		public void onStatusMsg(StatusMsg statusMsg, OmmProviderEvent providerEvent) {}
+		public void onAllMsg(Msg msg, OmmProviderEvent providerEvent) {}
+
+		public void onGenericMsg(GenericMsg genericMsg, OmmProviderEvent providerEvent)
+		{
+			genericHandles.add(providerEvent.handle());
+		}
+
+		public void onPostMsg(PostMsg postMsg, OmmProviderEvent providerEvent)
+		{
+			postHandles.add(providerEvent.handle());
+		}
+
+		public void onReissue(ReqMsg reqMsg, OmmProviderEvent providerEvent)
+		{
+			if (reqMsg.domainType() == EmaRdm.MMT_MARKET_PRICE)
+				reissueHandles.add(providerEvent.handle());
+		}
+
+		public void onClose(ReqMsg reqMsg, OmmProviderEvent providerEvent)
+		{
+			if (reqMsg.domainType() == EmaRdm.MMT_MARKET_PRICE)
+				closeCount++;
+		}
+
+		@Override
+		public void onReqMsg(ReqMsg reqMsg, OmmProviderEvent event)
+		{
+			switch (reqMsg.domainType())
+			{
+				case EmaRdm.MMT_LOGIN :
+					loginClientHandles.add(event.clientHandle());
+					ElementList loginAttributes = EmaFactory.createElementList();
+					loginAttributes.add( EmaFactory.createElementEntry().uintValue(EmaRdm.ENAME_SUPPORT_POST, 1) );
+					event.provider().submit( EmaFactory.createRefreshMsg().domainType(EmaRdm.MMT_LOGIN).name(reqMsg.name()).
+							nameType(EmaRdm.USER_NAME).attrib(loginAttributes).complete(true).solicited(true).
+							state(OmmState.StreamState.OPEN, OmmState.DataState.OK, OmmState.StatusCode.NONE, "Login accepted"),
+							event.handle() );
+					break;
+				case EmaRdm.MMT_MARKET_PRICE :
+					itemClientHandles.add(event.clientHandle());
+					itemHandles.add(event.handle());
+					FieldList fieldList = EmaFactory.createFieldList();
+					fieldList.add( EmaFactory.createFieldEntry().real(22, 3990, OmmReal.MagnitudeType.EXPONENT_NEG_2));
+
+					event.provider().submit( EmaFactory.createRefreshMsg().name(reqMsg.name()).serviceId(reqMsg.serviceId()).solicited(true).
+							state(OmmState.StreamState.OPEN, OmmState.DataState.OK, OmmState.StatusCode.NONE, "Refresh Completed").
+							payload(fieldList).complete(true),
+							event.handle() );
+					break;
+				case EmaRdm.MMT_DICTIONARY:
+					processDictionaryRequest(reqMsg, event);
+					break;
+				default :
+					break;
+			}
+		}
+
+		void processDictionaryRequest(ReqMsg reqMsg, OmmProviderEvent event)
+		{
+			RefreshMsg refreshMsg = EmaFactory.createRefreshMsg();
+			boolean result = false;
+
+			if ( reqMsg.name().equals( "RWFFld" ) )
+			{
+				int currentValue = dataDictionary.minFid();
+
+				while ( !result )
+				{
+					currentValue = dataDictionary.encodeFieldDictionary( series, currentValue, reqMsg.filter(), 96000 );
+
+					result = currentValue == dataDictionary.maxFid();
+
+					event.provider().submit( refreshMsg.clear().name( reqMsg.name() ).serviceName( reqMsg.serviceName() ).
+							domainType( EmaRdm.MMT_DICTIONARY ).filter( reqMsg.filter() ).payload( series ).complete( result ).
+							solicited( true ), event.handle() );
+				}
+			}
+			else if ( reqMsg.name().equals( "RWFEnum" ) )
+			{
+				int currentValue = 0;
+
+				while ( !result )
+				{
+					currentValue = dataDictionary.encodeEnumTypeDictionary( series, currentValue, reqMsg.filter(), 96000 );
+
+					result = currentValue == dataDictionary.enumTables().size();
+
+					event.provider().submit( refreshMsg.clear().name( reqMsg.name() ).serviceName( reqMsg.serviceName() ).
+							domainType( EmaRdm.MMT_DICTIONARY ).filter( reqMsg.filter() ).payload( series ).complete( result ).
+							solicited( true ), event.handle() );
+				}
+			}
+		}
+	}
+
+	public void testShardedConsumer_RegisterAndUnregister()
+	{
+		TestUtilities.printTestHead("testShardedConsumer_RegisterAndUnregister", "Spread items of one EMA OmmConsumer over several reactor shards");
+
+		OmmProvider provider = null;
+		OmmConsumer consumer = null;
+		OmmProviderTestClient providerClient = new OmmProviderTestClient();
+		OmmConsumerTestClient consumerClient = new OmmConsumerTestClient();
+		long[] handles = new long[ITEM_COUNT];
+
+		try {
+			OmmIProviderConfig providerConfig = EmaFactory.createOmmIProviderConfig();
+			provider = EmaFactory.createOmmProvider(providerConfig.port("14013").
+					adminControlDictionary(OmmIProviderConfig.AdminControl.USER_CONTROL), providerClient);
+
+			consumer = EmaFactory.createOmmConsumer(EmaFactory.createOmmConsumerConfig().host("localhost:14013").username("user").
+					reactorShardCount(SHARD_COUNT));
+
+			for (int i = 0; i < ITEM_COUNT; i++)
+				handles[i] = consumer.registerClient(EmaFactory.createReqMsg().serviceName("DIRECT_FEED").name("ITEM" + i), consumerClient);
+
+			for (int i = 0; i < 50 && consumerClient.refreshCount() < ITEM_COUNT; i++)
+				Thread.sleep(100);
+
+			TestUtilities.checkResult(consumerClient.refreshCount() == ITEM_COUNT, "every item got its refresh");
+			boolean allHandlesMatch = true;
+			for (long handle : handles)
+				allHandlesMatch &= consumerClient.refreshHandles.contains(handle);
+			TestUtilities.checkResult(allHandlesMatch, "refresh handles are the registered handles");
+
+			/* every shard logs in on its own connection and gets some of the items */
+			TestUtilities.checkResult(providerClient.loginClientHandles.size() == SHARD_COUNT, "one login per shard");
+			TestUtilities.checkResult(providerClient.itemClientHandles.size() == SHARD_COUNT, "items spread over the shards");
+			TestUtilities.checkResult(consumerClient.refreshThreads.size() == SHARD_COUNT, "one dispatch thread per shard");
+
+			for (long handle : handles)
+				consumer.unregister(handle);
+
+			for (int i = 0; i < 50 && providerClient.closeCount < ITEM_COUNT; i++)
+				Thread.sleep(100);
+
+			TestUtilities.checkResult(providerClient.closeCount == ITEM_COUNT, "every item was closed on its shard");
+		}
+		catch (InterruptedException | OmmException excp)
+		{
+			System.out.println(excp.getMessage());
+			TestUtilities.checkResult(false);
+		}
+		finally
+		{
+			if (consumer != null) consumer.uninitialize();
+			if (provider != null) provider.uninitialize();
+		}
+	}
+
+	public void testShardedConsumer_RoutingByHandle()
+	{
+		TestUtilities.printTestHead("testShardedConsumer_RoutingByHandle", "Route reissue, submit and unregister calls to the shard holding the handle");
+
+		OmmProvider provider = null;
+		OmmConsumer consumer = null;
+		OmmProviderTestClient providerClient = new OmmProviderTestClient();
+		OmmConsumerTestClient consumerClient = new OmmConsumerTestClient();
+		long[] handles = new long[ITEM_COUNT];
+
+		try {
+			OmmIProviderConfig providerConfig = EmaFactory.createOmmIProviderConfig();
+			provider = EmaFactory.createOmmProvider(providerConfig.port("14013").
+					adminControlDictionary(OmmIProviderConfig.AdminControl.USER_CONTROL), providerClient);
+
+			consumer = EmaFactory.createOmmConsumer(EmaFactory.createOmmConsumerConfig().host("localhost:14013").username("user").
+					reactorShardCount(SHARD_COUNT));
+
+			for (int i = 0; i < ITEM_COUNT; i++)
+				handles[i] = consumer.registerClient(EmaFactory.createReqMsg().serviceName("DIRECT_FEED").name("ITEM" + i), consumerClient);
+
+			for (int i = 0; i < 50 && consumerClient.refreshCount() < ITEM_COUNT; i++)
+				Thread.sleep(100);
+
+			TestUtilities.checkResult(consumerClient.refreshCount() == ITEM_COUNT, "every item got its refresh");
+			TestUtilities.checkResult(providerClient.itemClientHandles.size() == SHARD_COUNT, "items spread over the shards");
+
+			UpdateMsg nestedUpdateMsg = EmaFactory.createUpdateMsg();
+			nestedUpdateMsg.payload(EmaFactory.createFieldList());
+
+			/* reissues last, a stream waiting for the refresh of its reissue does not take generic messages */
+			for (int i = 0; i < ITEM_COUNT; i++)
+			{
+				consumer.submit(EmaFactory.createGenericMsg().name("GENERIC" + i).complete(true), handles[i]);
+				consumer.submit(EmaFactory.createPostMsg().postId(i + 1).serviceName("DIRECT_FEED").name("ITEM" + i).
+						solicitAck(false).complete(true).payload(nestedUpdateMsg), handles[i]);
+				consumer.reissue(EmaFactory.createReqMsg().serviceName("DIRECT_FEED").name("ITEM" + i).priority(1, 2), handles[i]);
+			}
+
+			for (int i = 0; i < 50 && (providerClient.reissueHandles.size() < ITEM_COUNT || providerClient.genericHandles.size() < ITEM_COUNT
+					|| providerClient.postHandles.size() < ITEM_COUNT); i++)
+				Thread.sleep(100);
+
+			/* every message arrives on the stream of its item, over the connection of the item's shard */
+			TestUtilities.checkResult(providerClient.reissueHandles.equals(providerClient.itemHandles), "every item was reissued on its stream");
+			TestUtilities.checkResult(providerClient.genericHandles.equals(providerClient.itemHandles), "every generic message went on its item stream");
+			TestUtilities.checkResult(providerClient.postHandles.equals(providerClient.itemHandles), "every post message went on its item stream");
+
+			for (long handle : handles)
+				consumer.unregister(handle);
+
+			for (int i = 0; i < 50 && providerClient.closeCount < ITEM_COUNT; i++)
+				Thread.sleep(100);
+
+			TestUtilities.checkResult(providerClient.closeCount == ITEM_COUNT, "every item was closed on its shard");
+		}
+		catch (InterruptedException | OmmException excp)
+		{
+			System.out.println(excp.getMessage());
+			TestUtilities.checkResult(false);
+		}
+		finally
+		{
+			if (consumer != null) consumer.uninitialize();
+			if (provider != null) provider.uninitialize();
+		}
+	}
+
+	public void testShardedConsumer_ConcurrentRegisterAndLookup()
+	{
+		TestUtilities.printTestHead("testShardedConsumer_ConcurrentRegisterAndLookup", "Look up the shards of handles while other threads register and unregister items");
+
+		final int threadCount = 4;
+		final int roundCount = 5;
+		final int itemsPerRound = 6;
+
+		OmmProvider provider = null;
+		OmmConsumer consumer = null;
+		OmmProviderTestClient providerClient = new OmmProviderTestClient();
+		OmmConsumerTestClient consumerClient = new OmmConsumerTestClient();
+		List<String> failures = Collections.synchronizedList(new ArrayList<String>());
+
+		try {
+			OmmIProviderConfig providerConfig = EmaFactory.createOmmIProviderConfig();
+			provider = EmaFactory.createOmmProvider(providerConfig.port("14013").
+					adminControlDictionary(OmmIProviderConfig.AdminControl.USER_CONTROL), providerClient);
+
+			final OmmConsumer shardedConsumer = EmaFactory.createOmmConsumer(EmaFactory.createOmmConsumerConfig().host("localhost:14013").
+					username("user").reactorShardCount(SHARD_COUNT));
+			consumer = shardedConsumer;
+
+			Thread[] threads = new Thread[threadCount];
+			for (int t = 0; t < threadCount; t++)
+			{
+				final int thread = t;
+				threads[t] = new Thread(() ->
+				{
+					try
+					{
+						for (int round = 0; round < roundCount; round++)
+						{
+							long[] handles = new long[itemsPerRound];
+							for (int i = 0; i < itemsPerRound; i++)
+								handles[i] = shardedConsumer.registerClient(EmaFactory.createReqMsg().serviceName("DIRECT_FEED").
+										name("ITEM" + thread + "_" + round + "_" + i), consumerClient);
+
+							for (long handle : handles)
+							{
+								for (int i = 0; i < 50 && !consumerClient.hasRefresh(handle); i++)
+									Thread.sleep(100);
+
+								shardedConsumer.submit(EmaFactory.createGenericMsg().name("GENERIC").complete(true), handle);
+							}
+
+							for (long handle : handles)
+								shardedConsumer.unregister(handle);
+						}
+					}
+					catch (InterruptedException | OmmException excp)
+					{
+						failures.add(excp.getMessage());
+					}
+				});
+				threads[t].start();
+			}
+
+			for (Thread thread : threads)
+				thread.join(30000);
+
+			int itemCount = threadCount * roundCount * itemsPerRound;
+			for (int i = 0; i < 50 && (providerClient.genericHandles.size() < itemCount || providerClient.closeCount < itemCount); i++)
+				Thread.sleep(100);
+
+			TestUtilities.checkResult(failures.isEmpty(), "no call failed: " + failures);
+			TestUtilities.checkResult(providerClient.genericHandles.size() == itemCount, "every generic message went on its item stream");
+			TestUtilities.checkResult(providerClient.genericHandles.equals(providerClient.itemHandles), "generic messages only went on item streams");
+			TestUtilities.checkResult(providerClient.closeCount == itemCount, "every item was closed on its shard");
+		}
+		catch (InterruptedException | OmmException excp)
+		{
+			System.out.println(excp.getMessage());
+			TestUtilities.checkResult(false);
+		}
+		finally
+		{
+			if (consumer != null) consumer.uninitialize();
+			if (provider != null) provider.uninitialize();
+		}
+	}
+
+	public void testShardedConsumer_AdminClientGetsOneLogin()
+	{
+		TestUtilities.printTestHead("testShardedConsumer_AdminClientGetsOneLogin", "Deliver the login events of a sharded OmmConsumer once to the admin client");
+
+		OmmProvider provider = null;
+		OmmConsumer consumer = null;
+		OmmProviderTestClient providerClient = new OmmProviderTestClient();
+		OmmConsumerTestClient adminClient = new OmmConsumerTestClient();
+
+		try {
+			OmmIProviderConfig providerConfig = EmaFactory.createOmmIProviderConfig();
+			provider = EmaFactory.createOmmProvider(providerConfig.port("14013").
+					adminControlDictionary(OmmIProviderConfig.AdminControl.USER_CONTROL), providerClient);
+
+			consumer = EmaFactory.createOmmConsumer(EmaFactory.createOmmConsumerConfig().host("localhost:14013").username("user").
+					reactorShardCount(SHARD_COUNT), adminClient);
+
+			for (int i = 0; i < 50 && adminClient.refreshCount() < 1; i++)
+				Thread.sleep(100);
+
+			/* waits for the login refreshes of the other shards, which must not reach the admin client */
+			Thread.sleep(1000);
+
+			TestUtilities.checkResult(providerClient.loginClientHandles.size() == SHARD_COUNT, "one login per shard");
+			synchronized (adminClient)
+			{
+				TestUtilities.checkResult(adminClient.refreshMsgCount == 1, "one login refresh for the admin client");
+			}
+		}
+		catch (InterruptedException | OmmException excp)
+		{
+			System.out.println(excp.getMessage());
+			TestUtilities.checkResult(false);
+		}
+		finally
+		{
+			if (consumer != null) consumer.uninitialize();
+			if (provider != null) provider.uninitialize();
+		}
+	}
+
+	public void testShardedConsumer_InvalidShardCount()
+	{
+		TestUtilities.printTestHead("testShardedConsumer_InvalidShardCount", "Reject reactor shard counts out of range");
+
+		OmmConsumerConfig config = EmaFactory.createOmmConsumerConfig();
+
+		try
+		{
+			config.reactorShardCount(0);
+			TestUtilities.checkResult(false);
+		}
+		catch (OmmInvalidUsageException excp)
+		{
+			TestUtilities.checkResult(excp.getMessage().contains("reactorShardCount"));
+		}
+
+		try
+		{
+			config.reactorShardCount(65);
+			TestUtilities.checkResult(false);
+		}
+		catch (OmmInvalidUsageException excp)
+		{
+			TestUtilities.checkResult(excp.getMessage().contains("reactorShardCount"));
+		}
+	}
+}
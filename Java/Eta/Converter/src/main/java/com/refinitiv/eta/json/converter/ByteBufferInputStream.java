@@ -2,7 +2,7 @@
  *|            This source code is provided under the Apache 2.0 license
  *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
  *|                See the project's LICENSE.md for details.
- *|           Copyright (C) 2021-2022,2024 LSEG. All rights reserved.
+ *|           Copyright (C) 2021-2022,2024-2025 LSEG. All rights reserved.
  *|-----------------------------------------------------------------------------
  */
 
@@ -33,4 +33,29 @@ class ByteBufferInputStream extends InputStream {
 
         return -1;
     }
+
+    @Override
+    public int read(byte[] dest, int offset, int length) {
+
+        if (length == 0)
+            return 0;
+
+        int available = end - current;
+        if (available <= 0)
+            return -1;
+
+        int count = Math.min(available, length);
+        ByteBuffer source = dataBuffer.duplicate();
+        source.limit(current + count);
+        source.position(current);
+        source.get(dest, offset, count);
+        current += count;
+
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return Math.max(end - current, 0);
+    }
 }
@@ -2,14 +2,18 @@
  *|            This source code is provided under the Apache 2.0 license
  *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
  *|                See the project's LICENSE.md for details.
- *|           Copyright (C) 2021-2022,2024 LSEG. All rights reserved.
+ *|           Copyright (C) 2021-2022,2024-2025 LSEG. All rights reserved.
  *|-----------------------------------------------------------------------------
  */
 
 package com.refinitiv.eta.json.converter;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.core.json.JsonReadFeature;
 import com.refinitiv.eta.codec.*;
 import com.refinitiv.eta.json.util.JsonFactory;
@@ -46,6 +50,7 @@ class JsonConverterBaseImpl extends JsonAbstractConverter {
     private ThreadLocal<DictionaryEntry> dictionaryEntry = ThreadLocal.withInitial(() -> null);
     private ThreadLocal<JsonBuffer> jsonOutputBuffer = ThreadLocal.withInitial(() -> new JsonBuffer());
     private ThreadLocal<ByteBufferInputStream> inputStream = ThreadLocal.withInitial(() -> new ByteBufferInputStream());
+    private ThreadLocal<ByteBufferInputStream> payloadInputStream = ThreadLocal.withInitial(() -> new ByteBufferInputStream());
     private Map<EnumTypeTable, EnumTableDefinition> enumTableDefinitionMap = new HashMap<>(256);
 
     private static final Map<String, Integer> STRING_TO_RWF_MSG_CLASS = new HashMap<>();;
@@ -155,6 +160,10 @@ class JsonConverterBaseImpl extends JsonAbstractConverter {
         if (options.getProtocolType() != JsonProtocol.JSON_JPT_JSON2) {
             return error.setError(JsonConverterErrorCodes.JSON_ERROR, "Protocol type not supported: " + options.getProtocolType());
         }
+        if ((options.getConverterFlags() & ParseJsonFlags.JSON_PJF_STREAMING_DECODE) != 0) {
+            byte[] data = jsonBuffer.data().array();
+            return parseJsonStream(ByteBuffer.wrap(data), 0, data.length, error);
+        }
         return parseJsonBuffer(jsonBuffer.data().array(), error);
     }
 
@@ -164,6 +173,11 @@ class JsonConverterBaseImpl extends JsonAbstractConverter {
             return error.setError(JsonConverterErrorCodes.JSON_ERROR, "Protocol type not supported: " + options.getProtocolType());
         }
 
+        if ((options.getConverterFlags() & ParseJsonFlags.JSON_PJF_STREAMING_DECODE) != 0) {
+            mapper.get().enable(JsonReadFeature.ALLOW_LEADING_ZEROS_FOR_NUMBERS.mappedFeature());
+            return parseJsonStream(inBuffer.data(), inBuffer.dataStartPosition(), inBuffer.data().limit(), error);
+        }
+
         return parseJsonBuffer(inBuffer, error);
     }
 
@@ -176,7 +190,7 @@ class JsonConverterBaseImpl extends JsonAbstractConverter {
 
         jsonMsg.rwfMsg().clear();
 
-        int ret = setCurrentMessageRoot(error);
+        int ret = currentState.get().getStreamParser() != null ? nextStreamMessage(error) : setCurrentMessageRoot(error);
         if (ret != SUCCESS)
             return ret;
 
@@ -244,6 +258,139 @@ class JsonConverterBaseImpl extends JsonAbstractConverter {
         }
     }
 
+    /* Streaming counterpart of setCurrentMessageRoot(): advances the parser to the next message object and
+     * materializes its header. A top level array, optionally holding arrays of messages, is walked in place. */
+    private int nextStreamMessage(JsonConverterError error) {
+        JsonConverterState state = currentState.get();
+        JsonParser parser = state.getStreamParser();
+
+        try {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.START_OBJECT) {
+                    state.setWorkingNode(readStreamMessage(parser, state));
+                    if (state.getStreamArrayDepth() == 0)
+                        state.closeStreamParser();
+                    return SUCCESS;
+                } else if (token == JsonToken.START_ARRAY && state.getStreamArrayDepth() < 2) {
+                    state.setStreamArrayDepth(state.getStreamArrayDepth() + 1);
+                } else if (token == JsonToken.END_ARRAY) {
+                    state.setStreamArrayDepth(state.getStreamArrayDepth() - 1);
+                    if (state.getStreamArrayDepth() == 0) {
+                        state.closeStreamParser();
+                        return END_OF_CONTAINER;
+                    }
+                } else {
+                    JsonNode unexpected = readStreamValue(parser);
+                    state.closeStreamParser();
+                    error.setError(JsonConverterErrorCodes.JSON_ERROR_PARSE_ERROR, "Error parsing JSON message: expected single message or array of messages, found " + unexpected.getNodeType().toString() + " type", "root");
+                    state.setFailedNode(unexpected);
+                    return FAILURE;
+                }
+            }
+        } catch (IOException e) {
+            state.closeStreamParser();
+            state.setFailedMessage(streamData(state));
+            return error.setError(JsonConverterErrorCodes.JSON_ERROR_PARSE_ERROR, e.getMessage());
+        }
+
+        state.closeStreamParser();
+        return END_OF_CONTAINER;
+    }
+
+    /* Reads the message object the parser is positioned on. All keys are materialized except an object "Fields"
+     * payload, which is skipped and replaced by a placeholder; it is encoded straight from the buffer by decodeChunk(). */
+    private JsonNode readStreamMessage(JsonParser parser, JsonConverterState state) throws IOException {
+        ObjectNode message = JsonNodeFactory.instance.objectNode();
+        state.setStreamPayload(null, 0);
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT && JSON_FIELDS.equals(name)) {
+                long offset = parser.currentTokenLocation().getByteOffset();
+                if (offset >= 0) {
+                    JsonNode payload = JsonNodeFactory.instance.objectNode();
+                    parser.skipChildren();
+                    state.setStreamPayload(payload, offset);
+                    message.set(name, payload);
+                    continue;
+                }
+            }
+            message.set(name, readStreamValue(parser));
+        }
+
+        return message;
+    }
+
+    /* Materializes the value the parser is positioned on. Scalars are built directly, structures go through the tree model. */
+    static JsonNode readStreamValue(JsonParser parser) throws IOException {
+        JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+        switch (parser.currentToken()) {
+            case VALUE_STRING:
+                return nodeFactory.textNode(parser.getText());
+            case VALUE_NUMBER_INT:
+                switch (parser.getNumberType()) {
+                    case INT:
+                        return nodeFactory.numberNode(parser.getIntValue());
+                    case LONG:
+                        return nodeFactory.numberNode(parser.getLongValue());
+                    default:
+                        return nodeFactory.numberNode(parser.getBigIntegerValue());
+                }
+            case VALUE_NUMBER_FLOAT:
+                return nodeFactory.numberNode(parser.getDoubleValue());
+            case VALUE_TRUE:
+                return nodeFactory.booleanNode(true);
+            case VALUE_FALSE:
+                return nodeFactory.booleanNode(false);
+            case VALUE_NULL:
+                return nodeFactory.nullNode();
+            default:
+                return parser.readValueAsTree();
+        }
+    }
+
+    private JsonParser createPayloadParser(JsonConverterState state) throws IOException {
+        ByteBufferInputStream stream = payloadInputStream.get();
+        stream.setByteBuffer(state.getCurrentBufferData().data(), state.getStreamStart() + (int) state.getStreamPayloadOffset(), state.getStreamEnd());
+        JsonParser parser = mapper.get().createParser(stream);
+        parser.nextToken();
+        return parser;
+    }
+
+    private void encodeStreamPayload(JsonConverterState state, String key, EncodeIterator iterator, JsonConverterError error) {
+        JsonFieldListConverter fieldListConverter = (JsonFieldListConverter) getHandler(DataTypes.FIELD_LIST, error);
+        try (JsonParser parser = createPayloadParser(state)) {
+            fieldListConverter.encodeRWF(parser, key, iterator, error);
+        } catch (IOException e) {
+            state.setFailedMessage(streamData(state));
+            error.setError(JsonConverterErrorCodes.JSON_ERROR_PARSE_ERROR, e.getMessage());
+        }
+    }
+
+    /* Puts the real "Fields" payload back into a failed streamed message so that the error message shows it. */
+    private void restoreStreamPayload(JsonConverterState state) {
+        JsonNode failedNode = state.getFailedNode();
+        if (state.getStreamPayloadNode() == null || failedNode == null || !failedNode.isObject()
+                || failedNode.get(JSON_FIELDS) != state.getStreamPayloadNode())
+            return;
+
+        try (JsonParser parser = createPayloadParser(state)) {
+            ((ObjectNode) failedNode).set(JSON_FIELDS, readStreamValue(parser));
+        } catch (IOException e) {
+            // the payload itself is malformed, keep the placeholder
+        }
+    }
+
+    private byte[] streamData(JsonConverterState state) {
+        ByteBuffer inData = state.getCurrentBufferData().data();
+        byte[] data = new byte[state.getStreamEnd() - state.getStreamStart()];
+        for (int i = 0; i < data.length; i++)
+            data[i] = inData.get(i + state.getStreamStart());
+        return data;
+    }
+
     @Override
     public int convertRWFToJson(Msg inMsg, RWFToJsonOptions options, ConversionResults outResults, JsonConverterError error) {
 
@@ -324,6 +471,7 @@ class JsonConverterBaseImpl extends JsonAbstractConverter {
 
         try {
             byte[] currentMessage = null;
+            restoreStreamPayload(currentState.get());
             if (currentState.get().getFailedNode() != null) {
                 currentMessage = currentState.get().getFailedNode().toString().getBytes("UTF-8");
             } else if (currentState.get().getFailedMessage() != null) {
@@ -758,6 +906,25 @@ class JsonConverterBaseImpl extends JsonAbstractConverter {
         return SUCCESS;
     }
 
+    private int parseJsonStream(ByteBuffer data, int start, int end, JsonConverterError error) {
+        final JsonConverterState jsonConverterState = Optional
+                .ofNullable(currentState.get())
+                .orElseGet(JsonConverterState::new);
+        jsonConverterState.clear();
+        currentState.set(jsonConverterState);
+        jsonConverterState.getCurrentBufferData().data(data);
+        try {
+            ByteBufferInputStream stream = inputStream.get();
+            stream.setByteBuffer(data, start, end);
+            jsonConverterState.setStreamParser(mapper.get().createParser(stream), start, end);
+        } catch (IOException e) {
+            jsonConverterState.setStreamParser(null, start, end);
+            jsonConverterState.setFailedMessage(streamData(jsonConverterState));
+            return error.setError(JsonConverterErrorCodes.JSON_ERROR_PARSE_ERROR, e.getMessage());
+        }
+        return SUCCESS;
+    }
+
     private int parseJsonBuffer(TransportBuffer buffer, JsonConverterError error) {
         try {
             final JsonConverterState jsonConverterState = Optional
@@ -815,6 +982,11 @@ class JsonConverterBaseImpl extends JsonAbstractConverter {
 
     @Override
     public void decodeChunk(int dataType, JsonNode dataNode, String key, EncodeIterator iterator, JsonConverterError error) {
+        JsonConverterState state = currentState.get();
+        if (dataType == DataTypes.FIELD_LIST && state != null && dataNode != null && dataNode == state.getStreamPayloadNode()) {
+            encodeStreamPayload(state, key, iterator, error);
+            return;
+        }
         AbstractTypeConverter subParser = getHandler(dataType, error);
         if (subParser == null) {
             error.setError(JsonConverterErrorCodes.JSON_ERROR_UNSUPPORTED_MESSAGE,"Unknown datatype to parse: [" + dataType + "]");
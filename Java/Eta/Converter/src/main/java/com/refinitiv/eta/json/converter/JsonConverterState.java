@@ -8,6 +8,7 @@
 
 package com.refinitiv.eta.json.converter;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.refinitiv.eta.codec.Buffer;
 import com.refinitiv.eta.codec.CodecFactory;
@@ -22,6 +23,14 @@ class JsonConverterState {
     private int arrayCounter;
     private int entryCounter;
 
+    /* Streaming decode state, used when the buffer was parsed with ParseJsonFlags.JSON_PJF_STREAMING_DECODE */
+    private JsonParser streamParser;
+    private int streamStart;
+    private int streamEnd;
+    private int streamArrayDepth;
+    private JsonNode streamPayloadNode;
+    private long streamPayloadOffset;
+
     public Buffer getCurrentBufferData() {
         return currentBufferData;
     }
@@ -74,6 +83,62 @@ class JsonConverterState {
         arrayCounter = 0;
         entryCounter = 0;
         failedMessage = null;
+        closeStreamParser();
+        streamStart = 0;
+        streamEnd = 0;
+        streamArrayDepth = 0;
+        streamPayloadNode = null;
+        streamPayloadOffset = 0;
+    }
+
+    public JsonParser getStreamParser() {
+        return streamParser;
+    }
+
+    public void setStreamParser(JsonParser streamParser, int streamStart, int streamEnd) {
+        this.streamParser = streamParser;
+        this.streamStart = streamStart;
+        this.streamEnd = streamEnd;
+    }
+
+    public void closeStreamParser() {
+        if (streamParser != null) {
+            try {
+                streamParser.close();
+            } catch (java.io.IOException e) {
+                // nothing to release, the parser reads from memory
+            }
+            streamParser = null;
+        }
+    }
+
+    public int getStreamStart() {
+        return streamStart;
+    }
+
+    public int getStreamEnd() {
+        return streamEnd;
+    }
+
+    public int getStreamArrayDepth() {
+        return streamArrayDepth;
+    }
+
+    public void setStreamArrayDepth(int streamArrayDepth) {
+        this.streamArrayDepth = streamArrayDepth;
+    }
+
+    public JsonNode getStreamPayloadNode() {
+        return streamPayloadNode;
+    }
+
+    public long getStreamPayloadOffset() {
+        return streamPayloadOffset;
+    }
+
+    public void setStreamPayload(JsonNode streamPayloadNode, long streamPayloadOffset) {
+        this.streamPayloadNode = streamPayloadNode;
+        this.streamPayloadOffset = streamPayloadOffset;
     }
 
     public byte[] getFailedMessage() {
@@ -2,16 +2,19 @@
  *|            This source code is provided under the Apache 2.0 license
  *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
  *|                See the project's LICENSE.md for details.
- *|           Copyright (C) 2021-2022,2024 LSEG. All rights reserved.
+ *|           Copyright (C) 2021-2022,2024-2025 LSEG. All rights reserved.
  *|-----------------------------------------------------------------------------
  */
 
 package com.refinitiv.eta.json.converter;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.refinitiv.eta.codec.*;
 import com.refinitiv.eta.json.util.JsonFactory;
 
+import java.io.IOException;
 import java.util.Iterator;
 
 class JsonFieldListConverter extends AbstractContainerTypeConverter {
@@ -121,40 +124,9 @@ class JsonFieldListConverter extends AbstractContainerTypeConverter {
                 DictionaryEntry def;
                 JsonNode currentNode = node.path(key);
 
-                boolean isNumber = true;
-                for (int i = 0; i < key.length(); i++) {
-                    switch (key.charAt(i)) {
-                        case '0': case '1': case '2':
-                        case '3': case '4': case '5':
-                        case '6': case '7': case '8':
-                            break;
-                        case '-':
-                            if (i != 0)
-                                isNumber = false;
-                            break;
-                        default:
-                            isNumber = false;
-                            break;
-                    }
-
-                    if (!isNumber)
-                        break;
-                }
-
-                if (isNumber) { //int value of key
-                    int num = Integer.valueOf(key);
-                    fieldEntry.fieldId(num);
-                    def = converter.getDictionary().entry(num);
-                } else {
-                    def = converter.getDictionary().entry(key);
-                    if (def != null) {
-                        fieldEntry.fieldId(def.fid());
-                    }
-                }
-                if (def == null && converter.catchUnexpectedFids()) {
-                    error.setError(JsonConverterErrorCodes.JSON_ERROR_UNEXPECTED_FID, "encountered unexpected fid = " + key + " while decoding FieldEntry");
+                def = fieldDefinition(key, fieldEntry, error);
+                if (error.isFailed())
                     return;
-                }
 
                 converter.dictionaryEntry(null);
 
@@ -189,4 +161,117 @@ class JsonFieldListConverter extends AbstractContainerTypeConverter {
         }
 
     }
+
+    /* Resolves the dictionary definition of a field key, which is either a numeric fid or an acronym. */
+    private DictionaryEntry fieldDefinition(String key, FieldEntry fieldEntry, JsonConverterError error) {
+        DictionaryEntry def;
+        boolean isNumber = true;
+        for (int i = 0; i < key.length(); i++) {
+            switch (key.charAt(i)) {
+                case '0': case '1': case '2':
+                case '3': case '4': case '5':
+                case '6': case '7': case '8':
+                    break;
+                case '-':
+                    if (i != 0)
+                        isNumber = false;
+                    break;
+                default:
+                    isNumber = false;
+                    break;
+            }
+
+            if (!isNumber)
+                break;
+        }
+
+        if (isNumber) { //int value of key
+            int num = Integer.valueOf(key);
+            fieldEntry.fieldId(num);
+            def = converter.getDictionary().entry(num);
+        } else {
+            def = converter.getDictionary().entry(key);
+            if (def != null) {
+                fieldEntry.fieldId(def.fid());
+            }
+        }
+        if (def == null && converter.catchUnexpectedFids()) {
+            error.setError(JsonConverterErrorCodes.JSON_ERROR_UNEXPECTED_FID, "encountered unexpected fid = " + key + " while decoding FieldEntry");
+            return null;
+        }
+        return def;
+    }
+
+    /* Streaming variant of encodeRWF(JsonNode, ...): the parser is positioned on the START_OBJECT token of the
+     * field list and is left on the matching END_OBJECT. Field values are materialized one at a time. */
+    void encodeRWF(JsonParser parser, String stringKey, EncodeIterator iter, JsonConverterError error) throws IOException {
+
+        int ret = 0;
+
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            error.setError(JsonConverterErrorCodes.JSON_ERROR_UNEXPECTED_VALUE, "Encountered unexpected type while decoding FieldList: " + parser.currentToken(), stringKey);
+            return;
+        }
+
+        FieldList fieldList = JsonFactory.createFieldList();
+        FieldEntry fieldEntry = JsonFactory.createFieldEntry();
+
+        try {
+            fieldList.clear();
+            fieldList.applyHasStandardData();
+
+            ret = fieldList.encodeInit(iter, null, 0);
+            if (ret < CodecReturnCodes.SUCCESS) {
+                error.setError(JsonConverterErrorCodes.JSON_ERROR_RSSL_ENCODE_ERROR, "Failed encoding FieldList, code: " + ret, stringKey);
+                return;
+            }
+
+            if (converter.getDictionary() == null) {
+                error.setError(JsonConverterErrorCodes.JSON_ERROR_RSSL_DICT_NOT_INIT, "Dictionary not initialized");
+                return;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                fieldEntry.clear();
+                String key = parser.currentName();
+                parser.nextToken();
+
+                DictionaryEntry def = fieldDefinition(key, fieldEntry, error);
+                if (error.isFailed())
+                    return;
+
+                converter.dictionaryEntry(null);
+
+                if (def == null) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                fieldEntry.dataType(def.rwfType());
+                converter.dictionaryEntry(def); //this dictionaryEntry is later used
+                ret = fieldEntry.encodeInit(iter, 0);
+                if (ret < CodecReturnCodes.SUCCESS) {
+                    error.setError(JsonConverterErrorCodes.JSON_ERROR_RSSL_ENCODE_ERROR, "Failed encoding FieldEntry, code: " + ret, key);
+                    return;
+                }
+                converter.decodeChunk(fieldEntry.dataType(), JsonConverterBaseImpl.readStreamValue(parser), key, iter, error);
+                if (error.isFailed())
+                    return;
+                ret = fieldEntry.encodeComplete(iter, true);
+                if (ret < CodecReturnCodes.SUCCESS) {
+                    error.setError(JsonConverterErrorCodes.JSON_ERROR_RSSL_ENCODE_ERROR, "Failed encoding FieldEntry, code: " + ret, key);
+                    return;
+                }
+            }
+
+            ret = fieldList.encodeComplete(iter, true);
+            if (ret < CodecReturnCodes.SUCCESS) {
+                error.setError(JsonConverterErrorCodes.JSON_ERROR_RSSL_ENCODE_ERROR, "Failed encoding FieldList, code: " + ret, stringKey);
+                return;
+            }
+        } finally {
+            JsonFactory.releaseFieldEntry(fieldEntry);
+            JsonFactory.releaseFieldList(fieldList);
+        }
+    }
 }
@@ -2,7 +2,7 @@
  *|            This source code is provided under the Apache 2.0 license
  *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
  *|                See the project's LICENSE.md for details.
- *|           Copyright (C) 2021-2022,2024 LSEG. All rights reserved.
+ *|           Copyright (C) 2021-2022,2024-2025 LSEG. All rights reserved.
  *|-----------------------------------------------------------------------------
  */
 
@@ -11,4 +11,11 @@ package com.refinitiv.eta.json.converter;
 public class ParseJsonFlags {
 
     public static final int JSON_PJF_NONE = 0x0;
+
+    /**
+     * Decode messages straight from the JSON token stream instead of building a full JsonNode tree
+     * of the input buffer. The message header is still materialized per message, but the "Fields"
+     * payload of a message is encoded into the RWF buffer field by field while it is parsed.
+     */
+    public static final int JSON_PJF_STREAMING_DECODE = 0x1;
 }
@@ -2,7 +2,7 @@
  *|            This source code is provided under the Apache 2.0 license
  *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
  *|                See the project's LICENSE.md for details.
- *|           Copyright (C) 2021-2022,2024 LSEG. All rights reserved.
+ *|           Copyright (C) 2021-2022,2024-2025 LSEG. All rights reserved.
  *|-----------------------------------------------------------------------------
  */
 
@@ -19,10 +19,13 @@ import org.junit.runners.Parameterized;
 
 import java.lang.reflect.Proxy;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collection;
 
 import static com.refinitiv.eta.codec.CodecReturnCodes.ENCODE_CONTAINER;
+import static com.refinitiv.eta.codec.CodecReturnCodes.END_OF_CONTAINER;
+import static com.refinitiv.eta.codec.CodecReturnCodes.FAILURE;
 import static com.refinitiv.eta.codec.CodecReturnCodes.SUCCESS;
 import static com.refinitiv.eta.json.converter.JsonConverterTestUtils.*;
 import static org.junit.Assert.assertEquals;
@@ -260,6 +263,111 @@ public class UpdateMsgTest {
         checkUpdateMsgsAreEqual((UpdateMsg) origMsg, (UpdateMsg)resultMsg);
     }
 
+    @Test
+    public void testRwfToJson_StreamingDecode() {
+        Msg origMsg = generateMsg();
+        assertEquals(SUCCESS, converter.convertRWFToJson(origMsg, rwfToJsonOptions, convRes, convError));
+        assertEquals(SUCCESS, converter.getJsonBuffer(jsonBuffer, getJsonMsgOptions, convError));
+
+        parseJsonOptions.setConverterFlags(ParseJsonFlags.JSON_PJF_STREAMING_DECODE);
+        assertEquals(SUCCESS, converter.parseJsonBuffer(jsonBuffer, parseJsonOptions, convError));
+        assertEquals(SUCCESS, converter.decodeJsonMsg(jsonMsg, decodeJsonMsgOptions, convError));
+
+        assertEquals("DecodeIter setup", SUCCESS, decodeIter.setBufferAndRWFVersion(jsonMsg.rwfMsg().encodedMsgBuffer(), Codec.majorVersion(), Codec.minorVersion()));
+        assertEquals("DecodeMsg", SUCCESS, resultMsg.decode(decodeIter));
+
+        assertEquals("check class", MsgClasses.UPDATE, resultMsg.msgClass());
+
+        checkUpdateMsgsAreEqual((UpdateMsg) origMsg, (UpdateMsg)resultMsg);
+
+        assertEquals(END_OF_CONTAINER, converter.decodeJsonMsg(jsonMsg, decodeJsonMsgOptions, convError));
+    }
+
+    @Test
+    public void testRwfToJson_StreamingDecodeTruncated() {
+        byte[] json = generateJson();
+        parseJsonOptions.setConverterFlags(ParseJsonFlags.JSON_PJF_STREAMING_DECODE);
+
+        // cut inside the header, inside the payload and just before the closing brace
+        for (int length : new int[] { json.length / 3, json.length / 2, json.length - 2, json.length - 1 }) {
+            Buffer truncated = CodecFactory.createBuffer();
+            truncated.data(ByteBuffer.wrap(Arrays.copyOf(json, length)));
+            convError.clear();
+
+            assertEquals(SUCCESS, converter.parseJsonBuffer(truncated, parseJsonOptions, convError));
+            assertEquals("length " + length, FAILURE, converter.decodeJsonMsg(jsonMsg, decodeJsonMsgOptions, convError));
+            assertEquals(JsonConverterErrorCodes.JSON_ERROR_PARSE_ERROR, convError.getCode());
+            assertEquals(END_OF_CONTAINER, converter.decodeJsonMsg(jsonMsg, decodeJsonMsgOptions, convError));
+        }
+    }
+
+    @Test
+    public void testRwfToJson_StreamingDecodePartialArray() {
+        Msg origMsg = generateMsg();
+        byte[] json = generateJson(origMsg);
+        String message = new String(json, StandardCharsets.UTF_8);
+        String partial = "[" + message + "," + message.substring(0, message.length() / 2);
+
+        Buffer partialBuffer = CodecFactory.createBuffer();
+        partialBuffer.data(ByteBuffer.wrap(partial.getBytes(StandardCharsets.UTF_8)));
+        parseJsonOptions.setConverterFlags(ParseJsonFlags.JSON_PJF_STREAMING_DECODE);
+        assertEquals(SUCCESS, converter.parseJsonBuffer(partialBuffer, parseJsonOptions, convError));
+
+        // the complete message ahead of the cut is still delivered
+        assertEquals(SUCCESS, converter.decodeJsonMsg(jsonMsg, decodeJsonMsgOptions, convError));
+        checkStreamedMsg(origMsg);
+
+        assertEquals(FAILURE, converter.decodeJsonMsg(jsonMsg, decodeJsonMsgOptions, convError));
+        assertEquals(JsonConverterErrorCodes.JSON_ERROR_PARSE_ERROR, convError.getCode());
+        assertEquals(END_OF_CONTAINER, converter.decodeJsonMsg(jsonMsg, decodeJsonMsgOptions, convError));
+    }
+
+    @Test
+    public void testRwfToJson_StreamingDecodeAcrossReadBoundaries() {
+        Msg origMsg = generateMsg();
+        String message = new String(generateJson(origMsg), StandardCharsets.UTF_8);
+
+        // the parser reads the input in blocks of a few kilobytes, so several block boundaries fall inside messages
+        int count = 32768 / message.length() + 2;
+        StringBuilder array = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0)
+                array.append(i % 2 == 0 ? "," : ",[").append(message).append(i % 2 == 0 ? "" : "]");
+            else
+                array.append(message);
+        }
+        array.append("]");
+
+        Buffer arrayBuffer = CodecFactory.createBuffer();
+        arrayBuffer.data(ByteBuffer.wrap(array.toString().getBytes(StandardCharsets.UTF_8)));
+        parseJsonOptions.setConverterFlags(ParseJsonFlags.JSON_PJF_STREAMING_DECODE);
+        assertEquals(SUCCESS, converter.parseJsonBuffer(arrayBuffer, parseJsonOptions, convError));
+
+        for (int i = 0; i < count; i++) {
+            assertEquals("message " + i, SUCCESS, converter.decodeJsonMsg(jsonMsg, decodeJsonMsgOptions, convError));
+            checkStreamedMsg(origMsg);
+        }
+        assertEquals(END_OF_CONTAINER, converter.decodeJsonMsg(jsonMsg, decodeJsonMsgOptions, convError));
+    }
+
+    private byte[] generateJson() {
+        return generateJson(generateMsg());
+    }
+
+    private byte[] generateJson(Msg origMsg) {
+        assertEquals(SUCCESS, converter.convertRWFToJson(origMsg, rwfToJsonOptions, convRes, convError));
+        assertEquals(SUCCESS, converter.getJsonBuffer(jsonBuffer, getJsonMsgOptions, convError));
+        return Arrays.copyOf(jsonBuffer.data().array(), jsonBuffer.data().array().length);
+    }
+
+    private void checkStreamedMsg(Msg origMsg) {
+        decodeIter.clear();
+        assertEquals("DecodeIter setup", SUCCESS, decodeIter.setBufferAndRWFVersion(jsonMsg.rwfMsg().encodedMsgBuffer(), Codec.majorVersion(), Codec.minorVersion()));
+        assertEquals("DecodeMsg", SUCCESS, resultMsg.decode(decodeIter));
+        assertEquals("check class", MsgClasses.UPDATE, resultMsg.msgClass());
+        checkUpdateMsgsAreEqual((UpdateMsg) origMsg, (UpdateMsg)resultMsg);
+    }
+
     private void checkUpdateMsgsAreEqual(UpdateMsg expectedMsg, UpdateMsg actualMsg) {
         JsonConverterTestUtils.checkMsgsAreEqual(expectedMsg, actualMsg);
 
@@ -2,7 +2,7 @@
  *|            This source code is provided under the Apache 2.0 license
  *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
  *|                See the project's LICENSE.md for details.
- *|           Copyright (C) 2020-2022,2024 LSEG. All rights reserved.
+ *|           Copyright (C) 2020-2022,2024-2025 LSEG. All rights reserved.
  *|-----------------------------------------------------------------------------
  */
 
@@ -281,6 +281,18 @@ public class CodecFactory
         return new FieldEntryImpl();
     }
 
+    /**
+     * Creates {@link FieldListNumericDecoder}.
+     * 
+     * @return FieldListNumericDecoder object
+     * 
+     * @see FieldListNumericDecoder
+     */
+    public static FieldListNumericDecoder createFieldListNumericDecoder()
+    {
+        return new FieldListNumericDecoderImpl();
+    }
+
     /**
      * Creates {@link FilterList}.
      * 
@@ -2,7 +2,7 @@
  *|            This source code is provided under the Apache 2.0 license
  *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
  *|                See the project's LICENSE.md for details.
- *|           Copyright (C) 2020-2022,2024 LSEG. All rights reserved.
+ *|           Copyright (C) 2020-2022,2024-2025 LSEG. All rights reserved.
  *|-----------------------------------------------------------------------------
  */
 
@@ -40,6 +40,21 @@ public interface DataDictionary
      */
     public DictionaryEntry entry(int fieldId);
 
+    /**
+     * Returns the RWF type of the given fieldId. The default implementation
+     * reads it from the dictionary entry; the ETA dictionary reads it from a
+     * compact index of the dictionary instead.
+     *
+     * @param fieldId the fieldId to get the RWF type for
+     *
+     * @return the RWF type of the field, or {@link DataTypes#UNKNOWN} if the field is not in the dictionary
+     */
+    public default int rwfType(int fieldId)
+    {
+        DictionaryEntry entry = entry(fieldId);
+        return entry != null ? entry.rwfType() : DataTypes.UNKNOWN;
+    }
+
     /**
      * Returns the corresponding enumerated type in the dictionary entry's
      * table, if the type exists.
@@ -75,6 +90,32 @@ public interface DataDictionary
      */
     public int loadEnumTypeDictionary(String filename, Error error);
 
+    /**
+     * Writes the field and enumerated types information of this data
+     * dictionary to a binary snapshot file, which can be loaded with
+     * {@link #loadSnapshot(String, Error)} instead of parsing the dictionary
+     * files again.
+     *
+     * @param filename the snapshot filename
+     * @param error the error
+     * @return {@link CodecReturnCodes#SUCCESS} on success, otherwise {@link CodecReturnCodes#FAILURE}
+     */
+    public int saveSnapshot(String filename, Error error);
+
+    /**
+     * Loads a binary snapshot file written by {@link #saveSnapshot(String, Error)}.
+     * The file is mapped into memory read-only the first time it is loaded, and the
+     * mapping is shared by all data dictionaries in the JVM that load the same file
+     * until none of them uses it. Each field entry is read from the mapping the
+     * first time it is used. The data dictionary must be cleared before loading a
+     * snapshot.
+     *
+     * @param filename the snapshot filename
+     * @param error the error
+     * @return {@link CodecReturnCodes#SUCCESS} on success, otherwise {@link CodecReturnCodes#FAILURE}
+     */
+    public int loadSnapshot(String filename, Error error);
+
     /**
      * Extract dictionary type from the encoded payload of a ETA message where
      * the domain type is DICTIONARY.
@@ -2,7 +2,7 @@
  *|            This source code is provided under the Apache 2.0 license
  *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
  *|                See the project's LICENSE.md for details.
- *|           Copyright (C) 2020-2022,2024 LSEG. All rights reserved.
+ *|           Copyright (C) 2020-2022,2024-2025 LSEG. All rights reserved.
  *|-----------------------------------------------------------------------------
  */
 
@@ -11,7 +11,6 @@ package com.refinitiv.eta.codec;
 import java.io.File;
 import java.io.FileReader;
 import java.nio.ByteBuffer;
-import java.util.HashMap;
 import java.util.concurrent.locks.ReentrantLock;
 
 import com.refinitiv.eta.rdm.Dictionary;
@@ -25,7 +24,7 @@ class DataDictionaryImpl implements DataDictionary
     private final int ENUM_TABLE_MAX_COUNT = ((MAX_FID) - (MIN_FID) + 1);
     private final int MAX_ENUM_TYPE_COUNT = 2500;
     private final int INIT_TO_STRING_SIZE = 2000000;
-    private final ReentrantLock fieldNametoIdMapLock = new ReentrantLock();
+    private final ReentrantLock fieldIndexLock = new ReentrantLock();
 
     // Dictionary - Element names that should be hidden
     private final Buffer ENUM_FID = CodecFactory.createBuffer();
@@ -35,9 +34,17 @@ class DataDictionaryImpl implements DataDictionary
     int                         _minFid;
     int                         _maxFid;
     int                         _numberOfEntries;
-    DictionaryEntryImpl[]       _entriesArray;
+    /* Entries by fid while the dictionary is loaded, null once the field index holds them. */
+    volatile DictionaryEntryImpl[] _entriesArray;
     boolean                     _isInitialized;
 
+    /* Incremented whenever an entry is added, so the field index is rebuilt. */
+    int                         _modCount;
+    private volatile DictionaryFieldIndex _fieldIndex;
+
+    /* Snapshot the entries are decoded from after loadSnapshot(), until entriesArray() or the field index needs all of them. */
+    private volatile DictionarySnapshot _snapshot;
+
     EnumTypeTable[]             _enumTables;
     int                         _enumTableCount;
 
@@ -115,8 +122,6 @@ class DataDictionaryImpl implements DataDictionary
     FieldSetDef newSetDef = CodecFactory.createFieldSetDef();
     LocalFieldSetDefDb fieldSetDef = CodecFactory.createLocalFieldSetDefDb();
 
-    private HashMap<String,Integer> fieldNametoIdMap;
-
     StringBuilder dictionaryString; // for toString method
     String	toString;
     {
@@ -210,26 +215,58 @@ class DataDictionaryImpl implements DataDictionary
     public void clear()
     {
         _isInitialized = false;
+        _snapshot = null;
 
         if ( dictionaryString != null )
             dictionaryString.setLength(0);
-        fieldNametoIdMapLock.lock();
-        try {
-            if (fieldNametoIdMap != null)
-                fieldNametoIdMap.clear();
-        } finally {
-            fieldNametoIdMapLock.unlock();
-        }
-
     }
 
     @Override
     public DictionaryEntry entry(int fieldId)
     {
-        if (_entriesArray == null)
-            return null;
+        return entryImpl(fieldId);
+    }
+
+    DictionaryEntryImpl entryImpl(int fieldId)
+    {
+        DictionaryEntryImpl[] entries = _entriesArray;
+        if (entries != null)
+            return (fieldId - MIN_FID < MAX_FID - MIN_FID + 1) ? entries[fieldId - MIN_FID] : null;
+
+        /* the array is only dropped after the snapshot or the field index with the entries is published */
+        DictionarySnapshot snapshot = _snapshot;
+        if (snapshot != null)
+            return snapshot.entry(fieldId);
 
-        return (fieldId - MIN_FID < MAX_FID - MIN_FID + 1) ? _entriesArray[fieldId - MIN_FID] : null;
+        DictionaryFieldIndex index = _fieldIndex;
+        return index != null ? index.entry(fieldId) : null;
+    }
+
+    /* Returns the entries by fid to add or update entries, taking them back from the snapshot or the field index if needed. */
+    DictionaryEntryImpl[] entriesArray()
+    {
+        DictionaryEntryImpl[] entries = _entriesArray;
+        if (entries == null)
+        {
+            fieldIndexLock.lock();
+            try {
+                entries = _entriesArray;
+                if (entries == null)
+                {
+                    entries = new DictionaryEntryImpl[MAX_FID - MIN_FID + 1];
+                    DictionarySnapshot snapshot = _snapshot;
+                    if (snapshot != null)
+                        snapshot.copyEntriesTo(entries);
+                    else
+                        _fieldIndex.copyEntriesTo(entries);
+                    _entriesArray = entries;
+                    _snapshot = null;
+                }
+            } finally {
+                fieldIndexLock.unlock();
+            }
+        }
+        return entries;
     }
 
     @Override
@@ -343,7 +380,7 @@ class DataDictionaryImpl implements DataDictionary
                 {
                     if (rippleAcronym.equals(newDictEntry._acronym))
                     {
-                        _entriesArray[rippleFid - MIN_FID]._rippleToField = fidNum;
+                        entriesArray()[rippleFid - MIN_FID]._rippleToField = fidNum;
                         rippleAcronym.clear();
                         rippleFid = 0;
                     }
@@ -433,14 +470,15 @@ class DataDictionaryImpl implements DataDictionary
             if ((_minFid <= MAX_FID) && (_maxFid >= MIN_FID))
             {
                 /* Go through the undefined ripplesTo fields and find */
+                DictionaryEntryImpl[] entries = entriesArray();
                 while (undefinedRipples != null)
                 {
                     RippleDefintion tdef = undefinedRipples;
                     for (int j = _minFid; j <= _maxFid; j++)
                     {
-                        if ((_entriesArray[j - MIN_FID] != null) && (tdef.rippleAcronym.equals(_entriesArray[j - MIN_FID]._acronym)))
+                        if ((entries[j - MIN_FID] != null) && (tdef.rippleAcronym.equals(entries[j - MIN_FID]._acronym)))
                         {
-                            _entriesArray[tdef.rippleFid - MIN_FID]._rippleToField = j;
+                            entries[tdef.rippleFid - MIN_FID]._rippleToField = j;
                             break;
                         }
                     }
@@ -678,6 +716,87 @@ class DataDictionaryImpl implements DataDictionary
         return CodecReturnCodes.SUCCESS;
     }
 
+    @Override
+    public int saveSnapshot(String filename, Error error)
+    {
+        if (filename == null)
+        {
+            setError(error, "NULL Filename pointer.");
+            return CodecReturnCodes.FAILURE;
+        }
+
+        if (!_isInitialized)
+        {
+            setError(error, "Dictionary is not loaded.");
+            return CodecReturnCodes.FAILURE;
+        }
+
+        try
+        {
+            DictionarySnapshot.write(this, new File(filename));
+        }
+        catch (Exception e)
+        {
+            setError(error, "Can't write file: " + filename + " (" + e.getMessage() + ")");
+            return CodecReturnCodes.FAILURE;
+        }
+
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    @Override
+    public int loadSnapshot(String filename, Error error)
+    {
+        if (filename == null)
+        {
+            setError(error, "NULL Filename pointer.");
+            return CodecReturnCodes.FAILURE;
+        }
+
+        File snapshotFile = new File(filename);
+        if (!snapshotFile.exists())
+        {
+            setError(error, "Can't open file: " + filename);
+            return CodecReturnCodes.FAILURE;
+        }
+
+        if (_isInitialized)
+        {
+            setError(error, "Dictionary must be cleared before loading a snapshot.");
+            return CodecReturnCodes.FAILURE;
+        }
+
+        if (initDictionary(error) != CodecReturnCodes.SUCCESS)
+            return CodecReturnCodes.FAILURE;
+
+        try
+        {
+            DictionarySnapshot snapshot = DictionarySnapshot.read(DictionarySnapshot.mapping(snapshotFile), this);
+
+            /* The entries are decoded from the snapshot as they are used. */
+            fieldIndexLock.lock();
+            try {
+                _snapshot = snapshot;
+                _fieldIndex = null;
+                _entriesArray = null;
+                _modCount++;
+            } finally {
+                fieldIndexLock.unlock();
+            }
+        }
+        catch (Exception e)
+        {
+            _isInitialized = false;
+            setError(error, "Invalid dictionary snapshot: " + filename + " (" + e.getMessage() + ")");
+            return CodecReturnCodes.FAILURE;
+        }
+
+        if ( dictionaryString != null )
+            dictionaryString.setLength(0);
+
+        return CodecReturnCodes.SUCCESS;
+    }
+
     private void setError(Error error, String errorStr)
     {
         if (error != null)
@@ -710,6 +829,8 @@ class DataDictionaryImpl implements DataDictionary
         _infoDictionaryId = 0;
 
         _entriesArray = new DictionaryEntryImpl[MAX_FID - MIN_FID + 1];
+        _snapshot = null;
+        _modCount++;
         _minFid = MAX_FID + 1;
         _maxFid = MIN_FID - 1;
 
@@ -1068,9 +1189,9 @@ class DataDictionaryImpl implements DataDictionary
             }
         }
 
-        if (_entriesArray[fidNum - MIN_FID] != null)
+        if (entriesArray()[fidNum - MIN_FID] != null)
         {
-            if (_entriesArray[fidNum - MIN_FID]._rwfType != DataTypes.UNKNOWN)
+            if (entriesArray()[fidNum - MIN_FID]._rwfType != DataTypes.UNKNOWN)
             {
                 if (lineNum > 0)
                     setError(error, "Duplicate definition for fid " + fidNum + " (Line=" + lineNum + ").");
@@ -1081,17 +1202,18 @@ class DataDictionaryImpl implements DataDictionary
             else
             {
                 /* Entry exists because it was loaded from an enumType def. Copy the fieldDict-related info. */
-                if (copyEntryFieldDictInfo(_entriesArray[fidNum - MIN_FID], entry, error) != CodecReturnCodes.SUCCESS)
+                if (copyEntryFieldDictInfo(entriesArray()[fidNum - MIN_FID], entry, error) != CodecReturnCodes.SUCCESS)
                     return CodecReturnCodes.FAILURE;
             }
         }
         else
         {
             entry._enumTypeTable = null;
-            _entriesArray[fidNum - MIN_FID] = entry;
+            entriesArray()[fidNum - MIN_FID] = entry;
         }
 
         _numberOfEntries++;
+        _modCount++;
         if (entry._fid > _maxFid)
             _maxFid = entry._fid;
         if (entry._fid < _minFid)
@@ -1197,7 +1319,7 @@ class DataDictionaryImpl implements DataDictionary
      * If the entry does not exist, a placeholder will be created */
     int addFieldTableReferenceToDictionary(int fid, Buffer fidAcronym, EnumTypeTable table, Error error)
     {
-        DictionaryEntryImpl entry = _entriesArray[fid - MIN_FID];
+        DictionaryEntryImpl entry = entriesArray()[fid - MIN_FID];
 
         if (entry == null)
         {
@@ -1212,7 +1334,8 @@ class DataDictionaryImpl implements DataDictionary
             entry._rwfType = DataTypes.UNKNOWN;
             entry._enumTypeTable = table;
 
-            _entriesArray[fid - MIN_FID] = entry;
+            entriesArray()[fid - MIN_FID] = entry;
+            _modCount++;
         }
         else
         {
@@ -1390,9 +1513,10 @@ class DataDictionaryImpl implements DataDictionary
             {
                 /* Entries with type UNKNOWN were loaded from an enumtype.
                  * Don't send them since they aren't officially defined yet. */
-                if (_entriesArray[(int)curFid - MIN_FID] != null && _entriesArray[(int)curFid - MIN_FID].rwfType() != DataTypes.UNKNOWN)
+                DictionaryEntryImpl curEntry = entryImpl((int)curFid);
+                if (curEntry != null && curEntry.rwfType() != DataTypes.UNKNOWN)
                 {
-                    if ((ret = encodeDataDictEntry(iter, _entriesArray[(int)curFid - MIN_FID], verbosity, error, setDb)) < 0)
+                    if ((ret = encodeDataDictEntry(iter, curEntry, verbosity, error, setDb)) < 0)
                         return CodecReturnCodes.FAILURE;
 
                     /* If we have filled the buffer, then complete */
@@ -3494,13 +3618,14 @@ class DataDictionaryImpl implements DataDictionary
 
             for (int i = 0; i <= MAX_FID - MIN_FID; i++)
             {
-                if (_entriesArray[i] != null && _entriesArray[i].rwfType() != DataTypes.UNKNOWN)
+                DictionaryEntryImpl entry = entryImpl(i + MIN_FID);
+                if (entry != null && entry.rwfType() != DataTypes.UNKNOWN)
                 {
-                    dictionaryString.append("  Fid=" + _entriesArray[i].fid() + " '" + _entriesArray[i].acronym() + "' '" + _entriesArray[i].ddeAcronym() +
-                                            "' Type=" + _entriesArray[i].fieldType() +
-                                            " RippleTo=" + _entriesArray[i].rippleToField() + " Len=" + _entriesArray[i].length() +
-                                            " EnumLen=" + _entriesArray[i].enumLength() +
-                                            " RwfType=" + _entriesArray[i].rwfType() + " RwfLen=" + _entriesArray[i].rwfLength() + "\n");
+                    dictionaryString.append("  Fid=" + entry.fid() + " '" + entry.acronym() + "' '" + entry.ddeAcronym() +
+                                            "' Type=" + entry.fieldType() +
+                                            " RippleTo=" + entry.rippleToField() + " Len=" + entry.length() +
+                                            " EnumLen=" + entry.enumLength() +
+                                            " RwfType=" + entry.rwfType() + " RwfLen=" + entry.rwfLength() + "\n");
                 }
             }
 
@@ -3538,51 +3663,58 @@ class DataDictionaryImpl implements DataDictionary
 
     @Override
     public boolean hasEntry(String fieldName) {
-        fieldNametoIdMapLock.lock();
-        try {
-            HashMap<String, Integer> nameToIdMap = fieldNameToIdMap();
-            return nameToIdMap != null ? nameToIdMap.containsKey(fieldName) : false;
-        } finally {
-            fieldNametoIdMapLock.unlock();
-        }
+        DictionaryFieldIndex index = fieldIndex();
+        return index != null && index.fieldId(fieldName) != DictionaryFieldIndex.NO_FIELD;
     }
 
     @Override
     public DictionaryEntry entry(String fieldName) {
-
-        if (fieldName == null)
+        DictionaryFieldIndex index = fieldIndex();
+        if (index == null)
             return null;
-        fieldNametoIdMapLock.lock();
-        try {
-            Integer fid = fieldNameToIdMap().get(fieldName);
-            return fid != null ? entry(fid) : null;
-        } finally {
-            fieldNametoIdMapLock.unlock();
-        }
+
+        int fid = index.fieldId(fieldName);
+        return fid != DictionaryFieldIndex.NO_FIELD ? entry(fid) : null;
     }
 
-    private HashMap<String,Integer> fieldNameToIdMap()
+    @Override
+    public int rwfType(int fieldId)
     {
-        if ( fieldNametoIdMap == null )
-        {
-            fieldNametoIdMap = new HashMap<>(numberOfEntries());
-        }
+        DictionarySnapshot snapshot = _snapshot;
+        if (snapshot != null)
+            return snapshot.rwfType(fieldId);
 
-        if ( fieldNametoIdMap.size() == 0 )
-        {
-            DictionaryEntry dictionaryEntry;
+        DictionaryFieldIndex index = fieldIndex();
+        return index != null ? index.rwfType(fieldId) : DataTypes.UNKNOWN;
+    }
 
-            for( int fieldId = minFid(); fieldId <= maxFid(); fieldId++ )
-            {
-                dictionaryEntry = entry(fieldId);
+    /* Returns the field index of the loaded entries, building it on first use after the entries change.
+     * The array of entries by fid is dropped once the index holds the entries; entry(int) then reads
+     * them from the index and entriesArray() takes them back when entries are added. */
+    private DictionaryFieldIndex fieldIndex()
+    {
+        DictionaryFieldIndex index = _fieldIndex;
+        if (index != null && (_entriesArray == null || index._modCount == _modCount))
+            return index;
 
-                if ( dictionaryEntry != null && dictionaryEntry.acronym().data() != null )
-                {
-                    fieldNametoIdMap.put(dictionaryEntry.acronym().toString(), dictionaryEntry.fid());
-                }
+        fieldIndexLock.lock();
+        try {
+            /* names are only looked up through the index, so all entries of a snapshot are decoded for it */
+            DictionaryEntryImpl[] entries = _snapshot != null ? entriesArray() : _entriesArray;
+            if (entries == null)
+                return _fieldIndex;
+
+            index = _fieldIndex;
+            if (index == null || index._modCount != _modCount)
+            {
+                index = DictionaryFieldIndex.build(entries, _minFid, _maxFid, _modCount);
+                _fieldIndex = index;
             }
+            if (index.hasEntries())
+                _entriesArray = null;
+            return index;
+        } finally {
+            fieldIndexLock.unlock();
         }
-
-        return fieldNametoIdMap;
     }
 }
@@ -0,0 +1,175 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.codec;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Registry of loaded {@link DataDictionary} objects shared by every consumer in the JVM.
+ *
+ * A dictionary is registered under a key naming where it was loaded from (for example the
+ * dictionary files, or the server and dictionary names it was downloaded with), and is
+ * reference counted: every {@link #register(String, DataDictionary)} and successful
+ * {@link #acquire(String)} must be matched by a {@link #release(String)}. The dictionary is
+ * removed from the registry when the last reference is released.
+ *
+ * A registered dictionary is read by several consumers at once, so it must not be cleared or
+ * loaded into once it is registered. A consumer that needs to change its dictionary, for example
+ * on a streaming dictionary refresh, must release it and use a dictionary of its own.
+ */
+public class DataDictionaryRegistry
+{
+    private static class Entry
+    {
+        final DataDictionary _dictionary;
+        int _referenceCount;
+
+        Entry(DataDictionary dictionary)
+        {
+            _dictionary = dictionary;
+        }
+    }
+
+    private static final Map<String, Entry> _entries = new HashMap<String, Entry>();
+
+    private DataDictionaryRegistry()
+    {
+        throw new AssertionError();
+    }
+
+    /**
+     * Returns the dictionary registered under the key and adds a reference to it.
+     *
+     * @param key the key of the dictionary
+     *
+     * @return the dictionary, or null if no dictionary is registered under the key
+     */
+    public static DataDictionary acquire(String key)
+    {
+        if (key == null)
+            return null;
+
+        synchronized (_entries)
+        {
+            Entry entry = _entries.get(key);
+            if (entry == null)
+                return null;
+
+            entry._referenceCount++;
+            return entry._dictionary;
+        }
+    }
+
+    /**
+     * Registers a fully loaded dictionary under the key, holding one reference to it. If another
+     * dictionary was registered under the key in the meantime, that dictionary is kept, a
+     * reference is added to it and it is returned instead, so the caller can drop its own copy.
+     *
+     * @param key the key of the dictionary
+     * @param dictionary the loaded dictionary
+     *
+     * @return the dictionary registered under the key
+     */
+    public static DataDictionary register(String key, DataDictionary dictionary)
+    {
+        synchronized (_entries)
+        {
+            Entry entry = _entries.get(key);
+            if (entry == null)
+            {
+                entry = new Entry(dictionary);
+                _entries.put(key, entry);
+            }
+
+            entry._referenceCount++;
+            return entry._dictionary;
+        }
+    }
+
+    /**
+     * Releases a reference to the dictionary registered under the key. The dictionary is
+     * removed from the registry when its last reference is released.
+     *
+     * @param key the key of the dictionary
+     */
+    public static void release(String key)
+    {
+        if (key == null)
+            return;
+
+        synchronized (_entries)
+        {
+            Entry entry = _entries.get(key);
+            if (entry != null && --entry._referenceCount <= 0)
+                _entries.remove(key);
+        }
+    }
+
+    /**
+     * Returns the number of references to the dictionary registered under the key.
+     *
+     * @param key the key of the dictionary
+     *
+     * @return the number of references, or 0 if no dictionary is registered under the key
+     */
+    public static int referenceCount(String key)
+    {
+        synchronized (_entries)
+        {
+            Entry entry = _entries.get(key);
+            return entry == null ? 0 : entry._referenceCount;
+        }
+    }
+
+    /**
+     * Returns the key of a dictionary loaded from a field dictionary file and an enumerated types
+     * dictionary file. The key includes the size and modification time of the files, so a
+     * dictionary is not shared once either file changed.
+     *
+     * @param fieldDictionaryFilename the field dictionary filename
+     * @param enumTypeDictionaryFilename the enumerated types dictionary filename
+     *
+     * @return the key, or null if either file cannot be read
+     */
+    public static String fileKey(String fieldDictionaryFilename, String enumTypeDictionaryFilename)
+    {
+        if (fieldDictionaryFilename == null || enumTypeDictionaryFilename == null)
+            return null;
+
+        StringBuilder key = new StringBuilder("file:");
+        if (!appendFile(key, new File(fieldDictionaryFilename)))
+            return null;
+        key.append('|');
+        if (!appendFile(key, new File(enumTypeDictionaryFilename)))
+            return null;
+
+        return key.toString();
+    }
+
+    private static boolean appendFile(StringBuilder key, File file)
+    {
+        if (!file.isFile())
+            return false;
+
+        try
+        {
+            key.append(file.getCanonicalPath());
+        }
+        catch (IOException e)
+        {
+            return false;
+        }
+
+        key.append(':').append(file.length()).append(':').append(file.lastModified());
+        return true;
+    }
+}
@@ -2,7 +2,7 @@
  *|            This source code is provided under the Apache 2.0 license
  *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
  *|                See the project's LICENSE.md for details.
- *|           Copyright (C) 2020-2022,2024 LSEG. All rights reserved.
+ *|           Copyright (C) 2020-2022,2024-2025 LSEG. All rights reserved.
  *|-----------------------------------------------------------------------------
  */
 
@@ -2511,7 +2511,9 @@ class Decoders
                 else
                 {
                     _levelInfo._setCount = 0;
-                    _levelInfo._nextEntryPos = /* iter._curBufPos = */position + fieldList._encodedSetData.length();
+                    /* position is already past the set data when standard data follows it */
+                    _levelInfo._nextEntryPos = /* iter._curBufPos = */fieldList.checkHasStandardData() ? position
+                            : position + fieldList._encodedSetData.length();
                     return CodecReturnCodes.SET_SKIPPED;
                 }
             }
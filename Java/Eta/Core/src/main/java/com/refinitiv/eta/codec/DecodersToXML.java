@@ -2,7 +2,7 @@
  *|            This source code is provided under the Apache 2.0 license
  *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
  *|                See the project's LICENSE.md for details.
- *|           Copyright (C) 2020-2022,2024 LSEG. All rights reserved.
+ *|           Copyright (C) 2020-2022,2024-2025 LSEG. All rights reserved.
  *|-----------------------------------------------------------------------------
  */
 
@@ -1066,10 +1066,9 @@ class DecodersToXML
                 return xmlString.toString();
             }
 
-            if (dictionary == null || dictionary.entry(field.fieldId()) == null)
+            dataType = (dictionary != null) ? dictionary.rwfType(field.fieldId()) : DataTypes.UNKNOWN;
+            if (dataType == DataTypes.UNKNOWN)
                 dataType = field.dataType();
-            else
-                dataType = dictionary.entry(field.fieldId()).rwfType();
 
             xmlString.append(xmlDumpFieldBegin(field, dataType));
 
@@ -0,0 +1,323 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.codec;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/* Compact off-heap index of a loaded DataDictionary.
+ *
+ * The index is built once from the dictionary entries and is not modified afterwards, so it can be
+ * read by any number of threads without locking. It holds:
+ *   - the rwfType of every fid, one byte per fid from MIN_FID to MAX_FID;
+ *   - the position of the entry of every fid in a dense array of the entries, one char per fid,
+ *     so the dictionary does not need its array of a slot per possible fid once the index is built;
+ *   - a pool of the field names (acronyms), stored once as UTF-16 chars;
+ *   - a perfect hash of the names (hash and displace), so a name is found with a single
+ *     comparison against the pool, without creating a String, Integer or map entry per field.
+ * All but the dense array of entries are kept in direct buffers, outside the Java heap. */
+class DictionaryFieldIndex
+{
+    static final int MIN_FID = -32768;
+    static final int MAX_FID = 32767;
+
+    /* Returned by fieldId() for a name that is not in the index. */
+    static final int NO_FIELD = Integer.MIN_VALUE;
+
+    /* Average number of names per displacement bucket. */
+    private static final int NAMES_PER_BUCKET = 4;
+
+    /* Displacement seeds tried for a bucket before the table is grown. */
+    private static final int MAX_SEED = 1 << 16;
+
+    /* A slot is an int offset of the name in the pool (-1 if the slot is empty),
+     * a short fid and a short name length. */
+    private static final int SLOT_SIZE = 8;
+
+    /* Entries held in the dense array at most, the position of an entry plus one must fit in a char. */
+    static final int MAX_INDEXED_ENTRIES = Character.MAX_VALUE - 1;
+
+    private final ByteBuffer _rwfTypes;
+    private final ByteBuffer _entryPositions; // null if there are more than MAX_INDEXED_ENTRIES entries
+    private final DictionaryEntryImpl[] _entries;
+    private final ByteBuffer _namePool;
+    private final ByteBuffer _seeds;
+    private final ByteBuffer _slots;
+    private final int _bucketCount;
+    private final int _slotMask;
+    private final int _nameCount;
+
+    /* Value of DataDictionaryImpl._modCount the index was built from. */
+    final int _modCount;
+
+    private DictionaryFieldIndex(ByteBuffer rwfTypes, ByteBuffer entryPositions, DictionaryEntryImpl[] entries,
+            ByteBuffer namePool, ByteBuffer seeds, ByteBuffer slots, int bucketCount, int slotMask, int nameCount, int modCount)
+    {
+        _rwfTypes = rwfTypes;
+        _entryPositions = entryPositions;
+        _entries = entries;
+        _namePool = namePool;
+        _seeds = seeds;
+        _slots = slots;
+        _bucketCount = bucketCount;
+        _slotMask = slotMask;
+        _nameCount = nameCount;
+        _modCount = modCount;
+    }
+
+    /* Builds the index of the entries from minFid to maxFid. When two entries have the same name,
+     * the one with the higher fid is found. */
+    static DictionaryFieldIndex build(DictionaryEntryImpl[] entries, int minFid, int maxFid, int modCount)
+    {
+        ByteBuffer rwfTypes = ByteBuffer.allocateDirect(MAX_FID - MIN_FID + 1);
+        Map<String, Integer> fidByName = new HashMap<String, Integer>();
+        int poolLength = 0;
+        int entryCount = 0;
+
+        for (int fid = minFid; fid <= maxFid; fid++)
+        {
+            if (entries[fid - MIN_FID] != null)
+                entryCount++;
+        }
+
+        ByteBuffer entryPositions = null;
+        DictionaryEntryImpl[] denseEntries = null;
+        if (entryCount <= MAX_INDEXED_ENTRIES)
+        {
+            entryPositions = ByteBuffer.allocateDirect((MAX_FID - MIN_FID + 1) * 2);
+            denseEntries = new DictionaryEntryImpl[entryCount];
+        }
+        int position = 0;
+
+        for (int fid = minFid; fid <= maxFid; fid++)
+        {
+            DictionaryEntryImpl entry = entries[fid - MIN_FID];
+            if (entry == null)
+                continue;
+
+            rwfTypes.put(fid - MIN_FID, (byte)entry._rwfType);
+
+            if (denseEntries != null)
+            {
+                denseEntries[position] = entry;
+                entryPositions.putChar((fid - MIN_FID) * 2, (char)(++position));
+            }
+
+            if (entry._acronym.data() != null)
+            {
+                String name = entry._acronym.toString();
+                if (fidByName.put(name, fid) == null)
+                    poolLength += name.length();
+            }
+        }
+
+        int nameCount = fidByName.size();
+        String[] names = new String[nameCount];
+        int[] fids = new int[nameCount];
+        long[] hashes = new long[nameCount];
+        ByteBuffer namePool = ByteBuffer.allocateDirect(Math.max(poolLength, 1) * 2);
+        int[] offsets = new int[nameCount];
+        int i = 0;
+        for (Map.Entry<String, Integer> nameEntry : fidByName.entrySet())
+        {
+            String name = nameEntry.getKey();
+            names[i] = name;
+            fids[i] = nameEntry.getValue();
+            hashes[i] = hash(name);
+            offsets[i] = namePool.position() / 2;
+            for (int c = 0; c < name.length(); c++)
+                namePool.putChar(name.charAt(c));
+            i++;
+        }
+
+        int bucketCount = Math.max(1, (nameCount + NAMES_PER_BUCKET - 1) / NAMES_PER_BUCKET);
+        int slotCount = Integer.highestOneBit(Math.max(1, nameCount + nameCount / 4));
+        if (slotCount < nameCount + nameCount / 4)
+            slotCount <<= 1;
+
+        int[] seeds;
+        while ((seeds = displace(hashes, bucketCount, slotCount - 1)) == null)
+            slotCount <<= 1;
+
+        ByteBuffer seedBuffer = ByteBuffer.allocateDirect(bucketCount * 4);
+        for (int b = 0; b < bucketCount; b++)
+            seedBuffer.putInt(b * 4, seeds[b]);
+
+        ByteBuffer slots = ByteBuffer.allocateDirect(slotCount * SLOT_SIZE);
+        for (int s = 0; s < slotCount; s++)
+            slots.putInt(s * SLOT_SIZE, -1);
+        for (int n = 0; n < nameCount; n++)
+        {
+            int slot = slot(hashes[n], seeds[bucket(hashes[n], bucketCount)], slotCount - 1);
+            slots.putInt(slot * SLOT_SIZE, offsets[n]);
+            slots.putShort(slot * SLOT_SIZE + 4, (short)fids[n]);
+            slots.putShort(slot * SLOT_SIZE + 6, (short)names[n].length());
+        }
+
+        return new DictionaryFieldIndex(rwfTypes, entryPositions, denseEntries, namePool, seedBuffer, slots,
+                bucketCount, slotCount - 1, nameCount, modCount);
+    }
+
+    /* Finds a seed for every bucket so that all names land in distinct slots, handling the largest
+     * buckets first. Returns null if some bucket has no such seed, in which case the table is grown. */
+    private static int[] displace(long[] hashes, int bucketCount, int slotMask)
+    {
+        List<List<Integer>> buckets = new ArrayList<List<Integer>>(bucketCount);
+        for (int b = 0; b < bucketCount; b++)
+            buckets.add(new ArrayList<Integer>());
+        for (int n = 0; n < hashes.length; n++)
+            buckets.get(bucket(hashes[n], bucketCount)).add(n);
+
+        Integer[] order = new Integer[bucketCount];
+        for (int b = 0; b < bucketCount; b++)
+            order[b] = b;
+        Arrays.sort(order, new Comparator<Integer>()
+        {
+            @Override
+            public int compare(Integer b1, Integer b2)
+            {
+                return buckets.get(b2).size() - buckets.get(b1).size();
+            }
+        });
+
+        int[] seeds = new int[bucketCount];
+        boolean[] used = new boolean[slotMask + 1];
+        int[] bucketSlots = new int[hashes.length];
+
+        for (int b : order)
+        {
+            List<Integer> bucket = buckets.get(b);
+            if (bucket.isEmpty())
+                break;
+
+            int seed = 0;
+            for (; seed < MAX_SEED; seed++)
+            {
+                int placed = 0;
+                for (; placed < bucket.size(); placed++)
+                {
+                    int slot = slot(hashes[bucket.get(placed)], seed, slotMask);
+                    if (used[slot])
+                        break;
+                    used[slot] = true;
+                    bucketSlots[placed] = slot;
+                }
+
+                if (placed == bucket.size())
+                    break;
+
+                for (int p = 0; p < placed; p++)
+                    used[bucketSlots[p]] = false;
+            }
+
+            if (seed == MAX_SEED)
+                return null;
+            seeds[b] = seed;
+        }
+
+        return seeds;
+    }
+
+    private static long hash(String name)
+    {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < name.length(); i++)
+        {
+            hash ^= name.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value)
+    {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    private static int bucket(long hash, int bucketCount)
+    {
+        return (int)((hash >>> 1) % bucketCount);
+    }
+
+    private static int slot(long hash, int seed, int slotMask)
+    {
+        return (int)mix(hash + seed * 0x9e3779b97f4a7c15L) & slotMask;
+    }
+
+    /* Returns the rwfType of the fid, or DataTypes.UNKNOWN if the fid is not in the dictionary. */
+    int rwfType(int fieldId)
+    {
+        if (fieldId < MIN_FID || fieldId > MAX_FID)
+            return DataTypes.UNKNOWN;
+        return _rwfTypes.get(fieldId - MIN_FID) & 0xFF;
+    }
+
+    /* Returns true if the index holds the entries, so that entry() can be used. */
+    boolean hasEntries()
+    {
+        return _entries != null;
+    }
+
+    /* Returns the entry of the fid, or null if the fid is not in the dictionary. */
+    DictionaryEntryImpl entry(int fieldId)
+    {
+        if (fieldId < MIN_FID || fieldId > MAX_FID)
+            return null;
+        int position = _entryPositions.getChar((fieldId - MIN_FID) * 2);
+        return position != 0 ? _entries[position - 1] : null;
+    }
+
+    /* Stores the entries back into an array of a slot per fid from MIN_FID. */
+    void copyEntriesTo(DictionaryEntryImpl[] entriesArray)
+    {
+        for (int i = 0; i < MAX_FID - MIN_FID + 1; i++)
+        {
+            int position = _entryPositions.getChar(i * 2);
+            if (position != 0)
+                entriesArray[i] = _entries[position - 1];
+        }
+    }
+
+    /* Returns the number of names in the index. */
+    int nameCount()
+    {
+        return _nameCount;
+    }
+
+    /* Returns the field id of the name, or NO_FIELD if the name is not in the index. */
+    int fieldId(String name)
+    {
+        if (name == null || _nameCount == 0)
+            return NO_FIELD;
+
+        long hash = hash(name);
+        int slot = slot(hash, _seeds.getInt(bucket(hash, _bucketCount) * 4), _slotMask) * SLOT_SIZE;
+        int offset = _slots.getInt(slot);
+        if (offset < 0 || (_slots.getShort(slot + 6) & 0xFFFF) != name.length())
+            return NO_FIELD;
+
+        for (int i = 0; i < name.length(); i++)
+        {
+            if (_namePool.getChar((offset + i) * 2) != name.charAt(i))
+                return NO_FIELD;
+        }
+
+        return _slots.getShort(slot + 4);
+    }
+}
@@ -0,0 +1,468 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.codec;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/* Binary snapshot of a loaded DataDictionary.
+ *
+ * The snapshot is written once from a loaded dictionary and read back through a read-only
+ * MappedByteBuffer, so loading does not parse the RDMFieldDictionary and enumtype.def text.
+ * A mapping is created the first time a snapshot file is loaded and is shared by every dictionary
+ * in the JVM that loads the same file; it is remapped only if the file changes. The table of
+ * mappings only holds them weakly, so a mapping is released once no dictionary reads from it.
+ *
+ * Loading reads the info tags and the enum tables. An instance is the entries of one loaded
+ * dictionary: an entry is decoded from the mapping the first time its fid is looked up, and the
+ * rwfType of a fid is read from the mapping without decoding the entry.
+ *
+ * Layout (big endian):
+ *   int magic, short version, int dictionaryId, the ten info tags as strings,
+ *   int enumTableCount, then per table: u16 maxValue, u16 fidReferenceCount, short fids[],
+ *       u16 enumTypeCount, then per enum type: u16 value, string display, string meaning,
+ *   int entryCount, int numberOfEntries, int minFid, int maxFid, int recordsLength,
+ *   int position[] of the entry of every fid from MIN_FID to MAX_FID (0 if none, else index + 1),
+ *   int recordOffset[] of every entry from the start of the records,
+ *   byte rwfType[] of every fid from MIN_FID to MAX_FID,
+ *   then the records, per entry: short fid, short rippleToField, int fieldType, int length,
+ *       int enumLength, int rwfType, int rwfLength, int enumTableIndex (-1 if none),
+ *       string acronym, string ddeAcronym.
+ * A string is a kind byte (STRING_NONE, STRING_TEXT as UTF-8 or STRING_BYTES as raw bytes),
+ * followed by an int length and the bytes for the last two kinds. */
+class DictionarySnapshot
+{
+    static final int MAGIC = 0x45544444; // "ETDD"
+    static final short VERSION = 1;
+
+    static final byte STRING_NONE = 0;
+    static final byte STRING_TEXT = 1;
+    static final byte STRING_BYTES = 2;
+
+    private static final int FID_COUNT = DictionaryFieldIndex.MAX_FID - DictionaryFieldIndex.MIN_FID + 1;
+
+    /* Mappings shared across the JVM, keyed by canonical path. */
+    private static final Map<String, MappingReference> _mappings = new HashMap<String, MappingReference>();
+    private static final ReferenceQueue<MappedByteBuffer> _releasedMappings = new ReferenceQueue<MappedByteBuffer>();
+
+    /* Weak reference to a shared mapping. The dictionaries reading the mapping keep it alive. */
+    private static class MappingReference extends WeakReference<MappedByteBuffer>
+    {
+        final String _path;
+        final long _length;
+        final long _lastModified;
+
+        MappingReference(String path, MappedByteBuffer mapping, long length, long lastModified)
+        {
+            super(mapping, _releasedMappings);
+            _path = path;
+            _length = length;
+            _lastModified = lastModified;
+        }
+    }
+
+    private final MappedByteBuffer _mapping;
+    private final EnumTypeTable[] _enumTables;
+    private final int _enumTableCount;
+    private final int _entryCount;
+    private final int _positionsStart;
+    private final int _offsetsStart;
+    private final int _rwfTypesStart;
+    private final int _recordsStart;
+    private final int _recordsLength;
+    private final AtomicReferenceArray<DictionaryEntryImpl> _entries;
+
+    private DictionarySnapshot(MappedByteBuffer mapping, EnumTypeTable[] enumTables, int enumTableCount, int entryCount,
+            int positionsStart, int recordsLength)
+    {
+        _mapping = mapping;
+        _enumTables = enumTables;
+        _enumTableCount = enumTableCount;
+        _entryCount = entryCount;
+        _positionsStart = positionsStart;
+        _offsetsStart = positionsStart + FID_COUNT * 4;
+        _rwfTypesStart = _offsetsStart + entryCount * 4;
+        _recordsStart = _rwfTypesStart + FID_COUNT;
+        _recordsLength = recordsLength;
+        _entries = new AtomicReferenceArray<DictionaryEntryImpl>(entryCount);
+    }
+
+    /* Returns the shared read-only mapping of a snapshot file, mapping it on first use. */
+    static MappedByteBuffer mapping(File file) throws IOException
+    {
+        String path = file.getCanonicalPath();
+        long length = file.length();
+        long lastModified = file.lastModified();
+
+        synchronized (_mappings)
+        {
+            MappingReference released;
+            while ((released = (MappingReference)_releasedMappings.poll()) != null)
+            {
+                if (_mappings.get(released._path) == released)
+                    _mappings.remove(released._path);
+            }
+
+            MappingReference reference = _mappings.get(path);
+            MappedByteBuffer mapping = reference != null ? reference.get() : null;
+            if (mapping == null || reference._length != length || reference._lastModified != lastModified)
+            {
+                try (RandomAccessFile raf = new RandomAccessFile(file, "r"))
+                {
+                    FileChannel fileChannel = raf.getChannel();
+                    mapping = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size());
+                }
+                _mappings.put(path, new MappingReference(path, mapping, length, lastModified));
+            }
+            return mapping;
+        }
+    }
+
+    /* Writes the dictionary to file. The snapshot is written to a temporary file first and renamed,
+     * so processes mapping the file never see a partial snapshot. */
+    static void write(DataDictionaryImpl dictionary, File file) throws IOException
+    {
+        File tmpFile = new File(file.getPath() + ".tmp");
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpFile))))
+        {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeInt(dictionary._infoDictionaryId);
+            writeString(out, dictionary._infoFieldVersion);
+            writeString(out, dictionary._infoEnumRTVersion);
+            writeString(out, dictionary._infoEnumDTVersion);
+            writeString(out, dictionary._infoFieldFilename);
+            writeString(out, dictionary._infoFieldDesc);
+            writeString(out, dictionary._infoFieldBuild);
+            writeString(out, dictionary._infoFieldDate);
+            writeString(out, dictionary._infoEnumFilename);
+            writeString(out, dictionary._infoEnumDesc);
+            writeString(out, dictionary._infoEnumDate);
+
+            IdentityHashMap<EnumTypeTable, Integer> tableIndexes = new IdentityHashMap<EnumTypeTable, Integer>();
+            out.writeInt(dictionary._enumTableCount);
+            for (int i = 0; i < dictionary._enumTableCount; i++)
+            {
+                EnumTypeTable table = dictionary._enumTables[i];
+                tableIndexes.put(table, i);
+
+                out.writeShort(table.maxValue());
+                out.writeShort(table.fidReferenceCount());
+                for (int j = 0; j < table.fidReferenceCount(); j++)
+                    out.writeShort(table.fidReferences()[j]);
+
+                EnumType[] enumTypes = table.enumTypes();
+                int count = 0;
+                for (int j = 0; j <= table.maxValue(); j++)
+                {
+                    if (enumTypes[j] != null)
+                        count++;
+                }
+                out.writeShort(count);
+                for (int j = 0; j <= table.maxValue(); j++)
+                {
+                    if (enumTypes[j] == null)
+                        continue;
+                    out.writeShort(enumTypes[j].value());
+                    writeString(out, enumTypes[j].display());
+                    writeString(out, enumTypes[j].meaning());
+                }
+            }
+
+            /* Placeholder entries created for enum table references are kept, so the snapshot
+             * restores the dictionary exactly as it was loaded. The records are written after the
+             * tables that locate them, so they are collected first. */
+            ByteArrayOutputStream records = new ByteArrayOutputStream();
+            DataOutputStream recordsOut = new DataOutputStream(records);
+            int[] positions = new int[FID_COUNT];
+            int[] offsets = new int[FID_COUNT];
+            byte[] rwfTypes = new byte[FID_COUNT];
+            int entryCount = 0;
+            for (int fid = DictionaryFieldIndex.MIN_FID; fid <= DictionaryFieldIndex.MAX_FID; fid++)
+            {
+                DictionaryEntryImpl entry = dictionary.entryImpl(fid);
+                if (entry == null)
+                    continue;
+
+                offsets[entryCount] = recordsOut.size();
+                positions[fid - DictionaryFieldIndex.MIN_FID] = ++entryCount;
+                rwfTypes[fid - DictionaryFieldIndex.MIN_FID] = (byte)entry._rwfType;
+
+                recordsOut.writeShort(entry._fid);
+                recordsOut.writeShort(entry._rippleToField);
+                recordsOut.writeInt(entry._fieldType);
+                recordsOut.writeInt(entry._length);
+                recordsOut.writeInt(entry._enumLength);
+                recordsOut.writeInt(entry._rwfType);
+                recordsOut.writeInt(entry._rwfLength);
+                recordsOut.writeInt(entry._enumTypeTable != null ? tableIndexes.get(entry._enumTypeTable) : -1);
+                writeString(recordsOut, entry._acronym);
+                writeString(recordsOut, entry._ddeAcronym);
+            }
+
+            out.writeInt(entryCount);
+            out.writeInt(dictionary._numberOfEntries);
+            out.writeInt(dictionary._minFid);
+            out.writeInt(dictionary._maxFid);
+            out.writeInt(recordsOut.size());
+            for (int i = 0; i < FID_COUNT; i++)
+                out.writeInt(positions[i]);
+            for (int i = 0; i < entryCount; i++)
+                out.writeInt(offsets[i]);
+            out.write(rwfTypes);
+            records.writeTo(out);
+        }
+
+        try
+        {
+            Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (IOException e)
+        {
+            tmpFile.delete();
+            throw e;
+        }
+    }
+
+    private static void writeString(DataOutputStream out, Buffer buffer) throws IOException
+    {
+        BufferImpl bufferImpl = (BufferImpl)buffer;
+        String str = bufferImpl.dataString();
+
+        if (str != null)
+        {
+            byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+            out.writeByte(STRING_TEXT);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+        else if (bufferImpl.data() != null)
+        {
+            byte[] bytes = new byte[buffer.length()];
+            buffer.copy(bytes);
+            out.writeByte(STRING_BYTES);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+        else
+        {
+            out.writeByte(STRING_NONE);
+        }
+    }
+
+    /* Reads the info tags and the enum tables of a snapshot into an initialized, empty dictionary
+     * and returns the snapshot its entries are decoded from. */
+    static DictionarySnapshot read(MappedByteBuffer mapping, DataDictionaryImpl dictionary)
+    {
+        Reader reader = new Reader(mapping, 0);
+
+        if (reader.readInt() != MAGIC)
+            throw new IllegalArgumentException("Not a dictionary snapshot.");
+        short version = reader.readShort();
+        if (version != VERSION)
+            throw new IllegalArgumentException("Unsupported dictionary snapshot version " + version + ".");
+
+        dictionary._infoDictionaryId = reader.readInt();
+        reader.readString(dictionary._infoFieldVersion);
+        reader.readString(dictionary._infoEnumRTVersion);
+        reader.readString(dictionary._infoEnumDTVersion);
+        reader.readString(dictionary._infoFieldFilename);
+        reader.readString(dictionary._infoFieldDesc);
+        reader.readString(dictionary._infoFieldBuild);
+        reader.readString(dictionary._infoFieldDate);
+        reader.readString(dictionary._infoEnumFilename);
+        reader.readString(dictionary._infoEnumDesc);
+        reader.readString(dictionary._infoEnumDate);
+
+        int enumTableCount = reader.readInt();
+        for (int i = 0; i < enumTableCount; i++)
+        {
+            EnumTypeTableImpl table = new EnumTypeTableImpl();
+            table.maxValue(reader.readUShort());
+
+            int fidReferenceCount = reader.readUShort();
+            int[] fidReferences = new int[fidReferenceCount];
+            for (int j = 0; j < fidReferenceCount; j++)
+                fidReferences[j] = reader.readShort();
+            table.fidReferences(fidReferences);
+            table.fidReferenceCount(fidReferenceCount);
+
+            EnumType[] enumTypes = new EnumType[table.maxValue() + 1];
+            int count = reader.readUShort();
+            for (int j = 0; j < count; j++)
+            {
+                EnumTypeImpl enumType = new EnumTypeImpl();
+                enumType.value(reader.readUShort());
+                reader.readString(enumType._display);
+                reader.readString(enumType._meaning);
+                enumTypes[enumType.value()] = enumType;
+            }
+            table.enumTypes(enumTypes);
+
+            dictionary._enumTables[dictionary._enumTableCount++] = table;
+        }
+
+        int entryCount = reader.readInt();
+        dictionary._numberOfEntries = reader.readInt();
+        dictionary._minFid = reader.readInt();
+        dictionary._maxFid = reader.readInt();
+        int recordsLength = reader.readInt();
+        if (entryCount < 0 || entryCount > FID_COUNT || recordsLength < 0)
+            throw new IllegalArgumentException("Invalid entry count " + entryCount + " or records length " + recordsLength + ".");
+
+        DictionarySnapshot snapshot = new DictionarySnapshot(mapping, dictionary._enumTables, enumTableCount, entryCount,
+                reader.position(), recordsLength);
+        if ((long)snapshot._recordsStart + recordsLength != mapping.capacity())
+            throw new IllegalArgumentException("Snapshot length " + mapping.capacity() + " does not match its tables.");
+        return snapshot;
+    }
+
+    /* Returns the rwfType of the fid, or DataTypes.UNKNOWN if the fid is not in the dictionary. */
+    int rwfType(int fieldId)
+    {
+        if (fieldId < DictionaryFieldIndex.MIN_FID || fieldId > DictionaryFieldIndex.MAX_FID)
+            return DataTypes.UNKNOWN;
+        return _mapping.get(_rwfTypesStart + fieldId - DictionaryFieldIndex.MIN_FID) & 0xFF;
+    }
+
+    /* Returns the entry of the fid, decoding it on first use, or null if the fid is not in the dictionary. */
+    DictionaryEntryImpl entry(int fieldId)
+    {
+        if (fieldId < DictionaryFieldIndex.MIN_FID || fieldId > DictionaryFieldIndex.MAX_FID)
+            return null;
+        int position = _mapping.getInt(_positionsStart + (fieldId - DictionaryFieldIndex.MIN_FID) * 4);
+        if (position <= 0 || position > _entryCount)
+            return null;
+
+        DictionaryEntryImpl entry = _entries.get(position - 1);
+        if (entry != null)
+            return entry;
+
+        /* Threads decoding the same entry at once all return the one that was stored first. */
+        _entries.compareAndSet(position - 1, null, decodeEntry(_mapping.getInt(_offsetsStart + (position - 1) * 4)));
+        return _entries.get(position - 1);
+    }
+
+    /* Stores every entry into an array of a slot per fid from MIN_FID, decoding the ones not used yet. */
+    void copyEntriesTo(DictionaryEntryImpl[] entriesArray)
+    {
+        for (int fid = DictionaryFieldIndex.MIN_FID; fid <= DictionaryFieldIndex.MAX_FID; fid++)
+        {
+            DictionaryEntryImpl entry = entry(fid);
+            if (entry != null)
+                entriesArray[fid - DictionaryFieldIndex.MIN_FID] = entry;
+        }
+    }
+
+    private DictionaryEntryImpl decodeEntry(int offset)
+    {
+        if (offset < 0 || offset >= _recordsLength)
+            throw new IllegalArgumentException("Invalid entry offset " + offset + ".");
+        Reader reader = new Reader(_mapping, _recordsStart + offset);
+
+        DictionaryEntryImpl entry = new DictionaryEntryImpl();
+        entry._fid = reader.readShort();
+        entry._rippleToField = reader.readShort();
+        entry._fieldType = reader.readInt();
+        entry._length = reader.readInt();
+        entry._enumLength = reader.readInt();
+        entry._rwfType = reader.readInt();
+        entry._rwfLength = reader.readInt();
+        int tableIndex = reader.readInt();
+        if (tableIndex >= _enumTableCount)
+            throw new IllegalArgumentException("Invalid enum table index " + tableIndex + " for fid " + entry._fid + ".");
+        entry._enumTypeTable = tableIndex >= 0 ? _enumTables[tableIndex] : null;
+        reader.readString(entry._acronym);
+        reader.readString(entry._ddeAcronym);
+        return entry;
+    }
+
+    /* Cursor over a shared mapping. Reads through a duplicate, so the shared position is never moved. */
+    private static class Reader
+    {
+        final ByteBuffer _buffer;
+
+        Reader(ByteBuffer mapping, int position)
+        {
+            _buffer = mapping.duplicate();
+            _buffer.clear();
+            _buffer.position(position);
+        }
+
+        int position()
+        {
+            return _buffer.position();
+        }
+
+        int readInt()
+        {
+            return _buffer.getInt();
+        }
+
+        short readShort()
+        {
+            return _buffer.getShort();
+        }
+
+        int readUShort()
+        {
+            return _buffer.getShort() & 0xFFFF;
+        }
+
+        void readString(Buffer buffer)
+        {
+            byte kind = _buffer.get();
+            if (kind == STRING_NONE)
+            {
+                buffer.clear();
+                return;
+            }
+
+            int length = _buffer.getInt();
+            if (length < 0 || length > _buffer.remaining())
+                throw new IllegalArgumentException("Invalid string length " + length + " at position " + _buffer.position() + ".");
+            byte[] bytes = new byte[length];
+            _buffer.get(bytes);
+
+            if (kind == STRING_TEXT)
+            {
+                ((BufferImpl)buffer).data_internal(new String(bytes, StandardCharsets.UTF_8));
+            }
+            else if (kind == STRING_BYTES)
+            {
+                /* Matches the state left by the text loader for hex displays. */
+                ByteBuffer data = ByteBuffer.allocate(length);
+                ((BufferImpl)buffer).data_internal(data);
+                data.put(bytes);
+            }
+            else
+            {
+                throw new IllegalArgumentException("Invalid string kind " + kind + ".");
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.codec;
+
+/**
+ * Decodes the numeric fields of interest of a {@link FieldList} in a single pass,
+ * into primitive arrays supplied by the caller.
+ *
+ * The decoder is given a set of field ids once. Each call to decode walks the
+ * entries of a field list, skips the entries of other fields without decoding
+ * them, and writes the value of each field of interest to the index of the field
+ * in the set. No {@link FieldEntry}, {@link Real}, {@link Int} or {@link UInt}
+ * is populated for the decoded fields.
+ *
+ * Fields of type {@link DataTypes#REAL}, {@link DataTypes#INT} and
+ * {@link DataTypes#UINT} are decoded. The value of a field is described by its hint:
+ * <ul>
+ * <li>a {@link RealHints} value for a {@link DataTypes#REAL} field, and
+ * {@link RealHints#EXPONENT0} for an {@link DataTypes#INT} or {@link DataTypes#UINT} field
+ * (an unsigned value larger than Long.MAX_VALUE is returned as a negative long,
+ * as by {@link UInt#toLong()})</li>
+ * <li>{@link #BLANK} for a blank field</li>
+ * <li>{@link #NO_VALUE} for a field that is not in the field list or is not of a numeric type</li>
+ * </ul>
+ *
+ * Typical use:<BR>
+ * 1. Call CodecFactory.createFieldListNumericDecoder() and fieldIds() once<BR>
+ * 2. Call decode() with the iterator positioned on the field list, instead of
+ * FieldList.decode() and FieldEntry.decode() for each entry.<BR>
+ * The iterator is positioned after the field list when decode returns.
+ *
+ * @see FieldList
+ * @see CodecFactory#createFieldListNumericDecoder()
+ */
+public interface FieldListNumericDecoder
+{
+    /**
+     * Hint of a field that is not in the decoded field list, or is not of a numeric type.
+     */
+    public static final byte NO_VALUE = -1;
+
+    /**
+     * Hint of a blank field.
+     */
+    public static final byte BLANK = -2;
+
+    /**
+     * Sets the fields of interest. The value of fieldIds[i] is decoded to index i
+     * of the arrays passed to decode.
+     *
+     * @param fieldIds the field ids, without duplicates
+     * @param count the number of field ids to use from fieldIds
+     *
+     * @return {@link CodecReturnCodes#SUCCESS}, or {@link CodecReturnCodes#INVALID_ARGUMENT}
+     *         if a field id is out of range or appears more than once
+     */
+    public int fieldIds(int[] fieldIds, int count);
+
+    /**
+     * The number of fields of interest.
+     *
+     * @return the number of field ids
+     */
+    public int fieldIdCount();
+
+    /**
+     * Decodes the fields of interest of a field list to mantissas and hints.
+     *
+     * @param iter The iterator positioned on the field list.
+     * @param dictionary The dictionary giving the type of the standard field entries.
+     * @param localSetDb The local set database, or null.
+     * @param values The mantissas of the fields, at least {@link #fieldIdCount()} long.
+     * @param hints The hints of the fields, at least {@link #fieldIdCount()} long.
+     *
+     * @return {@link CodecReturnCodes#SUCCESS}, {@link CodecReturnCodes#NO_DATA} for an empty
+     *         field list, {@link CodecReturnCodes#SET_SKIPPED} if set defined data was skipped
+     *         since its set definition is not known, or a failure code
+     */
+    public int decode(DecodeIterator iter, DataDictionary dictionary, LocalFieldSetDefDb localSetDb, long[] values, byte[] hints);
+
+    /**
+     * Decodes the fields of interest of a field list to double values and hints.
+     *
+     * A REAL is converted as by {@link Real#toDouble()}. The value of a field with the
+     * {@link #BLANK} or {@link #NO_VALUE} hint is set to 0.
+     *
+     * @param iter The iterator positioned on the field list.
+     * @param dictionary The dictionary giving the type of the standard field entries.
+     * @param localSetDb The local set database, or null.
+     * @param values The values of the fields, at least {@link #fieldIdCount()} long.
+     * @param hints The hints of the fields, at least {@link #fieldIdCount()} long.
+     *
+     * @return {@link CodecReturnCodes#SUCCESS}, {@link CodecReturnCodes#NO_DATA} for an empty
+     *         field list, {@link CodecReturnCodes#SET_SKIPPED} if set defined data was skipped
+     *         since its set definition is not known, or a failure code
+     */
+    public int decode(DecodeIterator iter, DataDictionary dictionary, LocalFieldSetDefDb localSetDb, double[] values, byte[] hints);
+
+    /**
+     * Clears the fields of interest.
+     */
+    public void clear();
+}
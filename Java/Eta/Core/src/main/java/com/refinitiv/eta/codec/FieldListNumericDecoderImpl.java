@@ -0,0 +1,360 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.codec;
+
+import java.util.Arrays;
+
+class FieldListNumericDecoderImpl implements FieldListNumericDecoder
+{
+    private static final int EMPTY_KEY = Integer.MIN_VALUE;
+
+    /* The field ids of interest, in the order of the output arrays. */
+    private int[] _fieldIds = new int[0];
+    private int _count;
+
+    /* Open addressing table from a field id to its index in _fieldIds, with linear probing. */
+    private int[] _keys = new int[0];
+    private int[] _indexes = new int[0];
+    private int _mask;
+
+    /* The primitive type of each field of interest, resolved from the dictionary on each decode. */
+    private int[] _types = new int[0];
+
+    private final FieldListImpl _fieldList = new FieldListImpl();
+    private final FieldEntryImpl _fieldEntry = new FieldEntryImpl();
+    private final RealImpl _real = new RealImpl();
+    private final IntImpl _int = new IntImpl();
+    private final UIntImpl _uint = new UIntImpl();
+
+    /* The output arrays of the decode in progress, only one of _longValues and _doubleValues is set. */
+    private long[] _longValues;
+    private double[] _doubleValues;
+    private byte[] _hints;
+
+    @Override
+    public int fieldIds(int[] fieldIds, int count)
+    {
+        if (fieldIds == null || count < 0 || count > fieldIds.length)
+            return CodecReturnCodes.INVALID_ARGUMENT;
+
+        int capacity = 16;
+        while (capacity < count * 2)
+            capacity <<= 1;
+
+        int[] keys = new int[capacity];
+        int[] indexes = new int[capacity];
+        Arrays.fill(keys, EMPTY_KEY);
+        int mask = capacity - 1;
+
+        for (int i = 0; i < count; i++)
+        {
+            int fieldId = fieldIds[i];
+            if (fieldId < Short.MIN_VALUE || fieldId > Short.MAX_VALUE)
+                return CodecReturnCodes.INVALID_ARGUMENT;
+
+            int slot = hash(fieldId) & mask;
+            while (keys[slot] != EMPTY_KEY)
+            {
+                if (keys[slot] == fieldId)
+                    return CodecReturnCodes.INVALID_ARGUMENT;
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = fieldId;
+            indexes[slot] = i;
+        }
+
+        _fieldIds = Arrays.copyOf(fieldIds, count);
+        _count = count;
+        _keys = keys;
+        _indexes = indexes;
+        _mask = mask;
+        _types = new int[count];
+
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    @Override
+    public int fieldIdCount()
+    {
+        return _count;
+    }
+
+    @Override
+    public int decode(DecodeIterator iter, DataDictionary dictionary, LocalFieldSetDefDb localSetDb, long[] values, byte[] hints)
+    {
+        if (values == null || values.length < _count)
+            return CodecReturnCodes.INVALID_ARGUMENT;
+
+        _longValues = values;
+        _doubleValues = null;
+        return decode(iter, dictionary, localSetDb, hints);
+    }
+
+    @Override
+    public int decode(DecodeIterator iter, DataDictionary dictionary, LocalFieldSetDefDb localSetDb, double[] values, byte[] hints)
+    {
+        if (values == null || values.length < _count)
+            return CodecReturnCodes.INVALID_ARGUMENT;
+
+        _longValues = null;
+        _doubleValues = values;
+        return decode(iter, dictionary, localSetDb, hints);
+    }
+
+    @Override
+    public void clear()
+    {
+        _fieldIds = new int[0];
+        _count = 0;
+        _keys = new int[0];
+        _indexes = new int[0];
+        _mask = 0;
+        _types = new int[0];
+    }
+
+    private int decode(DecodeIterator iterInt, DataDictionary dictionary, LocalFieldSetDefDb localSetDb, byte[] hints)
+    {
+        if (hints == null || hints.length < _count || dictionary == null)
+            return CodecReturnCodes.INVALID_ARGUMENT;
+
+        _hints = hints;
+        for (int i = 0; i < _count; i++)
+        {
+            _types[i] = Decoders.convertToPrimitiveType(dictionary.rwfType(_fieldIds[i]));
+            setNoValue(i);
+        }
+
+        DecodeIteratorImpl iter = (DecodeIteratorImpl)iterInt;
+        int ret = Decoders.decodeFieldList(iter, _fieldList, localSetDb);
+        if (ret != CodecReturnCodes.SUCCESS && ret != CodecReturnCodes.SET_SKIPPED)
+            return ret;
+        int listRet = ret;
+
+        DecodingLevel levelInfo = iter._levelInfo[iter._decodingLevel];
+
+        /* Set defined entries are few and carry their own types, decode them as FieldList users do. */
+        while (levelInfo._nextSetPosition < levelInfo._setCount)
+        {
+            if ((ret = Decoders.decodeFieldEntry(iter, _fieldEntry)) != CodecReturnCodes.SUCCESS)
+                return ret;
+
+            int index = index(_fieldEntry._fieldId);
+            if (index >= 0 && (ret = decodeSetEntry(iter, index)) < CodecReturnCodes.SUCCESS)
+                return ret;
+        }
+
+        /* Standard entries: read each field id and length, and only decode the fields of interest. */
+        if (levelInfo._nextItemPosition < levelInfo._itemCount)
+        {
+            BufferReader reader = iter._reader;
+            int endPos = levelInfo._endBufPos;
+            try
+            {
+                int position = levelInfo._nextEntryPos;
+                reader.position(position);
+                for (int item = levelInfo._nextItemPosition; item < levelInfo._itemCount; item++)
+                {
+                    if (endPos - position < 3)
+                        return CodecReturnCodes.INCOMPLETE_DATA;
+
+                    int fieldId = reader.readShort();
+                    int length = reader.readUShort16ob();
+                    position = reader.position() + length;
+                    if (position > endPos)
+                        return CodecReturnCodes.INCOMPLETE_DATA;
+
+                    int index = index(fieldId);
+                    if (index >= 0)
+                    {
+                        if ((ret = decodeValue(reader, _types[index], length, index)) != CodecReturnCodes.SUCCESS)
+                            return ret;
+                        reader.position(position);
+                    }
+                    else
+                    {
+                        reader.skipBytes(length);
+                    }
+                }
+            }
+            catch (Exception e)
+            {
+                return CodecReturnCodes.INCOMPLETE_DATA;
+            }
+        }
+
+        Decoders.endOfList(iter);
+        return listRet;
+    }
+
+    /* Decodes a standard entry value of length bytes, at the position of the reader. */
+    private int decodeValue(BufferReader reader, int type, int length, int index) throws Exception
+    {
+        switch (type)
+        {
+            case DataTypes.REAL:
+                if (length == 0)
+                {
+                    setBlank(index);
+                    return CodecReturnCodes.SUCCESS;
+                }
+
+                int hint = reader.readByte() & 0x3F;
+                switch (hint)
+                {
+                    case RealHints.INFINITY:
+                    case RealHints.NEG_INFINITY:
+                    case RealHints.NOT_A_NUMBER:
+                        setValue(index, 0, hint);
+                        return CodecReturnCodes.SUCCESS;
+                    default:
+                        if (length == 1 || hint == RealImpl.BLANK_REAL)
+                        {
+                            setBlank(index);
+                            return CodecReturnCodes.SUCCESS;
+                        }
+
+                        hint &= 0x1F;
+                        if (length > 9 || hint > RealHints.MAX_DIVISOR)
+                            return CodecReturnCodes.INVALID_ARGUMENT;
+
+                        setValue(index, reader.readLong64ls(length - 1), hint);
+                        return CodecReturnCodes.SUCCESS;
+                }
+            case DataTypes.INT:
+            case DataTypes.UINT:
+                if (length == 0)
+                {
+                    setBlank(index);
+                    return CodecReturnCodes.SUCCESS;
+                }
+
+                if (length > 8)
+                    return CodecReturnCodes.INVALID_ARGUMENT;
+
+                if (type == DataTypes.INT)
+                    setValue(index, reader.readLong64ls(length), RealHints.EXPONENT0);
+                else
+                    setUnsignedValue(index, reader.readULong64ls(length));
+                return CodecReturnCodes.SUCCESS;
+            default:
+                return CodecReturnCodes.SUCCESS;
+        }
+    }
+
+    /* Decodes a set defined entry value with the primitive decoders, since set data may use other encodings. */
+    private int decodeSetEntry(DecodeIteratorImpl iter, int index)
+    {
+        int ret;
+        switch (_fieldEntry._dataType)
+        {
+            case DataTypes.REAL:
+                ret = Decoders.decodeReal(iter, _real);
+                if (ret == CodecReturnCodes.SUCCESS)
+                    setValue(index, _real.toLong(), _real.hint());
+                break;
+            case DataTypes.INT:
+                ret = Decoders.decodeInt(iter, _int);
+                if (ret == CodecReturnCodes.SUCCESS)
+                    setValue(index, _int.toLong(), RealHints.EXPONENT0);
+                break;
+            case DataTypes.UINT:
+                ret = Decoders.decodeUInt(iter, _uint);
+                if (ret == CodecReturnCodes.SUCCESS)
+                    setUnsignedValue(index, _uint.toLong());
+                break;
+            default:
+                return CodecReturnCodes.SUCCESS;
+        }
+
+        if (ret == CodecReturnCodes.BLANK_DATA)
+            setBlank(index);
+        return ret;
+    }
+
+    private void setValue(int index, long value, int hint)
+    {
+        _hints[index] = (byte)hint;
+        if (_longValues != null)
+        {
+            _longValues[index] = value;
+            return;
+        }
+
+        switch (hint)
+        {
+            case RealHints.INFINITY:
+                _doubleValues[index] = java.lang.Double.POSITIVE_INFINITY;
+                break;
+            case RealHints.NEG_INFINITY:
+                _doubleValues[index] = java.lang.Double.NEGATIVE_INFINITY;
+                break;
+            case RealHints.NOT_A_NUMBER:
+                _doubleValues[index] = java.lang.Double.NaN;
+                break;
+            default:
+                _doubleValues[index] = value / RealImpl.powHintsExp[hint];
+        }
+    }
+
+    private void setUnsignedValue(int index, long value)
+    {
+        if (value >= 0 || _longValues != null)
+        {
+            setValue(index, value, RealHints.EXPONENT0);
+            return;
+        }
+
+        /* above Long.MAX_VALUE */
+        _hints[index] = RealHints.EXPONENT0;
+        _doubleValues[index] = (double)(value >>> 1) * 2.0 + (value & 1);
+    }
+
+    private void setBlank(int index)
+    {
+        _hints[index] = BLANK;
+        clearValue(index);
+    }
+
+    private void setNoValue(int index)
+    {
+        _hints[index] = NO_VALUE;
+        clearValue(index);
+    }
+
+    private void clearValue(int index)
+    {
+        if (_longValues != null)
+            _longValues[index] = 0;
+        else
+            _doubleValues[index] = 0;
+    }
+
+    /* Returns the index of the field id in the fields of interest, or -1. */
+    private int index(int fieldId)
+    {
+        if (_count == 0)
+            return -1;
+
+        int slot = hash(fieldId) & _mask;
+        int key;
+        while ((key = _keys[slot]) != EMPTY_KEY)
+        {
+            if (key == fieldId)
+                return _indexes[slot];
+            slot = (slot + 1) & _mask;
+        }
+        return -1;
+    }
+
+    private static int hash(int fieldId)
+    {
+        int h = fieldId * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -178,6 +178,44 @@ public interface Channel
      */
     public TransportBuffer read(ReadArgs readArgs, Error error);
 
+    /**
+     * Reads every complete message currently available on a given channel.<br>
+     * 
+     * Typical use:<br>
+     * This method is called instead of {@link #read(ReadArgs, Error)} to
+     * return up to {@link ReadBatch#maxMessages()} messages with one call. The
+     * messages, including the messages unpacked from a packed buffer, are
+     * returned in the batch as views of the channel's read buffer, and are
+     * only good until the next time this method or read is called. This
+     * method returns the same values as {@link ReadArgs#readRetVal()} does
+     * after a read call: a positive value if there is more data to read,
+     * {@link TransportReturnCodes#READ_WOULD_BLOCK} if no message was read,
+     * {@link TransportReturnCodes#READ_PING} if only a ping message was read,
+     * or a failure code. A channel that cannot return several messages at
+     * once returns at most one message per call.
+     * 
+     * @param batch the batch populated with the messages read
+     * @param readArgs read arguments
+     * @param error Error, to be populated in event of an error
+     * 
+     * @return {@link TransportReturnCodes} or a positive value if there is more data to read
+     * 
+     * @see ReadBatch
+     * @see ReadArgs
+     */
+    default public int readBatch(ReadBatch batch, ReadArgs readArgs, Error error)
+    {
+        batch.clear();
+
+        TransportBuffer msgBuf = read(readArgs, error);
+        if (msgBuf != null)
+            ((ReadBatchImpl)batch).add(msgBuf);
+        else if (readArgs.readRetVal() == TransportReturnCodes.READ_PING)
+            ((ReadBatchImpl)batch)._pingReceived = true;
+
+        return readArgs.readRetVal();
+    }
+
     /**
      * Retrieves a {@link TransportBuffer} for use.<br>
      * 
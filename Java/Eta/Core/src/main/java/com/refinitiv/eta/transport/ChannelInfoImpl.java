@@ -273,6 +273,7 @@ class ChannelInfoImpl implements ChannelInfo
         ((MCastStatsImpl)_multicastStats).retransReqRcvd(multicastStats.retransReqRcvd());
         ((MCastStatsImpl)_multicastStats).retransReqSent(multicastStats.retransReqSent());
         ((MCastStatsImpl)_multicastStats).unicastSent(multicastStats.unicastSent());
+        ((MCastStatsImpl)_multicastStats).unicastRcvd(multicastStats.unicastRcvd());
     }
 
     /* used by JNI to set componentInfo from ETAC */
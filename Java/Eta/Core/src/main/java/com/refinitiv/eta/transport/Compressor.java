@@ -112,5 +112,8 @@ abstract class Compressor
     
     /* Specifies this option to enable no context take over */
     void compressnocontexttakeover() {}
+
+    /* Specifies this option when the peer compresses without context take over */
+    void decompressnocontexttakeover() {}
 }
 
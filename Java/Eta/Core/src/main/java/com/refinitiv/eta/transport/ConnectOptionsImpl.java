@@ -70,6 +70,7 @@ class ConnectOptionsImpl implements ConnectOptions
         _mcastOpts.packetTTL(5);
         _mcastOpts.tcpControlPort();
         _mcastOpts.portRoamRange(0);
+        _mcastOpts.nativeTransport(false);
         _shmemOpts.maxReaderLag(0);
         _networkType = 0;
         _unified.clear();
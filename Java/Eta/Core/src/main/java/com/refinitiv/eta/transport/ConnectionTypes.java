@@ -50,7 +50,10 @@ public class ConnectionTypes
     /**
      * Indicates that the {@link Channel} is using a unidirectional shared
      * memory connection. This type can be used to send from a shared memory
-     * server to one or more shared memory clients.
+     * server to one or more shared memory clients. The server names the memory
+     * mapped segment with {@link BindOptions#serviceName()}; clients attach to it
+     * through {@link UnifiedNetworkInfo#serviceName()}. Shared memory channels
+     * have no selectable channel and must be polled for reading.
      */
     public static final int UNIDIR_SHMEM = 3;
 
@@ -58,7 +61,11 @@ public class ConnectionTypes
      * Indicates that the {@link Channel} is using a reliable multicast based
      * connection. This type can be used to connect on a unified/mesh network
      * where send and receive networks are the same or a segmented network where
-     * send and receive networks are different.
+     * send and receive networks are different. Reliable multicast channels are
+     * created with {@link Transport#connect(ConnectOptions, Error)} only; lost
+     * packets are requested again from the sender, as set by {@link MCastOpts}.
+     * The Java transport does not interoperate with RRCP applications unless
+     * {@link MCastOpts#nativeTransport(boolean)} is set.
      */
     public static final int RELIABLE_MCAST = 4;
 
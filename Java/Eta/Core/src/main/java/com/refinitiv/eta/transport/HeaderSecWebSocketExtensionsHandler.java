@@ -18,13 +18,17 @@ abstract class HeaderSecWebSocketExtensionsHandler implements HeaderWebSocketHan
     protected static final String DEFLATE = "permessage-deflate";
     protected static final String SERVER_CONTEXT_EXTENSION = "server_no_context_takeover";
     protected static final String CLIENT_CONTEXT_EXTENSION = "client_no_context_takeover";
+    protected static final String SERVER_WINDOW_BITS_EXTENSION = "server_max_window_bits";
+    protected static final String CLIENT_WINDOW_BITS_EXTENSION = "client_max_window_bits";
+    protected static final char EXTENSION_PARAMETER_DELIMITER = '=';
     protected static final char EXTENSIONS_VALUE_DELIMITER = ';';
 
     @Override
     public int decodeWebSocketHeader(WebSocketSession session, HttpMessageHandler parser, HttpHeader header, Error error) {
         if (session.hasCompressionSupport()) {
             final List<String> extensionValues = parser.getStringValues(header);
-            for (String extension : extensionValues) {
+            for (int i = 0; i < extensionValues.size(); i++) {
+                final String extension = extensionValues.get(i);
                 if (extension.equalsIgnoreCase(DEFLATE)) {
                     session.setDeflate(true);
                 } else if (extension.equalsIgnoreCase(SERVER_CONTEXT_EXTENSION)) {
@@ -45,12 +49,36 @@ abstract class HeaderSecWebSocketExtensionsHandler implements HeaderWebSocketHan
                 	{
                 		session.applyNoOutboundContextTakeOver();
                 	}
+                } else if (extension.equalsIgnoreCase(SERVER_WINDOW_BITS_EXTENSION)
+                        || extension.equalsIgnoreCase(CLIENT_WINDOW_BITS_EXTENSION)) {
+                    // the window size is the next value, it is optional for client_max_window_bits
+                    int windowBits = WebSocketSession.DEFLATE_MAX_WINDOW_BITS;
+                    if (i + 1 < extensionValues.size() && isWindowBits(extensionValues.get(i + 1))) {
+                        windowBits = Integer.parseInt(extensionValues.get(++i));
+                    }
+
+                    // only the limit on the window of the messages we send matters, any window is inflated
+                    if (session.isClient == extension.equalsIgnoreCase(CLIENT_WINDOW_BITS_EXTENSION)) {
+                        session.outboundMaxWindowBits(windowBits);
+                    }
                 }
             }
         }
         return TransportReturnCodes.SUCCESS;
     }
 
+    private static boolean isWindowBits(String value) {
+        if (value.isEmpty() || value.length() > 2) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public abstract int encodeWebSocketHeader(WebSocketSession session, HttpHeaders httpHeaders, String headerName, Error error);
 }
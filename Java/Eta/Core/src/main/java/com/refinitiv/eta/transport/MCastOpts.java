@@ -84,4 +84,27 @@ public interface MCastOpts
      * @return the portRoamRange
      */
     public int portRoamRange();
+
+    /**
+     * Connects through the native RRCP implementation (JNI) instead of the Java
+     * reliable multicast transport.
+     * <dl style='border-left:4px solid;padding: 0 0 0 6px; border-color: #D0C000'>
+     * <dt><b>Note:</b></dt>
+     * <dd>The Java transport uses its own wire format and does not interoperate
+     * with C/C++ applications or tools using RRCP. Enable this option to join
+     * a multicast network with such applications. The native library must be
+     * available.</dd>
+     * </dl>
+     * 
+     * @param nativeTransport true to connect through the native RRCP implementation
+     */
+    public void nativeTransport(boolean nativeTransport);
+
+    /**
+     * Connects through the native RRCP implementation (JNI) instead of the Java
+     * reliable multicast transport.
+     * 
+     * @return true if the connection uses the native RRCP implementation
+     */
+    public boolean nativeTransport();
 }
\ No newline at end of file
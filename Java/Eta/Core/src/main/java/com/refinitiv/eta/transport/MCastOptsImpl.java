@@ -15,6 +15,7 @@ class MCastOptsImpl implements MCastOpts
 
     private String      _tcpControlPort;
     private int         _portRoamRange;
+    private boolean     _nativeTransport;
 
     /* make a deep copy of this object to the specified object.
      * 
@@ -31,6 +32,7 @@ class MCastOptsImpl implements MCastOpts
             destOpts._tcpControlPort = null;
 
         destOpts._portRoamRange = _portRoamRange;
+        destOpts._nativeTransport = _nativeTransport;
     }
 
     public String toString()
@@ -39,7 +41,8 @@ class MCastOptsImpl implements MCastOpts
                "\t\tdisconnectOnGaps: " + _disconnectOnGaps + 
                "\t\tpacketTTL: " + _packetTTL + 
                "\t\ttcpControlPort: " + _tcpControlPort + 
-               "\t\tportRoamRange: " + _portRoamRange;
+               "\t\tportRoamRange: " + _portRoamRange + 
+               "\t\tnativeTransport: " + _nativeTransport;
     }
 
     @Override
@@ -89,4 +92,16 @@ class MCastOptsImpl implements MCastOpts
     {
         return _portRoamRange;
     }
+
+    @Override
+    public void nativeTransport(boolean nativeTransport)
+    {
+        _nativeTransport = nativeTransport;
+    }
+
+    @Override
+    public boolean nativeTransport()
+    {
+        return _nativeTransport;
+    }
 }
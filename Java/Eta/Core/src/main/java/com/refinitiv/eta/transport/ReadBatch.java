@@ -0,0 +1,66 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.transport;
+
+/**
+ * The messages returned by one {@link Channel#readBatch(ReadBatch, ReadArgs, Error)} call.
+ *
+ * Each buffer is a view of a complete message in the channel's read buffer,
+ * so no message data is copied. The buffers are only good until the next time
+ * {@link Channel#read(ReadArgs, Error)} or
+ * {@link Channel#readBatch(ReadBatch, ReadArgs, Error)} is called on the channel.
+ * A {@link ReadBatch} is reused across calls.
+ *
+ * @see Channel
+ */
+public interface ReadBatch
+{
+    /**
+     * The number of messages returned by the last readBatch call.
+     *
+     * @return the number of messages
+     */
+    public int count();
+
+    /**
+     * Returns a message returned by the last readBatch call.
+     *
+     * @param index the index of the message, from 0 to {@link #count()} - 1
+     *
+     * @return the buffer of the message
+     */
+    public TransportBuffer buffer(int index);
+
+    /**
+     * Indicates whether a ping message was read by the last readBatch call,
+     * in addition to the messages returned.
+     *
+     * @return true if a ping message was read
+     */
+    public boolean pingReceived();
+
+    /**
+     * The maximum number of messages returned by one readBatch call.
+     *
+     * @param maxMessages the maximum number of messages, at least 1
+     */
+    public void maxMessages(int maxMessages);
+
+    /**
+     * The maximum number of messages returned by one readBatch call.
+     *
+     * @return the maximum number of messages
+     */
+    public int maxMessages();
+
+    /**
+     * Clears the messages of the batch.
+     */
+    public void clear();
+}
@@ -0,0 +1,119 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.transport;
+
+import java.nio.ByteBuffer;
+
+class ReadBatchImpl implements ReadBatch
+{
+    static final int DEFAULT_MAX_MESSAGES = 100;
+
+    /* A message of the batch. Its view is a duplicate of the buffer the message was read into,
+     * created once per underlying buffer, so adding a message allocates nothing. */
+    static class BatchBuffer extends TransportBufferImpl
+    {
+        ByteBuffer _source;
+
+        BatchBuffer()
+        {
+        }
+
+        void view(ByteBuffer source)
+        {
+            if (_source != source)
+            {
+                _source = source;
+                _data = source.duplicate();
+            }
+
+            _data.clear();
+            _data.limit(source.limit());
+            _data.position(source.position());
+        }
+    }
+
+    private BatchBuffer[] _buffers = new BatchBuffer[0];
+    private int _count;
+    private int _maxMessages = DEFAULT_MAX_MESSAGES;
+    boolean _pingReceived;
+
+    ReadBatchImpl()
+    {
+    }
+
+    ReadBatchImpl(int maxMessages)
+    {
+        maxMessages(maxMessages);
+    }
+
+    /* Adds a view of the message in the buffer, from its position to its limit. */
+    void add(TransportBuffer buffer)
+    {
+        assert (_count < _maxMessages);
+
+        if (_count == _buffers.length)
+        {
+            BatchBuffer[] buffers = new BatchBuffer[Math.min(_maxMessages, Math.max(8, _buffers.length * 2))];
+            System.arraycopy(_buffers, 0, buffers, 0, _count);
+            for (int i = _count; i < buffers.length; i++)
+                buffers[i] = new BatchBuffer();
+            _buffers = buffers;
+        }
+
+        _buffers[_count++].view(buffer.data());
+    }
+
+    boolean isFull()
+    {
+        return _count >= _maxMessages;
+    }
+
+    @Override
+    public int count()
+    {
+        return _count;
+    }
+
+    @Override
+    public TransportBuffer buffer(int index)
+    {
+        if (index < 0 || index >= _count)
+            throw new IndexOutOfBoundsException("index " + index + " is out of the " + _count + " messages of the batch");
+
+        return _buffers[index];
+    }
+
+    @Override
+    public boolean pingReceived()
+    {
+        return _pingReceived;
+    }
+
+    @Override
+    public void maxMessages(int maxMessages)
+    {
+        if (maxMessages < 1)
+            throw new IllegalArgumentException("maxMessages must be at least 1");
+
+        _maxMessages = maxMessages;
+    }
+
+    @Override
+    public int maxMessages()
+    {
+        return _maxMessages;
+    }
+
+    @Override
+    public void clear()
+    {
+        _count = 0;
+        _pingReceived = false;
+    }
+}
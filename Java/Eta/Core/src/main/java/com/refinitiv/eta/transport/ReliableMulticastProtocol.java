@@ -0,0 +1,124 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.transport;
+
+import java.util.HashMap;
+
+/* Pure Java implementation of the reliable multicast transport (ConnectionTypes.RELIABLE_MCAST).
+ *
+ * Channels are created with Transport.connect() only; every channel joins the multicast group and can both
+ * send to and receive from it, so one write reaches all consumers on the group. Lost packets are recovered
+ * with NAKs, see RsslReliableMulticastChannel. Multicast networks have no server side, so bind() fails. */
+public class ReliableMulticastProtocol implements ProtocolInt
+{
+    class TrackingPool extends Pool
+    {
+        TrackingPool(Object o)
+        {
+            super(o);
+        }
+
+        // This pool is used for channels.
+        // It keeps track of the channels that are active in addition to the channels that are available.
+        final EtaQueue _active = new EtaQueue();
+
+        @Override
+        void add(EtaNode node)
+        {
+            // remove the node from _active queue
+            if (_active.size() > 0)
+            {
+                _active.remove(node);
+            }
+
+            // add back to channel queue
+            super.add(node);
+        }
+    }
+
+    final Pool _channelPool = new TrackingPool(this);
+    final HashMap<Integer, Pool> _writeBufferChannelPools = new HashMap<Integer, Pool>();
+
+    ReliableMulticastProtocol()
+    {
+        // The global lock is locked by Transport
+    }
+
+    @Override
+    public Channel channel(ConnectOptions options, Error error)
+    {
+        // The global lock is locked by Transport
+        RsslReliableMulticastChannel channel = (RsslReliableMulticastChannel)_channelPool.poll();
+        if (channel == null)
+        {
+            channel = new RsslReliableMulticastChannel(this, _channelPool);
+        }
+
+        int ret = channel.connect(options, error);
+        if (ret != TransportReturnCodes.SUCCESS)
+        {
+            channel.returnToPool();
+            return null;
+        }
+        ((TrackingPool)_channelPool)._active.add(channel);
+        return channel;
+    }
+
+    @Override
+    public Channel channel(AcceptOptions options, Server srvr, Object object, Error error)
+    {
+        error.channel(null);
+        error.errorId(TransportReturnCodes.FAILURE);
+        error.sysError(0);
+        error.text("Reliable multicast channels cannot be accepted");
+        return null;
+    }
+
+    @Override
+    public Server server(BindOptions opts, Error error)
+    {
+        error.channel(null);
+        error.errorId(TransportReturnCodes.FAILURE);
+        error.sysError(0);
+        error.text("Reliable multicast does not support bind, every member of the group connects");
+        return null;
+    }
+
+    @Override
+    public Pool getPool(int poolSpec)
+    {
+        Pool pool = _writeBufferChannelPools.get(poolSpec);
+        if (pool == null)
+            pool = new Pool(this);
+        _writeBufferChannelPools.put(poolSpec, pool);
+        return pool;
+    }
+
+    @Override
+    public void uninitialize()
+    {
+        // The global lock is locked by Transport.
+
+        // The error is ignored, since the application is closing.
+        Error error = new ErrorImpl();
+        RsslReliableMulticastChannel channel;
+        while ((channel = (RsslReliableMulticastChannel)((TrackingPool)_channelPool)._active.poll()) != null)
+        {
+            if (channel._state != ChannelState.INACTIVE)
+                channel.close(error);
+        }
+        _channelPool.clear();
+
+        for (Integer key : _writeBufferChannelPools.keySet())
+        {
+            _writeBufferChannelPools.get(key).clear();
+        }
+        _writeBufferChannelPools.clear();
+    }
+}
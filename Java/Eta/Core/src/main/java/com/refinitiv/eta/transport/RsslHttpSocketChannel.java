@@ -247,6 +247,13 @@ class RsslHttpSocketChannel extends RsslSocketChannel
         }
     }
 
+    /* HTTP and encrypted messages are read through ReadBufferStateMachineHTTP, one message per call. */
+    @Override
+    protected boolean readsBatchInPlace()
+    {
+        return false;
+    }
+
     int connect(ConnectOptions opts, Error error)
     {
         int ret = TransportReturnCodes.SUCCESS;
@@ -0,0 +1,1362 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.transport;
+
+import java.io.IOException;
+import java.net.BindException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.NetworkInterface;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.MembershipKey;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/* Channel of the pure Java reliable multicast transport.
+ *
+ * Every channel both sends to and receives from the multicast group. Data packets carry a per sender
+ * sequence number; receivers deliver the packets of each sender in sequence order, holding packets that
+ * arrive early in a reorder buffer of ConnectOptions.numInputBuffers() packets. A gap in the sequence
+ * numbers, found from a later data packet or from the heartbeat sent by ping(), is repaired with a NAK sent
+ * by unicast to the sender, which multicasts the missing packets again from a history of its last
+ * ConnectOptions.guaranteedOutputBuffers() packets. Packets the sender no longer holds are reported back
+ * with a NAK failure; the receiver then either closes the channel (MCastOpts.disconnectOnGaps()) or skips
+ * over the lost packets.
+ *
+ * Packets are multicast from a unicast socket bound to the interface address, so the source address of a
+ * data packet is where its NAKs go. The unicast port is UnifiedNetworkInfo.unicastServiceName() or, when
+ * that port is taken, one of the next MCastOpts.portRoamRange() ports; an ephemeral port when it is not set.
+ * NAKs arrive on the unicast socket, which is not the selectable channel, so they are serviced whenever the
+ * channel is read, flushed or pinged, and every CONTROL_POLL_INTERVAL writes.
+ *
+ * Packet layout (all values big endian):
+ *   header (HDR_SIZE bytes): version, packet type, flags, protocol type, sender id, sequence number.
+ *   data: messages, each preceded by its length (2 bytes).
+ *   heartbeat: no payload, the sequence number is the last one sent.
+ *   NAK and NAK failure: target sender id, first and last sequence number of the range. */
+public class RsslReliableMulticastChannel extends EtaNode implements Channel
+{
+    static final int HDR_VERSION = 1;
+
+    static final int PKT_DATA = 1;
+    static final int PKT_HEARTBEAT = 2;
+    static final int PKT_NAK = 3;
+    static final int PKT_NAK_FAIL = 4;
+
+    static final int FLAG_RETRANSMIT = 0x01;
+
+    static final int HDR_VERSION_POS = 0;
+    static final int HDR_TYPE_POS = 1;
+    static final int HDR_FLAGS_POS = 2;
+    static final int HDR_PROTOCOL_TYPE_POS = 3;
+    static final int HDR_SENDER_ID_POS = 4;
+    static final int HDR_SEQ_NUM_POS = 8;
+    static final int HDR_SIZE = 16;
+
+    static final int NAK_TARGET_ID_POS = HDR_SIZE;
+    static final int NAK_FIRST_SEQ_POS = HDR_SIZE + 4;
+    static final int NAK_LAST_SEQ_POS = HDR_SIZE + 12;
+    static final int NAK_SIZE = HDR_SIZE + 20;
+
+    static final int MSG_LEN_LEN = 2;
+
+    /* Largest message of one packet, the same default as SeqMCastOpts.maxMsgSize(). */
+    static final int MAX_FRAGMENT_SIZE = 3000;
+
+    /* Time between NAKs for the same gap, and the number of NAKs sent before the gap is given up. */
+    static final long NAK_INTERVAL_NANOS = 20_000_000L;
+    static final int MAX_NAK_RETRIES = 5;
+
+    /* A packet is multicast again at most once in this time, however many receivers ask for it. */
+    static final long RETRANS_HOLDDOWN_NANOS = 5_000_000L;
+
+    /* Writes between two polls of the unicast socket for NAKs. */
+    static final int CONTROL_POLL_INTERVAL = 16;
+
+    /* Receive state of one sender on the group. */
+    static class Peer
+    {
+        int _id;
+        SocketAddress _address;
+        long _nextSeq;      // next sequence number to deliver
+        long _highSeq;      // highest sequence number known to be sent
+        ByteBuffer[] _pending;
+        long[] _pendingSeq;
+        int _pendingCount;
+        long _nakTime;      // time of the next NAK, 0 when there is no gap
+        int _nakRetries;
+    }
+
+    private Lock _lock;
+    int _state = ChannelState.INACTIVE;
+
+    private NetworkInterface _ni;
+    private InetAddress _group;
+    private int _portInt;
+    private InetSocketAddress _sendAddress;
+    private MembershipKey _key;
+    DatagramChannel _mcastChannel;
+    DatagramChannel _unicastChannel;
+    private boolean _disconnectOnGaps;
+    private String _closeText;
+
+    // sender state
+    int _senderId;
+    private long _writeSeq;
+    private TransportBufferImpl _writeData;
+    private int _packStart;
+    private boolean _bufferInUse;
+    private ByteBuffer[] _history;
+    private long[] _historySeq;
+    private long[] _historySentTime;
+    private int _historyMask;
+    private final ByteBuffer _controlData = ByteBuffer.allocate(NAK_SIZE);
+
+    // receiver state
+    private final HashMap<Integer, Peer> _peers = new HashMap<Integer, Peer>();
+    private final ArrayList<Peer> _peerList = new ArrayList<Peer>();
+    private int _reorderMask;
+    private int _pendingTotal;
+    private ByteBuffer _recvData;
+    private final ByteBuffer _controlRecvData = ByteBuffer.allocate(NAK_SIZE);
+    private TransportBufferImpl _readData;
+    private ByteBuffer _readPacket;
+    private int _readPos;
+    private int _readPacketEnd;
+    private Peer _readPeer;
+    private long _readSeqNum;
+    private boolean _readRetransmit;
+
+    Set<Long> _junitDropSeqNums; // only used for JUnit testing, these data packets are not sent the first time
+
+    // info that is set on connect from options
+    final ChannelInfoImpl _channelInfo = new ChannelInfoImpl();
+
+    protected int _majorVersion;
+    protected int _minorVersion;
+    protected int _protocolType;
+    protected Object _userSpecObject;
+
+    protected String _host = null;
+    protected String _port = null;
+    protected String _interface = null;
+    protected String _sendHost = null;
+    protected String _sendPort = null;
+    protected String _unicastPort = null;
+    protected int _packetTTL;
+    protected int _portRoamRange;
+
+    protected boolean _blocking = false;
+
+    public RsslReliableMulticastChannel(ReliableMulticastProtocol protocol, Pool channelPool)
+    {
+        // associate with pool
+        pool(channelPool);
+
+        _lock = new ReentrantLock();
+    }
+
+    @Override
+    public int connectionType()
+    {
+        return ConnectionTypes.RELIABLE_MCAST;
+    }
+
+    private void dataFromOptions(ConnectOptions opts)
+    {
+        assert (opts != null);
+
+        _channelInfo._compressionType = CompressionTypes.NONE;
+        _channelInfo._pingTimeout = opts.pingTimeout();
+        _channelInfo._maxFragmentSize = MAX_FRAGMENT_SIZE;
+        _channelInfo._guaranteedOutputBuffers = powerOfTwo(opts.guaranteedOutputBuffers());
+        _channelInfo._maxOutputBuffers = _channelInfo._guaranteedOutputBuffers;
+        _channelInfo._numInputBuffers = powerOfTwo(opts.numInputBuffers());
+        _channelInfo._sysSendBufSize = opts.sysSendBufSize();
+        _channelInfo._sysRecvBufSize = opts.sysRecvBufSize();
+        _majorVersion = opts.majorVersion();
+        _minorVersion = opts.minorVersion();
+        _protocolType = opts.protocolType();
+        _userSpecObject = opts.userSpecObject();
+        _blocking = opts.blocking();
+        _disconnectOnGaps = opts.multicastOpts().disconnectOnGaps();
+        _packetTTL = opts.multicastOpts().packetTTL();
+        _portRoamRange = opts.multicastOpts().portRoamRange();
+
+        if ((opts.segmentedNetworkInfo().recvAddress() != null && opts.segmentedNetworkInfo().recvAddress().length() > 0)
+            || (opts.segmentedNetworkInfo().recvServiceName() != null && opts.segmentedNetworkInfo().recvServiceName().length() > 0))
+        {
+            _host = opts.segmentedNetworkInfo().recvAddress();
+            _port = opts.segmentedNetworkInfo().recvServiceName();
+            _interface = opts.segmentedNetworkInfo().interfaceName();
+            _sendHost = opts.segmentedNetworkInfo().sendAddress();
+            _sendPort = opts.segmentedNetworkInfo().sendServiceName();
+            _unicastPort = opts.segmentedNetworkInfo().unicastServiceName();
+        }
+        else
+        {
+            _host = opts.unifiedNetworkInfo().address();
+            _port = opts.unifiedNetworkInfo().serviceName();
+            _interface = opts.unifiedNetworkInfo().interfaceName();
+            _sendHost = null;
+            _sendPort = null;
+            _unicastPort = opts.unifiedNetworkInfo().unicastServiceName();
+        }
+    }
+
+    static int powerOfTwo(int count)
+    {
+        int size = 1;
+        while (size < count && size < (1 << 20))
+            size <<= 1;
+        return size;
+    }
+
+    private static int portNumber(String port)
+    {
+        int portInt = GetServiceByName.getServiceByName(port);
+        if (portInt == TransportReturnCodes.FAILURE)
+            portInt = Integer.valueOf(port);
+        return portInt;
+    }
+
+    int connect(ConnectOptions opts, Error error)
+    {
+        dataFromOptions(opts);
+        _closeText = null;
+
+        try
+        {
+            if (_port == null || _port.isEmpty() || (_portInt = portNumber(_port)) < 1 || _portInt > 65535)
+                return connectFailure("Specified port value is out of range (1-65535 inclusive)", error);
+
+            if (_packetTTL < 0 || _packetTTL > 255)
+                return connectFailure("Specified packetTTL must be between 0 and 255", error);
+
+            _group = InetAddress.getByName(_host);
+            if (!_group.isMulticastAddress())
+                return connectFailure("Receive address is not a multicast address", error);
+
+            if (_sendHost != null && _sendHost.length() > 0 && _sendPort != null && _sendPort.length() > 0)
+            {
+                InetAddress sendGroup = InetAddress.getByName(_sendHost);
+                if (!sendGroup.isMulticastAddress())
+                    return connectFailure("Send address is not a multicast address", error);
+                _sendAddress = new InetSocketAddress(sendGroup, portNumber(_sendPort));
+            }
+            else
+                _sendAddress = new InetSocketAddress(_group, _portInt);
+
+            InetAddress interfaceAddress = InetAddress.getByName(_interface);
+            _ni = NetworkInterface.getByInetAddress(interfaceAddress);
+            if (_ni == null)
+                return connectFailure("Invalid Network Interface on connect()", error);
+
+            if (System.getProperty("os.name").contains("Windows")) // Windows OS, only bind by port
+            {
+                _mcastChannel = DatagramChannel.open(StandardProtocolFamily.INET)
+                        .setOption(StandardSocketOptions.SO_REUSEADDR, true)
+                        .setOption(StandardSocketOptions.IP_MULTICAST_IF, _ni)
+                        .bind(new InetSocketAddress(_portInt));
+            }
+            else
+            // Not windows OS, bind by address and port
+            {
+                _mcastChannel = DatagramChannel.open(StandardProtocolFamily.INET)
+                        .setOption(StandardSocketOptions.SO_REUSEADDR, true)
+                        .setOption(StandardSocketOptions.IP_MULTICAST_IF, _ni)
+                        .bind(new InetSocketAddress(_group, _portInt));
+            }
+            _mcastChannel.configureBlocking(_blocking);
+            _key = _mcastChannel.join(_group, _ni);
+            if (_channelInfo._sysRecvBufSize > 0)
+                _mcastChannel.setOption(StandardSocketOptions.SO_RCVBUF, _channelInfo._sysRecvBufSize);
+
+            _unicastChannel = DatagramChannel.open(StandardProtocolFamily.INET)
+                    .setOption(StandardSocketOptions.IP_MULTICAST_IF, _ni)
+                    .setOption(StandardSocketOptions.IP_MULTICAST_TTL, _packetTTL)
+                    .setOption(StandardSocketOptions.IP_MULTICAST_LOOP, true);
+            if (_channelInfo._sysSendBufSize > 0)
+                _unicastChannel.setOption(StandardSocketOptions.SO_SNDBUF, _channelInfo._sysSendBufSize);
+            if (bindUnicast(interfaceAddress) != TransportReturnCodes.SUCCESS)
+                return connectFailure("Unable to bind the unicast port " + _unicastPort + " within a port roam range of "
+                        + _portRoamRange, error);
+            _unicastChannel.configureBlocking(false);
+        }
+        catch (NumberFormatException e)
+        {
+            return connectFailure("Number format exception for port number on connect()", error);
+        }
+        catch (IOException | IllegalArgumentException e)
+        {
+            return connectFailure(e.getLocalizedMessage(), error);
+        }
+
+        int packetSize = HDR_SIZE + MSG_LEN_LEN + _channelInfo._maxFragmentSize;
+        if (_writeData == null || _writeData.data().capacity() < packetSize)
+        {
+            _writeData = new TransportBufferImpl(packetSize);
+            _recvData = ByteBuffer.allocateDirect(packetSize);
+            _readData = new TransportBufferImpl();
+        }
+        _bufferInUse = false;
+
+        int historySize = _channelInfo._guaranteedOutputBuffers;
+        _history = new ByteBuffer[historySize];
+        _historySeq = new long[historySize];
+        _historySentTime = new long[historySize];
+        _historyMask = historySize - 1;
+        _reorderMask = _channelInfo._numInputBuffers - 1;
+
+        do
+        {
+            _senderId = ThreadLocalRandom.current().nextInt();
+        }
+        while (_senderId == 0);
+        _writeSeq = 0;
+        _readPacket = null;
+        _pendingTotal = 0;
+        _peers.clear();
+        _peerList.clear();
+        ((MCastStatsImpl)_channelInfo._multicastStats).clear();
+
+        _state = ChannelState.ACTIVE;
+        return TransportReturnCodes.SUCCESS;
+    }
+
+    /* Binds the unicast socket to the unicast port, trying the next portRoamRange ports when it is taken. */
+    private int bindUnicast(InetAddress interfaceAddress) throws IOException
+    {
+        if (_unicastPort == null || _unicastPort.isEmpty())
+        {
+            _unicastChannel.bind(new InetSocketAddress(interfaceAddress, 0));
+            return TransportReturnCodes.SUCCESS;
+        }
+
+        int port = portNumber(_unicastPort);
+        for (int i = 0; i <= _portRoamRange && port + i <= 65535; i++)
+        {
+            try
+            {
+                _unicastChannel.bind(new InetSocketAddress(interfaceAddress, port + i));
+                return TransportReturnCodes.SUCCESS;
+            }
+            catch (BindException e)
+            {
+                // try the next port of the roam range
+            }
+        }
+        return TransportReturnCodes.FAILURE;
+    }
+
+    private int connectFailure(String text, Error error)
+    {
+        closeSockets();
+        _state = ChannelState.CLOSED;
+        error.channel(this);
+        error.errorId(TransportReturnCodes.FAILURE);
+        error.sysError(0);
+        error.text(text);
+        return TransportReturnCodes.FAILURE;
+    }
+
+    private void closeSockets()
+    {
+        try
+        {
+            if (_key != null && _key.isValid())
+                _key.drop();
+            if (_mcastChannel != null)
+                _mcastChannel.close();
+            if (_unicastChannel != null)
+                _unicastChannel.close();
+        }
+        catch (IOException e)
+        {
+            // the sockets are released either way
+        }
+        _key = null;
+        _mcastChannel = null;
+        _unicastChannel = null;
+    }
+
+    @Override
+    public int init(InProgInfo inProg, Error error)
+    {
+        assert (inProg != null) : "inProg cannot be null";
+        assert (error != null) : "error cannot be null";
+
+        inProg.clear();
+
+        return TransportReturnCodes.SUCCESS;
+    }
+
+    private void writeHeader(ByteBuffer packet, int type, int flags, int senderId, long seqNum)
+    {
+        packet.put(HDR_VERSION_POS, (byte)HDR_VERSION);
+        packet.put(HDR_TYPE_POS, (byte)type);
+        packet.put(HDR_FLAGS_POS, (byte)flags);
+        packet.put(HDR_PROTOCOL_TYPE_POS, (byte)_protocolType);
+        packet.putInt(HDR_SENDER_ID_POS, senderId);
+        packet.putLong(HDR_SEQ_NUM_POS, seqNum);
+    }
+
+    private MCastStatsImpl stats()
+    {
+        return (MCastStatsImpl)_channelInfo._multicastStats;
+    }
+
+    @Override
+    public TransportBuffer read(ReadArgs readArgs, Error error)
+    {
+        assert (readArgs != null) : "readArgs cannot be null";
+        assert (error != null) : "error cannot be null";
+
+        ReadArgsImpl readArgsImpl = (ReadArgsImpl)readArgs;
+        readArgsImpl._bytesRead = 0;
+        readArgsImpl._uncompressedBytesRead = 0;
+        readArgsImpl.flags(0);
+
+        try
+        {
+            _lock.lock();
+
+            if (_state != ChannelState.ACTIVE)
+                return readFailure(readArgsImpl, _closeText != null ? _closeText : "Reliable Multicast channel not active", error);
+
+            // the rest of a packed packet
+            if (_readPacket != null)
+                return nextMessage(readArgsImpl, error);
+
+            serviceControl();
+            if (_state != ChannelState.ACTIVE)
+                return readFailure(readArgsImpl, _closeText, error);
+
+            if (_pendingTotal > 0 && nextPending())
+                return nextMessage(readArgsImpl, error);
+
+            while (true)
+            {
+                _recvData.clear();
+                SocketAddress address = _mcastChannel.receive(_recvData);
+                if (address == null)
+                {
+                    readArgsImpl.readRetVal(TransportReturnCodes.READ_WOULD_BLOCK);
+                    return null;
+                }
+                _recvData.flip();
+
+                if (_recvData.limit() < HDR_SIZE || (_recvData.get(HDR_VERSION_POS) & 0xFF) != HDR_VERSION
+                        || (_recvData.get(HDR_PROTOCOL_TYPE_POS) & 0xFF) != _protocolType)
+                    continue;
+
+                int senderId = _recvData.getInt(HDR_SENDER_ID_POS);
+                if (senderId == _senderId)
+                    continue; // our own packet looped back
+
+                int type = _recvData.get(HDR_TYPE_POS);
+                long seqNum = _recvData.getLong(HDR_SEQ_NUM_POS);
+                boolean retransmit = (_recvData.get(HDR_FLAGS_POS) & FLAG_RETRANSMIT) != 0;
+
+                if (type == PKT_HEARTBEAT)
+                {
+                    stats().mcastRcvd(stats().mcastRcvd() + 1);
+                    Peer peer = _peers.get(senderId);
+                    if (peer == null)
+                        peer = addPeer(senderId, address, seqNum + 1);
+                    else if (seqNum > peer._highSeq)
+                    {
+                        peer._highSeq = seqNum;
+                        checkGap(peer, System.nanoTime());
+                    }
+
+                    readArgsImpl._flags |= ReadFlags.READ_SEQNUM | ReadFlags.READ_NODE_ID;
+                    readArgsImpl._senderAddress = address;
+                    readArgsImpl._seqNum = seqNum;
+                    readArgsImpl._bytesRead = _recvData.limit();
+                    readArgsImpl._uncompressedBytesRead = _recvData.limit();
+                    readArgsImpl._readRetVal = TransportReturnCodes.READ_PING;
+                    return null;
+                }
+
+                if (type != PKT_DATA)
+                    continue;
+
+                if (retransmit)
+                    stats().retransPktsRcvd(stats().retransPktsRcvd() + 1);
+                else
+                    stats().mcastRcvd(stats().mcastRcvd() + 1);
+
+                Peer peer = _peers.get(senderId);
+                if (peer == null)
+                {
+                    // late joiners start with the first new packet, retransmissions for others do not count
+                    if (retransmit)
+                        continue;
+                    peer = addPeer(senderId, address, seqNum);
+                }
+
+                if (seqNum > peer._highSeq)
+                    peer._highSeq = seqNum;
+
+                if (seqNum == peer._nextSeq)
+                {
+                    peer._nextSeq++;
+                    if (peer._pendingCount == 0 && peer._highSeq < peer._nextSeq)
+                        peer._nakTime = 0;
+                    startPacket(_recvData, peer, seqNum, retransmit);
+                    return nextMessage(readArgsImpl, error);
+                }
+
+                // early packets are held until the gap before them is filled, duplicates are dropped
+                if (seqNum > peer._nextSeq && seqNum - peer._nextSeq <= _reorderMask)
+                    holdPending(peer, seqNum);
+                checkGap(peer, System.nanoTime());
+            }
+        }
+        catch (IOException e)
+        {
+            _state = ChannelState.CLOSED;
+            return readFailure(readArgsImpl, e.getLocalizedMessage(), error);
+        }
+        finally
+        {
+            _lock.unlock();
+        }
+    }
+
+    private TransportBuffer readFailure(ReadArgsImpl readArgs, String text, Error error)
+    {
+        readArgs.readRetVal(TransportReturnCodes.FAILURE);
+        error.channel(this);
+        error.errorId(TransportReturnCodes.FAILURE);
+        error.sysError(0);
+        error.text(text);
+        return null;
+    }
+
+    private Peer addPeer(int senderId, SocketAddress address, long nextSeq)
+    {
+        Peer peer = new Peer();
+        peer._id = senderId;
+        peer._address = address;
+        peer._nextSeq = nextSeq;
+        peer._highSeq = nextSeq - 1;
+        _peers.put(senderId, peer);
+        _peerList.add(peer);
+        return peer;
+    }
+
+    private void holdPending(Peer peer, long seqNum)
+    {
+        if (peer._pending == null)
+        {
+            peer._pending = new ByteBuffer[_reorderMask + 1];
+            peer._pendingSeq = new long[_reorderMask + 1];
+        }
+
+        int slot = (int)(seqNum & _reorderMask);
+        if (peer._pendingSeq[slot] == seqNum)
+            return;
+
+        if (peer._pending[slot] == null)
+            peer._pending[slot] = ByteBuffer.allocateDirect(_recvData.capacity());
+        ByteBuffer held = peer._pending[slot];
+        held.clear();
+        held.put(_recvData);
+        held.flip();
+        peer._pendingSeq[slot] = seqNum;
+        peer._pendingCount++;
+        _pendingTotal++;
+    }
+
+    /* Starts delivering the next held packet of a sender, if the gap before it has been filled. */
+    private boolean nextPending()
+    {
+        for (int i = 0; i < _peerList.size(); i++)
+        {
+            Peer peer = _peerList.get(i);
+            if (peer._pendingCount == 0)
+                continue;
+
+            int slot = (int)(peer._nextSeq & _reorderMask);
+            if (peer._pendingSeq[slot] != peer._nextSeq)
+                continue;
+
+            long seqNum = peer._nextSeq++;
+            peer._pendingSeq[slot] = 0;
+            peer._pendingCount--;
+            _pendingTotal--;
+            ByteBuffer packet = peer._pending[slot];
+
+            // a hole after the packets held so far is a new gap, asked for right away
+            peer._nakTime = 0;
+            checkGap(peer, System.nanoTime());
+            startPacket(packet, peer, seqNum, (packet.get(HDR_FLAGS_POS) & FLAG_RETRANSMIT) != 0);
+            return true;
+        }
+        return false;
+    }
+
+    private void startPacket(ByteBuffer packet, Peer peer, long seqNum, boolean retransmit)
+    {
+        _readPacket = packet;
+        _readPos = HDR_SIZE;
+        _readPacketEnd = packet.limit();
+        _readPeer = peer;
+        _readSeqNum = seqNum;
+        _readRetransmit = retransmit;
+    }
+
+    private TransportBuffer nextMessage(ReadArgsImpl readArgs, Error error)
+    {
+        ByteBuffer packet = _readPacket;
+        packet.limit(_readPacketEnd);
+        int start = _readPos + MSG_LEN_LEN;
+        int length = start <= _readPacketEnd ? packet.getShort(_readPos) & 0xFFFF : -1;
+        if (length < 0 || start + length > _readPacketEnd)
+        {
+            _readPacket = null;
+            return readFailure(readArgs, "Incoming reliable multicast packet has an invalid message length", error);
+        }
+
+        packet.position(start);
+        packet.limit(start + length);
+        _readPos = start + length;
+
+        int remaining = _readPacketEnd - _readPos;
+        if (remaining <= MSG_LEN_LEN)
+        {
+            _readPacket = null;
+            remaining = _pendingTotal > 0 ? 1 : TransportReturnCodes.SUCCESS;
+        }
+
+        readArgs._flags |= ReadFlags.READ_SEQNUM | ReadFlags.READ_NODE_ID;
+        if (_readRetransmit)
+            readArgs._flags |= ReadFlags.READ_RETRANSMIT;
+        readArgs._senderAddress = _readPeer._address;
+        readArgs._seqNum = _readSeqNum;
+        readArgs._bytesRead = length;
+        readArgs._uncompressedBytesRead = length;
+        readArgs._readRetVal = remaining;
+
+        _readData.data(packet);
+        return _readData;
+    }
+
+    /* Sends a NAK when a sender has a gap before its next sequence number, gives the gap up after MAX_NAK_RETRIES. */
+    private void checkGap(Peer peer, long now)
+    {
+        if (peer._highSeq < peer._nextSeq
+                || (peer._pendingCount > 0 && peer._pendingSeq[(int)(peer._nextSeq & _reorderMask)] == peer._nextSeq))
+        {
+            peer._nakTime = 0;
+            return;
+        }
+
+        if (peer._nakTime == 0)
+        {
+            stats().gapsDetected(stats().gapsDetected() + 1);
+            peer._nakRetries = 0;
+        }
+        else if (now - peer._nakTime < 0)
+            return;
+        else if (peer._nakRetries >= MAX_NAK_RETRIES)
+        {
+            gapLost(peer, gapEnd(peer));
+            return;
+        }
+
+        sendNak(peer);
+        peer._nakRetries++;
+        peer._nakTime = now + NAK_INTERVAL_NANOS;
+        if (peer._nakTime == 0)
+            peer._nakTime = 1;
+    }
+
+    /* Last sequence number of the first gap of a sender, bounded by what the reorder buffer can hold. */
+    private long gapEnd(Peer peer)
+    {
+        long last = Math.min(peer._highSeq, peer._nextSeq + _reorderMask);
+        if (peer._pendingCount > 0)
+        {
+            for (long seq = peer._nextSeq + 1; seq <= last; seq++)
+            {
+                if (peer._pendingSeq[(int)(seq & _reorderMask)] == seq)
+                    return seq - 1;
+            }
+        }
+        return last;
+    }
+
+    private void sendNak(Peer peer)
+    {
+        _controlData.clear();
+        writeHeader(_controlData, PKT_NAK, 0, _senderId, 0);
+        _controlData.putInt(NAK_TARGET_ID_POS, peer._id);
+        _controlData.putLong(NAK_FIRST_SEQ_POS, peer._nextSeq);
+        _controlData.putLong(NAK_LAST_SEQ_POS, gapEnd(peer));
+        _controlData.limit(NAK_SIZE);
+
+        try
+        {
+            if (_unicastChannel.send(_controlData, peer._address) > 0)
+            {
+                stats().unicastSent(stats().unicastSent() + 1);
+                stats().retransReqSent(stats().retransReqSent() + 1);
+            }
+        }
+        catch (IOException e)
+        {
+            // the NAK is sent again after NAK_INTERVAL_NANOS
+        }
+    }
+
+    /* The packets of a sender up to lastSeq cannot be recovered. */
+    private void gapLost(Peer peer, long lastSeq)
+    {
+        if (_disconnectOnGaps)
+        {
+            _state = ChannelState.CLOSED;
+            _closeText = "Reliable multicast gap of sequence numbers " + peer._nextSeq + " to " + lastSeq
+                    + " from " + peer._address + " cannot be recovered";
+            return;
+        }
+
+        // skip over the lost packets, dropping held packets that are now behind
+        peer._nextSeq = lastSeq + 1;
+        if (peer._highSeq < lastSeq)
+            peer._highSeq = lastSeq;
+        if (peer._pendingCount > 0)
+        {
+            for (int slot = 0; slot <= _reorderMask; slot++)
+            {
+                if (peer._pendingSeq[slot] != 0 && peer._pendingSeq[slot] <= lastSeq)
+                {
+                    peer._pendingSeq[slot] = 0;
+                    peer._pendingCount--;
+                    _pendingTotal--;
+                }
+            }
+        }
+        peer._nakTime = 0;
+        checkGap(peer, System.nanoTime());
+    }
+
+    /* Services NAKs and NAK failures received on the unicast socket, and NAK timers of gaps still open. */
+    private void serviceControl() throws IOException
+    {
+        SocketAddress address;
+        while (_state == ChannelState.ACTIVE)
+        {
+            _controlRecvData.clear();
+            if ((address = _unicastChannel.receive(_controlRecvData)) == null)
+                break;
+
+            if (_controlRecvData.position() < NAK_SIZE || (_controlRecvData.get(HDR_VERSION_POS) & 0xFF) != HDR_VERSION
+                    || (_controlRecvData.get(HDR_PROTOCOL_TYPE_POS) & 0xFF) != _protocolType)
+                continue;
+
+            stats().unicastRcvd(stats().unicastRcvd() + 1);
+            int type = _controlRecvData.get(HDR_TYPE_POS);
+            long firstSeq = _controlRecvData.getLong(NAK_FIRST_SEQ_POS);
+            long lastSeq = _controlRecvData.getLong(NAK_LAST_SEQ_POS);
+
+            if (type == PKT_NAK && _controlRecvData.getInt(NAK_TARGET_ID_POS) == _senderId)
+            {
+                stats().retransReqRcvd(stats().retransReqRcvd() + 1);
+                retransmit(firstSeq, lastSeq, address);
+            }
+            else if (type == PKT_NAK_FAIL)
+            {
+                Peer peer = _peers.get(_controlRecvData.getInt(HDR_SENDER_ID_POS));
+                if (peer != null && lastSeq >= peer._nextSeq)
+                    gapLost(peer, lastSeq);
+            }
+        }
+
+        if (_state == ChannelState.ACTIVE)
+        {
+            long now = System.nanoTime();
+            for (int i = 0; i < _peerList.size() && _state == ChannelState.ACTIVE; i++)
+            {
+                Peer peer = _peerList.get(i);
+                if (peer._nakTime != 0)
+                    checkGap(peer, now);
+            }
+        }
+    }
+
+    /* Multicasts the requested packets again, and reports the ones no longer in the history to the requester. */
+    private void retransmit(long firstSeq, long lastSeq, SocketAddress requester) throws IOException
+    {
+        if (lastSeq > _writeSeq)
+            lastSeq = _writeSeq;
+        if (firstSeq < 1 || firstSeq > lastSeq)
+            return;
+
+        long oldestSeq = Math.max(1, _writeSeq - _historyMask);
+        if (firstSeq < oldestSeq)
+        {
+            _controlData.clear();
+            writeHeader(_controlData, PKT_NAK_FAIL, 0, _senderId, 0);
+            _controlData.putInt(NAK_TARGET_ID_POS, 0);
+            _controlData.putLong(NAK_FIRST_SEQ_POS, firstSeq);
+            _controlData.putLong(NAK_LAST_SEQ_POS, Math.min(lastSeq, oldestSeq - 1));
+            _controlData.limit(NAK_SIZE);
+            if (_unicastChannel.send(_controlData, requester) > 0)
+                stats().unicastSent(stats().unicastSent() + 1);
+            firstSeq = oldestSeq;
+        }
+
+        long now = System.nanoTime();
+        for (long seq = firstSeq; seq <= lastSeq; seq++)
+        {
+            int slot = (int)(seq & _historyMask);
+            if (_historySeq[slot] != seq || now - _historySentTime[slot] < RETRANS_HOLDDOWN_NANOS)
+                continue;
+
+            ByteBuffer packet = _history[slot];
+            packet.position(0);
+            if (_unicastChannel.send(packet, _sendAddress) == 0)
+                break; // the socket is full, receivers ask again
+            _historySentTime[slot] = now;
+            stats().retransPktsSent(stats().retransPktsSent() + 1);
+        }
+    }
+
+    @Override
+    public TransportBuffer getBuffer(int size, boolean packedBuffer, Error error)
+    {
+        try
+        {
+            _lock.lock();
+
+            if (_state != ChannelState.ACTIVE)
+            {
+                error.channel(this);
+                error.errorId(TransportReturnCodes.FAILURE);
+                error.sysError(0);
+                error.text("Reliable Multicast channel is not in the active state for getBuffer");
+                return null;
+            }
+
+            if (_bufferInUse)
+            {
+                error.channel(this);
+                error.errorId(TransportReturnCodes.NO_BUFFERS);
+                error.sysError(0);
+                error.text("Buffer already in use");
+                return null;
+            }
+
+            if (size > _channelInfo._maxFragmentSize)
+            {
+                error.channel(this);
+                error.errorId(TransportReturnCodes.FAILURE);
+                error.sysError(0);
+                error.text("Buffer size exceeds maxFragmentSize");
+                return null;
+            }
+
+            _packStart = HDR_SIZE + MSG_LEN_LEN;
+            _writeData.data().clear();
+            _writeData.data().position(_packStart);
+            _writeData.data().limit(_packStart + size);
+            _bufferInUse = true;
+        }
+        finally
+        {
+            _lock.unlock();
+        }
+
+        return _writeData;
+    }
+
+    @Override
+    public int packBuffer(TransportBuffer bufferInt, Error error)
+    {
+        assert (bufferInt != null) : "buffer cannot be null";
+        assert (error != null) : "error cannot be null";
+
+        try
+        {
+            _lock.lock();
+
+            if (_state != ChannelState.ACTIVE || bufferInt != _writeData || !_bufferInUse)
+            {
+                error.channel(this);
+                error.errorId(TransportReturnCodes.FAILURE);
+                error.sysError(0);
+                error.text("Reliable Multicast channel not active or buffer not owned by this channel");
+                return TransportReturnCodes.FAILURE;
+            }
+
+            ByteBuffer data = _writeData.data();
+            int end = data.position();
+            if (end > _packStart)
+            {
+                data.putShort(_packStart - MSG_LEN_LEN, (short)(end - _packStart));
+                _packStart = end + MSG_LEN_LEN;
+                if (_packStart > data.limit())
+                    return 0; // no room for another message
+                data.position(_packStart);
+            }
+            return data.limit() - data.position();
+        }
+        finally
+        {
+            _lock.unlock();
+        }
+    }
+
+    @Override
+    public int write(TransportBuffer bufferInt, WriteArgs writeArgs, Error error)
+    {
+        assert (bufferInt != null) : "buffer cannot be null";
+        assert (writeArgs != null) : "writeArgs cannot be null";
+        assert (error != null) : "error cannot be null";
+
+        ((WriteArgsImpl)writeArgs)._bytesWritten = 0;
+        ((WriteArgsImpl)writeArgs)._uncompressedBytesWritten = 0;
+
+        try
+        {
+            _lock.lock();
+
+            if (_state != ChannelState.ACTIVE || bufferInt != _writeData || !_bufferInUse)
+            {
+                error.channel(this);
+                error.errorId(TransportReturnCodes.FAILURE);
+                error.sysError(0);
+                error.text("Reliable Multicast channel not active or buffer not owned by this channel");
+                return TransportReturnCodes.FAILURE;
+            }
+
+            ByteBuffer data = _writeData.data();
+            int end;
+            if (data.position() > _packStart)
+            {
+                data.putShort(_packStart - MSG_LEN_LEN, (short)(data.position() - _packStart));
+                end = data.position();
+            }
+            else
+                end = _packStart - MSG_LEN_LEN; // drop the length reserved for a message never written
+
+            if (end <= HDR_SIZE)
+            {
+                error.channel(this);
+                error.errorId(TransportReturnCodes.FAILURE);
+                error.sysError(0);
+                error.text("Encoded buffer of length zero cannot be written.");
+                return TransportReturnCodes.FAILURE;
+            }
+
+            // the transport numbers the packets itself, so WRITE_SEQNUM and WRITE_RETRANSMIT do not apply
+            long seqNum = ++_writeSeq;
+            writeHeader(data, PKT_DATA, 0, _senderId, seqNum);
+            data.limit(end);
+            data.position(0);
+
+            // keep a copy for retransmission, already flagged as such
+            int slot = (int)(seqNum & _historyMask);
+            if (_history[slot] == null)
+                _history[slot] = ByteBuffer.allocateDirect(data.capacity());
+            ByteBuffer copy = _history[slot];
+            copy.clear();
+            copy.put(data);
+            copy.put(HDR_FLAGS_POS, (byte)FLAG_RETRANSMIT);
+            copy.flip();
+            _historySeq[slot] = seqNum;
+            _historySentTime[slot] = 0;
+            data.position(0);
+
+            // a packet the socket cannot take is recovered by the receivers through a NAK
+            if ((_junitDropSeqNums == null || !_junitDropSeqNums.contains(seqNum))
+                    && _unicastChannel.send(data, _sendAddress) > 0)
+                stats().mcastSent(stats().mcastSent() + 1);
+
+            ((WriteArgsImpl)writeArgs)._bytesWritten = end - HDR_SIZE;
+            ((WriteArgsImpl)writeArgs)._uncompressedBytesWritten = end - HDR_SIZE;
+
+            data.clear();
+            _bufferInUse = false;
+
+            if ((seqNum & (CONTROL_POLL_INTERVAL - 1)) == 0)
+                serviceControl();
+
+            return TransportReturnCodes.SUCCESS;
+        }
+        catch (IOException e)
+        {
+            _state = ChannelState.CLOSED;
+            error.channel(this);
+            error.errorId(TransportReturnCodes.FAILURE);
+            error.sysError(0);
+            error.text(e.getLocalizedMessage());
+            return TransportReturnCodes.FAILURE;
+        }
+        finally
+        {
+            _lock.unlock();
+        }
+    }
+
+    @Override
+    public int releaseBuffer(TransportBuffer bufferInt, Error error)
+    {
+        assert (error != null) : "error cannot be null";
+
+        if (bufferInt == null)
+        {
+            error.channel(this);
+            error.errorId(TransportReturnCodes.FAILURE);
+            error.sysError(0);
+            error.text("buffer cannot be null");
+            return TransportReturnCodes.FAILURE;
+        }
+
+        try
+        {
+            _lock.lock();
+
+            if (_state == ChannelState.INACTIVE)
+            {
+                error.channel(this);
+                error.errorId(TransportReturnCodes.FAILURE);
+                error.sysError(0);
+                error.text("Reliable Multicast channel is in inactive state");
+                return TransportReturnCodes.FAILURE;
+            }
+
+            if (_bufferInUse && bufferInt == _writeData)
+            {
+                _bufferInUse = false;
+                _writeData.data().clear();
+            }
+        }
+        finally
+        {
+            _lock.unlock();
+        }
+        return TransportReturnCodes.SUCCESS;
+    }
+
+    /* Packets are sent on write(); flush() services the NAKs received since. */
+    @Override
+    public int flush(Error error)
+    {
+        return serviceControl(error);
+    }
+
+    private int serviceControl(Error error)
+    {
+        try
+        {
+            _lock.lock();
+
+            if (_state == ChannelState.ACTIVE)
+                serviceControl();
+
+            if (_state == ChannelState.ACTIVE)
+                return TransportReturnCodes.SUCCESS;
+
+            error.channel(this);
+            error.errorId(TransportReturnCodes.FAILURE);
+            error.sysError(0);
+            error.text(_closeText != null ? _closeText : "Reliable Multicast channel not active");
+            return TransportReturnCodes.FAILURE;
+        }
+        catch (IOException e)
+        {
+            _state = ChannelState.CLOSED;
+            error.channel(this);
+            error.errorId(TransportReturnCodes.FAILURE);
+            error.sysError(0);
+            error.text(e.getLocalizedMessage());
+            return TransportReturnCodes.FAILURE;
+        }
+        finally
+        {
+            _lock.unlock();
+        }
+    }
+
+    /* Multicasts a heartbeat with the last sequence number sent, so that receivers find a lost tail. */
+    @Override
+    public int ping(Error error)
+    {
+        try
+        {
+            _lock.lock();
+
+            if (_state == ChannelState.ACTIVE)
+            {
+                _controlData.clear();
+                writeHeader(_controlData, PKT_HEARTBEAT, 0, _senderId, _writeSeq);
+                _controlData.limit(HDR_SIZE);
+                if (_unicastChannel.send(_controlData, _sendAddress) > 0)
+                    stats().mcastSent(stats().mcastSent() + 1);
+            }
+        }
+        catch (IOException e)
+        {
+            _state = ChannelState.CLOSED;
+            error.channel(this);
+            error.errorId(TransportReturnCodes.FAILURE);
+            error.sysError(0);
+            error.text(e.getLocalizedMessage());
+            return TransportReturnCodes.FAILURE;
+        }
+        finally
+        {
+            _lock.unlock();
+        }
+
+        return serviceControl(error);
+    }
+
+    @Override
+    public int close(Error error)
+    {
+        assert (error != null) : "error cannot be null";
+
+        try
+        {
+            _lock.lock();
+
+            if (_state == ChannelState.INACTIVE)
+            {
+                error.channel(this);
+                error.errorId(TransportReturnCodes.FAILURE);
+                error.sysError(0);
+                error.text("Reliable Multicast channel is inactive ");
+                return TransportReturnCodes.FAILURE;
+            }
+
+            _state = ChannelState.INACTIVE;
+            closeSockets();
+            _bufferInUse = false;
+            _readPacket = null;
+            _readPeer = null;
+            _peers.clear();
+            _peerList.clear();
+            _pendingTotal = 0;
+        }
+        finally
+        {
+            _lock.unlock();
+        }
+
+        returnToPool();
+        return TransportReturnCodes.SUCCESS;
+    }
+
+    @Override
+    public int info(ChannelInfo info, Error error)
+    {
+        assert (info != null) : "info cannot be null";
+        assert (error != null) : "error cannot be null";
+
+        try
+        {
+            _lock.lock();
+
+            if (_state != ChannelState.ACTIVE)
+            {
+                error.channel(this);
+                error.errorId(TransportReturnCodes.FAILURE);
+                error.sysError(0);
+                error.text("channel not in active state ");
+                return TransportReturnCodes.FAILURE;
+            }
+
+            ((ChannelInfoImpl)info).maxFragmentSize(_channelInfo._maxFragmentSize);
+            ((ChannelInfoImpl)info).maxOutputBuffers(_channelInfo._maxOutputBuffers);
+            ((ChannelInfoImpl)info).guaranteedOutputBuffers(_channelInfo._guaranteedOutputBuffers);
+            ((ChannelInfoImpl)info).numInputBuffers(_channelInfo._numInputBuffers);
+            ((ChannelInfoImpl)info).pingTimeout(_channelInfo._pingTimeout);
+            ((ChannelInfoImpl)info).compressionType(CompressionTypes.NONE);
+            ((ChannelInfoImpl)info).sysRecvBufSize(_mcastChannel.getOption(StandardSocketOptions.SO_RCVBUF));
+            ((ChannelInfoImpl)info).sysSendBufSize(_unicastChannel.getOption(StandardSocketOptions.SO_SNDBUF));
+            ((ChannelInfoImpl)info).multicastStats(_channelInfo._multicastStats);
+            return TransportReturnCodes.SUCCESS;
+        }
+        catch (IOException e)
+        {
+            error.channel(this);
+            error.errorId(TransportReturnCodes.FAILURE);
+            error.sysError(0);
+            error.text(e.getLocalizedMessage());
+            return TransportReturnCodes.FAILURE;
+        }
+        finally
+        {
+            _lock.unlock();
+        }
+    }
+
+    @Override
+    public int ioctl(int code, Object value, Error error)
+    {
+        return TransportReturnCodes.SUCCESS;
+    }
+
+    @Override
+    public int ioctl(int code, int value, Error error)
+    {
+        assert (error != null) : "error cannot be null";
+
+        try
+        {
+            _lock.lock();
+
+            if (_state != ChannelState.ACTIVE)
+            {
+                error.channel(this);
+                error.errorId(TransportReturnCodes.FAILURE);
+                error.sysError(0);
+                error.text("Reliable Multicast channel is not in the active state");
+                return TransportReturnCodes.FAILURE;
+            }
+
+            if ((code == IoctlCodes.SYSTEM_WRITE_BUFFERS || code == IoctlCodes.SYSTEM_READ_BUFFERS) && value <= 0)
+            {
+                error.channel(this);
+                error.errorId(TransportReturnCodes.FAILURE);
+                error.sysError(0);
+                error.text("value must be (1 >= value < 2^31");
+                return TransportReturnCodes.FAILURE;
+            }
+
+            switch (code)
+            {
+                case IoctlCodes.SYSTEM_WRITE_BUFFERS:
+                    _unicastChannel.setOption(StandardSocketOptions.SO_SNDBUF, value);
+                    return TransportReturnCodes.SUCCESS;
+                case IoctlCodes.SYSTEM_READ_BUFFERS:
+                    _mcastChannel.setOption(StandardSocketOptions.SO_RCVBUF, value);
+                    return TransportReturnCodes.SUCCESS;
+                default:
+                    error.channel(this);
+                    error.errorId(TransportReturnCodes.FAILURE);
+                    error.sysError(0);
+                    error.text("Code is not valid.");
+                    return TransportReturnCodes.FAILURE;
+            }
+        }
+        catch (IOException e)
+        {
+            error.channel(this);
+            error.errorId(TransportReturnCodes.FAILURE);
+            error.sysError(0);
+            error.text("exception occurred when setting value \"" + value + "\" for IoctlCode \"" + code + "\", exception=" + e.toString());
+            return TransportReturnCodes.FAILURE;
+        }
+        finally
+        {
+            _lock.unlock();
+        }
+    }
+
+    @Override
+    public int bufferUsage(Error error)
+    {
+        if (_state != ChannelState.ACTIVE)
+            return TransportReturnCodes.FAILURE;
+
+        return _bufferInUse ? 1 : 0;
+    }
+
+    @Override
+    public int majorVersion()
+    {
+        return _majorVersion;
+    }
+
+    @Override
+    public int minorVersion()
+    {
+        return _minorVersion;
+    }
+
+    @Override
+    public int protocolType()
+    {
+        return _protocolType;
+    }
+
+    @Override
+    public int state()
+    {
+        return _state;
+    }
+
+    @Override @Deprecated
+    public SocketChannel scktChannel()
+    {
+        return null;
+    }
+
+    @Override @Deprecated
+    public SocketChannel oldScktChannel()
+    {
+        return null;
+    }
+
+    @Override
+    public SelectableChannel selectableChannel()
+    {
+        return _mcastChannel;
+    }
+
+    @Override
+    public SelectableChannel oldSelectableChannel()
+    {
+        return null;
+    }
+
+    @Override
+    public int pingTimeout()
+    {
+        return _channelInfo._pingTimeout;
+    }
+
+    @Override
+    public Object userSpecObject()
+    {
+        return _userSpecObject;
+    }
+
+    @Override
+    public boolean blocking()
+    {
+        return _blocking;
+    }
+
+    @Override
+    public int reconnectClient(Error error)
+    {
+        return TransportReturnCodes.SUCCESS;
+    }
+
+    @Override
+    public String hostname()
+    {
+        return _host;
+    }
+}
@@ -0,0 +1,757 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.transport;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+
+/* Channel of the pure Java shared memory transport.
+ *
+ * A channel returned by Server.accept() is the single writer of the ring; a channel returned by
+ * Transport.connect() is a reader. Readers never block the writer: a reader that falls too far behind
+ * is disconnected, as with the native implementation.
+ *
+ * Segment layout (all values big endian):
+ *   header (HDR_SIZE bytes): magic, version, slot count, slot size, protocol type, major, minor,
+ *                            writer state and, on its own cache line, the last published sequence number.
+ *   slots: sequence number (8 bytes), message length (4 bytes), message data.
+ *
+ * Message n is stored in slot (n - 1) & (slotCount - 1). The writer stores the negated sequence number
+ * in the slot before copying the message and the real sequence number afterwards, and only then
+ * publishes n in the header. Readers verify the slot sequence number before and after copying the
+ * message out, so a slot that is overwritten while being read is detected as an overrun.
+ *
+ * ByteBuffer accessors are plain memory accesses, so a fence separates each step of the writer
+ * (release) and of the reader (acquire): the sequence numbers are written last and read first. */
+public class RsslShmemChannel extends EtaNode implements Channel
+{
+    static final int SEGMENT_MAGIC = 0x45544153; // "ETAS"
+    static final int SEGMENT_VERSION = 1;
+
+    static final int HDR_MAGIC_POS = 0;
+    static final int HDR_VERSION_POS = 4;
+    static final int HDR_SLOT_COUNT_POS = 8;
+    static final int HDR_SLOT_SIZE_POS = 12;
+    static final int HDR_PROTOCOL_TYPE_POS = 16;
+    static final int HDR_MAJOR_VERSION_POS = 20;
+    static final int HDR_MINOR_VERSION_POS = 24;
+    static final int HDR_WRITER_STATE_POS = 28;
+    static final int HDR_WRITE_SEQ_POS = 64;
+    static final int HDR_SIZE = 128;
+
+    static final int SLOT_SEQ_POS = 0;
+    static final int SLOT_LENGTH_POS = 8;
+    static final int SLOT_HDR_SIZE = 12;
+
+    static final int WRITER_INACTIVE = 0;
+    static final int WRITER_ACTIVE = 1;
+
+    static final int MAX_SLOT_COUNT = 1 << 30;
+
+    /* Slots are padded to a multiple of 64 bytes so that the sequence numbers of adjacent slots do not share a cache line. */
+    static int slotSize(int maxFragmentSize)
+    {
+        return (SLOT_HDR_SIZE + maxFragmentSize + 63) & ~63;
+    }
+
+    private Lock _lock;
+    int _state = ChannelState.INACTIVE;
+    boolean _isWriter;
+    ShmemServerImpl _server;
+
+    private MappedByteBuffer _ring;
+    private File _segmentFile;
+    private int _slotMask;
+    private int _slotSize;
+    private int _maxFragmentSize;
+    private long _maxReaderLag;
+
+    /* A volatile write is followed by a full fence, so writing this field orders the plain accesses
+     * to the ring before it with those after it. */
+    private volatile int _fence;
+
+    // writer state
+    private long _writeSeq;
+    private TransportBufferImpl _writeData;
+    private boolean _bufferInUse;
+    private boolean _packedBuffer;
+    private int[] _packedEnds = new int[16];
+    private int _packedCount;
+
+    // reader state
+    private long _readSeq;
+    private boolean _writerSeen;
+    private TransportBufferImpl _readData;
+    private ByteBuffer _readByteData;
+
+    // info that is set on accept or connect from options
+    final ChannelInfoImpl _channelInfo = new ChannelInfoImpl();
+
+    protected int _majorVersion;
+    protected int _minorVersion;
+    protected int _protocolType;
+    protected Object _userSpecObject;
+    protected String _segmentName;
+
+    public RsslShmemChannel(ShmemProtocol shmemProtocol, Pool channelPool)
+    {
+        // associate with pool
+        pool(channelPool);
+
+        _lock = new ReentrantLock();
+    }
+
+    @Override
+    public int connectionType()
+    {
+        return ConnectionTypes.UNIDIR_SHMEM;
+    }
+
+    /* Writer side, called from ShmemProtocol on behalf of Server.accept(). */
+    int accept(AcceptOptions opts, ShmemServerImpl server, Error error)
+    {
+        _isWriter = true;
+        _server = server;
+        _ring = server._ring;
+        _segmentFile = server._segmentFile;
+        _slotMask = server._slotCount - 1;
+        _slotSize = server._slotSize;
+        _maxFragmentSize = server._maxFragmentSize;
+        _majorVersion = server._bindOpts.majorVersion();
+        _minorVersion = server._bindOpts.minorVersion();
+        _protocolType = server._bindOpts.protocolType();
+        _segmentName = server._bindOpts.serviceName();
+        _userSpecObject = opts != null ? opts.userSpecObject() : null;
+
+        _channelInfo._maxFragmentSize = _maxFragmentSize;
+        _channelInfo._guaranteedOutputBuffers = server._slotCount;
+        _channelInfo._maxOutputBuffers = server._slotCount;
+        _channelInfo._numInputBuffers = 0;
+        _channelInfo._pingTimeout = server._bindOpts.pingTimeout();
+
+        // continue the sequence of a previous writer on the same segment
+        _writeSeq = _ring.getLong(HDR_WRITE_SEQ_POS);
+
+        if (_writeData == null || _writeData.data().capacity() < _maxFragmentSize)
+        {
+            _writeData = new TransportBufferImpl(_maxFragmentSize);
+            _writeData._isWriteBuffer = true;
+            _writeData.headerLength(0);
+        }
+        _bufferInUse = false;
+
+        _ring.putInt(HDR_WRITER_STATE_POS, WRITER_ACTIVE);
+        _state = ChannelState.ACTIVE;
+        return TransportReturnCodes.SUCCESS;
+    }
+
+    /* Reader side, called from ShmemProtocol on behalf of Transport.connect(). */
+    int connect(ConnectOptions opts, Error error)
+    {
+        _isWriter = false;
+        _server = null;
+        _segmentName = opts.unifiedNetworkInfo().serviceName();
+        _userSpecObject = opts.userSpecObject();
+        _maxReaderLag = opts.shmemOpts().maxReaderLag();
+
+        if (_segmentName == null || _segmentName.isEmpty())
+        {
+            error.channel(null);
+            error.errorId(TransportReturnCodes.FAILURE);
+            error.sysError(0);
+            error.text("unifiedNetworkInfo serviceName must name the shared memory segment");
+            return TransportReturnCodes.FAILURE;
+        }
+
+        _segmentFile = ShmemProtocol.segmentFile(_segmentName);
+        try (RandomAccessFile file = new RandomAccessFile(_segmentFile, "r"))
+        {
+            _ring = file.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, file.length());
+        }
+        catch (IOException e)
+        {
+            error.channel(null);
+            error.errorId(TransportReturnCodes.FAILURE);
+            error.sysError(0);
+            error.text("unable to open shared memory segment " + _segmentFile + ": " + e.getLocalizedMessage());
+            return TransportReturnCodes.FAILURE;
+        }
+
+        if (_ring.capacity() < HDR_SIZE || _ring.getInt(HDR_MAGIC_POS) != SEGMENT_MAGIC
+                || _ring.getInt(HDR_VERSION_POS) != SEGMENT_VERSION)
+        {
+            _ring = null;
+            error.channel(null);
+            error.errorId(TransportReturnCodes.FAILURE);
+            error.sysError(0);
+            error.text("shared memory segment " + _segmentFile + " is not initialized by a compatible server");
+            return TransportReturnCodes.FAILURE;
+        }
+        // acquire: the server writes the magic number after the rest of the header
+        fence();
+
+        int slotCount = _ring.getInt(HDR_SLOT_COUNT_POS);
+        _slotMask = slotCount - 1;
+        _slotSize = _ring.getInt(HDR_SLOT_SIZE_POS);
+        _maxFragmentSize = _slotSize - SLOT_HDR_SIZE;
+        _protocolType = _ring.getInt(HDR_PROTOCOL_TYPE_POS);
+        _majorVersion = _ring.getInt(HDR_MAJOR_VERSION_POS);
+        _minorVersion = _ring.getInt(HDR_MINOR_VERSION_POS);
+
+        _channelInfo._maxFragmentSize = _maxFragmentSize;
+        _channelInfo._guaranteedOutputBuffers = 0;
+        _channelInfo._maxOutputBuffers = 0;
+        _channelInfo._numInputBuffers = slotCount;
+        _channelInfo._pingTimeout = opts.pingTimeout();
+
+        if (_readByteData == null || _readByteData.capacity() < _maxFragmentSize)
+        {
+            _readByteData = ByteBuffer.allocateDirect(_maxFragmentSize);
+            _readData = new TransportBufferImpl();
+        }
+
+        // late joiners start with the next message published
+        _readSeq = _ring.getLong(HDR_WRITE_SEQ_POS) + 1;
+        _writerSeen = _ring.getInt(HDR_WRITER_STATE_POS) == WRITER_ACTIVE;
+
+        _state = ChannelState.ACTIVE;
+        return TransportReturnCodes.SUCCESS;
+    }
+
+    private void fence()
+    {
+        _fence = 0;
+    }
+
+    private int slotPosition(long seq)
+    {
+        return HDR_SIZE + (int)((seq - 1) & _slotMask) * _slotSize;
+    }
+
+    @Override
+    public int init(InProgInfo inProg, Error error)
+    {
+        assert (inProg != null) : "inProg cannot be null";
+        assert (error != null) : "error cannot be null";
+
+        inProg.clear();
+
+        return TransportReturnCodes.SUCCESS;
+    }
+
+    @Override
+    public TransportBuffer read(ReadArgs readArgs, Error error)
+    {
+        assert (readArgs != null) : "readArgs cannot be null";
+        assert (error != null) : "error cannot be null";
+
+        ReadArgsImpl readArgsImpl = (ReadArgsImpl)readArgs;
+        readArgsImpl._bytesRead = 0;
+        readArgsImpl._uncompressedBytesRead = 0;
+        readArgsImpl.flags(0);
+
+        if (_state != ChannelState.ACTIVE || _isWriter)
+        {
+            readArgsImpl.readRetVal(TransportReturnCodes.FAILURE);
+            error.channel(this);
+            error.errorId(TransportReturnCodes.FAILURE);
+            error.sysError(0);
+            error.text(_isWriter ? "shared memory writer channel cannot be read" : "shared memory channel not active");
+            return null;
+        }
+
+        try
+        {
+            _lock.lock();
+
+            // acquire: the header is read before the slot it publishes
+            long published = _ring.getLong(HDR_WRITE_SEQ_POS);
+            fence();
+            if (published < _readSeq)
+            {
+                if (_ring.getInt(HDR_WRITER_STATE_POS) == WRITER_ACTIVE)
+                    _writerSeen = true;
+                else if (_writerSeen)
+                    return readerFailure(readArgsImpl, "shared memory writer has closed", error);
+
+                readArgsImpl.readRetVal(TransportReturnCodes.READ_WOULD_BLOCK);
+                return null;
+            }
+
+            long lag = published - _readSeq + 1;
+            if (lag > _slotMask + 1 || (_maxReaderLag > 0 && lag > _maxReaderLag))
+                return readerFailure(readArgsImpl, "shared memory reader lags the writer by " + lag + " messages", error);
+
+            int slotPos = slotPosition(_readSeq);
+            if (_ring.getLong(slotPos + SLOT_SEQ_POS) != _readSeq)
+                return readerFailure(readArgsImpl, "shared memory reader overrun at sequence number " + _readSeq, error);
+            fence();
+
+            int length = _ring.getInt(slotPos + SLOT_LENGTH_POS);
+            if (length < 0 || length > _maxFragmentSize)
+            {
+                fence();
+                if (_ring.getLong(slotPos + SLOT_SEQ_POS) != _readSeq)
+                    return readerFailure(readArgsImpl, "shared memory reader overrun at sequence number " + _readSeq, error);
+                return readerFailure(readArgsImpl, "shared memory slot holds an invalid message length " + length, error);
+            }
+
+            ByteBuffer src = _ring.duplicate();
+            src.limit(slotPos + SLOT_HDR_SIZE + length);
+            src.position(slotPos + SLOT_HDR_SIZE);
+            _readByteData.clear();
+            _readByteData.put(src);
+            _readByteData.flip();
+
+            // the writer may have wrapped onto this slot while it was being copied
+            fence();
+            if (_ring.getLong(slotPos + SLOT_SEQ_POS) != _readSeq)
+                return readerFailure(readArgsImpl, "shared memory reader overrun at sequence number " + _readSeq, error);
+
+            readArgsImpl._flags |= ReadFlags.READ_SEQNUM;
+            readArgsImpl._seqNum = _readSeq;
+            readArgsImpl._bytesRead = length;
+            readArgsImpl._uncompressedBytesRead = length;
+
+            long remaining = published - _readSeq;
+            _readSeq++;
+            if (remaining > 0)
+                readArgsImpl._readRetVal = remaining > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int)remaining;
+            else
+                readArgsImpl._readRetVal = TransportReturnCodes.SUCCESS;
+
+            _readData.data(_readByteData);
+            return _readData;
+        }
+        finally
+        {
+            _lock.unlock();
+        }
+    }
+
+    private TransportBuffer readerFailure(ReadArgsImpl readArgs, String text, Error error)
+    {
+        _state = ChannelState.CLOSED;
+        readArgs.readRetVal(TransportReturnCodes.FAILURE);
+        error.channel(this);
+        error.errorId(TransportReturnCodes.FAILURE);
+        error.sysError(0);
+        error.text(text);
+        return null;
+    }
+
+    @Override
+    public TransportBuffer getBuffer(int size, boolean packedBuffer, Error error)
+    {
+        try
+        {
+            _lock.lock();
+
+            if (_state != ChannelState.ACTIVE || !_isWriter)
+            {
+                error.channel(this);
+                error.errorId(TransportReturnCodes.FAILURE);
+                error.sysError(0);
+                error.text(_isWriter ? "shared memory channel is not in the active state for getBuffer" : "shared memory reader channel cannot be written");
+                return null;
+            }
+
+            if (_bufferInUse)
+            {
+                error.channel(this);
+                error.errorId(TransportReturnCodes.NO_BUFFERS);
+                error.sysError(0);
+                error.text("Buffer already in use");
+                return null;
+            }
+
+            if (size > _maxFragmentSize)
+            {
+                error.channel(this);
+                error.errorId(TransportReturnCodes.FAILURE);
+                error.sysError(0);
+                error.text("Buffer size exceeds maxFragmentSize");
+                return null;
+            }
+
+            _writeData.data().clear();
+            _writeData.data().limit(size);
+            _packedBuffer = packedBuffer;
+            _packedCount = 0;
+            _bufferInUse = true;
+        }
+        finally
+        {
+            _lock.unlock();
+        }
+
+        return _writeData;
+    }
+
+    /* Publishes the bytes of the write buffer from offset to offset + length as the next message. */
+    private void publish(ByteBuffer data, int offset, int length)
+    {
+        long seq = _writeSeq + 1;
+        int slotPos = slotPosition(seq);
+
+        // mark the slot as being written before its old contents are overwritten
+        _ring.putLong(slotPos + SLOT_SEQ_POS, -seq);
+        fence();
+
+        _ring.putInt(slotPos + SLOT_LENGTH_POS, length);
+        ByteBuffer src = data.duplicate();
+        src.limit(offset + length);
+        src.position(offset);
+        ByteBuffer dest = _ring.duplicate();
+        dest.position(slotPos + SLOT_HDR_SIZE);
+        dest.put(src);
+
+        // release the message: the slot sequence number, then the header, after the message data
+        fence();
+        _ring.putLong(slotPos + SLOT_SEQ_POS, seq);
+        fence();
+        _ring.putLong(HDR_WRITE_SEQ_POS, seq);
+        _writeSeq = seq;
+    }
+
+    @Override
+    public int packBuffer(TransportBuffer bufferInt, Error error)
+    {
+        assert (bufferInt != null) : "buffer cannot be null";
+        assert (error != null) : "error cannot be null";
+
+        try
+        {
+            _lock.lock();
+
+            if (_state != ChannelState.ACTIVE || bufferInt != _writeData || !_bufferInUse)
+            {
+                error.channel(this);
+                error.errorId(TransportReturnCodes.FAILURE);
+                error.sysError(0);
+                error.text("shared memory channel not active or buffer not owned by this channel");
+                return TransportReturnCodes.FAILURE;
+            }
+
+            // Packed messages are published by write(), each in its own slot so that readers receive them individually.
+            int end = _writeData.data().position();
+            if (end > (_packedCount > 0 ? _packedEnds[_packedCount - 1] : 0))
+            {
+                if (_packedCount == _packedEnds.length)
+                    _packedEnds = Arrays.copyOf(_packedEnds, _packedCount * 2);
+                _packedEnds[_packedCount++] = end;
+            }
+
+            return _writeData.data().limit() - end;
+        }
+        finally
+        {
+            _lock.unlock();
+        }
+    }
+
+    @Override
+    public int write(TransportBuffer bufferInt, WriteArgs writeArgs, Error error)
+    {
+        assert (bufferInt != null) : "buffer cannot be null";
+        assert (writeArgs != null) : "writeArgs cannot be null";
+        assert (error != null) : "error cannot be null";
+
+        ((WriteArgsImpl)writeArgs)._bytesWritten = 0;
+        ((WriteArgsImpl)writeArgs)._uncompressedBytesWritten = 0;
+
+        try
+        {
+            _lock.lock();
+
+            if (_state != ChannelState.ACTIVE || bufferInt != _writeData || !_bufferInUse)
+            {
+                error.channel(this);
+                error.errorId(TransportReturnCodes.FAILURE);
+                error.sysError(0);
+                error.text("shared memory channel not active or buffer not owned by this channel");
+                return TransportReturnCodes.FAILURE;
+            }
+
+            int length = _writeData.data().position();
+            if (length == 0 && !_packedBuffer)
+            {
+                error.channel(this);
+                error.errorId(TransportReturnCodes.FAILURE);
+                error.sysError(0);
+                error.text("Encoded buffer of length zero cannot be written.");
+                return TransportReturnCodes.FAILURE;
+            }
+
+            int start = 0;
+            for (int i = 0; i < _packedCount; i++)
+            {
+                publish(_writeData.data(), start, _packedEnds[i] - start);
+                start = _packedEnds[i];
+            }
+            if (length > start)
+                publish(_writeData.data(), start, length - start);
+
+            ((WriteArgsImpl)writeArgs)._bytesWritten = length;
+            ((WriteArgsImpl)writeArgs)._uncompressedBytesWritten = length;
+
+            _writeData.data().clear();
+            _bufferInUse = false;
+            return TransportReturnCodes.SUCCESS;
+        }
+        finally
+        {
+            _lock.unlock();
+        }
+    }
+
+    @Override
+    public int releaseBuffer(TransportBuffer bufferInt, Error error)
+    {
+        assert (error != null) : "error cannot be null";
+
+        if (bufferInt == null)
+        {
+            error.channel(this);
+            error.errorId(TransportReturnCodes.FAILURE);
+            error.sysError(0);
+            error.text("buffer cannot be null");
+            return TransportReturnCodes.FAILURE;
+        }
+
+        try
+        {
+            _lock.lock();
+
+            if (_state == ChannelState.INACTIVE)
+            {
+                error.channel(this);
+                error.errorId(TransportReturnCodes.FAILURE);
+                error.sysError(0);
+                error.text("shared memory channel is in inactive state");
+                return TransportReturnCodes.FAILURE;
+            }
+
+            if (_bufferInUse && bufferInt == _writeData)
+            {
+                _bufferInUse = false;
+                _writeData.data().clear();
+            }
+        }
+        finally
+        {
+            _lock.unlock();
+        }
+        return TransportReturnCodes.SUCCESS;
+    }
+
+    @Override
+    public int flush(Error error)
+    {
+        // messages are visible to readers as soon as they are written
+        if (_state == ChannelState.ACTIVE)
+            return TransportReturnCodes.SUCCESS;
+        else
+            return TransportReturnCodes.FAILURE;
+    }
+
+    @Override
+    public int ping(Error error)
+    {
+        // readers detect a closed writer from the segment header, there is nothing to ping
+        if (_state == ChannelState.ACTIVE)
+            return TransportReturnCodes.SUCCESS;
+        else
+            return TransportReturnCodes.FAILURE;
+    }
+
+    @Override
+    public int close(Error error)
+    {
+        assert (error != null) : "error cannot be null";
+
+        if (_state == ChannelState.INACTIVE)
+        {
+            error.channel(this);
+            error.errorId(TransportReturnCodes.FAILURE);
+            error.sysError(0);
+            error.text("shared memory channel is inactive ");
+            return TransportReturnCodes.FAILURE;
+        }
+
+        try
+        {
+            _lock.lock();
+            _state = ChannelState.INACTIVE;
+
+            if (_isWriter)
+            {
+                _ring.putInt(HDR_WRITER_STATE_POS, WRITER_INACTIVE);
+                _bufferInUse = false;
+                if (_server != null)
+                    _server.removeChannel(this);
+            }
+
+            // the mapping itself is released when the buffer is garbage collected
+            _ring = null;
+            _server = null;
+        }
+        finally
+        {
+            _lock.unlock();
+        }
+
+        returnToPool();
+        return TransportReturnCodes.SUCCESS;
+    }
+
+    @Override
+    public int info(ChannelInfo info, Error error)
+    {
+        assert (info != null) : "info cannot be null";
+        assert (error != null) : "error cannot be null";
+
+        if (_state != ChannelState.ACTIVE)
+        {
+            error.channel(this);
+            error.errorId(TransportReturnCodes.FAILURE);
+            error.sysError(0);
+            error.text("channel not in active state ");
+            return TransportReturnCodes.FAILURE;
+        }
+
+        ((ChannelInfoImpl)info).maxFragmentSize(_channelInfo._maxFragmentSize);
+        ((ChannelInfoImpl)info).maxOutputBuffers(_channelInfo._maxOutputBuffers);
+        ((ChannelInfoImpl)info).guaranteedOutputBuffers(_channelInfo._guaranteedOutputBuffers);
+        ((ChannelInfoImpl)info).numInputBuffers(_channelInfo._numInputBuffers);
+        ((ChannelInfoImpl)info).pingTimeout(_channelInfo._pingTimeout);
+        ((ChannelInfoImpl)info).compressionType(CompressionTypes.NONE);
+        return TransportReturnCodes.SUCCESS;
+    }
+
+    @Override
+    public int ioctl(int code, Object value, Error error)
+    {
+        return TransportReturnCodes.SUCCESS;
+    }
+
+    @Override
+    public int ioctl(int code, int value, Error error)
+    {
+        error.channel(this);
+        error.errorId(TransportReturnCodes.FAILURE);
+        error.sysError(0);
+        error.text("Code is not valid.");
+        return TransportReturnCodes.FAILURE;
+    }
+
+    @Override
+    public int bufferUsage(Error error)
+    {
+        if (_state != ChannelState.ACTIVE)
+            return TransportReturnCodes.FAILURE;
+
+        return _bufferInUse ? 1 : 0;
+    }
+
+    /* Number of messages published but not yet read by this reader channel. */
+    long readerLag()
+    {
+        if (_isWriter || _ring == null)
+            return 0;
+
+        return _ring.getLong(HDR_WRITE_SEQ_POS) - _readSeq + 1;
+    }
+
+    @Override
+    public int majorVersion()
+    {
+        return _majorVersion;
+    }
+
+    @Override
+    public int minorVersion()
+    {
+        return _minorVersion;
+    }
+
+    @Override
+    public int protocolType()
+    {
+        return _protocolType;
+    }
+
+    @Override
+    public int state()
+    {
+        return _state;
+    }
+
+    @Override @Deprecated
+    public SocketChannel scktChannel()
+    {
+        return null;
+    }
+
+    @Override @Deprecated
+    public SocketChannel oldScktChannel()
+    {
+        return null;
+    }
+
+    /* The shared memory transport has no selectable channel; readers poll read() until READ_WOULD_BLOCK. */
+    @Override
+    public SelectableChannel selectableChannel()
+    {
+        return null;
+    }
+
+    @Override
+    public SelectableChannel oldSelectableChannel()
+    {
+        return null;
+    }
+
+    @Override
+    public int pingTimeout()
+    {
+        return _channelInfo._pingTimeout;
+    }
+
+    @Override
+    public Object userSpecObject()
+    {
+        return _userSpecObject;
+    }
+
+    @Override
+    public boolean blocking()
+    {
+        return false;
+    }
+
+    @Override
+    public int reconnectClient(Error error)
+    {
+        return TransportReturnCodes.SUCCESS;
+    }
+
+    @Override
+    public String hostname()
+    {
+        return _segmentName;
+    }
+}
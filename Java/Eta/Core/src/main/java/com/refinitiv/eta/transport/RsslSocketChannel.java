@@ -1547,6 +1547,117 @@ class RsslSocketChannel extends EtaNode implements Channel
         return data;
     }
 
+    @Override
+    public int readBatch(ReadBatch batch, ReadArgs readArgs, Error error)
+    {
+        assert (batch != null) : "batch cannot be null";
+        assert (readArgs != null) : "readArgs cannot be null";
+        assert (error != null) : "error cannot be null";
+
+        ReadBatchImpl readBatch = (ReadBatchImpl)batch;
+        readBatch.clear();
+
+        if (!_readLock.trylock())
+        {
+            // failed to obtain the lock
+            ((ReadArgsImpl)readArgs).readRetVal(TransportReturnCodes.READ_IN_PROGRESS);
+            return TransportReturnCodes.READ_IN_PROGRESS;
+        }
+
+        try
+        {
+            // the first message is read as usual, performing network IO if needed (the read lock is reentrant)
+            TransportBuffer data = read(readArgs, error);
+            int returnValue = readArgs.readRetVal();
+            if (data != null)
+            {
+                readBatch.add(data);
+            }
+            else
+            {
+                if (returnValue == TransportReturnCodes.READ_PING)
+                    readBatch._pingReceived = true;
+                return returnValue;
+            }
+
+            if (!readsBatchInPlace())
+                return returnValue;
+
+            // The remaining complete messages are taken from the read IO buffer without further network IO,
+            // so the views of the messages already added to the batch stay valid. A message whose data was
+            // decompressed or reassembled into another buffer ends the batch, since that buffer is reused
+            // by the next message.
+            ReadArgsImpl readArgsImpl = (ReadArgsImpl)readArgs;
+            int uncompressedBytesRead = readArgsImpl._uncompressedBytesRead;
+            try
+            {
+                while (returnValue > TransportReturnCodes.SUCCESS && !readBatch.isFull() && isDataInReadIoBuffer())
+                {
+                    readArgsImpl._uncompressedBytesRead = 0;
+                    updateState(readArgsImpl, error);
+
+                    if (_readBufStateMachine.state() != ReadBufferState.KNOWN_COMPLETE)
+                    {
+                        // the remaining data is an incomplete message
+                        returnValue = (_readIoBuffer.buffer().position() - _readBufStateMachine.currentMessagePosition());
+                        break;
+                    }
+
+                    int entireMessageLength = _readBufStateMachine.currentMessageLength();
+                    if (getProtocolFunctions().isPingMessage())
+                    {
+                        readBatch._pingReceived = true;
+                        returnValue = (_readIoBuffer.buffer().position() - (_readBufStateMachine.currentMessagePosition() + entireMessageLength));
+                    }
+                    else
+                    {
+                        returnValue = updateAppReadBuffer(entireMessageLength, readArgsImpl);
+                        if (_readBufStateMachine.dataLength() != 0)
+                            readBatch.add(_appReadBuffer);
+                        uncompressedBytesRead += readArgsImpl._uncompressedBytesRead;
+                    }
+                }
+            }
+            catch (CompressorException e)
+            {
+                _state = ChannelState.CLOSED;
+                if (_httpProxy)
+                {
+                    _proxyAuthenticator = null;
+                }
+                returnValue = TransportReturnCodes.FAILURE;
+                error.channel(this);
+                error.errorId(TransportReturnCodes.FAILURE);
+                error.sysError(0);
+                populateErrorDetails(error, TransportReturnCodes.FAILURE, "CompressorException: " + e.getLocalizedMessage());
+            }
+
+            readArgsImpl._uncompressedBytesRead = uncompressedBytesRead;
+            readArgsImpl.readRetVal(returnValue);
+            return returnValue;
+        }
+        finally
+        {
+            _readLock.unlock();
+        }
+    }
+
+    /* Returns true if readBatch(ReadBatch, ReadArgs, Error) can return several messages per call,
+     * which is when the messages are RIPC messages read directly into the read IO buffer. */
+    protected boolean readsBatchInPlace()
+    {
+        return !isWebSocketConnection && _providerHelper == null;
+    }
+
+    /* Returns true if the data of the current message is in the read IO buffer. */
+    private boolean isDataInReadIoBuffer()
+    {
+        return _readBufStateMachine.state() == ReadBufferState.KNOWN_COMPLETE
+                && _readBufStateMachine.dataBuffer() == _readIoBuffer
+                && (_readBufStateMachine.subState() == ReadBufferSubState.NORMAL
+                    || _readBufStateMachine.subState() == ReadBufferSubState.PROCESSING_PACKED_MESSAGE);
+    }
+
     /* Updates the state machine when RsslSocketChannel::read(ReadArgs, Error) is invoked */
     protected void updateState(ReadArgsImpl readArgs, Error error)
     {
@@ -3701,9 +3812,14 @@ class RsslSocketChannel extends EtaNode implements Channel
                     {
                     	_compressor.compressnocontexttakeover();
                     }
+
+                    if(getWsSession().hasNoInboundContext())
+                    {
+                    	_compressor.decompressnocontexttakeover();
+                    }
                     
                     _compressor.maxCompressionLength(_internalMaxFragmentSize);
-                    _sessionOutCompression = Ripc.CompressionTypes.ZLIB;
+                    _sessionOutCompression = getWsSession().hasNoOutboundCompression() ? Ripc.CompressionTypes.NONE : Ripc.CompressionTypes.ZLIB;
                 }
             }
             else
@@ -3734,8 +3850,18 @@ class RsslSocketChannel extends EtaNode implements Channel
                     {
                     	_compressor.compressnocontexttakeover();
                     }
+
+                    if(getWsSession().hasNoInboundContext())
+                    {
+                    	_compressor.decompressnocontexttakeover();
+                    }
                     
                     _compressor.maxCompressionLength(_internalMaxFragmentSize);
+
+                    if(getWsSession().hasNoOutboundCompression())
+                    {
+                    	_sessionOutCompression = Ripc.CompressionTypes.NONE;
+                    }
                 }
             }
             wsProtocolFunctions.initializeBufferAndFrameData();
@@ -19,6 +19,8 @@ import java.nio.ByteBuffer;
 import java.nio.channels.SelectableChannel;
 import java.nio.channels.ServerSocketChannel;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.refinitiv.eta.codec.Codec;
 
@@ -30,6 +32,15 @@ class ServerImpl extends EtaNode implements Server
     public static final String OS_NAME = System.getProperty("os.name");
     public static final String JAVA_VERSION = System.getProperty("java.version");
 
+    /* Cache of free shared pool buffers for the threads mapped to one stripe.
+     * The caches sit in front of the shared pool when the shared pool lock is enabled,
+     * so threads writing to different channels do not all contend on the shared pool lock. */
+    static class BufferCache
+    {
+        final Lock _lock = new ReentrantLock();
+        final EtaQueue _buffers = new EtaQueue();
+    }
+
     class SharedPool extends Pool
     {
         SharedPool(Object o)
@@ -38,19 +49,48 @@ class ServerImpl extends EtaNode implements Server
             _isSharedPoolBuffer = true;
         }
 
-        int _currentUse = 0; // number of shared buffers currently in use.
-        int _peakUse = 0;    // peak number of shared buffers used.
+        final AtomicInteger _currentUse = new AtomicInteger(); // number of shared buffers currently in use.
+        final AtomicInteger _peakUse = new AtomicInteger();    // peak number of shared buffers used.
         int _sharedPoolBufferCount = 0; // number of shared pool buffers created.
         Lock _sharedPoolLock;
 
+        BufferCache[] _caches; // null unless the shared pool lock is enabled.
+        int _cacheMask;
+        final AtomicLong _cacheMisses = new AtomicLong(); // polls not served by the thread's cache.
+        final AtomicLong _poolMisses = new AtomicLong();  // polls that found no free buffer in the shared pool.
+
+        /* Enables the per thread stripe caches. Called when the server is bound. */
+        void enableCaches()
+        {
+            int numCaches = 1;
+            while (numCaches < Runtime.getRuntime().availableProcessors() && numCaches < MAX_BUFFER_CACHES)
+                numCaches <<= 1;
+
+            _caches = new BufferCache[numCaches];
+            for (int i = 0; i < numCaches; i++)
+                _caches[i] = new BufferCache();
+            _cacheMask = numCaches - 1;
+        }
+
+        BufferCache cache()
+        {
+            return _caches[(int)Thread.currentThread().getId() & _cacheMask];
+        }
+
         @Override
         void add(EtaNode node)
         {
+            if (_caches != null)
+            {
+                addToCache(node);
+                return;
+            }
+
             try
             {
                 _sharedPoolLock.lock();
                 super.add(node);
-                --_currentUse;
+                _currentUse.decrementAndGet();
             }
             finally
             {
@@ -60,27 +100,44 @@ class ServerImpl extends EtaNode implements Server
 
         EtaNode poll()
         {
+            if (_caches != null)
+                return pollFromCache();
+
             _sharedPoolLock.lock();
             SocketBuffer buffer = null;
             try
             {
-                buffer = (SocketBuffer)super.poll();
+                buffer = pollShared();
                 if (buffer != null)
-                {
-                    ++_currentUse;
-                }
-                else if (_sharedPoolBufferCount < _bindOpts.sharedPoolSize())
+                    updateUse();
+            }
+            finally
+            {
+                _sharedPoolLock.unlock();
+            }
+
+            return buffer;
+        }
+
+        /* Polls one buffer from the shared pool, creating buffers in bulk while the sharedPoolSize allows.
+         * Called with _sharedPoolLock held. */
+        SocketBuffer pollShared()
+        {
+            SocketBuffer buffer = (SocketBuffer)super.poll();
+            if (buffer == null)
+            {
+                _poolMisses.incrementAndGet();
+                if (_sharedPoolBufferCount < _bindOpts.sharedPoolSize())
                 {
                     // first create one buffer and use it
                     buffer = new SocketBuffer(this, bufferSize());
-                    ++_peakUse;
-                    ++_currentUse;
                     ++_sharedPoolBufferCount;
 
                     // then create more buffers, as they should be added to pool in bulk
                     int buffersToAdd = ADDED_BUFFERS - 1;
-                    if (buffersToAdd > _bindOpts.sharedPoolSize() - _currentUse)
-                        buffersToAdd = _bindOpts.sharedPoolSize() - _currentUse;
+                    int currentUse = _currentUse.get() + 1;
+                    if (buffersToAdd > _bindOpts.sharedPoolSize() - currentUse)
+                        buffersToAdd = _bindOpts.sharedPoolSize() - currentUse;
                     for (int i = 0; i < buffersToAdd; i++)
                     {
                         EtaNode node;
@@ -89,19 +146,157 @@ class ServerImpl extends EtaNode implements Server
                         super.add(node);
                     }
                 }
-                if (_currentUse > _peakUse)
+            }
+            return buffer;
+        }
+
+        void updateUse()
+        {
+            int currentUse = _currentUse.incrementAndGet();
+            int peakUse;
+            while (currentUse > (peakUse = _peakUse.get()) && !_peakUse.compareAndSet(peakUse, currentUse));
+        }
+
+        SocketBuffer pollFromCache()
+        {
+            BufferCache cache = cache();
+            SocketBuffer buffer;
+            cache._lock.lock();
+            try
+            {
+                buffer = (SocketBuffer)cache._buffers.poll();
+                if (buffer == null)
+                {
+                    _cacheMisses.incrementAndGet();
+                    buffer = refillCache(cache);
+                }
+                if (buffer != null)
                 {
-                    _peakUse = _currentUse;
+                    buffer._inPool = false;
+                    updateUse();
                 }
             }
             finally
             {
-                _sharedPoolLock.unlock();
+                cache._lock.unlock();
             }
 
+            if (buffer == null)
+                buffer = pollFromOtherCaches(cache);
+
             return buffer;
         }
 
+        /* Moves up to BUFFER_CACHE_BATCH buffers from the shared pool into cache and returns one of them.
+         * Called with the cache lock held. */
+        SocketBuffer refillCache(BufferCache cache)
+        {
+            _sharedPoolLock.lock();
+            try
+            {
+                SocketBuffer buffer = pollShared();
+                if (buffer == null)
+                    return null;
+
+                for (int i = 1; i < BUFFER_CACHE_BATCH; i++)
+                {
+                    EtaNode node = _queue.poll();
+                    if (node == null)
+                        break;
+                    cache._buffers.add(node);
+                }
+                return buffer;
+            }
+            finally
+            {
+                _sharedPoolLock.unlock();
+            }
+        }
+
+        /* The shared pool is exhausted; take a free buffer cached for another stripe. */
+        SocketBuffer pollFromOtherCaches(BufferCache ownCache)
+        {
+            for (BufferCache cache : _caches)
+            {
+                if (cache == ownCache || !cache._lock.trylock())
+                    continue;
+                try
+                {
+                    SocketBuffer buffer = (SocketBuffer)cache._buffers.poll();
+                    if (buffer != null)
+                    {
+                        buffer._inPool = false;
+                        updateUse();
+                        return buffer;
+                    }
+                }
+                finally
+                {
+                    cache._lock.unlock();
+                }
+            }
+            return null;
+        }
+
+        /* Returns the buffer to the thread's cache, handing a batch back to the shared pool
+         * once the cache holds more than two batches. */
+        void addToCache(EtaNode node)
+        {
+            BufferCache cache = cache();
+            cache._lock.lock();
+            try
+            {
+                node._inPool = true;
+                cache._buffers.add(node);
+                _currentUse.decrementAndGet();
+
+                if (cache._buffers.size() > 2 * BUFFER_CACHE_BATCH)
+                {
+                    _sharedPoolLock.lock();
+                    try
+                    {
+                        for (int i = 0; i < BUFFER_CACHE_BATCH; i++)
+                            _queue.add(cache._buffers.poll());
+                    }
+                    finally
+                    {
+                        _sharedPoolLock.unlock();
+                    }
+                }
+            }
+            finally
+            {
+                cache._lock.unlock();
+            }
+        }
+
+        /* Moves the cached buffers back to the shared pool, so they can be shrunk or released.
+         * With waitForCaches false, caches in use by other threads are skipped; this is the case when the
+         * caller holds _sharedPoolLock, as the cache lock is always taken before it. */
+        void flushCaches(boolean waitForCaches)
+        {
+            if (_caches == null)
+                return;
+
+            for (BufferCache cache : _caches)
+            {
+                if (waitForCaches)
+                    cache._lock.lock();
+                else if (!cache._lock.trylock())
+                    continue;
+                try
+                {
+                    EtaNode node;
+                    while ((node = cache._buffers.poll()) != null)
+                        _queue.add(node);
+                }
+                finally
+                {
+                    cache._lock.unlock();
+                }
+            }
+        }
+
         int info(ServerInfo info, Error error)
         {
             int ret = TransportReturnCodes.SUCCESS;
@@ -110,8 +305,10 @@ class ServerImpl extends EtaNode implements Server
                 _sharedPoolLock.lock();
                 if (_state == ChannelState.ACTIVE)
                 {
-                    ((ServerInfoImpl)info).currentBufferUsage(_currentUse);
-                    ((ServerInfoImpl)info).peakBufferUsage(_peakUse);
+                    ((ServerInfoImpl)info).currentBufferUsage(_currentUse.get());
+                    ((ServerInfoImpl)info).peakBufferUsage(_peakUse.get());
+                    ((ServerInfoImpl)info).sharedPoolCacheMisses(_cacheMisses.get());
+                    ((ServerInfoImpl)info).sharedPoolMisses(_poolMisses.get());
                 }
                 else
                 {
@@ -136,7 +333,7 @@ class ServerImpl extends EtaNode implements Server
             {
                 _sharedPoolLock.lock();
                 if (_state == ChannelState.ACTIVE)
-                    ret = _currentUse;
+                    ret = _currentUse.get();
                 else
                 {
                     error.channel(null);
@@ -155,11 +352,13 @@ class ServerImpl extends EtaNode implements Server
 
         void resetPeakUse()
         {
-            _peakUse = _currentUse;
+            _peakUse.set(_currentUse.get());
         }
     }
 
     private static final int ADDED_BUFFERS = 100;
+    private static final int MAX_BUFFER_CACHES = 64;
+    static final int BUFFER_CACHE_BATCH = 16;
     // memory management
     final ProtocolInt _transport;
     final Pool _sharedPool = new SharedPool(this);
@@ -261,9 +460,16 @@ class ServerImpl extends EtaNode implements Server
             _state = ChannelState.ACTIVE;
             // set shared pool lock
             if (_bindOpts.sharedPoolLock())
+            {
                 ((SharedPool)_sharedPool)._sharedPoolLock = _realSharedPoolLock;
+                if (((SharedPool)_sharedPool)._caches == null)
+                    ((SharedPool)_sharedPool).enableCaches();
+            }
             else
+            {
                 ((SharedPool)_sharedPool)._sharedPoolLock = _dummySharedPoolLock;
+                ((SharedPool)_sharedPool)._caches = null;
+            }
 
             if(_bindOpts.componentVersion() != null)
             {
@@ -613,6 +819,7 @@ class ServerImpl extends EtaNode implements Server
     int shrinkSharedPoolBuffers(int numToShrink)
     {
         Pool bufferPool = _transport.getPool(bufferSize());
+        ((SharedPool)_sharedPool).flushCaches(false);
         return bufferPool.add(_sharedPool, numToShrink);
     }
 
@@ -767,6 +974,7 @@ class ServerImpl extends EtaNode implements Server
 
             // return buffers from the shared pool to global pool
             Pool pool = _transport.getPool(bufferSize());
+            ((SharedPool)_sharedPool).flushCaches(true);
             pool.add(_sharedPool, _sharedPool.size());
 
             // return this server to server pool
@@ -32,6 +32,23 @@ public interface ServerInfo
      */
     public int peakBufferUsage();
 
+    /**
+     * The number of shared pool buffer requests that were not served by the
+     * per thread buffer cache and went to the shared pool. The caches are used
+     * when {@link BindOptions#sharedPoolLock(boolean)} is enabled.
+     * 
+     * @return the sharedPoolCacheMisses
+     */
+    public long sharedPoolCacheMisses();
+
+    /**
+     * The number of shared pool buffer requests that found no free buffer in
+     * the shared pool, so a buffer had to be created or none was available.
+     * 
+     * @return the sharedPoolMisses
+     */
+    public long sharedPoolMisses();
+
     /**
      * Clears ETA Server Info.
      */
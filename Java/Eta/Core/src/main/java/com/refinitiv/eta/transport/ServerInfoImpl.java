@@ -14,6 +14,8 @@ public class ServerInfoImpl implements ServerInfo
 {
     private int _currentBufferUsage;
     private int _peakBufferUsage;
+    private long _sharedPoolCacheMisses;
+    private long _sharedPoolMisses;
 
     ServerInfoImpl()
     {
@@ -24,7 +26,9 @@ public class ServerInfoImpl implements ServerInfo
     {
         return "ServerInfo" + "\n" + 
                "\tcurrentBufferUsage: " + _currentBufferUsage + "\n" + 
-               "\tpeakBufferUsage: " + _peakBufferUsage;
+               "\tpeakBufferUsage: " + _peakBufferUsage + "\n" + 
+               "\tsharedPoolCacheMisses: " + _sharedPoolCacheMisses + "\n" + 
+               "\tsharedPoolMisses: " + _sharedPoolMisses;
     }
 
     public void currentBufferUsage(int currentBufferUsage)
@@ -49,10 +53,34 @@ public class ServerInfoImpl implements ServerInfo
         return _peakBufferUsage;
     }
     
+    public void sharedPoolCacheMisses(long sharedPoolCacheMisses)
+    {
+        _sharedPoolCacheMisses = sharedPoolCacheMisses;
+    }
+
+    @Override
+    public long sharedPoolCacheMisses()
+    {
+        return _sharedPoolCacheMisses;
+    }
+
+    public void sharedPoolMisses(long sharedPoolMisses)
+    {
+        _sharedPoolMisses = sharedPoolMisses;
+    }
+
+    @Override
+    public long sharedPoolMisses()
+    {
+        return _sharedPoolMisses;
+    }
+    
     @Override
     public void clear()
     {
         _currentBufferUsage = 0;
         _peakBufferUsage = 0;
+        _sharedPoolCacheMisses = 0;
+        _sharedPoolMisses = 0;
     }
 }
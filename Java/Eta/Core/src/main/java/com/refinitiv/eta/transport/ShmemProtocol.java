@@ -0,0 +1,167 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.transport;
+
+import java.io.File;
+import java.util.HashMap;
+
+/* Pure Java implementation of the unidirectional shared memory transport (ConnectionTypes.UNIDIR_SHMEM).
+ *
+ * The server side (bind/accept) owns a memory-mapped ring of sequence-numbered slots and is the only writer.
+ * Any number of client channels (connect) map the same file read-only and consume the ring at their own pace.
+ * A client that lags the writer by more than ShmemOpts.maxReaderLag() messages, or by more than the
+ * ring size, is disconnected. */
+public class ShmemProtocol implements ProtocolInt
+{
+    class TrackingPool extends Pool
+    {
+        TrackingPool(Object o)
+        {
+            super(o);
+        }
+
+        // This pool is used for channels and servers.
+        // It keeps track of the channels/servers that are active in addition to the channels/servers that are available.
+        final EtaQueue _active = new EtaQueue();
+
+        @Override
+        void add(EtaNode node)
+        {
+            // remove the node from _active queue
+            if (_active.size() > 0)
+            {
+                _active.remove(node);
+            }
+
+            // add back to channel queue
+            super.add(node);
+        }
+    }
+
+    static final String SEGMENT_FILE_PREFIX = "etaj_shmem_";
+
+    final Pool _channelPool = new TrackingPool(this);
+    final Pool _serverPool = new TrackingPool(this);
+    final HashMap<Integer, Pool> _writeBufferChannelPools = new HashMap<Integer, Pool>();
+
+    ShmemProtocol()
+    {
+        // The global lock is locked by Transport
+    }
+
+    /* Resolves the file backing the shared memory segment.
+     * A name containing a path separator is used as is, otherwise the segment is created in java.io.tmpdir. */
+    static File segmentFile(String name)
+    {
+        if (name.indexOf('/') >= 0 || name.indexOf(File.separatorChar) >= 0)
+            return new File(name);
+
+        return new File(System.getProperty("java.io.tmpdir"), SEGMENT_FILE_PREFIX + name);
+    }
+
+    @Override
+    public Channel channel(ConnectOptions options, Error error)
+    {
+        // The global lock is locked by Transport
+        RsslShmemChannel channel = (RsslShmemChannel)_channelPool.poll();
+        if (channel == null)
+        {
+            channel = new RsslShmemChannel(this, _channelPool);
+        }
+
+        int ret = channel.connect(options, error);
+        if (ret != TransportReturnCodes.SUCCESS)
+        {
+            channel.returnToPool();
+            return null;
+        }
+        ((TrackingPool)_channelPool)._active.add(channel);
+        return channel;
+    }
+
+    @Override
+    public Channel channel(AcceptOptions options, Server srvr, Object object, Error error)
+    {
+        // The global lock is locked by Transport
+        RsslShmemChannel channel = (RsslShmemChannel)_channelPool.poll();
+        if (channel == null)
+        {
+            channel = new RsslShmemChannel(this, _channelPool);
+        }
+
+        int ret = channel.accept(options, (ShmemServerImpl)srvr, error);
+        if (ret != TransportReturnCodes.SUCCESS)
+        {
+            channel.returnToPool();
+            return null;
+        }
+        ((TrackingPool)_channelPool)._active.add(channel);
+        return channel;
+    }
+
+    @Override
+    public Server server(BindOptions opts, Error error)
+    {
+        // The global lock is locked by Transport
+        ShmemServerImpl server = (ShmemServerImpl)_serverPool.poll();
+        if (server == null)
+        {
+            server = new ShmemServerImpl(this, _serverPool);
+        }
+
+        int ret = server.bind(opts, error);
+        if (ret != TransportReturnCodes.SUCCESS)
+        {
+            server.returnToPool();
+            return null;
+        }
+        ((TrackingPool)_serverPool)._active.add(server);
+        return server;
+    }
+
+    @Override
+    public Pool getPool(int poolSpec)
+    {
+        Pool pool = _writeBufferChannelPools.get(poolSpec);
+        if (pool == null)
+            pool = new Pool(this);
+        _writeBufferChannelPools.put(poolSpec, pool);
+        return pool;
+    }
+
+    @Override
+    public void uninitialize()
+    {
+        // The global lock is locked by Transport.
+
+        // The error is ignored, since the application is closing.
+        Error error = new ErrorImpl();
+        RsslShmemChannel channel;
+        while ((channel = (RsslShmemChannel)((TrackingPool)_channelPool)._active.poll()) != null)
+        {
+            if (channel._state == ChannelState.ACTIVE)
+                channel.close(error);
+        }
+        _channelPool.clear();
+
+        ShmemServerImpl server;
+        while ((server = (ShmemServerImpl)((TrackingPool)_serverPool)._active.poll()) != null)
+        {
+            if (server._state == ChannelState.ACTIVE)
+                server.close(error);
+        }
+        _serverPool.clear();
+
+        for (Integer key : _writeBufferChannelPools.keySet())
+        {
+            _writeBufferChannelPools.get(key).clear();
+        }
+        _writeBufferChannelPools.clear();
+    }
+}
@@ -0,0 +1,281 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.transport;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.ServerSocketChannel;
+
+/* Server side of the shared memory transport.
+ *
+ * bind() creates and formats the shared memory segment, accept() returns the single writer channel.
+ * The ring holds BindOptions.guaranteedOutputBuffers() slots (rounded up to a power of two),
+ * each sized to BindOptions.maxFragmentSize(). */
+class ShmemServerImpl extends EtaNode implements Server
+{
+    final ShmemProtocol _transport;
+    int _state = ChannelState.INACTIVE;
+    Object _userSpecObject;
+    BindOptionsImpl _bindOpts = new BindOptionsImpl();
+
+    File _segmentFile;
+    MappedByteBuffer _ring;
+    int _slotCount;
+    int _slotSize;
+    int _maxFragmentSize;
+    RsslShmemChannel _writer;
+    private volatile int _fence; // written to order the plain accesses to the ring, as in RsslShmemChannel
+
+    ShmemServerImpl(ShmemProtocol transport, Pool pool)
+    {
+        _transport = transport;
+        pool(pool);
+    }
+
+    private void fence()
+    {
+        _fence = 0;
+    }
+
+    int bind(BindOptions opts, Error error)
+    {
+        if (opts.serviceName() == null || opts.serviceName().isEmpty())
+        {
+            error.channel(null);
+            error.errorId(TransportReturnCodes.FAILURE);
+            error.sysError(0);
+            error.text("serviceName must be set to name the shared memory segment");
+            return TransportReturnCodes.FAILURE;
+        }
+
+        if (opts.maxFragmentSize() <= 0 || opts.guaranteedOutputBuffers() <= 0)
+        {
+            error.channel(null);
+            error.errorId(TransportReturnCodes.FAILURE);
+            error.sysError(0);
+            error.text("maxFragmentSize and guaranteedOutputBuffers must be greater than zero for shared memory");
+            return TransportReturnCodes.FAILURE;
+        }
+
+        if (opts.guaranteedOutputBuffers() > RsslShmemChannel.MAX_SLOT_COUNT)
+        {
+            error.channel(null);
+            error.errorId(TransportReturnCodes.FAILURE);
+            error.sysError(0);
+            error.text("guaranteedOutputBuffers must not exceed " + RsslShmemChannel.MAX_SLOT_COUNT + " for shared memory");
+            return TransportReturnCodes.FAILURE;
+        }
+
+        ((BindOptionsImpl)opts).copyTo(_bindOpts);
+        _userSpecObject = opts.userSpecObject();
+        _maxFragmentSize = opts.maxFragmentSize();
+        _slotSize = RsslShmemChannel.slotSize(_maxFragmentSize);
+        _slotCount = 1;
+        while (_slotCount < opts.guaranteedOutputBuffers())
+            _slotCount <<= 1;
+
+        _segmentFile = ShmemProtocol.segmentFile(opts.serviceName());
+        long segmentSize = RsslShmemChannel.HDR_SIZE + (long)_slotCount * _slotSize;
+        if (segmentSize > Integer.MAX_VALUE)
+        {
+            error.channel(null);
+            error.errorId(TransportReturnCodes.FAILURE);
+            error.sysError(0);
+            error.text("shared memory segment of " + segmentSize + " bytes exceeds the maximum mappable size");
+            return TransportReturnCodes.FAILURE;
+        }
+
+        try (RandomAccessFile file = new RandomAccessFile(_segmentFile, "rw"))
+        {
+            file.setLength(segmentSize);
+            _ring = file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+        catch (IOException e)
+        {
+            error.channel(null);
+            error.errorId(TransportReturnCodes.FAILURE);
+            error.sysError(0);
+            error.text("unable to create shared memory segment " + _segmentFile + ": " + e.getLocalizedMessage());
+            return TransportReturnCodes.FAILURE;
+        }
+
+        // Format the header last so that clients never see a half initialized segment.
+        _ring.putInt(RsslShmemChannel.HDR_MAGIC_POS, 0);
+        fence();
+        _ring.putInt(RsslShmemChannel.HDR_VERSION_POS, RsslShmemChannel.SEGMENT_VERSION);
+        _ring.putInt(RsslShmemChannel.HDR_SLOT_COUNT_POS, _slotCount);
+        _ring.putInt(RsslShmemChannel.HDR_SLOT_SIZE_POS, _slotSize);
+        _ring.putInt(RsslShmemChannel.HDR_PROTOCOL_TYPE_POS, opts.protocolType());
+        _ring.putInt(RsslShmemChannel.HDR_MAJOR_VERSION_POS, opts.majorVersion());
+        _ring.putInt(RsslShmemChannel.HDR_MINOR_VERSION_POS, opts.minorVersion());
+        _ring.putInt(RsslShmemChannel.HDR_WRITER_STATE_POS, RsslShmemChannel.WRITER_INACTIVE);
+        _ring.putLong(RsslShmemChannel.HDR_WRITE_SEQ_POS, 0);
+        for (int i = 0; i < _slotCount; i++)
+            _ring.putLong(RsslShmemChannel.HDR_SIZE + i * _slotSize, 0);
+        fence();
+        _ring.putInt(RsslShmemChannel.HDR_MAGIC_POS, RsslShmemChannel.SEGMENT_MAGIC);
+
+        _writer = null;
+        _state = ChannelState.ACTIVE;
+        return TransportReturnCodes.SUCCESS;
+    }
+
+    @Override
+    public Channel accept(AcceptOptions opts, Error error)
+    {
+        if (_state != ChannelState.ACTIVE)
+        {
+            error.channel(null);
+            error.errorId(TransportReturnCodes.FAILURE);
+            error.sysError(0);
+            error.text("shared memory server not in active state");
+            return null;
+        }
+
+        if (_writer != null && _writer._state == ChannelState.ACTIVE)
+        {
+            error.channel(null);
+            error.errorId(TransportReturnCodes.FAILURE);
+            error.sysError(0);
+            error.text("shared memory server already has an active writer channel");
+            return null;
+        }
+
+        try
+        {
+            Transport._globalLock.lock();
+            _writer = (RsslShmemChannel)_transport.channel(opts, this, null, error);
+        }
+        finally
+        {
+            Transport._globalLock.unlock();
+        }
+
+        return _writer;
+    }
+
+    void removeChannel(RsslShmemChannel channel)
+    {
+        if (_writer == channel)
+            _writer = null;
+    }
+
+    @Override
+    public int info(ServerInfo info, Error error)
+    {
+        info.clear();
+        return TransportReturnCodes.SUCCESS;
+    }
+
+    @Override
+    public int ioctl(int code, Object value, Error error)
+    {
+        error.channel(null);
+        error.errorId(TransportReturnCodes.FAILURE);
+        error.sysError(0);
+        error.text("Code is not valid.");
+        return TransportReturnCodes.FAILURE;
+    }
+
+    @Override
+    public int ioctl(int code, int value, Error error)
+    {
+        error.channel(null);
+        error.errorId(TransportReturnCodes.FAILURE);
+        error.sysError(0);
+        error.text("Code is not valid.");
+        return TransportReturnCodes.FAILURE;
+    }
+
+    @Override
+    public int bufferUsage(Error error)
+    {
+        return 0;
+    }
+
+    @Override
+    public int close(Error error)
+    {
+        if (_state == ChannelState.INACTIVE)
+        {
+            error.channel(null);
+            error.errorId(TransportReturnCodes.FAILURE);
+            error.sysError(0);
+            error.text("shared memory server is already inactive ");
+            return TransportReturnCodes.FAILURE;
+        }
+
+        _state = ChannelState.INACTIVE;
+
+        if (_writer != null && _writer._state == ChannelState.ACTIVE)
+            _writer.close(error);
+        _writer = null;
+
+        // Readers keep their own mapping, so unlinking the file does not affect channels still draining the ring.
+        _ring.putInt(RsslShmemChannel.HDR_WRITER_STATE_POS, RsslShmemChannel.WRITER_INACTIVE);
+        _ring = null;
+        if (!_segmentFile.delete())
+            _segmentFile.deleteOnExit();
+
+        returnToPool();
+        return TransportReturnCodes.SUCCESS;
+    }
+
+    @Override @Deprecated
+    public ServerSocketChannel srvrScktChannel()
+    {
+        return null;
+    }
+
+    /* The shared memory transport has no selectable channel; writers and readers are polled. */
+    @Override
+    public SelectableChannel selectableChannel()
+    {
+        return null;
+    }
+
+    @Override
+    public int portNumber()
+    {
+        return 0;
+    }
+
+    @Override
+    public Object userSpecObject()
+    {
+        return _userSpecObject;
+    }
+
+    @Override
+    public int state()
+    {
+        return _state;
+    }
+
+    @Override
+    public int connectionType()
+    {
+        return ConnectionTypes.UNIDIR_SHMEM;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "Server" + "\n" +
+               "\tsegment: " + _segmentFile + "\n" +
+               "\tslotCount: " + _slotCount + "\n" +
+               "\tslotSize: " + _slotSize + "\n" +
+               "\tstate: " + _state + "\n" +
+               "\tuserSpecObject: " + _userSpecObject + "\n";
+    }
+}
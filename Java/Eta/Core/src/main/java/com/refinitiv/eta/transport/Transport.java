@@ -78,6 +78,7 @@ public class Transport
 
     private static final int HIDDEN_TCP_JNI = 111; // JNI TCP implementation (used only for testing)
     private static Protocol _hiddenTcpJni;         // JNI TCP implementation (used only for testing)
+    private static Protocol _reliableMcastJni;     // JNI RRCP implementation, see MCastOpts.nativeTransport()
 
     private static int _socketProtocolPoolLimit = -1;
 
@@ -195,6 +196,11 @@ public class Transport
                 _hiddenTcpJni.uninitialize();
                 _hiddenTcpJni = null;
             }
+            if (_reliableMcastJni != null)
+            {
+                _reliableMcastJni.uninitialize();
+                _reliableMcastJni = null;
+            }
             _globalLock.unlock();
         }
 
@@ -334,10 +340,26 @@ public class Transport
                             channel = transport.channel(opts, error);
                             break;
                         case ConnectionTypes.RELIABLE_MCAST:
+                            if (opts.multicastOpts().nativeTransport()) // RRCP, interoperates with C/C++ applications
+                            {
+                                if (_reliableMcastJni == null)
+                                {
+                                    _reliableMcastJni = new JNIProtocol();
+                                }
+                                channel = _reliableMcastJni.channel(opts, error);
+                                break;
+                            }
+                            if (transport == null) // not initialized yet - first connection for this transport
+                            {
+                                transport = new ReliableMulticastProtocol();
+                                _transports[opts.connectionType()] = transport;
+                            }
+                            channel = transport.channel(opts, error);
+                            break;
                         case ConnectionTypes.UNIDIR_SHMEM:
                             if (transport == null) // not initialized yet - first connection for this transport
                             {
-                                transport = new JNIProtocol();
+                                transport = new ShmemProtocol();
                                 _transports[opts.connectionType()] = transport;
                             }
                             channel = transport.channel(opts, error);
@@ -436,10 +458,17 @@ public class Transport
                             server = transport.server(opts, error);
                             break;
                         case ConnectionTypes.RELIABLE_MCAST:
+                            if (transport == null) // not initialized yet - first connection for this transport
+                            {
+                                transport = new ReliableMulticastProtocol();
+                                _transports[opts.connectionType()] = transport;
+                            }
+                            server = transport.server(opts, error);
+                            break;
                         case ConnectionTypes.UNIDIR_SHMEM:
                             if (transport == null) // not initialized yet - first connection for this transport
                             {
-                                transport = new JNIProtocol();
+                                transport = new ShmemProtocol();
                                 _transports[opts.connectionType()] = transport;
                             }
                             server = transport.server(opts, error);
@@ -124,6 +124,21 @@ public class TransportFactory
         return new ReadArgsImpl();
     }
 
+    /**
+     * Creates {@link ReadBatch}.
+     * 
+     * @param maxMessages the maximum number of messages returned by one
+     *            {@link Channel#readBatch(ReadBatch, ReadArgs, Error)} call
+     * 
+     * @return {@link ReadBatch} object
+     * 
+     * @see ReadBatch
+     */
+    public static ReadBatch createReadBatch(int maxMessages)
+    {
+        return new ReadBatchImpl(maxMessages);
+    }
+
     /**
      * Creates {@link ServerInfo}.
      * 
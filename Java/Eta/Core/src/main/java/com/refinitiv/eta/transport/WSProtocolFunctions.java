@@ -346,7 +346,8 @@ class WSProtocolFunctions implements ProtocolFunctions {
 
 			/* Set the WebSocket frame header */
 			WebSocketFrameParser.encode(buffer._data, buffer._startWsHeader, bufferLen, _rsslSocketChannel.protocolType(),
-					_webSocketSession.isClient, true, _webSocketSession.isDeflate(), WebSocketFrameParser._WS_OPC_NONE);
+					_webSocketSession.isClient, true, _webSocketSession.isDeflate() && !_webSocketSession.hasNoOutboundCompression(),
+					WebSocketFrameParser._WS_OPC_NONE);
 			
 			int lastPosition = buffer._data.position();
 			buffer._length = lastPosition - buffer._startWsHeader;
@@ -1072,7 +1073,8 @@ class WSProtocolFunctions implements ProtocolFunctions {
 	            
 	            webSocketSession.compressedLargeBufSize = compressedLen;
 	            webSocketSession.posCompressedLargeBuf = 0;
-	            webSocketSession.compressedLargeBuf = _rsslSocketChannel._compressor.compressedData();
+	            // the compressor reuses its output array, keep the payload until all fragments are sent
+	            webSocketSession.compressedLargeBuf = Arrays.copyOf(_rsslSocketChannel._compressor.compressedData(), compressedLen);
 	            
 	            userBytesForFragment = maxPayloadSize - estimateHeaderLength();
 	            opCode = WebSocketFrameParser._WS_OPC_NONE;
@@ -209,6 +209,14 @@ enum WebSocketRequestHeader {
                             	.valueDelimiter(EXTENSIONS_VALUE_DELIMITER)
                             	.build()
             			);
+
+            	// messages are always compressed without context, so the server need not keep it to inflate them
+            	httpHeaders.addHeader(headerName,
+            			HttpHeaderLineInfo.builder()
+                            	.headerValue(CLIENT_CONTEXT_EXTENSION)
+                            	.valueDelimiter(EXTENSIONS_VALUE_DELIMITER)
+                            	.build()
+            			);
             }
             
             return TransportReturnCodes.SUCCESS;
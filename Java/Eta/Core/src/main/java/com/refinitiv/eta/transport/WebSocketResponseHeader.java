@@ -116,6 +116,16 @@ enum WebSocketResponseHeader {
                                     .build()
                     );
                 }
+
+                if (session.hasNoOutboundCompression()) {
+                    httpHeaders.addHeader(headerName,
+                            HttpHeaderLineInfo.builder()
+                                    .headerValue(SERVER_WINDOW_BITS_EXTENSION + EXTENSION_PARAMETER_DELIMITER
+                                            + session.outboundMaxWindowBits())
+                                    .valueDelimiter(EXTENSIONS_VALUE_DELIMITER)
+                                    .build()
+                    );
+                }
             }
             return TransportReturnCodes.SUCCESS;
         }
@@ -20,6 +20,9 @@ class WebSocketSession {
     /* Don't maintain compression context on messages we send (no outbound 'context takeover'). */
     private static final int DEFLATE_NO_INBOUND_CONTEXT_TAKEOVER = 0x2;
 
+    /* The LZ77 window of java.util.zip deflate streams, in bits. */
+    static final int DEFLATE_MAX_WINDOW_BITS = 15;
+
     private static final int COMPRESSION_SUPPORT_FLAG = 0x1;
 
     private static final int ORIGIN_SENDING_FLAG = 0x2;
@@ -61,6 +64,7 @@ class WebSocketSession {
     private WSocketOpts webSocketOpts = new WSocketOptsImpl();
 
     private int compressionFlags;
+    private int outboundMaxWindowBits = DEFLATE_MAX_WINDOW_BITS;
 
     private int sendFlags;
 
@@ -114,6 +118,7 @@ class WebSocketSession {
         deflate = false;
         protocolName = null;
         compressionFlags = 0;
+        outboundMaxWindowBits = DEFLATE_MAX_WINDOW_BITS;
         encrypted = false;
         sendFlags = 0;
         acceptedProtocol = -1;
@@ -282,6 +287,21 @@ class WebSocketSession {
         return (this.compressionFlags & DEFLATE_NO_INBOUND_CONTEXT_TAKEOVER) != 0;
     }
 
+    /* The max_window_bits the peer negotiated for the messages we send. */
+    public void outboundMaxWindowBits(int windowBits) {
+        this.outboundMaxWindowBits = windowBits;
+    }
+
+    public int outboundMaxWindowBits() {
+        return outboundMaxWindowBits;
+    }
+
+    /* java.util.zip cannot deflate with a window smaller than 15 bits, so the messages we send
+     * are not compressed when the peer limits the window. */
+    public boolean hasNoOutboundCompression() {
+        return outboundMaxWindowBits < DEFLATE_MAX_WINDOW_BITS;
+    }
+
     public boolean hasCompressionSupport() {
         return (this.sendFlags & COMPRESSION_SUPPORT_FLAG) != 0;
     }
@@ -8,29 +8,30 @@
 
 package com.refinitiv.eta.transport;
 
-import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.zip.DataFormatException;
 import java.util.zip.Deflater;
-import java.util.zip.DeflaterOutputStream;
 import java.util.zip.Inflater;
 
 class ZlibCompressor extends Compressor
 {
     public static final int DEFAULT_ZLIB_COMPRESSION_LEVEL = 6;
 
+    /* The zlib contexts owned by this compressor are only created when compression context is kept
+     * between messages. Otherwise the contexts of the calling thread are borrowed from ZlibContextPool. */
     private Deflater _deflater;
     private Inflater _inflater;
-    private DeflaterOutputStream _deflaterOutputStream;
-    private ByteArrayOutputStream _compressedBytesOutputStream;
     private byte[] _compressedBytes;
+    private int _compressedLength;
     private byte[] _decompressedBytes;
-    private byte[] _compressByteArray;
+    private byte[] _inputBytes;
+    private int _inputOffset;
     private int _numBytesAfterDecompress;
     private int _maxCompressionLen;
     private boolean _appendTrailing;
     private boolean _compressnocontexttakeover;
+    private boolean _decompressnocontexttakeover;
     private boolean _nowrap;
     private int _compressionLevel;
     final static byte[] EndingTrailing = new byte[4];
@@ -44,15 +45,13 @@ class ZlibCompressor extends Compressor
         _maxCompressionLen = 6144;
         _appendTrailing = false;
         _compressnocontexttakeover = false;
+        _decompressnocontexttakeover = false;
         _nowrap = false;
         _compressionLevel = DEFAULT_ZLIB_COMPRESSION_LEVEL;
     }
 
     ZlibCompressor()
     {
-        _deflater = new Deflater();
-        _inflater = new Inflater();
-        _deflater.setLevel(DEFAULT_ZLIB_COMPRESSION_LEVEL);
     }
 
     /*
@@ -61,9 +60,6 @@ class ZlibCompressor extends Compressor
      */
     ZlibCompressor(int compressionLevel, boolean nowrap)
     {
-        _deflater = new Deflater(compressionLevel, nowrap);
-        _inflater = new Inflater(nowrap);
-        
         _compressionLevel = compressionLevel;
         _nowrap = nowrap;
     }
@@ -71,252 +67,75 @@ class ZlibCompressor extends Compressor
     @Override
     int compress(TransportBufferImpl bufferToCompress, int dataStartPos, int lenToCompress)
     {
-        if (_appendTrailing) {
-            _deflater.reset();
-        }
-        
-        if(lenToCompress > _maxCompressionLen)
-        {
-        	_maxCompressionLen = lenToCompress;
-        	_compressedBytesOutputStream = null;;
-        	 _compressByteArray = null;
-        	 _deflaterOutputStream = null;
-        }
-        
-        if(_compressnocontexttakeover) {
-        	
-        	_deflater.end();
-        	_deflater = new Deflater(_compressionLevel, _nowrap);
-        	
-        	if (_compressedBytesOutputStream == null)
-        		_compressedBytesOutputStream = new ByteArrayOutputStream(getMaxCompressedLength(_maxCompressionLen));
-        	else
-        		_compressedBytesOutputStream.reset();
-        	
-        	_deflaterOutputStream = new DeflaterOutputStream(_compressedBytesOutputStream, _deflater,
-                    getMaxCompressedLength(_maxCompressionLen), true);
-        }
-        
-        // lazily initialize _compressedBytesOutputStream buffer since we don't know size up front
-        if (_compressedBytesOutputStream == null)
-        {
-            _compressedBytesOutputStream = new ByteArrayOutputStream(getMaxCompressedLength(_maxCompressionLen));
-        }
-        // lazily initialize _deflaterOutputStream buffer since we don't know size up front
-        if (_deflaterOutputStream == null)
-        {
-            _deflaterOutputStream = new DeflaterOutputStream(_compressedBytesOutputStream, _deflater,
-                    getMaxCompressedLength(_maxCompressionLen), true);
-        }
-
-        if (!bufferToCompress.data().hasArray())
-        {
-            // lazily initialize _compressByteArray buffer since we don't know size up front
-            if (_compressByteArray == null)
-            {
-                _compressByteArray = new byte[_maxCompressionLen];
-            }
-            // copy bufferToCompress contents to _compressByteArray
-            for (int i = 0; i < lenToCompress; i++)
-            {
-                _compressByteArray[i] = bufferToCompress.data().get(dataStartPos + i);
-            }
-            dataStartPos = 0;
-        }
-        else
-        {
-            _compressByteArray = bufferToCompress.data().array();
-        }
-        _compressedBytesOutputStream.reset();
-        try
-        {
-            // write bytes to compress
-            _deflaterOutputStream.write(_compressByteArray, dataStartPos, lenToCompress);
-            // flush bytes to compress
-            _deflaterOutputStream.flush();
-        }
-        catch (Exception e)
-        {
-            throw new CompressorException(e.getLocalizedMessage());
-        }
-        // get compressed bytes
-        _compressedBytes = _compressedBytesOutputStream.toByteArray();
-
-        // System.out.println("[ZLIB-C2] in=" + lenToCompress + " compressed=" + _compressedBytes.length);
-        return _compressedBytes.length;
+        return compress(bufferToCompress.data(), dataStartPos, lenToCompress);
     }
 
     @Override
     int compress(ByteBuffer bufferToCompress, int dataStartPos, int lenToCompress)
     {
-        if (_appendTrailing) {
-        	
-            _deflater.reset();
-        }
-        
-        if(lenToCompress > _maxCompressionLen)
+        if (lenToCompress > _maxCompressionLen)
         {
-        	_maxCompressionLen = lenToCompress;
-        	_compressedBytesOutputStream = null;;
-        	 _compressByteArray = null;
-        	 _deflaterOutputStream = null;
+            _maxCompressionLen = lenToCompress;
         }
-        
-        if(_compressnocontexttakeover) {
-        	
-        	_deflater.end();
-        	_deflater = new Deflater(_compressionLevel, _nowrap);
-        	
-        	if (_compressedBytesOutputStream == null)
-        		_compressedBytesOutputStream = new ByteArrayOutputStream(getMaxCompressedLength(_maxCompressionLen));
-        	else
-        		_compressedBytesOutputStream.reset();
-        	
-        	 _deflaterOutputStream = new DeflaterOutputStream(_compressedBytesOutputStream, _deflater,
-                     getMaxCompressedLength(_maxCompressionLen), true);
-        }
-        
-        // lazily initialize _compressedBytesOutputStream buffer since we don't know size up front
-        if (_compressedBytesOutputStream == null)
-        {
-            _compressedBytesOutputStream = new ByteArrayOutputStream(getMaxCompressedLength(_maxCompressionLen));
-        }
-        // lazily initialize _deflaterOutputStream buffer since we don't know size up front
-        if (_deflaterOutputStream == null)
+
+        // lazily initialize _compressedBytes buffer since we don't know size up front
+        int maxCompressedLength = getMaxCompressedLength(_maxCompressionLen);
+        if (_compressedBytes == null || _compressedBytes.length < maxCompressedLength)
         {
-            _deflaterOutputStream = new DeflaterOutputStream(_compressedBytesOutputStream, _deflater,
-                    getMaxCompressedLength(_maxCompressionLen), true);
+            _compressedBytes = new byte[maxCompressedLength];
         }
-        if (!bufferToCompress.hasArray())
+
+        Deflater deflater = compressDeflater();
+        try
         {
-            // lazily initialize _compressByteArray buffer since we don't know size up front
-            if (_compressByteArray == null)
-            {
-                _compressByteArray = new byte[_maxCompressionLen];
-            }
-            // copy bufferToCompress contents to _compressByteArray
-            for (int i = 0; i < lenToCompress; i++)
+            deflater.setInput(inputBytes(bufferToCompress, dataStartPos, lenToCompress), _inputOffset, lenToCompress);
+
+            // compress and flush the bytes, growing the output if the data compresses poorly
+            _compressedLength = 0;
+            while (true)
             {
-                _compressByteArray[i] = bufferToCompress.get(dataStartPos + i);
+                int space = _compressedBytes.length - _compressedLength;
+                _compressedLength += deflater.deflate(_compressedBytes, _compressedLength, space, Deflater.SYNC_FLUSH);
+                if (_compressedLength < _compressedBytes.length)
+                    break;
+
+                _compressedBytes = Arrays.copyOf(_compressedBytes, _compressedBytes.length * 2);
             }
-            dataStartPos = 0;
-        }
-        else
-        {
-            _compressByteArray = bufferToCompress.array();
-        }
-        _compressedBytesOutputStream.reset();
-        try
-        {
-            // write bytes to compress
-            _deflaterOutputStream.write(_compressByteArray, dataStartPos, lenToCompress);
-            // flush bytes to compress
-            _deflaterOutputStream.flush();
         }
         catch (Exception e)
         {
             throw new CompressorException(e.getLocalizedMessage());
         }
-        // get compressed bytes
-        _compressedBytes = _compressedBytesOutputStream.toByteArray();
 
-        // System.out.println("[ZLIB-C3] in=" + lenToCompress + " compressed=" + _compressedBytes.length);
-        return _compressedBytes.length;
+        return _compressedLength;
     }
 
     @Override
     int decompress(TransportBufferImpl bufferToDecompress, TransportBufferImpl decompressedBuffer, int lenToDecompress)
     {
-        // lazily initialize _decompressedBytes buffer since we don't know size up front
-        if (_decompressedBytes == null)
-        {
-            _decompressedBytes = new byte[_maxCompressionLen];
-        }
-
-        // copy bufferToDecompress contents to byte array
-        byte[] byteArray = new byte[lenToDecompress + 4];
-        int contentStartPos = bufferToDecompress.dataStartPosition();
-        int i = 0;
-        for (; i < lenToDecompress; i++)
-        {
-            byteArray[i] = bufferToDecompress.data().get(contentStartPos + i);
-        }
-
-        if(_appendTrailing)
-        {
-            lenToDecompress += 4;
-            for(int j = 0; j < 4; j++)
-            {
-                byteArray[i + j] = EndingTrailing[j];
-            }
-        }
-
-        _inflater.setInput(byteArray, 0, lenToDecompress);
-        try
-        {
-            _numBytesAfterDecompress = _inflater.inflate(_decompressedBytes);
-            decompressedBuffer.data().clear();
-            decompressedBuffer.data().put(_decompressedBytes, 0, _numBytesAfterDecompress);
-            decompressedBuffer.data().limit(decompressedBuffer.data().position());
-            decompressedBuffer.data().position(0);
-        }
-        catch (DataFormatException e)
-        {
-            throw new CompressorException(e.getLocalizedMessage());
-        }
+        inflate(bufferToDecompress.data(), bufferToDecompress.dataStartPosition(), lenToDecompress);
+        writeDecompressedBytes(decompressedBuffer.data());
 
-        // System.out.println("[ZLIB-decompress-TransportBufferImpl] in=" + lenToDecompress + " decompressed=" + _numBytesAfterDecompress);
         return _numBytesAfterDecompress;
     }
 
     @Override
     int decompress(ByteBufferPair bufferToDecompress, ByteBufferPair decompressedBuffer, int dataStartPos, int lenToDecompress)
     {
-        // lazily initialize _decompressedBytes buffer since we don't know size up front
-        if (_decompressedBytes == null)
-        {
-            _decompressedBytes = new byte[_maxCompressionLen];
-        }
-        // copy bufferToDecompress contents to byte array
-        byte[] byteArray = new byte[lenToDecompress + 4];
-        int i = 0;
-        for (; i < lenToDecompress; i++)
-        {
-            byteArray[i] = bufferToDecompress.buffer().get(dataStartPos + i);
-        }
-
-        if(_appendTrailing)
-        {
-            lenToDecompress += 4;
-            for(int j = 0; j < 4; j++)
-            {
-                byteArray[i + j] = EndingTrailing[j];
-            }
-        }
-
-        _inflater.setInput(byteArray, 0, lenToDecompress);
-        try
-        {
-            _numBytesAfterDecompress = _inflater.inflate(_decompressedBytes);
-            decompressedBuffer.buffer().clear();
-            decompressedBuffer.buffer().put(_decompressedBytes, 0, _numBytesAfterDecompress);
-            decompressedBuffer.buffer().limit(decompressedBuffer.buffer().position());
-            decompressedBuffer.buffer().position(0);
-        }
-        catch (DataFormatException e)
-        {
-            // System.out.println("[ZLIB-decompress-ByteBufferPair] error: " + e.getMessage());
-            throw new CompressorException(e.getLocalizedMessage());
-        }
+        inflate(bufferToDecompress.buffer(), dataStartPos, lenToDecompress);
+        writeDecompressedBytes(decompressedBuffer.buffer());
 
-        // System.out.println("[ZLIB-decompress-ByteBufferPair] in=" + lenToDecompress + " decompressed=" + _numBytesAfterDecompress);
         return _numBytesAfterDecompress;
     }
 
     @Override
     void compressionLevel(int level)
     {
-        _deflater.setLevel(level);
+        _compressionLevel = level;
+        if (_deflater != null)
+        {
+            _deflater.setLevel(level);
+        }
     }
 
     @Override
@@ -340,14 +159,24 @@ class ZlibCompressor extends Compressor
     @Override
     int compressedDataLength()
     {
-        return _compressedBytes.length;
+        return _compressedLength;
     }
 
+    /* Releases the native zlib contexts owned by this compressor; they are created again if it is reused. */
     @Override
     void close()
     {
-        _inflater.reset();
-        _deflater.reset();
+        if (_inflater != null)
+        {
+            _inflater.end();
+            _inflater = null;
+        }
+
+        if (_deflater != null)
+        {
+            _deflater.end();
+            _deflater = null;
+        }
     }
 
     @Override
@@ -362,69 +191,96 @@ class ZlibCompressor extends Compressor
     	_compressnocontexttakeover = true;
     }
 
+    @Override
+    void decompressnocontexttakeover()
+    {
+        _decompressnocontexttakeover = true;
+    }
+
     @Override
 	int preDecompress(ByteBufferPair bufferToDecompress, int dataStartPos, int lenToDecompress) {
-		
-		// lazily initialize _decompressedBytes buffer since we don't know size up front
+
+    	// size the output for the expected compression ratio, it is grown if needed
     	int estimatedBytes = lenToDecompress * 4;
-    	
-    	if(_decompressedBytes != null)
+    	if (_decompressedBytes == null || estimatedBytes > _decompressedBytes.length)
     	{
-    		if(estimatedBytes >_decompressedBytes.length)
-    		{
-    			_decompressedBytes = new byte[estimatedBytes];
-    		}
+    		_decompressedBytes = new byte[Math.max(estimatedBytes, _maxCompressionLen)];
     	}
-    	else
-    	{
-    		if(estimatedBytes > _maxCompressionLen)
-        	{
-        		_decompressedBytes = new byte[estimatedBytes];
-        	}
-        	else
-        	{
-        		_decompressedBytes = new byte[_maxCompressionLen];
-        	}
-    	}
-    	
-        // copy bufferToDecompress contents to byte array
-        byte[] byteArray = new byte[lenToDecompress + 4];
-        int i = 0;
-        for (; i < lenToDecompress; i++)
+
+        return inflate(bufferToDecompress.buffer(), dataStartPos, lenToDecompress);
+	}
+
+	@Override
+	void writeDecompressBuffer(ByteBufferPair decompressedBuffer) {
+
+	    writeDecompressedBytes(decompressedBuffer.buffer());
+	}
+
+    /* Returns the Deflater for the next message. WebSocket messages are compressed without the
+     * context of the previous messages, so they use the calling thread's pooled Deflater. */
+    private Deflater compressDeflater()
+    {
+        if (_appendTrailing || _compressnocontexttakeover)
         {
-            byteArray[i] = bufferToDecompress.buffer().get(dataStartPos + i);
+            return ZlibContextPool.deflater(_compressionLevel, _nowrap);
         }
 
-        if(_appendTrailing)
+        if (_deflater == null)
         {
-            lenToDecompress += 4;
-            for(int j = 0; j < 4; j++)
-            {
-                byteArray[i + j] = EndingTrailing[j];
-            }
+            _deflater = new Deflater(_compressionLevel, _nowrap);
+        }
+
+        return _deflater;
+    }
+
+    /* Returns the Inflater for the next message. The calling thread's pooled Inflater is used
+     * when the peer does not keep compression context between messages. */
+    private Inflater decompressInflater()
+    {
+        if (_decompressnocontexttakeover)
+        {
+            return ZlibContextPool.inflater(_nowrap);
         }
 
+        if (_inflater == null)
+        {
+            _inflater = new Inflater(_nowrap);
+        }
+
+        return _inflater;
+    }
+
+    /* Decompresses lenToDecompress bytes of source, starting at dataStartPos, into _decompressedBytes.
+     * The trailing 0x00 0x00 0xFF 0xFF stripped by permessage-deflate is fed to the Inflater
+     * separately, so the compressed data is not copied to append it.
+     *
+     * Returns the number of uncompressed bytes.
+     */
+    private int inflate(ByteBuffer source, int dataStartPos, int lenToDecompress)
+    {
+        // lazily initialize _decompressedBytes buffer since we don't know size up front
+        if (_decompressedBytes == null)
+        {
+            _decompressedBytes = new byte[_maxCompressionLen];
+        }
+
+        Inflater inflater = decompressInflater();
+        _numBytesAfterDecompress = 0;
         try
         {
-            _inflater.setInput(byteArray, 0, lenToDecompress);
-        	
-            _numBytesAfterDecompress = _inflater.inflate(_decompressedBytes);
-            
-            while(!_inflater.finished() && _inflater.getRemaining() > 0)
+            inflater.setInput(inputBytes(source, dataStartPos, lenToDecompress), _inputOffset, lenToDecompress);
+            inflateInput(inflater);
+
+            if (_appendTrailing && !inflater.finished())
             {
-            	byte[] decompressedBytesTemp = Arrays.copyOf(_decompressedBytes, _decompressedBytes.length * 2);
-            	
-            	_numBytesAfterDecompress += _inflater.inflate(decompressedBytesTemp, _numBytesAfterDecompress, decompressedBytesTemp.length - _decompressedBytes.length);
-            	
-            	_decompressedBytes = decompressedBytesTemp;
-            	
+                inflater.setInput(EndingTrailing, 0, EndingTrailing.length);
+                inflateInput(inflater);
+            }
+
+            if (inflater.finished())
+            {
+                inflater.reset();
             }
-            
-        	if(_inflater.finished())
-        	{
-        		_inflater.reset();
-        	}
-            	
         }
         catch (DataFormatException e)
         {
@@ -432,14 +288,70 @@ class ZlibCompressor extends Compressor
         }
 
         return _numBytesAfterDecompress;
-	}
+    }
 
-	@Override
-	void writeDecompressBuffer(ByteBufferPair decompressedBuffer) {
-		
-	    decompressedBuffer.buffer().clear();
-        decompressedBuffer.buffer().put(_decompressedBytes, 0, _numBytesAfterDecompress);
-        decompressedBuffer.buffer().limit(decompressedBuffer.buffer().position());
-        decompressedBuffer.buffer().position(0);
-	}
+    /* Inflates the input set on the Inflater, growing _decompressedBytes as needed. */
+    private void inflateInput(Inflater inflater) throws DataFormatException
+    {
+        while (true)
+        {
+            if (_numBytesAfterDecompress == _decompressedBytes.length)
+            {
+                _decompressedBytes = Arrays.copyOf(_decompressedBytes, _decompressedBytes.length * 2);
+            }
+
+            int space = _decompressedBytes.length - _numBytesAfterDecompress;
+            int numBytes = inflater.inflate(_decompressedBytes, _numBytesAfterDecompress, space);
+            _numBytesAfterDecompress += numBytes;
+
+            // a full output buffer may leave decompressed data pending in the Inflater
+            if (numBytes < space
+                    && (numBytes == 0 || inflater.finished() || inflater.needsInput() || inflater.needsDictionary()))
+            {
+                break;
+            }
+        }
+    }
+
+    /* Returns an array holding lenToCopy bytes of source starting at dataStartPos, at offset _inputOffset.
+     * The array of a heap buffer is used in place, a direct buffer is bulk copied to a reused array. */
+    private byte[] inputBytes(ByteBuffer source, int dataStartPos, int lenToCopy)
+    {
+        if (source.hasArray())
+        {
+            _inputOffset = source.arrayOffset() + dataStartPos;
+            return source.array();
+        }
+
+        if (_inputBytes == null || _inputBytes.length < lenToCopy)
+        {
+            _inputBytes = new byte[Math.max(lenToCopy, _maxCompressionLen)];
+        }
+
+        int position = source.position();
+        int limit = source.limit();
+        source.limit(dataStartPos + lenToCopy);
+        source.position(dataStartPos);
+        source.get(_inputBytes, 0, lenToCopy);
+        source.limit(limit);
+        source.position(position);
+
+        _inputOffset = 0;
+        return _inputBytes;
+    }
+
+    /* Writes the decompressed bytes to the destination buffer, from position 0 to the limit. */
+    private void writeDecompressedBytes(ByteBuffer destination)
+    {
+        if (_numBytesAfterDecompress > destination.capacity())
+        {
+            throw new CompressorException("decompressed length " + _numBytesAfterDecompress
+                    + " exceeds the decompress buffer capacity " + destination.capacity());
+        }
+
+        destination.clear();
+        destination.put(_decompressedBytes, 0, _numBytesAfterDecompress);
+        destination.limit(destination.position());
+        destination.position(0);
+    }
 }
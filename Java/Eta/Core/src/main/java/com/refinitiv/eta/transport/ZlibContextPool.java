@@ -0,0 +1,84 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.transport;
+
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/* Per-thread zlib contexts, shared by every ZlibCompressor on the thread that does not keep
+ * compression context between messages (such as the WebSocket permessage-deflate compressors).
+ * A compressor borrows a context for the duration of a single compress or decompress call,
+ * so a channel does not hold native zlib state of its own. */
+final class ZlibContextPool
+{
+    private static final ThreadLocal<ZlibContextPool> _pools = new ThreadLocal<ZlibContextPool>()
+    {
+        @Override
+        protected ZlibContextPool initialValue()
+        {
+            return new ZlibContextPool();
+        }
+    };
+
+    /* indexed by nowrap: 0 for the zlib format, 1 for raw deflate */
+    private final Deflater[] _deflaters = new Deflater[2];
+    private final Inflater[] _inflaters = new Inflater[2];
+
+    private ZlibContextPool()
+    {
+    }
+
+    /* Returns the calling thread's Deflater, reset and set to the compression level.
+     *
+     * level is the compression level
+     * nowrap is true for raw deflate data, without the zlib header and checksum
+     */
+    static Deflater deflater(int level, boolean nowrap)
+    {
+        ZlibContextPool pool = _pools.get();
+        int index = nowrap ? 1 : 0;
+
+        Deflater deflater = pool._deflaters[index];
+        if (deflater == null)
+        {
+            deflater = new Deflater(level, nowrap);
+            pool._deflaters[index] = deflater;
+        }
+        else
+        {
+            deflater.reset();
+            deflater.setLevel(level);
+        }
+
+        return deflater;
+    }
+
+    /* Returns the calling thread's Inflater, reset.
+     *
+     * nowrap is true for raw deflate data, without the zlib header and checksum
+     */
+    static Inflater inflater(boolean nowrap)
+    {
+        ZlibContextPool pool = _pools.get();
+        int index = nowrap ? 1 : 0;
+
+        Inflater inflater = pool._inflaters[index];
+        if (inflater == null)
+        {
+            inflater = new Inflater(nowrap);
+            pool._inflaters[index] = inflater;
+        }
+        else
+        {
+            inflater.reset();
+        }
+
+        return inflater;
+    }
+}
@@ -2,7 +2,7 @@
  *|            This source code is provided under the Apache 2.0 license
  *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
  *|                See the project's LICENSE.md for details.
- *|           Copyright (C) 2020-2021,2024 LSEG. All rights reserved.
+ *|           Copyright (C) 2020-2021,2024-2025 LSEG. All rights reserved.
  *|-----------------------------------------------------------------------------
  */
 
@@ -4760,4 +4760,192 @@ public class DecodersJunit
         return ba;
     }
     
+    /* Encodes a field list with set defined entries (fids 9 and 11) followed by standard entries. */
+    private Buffer encodeNumericFieldList(LocalFieldSetDefDb setDb)
+    {
+        Buffer buffer = CodecFactory.createBuffer();
+        buffer.data(ByteBuffer.allocate(256));
+        EncodeIterator encIter = CodecFactory.createEncodeIterator();
+        encIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion());
+        FieldList fieldList = CodecFactory.createFieldList();
+        FieldEntry entry = CodecFactory.createFieldEntry();
+        Real real = CodecFactory.createReal();
+        Int intv = CodecFactory.createInt();
+        UInt uint = CodecFactory.createUInt();
+        com.refinitiv.eta.codec.Enum enumv = CodecFactory.createEnum();
+
+        fieldList.applyHasSetData();
+        fieldList.applyHasStandardData();
+        assertEquals(CodecReturnCodes.SUCCESS, fieldList.encodeInit(encIter, setDb, 0));
+
+        entry.fieldId(9);
+        entry.dataType(DataTypes.REAL);
+        real.value(-987654, RealHints.FRACTION_4);
+        assertEquals(CodecReturnCodes.SUCCESS, entry.encode(encIter, real));
+        entry.clear();
+        entry.fieldId(11);
+        entry.dataType(DataTypes.INT);
+        intv.value(-42);
+        assertEquals(CodecReturnCodes.SET_COMPLETE, entry.encode(encIter, intv));
+
+        entry.clear();
+        entry.fieldId(1);
+        entry.dataType(DataTypes.UINT);
+        uint.value(0xFFFFFFFFFFFFFFFFL);
+        assertEquals(CodecReturnCodes.SUCCESS, entry.encode(encIter, uint));
+        entry.clear();
+        entry.fieldId(6);
+        entry.dataType(DataTypes.REAL);
+        real.value(12345, RealHints.EXPONENT_2);
+        assertEquals(CodecReturnCodes.SUCCESS, entry.encode(encIter, real));
+        entry.clear();
+        entry.fieldId(7);
+        entry.dataType(DataTypes.REAL);
+        assertEquals(CodecReturnCodes.SUCCESS, entry.encodeBlank(encIter));
+        entry.clear();
+        entry.fieldId(8);
+        entry.dataType(DataTypes.REAL);
+        real.value(0, RealHints.NEG_INFINITY);
+        assertEquals(CodecReturnCodes.SUCCESS, entry.encode(encIter, real));
+        entry.clear();
+        entry.fieldId(32767);
+        entry.dataType(DataTypes.ENUM);
+        enumv.value(3);
+        assertEquals(CodecReturnCodes.SUCCESS, entry.encode(encIter, enumv));
+
+        assertEquals(CodecReturnCodes.SUCCESS, fieldList.encodeComplete(encIter, true));
+        return buffer;
+    }
+
+    @Test
+    public void fieldListNumericDecoderTest()
+    {
+        DataDictionary dictionary = CodecFactory.createDataDictionary();
+        com.refinitiv.eta.transport.Error error = TransportFactory.createError();
+        assertEquals(CodecReturnCodes.SUCCESS, dictionary.loadFieldDictionary("src/test/resources/com/refinitiv/eta/data/Codec/RDMFieldDictionaryBoundary", error));
+
+        LocalFieldSetDefDb setDb = CodecFactory.createLocalFieldSetDefDb();
+        FieldSetDefEntry[] setEntries = new FieldSetDefEntry[2];
+        setEntries[0] = CodecFactory.createFieldSetDefEntry();
+        setEntries[0].fieldId(9);
+        setEntries[0].dataType(DataTypes.REAL);
+        setEntries[1] = CodecFactory.createFieldSetDefEntry();
+        setEntries[1].fieldId(11);
+        setEntries[1].dataType(DataTypes.INT_4);
+        setDb.definitions()[0].setId(0);
+        setDb.definitions()[0].count(2);
+        setDb.definitions()[0].entries(setEntries);
+        Buffer buffer = encodeNumericFieldList(setDb);
+
+        FieldListNumericDecoder decoder = CodecFactory.createFieldListNumericDecoder();
+        int[] fieldIds = { 6, 1, 7, 8, 10, 32767, 11, 9 };
+        assertEquals(CodecReturnCodes.INVALID_ARGUMENT, decoder.fieldIds(new int[] { 6, 7, 6 }, 3));
+        assertEquals(CodecReturnCodes.INVALID_ARGUMENT, decoder.fieldIds(new int[] { 40000 }, 1));
+        assertEquals(CodecReturnCodes.SUCCESS, decoder.fieldIds(fieldIds, fieldIds.length));
+        assertEquals(fieldIds.length, decoder.fieldIdCount());
+
+        long[] mantissas = new long[fieldIds.length];
+        byte[] hints = new byte[fieldIds.length];
+        DecodeIterator decIter = CodecFactory.createDecodeIterator();
+        decIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion());
+        assertEquals(CodecReturnCodes.INVALID_ARGUMENT, decoder.decode(decIter, dictionary, setDb, new long[2], hints));
+        assertEquals(CodecReturnCodes.SUCCESS, decoder.decode(decIter, dictionary, setDb, mantissas, hints));
+        assertEquals(-1, ((DecodeIteratorImpl)decIter)._decodingLevel);
+
+        assertEquals(12345, mantissas[0]);
+        assertEquals(RealHints.EXPONENT_2, hints[0]);
+        assertEquals(0xFFFFFFFFFFFFFFFFL, mantissas[1]);
+        assertEquals(RealHints.EXPONENT0, hints[1]);
+        assertEquals(FieldListNumericDecoder.BLANK, hints[2]);
+        assertEquals(RealHints.NEG_INFINITY, hints[3]);
+        assertEquals(FieldListNumericDecoder.NO_VALUE, hints[4]);
+        assertEquals(FieldListNumericDecoder.NO_VALUE, hints[5]);
+        assertEquals(-42, mantissas[6]);
+        assertEquals(RealHints.EXPONENT0, hints[6]);
+        assertEquals(-987654, mantissas[7]);
+        assertEquals(RealHints.FRACTION_4, hints[7]);
+
+        double[] values = new double[fieldIds.length];
+        decIter.clear();
+        decIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion());
+        assertEquals(CodecReturnCodes.SUCCESS, decoder.decode(decIter, dictionary, setDb, values, hints));
+
+        assertEquals(123.45, values[0], 0);
+        assertEquals(18446744073709551615.0, values[1], 0);
+        assertEquals(0, values[2], 0);
+        assertEquals(FieldListNumericDecoder.BLANK, hints[2]);
+        assertEquals(Double.NEGATIVE_INFINITY, values[3], 0);
+        assertEquals(0, values[4], 0);
+        assertEquals(-42, values[6], 0);
+        assertEquals(-246913.5, values[7], 0);
+
+        /* The set definition is not known: the set entries are skipped. */
+        decIter.clear();
+        decIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion());
+        assertEquals(CodecReturnCodes.SET_SKIPPED, decoder.decode(decIter, dictionary, null, mantissas, hints));
+        assertEquals(12345, mantissas[0]);
+        assertEquals(FieldListNumericDecoder.NO_VALUE, hints[6]);
+        assertEquals(FieldListNumericDecoder.NO_VALUE, hints[7]);
+    }
+
+    /* The numeric decoder returns the same values as decoding each entry. */
+    @Test
+    public void fieldListNumericDecoderMatchesEntryDecodeTest()
+    {
+        DataDictionary dictionary = CodecFactory.createDataDictionary();
+        com.refinitiv.eta.transport.Error error = TransportFactory.createError();
+        assertEquals(CodecReturnCodes.SUCCESS, dictionary.loadFieldDictionary("src/test/resources/com/refinitiv/eta/data/Codec/RDMFieldDictionaryBoundary", error));
+
+        java.util.Random random = new java.util.Random(1234);
+        FieldList fieldList = CodecFactory.createFieldList();
+        FieldEntry entry = CodecFactory.createFieldEntry();
+        Real real = CodecFactory.createReal();
+        int[] fieldIds = { 6, 7, 8, 9, 10 };
+        FieldListNumericDecoder decoder = CodecFactory.createFieldListNumericDecoder();
+        assertEquals(CodecReturnCodes.SUCCESS, decoder.fieldIds(fieldIds, fieldIds.length));
+        long[] mantissas = new long[fieldIds.length];
+        double[] values = new double[fieldIds.length];
+        byte[] hints = new byte[fieldIds.length];
+
+        for (int n = 0; n < 100; n++)
+        {
+            Buffer buffer = CodecFactory.createBuffer();
+            buffer.data(ByteBuffer.allocate(256));
+            EncodeIterator encIter = CodecFactory.createEncodeIterator();
+            encIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion());
+            fieldList.clear();
+            fieldList.applyHasStandardData();
+            assertEquals(CodecReturnCodes.SUCCESS, fieldList.encodeInit(encIter, null, 0));
+            for (int fid : fieldIds)
+            {
+                entry.clear();
+                entry.fieldId(fid);
+                entry.dataType(DataTypes.REAL);
+                real.value(random.nextLong() >> random.nextInt(64), random.nextInt(RealHints.MAX_DIVISOR + 1));
+                assertEquals(CodecReturnCodes.SUCCESS, entry.encode(encIter, real));
+            }
+            assertEquals(CodecReturnCodes.SUCCESS, fieldList.encodeComplete(encIter, true));
+
+            DecodeIterator decIter = CodecFactory.createDecodeIterator();
+            decIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion());
+            assertEquals(CodecReturnCodes.SUCCESS, decoder.decode(decIter, dictionary, null, mantissas, hints));
+            decIter.clear();
+            decIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion());
+            assertEquals(CodecReturnCodes.SUCCESS, decoder.decode(decIter, dictionary, null, values, hints));
+
+            decIter.clear();
+            decIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion());
+            assertEquals(CodecReturnCodes.SUCCESS, fieldList.decode(decIter, null));
+            for (int i = 0; i < fieldIds.length; i++)
+            {
+                assertEquals(CodecReturnCodes.SUCCESS, entry.decode(decIter));
+                assertEquals(fieldIds[i], entry.fieldId());
+                assertEquals(CodecReturnCodes.SUCCESS, real.decode(decIter));
+                assertEquals(real.toLong(), mantissas[i]);
+                assertEquals(real.hint(), hints[i]);
+                assertEquals(real.toDouble(), values[i], 0);
+            }
+        }
+    }
+
 }
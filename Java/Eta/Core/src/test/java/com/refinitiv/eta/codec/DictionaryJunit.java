@@ -2,7 +2,7 @@
  *|            This source code is provided under the Apache 2.0 license
  *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
  *|                See the project's LICENSE.md for details.
- *|           Copyright (C) 2020,2024 LSEG. All rights reserved.
+ *|           Copyright (C) 2020,2024-2025 LSEG. All rights reserved.
  *|-----------------------------------------------------------------------------
  */
 
@@ -10,9 +10,16 @@ package com.refinitiv.eta.codec;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
+import java.io.File;
 import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Arrays;
 
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -1129,6 +1136,176 @@ public class DictionaryJunit
         assertEquals(CodecReturnCodes.FAILURE, decodedDictionary.decodeEnumTypeDictionary(decodeIter, Dictionary.VerbosityValues.NORMAL, error));
     }
 
+    /**
+     * Save a loaded dictionary to a snapshot, load it back and verify contents.
+     */
+    @Test
+    public void saveLoadSnapshotTest() throws Exception
+    {
+        com.refinitiv.eta.transport.Error error = TransportFactory.createError();
+        DataDictionary dictionary = CodecFactory.createDataDictionary();
+        DataDictionary snapshotDictionary = CodecFactory.createDataDictionary();
+        File snapshotFile = File.createTempFile("DictionarySnapshot", ".bin");
+        File invalidFile = File.createTempFile("DictionarySnapshotInvalid", ".bin");
+
+        try
+        {
+            dictionary.clear();
+            assertEquals(CodecReturnCodes.FAILURE, dictionary.saveSnapshot(snapshotFile.getPath(), error));
+            assertEquals(CodecReturnCodes.SUCCESS, dictionary.loadFieldDictionary("../../etc/RDMFieldDictionary", error));
+            assertEquals(CodecReturnCodes.SUCCESS, dictionary.loadEnumTypeDictionary("../../etc/enumtype.def", error));
+            assertEquals(CodecReturnCodes.FAILURE, dictionary.saveSnapshot(null, error));
+            assertEquals(CodecReturnCodes.SUCCESS, dictionary.saveSnapshot(snapshotFile.getPath(), error));
+
+            snapshotDictionary.clear();
+            assertEquals(CodecReturnCodes.FAILURE, snapshotDictionary.loadSnapshot(null, error));
+            assertEquals(CodecReturnCodes.FAILURE, snapshotDictionary.loadSnapshot("xyz", error));
+            assertEquals(CodecReturnCodes.SUCCESS, snapshotDictionary.loadSnapshot(snapshotFile.getPath(), error));
+
+            /* Types are read from the snapshot, entries are decoded once on first use. */
+            for (int fid = DictionaryFieldIndex.MIN_FID; fid <= DictionaryFieldIndex.MAX_FID; fid++)
+                assertEquals(dictionary.rwfType(fid), snapshotDictionary.rwfType(fid));
+            assertSame(snapshotDictionary.entry(22), snapshotDictionary.entry(22));
+            assertNull(snapshotDictionary.entry(32000));
+
+            assertEquals(dictionary.numberOfEntries(), snapshotDictionary.numberOfEntries());
+            assertEquals(dictionary.minFid(), snapshotDictionary.minFid());
+            assertEquals(dictionary.maxFid(), snapshotDictionary.maxFid());
+            assertEquals(dictionary.enumTableCount(), snapshotDictionary.enumTableCount());
+            assertEquals(dictionary.infoFieldVersion().toString(), snapshotDictionary.infoFieldVersion().toString());
+            assertEquals(dictionary.infoEnumDTVersion().toString(), snapshotDictionary.infoEnumDTVersion().toString());
+            assertEquals(dictionary.toString(), snapshotDictionary.toString());
+
+            /* Fields referencing the same enum table still share it. */
+            DictionaryEntry entry = snapshotDictionary.entry(4);
+            assertNotNull(entry.enumTypeTable());
+            EnumTypeTable table = entry.enumTypeTable();
+            for (int i = 0; i < table.fidReferenceCount(); i++)
+                assertSame(table, snapshotDictionary.entry(table.fidReferences()[i]).enumTypeTable());
+            assertEquals("RDN_EXCHID", snapshotDictionary.entry("RDN_EXCHID").acronym().toString());
+
+            /* A dictionary that was not cleared is rejected. */
+            assertEquals(CodecReturnCodes.FAILURE, snapshotDictionary.loadSnapshot(snapshotFile.getPath(), error));
+
+            /* Loading the same file again shares the mapping. */
+            assertSame(DictionarySnapshot.mapping(snapshotFile), DictionarySnapshot.mapping(snapshotFile));
+            snapshotDictionary.clear();
+            assertEquals(CodecReturnCodes.SUCCESS, snapshotDictionary.loadSnapshot(snapshotFile.getPath(), error));
+            assertEquals(dictionary.toString(), snapshotDictionary.toString());
+
+            /* The text files are not snapshots. */
+            snapshotDictionary.clear();
+            assertEquals(CodecReturnCodes.FAILURE, snapshotDictionary.loadSnapshot("../../etc/enumtype.def", error));
+
+            /* A truncated snapshot fails to load. */
+            byte[] truncated = Arrays.copyOf(Files.readAllBytes(snapshotFile.toPath()), 1000);
+            Files.write(invalidFile.toPath(), truncated);
+            snapshotDictionary.clear();
+            assertEquals(CodecReturnCodes.FAILURE, snapshotDictionary.loadSnapshot(invalidFile.getPath(), error));
+        }
+        finally
+        {
+            snapshotFile.delete();
+            invalidFile.delete();
+        }
+    }
+
+    /**
+     * Look up every field by name and fid type through the field index.
+     */
+    @Test
+    public void fieldIndexTest()
+    {
+        com.refinitiv.eta.transport.Error error = TransportFactory.createError();
+        DataDictionary dictionary = CodecFactory.createDataDictionary();
+
+        dictionary.clear();
+        assertFalse(dictionary.hasEntry("RDN_EXCHID"));
+        assertEquals(DataTypes.UNKNOWN, dictionary.rwfType(4));
+        assertEquals(CodecReturnCodes.SUCCESS, dictionary.loadFieldDictionary("../../etc/RDMFieldDictionary", error));
+        assertEquals(CodecReturnCodes.SUCCESS, dictionary.loadEnumTypeDictionary("../../etc/enumtype.def", error));
+
+        int names = 0;
+        for (int fid = dictionary.minFid(); fid <= dictionary.maxFid(); fid++)
+        {
+            DictionaryEntry entry = dictionary.entry(fid);
+            if (entry == null)
+            {
+                assertEquals(DataTypes.UNKNOWN, dictionary.rwfType(fid));
+                continue;
+            }
+
+            assertEquals(entry.rwfType(), dictionary.rwfType(fid));
+            String name = entry.acronym().toString();
+            assertTrue(dictionary.hasEntry(name));
+            assertEquals(name, dictionary.entry(name).acronym().toString());
+            if (entry.rwfType() != DataTypes.UNKNOWN)
+                names++;
+        }
+        assertEquals(dictionary.numberOfEntries(), names);
+
+        assertSame(dictionary.entry(4), dictionary.entry("RDN_EXCHID"));
+        assertFalse(dictionary.hasEntry("RDN_EXCHI"));
+        assertFalse(dictionary.hasEntry("RDN_EXCHID2"));
+        assertFalse(dictionary.hasEntry(""));
+        assertFalse(dictionary.hasEntry(null));
+        assertNull(dictionary.entry("NOT_A_FIELD"));
+        assertEquals(DataTypes.UNKNOWN, dictionary.rwfType(32767));
+
+        /* The index follows the dictionary when it is cleared and loaded again. */
+        dictionary.clear();
+        assertEquals(CodecReturnCodes.SUCCESS, dictionary.loadFieldDictionary("src/test/resources/com/refinitiv/eta/data/Codec/RDMFieldDictionaryBoundary", error));
+        assertFalse(dictionary.hasEntry("RDN_EXCHID"));
+        assertEquals(32767, dictionary.entry("MAX_FID").fid());
+        assertEquals(-32768, dictionary.entry("MIN_FID").fid());
+        assertEquals(DataTypes.ENUM, dictionary.rwfType(32767));
+        assertEquals(DataTypes.REAL, dictionary.rwfType(6));
+    }
+
+    @Test
+    public void registryTest() throws Exception
+    {
+        String fieldFile = "../../etc/RDMFieldDictionary";
+        String enumFile = "../../etc/enumtype.def";
+        String key = DataDictionaryRegistry.fileKey(fieldFile, enumFile);
+        assertNotNull(key);
+        assertEquals(key, DataDictionaryRegistry.fileKey("../../etc/../etc/RDMFieldDictionary", enumFile));
+        assertNull(DataDictionaryRegistry.fileKey("../../etc/NoSuchDictionary", enumFile));
+        assertNull(DataDictionaryRegistry.acquire(key));
+
+        DataDictionary dictionary = CodecFactory.createDataDictionary();
+        assertSame(dictionary, DataDictionaryRegistry.register(key, dictionary));
+        assertEquals(1, DataDictionaryRegistry.referenceCount(key));
+
+        /* A dictionary registered later under the same key is dropped in favor of the first one. */
+        assertSame(dictionary, DataDictionaryRegistry.register(key, CodecFactory.createDataDictionary()));
+        assertSame(dictionary, DataDictionaryRegistry.acquire(key));
+        assertEquals(3, DataDictionaryRegistry.referenceCount(key));
+
+        DataDictionaryRegistry.release(key);
+        DataDictionaryRegistry.release(key);
+        assertSame(dictionary, DataDictionaryRegistry.acquire(key));
+        DataDictionaryRegistry.release(key);
+        DataDictionaryRegistry.release(key);
+        assertEquals(0, DataDictionaryRegistry.referenceCount(key));
+        assertNull(DataDictionaryRegistry.acquire(key));
+
+        /* The key changes when a file changes. */
+        File tmpFile = File.createTempFile("RDMFieldDictionary", null);
+        try
+        {
+            Files.copy(new File(fieldFile).toPath(), tmpFile.toPath(), java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+            String tmpKey = DataDictionaryRegistry.fileKey(tmpFile.getPath(), enumFile);
+            assertNotNull(tmpKey);
+            assertTrue(tmpFile.setLastModified(tmpFile.lastModified() - 10000));
+            assertFalse(tmpKey.equals(DataDictionaryRegistry.fileKey(tmpFile.getPath(), enumFile)));
+        }
+        finally
+        {
+            tmpFile.delete();
+        }
+    }
+
     // copy encoded data into byte[]
     private byte[] convertToByteArray(ByteBuffer bb)
     {
@@ -0,0 +1,261 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestName;
+
+import com.refinitiv.eta.codec.Codec;
+
+public class ReliableMulticastChannelJunit
+{
+    static final String GROUP = "235.5.5.5";
+    static final String INTERFACE = "127.0.0.1";
+
+    @Rule
+    public TestName testName = new TestName();
+
+    Error error = TransportFactory.createError();
+    List<Channel> channels = new ArrayList<Channel>();
+
+    @Before
+    public void setUp()
+    {
+        System.out.println(">>>>>>>>>>>>>>>>>>>>  " + testName.getMethodName() + " Test <<<<<<<<<<<<<<<<<<<<<<<");
+
+        InitArgs initArgs = TransportFactory.createInitArgs();
+        initArgs.globalLocking(false);
+        assertEquals(TransportReturnCodes.SUCCESS, Transport.initialize(initArgs, error));
+    }
+
+    @After
+    public void tearDown()
+    {
+        for (Channel channel : channels)
+        {
+            if (channel.state() != ChannelState.INACTIVE)
+                channel.close(error);
+        }
+        assertEquals(TransportReturnCodes.SUCCESS, Transport.uninitialize());
+    }
+
+    private Channel connect(String port, int historySize, boolean disconnectOnGaps)
+    {
+        ConnectOptions copts = TransportFactory.createConnectOptions();
+        copts.connectionType(ConnectionTypes.RELIABLE_MCAST);
+        copts.unifiedNetworkInfo().address(GROUP);
+        copts.unifiedNetworkInfo().serviceName(port);
+        copts.unifiedNetworkInfo().interfaceName(INTERFACE);
+        copts.guaranteedOutputBuffers(historySize);
+        copts.multicastOpts().disconnectOnGaps(disconnectOnGaps);
+        copts.majorVersion(Codec.majorVersion());
+        copts.minorVersion(Codec.minorVersion());
+        copts.protocolType(Codec.protocolType());
+
+        Channel channel = Transport.connect(copts, error);
+        assertNotNull(error.text(), channel);
+        assertEquals(ChannelState.ACTIVE, channel.state());
+        channels.add(channel);
+        return channel;
+    }
+
+    private void writeMessage(Channel writer, String text)
+    {
+        TransportBuffer buffer = writer.getBuffer(text.length(), false, error);
+        assertNotNull(error.text(), buffer);
+        buffer.data().put(text.getBytes());
+        assertEquals(TransportReturnCodes.SUCCESS, writer.write(buffer, TransportFactory.createWriteArgs(), error));
+    }
+
+    /* Reads messages until count have arrived or the reader fails, flushing the writer so that it answers NAKs. */
+    private List<String> readMessages(Channel reader, Channel writer, int count, ReadArgs readArgs)
+    {
+        List<String> messages = new ArrayList<String>();
+        long deadline = System.currentTimeMillis() + 5000;
+
+        while (messages.size() < count && System.currentTimeMillis() < deadline)
+        {
+            writer.flush(error);
+            TransportBuffer buffer = reader.read(readArgs, error);
+            if (buffer != null)
+            {
+                byte[] bytes = new byte[buffer.length()];
+                buffer.data().get(bytes);
+                messages.add(new String(bytes));
+            }
+            else if (readArgs.readRetVal() == TransportReturnCodes.FAILURE)
+                break;
+        }
+        return messages;
+    }
+
+    private MCastStats stats(Channel channel)
+    {
+        ChannelInfo info = TransportFactory.createChannelInfo();
+        assertEquals(TransportReturnCodes.SUCCESS, channel.info(info, error));
+        return info.multicastStats();
+    }
+
+    @Test
+    public void fanOutReadWriteTest()
+    {
+        Channel writer = connect("30101", 64, false);
+        Channel reader1 = connect("30101", 64, false);
+        Channel reader2 = connect("30101", 64, false);
+        ReadArgs readArgs = TransportFactory.createReadArgs();
+
+        assertNull(reader1.read(readArgs, error));
+        assertEquals(TransportReturnCodes.READ_WOULD_BLOCK, readArgs.readRetVal());
+
+        writeMessage(writer, "one");
+
+        // three messages packed in one packet
+        TransportBuffer buffer = writer.getBuffer(100, true, error);
+        assertNotNull(error.text(), buffer);
+        buffer.data().put("two".getBytes());
+        assertTrue(writer.packBuffer(buffer, error) > 0);
+        buffer.data().put("three".getBytes());
+        assertTrue(writer.packBuffer(buffer, error) > 0);
+        buffer.data().put("four".getBytes());
+        assertEquals(TransportReturnCodes.SUCCESS, writer.write(buffer, TransportFactory.createWriteArgs(), error));
+
+        writeMessage(writer, "five");
+
+        for (Channel reader : new Channel[] {reader1, reader2})
+        {
+            List<String> messages = readMessages(reader, writer, 5, readArgs);
+            assertEquals("[one, two, three, four, five]", messages.toString());
+            assertEquals(3, readArgs.seqNum());
+            assertTrue((readArgs.flags() & ReadFlags.READ_SEQNUM) != 0);
+            assertEquals(0, readArgs.flags() & ReadFlags.READ_RETRANSMIT);
+
+            assertEquals(3, stats(reader).mcastRcvd());
+            assertEquals(0, stats(reader).gapsDetected());
+        }
+
+        // the writer does not read its own packets back
+        assertNull(writer.read(readArgs, error));
+        assertEquals(TransportReturnCodes.READ_WOULD_BLOCK, readArgs.readRetVal());
+        assertEquals(3, stats(writer).mcastSent());
+    }
+
+    @Test
+    public void retransmitLostPacketsTest()
+    {
+        Channel writer = connect("30102", 64, false);
+        Channel reader = connect("30102", 64, false);
+        ReadArgs readArgs = TransportFactory.createReadArgs();
+
+        HashSet<Long> lost = new HashSet<Long>();
+        lost.add(3L);
+        lost.add(4L);
+        lost.add(7L);
+        ((RsslReliableMulticastChannel)writer)._junitDropSeqNums = lost;
+
+        for (int i = 1; i <= 10; i++)
+            writeMessage(writer, "msg" + i);
+
+        List<String> messages = readMessages(reader, writer, 10, readArgs);
+        assertEquals("[msg1, msg2, msg3, msg4, msg5, msg6, msg7, msg8, msg9, msg10]", messages.toString());
+
+        MCastStats readerStats = stats(reader);
+        assertEquals(2, readerStats.gapsDetected());
+        assertTrue(readerStats.retransReqSent() >= 2);
+        assertEquals(3, readerStats.retransPktsRcvd());
+
+        MCastStats writerStats = stats(writer);
+        assertEquals(7, writerStats.mcastSent());
+        assertEquals(readerStats.retransReqSent(), writerStats.retransReqRcvd());
+        assertTrue(writerStats.retransPktsSent() >= 3);
+    }
+
+    @Test
+    public void heartbeatFindsLostTailTest()
+    {
+        Channel writer = connect("30103", 64, false);
+        Channel reader = connect("30103", 64, false);
+        ReadArgs readArgs = TransportFactory.createReadArgs();
+
+        HashSet<Long> lost = new HashSet<Long>();
+        lost.add(2L);
+        ((RsslReliableMulticastChannel)writer)._junitDropSeqNums = lost;
+
+        writeMessage(writer, "first");
+        writeMessage(writer, "last");
+        assertEquals("[first]", readMessages(reader, writer, 1, readArgs).toString());
+
+        // only the heartbeat tells the reader that the second packet was sent
+        assertNull(reader.read(readArgs, error));
+        assertEquals(TransportReturnCodes.READ_WOULD_BLOCK, readArgs.readRetVal());
+        assertEquals(TransportReturnCodes.SUCCESS, writer.ping(error));
+
+        List<String> messages = readMessages(reader, writer, 1, readArgs);
+        assertEquals("[last]", messages.toString());
+        assertTrue((readArgs.flags() & ReadFlags.READ_RETRANSMIT) != 0);
+        assertEquals(2, readArgs.seqNum());
+    }
+
+    @Test
+    public void skipUnrecoverableGapTest()
+    {
+        // the writer keeps only its last eight packets
+        Channel writer = connect("30104", 8, false);
+        Channel reader = connect("30104", 64, false);
+        ReadArgs readArgs = TransportFactory.createReadArgs();
+
+        writeMessage(writer, "msg1");
+        assertEquals("[msg1]", readMessages(reader, writer, 1, readArgs).toString());
+
+        HashSet<Long> lost = new HashSet<Long>();
+        lost.add(2L);
+        ((RsslReliableMulticastChannel)writer)._junitDropSeqNums = lost;
+        for (int i = 2; i <= 12; i++)
+            writeMessage(writer, "msg" + i);
+
+        List<String> messages = readMessages(reader, writer, 10, readArgs);
+        assertEquals("[msg3, msg4, msg5, msg6, msg7, msg8, msg9, msg10, msg11, msg12]", messages.toString());
+        assertEquals(ChannelState.ACTIVE, reader.state());
+        assertEquals(1, stats(reader).gapsDetected());
+    }
+
+    @Test
+    public void disconnectOnGapsTest()
+    {
+        Channel writer = connect("30105", 8, false);
+        Channel reader = connect("30105", 64, true);
+        ReadArgs readArgs = TransportFactory.createReadArgs();
+
+        writeMessage(writer, "msg1");
+        assertEquals("[msg1]", readMessages(reader, writer, 1, readArgs).toString());
+
+        HashSet<Long> lost = new HashSet<Long>();
+        lost.add(2L);
+        ((RsslReliableMulticastChannel)writer)._junitDropSeqNums = lost;
+        for (int i = 2; i <= 12; i++)
+            writeMessage(writer, "msg" + i);
+
+        List<String> messages = readMessages(reader, writer, 10, readArgs);
+        assertEquals(0, messages.size());
+        assertEquals(TransportReturnCodes.FAILURE, readArgs.readRetVal());
+        assertEquals(ChannelState.CLOSED, reader.state());
+        assertTrue(error.text(), error.text().contains("cannot be recovered"));
+    }
+}
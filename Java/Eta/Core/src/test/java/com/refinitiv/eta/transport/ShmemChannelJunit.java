@@ -0,0 +1,218 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestName;
+
+import com.refinitiv.eta.codec.Codec;
+
+public class ShmemChannelJunit
+{
+    @Rule
+    public TestName testName = new TestName();
+
+    Error error = TransportFactory.createError();
+    Server server;
+    Channel writer;
+    String segmentName;
+
+    @Before
+    public void setUp()
+    {
+        System.out.println(">>>>>>>>>>>>>>>>>>>>  " + testName.getMethodName() + " Test <<<<<<<<<<<<<<<<<<<<<<<");
+
+        InitArgs initArgs = TransportFactory.createInitArgs();
+        initArgs.globalLocking(false);
+        assertEquals(TransportReturnCodes.SUCCESS, Transport.initialize(initArgs, error));
+        segmentName = "junit_" + testName.getMethodName() + "_" + System.nanoTime();
+    }
+
+    @After
+    public void tearDown()
+    {
+        if (writer != null && writer.state() == ChannelState.ACTIVE)
+            writer.close(error);
+        if (server != null && server.state() == ChannelState.ACTIVE)
+            server.close(error);
+        assertEquals(TransportReturnCodes.SUCCESS, Transport.uninitialize());
+    }
+
+    private void bindAndAccept(int numBuffers, int maxFragmentSize)
+    {
+        BindOptions bopts = TransportFactory.createBindOptions();
+        bopts.connectionType(ConnectionTypes.UNIDIR_SHMEM);
+        bopts.serviceName(segmentName);
+        bopts.guaranteedOutputBuffers(numBuffers);
+        bopts.maxFragmentSize(maxFragmentSize);
+        bopts.majorVersion(Codec.majorVersion());
+        bopts.minorVersion(Codec.minorVersion());
+        bopts.protocolType(Codec.protocolType());
+
+        server = Transport.bind(bopts, error);
+        assertNotNull(error.text(), server);
+
+        writer = server.accept(TransportFactory.createAcceptOptions(), error);
+        assertNotNull(error.text(), writer);
+        assertEquals(ChannelState.ACTIVE, writer.state());
+    }
+
+    private Channel connect(long maxReaderLag)
+    {
+        ConnectOptions copts = TransportFactory.createConnectOptions();
+        copts.connectionType(ConnectionTypes.UNIDIR_SHMEM);
+        copts.unifiedNetworkInfo().serviceName(segmentName);
+        copts.shmemOpts().maxReaderLag(maxReaderLag);
+        copts.majorVersion(Codec.majorVersion());
+        copts.minorVersion(Codec.minorVersion());
+        copts.protocolType(Codec.protocolType());
+
+        Channel reader = Transport.connect(copts, error);
+        assertNotNull(error.text(), reader);
+        assertEquals(ChannelState.ACTIVE, reader.state());
+        return reader;
+    }
+
+    private void writeMessage(String text)
+    {
+        TransportBuffer buffer = writer.getBuffer(text.length(), false, error);
+        assertNotNull(error.text(), buffer);
+        buffer.data().put(text.getBytes());
+        assertEquals(TransportReturnCodes.SUCCESS, writer.write(buffer, TransportFactory.createWriteArgs(), error));
+    }
+
+    private String readMessage(Channel reader, ReadArgs readArgs)
+    {
+        TransportBuffer buffer = reader.read(readArgs, error);
+        if (buffer == null)
+            return null;
+
+        byte[] bytes = new byte[buffer.length()];
+        buffer.data().get(bytes);
+        return new String(bytes);
+    }
+
+    @Test
+    public void fanOutReadWriteTest()
+    {
+        bindAndAccept(16, 1024);
+        Channel reader1 = connect(0);
+        Channel reader2 = connect(0);
+        ReadArgs readArgs = TransportFactory.createReadArgs();
+
+        assertNull(reader1.read(readArgs, error));
+        assertEquals(TransportReturnCodes.READ_WOULD_BLOCK, readArgs.readRetVal());
+
+        writeMessage("first");
+        writeMessage("second");
+
+        for (Channel reader : new Channel[] {reader1, reader2})
+        {
+            assertEquals("first", readMessage(reader, readArgs));
+            assertEquals(1, readArgs.readRetVal());
+            assertEquals(1, readArgs.seqNum());
+            assertEquals(5, readArgs.bytesRead());
+
+            assertEquals("second", readMessage(reader, readArgs));
+            assertEquals(TransportReturnCodes.SUCCESS, readArgs.readRetVal());
+            assertEquals(2, readArgs.seqNum());
+
+            assertNull(readMessage(reader, readArgs));
+            assertEquals(TransportReturnCodes.READ_WOULD_BLOCK, readArgs.readRetVal());
+        }
+
+        assertEquals(TransportReturnCodes.SUCCESS, reader1.close(error));
+        assertEquals(TransportReturnCodes.SUCCESS, reader2.close(error));
+    }
+
+    @Test
+    public void packedBufferTest()
+    {
+        bindAndAccept(16, 1024);
+        Channel reader = connect(0);
+        ReadArgs readArgs = TransportFactory.createReadArgs();
+
+        TransportBuffer buffer = writer.getBuffer(100, true, error);
+        buffer.data().put("one".getBytes());
+        assertEquals(97, writer.packBuffer(buffer, error));
+
+        // packed messages are published by write()
+        assertNull(reader.read(readArgs, error));
+        assertEquals(TransportReturnCodes.READ_WOULD_BLOCK, readArgs.readRetVal());
+
+        buffer.data().put("two".getBytes());
+        assertEquals(TransportReturnCodes.SUCCESS, writer.write(buffer, TransportFactory.createWriteArgs(), error));
+
+        assertEquals("one", readMessage(reader, readArgs));
+        assertEquals("two", readMessage(reader, readArgs));
+        reader.close(error);
+    }
+
+    @Test
+    public void bindTooManyBuffersTest()
+    {
+        BindOptions bopts = TransportFactory.createBindOptions();
+        bopts.connectionType(ConnectionTypes.UNIDIR_SHMEM);
+        bopts.serviceName(segmentName);
+        bopts.guaranteedOutputBuffers(Integer.MAX_VALUE);
+        bopts.maxFragmentSize(128);
+
+        assertNull(Transport.bind(bopts, error));
+        assertEquals(TransportReturnCodes.FAILURE, error.errorId());
+    }
+
+    @Test
+    public void maxReaderLagTest()
+    {
+        bindAndAccept(16, 128);
+        Channel laggingReader = connect(4);
+        Channel ringReader = connect(0);
+        ReadArgs readArgs = TransportFactory.createReadArgs();
+
+        for (int i = 0; i < 5; i++)
+            writeMessage("msg" + i);
+
+        // a reader that lags by more than maxReaderLag is disconnected
+        assertNull(laggingReader.read(readArgs, error));
+        assertEquals(TransportReturnCodes.FAILURE, readArgs.readRetVal());
+        assertEquals(ChannelState.CLOSED, laggingReader.state());
+
+        // a reader that is overrun by the ring is disconnected as well
+        for (int i = 5; i < 20; i++)
+            writeMessage("msg" + i);
+        assertNull(ringReader.read(readArgs, error));
+        assertEquals(TransportReturnCodes.FAILURE, readArgs.readRetVal());
+        assertEquals(ChannelState.CLOSED, ringReader.state());
+    }
+
+    @Test
+    public void writerCloseTest()
+    {
+        bindAndAccept(16, 128);
+        Channel reader = connect(0);
+        ReadArgs readArgs = TransportFactory.createReadArgs();
+
+        writeMessage("last");
+        assertEquals(TransportReturnCodes.SUCCESS, writer.close(error));
+
+        // messages written before the close can still be drained
+        assertEquals("last", readMessage(reader, readArgs));
+        assertNull(reader.read(readArgs, error));
+        assertEquals(TransportReturnCodes.FAILURE, readArgs.readRetVal());
+        assertEquals(ChannelState.CLOSED, reader.state());
+    }
+}
@@ -10,6 +10,7 @@ package com.refinitiv.eta.transport;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -1661,6 +1662,232 @@ public class SocketChannelJunitTest
     }
 
 
+    /*
+     * GIVEN a single input file containing two (concatenated) messages such
+     * that they (should) be read into the same buffer when the
+     * RsslSocketChannel reads from the network
+     * WHEN the user invokes
+     * RsslSocketChannel.readBatch(ReadBatch, ReadArgs, Error)
+     * THEN both messages will be returned by the same call
+     * AND the next call returns no message and READ_WOULD_BLOCK
+     */
+    @Test
+    public void readBatchTwoMessagesSingleNetworkRead()
+    {
+        final String expectedFile = BASE_TEST_DATA_DIR_NAME + "/030_expected_two_msgs_single_net_read.txt";
+        final String inputFile = BASE_TEST_DATA_DIR_NAME + "/030_input_two_msgs_single_net_read.txt";
+
+        NetworkReplay replay = null;
+
+        try
+        {
+            initTransport(false); // initialize RSSL
+
+            // the messages we expect from calls to RsslSocketChannel.read() (does not include RIPC headers)
+            final byte[][] expectedMessages = parseExpectedMessages(expectedFile);
+
+            // load the messages to replay
+            replay = parseReplayFile(inputFile);
+
+            replay.startListener(DEFAULT_LISTEN_PORT);
+
+            // allocate a channel that reads from our NetworkReplay
+            RsslSocketChannel consumerChannel = createReplaySocketChannel(replay);
+
+            connectChannel(consumerChannel, DEFAULT_LISTEN_PORT); // connect to the NetworkReplay
+            waitForChannelActive(consumerChannel); // wait for the channel to become active
+
+            // initialize variables required for reading from a channel
+            final ReadArgs readArgs = TransportFactory.createReadArgs();
+            final ReadBatch readBatch = TransportFactory.createReadBatch(10);
+            final Error error = TransportFactory.createError();
+
+            // read from the channel
+            assertEquals(TransportReturnCodes.SUCCESS, consumerChannel.readBatch(readBatch, readArgs, error));
+            assertEquals(TransportReturnCodes.SUCCESS, readArgs.readRetVal());
+            assertEquals(2, readBatch.count());
+            assertFalse(readBatch.pingReceived());
+
+            assertArrayEquals(expectedMessages[1], getBytesFromBuffer(readBatch.buffer(0)));
+            assertArrayEquals(expectedMessages[2], getBytesFromBuffer(readBatch.buffer(1)));
+
+            /*
+             * verify ReadArgs.bytesRead() and ReadArgs.uncompressedBytesRead()
+             * Expected file does not contain the Transport headers, so add it
+             * back on for the comparison.
+             */
+            int headerAndDataLen = expectedMessages[1].length + Ripc.Lengths.HEADER + expectedMessages[2].length + Ripc.Lengths.HEADER;
+            assertEquals(headerAndDataLen, readArgs.bytesRead());
+            assertEquals(headerAndDataLen, readArgs.uncompressedBytesRead());
+
+            // the next call should return no message, and a "RSSL_RET_READ_WOULD_BLOCK" return code
+            readArgs.clear();
+            assertEquals(TransportReturnCodes.READ_WOULD_BLOCK, consumerChannel.readBatch(readBatch, readArgs, error));
+            assertEquals(0, readBatch.count());
+        }
+        catch (IOException e)
+        {
+            fail(e.getLocalizedMessage());
+        }
+        finally
+        {
+            if (replay != null)
+            {
+                replay.stopListener();
+            }
+
+            assertEquals(TransportReturnCodes.SUCCESS, Transport.uninitialize());
+        }
+    }
+
+    /*
+     * GIVEN a single input file containing two (concatenated) messages such
+     * that they (should) be read into the same buffer when the
+     * RsslSocketChannel reads from the network
+     * WHEN the user invokes
+     * RsslSocketChannel.readBatch(ReadBatch, ReadArgs, Error)
+     * with a ReadBatch returning at most one message
+     * THEN the first call returns the first message and a value greater than SUCCESS
+     * AND the second call returns the second message and SUCCESS
+     * AND the third call returns no message and READ_WOULD_BLOCK
+     */
+    @Test
+    public void readBatchMaxMessages()
+    {
+        final String expectedFile = BASE_TEST_DATA_DIR_NAME + "/030_expected_two_msgs_single_net_read.txt";
+        final String inputFile = BASE_TEST_DATA_DIR_NAME + "/030_input_two_msgs_single_net_read.txt";
+
+        NetworkReplay replay = null;
+
+        try
+        {
+            initTransport(false); // initialize RSSL
+
+            // the messages we expect from calls to RsslSocketChannel.read() (does not include RIPC headers)
+            final byte[][] expectedMessages = parseExpectedMessages(expectedFile);
+
+            // load the messages to replay
+            replay = parseReplayFile(inputFile);
+
+            replay.startListener(DEFAULT_LISTEN_PORT);
+
+            // allocate a channel that reads from our NetworkReplay
+            RsslSocketChannel consumerChannel = createReplaySocketChannel(replay);
+
+            connectChannel(consumerChannel, DEFAULT_LISTEN_PORT); // connect to the NetworkReplay
+            waitForChannelActive(consumerChannel); // wait for the channel to become active
+
+            // initialize variables required for reading from a channel
+            final ReadArgs readArgs = TransportFactory.createReadArgs();
+            final ReadBatch readBatch = TransportFactory.createReadBatch(1);
+            final Error error = TransportFactory.createError();
+
+            // read from the channel
+            assertTrue(consumerChannel.readBatch(readBatch, readArgs, error) > TransportReturnCodes.SUCCESS); // still more data
+            assertEquals(1, readBatch.count());
+            assertArrayEquals(expectedMessages[1], getBytesFromBuffer(readBatch.buffer(0)));
+
+            readArgs.clear();
+            assertEquals(TransportReturnCodes.SUCCESS, consumerChannel.readBatch(readBatch, readArgs, error));
+            assertEquals(1, readBatch.count());
+            assertArrayEquals(expectedMessages[2], getBytesFromBuffer(readBatch.buffer(0)));
+
+            readArgs.clear();
+            assertEquals(TransportReturnCodes.READ_WOULD_BLOCK, consumerChannel.readBatch(readBatch, readArgs, error));
+            assertEquals(0, readBatch.count());
+        }
+        catch (IOException e)
+        {
+            fail(e.getLocalizedMessage());
+        }
+        finally
+        {
+            if (replay != null)
+            {
+                replay.stopListener();
+            }
+
+            assertEquals(TransportReturnCodes.SUCCESS, Transport.uninitialize());
+        }
+    }
+
+    /*
+     * GIVEN a file containing the RIPC handshake, and a single (complete)
+     * packed message, where the packed message has three parts. The last
+     * part is "empty" (it has a length of zero.)
+     *
+     * WHEN we invoke RsslSocketChannel.readBatch(ReadBatch, ReadArgs, Error)
+     * THEN the call returns the first two packed messages
+     * AND the call returns SUCCESS
+     * AND the next call returns no message and READ_WOULD_BLOCK
+     */
+    @Test
+    public void readBatch3PartLastPartEmptyPackedMessage()
+    {
+        final String expectedFile = BASE_TEST_DATA_DIR_NAME + "/090_expected_3part_packed_last_part_empty.txt";
+        final String inputFile = BASE_TEST_DATA_DIR_NAME + "/090_input_3part_packed_last_part_empty.txt";
+
+        NetworkReplay replay = null;
+
+        try
+        {
+            initTransport(false); // initialize RSSL
+
+            // the messages we expect from calls to RsslSocketChannel.read() (does not include RIPC headers)
+            final byte[][] expectedMessages = parseExpectedMessages(expectedFile);
+
+            // load the messages to replay
+            replay = parseReplayFile(inputFile);
+
+            replay.startListener(DEFAULT_LISTEN_PORT);
+
+            // allocate a channel that reads from our NetworkReplay
+            RsslSocketChannel consumerChannel = createReplaySocketChannel(replay);
+
+            connectChannel(consumerChannel, DEFAULT_LISTEN_PORT); // connect to the NetworkReplay
+            waitForChannelActive(consumerChannel); // wait for the channel to become active
+
+            // initialize variables required for reading from a channel
+            final ReadArgs readArgs = TransportFactory.createReadArgs();
+            final ReadBatch readBatch = TransportFactory.createReadBatch(10);
+            final Error error = TransportFactory.createError();
+
+            // read from the channel
+            assertEquals(TransportReturnCodes.SUCCESS, consumerChannel.readBatch(readBatch, readArgs, error));
+            assertEquals(2, readBatch.count());
+
+            assertArrayEquals(expectedMessages[1], getBytesFromBuffer(readBatch.buffer(0)));
+            assertArrayEquals(expectedMessages[2], getBytesFromBuffer(readBatch.buffer(1)));
+
+            /*
+             * verify ReadArgs.bytesRead() and ReadArgs.uncompressedBytesRead()
+             * Expected file does not contain transport headers, so add it for
+             * the comparison.
+             */
+            int headerAndDataLen = firstPackedHeaderLength()+ expectedMessages[1].length +
+                                   additionalPackedHeaderLength()+ expectedMessages[2].length + additionalPackedHeaderLength();
+            assertEquals(headerAndDataLen, readArgs.bytesRead());
+            assertEquals(headerAndDataLen, readArgs.uncompressedBytesRead());
+
+            readArgs.clear();
+            assertEquals(TransportReturnCodes.READ_WOULD_BLOCK, consumerChannel.readBatch(readBatch, readArgs, error));
+            assertEquals(0, readBatch.count());
+        }
+        catch (IOException e)
+        {
+            fail(e.getLocalizedMessage());
+        }
+        finally
+        {
+            if (replay != null)
+            {
+                replay.stopListener();
+            }
+
+            assertEquals(TransportReturnCodes.SUCCESS, Transport.uninitialize());
+        }
+    }
+
     /*
      * GIVEN a file containing the RIPC handshake, and a fragmented message
      * consisting of one "fragment header" message, and one "fragment"
@@ -8231,6 +8458,87 @@ public class SocketChannelJunitTest
         }
     }
 
+    /*
+     * Verify the per thread buffer caches in front of the Server.sharedPool,
+     * used when the shared pool lock is enabled. Several threads get and
+     * return shared pool buffers; no buffer is handed out twice, the buffer
+     * usage goes back to zero, and the cache and pool misses are counted.
+     */
+    @Test
+    public void sharedPoolCacheTest() throws InterruptedException
+    {
+        final Error error = TransportFactory.createError();
+        BindOptions bindOpts = getDefaultBindOptions();
+        bindOpts.sharedPoolSize(400);
+        bindOpts.sharedPoolLock(true);
+        InitArgs initArgs = TransportFactory.createInitArgs();
+        initArgs.globalLocking(true);
+        Server server = null;
+        try
+        {
+            assertEquals(TransportReturnCodes.SUCCESS, Transport.initialize(initArgs, error));
+
+            server = Transport.bind(bindOpts, error);
+            assertNotNull(error.text() + " errorId=" + error.errorId() + " sysErrorId="
+                          + error.sysError(), server);
+
+            final ServerImpl socketServer = (ServerImpl)server;
+            assertNotNull(((ServerImpl.SharedPool)socketServer._sharedPool)._caches);
+
+            final int numThreads = 8;
+            final int numBuffers = 40;
+            final boolean[] failed = new boolean[1];
+            Thread[] threads = new Thread[numThreads];
+            for (int t = 0; t < numThreads; t++)
+            {
+                threads[t] = new Thread(() ->
+                {
+                    SocketBuffer[] buffers = new SocketBuffer[numBuffers];
+                    for (int round = 0; round < 200; round++)
+                    {
+                        for (int i = 0; i < numBuffers; i++)
+                        {
+                            buffers[i] = socketServer.getBufferFromServerPool();
+                            if (buffers[i] == null || buffers[i]._inPool)
+                                failed[0] = true;
+                        }
+                        for (int i = 0; i < numBuffers; i++)
+                        {
+                            if (buffers[i] != null)
+                                buffers[i].returnToPool();
+                        }
+                    }
+                });
+                threads[t].start();
+            }
+            for (Thread thread : threads)
+                thread.join();
+
+            assertTrue(!failed[0]);
+            assertEquals(0, server.bufferUsage(error));
+
+            ServerInfo serverInfo = TransportFactory.createServerInfo();
+            assertEquals(TransportReturnCodes.SUCCESS, server.info(serverInfo, error));
+            assertEquals(0, serverInfo.currentBufferUsage());
+            assertTrue(serverInfo.peakBufferUsage() <= 400);
+            assertTrue(serverInfo.sharedPoolCacheMisses() > 0);
+            assertTrue(serverInfo.sharedPoolMisses() > 0);
+
+            /* All buffers are free, so shrinking moves the cached buffers back to the global pool. */
+            Pool bufferPool = socketServer._transport.getPool(socketServer.bufferSize());
+            int created = ((ServerImpl.SharedPool)socketServer._sharedPool)._sharedPoolBufferCount;
+            int shrunk = Math.min(created, 399);
+            assertEquals(400 - shrunk, server.ioctl(IoctlCodes.SERVER_NUM_POOL_BUFFERS, 1, error));
+            assertEquals(shrunk, bufferPool.size());
+        }
+        finally
+        {
+            if (server != null)
+                server.close(error);
+            assertEquals(TransportReturnCodes.SUCCESS, Transport.uninitialize());
+        }
+    }
+
     /*
      * Verify that the Server.sharedPool and sharedPoolSize
      * can be modified
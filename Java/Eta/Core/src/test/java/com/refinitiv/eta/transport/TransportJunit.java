@@ -1104,6 +1104,7 @@ public class TransportJunit
             assertEquals(5, testOpts.multicastOpts().packetTTL());
             assertNull(testOpts.multicastOpts().tcpControlPort());
             assertEquals(0, testOpts.multicastOpts().portRoamRange());
+            assertEquals(false, testOpts.multicastOpts().nativeTransport());
             assertEquals(0, testOpts.shmemOpts().maxReaderLag());
             assertEquals(false, testOpts.channelReadLocking());
             assertEquals(false, testOpts.channelWriteLocking());
@@ -1167,6 +1168,7 @@ public class TransportJunit
         srcOpts.multicastOpts().packetTTL(99);
         srcOpts.multicastOpts().tcpControlPort("9999");
         srcOpts.multicastOpts().portRoamRange(12);
+        srcOpts.multicastOpts().nativeTransport(true);
         srcOpts.shmemOpts().maxReaderLag(11111);
         srcOpts.channelReadLocking(true);
         srcOpts.channelWriteLocking(true);
@@ -1237,6 +1239,7 @@ public class TransportJunit
             assertEquals(99, testOpts.multicastOpts().packetTTL());
             assertTrue(testOpts.multicastOpts().tcpControlPort().equals("9999"));
             assertEquals(12, testOpts.multicastOpts().portRoamRange());
+            assertEquals(true, testOpts.multicastOpts().nativeTransport());
             assertEquals(11111, testOpts.shmemOpts().maxReaderLag());
             assertEquals(true, testOpts.channelReadLocking());
             assertEquals(true, testOpts.channelWriteLocking());
@@ -0,0 +1,264 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.transport;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import static org.junit.Assert.*;
+
+import com.refinitiv.eta.JUnitConfigVariables;
+import com.refinitiv.eta.RetryRule;
+import org.junit.*;
+import org.junit.rules.TestName;
+
+public class ZlibCompressorJunit
+{
+    static java.util.Random _gen = new java.util.Random(2289374);
+
+    @Rule
+    public RetryRule retryRule = new RetryRule(JUnitConfigVariables.TEST_RETRY_COUNT);
+
+    @Rule
+    public TestName testName = new TestName();
+
+    @Before
+    public void printTestName() {
+        System.out.println(">>>>>>>>>>>>>>>>>>>>  " + testName.getMethodName() + " Test <<<<<<<<<<<<<<<<<<<<<<<");
+    }
+
+    /* Creates a message of text-like data, which compresses well. */
+    static byte[] message(int length, int seed)
+    {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++)
+            bytes[i] = (byte)('A' + ((i / 7 + seed) % 26));
+        return bytes;
+    }
+
+    static TransportBufferImpl transportBuffer(byte[] bytes)
+    {
+        TransportBufferImpl tbuf = new TransportBufferImpl(bytes.length);
+        tbuf.data().put(bytes);
+        tbuf.data().position(0);
+        return tbuf;
+    }
+
+    /* Compresses the message and returns the compressed bytes, as they are sent over the connection. */
+    static ByteBufferPair compress(ZlibCompressor compressor, byte[] bytes, boolean stripTrailing)
+    {
+        int compressedLen = compressor.compress(transportBuffer(bytes), 0, bytes.length);
+        if (stripTrailing)
+            compressedLen -= ZlibCompressor.EndingTrailing.length;
+
+        ByteBufferPair compressed = new ByteBufferPair(null, compressedLen + 10, true);
+        compressed.buffer().position(10);
+        compressed.buffer().put(compressor.compressedData(), 0, compressedLen);
+        return compressed;
+    }
+
+    static byte[] decompress(ZlibCompressor decompressor, ByteBufferPair compressed, int decompressBufferSize)
+    {
+        int compressedLen = compressed.buffer().position() - 10;
+        ByteBufferPair decompressed = new ByteBufferPair(null, decompressBufferSize, true);
+        int len = decompressor.decompress(compressed, decompressed, 10, compressedLen);
+
+        assertEquals(len, decompressed.buffer().limit());
+        byte[] bytes = new byte[len];
+        decompressed.buffer().get(bytes);
+        return bytes;
+    }
+
+    /* Messages compressed with context between them are decompressed by an Inflater keeping the same context. */
+    @Test
+    public void compressWithContextTest()
+    {
+        ZlibCompressor compressor = new ZlibCompressor();
+        ZlibCompressor decompressor = new ZlibCompressor();
+
+        for (int i = 0; i < 10; i++)
+        {
+            byte[] bytes = message(1000 + i * 100, i);
+            ByteBufferPair compressed = compress(compressor, bytes, false);
+            assertTrue(compressed.buffer().position() - 10 < bytes.length);
+            assertArrayEquals(bytes, decompress(decompressor, compressed, 6144));
+        }
+
+        compressor.close();
+        decompressor.close();
+    }
+
+    /* WebSocket compressors of several channels on the same thread share its zlib contexts. */
+    @Test
+    public void webSocketChannelsShareContextsTest()
+    {
+        ZlibCompressor[] compressors = new ZlibCompressor[3];
+        ZlibCompressor[] decompressors = new ZlibCompressor[3];
+        for (int i = 0; i < compressors.length; i++)
+        {
+            compressors[i] = new ZlibCompressor(ZlibCompressor.DEFAULT_ZLIB_COMPRESSION_LEVEL, true);
+            compressors[i].appendCompressTrailing();
+            compressors[i].compressnocontexttakeover();
+            decompressors[i] = new ZlibCompressor(ZlibCompressor.DEFAULT_ZLIB_COMPRESSION_LEVEL, true);
+            decompressors[i].appendCompressTrailing();
+            decompressors[i].decompressnocontexttakeover();
+        }
+
+        // interleave the messages of the channels
+        for (int n = 0; n < 5; n++)
+        {
+            for (int i = 0; i < compressors.length; i++)
+            {
+                byte[] bytes = message(500 + _gen.nextInt(3000), n * compressors.length + i);
+                ByteBufferPair compressed = compress(compressors[i], bytes, true);
+                assertArrayEquals(bytes, decompress(decompressors[i], compressed, 6144));
+            }
+        }
+
+        assertSame(ZlibContextPool.deflater(ZlibCompressor.DEFAULT_ZLIB_COMPRESSION_LEVEL, true),
+                ZlibContextPool.deflater(ZlibCompressor.DEFAULT_ZLIB_COMPRESSION_LEVEL, true));
+        assertSame(ZlibContextPool.inflater(true), ZlibContextPool.inflater(true));
+        assertNotSame(ZlibContextPool.inflater(true), ZlibContextPool.inflater(false));
+    }
+
+    @Test
+    public void contextsArePerThreadTest() throws InterruptedException
+    {
+        final Deflater deflater = ZlibContextPool.deflater(ZlibCompressor.DEFAULT_ZLIB_COMPRESSION_LEVEL, true);
+        final Inflater inflater = ZlibContextPool.inflater(true);
+        final AtomicReference<Deflater> otherDeflater = new AtomicReference<>();
+        final AtomicReference<Inflater> otherInflater = new AtomicReference<>();
+
+        Thread thread = new Thread(() -> {
+            otherDeflater.set(ZlibContextPool.deflater(ZlibCompressor.DEFAULT_ZLIB_COMPRESSION_LEVEL, true));
+            otherInflater.set(ZlibContextPool.inflater(true));
+        });
+        thread.start();
+        thread.join();
+
+        assertNotNull(otherDeflater.get());
+        assertNotSame(deflater, otherDeflater.get());
+        assertNotSame(inflater, otherInflater.get());
+    }
+
+    /* Highly compressible data is inflated beyond the initial output size. */
+    @Test
+    public void decompressLargeRatioTest()
+    {
+        ZlibCompressor compressor = new ZlibCompressor(ZlibCompressor.DEFAULT_ZLIB_COMPRESSION_LEVEL, true);
+        compressor.appendCompressTrailing();
+        compressor.maxCompressionLength(1000);
+        ZlibCompressor decompressor = new ZlibCompressor(ZlibCompressor.DEFAULT_ZLIB_COMPRESSION_LEVEL, true);
+        decompressor.appendCompressTrailing();
+        decompressor.decompressnocontexttakeover();
+        decompressor.maxCompressionLength(1000);
+
+        byte[] bytes = new byte[100000];
+        ByteBufferPair compressed = compress(compressor, bytes, true);
+        int compressedLen = compressed.buffer().position() - 10;
+        assertTrue(compressedLen < 1000);
+
+        assertEquals(bytes.length, decompressor.preDecompress(compressed, 10, compressedLen));
+        ByteBufferPair decompressed = new ByteBufferPair(null, bytes.length, true);
+        decompressor.writeDecompressBuffer(decompressed);
+        assertEquals(bytes.length, decompressed.buffer().limit());
+
+        // the decompressed message does not fit in a smaller buffer
+        try
+        {
+            decompress(decompressor, compressed, bytes.length - 1);
+            fail("CompressorException expected");
+        }
+        catch (CompressorException e)
+        {
+        }
+    }
+
+    /* Poorly compressible data larger than the maximum compression length grows the output. */
+    @Test
+    public void compressRandomDataTest()
+    {
+        ZlibCompressor compressor = new ZlibCompressor();
+        ZlibCompressor decompressor = new ZlibCompressor();
+        compressor.maxCompressionLength(100);
+
+        byte[] bytes = new byte[20000];
+        _gen.nextBytes(bytes);
+        ByteBufferPair compressed = compress(compressor, bytes, false);
+        assertEquals(compressor.compressedDataLength(), compressed.buffer().position() - 10);
+        assertArrayEquals(bytes, decompress(decompressor, compressed, bytes.length));
+    }
+
+    /* The server accepts the client's window size and context takeover offer, and echoes them. */
+    @Test
+    public void negotiateExtensionParametersTest()
+    {
+        Error error = TransportFactory.createError();
+        HttpMessageHandler parser = new HttpMessageHandlerImpl();
+        String headerName = WebSocketRequestHeader.SEC_WEB_SOCKET_EXTENSIONS.getHeaderTitle();
+
+        WebSocketSession clientSession = new WebSocketSession();
+        clientSession.isClient = true;
+        clientSession.applyCompressionSupport();
+        WebSocketSession serverSession = new WebSocketSession();
+        serverSession.applyCompressionSupport();
+
+        HttpHeaders requestHeaders = new HttpHeaders();
+        assertEquals(TransportReturnCodes.SUCCESS, WebSocketRequestHeader.SEC_WEB_SOCKET_EXTENSIONS.getWebSocketHeaderHandler()
+                .encodeWebSocketHeader(clientSession, requestHeaders, headerName, error));
+        requestHeaders.addHeader(headerName, HttpHeaderLineInfo.builder()
+                .headerValue("server_max_window_bits=10").valueDelimiter(';').build());
+
+        assertEquals(TransportReturnCodes.SUCCESS, WebSocketRequestHeader.SEC_WEB_SOCKET_EXTENSIONS.getWebSocketHeaderHandler()
+                .decodeWebSocketHeader(serverSession, parser, requestHeaders.getHeader(headerName), error));
+        assertTrue(serverSession.isDeflate());
+        assertTrue(serverSession.hasNoOutboundContext());
+        assertTrue(serverSession.hasNoInboundContext());
+        assertEquals(10, serverSession.outboundMaxWindowBits());
+        assertTrue(serverSession.hasNoOutboundCompression());
+
+        HttpHeaders responseHeaders = new HttpHeaders();
+        assertEquals(TransportReturnCodes.SUCCESS, WebSocketResponseHeader.SEC_WEB_SOCKET_EXTENSIONS.getWebSocketHeaderHandler()
+                .encodeWebSocketHeader(serverSession, responseHeaders, headerName, error));
+        String response = responseHeaders.getHeader(headerName).getSimpleHeaderValue();
+        assertTrue(response.contains("client_no_context_takeover"));
+        assertTrue(response.contains("server_max_window_bits=10"));
+
+        assertEquals(TransportReturnCodes.SUCCESS, WebSocketResponseHeader.SEC_WEB_SOCKET_EXTENSIONS.getWebSocketHeaderHandler()
+                .decodeWebSocketHeader(clientSession, parser, responseHeaders.getHeader(headerName), error));
+        assertTrue(clientSession.isDeflate());
+        assertTrue(clientSession.hasNoInboundContext());
+        assertTrue(clientSession.hasNoOutboundContext());
+        assertFalse(clientSession.hasNoOutboundCompression());
+    }
+
+    @Test
+    public void clientMaxWindowBitsTest()
+    {
+        Error error = TransportFactory.createError();
+        String headerName = WebSocketResponseHeader.SEC_WEB_SOCKET_EXTENSIONS.getHeaderTitle();
+
+        WebSocketSession clientSession = new WebSocketSession();
+        clientSession.isClient = true;
+        clientSession.applyCompressionSupport();
+
+        HttpHeaders responseHeaders = new HttpHeaders();
+        responseHeaders.addHeader(headerName, HttpHeaderLineInfo.builder()
+                .headerValue("permessage-deflate").valueDelimiter(';').build());
+        responseHeaders.addHeader(headerName, HttpHeaderLineInfo.builder()
+                .headerValue("client_max_window_bits=\"9\"").valueDelimiter(';').build());
+
+        assertEquals(TransportReturnCodes.SUCCESS, WebSocketResponseHeader.SEC_WEB_SOCKET_EXTENSIONS.getWebSocketHeaderHandler()
+                .decodeWebSocketHeader(clientSession, new HttpMessageHandlerImpl(), responseHeaders.getHeader(headerName), error));
+        assertTrue(clientSession.isDeflate());
+        assertEquals(9, clientSession.outboundMaxWindowBits());
+        assertTrue(clientSession.hasNoOutboundCompression());
+    }
+}
@@ -2,7 +2,7 @@
  *|            This source code is provided under the Apache 2.0 license
  *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
  *|                See the project's LICENSE.md for details.
- *|           Copyright (C) 2020,2022-2024 LSEG. All rights reserved.
+ *|           Copyright (C) 2020,2022-2025 LSEG. All rights reserved.
  *|-----------------------------------------------------------------------------
  */
 
@@ -13,8 +13,7 @@ import java.nio.ByteBuffer;
 import java.nio.channels.Pipe;
 import java.nio.channels.SelectableChannel;
 import java.nio.channels.spi.SelectorProvider;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 
 /**
@@ -22,6 +21,11 @@ import java.util.function.Predicate;
  * and Worker threads. To be useful this queue needs a local and remote end. Initially
  * this class operates on the local end of the queues. To operate on the remote end
  * of the queues, call {@link #remote()}.
+ * <p>
+ * Events are passed through lock-free queues. A byte is written to the pipe
+ * behind {@link #readChannel()} only when the queue goes from empty to
+ * non-empty, and not at all while the reading end is spinning in
+ * {@link #spinForRead(long)}, so a burst of writes costs at most one wakeup.
  */
 public class SelectableBiDirectionalQueue
 {
@@ -29,37 +33,45 @@ public class SelectableBiDirectionalQueue
     SelectableBiDirectionalQueue _remote;
     
     // Queues are used to pass events.
-    VaQueue _writeQueue;
-    VaQueue _readQueue;
+    VaMpscQueue _writeQueue;
+    VaMpscQueue _readQueue;
 
     // Pipes are used to trigger selectors to notify when to read.
     Pipe _writePipe;
     Pipe _readPipe;
     ByteBuffer _writeBuffer;
     ByteBuffer _readBuffer;
+    // the wakeup byte written to each pipe, used under its own lock by the thread that sets the notifier
+    ByteBuffer _writeWakeupBuffer;
+    ByteBuffer _readWakeupBuffer;
 
-    // Locks are used for concurrency.
-    Lock _writeLock;
-    Lock _readLock;
-
-    // inner class to share a boolean between threads
+    // inner class to share the wakeup state of one direction between threads
     class NotifiedState
     {
-        boolean _notified = false;
+        // set once a byte has been written to the pipe and not yet read
+        final AtomicBoolean _notified = new AtomicBoolean();
+
+        // set while the reading end is polling the queue instead of selecting
+        volatile boolean _spinning = false;
 
         public void set()
         {
-            _notified = true;
+            _notified.set(true);
         }
 
         public boolean isSet()
         {
-            return _notified;
+            return _notified.get();
         }
 
         public void clear()
         {
-            _notified = false;
+            _notified.set(false);
+        }
+
+        public boolean setIfClear()
+        {
+            return _notified.compareAndSet(false, true);
         }
     }
 
@@ -95,14 +107,12 @@ public class SelectableBiDirectionalQueue
 
         _writeBuffer = ByteBuffer.allocateDirect(DEFAULT_BUFFER_SIZE);
         _readBuffer = ByteBuffer.allocateDirect(DEFAULT_BUFFER_SIZE);
+        _writeWakeupBuffer = ByteBuffer.allocateDirect(1);
+        _readWakeupBuffer = ByteBuffer.allocateDirect(1);
 
         /* create queues used to pass VaNodes. */
-        _writeQueue = new VaQueue();
-        _readQueue = new VaQueue();
-
-        /* create locks */
-        _writeLock = new ReentrantLock();
-        _readLock = new ReentrantLock();
+        _writeQueue = new VaMpscQueue();
+        _readQueue = new VaMpscQueue();
 
         _writeNotifier = new NotifiedState();
         _readNotifier = new NotifiedState();
@@ -135,13 +145,14 @@ public class SelectableBiDirectionalQueue
         _readPipe = sq._writePipe;
         _writeBuffer = sq._readBuffer;
         _readBuffer = sq._writeBuffer;
+        _writeWakeupBuffer = sq._readWakeupBuffer;
+        _readWakeupBuffer = sq._writeWakeupBuffer;
         _writeQueue = sq._readQueue;
         _readQueue = sq._writeQueue;
-        _writeLock = sq._readLock;
-        _readLock = sq._writeLock;
         _writeNotifier = sq._readNotifier;
         _readNotifier = sq._writeNotifier;
         _shutdown = sq._shutdown;
+        _remote = sq;
     }
 
     /**
@@ -176,12 +187,14 @@ public class SelectableBiDirectionalQueue
     }
 
     /**
-     * Reads a ReactorEvent sent from the remote end of the queue.
+     * Reads a ReactorEvent sent from the remote end of the queue. Only one
+     * thread may read from each end of the queue.
      * 
      * Once the selector fires for the key (registered on {@link #readChannel()}
      * ), read should be called until it returns null or
-     * {@link #readQueueSize()} is zero. This will reset the internal notifier
-     * and allow the selector to fire again later.
+     * {@link #readQueueSize()} is zero, followed by {@link #drainReadChannel()}.
+     * This will reset the internal notifier and allow the selector to fire
+     * again later.
      * 
      * @return ReactorEvent
      */
@@ -190,62 +203,73 @@ public class SelectableBiDirectionalQueue
         if (_shutdown.isSet())
             return null;
 
-        VaNode node = null;
+        VaNode node = _readQueue.poll();
+        if (node == null)
+            System.out
+                    .println("SelectableBiDirectionalQueue.read: node was unexpectedly null?");
+
+        drainReadChannel();
+
+        return node;
+    }
+
+    /**
+     * Consumes the wakeup byte from the pipe once the read queue is empty.
+     * A writer notifies after adding its event, so the reader may already have
+     * taken that event when the byte arrives. Such a byte leaves
+     * {@link #readChannel()} readable with nothing to read, so the reading end
+     * calls this method after it has processed the read queue. Must only be
+     * called from the thread that reads this end of the queue.
+     */
+    public void drainReadChannel()
+    {
+        if (_shutdown.isSet() || _readQueue.peek() != null || !_readNotifier.isSet())
+            return;
 
-        _readLock.lock();
-        
-        if (_shutdown.isSet())
-        {
-        	_readLock.unlock();
-            return null;
-        }
-        
         try
         {
-            node = _readQueue.poll();
-            if (node == null)
-                System.out
-                        .println("SelectableBiDirectionalQueue.read: node was unexpectedly null?");
-
-            if (_readQueue.size() == 0)
+            /*
+             * The notifier is set before the byte is written, and on Windows
+             * the SelectableChannel may fire before the data is available. If
+             * the byte has not arrived yet, leave the notifier set; the
+             * selector fires once the byte arrives and the reading end drains
+             * it then.
+             */
+            _readBuffer.clear();
+            int cnt = _readPipe.source().read(_readBuffer);
+            if (cnt == 0)
+                return;
+            if (cnt == -1)
             {
-                // _readQueue is empty, clear the readNotifier.
-                _readBuffer.clear();
-
-                /*
-                 * Note: Windows OS actually sets the notifier (for the
-                 * SelectableChannel) before the data may be available, so
-                 * sometimes read will return zero. ignore it and clear the
-                 * _readNotifier so the far end will be forced to send anothe
-                 * byte on the Pipe and cause the SelectableChannel to be
-                 * notified again.
-                 */
-                int cnt = _readPipe.source().read(_readBuffer);
-                if (cnt == -1)
-                {
-                    System.out.println("SelectableBiDirectionalQueue.read: return returned -1");
-                    shutdown();
-                }
-                _readNotifier.clear();
+                System.out.println("SelectableBiDirectionalQueue.drainReadChannel: read returned -1");
+                shutdown();
+                return;
             }
+            _readNotifier.clear();
+
+            /*
+             * A writer that added after the queue was seen empty but before
+             * the notifier was cleared did not send a byte. Send it here so
+             * the selector still fires for that event.
+             */
+            if (_readQueue.peek() != null && _readNotifier.setIfClear())
+                sendWakeup(_readPipe, _readWakeupBuffer);
         }
         catch (IOException e)
         {
-            System.out.println("SelectableBiDirectionalQueue.read: failed, execption="
-                    + e.getLocalizedMessage());
-            e.printStackTrace();
-            shutdown();
-        }
-        finally
-        {
-            _readLock.unlock();
+            if (!_shutdown.isSet())
+            {
+                System.out.println("SelectableBiDirectionalQueue.drainReadChannel: failed, execption="
+                        + e.getLocalizedMessage());
+                e.printStackTrace();
+                shutdown();
+            }
         }
-
-        return node;
     }
 
     /**
-     * Writes a ReactorEvent to the remote end of the queue.
+     * Writes a ReactorEvent to the remote end of the queue. May be called from
+     * any thread.
      * 
      * @param node ReactorEvent to write to remote end of queue
      * 
@@ -256,46 +280,81 @@ public class SelectableBiDirectionalQueue
         if (_shutdown.isSet())
             return false;
 
-        _writeLock.lock();
-        
-        if (_shutdown.isSet())
-        {
-        	_writeLock.unlock();
-            return false;
-        }
-        
-        try
+        _writeQueue.add(node);
+
+        // only wake the remote end if it is not spinning and has not been woken already.
+        if (!_writeNotifier._spinning && _writeNotifier.setIfClear())
         {
-            _writeQueue.add(node);
-            if (_writeNotifier.isSet() == false)
+            try
             {
-                // the writeNotifier was not set, need to send a byte and set
-                // the notifier.
-                _writeNotifier.set();
-                _writeBuffer.clear();
-                _writeBuffer.put((byte)0);
-                _writeBuffer.flip();
-                int cnt = _writePipe.sink().write(_writeBuffer);
-                if (cnt != 1)
+                sendWakeup(_writePipe, _writeWakeupBuffer);
+            }
+            catch (IOException e)
+            {
+                if (!_shutdown.isSet())
                 {
-                    System.out
-                            .println("SelectableBiDirectionalQueue.write: expected to write 1 byte but wrote "
-                                    + cnt);
+                    System.out.println("SelectableBiDirectionalQueue.write: failed, execption="
+                            + e.getLocalizedMessage());
                     shutdown();
                 }
             }
         }
-        catch (IOException e)
+        return true;
+    }
+
+    /* Writes the single wakeup byte to the pipe. Only the thread that set the
+     * notifier writes it, but the previous writer may still be returning from
+     * its write when the byte was already read, so the buffer is used under its lock. */
+    void sendWakeup(Pipe pipe, ByteBuffer wakeupBuffer) throws IOException
+    {
+        int cnt;
+        synchronized (wakeupBuffer)
+        {
+            wakeupBuffer.clear();
+            cnt = pipe.sink().write(wakeupBuffer);
+        }
+        if (cnt != 1)
         {
-            System.out.println("SelectableBiDirectionalQueue.write: failed, execption="
-                    + e.getLocalizedMessage() + " stacktrace=" + e.getStackTrace().toString());
+            System.out
+                    .println("SelectableBiDirectionalQueue.write: expected to write 1 byte but wrote "
+                            + cnt);
             shutdown();
         }
-        finally
+    }
+
+    /**
+     * Polls the read queue for up to spinTime nanoseconds instead of waiting
+     * on a selector. While spinning, writers on the remote end do not write to
+     * the pipe. Must only be called from the thread that reads this end of the
+     * queue.
+     * 
+     * @param spinTime the maximum time to spin, in nanoseconds
+     * 
+     * @return true if the read queue has events to read, false if spinTime
+     *         expired with the read queue empty
+     */
+    public boolean spinForRead(long spinTime)
+    {
+        if (_readQueue.peek() != null)
+            return true;
+        if (spinTime <= 0 || _shutdown.isSet())
+            return false;
+
+        _readNotifier._spinning = true;
+        long endTime = System.nanoTime() + spinTime;
+        boolean hasEvents;
+        do
         {
-            _writeLock.unlock();
+            hasEvents = _readQueue.peek() != null;
         }
-        return true;
+        while (!hasEvents && System.nanoTime() < endTime);
+        _readNotifier._spinning = false;
+
+        /*
+         * A writer that saw the spinning flag did not send a byte, so check the
+         * queue again after clearing it before the caller goes back to select.
+         */
+        return hasEvents || _readQueue.peek() != null;
     }
 
     /**
@@ -319,67 +378,40 @@ public class SelectableBiDirectionalQueue
     /** Shuts down the selectable bidirectional queue. */
     public void shutdown()
     {
-        if (_shutdown.isSet() == false)
+        if (_shutdown.setIfClear())
         {
-            _shutdown.set();
+            // both ends share the same two pipes.
             try
             {
                 _writePipe.sink().close();
                 _writePipe.source().close();
                 _readPipe.sink().close();
                 _readPipe.source().close();
-                _remote._writePipe.sink().close();
-                _remote._writePipe.source().close();
-                _remote._readPipe.sink().close();
-                _remote._readPipe.source().close();
-                
-                _writeBuffer = null;
-                _writeNotifier = null;
-                _writePipe = null;
-                _writeQueue = null;
-                _readBuffer = null;
-                _readNotifier = null;
-                _readPipe = null;
-                _readQueue = null;
-                _remote._writeBuffer = null;
-                _remote._writeNotifier = null;
-                _remote._writePipe = null;
-                _remote._writeQueue = null;
-                _remote._readBuffer = null;
-                _remote._readNotifier = null;
-                _remote._readPipe = null;
-                _remote._readQueue = null;
             }
             catch (IOException e)
             {
                 System.out
                         .println("SelectableBiDirectionalQueue.shutdown: closing of pipes failed, execption="
-                                + e.getLocalizedMessage()
-                                + " stacktrace="
-                                + e.getStackTrace().toString());
+                                + e.getLocalizedMessage());
             }
         }
     }
 
     /**
-     * Counts the number of elements in the queue that satisfy the given condition
+     * Counts the number of elements in the queue that satisfy the given condition.
+     * Must only be called from the thread that reads this end of the queue.
      * @param filter the condition that the counted elements must satisfy
      * @return the number of suitable elements in the queue
      */
     public int countNumberOfReadQueueElements(Predicate<VaNode> filter) {
-        _readLock.lock();
-        try {
-            int result = 0;
-            VaNode current = _readQueue._head;
-            while (current != null) {
-                if (filter.test(current)) {
-                    result++;
-                }
-                current = current.next();
+        int result = 0;
+        VaNode current = _readQueue.peek();
+        while (current != null) {
+            if (filter.test(current)) {
+                result++;
             }
-            return result;
-        } finally {
-            _readLock.unlock();
+            current = _readQueue.next(current);
         }
+        return result;
     }
 }
@@ -0,0 +1,155 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.common;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * A lock-free FIFO queue for many writer threads and a single reader thread.
+ * Nodes are linked through the node itself, so add and poll do not allocate.
+ * {@link #add(VaNode)} may be called from any thread; {@link #poll()},
+ * {@link #peek()} and iteration from {@link #head()} must only be called from
+ * the one reading thread.
+ */
+public class VaMpscQueue
+{
+    static final AtomicReferenceFieldUpdater<VaNode, VaNode> NEXT_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(VaNode.class, VaNode.class, "_mpscNext");
+
+    // placeholder node that keeps the queue non-empty so writers never touch the head.
+    final VaNode _stub = new VaNode();
+
+    // written by writers only
+    final AtomicReference<VaNode> _tail = new AtomicReference<VaNode>(_stub);
+
+    // read and written by the reader only
+    VaNode _head = _stub;
+
+    final AtomicInteger _size = new AtomicInteger();
+
+    /**
+     * Adds to the tail of the queue. Safe to call from multiple threads.
+     * 
+     * @param node the node to add
+     */
+    public void add(VaNode node)
+    {
+        if (node == null)
+            return;
+
+        link(node);
+        _size.incrementAndGet();
+    }
+
+    void link(VaNode node)
+    {
+        NEXT_UPDATER.lazySet(node, null);
+        VaNode previous = _tail.getAndSet(node);
+        // a reader can see the new tail before this link is set; see nextOf().
+        previous._mpscNext = node;
+    }
+
+    /**
+     * Removes and returns the head of the queue. Must only be called from the
+     * reading thread.
+     * 
+     * @return the head of the queue, or null if the queue is empty
+     */
+    public VaNode poll()
+    {
+        VaNode head = _head;
+        VaNode next = nextOf(head);
+
+        if (head == _stub)
+        {
+            if (next == null)
+                return null;
+            // skip the stub
+            _head = next;
+            head = next;
+            next = nextOf(next);
+        }
+
+        if (next == null)
+        {
+            // head is the last node; put the stub behind it so head can be unlinked.
+            link(_stub);
+            next = nextOf(head);
+        }
+
+        _head = next;
+        _size.decrementAndGet();
+        return head;
+    }
+
+    /**
+     * Returns but does not remove the head of the queue. Must only be called
+     * from the reading thread.
+     * 
+     * @return the head of the queue, or null if the queue is empty
+     */
+    public VaNode peek()
+    {
+        VaNode head = _head;
+        if (head == _stub)
+            head = nextOf(head);
+        return head;
+    }
+
+    /**
+     * Returns the node after the specified node, for iterating from
+     * {@link #peek()} on the reading thread. Returns null at the end of the
+     * queue.
+     * 
+     * @param node a node in the queue
+     * 
+     * @return the next node, or null if node is the last node
+     */
+    public VaNode next(VaNode node)
+    {
+        VaNode next = nextOf(node);
+        if (next == _stub)
+            next = nextOf(next);
+        return next;
+    }
+
+    /*
+     * Returns the link after node. A writer that has swapped the tail but not
+     * yet set the link is only a few instructions away from setting it, so wait
+     * for it rather than reporting the queue empty.
+     */
+    VaNode nextOf(VaNode node)
+    {
+        VaNode next = node._mpscNext;
+        if (next == null && node != _tail.get())
+        {
+            int spins = 0;
+            while ((next = node._mpscNext) == null)
+            {
+                if (++spins > 100)
+                    Thread.yield();
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Returns the size of the queue. Writers update the size after linking,
+     * so a concurrent reader may briefly see fewer nodes than are available.
+     * 
+     * @return the size of the queue
+     */
+    public int size()
+    {
+        int size = _size.get();
+        return size > 0 ? size : 0;
+    }
+}
@@ -2,7 +2,7 @@
  *|            This source code is provided under the Apache 2.0 license
  *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
  *|                See the project's LICENSE.md for details.
- *|           Copyright (C) 2020,2022,2024 LSEG. All rights reserved.
+ *|           Copyright (C) 2020,2022,2024-2025 LSEG. All rights reserved.
  *|-----------------------------------------------------------------------------
  */
 
@@ -18,6 +18,9 @@ public class VaNode
     private VaNode _next = null;
     private VaPool _pool = null;
     private boolean _inPool = false;
+
+    // next node when in a VaMpscQueue, separate from _next so the other queues avoid volatile writes.
+    volatile VaNode _mpscNext = null;
     
     /**
      * The next node.
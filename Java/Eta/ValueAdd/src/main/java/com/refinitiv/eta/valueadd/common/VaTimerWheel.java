@@ -0,0 +1,247 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.common;
+
+/* Hashed timing wheel for timers with a nanosecond deadline.
+ *
+ * Timers are kept in a ring of buckets, one per tick. A timer is placed in the bucket of the tick of its
+ * deadline, so scheduling and canceling are O(1) and expire() only visits the buckets of the ticks that
+ * passed since the previous call, instead of every timer. Timers more than one rotation away share a
+ * bucket with nearer ones and are skipped until their deadline passes. A timer never expires before
+ * its deadline.
+ *
+ * Timers are linked into the buckets through a TimerLink, in the same way as VaDoubleLinkList, so an
+ * object can be a timer without inheriting from a timer class. The deadline is read through the link;
+ * if a scheduled timer's deadline is changed in place, it is moved to its new bucket the next time its
+ * bucket is visited, so a deadline that is brought forward must be followed by schedule().
+ * This class is not thread safe. */
+public class VaTimerWheel<T>
+{
+	/* Bucket of a timer that is not in the wheel. */
+	public static final int NOT_SCHEDULED = -1;
+
+	/* Bucket of a timer that expired and has not been polled yet. */
+	public static final int EXPIRED = -2;
+
+	public static final long DEFAULT_TICK_NANOS = 1000000L;
+	public static final int DEFAULT_WHEEL_SIZE = 512;
+
+	/* Links a timer into the wheel. */
+	public interface TimerLink<T> extends VaDoubleLinkList.Link<T>
+	{
+		/* Returns the deadline of the timer, in System.nanoTime() units. */
+		long deadline(T timer);
+
+		/* Returns the bucket of the timer, NOT_SCHEDULED or EXPIRED. */
+		int bucket(T timer);
+
+		/* Sets the bucket of the timer. */
+		void bucket(T timer, int bucket);
+	}
+
+	private final TimerLink<T> _link;
+	private final long _tickNanos;
+	private final int _mask;
+	private final VaDoubleLinkList<T>[] _buckets;
+	private final VaDoubleLinkList<T> _expired = new VaDoubleLinkList<T>();
+	private long _currentTick; // tick of the last expire() call
+	private int _count;
+
+	private long _earliest = Long.MAX_VALUE; // lower bound of the earliest deadline when _earliestValid
+	private boolean _earliestValid = true;
+
+	public VaTimerWheel(TimerLink<T> link)
+	{
+		this(link, DEFAULT_TICK_NANOS, DEFAULT_WHEEL_SIZE);
+	}
+
+	/* wheelSize is rounded up to a power of two. */
+	@SuppressWarnings("unchecked")
+	public VaTimerWheel(TimerLink<T> link, long tickNanos, int wheelSize)
+	{
+		if (tickNanos <= 0 || wheelSize <= 0)
+			throw new IllegalArgumentException("tickNanos and wheelSize must be positive");
+
+		int size = Integer.highestOneBit(wheelSize);
+		if (size < wheelSize)
+			size <<= 1;
+
+		_link = link;
+		_tickNanos = tickNanos;
+		_mask = size - 1;
+		_buckets = (VaDoubleLinkList<T>[]) new VaDoubleLinkList<?>[size];
+		for (int i = 0; i < size; i++)
+			_buckets[i] = new VaDoubleLinkList<T>();
+		_currentTick = tick(System.nanoTime());
+	}
+
+	private long tick(long nanos)
+	{
+		return Math.floorDiv(nanos, _tickNanos);
+	}
+
+	private int bucketOf(long deadline)
+	{
+		return (int)(Math.max(tick(deadline), _currentTick) & _mask);
+	}
+
+	/* Returns the number of timers in the wheel, including expired timers that have not been polled. */
+	public int count()
+	{
+		return _count;
+	}
+
+	/* Returns true if the timer is in the wheel or expired and not yet polled. */
+	public boolean isScheduled(T timer)
+	{
+		return _link.bucket(timer) != NOT_SCHEDULED;
+	}
+
+	/* Schedules the timer at its deadline, moving it if it is already scheduled. */
+	public void schedule(T timer)
+	{
+		cancel(timer);
+
+		long deadline = _link.deadline(timer);
+		int bucket = bucketOf(deadline);
+		_buckets[bucket].push(timer, _link);
+		_link.bucket(timer, bucket);
+		_count++;
+
+		if (_earliestValid && deadline < _earliest)
+			_earliest = deadline;
+	}
+
+	/* Removes the timer from the wheel. Returns false if it was not scheduled. */
+	public boolean cancel(T timer)
+	{
+		int bucket = _link.bucket(timer);
+		if (bucket == NOT_SCHEDULED)
+			return false;
+
+		if (bucket == EXPIRED)
+			_expired.remove(timer, _link);
+		else
+			_buckets[bucket].remove(timer, _link);
+		_link.bucket(timer, NOT_SCHEDULED);
+		_count--;
+		return true;
+	}
+
+	/* Moves the timers whose deadline is at or before now to the expired list, and returns how many
+	 * timers were moved. Expired timers are returned by pollExpired(). */
+	public int expire(long now)
+	{
+		long nowTick = tick(now);
+		long ticks = nowTick - _currentTick;
+		int bucketCount = ticks < 0 ? 1 : (int)Math.min(ticks, _mask) + 1;
+		int expiredCount = 0;
+
+		for (int i = 0; i < bucketCount; i++)
+		{
+			int bucketIndex = (int)((_currentTick + i) & _mask);
+			VaDoubleLinkList<T> bucket = _buckets[bucketIndex];
+			T timer = bucket.peek();
+			while (timer != null)
+			{
+				T next = _link.getNext(timer);
+				long deadline = _link.deadline(timer);
+				if (deadline - now <= 0)
+				{
+					bucket.remove(timer, _link);
+					_expired.push(timer, _link);
+					_link.bucket(timer, EXPIRED);
+					expiredCount++;
+				}
+				else
+				{
+					/* The deadline was changed in place; move the timer to its bucket. */
+					int newBucket = (int)(Math.max(tick(deadline), nowTick) & _mask);
+					if (newBucket != bucketIndex)
+					{
+						bucket.remove(timer, _link);
+						_buckets[newBucket].push(timer, _link);
+						_link.bucket(timer, newBucket);
+					}
+				}
+				timer = next;
+			}
+		}
+
+		if (nowTick > _currentTick)
+			_currentTick = nowTick;
+		if (_earliestValid && _earliest - now <= 0)
+			_earliestValid = false;
+
+		return expiredCount;
+	}
+
+	/* Removes and returns the next expired timer, or null if there is none. */
+	public T pollExpired()
+	{
+		T timer = _expired.pop(_link);
+		if (timer != null)
+		{
+			_link.bucket(timer, NOT_SCHEDULED);
+			_count--;
+		}
+		return timer;
+	}
+
+	/* Returns a deadline at or before the earliest deadline in the wheel, or Long.MAX_VALUE if the wheel
+	 * is empty. After timers expire, the next call visits the buckets from the current tick until it
+	 * reaches the tick of a timer; otherwise this is O(1). The result may be earlier than the earliest
+	 * deadline once the timer that had it is canceled, which only makes a caller wake up early. */
+	public long nextDeadline()
+	{
+		if (_expired.count() > 0)
+			return Long.MIN_VALUE;
+
+		if (_count == 0)
+			return Long.MAX_VALUE;
+
+		if (!_earliestValid)
+		{
+			/* A timer is never in the bucket of a tick after its deadline, so once a deadline before the
+			 * end of the visited bucket is found, no later bucket holds an earlier one. */
+			long earliest = Long.MAX_VALUE;
+			for (int i = 0; i <= _mask; i++)
+			{
+				for (T timer = _buckets[(int)((_currentTick + i) & _mask)].peek(); timer != null; timer = _link.getNext(timer))
+				{
+					long deadline = _link.deadline(timer);
+					if (deadline < earliest)
+						earliest = deadline;
+				}
+				if (earliest < (_currentTick + i + 1) * _tickNanos)
+					break;
+			}
+			_earliest = earliest;
+			_earliestValid = true;
+		}
+
+		return _earliest;
+	}
+
+	/* Removes all timers. */
+	public void clear()
+	{
+		T timer;
+		for (int i = 0; i <= _mask; i++)
+		{
+			while ((timer = _buckets[i].pop(_link)) != null)
+				_link.bucket(timer, NOT_SCHEDULED);
+		}
+		while ((timer = _expired.pop(_link)) != null)
+			_link.bucket(timer, NOT_SCHEDULED);
+		_count = 0;
+		_earliest = Long.MAX_VALUE;
+		_earliestValid = true;
+	}
+}
@@ -75,6 +75,7 @@ import com.refinitiv.eta.rdm.Directory.WarmStandbyDirectoryServiceTypes;
 import com.refinitiv.eta.rdm.DomainTypes;
 import com.refinitiv.eta.rdm.Login;
 import com.refinitiv.eta.transport.Channel;
+import com.refinitiv.eta.transport.ChannelInfo;
 import com.refinitiv.eta.transport.ChannelState;
 import com.refinitiv.eta.transport.ConnectOptions;
 import com.refinitiv.eta.transport.ConnectionTypes;
@@ -82,6 +83,7 @@ import com.refinitiv.eta.transport.InitArgs;
 import com.refinitiv.eta.transport.IoctlCodes;
 import com.refinitiv.eta.transport.ReadArgs;
 import com.refinitiv.eta.transport.ReadArgsImpl;
+import com.refinitiv.eta.transport.ReadBatch;
 import com.refinitiv.eta.transport.Server;
 import com.refinitiv.eta.transport.Transport;
 import com.refinitiv.eta.transport.TransportBuffer;
@@ -89,6 +91,7 @@ import com.refinitiv.eta.transport.TransportFactory;
 import com.refinitiv.eta.transport.TransportReturnCodes;
 import com.refinitiv.eta.transport.WriteArgs;
 import com.refinitiv.eta.transport.WriteArgsImpl;
+import com.refinitiv.eta.transport.WriteFlags;
 import com.refinitiv.eta.valueadd.common.SelectableBiDirectionalQueue;
 import com.refinitiv.eta.valueadd.common.VaDoubleLinkList;
 import com.refinitiv.eta.valueadd.common.VaPool;
@@ -179,6 +182,14 @@ public class Reactor
 	WriteArgs _writeArgsAggregator = TransportFactory.createWriteArgs();
 	ReactorSubmitOptions reactorSubmitOptions = ReactorFactory.createReactorSubmitOptions();
 	ReadArgs _readArgsAggregator = TransportFactory.createReadArgs();
+	private int _readMessageCount; // the number of messages dispatched by the last performChannelRead call
+	private ReactorChannelStatsImpl _latencyStats; // latencies of all channels, created when latency statistics are enabled
+	private ArrayList<ReactorChannel> _autoPackChannels = new ArrayList<>(); // channels with an auto packed buffer
+	private ReactorSubmitOptions _autoPackSubmitOptions = ReactorFactory.createReactorSubmitOptions();
+	private ReactorErrorInfo _autoPackErrorInfo = ReactorFactory.createReactorErrorInfo();
+	private ChannelInfo _autoPackChannelInfo = TransportFactory.createChannelInfo();
+	private com.refinitiv.eta.transport.Error _autoPackReleaseError = TransportFactory.createError();
+	private static final int MSG_NOT_PACKED = 1; // autoPackMsg() did not pack the message
 	InitArgs _initArgs = TransportFactory.createInitArgs();
 	LoginMsg _loginMsg = LoginMsgFactory.createMsg();
 	CloseMsg _closeMsg = (CloseMsg) CodecFactory.createMsg();
@@ -419,6 +430,99 @@ public class Reactor
 		return !_reactorActive;
 	}
 
+	/**
+	 * Populates the latency histograms of a {@link ReactorChannelStats} object with the
+	 * latencies of all channels of this Reactor, captured since either the creation of the
+	 * Reactor or the last call to this method, when {@link ReactorOptions.StatisticFlags#LATENCY}
+	 * is set. The other statistics of the object are not changed.
+	 *
+	 * After populating the object, the Reactor latency histograms are reset. The histograms of
+	 * each channel are populated and reset separately by
+	 * {@link ReactorChannel#getReactorChannelStats(ReactorChannelStats)}.
+	 *
+	 * @param stats the {@link ReactorChannelStats} object to be populated
+	 */
+	public void getReactorLatencyStats(ReactorChannelStats stats)
+	{
+		if (stats == null || isShutdown())
+			return;
+
+		_reactorLock.lock();
+
+		try
+		{
+			// latencies are only recorded when enabled
+			if (_latencyStats != null)
+				ReactorChannelStatsImpl.moveLatencies(_latencyStats, stats);
+			else
+				ReactorChannelStatsImpl.clearLatencies(stats);
+		}
+		finally
+		{
+			_reactorLock.unlock();
+		}
+	}
+
+	/* Returns the latencies of all channels, creating them on first use. */
+	ReactorChannelStatsImpl latencyStats()
+	{
+		if (_latencyStats == null)
+			_latencyStats = new ReactorChannelStatsImpl(true);
+		return _latencyStats;
+	}
+
+	/* Returns the start time of a message callback when latency statistics are enabled, or 0.
+	 * The first callback after a read of the channel also records the read to callback latency. */
+	private long latencyCallbackStart(ReactorChannel reactorChannel)
+	{
+		if (!_reactorOptions.latencyStatSet())
+			return 0;
+
+		long startTime = System.nanoTime();
+		long readTime = reactorChannel.readTime();
+		if (readTime != 0)
+		{
+			reactorChannel.readTime(0);
+			reactorChannel.latencyStats().readToCallbackLatency().record(startTime - readTime);
+			latencyStats().readToCallbackLatency().record(startTime - readTime);
+		}
+		return startTime;
+	}
+
+	/* Records the time spent in a message callback started at startTime. */
+	private void latencyCallbackEnd(ReactorChannel reactorChannel, long startTime)
+	{
+		if (startTime == 0)
+			return;
+
+		long latency = System.nanoTime() - startTime;
+		reactorChannel.latencyStats().callbackLatency().record(latency);
+		latencyStats().callbackLatency().record(latency);
+	}
+
+	/* Records the flush latencies of the channel when the worker reports a completed flush. */
+	private void latencyFlushDone(ReactorChannel reactorChannel)
+	{
+		long flushStartTime = reactorChannel.flushStartTime();
+		long flushEndTime = reactorChannel.flushEndTime();
+		long submitTime = reactorChannel.submitTime();
+
+		if (flushStartTime != 0)
+		{
+			if (submitTime != 0 && flushStartTime - submitTime >= 0)
+			{
+				reactorChannel.latencyStats().submitToFlushLatency().record(flushStartTime - submitTime);
+				latencyStats().submitToFlushLatency().record(flushStartTime - submitTime);
+			}
+			reactorChannel.latencyStats().flushToWriteLatency().record(flushEndTime - flushStartTime);
+			latencyStats().flushToWriteLatency().record(flushEndTime - flushStartTime);
+		}
+
+		// messages submitted while this flush was in progress are flushed by the next one
+		reactorChannel.submitTime(reactorChannel.flushAgainSubmitTime());
+		reactorChannel.flushAgainSubmitTime(0);
+	}
+
 	/**
 	 * Shuts down and cleans up a Reactor. Stops the ETA Reactor if necessary and
 	 * sends ReactorChannelEvents to all active channels indicating that they are
@@ -3284,7 +3388,9 @@ public class Reactor
 				reactorMsgEvent.streamInfo().clear();
 			}
 
+			long callbackStartTime = latencyCallbackStart(reactorChannel);
 			int retval = callbackChannel.role().defaultMsgCallback().defaultMsgCallback(reactorMsgEvent);
+			latencyCallbackEnd(reactorChannel, callbackStartTime);
 			reactorMsgEvent.returnToPool();
 
 			return retval;
@@ -3567,7 +3673,9 @@ public class Reactor
 		tunnelStreamMsgEvent.tunnelStream(tunnelStream);
 		tunnelStreamMsgEvent.containerType(containerType);
 
+		long callbackStartTime = latencyCallbackStart(reactorChannel);
 		int retval = tunnelStream.defaultMsgCallback().defaultMsgCallback(tunnelStreamMsgEvent);
+		latencyCallbackEnd(reactorChannel, callbackStartTime);
 		tunnelStreamMsgEvent.returnToPool();
 
 		return retval;
@@ -3620,7 +3728,9 @@ public class Reactor
 			queueMsgEvent.tunnelStream(tunnelStream);
 			queueMsgEvent.queueMsg(queueMsg);
 
+			long callbackStartTime = latencyCallbackStart(reactorChannel);
 			retval = tunnelStream.queueMsgCallback().queueMsgCallback(queueMsgEvent);
+			latencyCallbackEnd(reactorChannel, callbackStartTime);
 			queueMsgEvent.returnToPool();
 		} else
 		{
@@ -4166,7 +4276,9 @@ public class Reactor
 				reactorChannel.warmStandByHandlerImpl.mainReactorChannelImpl()
 						.userSpecObj(reactorChannel.userSpecObj());
 			}
+			long callbackStartTime = latencyCallbackStart(reactorChannel);
 			retval = callback.rdmLoginMsgCallback(rdmLoginMsgEvent);
+			latencyCallbackEnd(reactorChannel, callbackStartTime);
 		} else if (sendCallback)
 		{
 			// callback is undefined, raise it to defaultMsgCallback.
@@ -4374,7 +4486,9 @@ public class Reactor
 				rdmDirectoryMsgEvent.streamInfo().clear();
 			}
 
+			long callbackStartTime = latencyCallbackStart(reactorChannel);
 			retval = callback.rdmDirectoryMsgCallback(rdmDirectoryMsgEvent);
+			latencyCallbackEnd(reactorChannel, callbackStartTime);
 			// We can now clear the wsb group directory update list.
 			if (reactorHandlesWarmStandby(reactorChannel))
 			{
@@ -4571,7 +4685,9 @@ public class Reactor
 					rdmDictionaryMsgEvent.streamInfo().clear();
 				}
 
+				long callbackStartTime = latencyCallbackStart(reactorChannel);
 				retval = callback.rdmDictionaryMsgCallback(rdmDictionaryMsgEvent);
+				latencyCallbackEnd(reactorChannel, callbackStartTime);
 				rdmDictionaryMsgEvent.returnToPool();
 			} else
 			{
@@ -4713,8 +4829,8 @@ public class Reactor
 				{
 					do
 					{
-						msgCount++;
-						retval = performChannelRead(reactorChannel, dispatchOptions.readArgs(), errorInfo);
+						retval = performChannelRead(reactorChannel, dispatchOptions.readArgs(), maxMessages - msgCount, errorInfo);
+						msgCount += _readMessageCount > 1 ? _readMessageCount : 1;
 					} while (isReactorChannelReady(reactorChannel) && msgCount < maxMessages && retval > 0);
 				}
 
@@ -4740,11 +4856,14 @@ public class Reactor
 					if ((retval = processWorkerEvent(errorInfo)) < ReactorReturnCodes.SUCCESS)
 						return retval;
 				}
+				_workerQueue.drainReadChannel();
 
 				return _workerQueue.readQueueSize();
 			}
 		} finally
 		{
+			if (_autoPackChannels.size() > 0)
+				writeAutoPackBuffers();
 			_reactorLock.unlock();
 		}
 	}
@@ -4767,6 +4886,11 @@ public class Reactor
 						"ReactorChannel is closed, aborting.");
 			} else if (reactorChannel != _reactorChannel)
 			{
+				// messages packed automatically are written before this one
+				if (reactorChannel.autoPackBuffer() != null && reactorChannel.autoPackBuffer() != buffer
+						&& (ret = writeAutoPackBuffer(reactorChannel, errorInfo)) < ReactorReturnCodes.SUCCESS)
+					return ret;
+
 				ReactorPackedBuffer packedBufferImpl = null;
 				boolean isPackedBuffer = packedBufferHashMap.size() == 0 ? false
 						: ((packedBufferImpl = packedBufferHashMap.get(buffer)) != null);
@@ -4975,6 +5099,12 @@ public class Reactor
 				}
 				// Msg not pending - proceed
 				int msgSize = encodedMsgSize(msg);
+				if (reactorChannel.autoPackSize() > 0)
+				{
+					if ((ret = autoPackMsg(reactorChannel, msg, msgSize, submitOptions, errorInfo)) != MSG_NOT_PACKED)
+						return ret;
+					ret = ReactorReturnCodes.SUCCESS;
+				}
 				while (true) // try to get buffer and encode until success or error
 				{
 					TransportBuffer writeBuffer = reactorChannel.channel().getBuffer(msgSize, false, errorInfo.error());
@@ -5216,9 +5346,8 @@ public class Reactor
 
 		// determine if for watchlist and process by watchlist
 		WlStream wlStream = null;
-		_tempWlInteger.value(_msg.streamId());
 		if (reactorChannel.watchlist() != null
-				&& (wlStream = reactorChannel.watchlist().streamIdtoWlStreamTable().get(_tempWlInteger)) != null)
+				&& (wlStream = reactorChannel.watchlist().streamIdtoWlStreamTable().get(_msg.streamId())) != null)
 		{
 			if (reactorChannel.reactor().reactorHandlesWarmStandby(reactorChannel))
 			{
@@ -5295,13 +5424,24 @@ public class Reactor
 	}
 
 	// returns the errorInfo.code() or readArgs.readRetVal.
-	private int performChannelRead(ReactorChannel reactorChannel, ReadArgs readArgs, ReactorErrorInfo errorInfo)
+	private int performChannelRead(ReactorChannel reactorChannel, ReadArgs readArgs, int maxMessages, ReactorErrorInfo errorInfo)
 	{
-		TransportBuffer msgBuf = reactorChannel.channel().read(readArgs, errorInfo.error());
+		ReadBatch readBatch = reactorChannel.readBatch();
+		readBatch.maxMessages(maxMessages > 0 ? maxMessages : 1);
+		reactorChannel.channel().readBatch(readBatch, readArgs, errorInfo.error());
+		long readTime = _reactorOptions.latencyStatSet() ? System.nanoTime() : 0;
+		TransportBuffer msgBuf;
 		int retval;
 
-		if (msgBuf != null)
+		// dispatch the messages read while the channel stays up, as a callback may close it
+		_readMessageCount = 0;
+		while (_readMessageCount < readBatch.count() && (_readMessageCount == 0 || isReactorChannelReady(reactorChannel)))
 		{
+			msgBuf = readBatch.buffer(_readMessageCount++);
+
+			// the first callback for the message records the read to callback latency
+			reactorChannel.readTime(readTime);
+
 			if ((_reactorOptions.xmlTracing() || _reactorOptions.xmlTraceToFile()) && _reactorOptions.xmlTraceRead())
 			{
 				xmlString.setLength(0);
@@ -5576,7 +5716,10 @@ public class Reactor
 					return retval;
 				}
 			}
-		} else
+		}
+		reactorChannel.readTime(0);
+
+		if (readBatch.count() == 0)
 		{
 			if (readArgs.readRetVal() == TransportReturnCodes.FAILURE)
 			{
@@ -5805,6 +5948,8 @@ public class Reactor
 		{
 		case FLUSH_DONE:
 			reactorChannel.flushRequested(false);
+			if (_reactorOptions.latencyStatSet())
+				latencyFlushDone(reactorChannel);
 			if (reactorChannel.flushAgain())
 			{
 				/*
@@ -8914,6 +9059,7 @@ public class Reactor
 				if ((retval = processWorkerEvent(errorInfo)) < ReactorReturnCodes.SUCCESS)
 					return retval;
 			}
+			_workerQueue.drainReadChannel();
 
 			try
 			{
@@ -9027,7 +9173,7 @@ public class Reactor
 														.uncompressedBytesRead();
 
 												if ((retval = performChannelRead(channel, dispatchOptions.readArgs(),
-														errorInfo)) < ReactorReturnCodes.SUCCESS)
+														maxMessages - msgCount, errorInfo)) < ReactorReturnCodes.SUCCESS)
 												{
 													if (channel.state() != ReactorChannel.State.CLOSED && channel
 															.state() != ReactorChannel.State.DOWN_RECONNECTING)
@@ -9042,7 +9188,7 @@ public class Reactor
 												if ((dispatchOptions.readArgs().uncompressedBytesRead()
 														- bytesReadBefore) > 0)
 												{
-													msgCount++;
+													msgCount += _readMessageCount > 1 ? _readMessageCount : 1;
 												}
 											}
 										}
@@ -9060,7 +9206,7 @@ public class Reactor
 										int bytesReadBefore = dispatchOptions.readArgs().uncompressedBytesRead();
 
 										if ((retval = performChannelRead(reactorChnl, dispatchOptions.readArgs(),
-												errorInfo)) < ReactorReturnCodes.SUCCESS)
+												maxMessages - msgCount, errorInfo)) < ReactorReturnCodes.SUCCESS)
 										{
 											if (reactorChnl.state() != ReactorChannel.State.CLOSED
 													&& reactorChnl.state() != ReactorChannel.State.DOWN_RECONNECTING)
@@ -9076,7 +9222,7 @@ public class Reactor
 
 										if ((dispatchOptions.readArgs().uncompressedBytesRead() - bytesReadBefore) > 0)
 										{
-											msgCount++;
+											msgCount += _readMessageCount > 1 ? _readMessageCount : 1;
 										}
 									}
 								}
@@ -9113,7 +9259,7 @@ public class Reactor
 						{
 							int bytesReadBefore = dispatchOptions.readArgs().uncompressedBytesRead();
 							if ((retval = performChannelRead(reactorChnl, dispatchOptions.readArgs(),
-									errorInfo)) < ReactorReturnCodes.SUCCESS)
+									maxMessages - msgCount, errorInfo)) < ReactorReturnCodes.SUCCESS)
 							{
 								
 								if (reactorChnl.state() != ReactorChannel.State.CLOSED
@@ -9130,7 +9276,7 @@ public class Reactor
 							// only increment msgCount if bytes are actually read
 							if ((dispatchOptions.readArgs().uncompressedBytesRead() - bytesReadBefore) > 0)
 							{
-								msgCount++;
+								msgCount += _readMessageCount > 1 ? _readMessageCount : 1;
 							}
 						}
 
@@ -9164,6 +9310,8 @@ public class Reactor
 			}
 		} finally
 		{
+			if (_autoPackChannels.size() > 0)
+				writeAutoPackBuffers();
 			_reactorLock.unlock();
 		}
 
@@ -9288,6 +9436,10 @@ public class Reactor
 			else if (reactorChannel.state() == State.CLOSED)
 				return ReactorReturnCodes.SUCCESS;
 
+			// write the messages packed automatically before closing
+			if (reactorChannel.autoPackBuffer() != null)
+				writeAutoPackBuffer(reactorChannel, _autoPackErrorInfo);
+
 			// set the ReactorChannel's state to CLOSED.
 			// and remove it from the queue.
 			reactorChannel.state(State.CLOSED);
@@ -9525,8 +9677,7 @@ public class Reactor
 				{
 					WlRequest wlRequest;
 
-					_tempWlInteger.value(refreshMsg.streamId());
-					if ((wlRequest = reactorChannel.watchlist().streamIdtoWlRequestTable().get(_tempWlInteger)) == null)
+					if ((wlRequest = reactorChannel.watchlist().streamIdtoWlRequestTable().get(refreshMsg.streamId())) == null)
 					{
 						return populateErrorInfo(errorInfo, retval, "Reactor.performChannelRead",
 								"Internal Error: TunnelStream watchlist request entry not found.");
@@ -9668,16 +9819,221 @@ public class Reactor
 		return ReactorReturnCodes.SUCCESS;
 	}
 
+	/* Sets the auto packing options of a channel, see ReactorChannelIOCtlCode.AUTO_PACK_SIZE. */
+	int autoPackIoctl(ReactorChannel reactorChannel, int code, int value, ReactorErrorInfo errorInfo)
+	{
+		if (value < 0)
+			return populateErrorInfo(errorInfo, ReactorReturnCodes.PARAMETER_OUT_OF_RANGE, "ReactorChannel.ioctl",
+					"The auto pack value cannot be negative.");
+
+		_reactorLock.lock();
+
+		try
+		{
+			if (code == ReactorChannelIOCtlCode.AUTO_PACK_TIMEOUT)
+			{
+				reactorChannel.autoPackTimeout(value * 1000L);
+				return ReactorReturnCodes.SUCCESS;
+			}
+
+			int ret;
+			if (reactorChannel.autoPackBuffer() != null
+					&& (ret = writeAutoPackBuffer(reactorChannel, errorInfo)) < ReactorReturnCodes.SUCCESS)
+				return ret;
+
+			if (value > 0)
+			{
+				// a packed buffer must fit in a fragment
+				if (reactorChannel.channel().info(_autoPackChannelInfo, errorInfo.error()) != TransportReturnCodes.SUCCESS)
+					return populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "ReactorChannel.ioctl",
+							"Failed to get the channel info. Error text: " + errorInfo.error().text());
+				value = Math.min(value, _autoPackChannelInfo.maxFragmentSize());
+			}
+
+			reactorChannel.autoPackSize(value);
+			return ReactorReturnCodes.SUCCESS;
+		} finally
+		{
+			_reactorLock.unlock();
+		}
+	}
+
+	/*
+	 * Encodes a message into the auto packed buffer of the channel, and writes the buffer when it is
+	 * full or its time threshold has elapsed. Returns MSG_NOT_PACKED if the message is to be written
+	 * separately.
+	 */
+	private int autoPackMsg(ReactorChannel reactorChannel, Msg msg, int msgSize, ReactorSubmitOptions submitOptions,
+			ReactorErrorInfo errorInfo)
+	{
+		if (msgSize > reactorChannel.autoPackSize() || submitOptions.writeArgs().flags() != WriteFlags.NO_FLAGS
+				|| reactorChannel.channel().protocolType() == Codec.JSON_PROTOCOL_TYPE)
+			return MSG_NOT_PACKED;
+
+		int ret;
+		int priority = submitOptions.writeArgs().priority();
+		if (reactorChannel.autoPackBuffer() != null && (reactorChannel.autoPackPriority() != priority
+				|| reactorChannel.autoPackChannel() != reactorChannel.channel() || reactorChannel.autoPackWriteAgain()))
+		{
+			if ((ret = writeAutoPackBuffer(reactorChannel, errorInfo)) < ReactorReturnCodes.SUCCESS)
+				return ret;
+		}
+
+		while (true) // encode until the message is packed, or does not fit in an empty buffer
+		{
+			TransportBuffer packBuffer = reactorChannel.autoPackBuffer();
+			if (packBuffer == null)
+			{
+				packBuffer = reactorChannel.channel().getBuffer(reactorChannel.autoPackSize(), true,
+						errorInfo.error());
+				if (packBuffer == null)
+				{
+					if (sendFlushRequest(reactorChannel, "Reactor.submitChannel",
+							errorInfo) != ReactorReturnCodes.SUCCESS)
+						return ReactorReturnCodes.FAILURE;
+
+					return populateErrorInfo(errorInfo, ReactorReturnCodes.NO_BUFFERS, "Reactor.submitChannel",
+							"channel out of buffers chnl=" + reactorChannel.channel().selectableChannel()
+									+ " errorId=" + errorInfo.error().errorId() + " errorText="
+									+ errorInfo.error().text());
+				}
+				reactorChannel.autoPackBuffer(packBuffer, priority);
+				_autoPackChannels.add(reactorChannel);
+
+				// the FLUSH_DONE event from the Worker notifies the application to dispatch, which writes the buffer
+				if (sendFlushRequest(reactorChannel, "Reactor.submitChannel", errorInfo) != ReactorReturnCodes.SUCCESS)
+					return ReactorReturnCodes.FAILURE;
+			}
+
+			int position = packBuffer.data().position();
+			_eIter.clear();
+			_eIter.setBufferAndRWFVersion(packBuffer, reactorChannel.channel().majorVersion(),
+					reactorChannel.channel().minorVersion());
+			ret = msg.encode(_eIter);
+			if (ret == CodecReturnCodes.SUCCESS)
+				break;
+
+			// discard the partially encoded message
+			packBuffer.data().position(position);
+
+			if (ret != CodecReturnCodes.BUFFER_TOO_SMALL)
+				return populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.submitChannel",
+						"message encoding failure chnl=" + reactorChannel.channel().selectableChannel()
+								+ " errorId=" + ret + " errorText=" + CodecReturnCodes.toString(ret));
+
+			if (reactorChannel.autoPackCount() == 0)
+				return MSG_NOT_PACKED;
+
+			// the buffer is full, write it and pack the message into a new one
+			if ((ret = writeAutoPackBuffer(reactorChannel, errorInfo)) < ReactorReturnCodes.SUCCESS)
+				return ret;
+		}
+
+		reactorChannel.autoPacked();
+		int remaining = reactorChannel.channel().packBuffer(reactorChannel.autoPackBuffer(), errorInfo.error());
+		if (remaining < TransportReturnCodes.SUCCESS)
+			return populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.submitChannel",
+					"channel pack failure chnl=" + reactorChannel.channel().selectableChannel() + " errorId="
+							+ errorInfo.error().errorId() + " errorText=" + errorInfo.error().text());
+
+		if (remaining == 0 || (reactorChannel.autoPackTimeout() > 0
+				&& System.nanoTime() - reactorChannel.autoPackStartTime() >= reactorChannel.autoPackTimeout()))
+			return writeAutoPackBuffer(reactorChannel, errorInfo);
+
+		return ReactorReturnCodes.SUCCESS;
+	}
+
+	/*
+	 * Writes the auto packed buffer of the channel. The buffer is released instead if it is empty,
+	 * or dropped with its transport channel if the channel is no longer up on that transport channel.
+	 * On WRITE_CALL_AGAIN the buffer stays with the channel and is written again as it is, at the next
+	 * submit to the channel or the end of the next dispatch call. On a failed write it is released.
+	 */
+	private int writeAutoPackBuffer(ReactorChannel reactorChannel, ReactorErrorInfo errorInfo)
+	{
+		TransportBuffer packBuffer = reactorChannel.autoPackBuffer();
+		if (packBuffer == null)
+		{
+			_autoPackChannels.remove(reactorChannel);
+			return ReactorReturnCodes.SUCCESS;
+		}
+
+		int ret = ReactorReturnCodes.SUCCESS;
+		if (reactorChannel.autoPackChannel() == reactorChannel.channel() && isReactorChannelReady(reactorChannel))
+		{
+			if (reactorChannel.autoPackCount() == 0)
+				reactorChannel.channel().releaseBuffer(packBuffer, errorInfo.error());
+			else
+			{
+				_autoPackSubmitOptions.clear();
+				_autoPackSubmitOptions.writeArgs().priority(reactorChannel.autoPackPriority());
+				ret = submitChannel(reactorChannel, packBuffer, _autoPackSubmitOptions, errorInfo);
+
+				if (ret == ReactorReturnCodes.WRITE_CALL_AGAIN)
+				{
+					reactorChannel.autoPackWriteAgain(true);
+					return ret;
+				}
+
+				// the write failed, keep its error text in errorInfo
+				if (ret < ReactorReturnCodes.SUCCESS)
+					reactorChannel.channel().releaseBuffer(packBuffer, _autoPackReleaseError);
+			}
+		}
+
+		reactorChannel.autoPackBuffer(null, 0);
+		_autoPackChannels.remove(reactorChannel);
+		return ret;
+	}
+
+	/*
+	 * Writes the auto packed buffers of all channels, at the end of a dispatch call. A channel whose
+	 * write failed is reported down to the application, like a channel whose read failed.
+	 */
+	private void writeAutoPackBuffers()
+	{
+		for (int i = _autoPackChannels.size() - 1; i >= 0; i--)
+		{
+			// the callback of a channel reported down may submit to other channels
+			if (i >= _autoPackChannels.size())
+				continue;
+
+			ReactorChannel reactorChannel = _autoPackChannels.get(i);
+			if (writeAutoPackBuffer(reactorChannel, _autoPackErrorInfo) != ReactorReturnCodes.FAILURE
+					|| !isReactorChannelReady(reactorChannel))
+				continue;
+
+			if (reactorChannel.server() == null && !reactorChannel.recoveryAttemptLimitReached()) // client channel
+			{
+				reactorChannel.state(State.DOWN_RECONNECTING);
+				sendAndHandleChannelEventCallback("Reactor.dispatchAll",
+						ReactorChannelEventTypes.CHANNEL_DOWN_RECONNECTING, reactorChannel, _autoPackErrorInfo);
+			} else // server channel or no more retries
+			{
+				reactorChannel.state(State.DOWN);
+				sendAndHandleChannelEventCallback("Reactor.dispatchAll",
+						ReactorChannelEventTypes.CHANNEL_DOWN, reactorChannel, _autoPackErrorInfo);
+			}
+		}
+	}
+
 	/* Request that the Worker start flushing this channel. */
 	private int sendFlushRequest(ReactorChannel reactorChannel, String location, ReactorErrorInfo errorInfo)
 	{
 		if (reactorChannel.flushRequested())
+		{
 			reactorChannel.flushAgain(true); /*
 												 * Flush already in progress; wait till FLUSH_DONE is received, then
 												 * request again.
 												 */
+			if (_reactorOptions.latencyStatSet() && reactorChannel.flushAgainSubmitTime() == 0)
+				reactorChannel.flushAgainSubmitTime(System.nanoTime());
+		}
 		else
 		{
+			if (_reactorOptions.latencyStatSet() && reactorChannel.submitTime() == 0)
+				reactorChannel.submitTime(System.nanoTime());
+
 			if (!sendWorkerEvent(WorkerEventTypes.FLUSH, reactorChannel))
 			{
 				// sendWorkerEvent() failed, send channel down
@@ -10650,12 +11006,8 @@ public class Reactor
 
 			if (!wsbHandler.queuedRecoveryMessage() || addMsgToRecoveryQueue)
 			{
-				Iterator<Map.Entry<WlInteger, WlRequest>> iter = watchlist._streamIdtoWlRequestTable.entrySet()
-						.iterator();
-
-				while (iter.hasNext())
+				for (WlRequest request : watchlist._streamIdtoWlRequestTable.values())
 				{
-					Map.Entry<WlInteger, WlRequest> request = iter.next();
 
 					ReactorWLSubmitMsgOptions submitOpts;
 					if (wsbHandler.freeSubmitMsgQueue().size() != 0)
@@ -10666,7 +11018,7 @@ public class Reactor
 						submitOpts = new ReactorWLSubmitMsgOptions();
 					}
 					
-					RequestMsg tmpMsg = request.getValue().requestMsg();
+					RequestMsg tmpMsg = request.requestMsg();
 					
 					if(tmpMsg.domainType() == DomainTypes.LOGIN || tmpMsg.domainType() == DomainTypes.SOURCE || tmpMsg.domainType() == DomainTypes.DICTIONARY)
 					{
@@ -10675,9 +11027,9 @@ public class Reactor
 					
 					tmpMsg.copy(submitOpts.msg, CopyMsgFlags.ALL_FLAGS);
 
-					submitOpts.submitOptions.serviceName(request.getValue().streamInfo()._serviceName);
+					submitOpts.submitOptions.serviceName(request.streamInfo()._serviceName);
 					submitOpts.submitOptions.requestMsgOptions()
-							.userSpecObj(request.getValue().streamInfo().userSpecObject());
+							.userSpecObj(request.streamInfo().userSpecObject());
 					
 					lastSubmitionTime = System.nanoTime();
 					submitOpts.submitTime = lastSubmitionTime;
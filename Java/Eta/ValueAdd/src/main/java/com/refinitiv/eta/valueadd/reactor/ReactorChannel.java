@@ -40,6 +40,7 @@ import com.refinitiv.eta.transport.ChannelState;
 import com.refinitiv.eta.transport.ConnectionTypes;
 import com.refinitiv.eta.transport.Error;
 import com.refinitiv.eta.transport.IoctlCodes;
+import com.refinitiv.eta.transport.ReadBatch;
 import com.refinitiv.eta.transport.Server;
 import com.refinitiv.eta.transport.Transport;
 import com.refinitiv.eta.transport.TransportBuffer;
@@ -83,6 +84,21 @@ public class ReactorChannel extends VaNode
     private long _initializationEndTimeMs = 0;
     private boolean _flushRequested = false;
     private boolean _flushAgain = false;
+    private ReactorChannelStatsImpl _latencyStats; // created when latency statistics are enabled
+    private long _readTime; // the read time of the message being dispatched, until its first callback
+    private long _submitTime; // the submit time of the oldest message waiting for the requested flush
+    private long _flushAgainSubmitTime; // the submit time of the oldest message waiting for the next flush
+    private long _workerFlushStartTime; // the start time of the flush in progress, owned by the worker
+    private volatile long _flushStartTime; // the start time of the last completed flush
+    private volatile long _flushEndTime; // the end time of the last completed flush
+    private int _autoPackSize; // the size of auto packed buffers, 0 when auto packing is disabled
+    private long _autoPackTimeout; // nanoseconds after which a packed buffer is written at a submit, or 0
+    private TransportBuffer _autoPackBuffer; // the buffer being auto packed
+    private Channel _autoPackChannel; // the channel from which _autoPackBuffer was obtained
+    private int _autoPackPriority; // the write priority of the messages in _autoPackBuffer
+    private int _autoPackCount; // the number of messages in _autoPackBuffer
+    private long _autoPackStartTime; // the time the first message was packed into _autoPackBuffer
+    private boolean _autoPackWriteAgain; // _autoPackBuffer was partly written and is written again as it is
     private int _reactorChannelType = ReactorChannelType.NORMAL; 	// The Reactor channel type that this channel represents.
     private ReactorWarmStandbyChannelInfo _warmStandbyChInfo = new ReactorWarmStandbyChannelInfo(); 		// This member is only available for the Reactor warm standby channel to get a list of channels. Used for notification of available data for this channel.
     com.refinitiv.eta.transport.Error _error = TransportFactory.createError();
@@ -92,6 +108,7 @@ public class ReactorChannel extends VaNode
     private boolean _hasTunnelStreamManagerNextDispatchTime = false;
 
     private PingHandler _pingHandler = new PingHandler();
+    private ReadBatch _readBatch;
     private boolean _sendPingMessage = false; /* This is used to indicate whether to send JSON ping message for server side. */
 
     /* Connection recovery information. */
@@ -398,6 +415,20 @@ public class ReactorChannel extends VaNode
         _initializationEndTimeMs = 0L;
         _flushRequested = false;
         _flushAgain = false;
+        if (_latencyStats != null)
+            _latencyStats.clear();
+        _readTime = 0;
+        _submitTime = 0;
+        _flushAgainSubmitTime = 0;
+        _workerFlushStartTime = 0;
+        _flushStartTime = 0;
+        _flushEndTime = 0;
+        _autoPackSize = 0;
+        _autoPackTimeout = 0;
+        _autoPackBuffer = null;
+        _autoPackChannel = null;
+        _autoPackCount = 0;
+        _autoPackWriteAgain = false;
         _pingHandler.clear();
         _sendPingMessage = false;
         _streamIdtoTunnelStreamTable.clear();
@@ -761,6 +792,15 @@ public class ReactorChannel extends VaNode
         return _pingHandler;
     }
 
+    /* Returns the batch the messages of this channel are read into. */
+    ReadBatch readBatch()
+    {
+        if (_readBatch == null)
+            _readBatch = TransportFactory.createReadBatch(1);
+
+        return _readBatch;
+    }
+
     /* This is used to set whether to enable JSON ping message */
     void sendPingMessage(boolean sendPingMessage)
     {
@@ -1446,6 +1486,7 @@ public class ReactorChannel extends VaNode
      * @return {@link ReactorReturnCodes} indicating success or failure
      *
      * @see com.refinitiv.eta.transport.IoctlCodes
+     * @see ReactorChannelIOCtlCode
      */
     public int ioctl(int code, int value, ReactorErrorInfo errorInfo)
     {
@@ -1465,6 +1506,11 @@ public class ReactorChannel extends VaNode
     		return _reactor.populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE,
                     "ReactorChannel.ioctl", "The channel is no longer available.");
     	}
+
+    	if (code == ReactorChannelIOCtlCode.AUTO_PACK_SIZE || code == ReactorChannelIOCtlCode.AUTO_PACK_TIMEOUT)
+    	{
+    		return _reactor.autoPackIoctl(this, code, value, errorInfo);
+    	}
     	
     	if(reactor().reactorHandlesWarmStandby(this)) 
     	{
@@ -2508,6 +2554,142 @@ public class ReactorChannel extends VaNode
         _flushAgain = flushAgain;
     }
 
+    /* Returns the latencies of this channel, creating them on first use. */
+    ReactorChannelStatsImpl latencyStats()
+    {
+        if (_latencyStats == null)
+            _latencyStats = new ReactorChannelStatsImpl(true);
+        return _latencyStats;
+    }
+
+    long readTime()
+    {
+        return _readTime;
+    }
+
+    void readTime(long readTime)
+    {
+        _readTime = readTime;
+    }
+
+    long submitTime()
+    {
+        return _submitTime;
+    }
+
+    void submitTime(long submitTime)
+    {
+        _submitTime = submitTime;
+    }
+
+    long flushAgainSubmitTime()
+    {
+        return _flushAgainSubmitTime;
+    }
+
+    void flushAgainSubmitTime(long flushAgainSubmitTime)
+    {
+        _flushAgainSubmitTime = flushAgainSubmitTime;
+    }
+
+    /* Called by the worker before each flush attempt; the start time is kept until the flush completes. */
+    void workerFlushStarting()
+    {
+        if (_workerFlushStartTime == 0)
+            _workerFlushStartTime = System.nanoTime();
+    }
+
+    /* Called by the worker when a flush completes, before sending the FLUSH_DONE event. */
+    void workerFlushDone()
+    {
+        _flushEndTime = System.nanoTime();
+        _flushStartTime = _workerFlushStartTime;
+        _workerFlushStartTime = 0;
+    }
+
+    long flushStartTime()
+    {
+        return _flushStartTime;
+    }
+
+    long flushEndTime()
+    {
+        return _flushEndTime;
+    }
+
+    int autoPackSize()
+    {
+        return _autoPackSize;
+    }
+
+    void autoPackSize(int autoPackSize)
+    {
+        _autoPackSize = autoPackSize;
+    }
+
+    long autoPackTimeout()
+    {
+        return _autoPackTimeout;
+    }
+
+    void autoPackTimeout(long autoPackTimeout)
+    {
+        _autoPackTimeout = autoPackTimeout;
+    }
+
+    /* Returns the buffer being auto packed, or null. */
+    TransportBuffer autoPackBuffer()
+    {
+        return _autoPackBuffer;
+    }
+
+    Channel autoPackChannel()
+    {
+        return _autoPackChannel;
+    }
+
+    int autoPackPriority()
+    {
+        return _autoPackPriority;
+    }
+
+    int autoPackCount()
+    {
+        return _autoPackCount;
+    }
+
+    long autoPackStartTime()
+    {
+        return _autoPackStartTime;
+    }
+
+    boolean autoPackWriteAgain()
+    {
+        return _autoPackWriteAgain;
+    }
+
+    void autoPackWriteAgain(boolean autoPackWriteAgain)
+    {
+        _autoPackWriteAgain = autoPackWriteAgain;
+    }
+
+    /* Sets the buffer to auto pack messages of the given write priority into. */
+    void autoPackBuffer(TransportBuffer autoPackBuffer, int priority)
+    {
+        _autoPackBuffer = autoPackBuffer;
+        _autoPackChannel = autoPackBuffer != null ? _channel : null;
+        _autoPackPriority = priority;
+        _autoPackCount = 0;
+        _autoPackWriteAgain = false;
+    }
+
+    /* Counts a message packed into the auto packed buffer. */
+    void autoPacked()
+    {
+        if (_autoPackCount++ == 0 && _autoPackTimeout > 0)
+            _autoPackStartTime = System.nanoTime();
+    }
+
     ReactorAuthTokenEventCallback reactorAuthTokenEventCallback() {
         return _currentConnectInfo.reactorAuthTokenEventCallback();
     }
@@ -3126,6 +3308,16 @@ public class ReactorChannel extends VaNode
             pingHandler().resetAggregatedStats();
             _reactor._readArgsAggregator.clear();
             _reactor._writeArgsAggregator.clear();
+
+            // Move latency histograms, which are only recorded when enabled
+            if (_latencyStats != null)
+            {
+                ReactorChannelStatsImpl.moveLatencies(_latencyStats, stats);
+            }
+            else
+            {
+                ReactorChannelStatsImpl.clearLatencies(stats);
+            }
         }
         finally
         {
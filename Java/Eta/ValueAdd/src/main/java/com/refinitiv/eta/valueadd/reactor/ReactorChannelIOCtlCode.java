@@ -10,6 +10,7 @@ package com.refinitiv.eta.valueadd.reactor;
 
 /**
  *  ETA Reactor Channel IOCtl codes for {@link ReactorChannel#ioctl(int, Object value, ReactorErrorInfo)}
+ *  and {@link ReactorChannel#ioctl(int, int value, ReactorErrorInfo)}
  *
  */
 public class ReactorChannelIOCtlCode
@@ -18,4 +19,25 @@ public class ReactorChannelIOCtlCode
      * This option is used to dynamically change the preferred host options.
     */
     public static final int FALLBACK_PREFERRED_HOST_OPTIONS = 201;
+
+    /**
+     * This option enables the automatic packing of the messages submitted with
+     * {@link ReactorChannel#submit(com.refinitiv.eta.codec.Msg, ReactorSubmitOptions, ReactorErrorInfo)}
+     * and sets the size in bytes of the packed buffers, limited to the maximum fragment size of the channel.
+     * Consecutive messages are packed into one buffer, which is written when the next message does not fit,
+     * when the {@link #AUTO_PACK_TIMEOUT} has elapsed at a submit, before any other message is written to
+     * the channel, and at the end of each dispatch call of the Reactor. The Reactor channel is notified when
+     * a packed buffer is started, so that the application dispatches the Reactor without waiting.
+     * Messages that are larger than the packed buffers, submitted with write flags, or submitted on a
+     * channel using the JSON protocol are written separately.
+     * A value of 0 disables automatic packing, which is the default.
+     */
+    public static final int AUTO_PACK_SIZE = 202;
+
+    /**
+     * This option sets the time in microseconds after which a packed buffer started by
+     * {@link #AUTO_PACK_SIZE} is written at the next submit. A value of 0, the default, only
+     * writes packed buffers when they are full or at the end of a dispatch call.
+     */
+    public static final int AUTO_PACK_TIMEOUT = 203;
 }
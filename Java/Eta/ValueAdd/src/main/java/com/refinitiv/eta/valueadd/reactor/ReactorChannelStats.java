@@ -2,7 +2,7 @@
  *|            This source code is provided under the Apache 2.0 license
  *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
  *|                See the project's LICENSE.md for details.
- *|           Copyright (C) 2020,2022,2024 LSEG. All rights reserved.
+ *|           Copyright (C) 2020,2022,2024-2025 LSEG. All rights reserved.
  *|-----------------------------------------------------------------------------
  */
 
@@ -100,6 +100,41 @@ public interface ReactorChannelStats {
 	 */
 	public void uncompressedBytesRead(int uncompressedBytesRead);
 	
+	/**
+	 * Accessor for the histogram of the time from reading a message from the
+	 * channel to invoking the first callback for it. Populated when
+	 * {@link ReactorOptions.StatisticFlags#LATENCY} is set.
+	 * 
+	 * @return the read to callback latency histogram, or null if no latencies were retrieved into this object
+	 */
+	public ReactorLatencyHistogram readToCallbackLatency();
+	
+	/**
+	 * Accessor for the histogram of the time spent in the message callbacks of the application.
+	 * Populated when {@link ReactorOptions.StatisticFlags#LATENCY} is set.
+	 * 
+	 * @return the callback latency histogram, or null if no latencies were retrieved into this object
+	 */
+	public ReactorLatencyHistogram callbackLatency();
+	
+	/**
+	 * Accessor for the histogram of the time from submitting a message that could not be
+	 * written at once to the start of its flush by the worker thread.
+	 * Populated when {@link ReactorOptions.StatisticFlags#LATENCY} is set.
+	 * 
+	 * @return the submit to flush latency histogram, or null if no latencies were retrieved into this object
+	 */
+	public ReactorLatencyHistogram submitToFlushLatency();
+	
+	/**
+	 * Accessor for the histogram of the time from the start of a flush by the worker
+	 * thread to the write of all queued data to the socket.
+	 * Populated when {@link ReactorOptions.StatisticFlags#LATENCY} is set.
+	 * 
+	 * @return the flush to socket write latency histogram, or null if no latencies were retrieved into this object
+	 */
+	public ReactorLatencyHistogram flushToWriteLatency();
+	
 	/**
 	 * Reset all member variables to 0
 	 * 
@@ -2,7 +2,7 @@
  *|            This source code is provided under the Apache 2.0 license
  *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
  *|                See the project's LICENSE.md for details.
- *|           Copyright (C) 2020,2022,2024 LSEG. All rights reserved.
+ *|           Copyright (C) 2020,2022,2024-2025 LSEG. All rights reserved.
  *|-----------------------------------------------------------------------------
  */
 
@@ -16,10 +16,31 @@ public class ReactorChannelStatsImpl implements ReactorChannelStats {
 	private int _uncompressedBytesWritten = 0;
 	private int _bytesRead = 0;
 	private int _uncompressedBytesRead = 0;
+	// histograms are only allocated when latency statistics are enabled
+	private ReactorLatencyHistogram _readToCallbackLatency;
+	private ReactorLatencyHistogram _callbackLatency;
+	private ReactorLatencyHistogram _submitToFlushLatency;
+	private ReactorLatencyHistogram _flushToWriteLatency;
 	
 	ReactorChannelStatsImpl()
     {
     }
+
+	ReactorChannelStatsImpl(boolean latency)
+	{
+		if (latency)
+			allocateLatencies();
+	}
+
+	private void allocateLatencies() {
+		if (_readToCallbackLatency != null)
+			return;
+
+		_readToCallbackLatency = new ReactorLatencyHistogram();
+		_callbackLatency = new ReactorLatencyHistogram();
+		_submitToFlushLatency = new ReactorLatencyHistogram();
+		_flushToWriteLatency = new ReactorLatencyHistogram();
+	}
 	
 	@Override
 	public int pingsReceived() {
@@ -81,6 +102,46 @@ public class ReactorChannelStatsImpl implements ReactorChannelStats {
 		_uncompressedBytesRead = uncompressedBytesRead;
 	}
 
+	@Override
+	public ReactorLatencyHistogram readToCallbackLatency() {
+		return _readToCallbackLatency;
+	}
+
+	@Override
+	public ReactorLatencyHistogram callbackLatency() {
+		return _callbackLatency;
+	}
+
+	@Override
+	public ReactorLatencyHistogram submitToFlushLatency() {
+		return _submitToFlushLatency;
+	}
+
+	@Override
+	public ReactorLatencyHistogram flushToWriteLatency() {
+		return _flushToWriteLatency;
+	}
+
+	/* Moves the latencies recorded in source to stats, and clears source. */
+	static void moveLatencies(ReactorChannelStats source, ReactorChannelStats stats) {
+		if (stats instanceof ReactorChannelStatsImpl)
+			((ReactorChannelStatsImpl)stats).allocateLatencies();
+
+		moveLatency(source.readToCallbackLatency(), stats.readToCallbackLatency());
+		moveLatency(source.callbackLatency(), stats.callbackLatency());
+		moveLatency(source.submitToFlushLatency(), stats.submitToFlushLatency());
+		moveLatency(source.flushToWriteLatency(), stats.flushToWriteLatency());
+	}
+
+	private static void moveLatency(ReactorLatencyHistogram source, ReactorLatencyHistogram histogram) {
+		if (histogram == null)
+			return;
+
+		histogram.clear();
+		histogram.add(source);
+		source.clear();
+	}
+
 	@Override
 	public void clear() {
 		_pingsReceived = 0;
@@ -89,5 +150,18 @@ public class ReactorChannelStatsImpl implements ReactorChannelStats {
 		_uncompressedBytesWritten = 0;
 		_bytesRead = 0;
 		_uncompressedBytesRead = 0;
+		clearLatencies(this);
+	}
+
+	/* Clears the latencies of stats that has any. */
+	static void clearLatencies(ReactorChannelStats stats) {
+		if (stats.readToCallbackLatency() != null)
+			stats.readToCallbackLatency().clear();
+		if (stats.callbackLatency() != null)
+			stats.callbackLatency().clear();
+		if (stats.submitToFlushLatency() != null)
+			stats.submitToFlushLatency().clear();
+		if (stats.flushToWriteLatency() != null)
+			stats.flushToWriteLatency().clear();
 	}
 }
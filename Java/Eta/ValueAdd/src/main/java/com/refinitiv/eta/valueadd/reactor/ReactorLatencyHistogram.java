@@ -0,0 +1,181 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.reactor;
+
+/**
+ * Histogram of latencies in nanoseconds, captured by the Reactor when
+ * {@link ReactorOptions.StatisticFlags#LATENCY} is set.
+ *
+ * Values are counted in log-linear buckets: each power of two range is divided
+ * into 32 equal sub-buckets, so a value reported by {@link #valueAtPercentile(double)}
+ * is within about 3% of the recorded value. Values up to about 68 seconds are tracked,
+ * larger values are counted as the largest trackable value.
+ *
+ * @see ReactorChannelStats
+ * @see ReactorChannel#getReactorChannelStats(ReactorChannelStats)
+ * @see Reactor#getReactorLatencyStats(ReactorChannelStats)
+ */
+public class ReactorLatencyHistogram
+{
+    static final int SUB_BUCKET_BITS = 5;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int MAX_VALUE_BITS = 36;
+    static final long HIGHEST_TRACKABLE_VALUE = (1L << MAX_VALUE_BITS) - 1;
+    static final int BUCKET_COUNT = SUB_BUCKET_COUNT * (MAX_VALUE_BITS - SUB_BUCKET_BITS + 1);
+
+    private final long[] _counts = new long[BUCKET_COUNT];
+    private long _totalCount;
+    private long _sum;
+    private long _min = Long.MAX_VALUE;
+    private long _max;
+
+    /**
+     * Creates an empty histogram.
+     */
+    public ReactorLatencyHistogram()
+    {
+    }
+
+    /**
+     * The number of recorded values.
+     *
+     * @return the number of recorded values
+     */
+    public long totalCount()
+    {
+        return _totalCount;
+    }
+
+    /**
+     * The smallest recorded value.
+     *
+     * @return the smallest recorded value in nanoseconds, or 0 if no value is recorded
+     */
+    public long min()
+    {
+        return _totalCount == 0 ? 0 : _min;
+    }
+
+    /**
+     * The largest recorded value.
+     *
+     * @return the largest recorded value in nanoseconds, or 0 if no value is recorded
+     */
+    public long max()
+    {
+        return _max;
+    }
+
+    /**
+     * The mean of the recorded values.
+     *
+     * @return the mean of the recorded values in nanoseconds, or 0 if no value is recorded
+     */
+    public double mean()
+    {
+        return _totalCount == 0 ? 0 : (double)_sum / _totalCount;
+    }
+
+    /**
+     * The value at or below which the given percentage of the recorded values fall.
+     *
+     * @param percentile the percentile, from 0 to 100
+     *
+     * @return the value at the percentile in nanoseconds, or 0 if no value is recorded
+     */
+    public long valueAtPercentile(double percentile)
+    {
+        if (_totalCount == 0)
+            return 0;
+
+        double fraction = Math.min(Math.max(percentile, 0.0), 100.0) / 100.0;
+        long target = Math.max(1, (long)Math.ceil(fraction * _totalCount));
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++)
+        {
+            count += _counts[i];
+            if (count >= target)
+                return Math.max(Math.min(highestEquivalentValue(i), _max), min());
+        }
+
+        return _max;
+    }
+
+    /**
+     * Adds the values recorded in another histogram to this histogram.
+     *
+     * @param other the histogram to add
+     */
+    public void add(ReactorLatencyHistogram other)
+    {
+        if (other._totalCount == 0)
+            return;
+
+        for (int i = 0; i < BUCKET_COUNT; i++)
+            _counts[i] += other._counts[i];
+        _totalCount += other._totalCount;
+        _sum += other._sum;
+        _min = Math.min(_min, other._min);
+        _max = Math.max(_max, other._max);
+    }
+
+    /**
+     * Removes all recorded values.
+     */
+    public void clear()
+    {
+        if (_totalCount == 0)
+            return;
+
+        java.util.Arrays.fill(_counts, 0);
+        _totalCount = 0;
+        _sum = 0;
+        _min = Long.MAX_VALUE;
+        _max = 0;
+    }
+
+    /* Records a latency in nanoseconds. */
+    void record(long value)
+    {
+        if (value < 0)
+            value = 0;
+        else if (value > HIGHEST_TRACKABLE_VALUE)
+            value = HIGHEST_TRACKABLE_VALUE;
+
+        _counts[bucketIndex(value)]++;
+        _totalCount++;
+        _sum += value;
+        if (value < _min)
+            _min = value;
+        if (value > _max)
+            _max = value;
+    }
+
+    /* Values below SUB_BUCKET_COUNT have a bucket each. Above, the highest bit of a value selects
+     * a range and the next SUB_BUCKET_BITS bits select the sub-bucket in that range. */
+    static int bucketIndex(long value)
+    {
+        if (value < SUB_BUCKET_COUNT)
+            return (int)value;
+
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return SUB_BUCKET_COUNT * (shift + 1) + (int)(value >>> shift) - SUB_BUCKET_COUNT;
+    }
+
+    /* Returns the largest value counted in a bucket. */
+    static long highestEquivalentValue(int index)
+    {
+        if (index < SUB_BUCKET_COUNT)
+            return index;
+
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long lowest = (long)(SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -40,6 +40,8 @@ public class ReactorOptions
         public static final int READ =  0x00000001;
         public static final int WRITE = 0x00000002;
         public static final int PING =  0x00000004;
+        /** Captures latency histograms, see {@link ReactorChannelStats} */
+        public static final int LATENCY = 0x00000008;
     }
     
     /* Defined default token service and service discovery URLs*/
@@ -61,6 +63,7 @@ public class ReactorOptions
     private double _tokenReissueRatio;
     private int _reissueTokenAttemptLimit;
     private int _reissueTokenAttemptInterval;
+    private long _workerQueueSpinTime;
     private ReactorRestProxyOptions _restProxyOptions = new ReactorRestProxyOptions();
 
     private ReactorDebuggerOptions _debuggerOptions = new ReactorDebuggerOptionsImpl();
@@ -306,6 +309,11 @@ public class ReactorOptions
     	return (_statistics & StatisticFlags.PING) != 0;
     }
     
+    public boolean latencyStatSet()
+    {
+    	return (_statistics & StatisticFlags.LATENCY) != 0;
+    }
+    
     /**
      * a URL of the token service to get an access token and a refresh token. 
      * This is used for querying LDP service
@@ -423,6 +431,29 @@ public class ReactorOptions
     {
     	_reissueTokenAttemptInterval = reissueTokenAttemptInterval;
     }
+
+    /**
+     * Returns the time the worker thread polls its event queue before waiting on its selector, in microseconds.
+     * 
+     * @return the worker queue spin time
+     */
+    public long workerQueueSpinTime()
+    {
+    	return _workerQueueSpinTime;
+    }
+
+    /**
+     * Specifies a time, in microseconds, for the worker thread to poll its event queue for new events before
+     * waiting on its selector. While the worker thread is polling, events such as flush requests are picked up
+     * without waking the worker thread through its selector, which lowers the latency of handing work to the
+     * worker thread at the cost of CPU time. The default is 0, which disables polling.
+     * 
+     * @param workerQueueSpinTime specifies the worker queue spin time in microseconds
+     */
+    public void workerQueueSpinTime(long workerQueueSpinTime)
+    {
+    	_workerQueueSpinTime = workerQueueSpinTime < 0 ? 0 : workerQueueSpinTime;
+    }
    
     boolean xmlTracing()
     {
@@ -484,6 +515,7 @@ public class ReactorOptions
         _tokenReissueRatio = 0.8;
         _reissueTokenAttemptLimit = -1;
         _reissueTokenAttemptInterval = 5000;
+        _workerQueueSpinTime = 0;
         _debuggerOptions.clear();
     }
     
@@ -506,6 +538,7 @@ public class ReactorOptions
         _reissueTokenAttemptLimit = (options._reissueTokenAttemptLimit < -1) ? -1 : options._reissueTokenAttemptLimit;
         _reissueTokenAttemptInterval = options._reissueTokenAttemptInterval;
         _restRequestTimeout = options._restRequestTimeout;
+        _workerQueueSpinTime = options._workerQueueSpinTime;
         
         if(options.serviceDiscoveryURL() != null)
         {
@@ -9,8 +9,6 @@
 package com.refinitiv.eta.valueadd.reactor;
 
 import java.nio.ByteBuffer;
-import java.util.HashMap;
-import java.util.LinkedList;
 
 import com.refinitiv.eta.codec.Buffer;
 import com.refinitiv.eta.codec.Codec;
@@ -28,6 +26,7 @@ import com.refinitiv.eta.codec.StatusMsg;
 import com.refinitiv.eta.codec.StreamStates;
 import com.refinitiv.eta.rdm.DomainTypes;
 import com.refinitiv.eta.valueadd.common.VaNode;
+import com.refinitiv.eta.valueadd.common.VaTimerWheel;
 import com.refinitiv.eta.valueadd.domainrep.rdm.MsgBase;
 import com.refinitiv.eta.valueadd.domainrep.rdm.dictionary.DictionaryMsg;
 import com.refinitiv.eta.valueadd.domainrep.rdm.dictionary.DictionaryMsgType;
@@ -45,12 +44,15 @@ class Watchlist extends VaNode
     WlItemHandler _itemHandler;
     int _nextStreamId; // used to give a unique stream id for all watchlist streams
     int _nextProviderStreamId; // used to give a unique provider stream id for all application streams used in symbollist stream
-    HashMap<WlInteger,WlRequest> _streamIdtoWlRequestTable;
-    HashMap<WlInteger,WlStream> _streamIdtoWlStreamTable;
+    WlIntObjectMap<WlRequest> _streamIdtoWlRequestTable;
+    WlIntObjectMap<WlStream> _streamIdtoWlStreamTable;
     EncodeIterator _eIter = CodecFactory.createEncodeIterator();
     DecodeIterator _dIter = CodecFactory.createDecodeIterator();
-    // list to track stream timeouts
-    LinkedList<WlStream> _streamTimeoutInfoList = new LinkedList<WlStream>();
+    // request timeouts of the streams and post ACK timeouts
+    VaTimerWheel<WlStream> _streamTimers = new VaTimerWheel<WlStream>(WlStream.TIMER_LINK);
+    VaTimerWheel<WlPostTimeoutInfo> _postTimers = new VaTimerWheel<WlPostTimeoutInfo>(WlPostTimeoutInfo.TIMER_LINK);
+    // deadline of the earliest timer started on the worker for the watchlist, Long.MAX_VALUE if none
+    long _workerTimerDeadline = Long.MAX_VALUE;
     // encode iterator instance for use in WlStreams
     EncodeIterator _streamEncodeIterator = CodecFactory.createEncodeIterator();
 
@@ -74,15 +76,16 @@ class Watchlist extends VaNode
         _role = consumerRole;
         _watchlistOptions = _role.watchlistOptions();
         
+        // size the stream id tables so that itemCountHint items open without a resize
         if (_watchlistOptions.itemCountHint() > 0)
         {
-            _streamIdtoWlRequestTable = new HashMap<WlInteger,WlRequest>(_watchlistOptions.itemCountHint() + 10, 1);
-            _streamIdtoWlStreamTable = new HashMap<WlInteger,WlStream>(_watchlistOptions.itemCountHint() + 10, 1);
+            _streamIdtoWlRequestTable = new WlIntObjectMap<WlRequest>(_watchlistOptions.itemCountHint() + 10);
+            _streamIdtoWlStreamTable = new WlIntObjectMap<WlStream>(_watchlistOptions.itemCountHint() + 10);
         }
         else
         {
-            _streamIdtoWlRequestTable = new HashMap<WlInteger,WlRequest>();
-            _streamIdtoWlStreamTable = new HashMap<WlInteger,WlStream>();
+            _streamIdtoWlRequestTable = new WlIntObjectMap<WlRequest>();
+            _streamIdtoWlStreamTable = new WlIntObjectMap<WlStream>();
         }
         _loginHandler = new WlLoginHandler(this);
         _directoryHandler = new WlDirectoryHandler(this);
@@ -93,12 +96,12 @@ class Watchlist extends VaNode
         _tempBuffer2.data(_tempByteBuffer2);
     }
     
-    HashMap<WlInteger,WlStream> streamIdtoWlStreamTable()
+    WlIntObjectMap<WlStream> streamIdtoWlStreamTable()
     {
         return _streamIdtoWlStreamTable;
     }
     
-    HashMap<WlInteger,WlRequest> streamIdtoWlRequestTable()
+    WlIntObjectMap<WlRequest> streamIdtoWlRequestTable()
     {
         return _streamIdtoWlRequestTable;
     }
@@ -106,8 +109,7 @@ class Watchlist extends VaNode
     /* Submit a Codec message to the watchlist. */
     int submitMsg(Msg msg, ReactorSubmitOptions submitOptions, ReactorErrorInfo errorInfo)
     {
-        _tempWlInteger.value(msg.streamId());
-        WlRequest wlRequest = _streamIdtoWlRequestTable.get(_tempWlInteger);
+        WlRequest wlRequest = _streamIdtoWlRequestTable.get(msg.streamId());
         boolean isReissue = false;
 
         if (msg.msgClass() == MsgClasses.REQUEST)
@@ -180,10 +182,7 @@ class Watchlist extends VaNode
                 // add to watchlist request table if new request
                 if (!isReissue)
                 {
-                    WlInteger wlInteger = ReactorFactory.createWlInteger();
-                    wlInteger.value(msg.streamId());
-                    wlRequest.tableKey(wlInteger);
-                    _streamIdtoWlRequestTable.put(wlInteger, wlRequest);
+                    _streamIdtoWlRequestTable.put(msg.streamId(), wlRequest);
                 }
             }
             else // submit failed
@@ -393,17 +392,33 @@ class Watchlist extends VaNode
     int timeout(ReactorErrorInfo errorInfo)
     {
         int ret = ReactorReturnCodes.SUCCESS;
+        long currentTime = System.nanoTime();
         
-        // handle any stream timeouts
-        WlStream wlStream = _streamTimeoutInfoList.poll();
+        if (_workerTimerDeadline <= currentTime)
+        {
+            _workerTimerDeadline = Long.MAX_VALUE;
+        }
         
-        if  (wlStream != null)
+        // handle any stream timeouts
+        _streamTimers.expire(currentTime);
+        WlStream wlStream;
+        while (ret == ReactorReturnCodes.SUCCESS && (wlStream = _streamTimers.pollExpired()) != null)
         {
-            wlStream._addedToTimeOutList = false;
             ret = wlStream.timeout(errorInfo);
         }
         
-        return ret;
+        // handle any post ACK timeouts
+        _postTimers.expire(currentTime);
+        WlPostTimeoutInfo postTimeoutInfo;
+        while (ret == ReactorReturnCodes.SUCCESS && (postTimeoutInfo = _postTimers.pollExpired()) != null)
+        {
+            ret = postTimeoutInfo._stream.postTimeout(postTimeoutInfo, errorInfo);
+        }
+        
+        // start a worker timer for the next timeout, or right away for the timeouts not handled yet
+        int timerRet = startWatchlistTimer(errorInfo);
+        
+        return ret != ReactorReturnCodes.SUCCESS ? ret : timerRet;
     }
 
     /* Sets the reactor channel associated with the watchlist. */
@@ -454,11 +469,9 @@ class Watchlist extends VaNode
         
         // keep attempting to get next stream id if already found in table
         int nextStreamId = ++_nextStreamId;
-        _tempWlInteger.value(nextStreamId);
-        while (_streamIdtoWlStreamTable.containsKey(_tempWlInteger))
+        while (_streamIdtoWlStreamTable.containsKey(nextStreamId))
         {
             nextStreamId = ++_nextStreamId;
-            _tempWlInteger.value(nextStreamId);
         }
 
         return nextStreamId;
@@ -474,11 +487,9 @@ class Watchlist extends VaNode
         
         // keep attempting to get next stream id if already found in table
         int nextProviderStreamId = ++_nextProviderStreamId;
-        _tempWlInteger.value(-nextProviderStreamId);
-        while (_streamIdtoWlRequestTable.containsKey(_tempWlInteger))
+        while (_streamIdtoWlRequestTable.containsKey(-nextProviderStreamId))
         {
             nextProviderStreamId = ++_nextProviderStreamId;
-            _tempWlInteger.value(-nextProviderStreamId);
         }
         // negative
         return -nextProviderStreamId;
@@ -529,9 +540,33 @@ class Watchlist extends VaNode
         _itemHandler.channelUp(errorInfo);
     }
     
-    /* Starts a watchlist timer. */
-    int startWatchlistTimer(long expireTime, WlStream wlStream, ReactorErrorInfo errorInfo)
+    /* Starts or moves the request timer of a stream to its request expire time. */
+    int startRequestTimer(WlStream wlStream, ReactorErrorInfo errorInfo)
     {
+        _streamTimers.schedule(wlStream);
+        
+        return startWatchlistTimer(errorInfo);
+    }
+    
+    /* Starts the ACK timer of a post message. */
+    int startPostTimer(WlPostTimeoutInfo postTimeoutInfo, ReactorErrorInfo errorInfo)
+    {
+        _postTimers.schedule(postTimeoutInfo);
+        
+        return startWatchlistTimer(errorInfo);
+    }
+    
+    /* Starts a worker timer for the earliest watchlist timer, unless one is started for it already.
+     * The worker timer calls timeout(), which handles every watchlist timer that expired. */
+    int startWatchlistTimer(ReactorErrorInfo errorInfo)
+    {
+        long expireTime = Math.min(_streamTimers.nextDeadline(), _postTimers.nextDeadline());
+        
+        if (expireTime >= _workerTimerDeadline)
+        {
+            return ReactorReturnCodes.SUCCESS;
+        }
+        
         if (!_reactor.sendWorkerEvent(WorkerEventTypes.START_WATCHLIST_TIMER, _reactorChannel, expireTime))
         {
             // _reactor.sendWorkerEvent() failed, send channel down
@@ -546,8 +581,7 @@ class Watchlist extends VaNode
                               "_reactor.sendWorkerEvent() failed");
         }
         
-        _streamTimeoutInfoList.add(wlStream);
-        wlStream._addedToTimeOutList = true;
+        _workerTimerDeadline = expireTime;
     
         return ReactorReturnCodes.SUCCESS;
     }
@@ -639,8 +673,7 @@ class Watchlist extends VaNode
     void closeWlRequest(WlRequest wlRequest)
     {
     	assert(wlRequest.state() != State.RETURN_TO_POOL);
-        _tempWlInteger.value(wlRequest.requestMsg().streamId());
-        WlRequest removedRequest = _streamIdtoWlRequestTable.remove(_tempWlInteger);
+        WlRequest removedRequest = _streamIdtoWlRequestTable.remove(wlRequest.requestMsg().streamId());
         assert (removedRequest == wlRequest); // There should a (non-null) WlRequest in the table, and it should be this same request.
     }
     
@@ -694,7 +727,9 @@ class Watchlist extends VaNode
         _dIter.clear();
         _tempMsg.clear();
         _tempWlInteger.clear();
-        _streamTimeoutInfoList.clear();
+        _streamTimers.clear();
+        _postTimers.clear();
+        _workerTimerDeadline = Long.MAX_VALUE;
         _streamIdtoWlRequestTable.clear();
         _streamIdtoWlStreamTable.clear();
         _reactorChannelInfo.clear();
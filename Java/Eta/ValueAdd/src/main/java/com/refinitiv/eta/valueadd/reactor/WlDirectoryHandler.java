@@ -654,8 +654,7 @@ class WlDirectoryHandler implements WlHandler
             if (_directoryUpdate.checkHasFilter())
             	_directoryUpdate.filter(returnFilter);
 
-            _tempWlInteger.value(_tempUpdateMsg.streamId());
-    		if ((callbackUser("WlDirectoryHandler.handleClose", _tempUpdateMsg, _directoryUpdate, _watchlist.streamIdtoWlRequestTable().get(_tempWlInteger), _errorInfo)) < ReactorCallbackReturnCodes.SUCCESS)
+    		if ((callbackUser("WlDirectoryHandler.handleClose", _tempUpdateMsg, _directoryUpdate, _watchlist.streamIdtoWlRequestTable().get(_tempUpdateMsg.streamId()), _errorInfo)) < ReactorCallbackReturnCodes.SUCCESS)
     		{
     			break;
     		}
@@ -726,8 +725,7 @@ class WlDirectoryHandler implements WlHandler
                 if (_directoryUpdate.checkHasFilter())
                 	_directoryUpdate.filter(returnFilter);
 
-                _tempWlInteger.value(_tempUpdateMsg.streamId());
-                if ((callbackUser("WlDirectoryHandler.handleClose", _tempUpdateMsg, _directoryUpdate, _watchlist.streamIdtoWlRequestTable().get(_tempWlInteger), _errorInfo)) < ReactorCallbackReturnCodes.SUCCESS)
+                if ((callbackUser("WlDirectoryHandler.handleClose", _tempUpdateMsg, _directoryUpdate, _watchlist.streamIdtoWlRequestTable().get(_tempUpdateMsg.streamId()), _errorInfo)) < ReactorCallbackReturnCodes.SUCCESS)
                 {
                     break;
                 }
@@ -837,8 +835,7 @@ class WlDirectoryHandler implements WlHandler
                    	newDirectoryRefresh.filter(returnFilter);
                     
                     // callback user
-                    _tempWlInteger.value(_tempRefreshMsg.streamId());
-                    if ((ret = callbackUser("WlDirectoryHandler.readRefreshMsg", _tempRefreshMsg, newDirectoryRefresh, _watchlist.streamIdtoWlRequestTable().get(_tempWlInteger), errorInfo)) < ReactorCallbackReturnCodes.SUCCESS)
+                    if ((ret = callbackUser("WlDirectoryHandler.readRefreshMsg", _tempRefreshMsg, newDirectoryRefresh, _watchlist.streamIdtoWlRequestTable().get(_tempRefreshMsg.streamId()), errorInfo)) < ReactorCallbackReturnCodes.SUCCESS)
                      {
                         // put Directory Refresh services back into pool since we are finished with them
                         for (int j = 0; j < newDirectoryRefresh.serviceList().size(); ++j)
@@ -975,8 +972,7 @@ class WlDirectoryHandler implements WlHandler
                     	_directoryUpdate.filter(returnFilter);
 
                     // callback user
-                    _tempWlInteger.value(_tempUpdateMsg.streamId());
-                    if ((ret = callbackUser("WlDirectoryHandler.readRefreshMsgAsUpdate", _tempUpdateMsg, _directoryUpdate, _watchlist.streamIdtoWlRequestTable().get(_tempWlInteger), errorInfo)) < ReactorCallbackReturnCodes.SUCCESS)
+                    if ((ret = callbackUser("WlDirectoryHandler.readRefreshMsgAsUpdate", _tempUpdateMsg, _directoryUpdate, _watchlist.streamIdtoWlRequestTable().get(_tempUpdateMsg.streamId()), errorInfo)) < ReactorCallbackReturnCodes.SUCCESS)
                      {
                         // put Directory Refresh services back into pool since we are finished with them
                         for (int j = 0; j < newDirectoryRefresh.serviceList().size(); ++j)
@@ -1091,8 +1087,7 @@ class WlDirectoryHandler implements WlHandler
                     _watchlist.convertRDMToCodecMsg(_directoryUpdateCopy, _tempUpdateMsg);
 
                     // callback user
-                    _tempWlInteger.value(_tempUpdateMsg.streamId());
-                    if ((ret = callbackUser("WlDirectoryHandler.readUpdateMsg", _tempUpdateMsg, _directoryUpdateCopy, _watchlist.streamIdtoWlRequestTable().get(_tempWlInteger), errorInfo)) < ReactorCallbackReturnCodes.SUCCESS)
+                    if ((ret = callbackUser("WlDirectoryHandler.readUpdateMsg", _tempUpdateMsg, _directoryUpdateCopy, _watchlist.streamIdtoWlRequestTable().get(_tempUpdateMsg.streamId()), errorInfo)) < ReactorCallbackReturnCodes.SUCCESS)
                      {
                         // put Directory Update services back into pool since we are finished with them
                         for (int j = 0; j < _directoryUpdateCopy.serviceList().size(); ++j)
@@ -1215,8 +1210,7 @@ class WlDirectoryHandler implements WlHandler
                     	_tempRefreshMsg.msgKey().filter(returnFilter);
                     newDirectoryRefresh.filter(returnFilter);
                     // callback user
-                    _tempWlInteger.value(_tempRefreshMsg.streamId());
-                    if ((ret = callbackUser("WlDirectoryHandler.dispatch", _tempRefreshMsg, newDirectoryRefresh, _watchlist.streamIdtoWlRequestTable().get(_tempWlInteger), errorInfo)) < ReactorCallbackReturnCodes.SUCCESS)
+                    if ((ret = callbackUser("WlDirectoryHandler.dispatch", _tempRefreshMsg, newDirectoryRefresh, _watchlist.streamIdtoWlRequestTable().get(_tempRefreshMsg.streamId()), errorInfo)) < ReactorCallbackReturnCodes.SUCCESS)
                     {
 	                        // put Directory Refresh services back into pool since we are finished with them
 	                        for (int j = 0; j < newDirectoryRefresh.serviceList().size(); ++j)
@@ -1252,16 +1246,14 @@ class WlDirectoryHandler implements WlHandler
         _stream.watchlist(_watchlist);
         _stream.domainType(DomainTypes.SOURCE);
 
-        _stream.tableKey(ReactorFactory.createWlInteger());
         _directoryRequest.streamId(_directoryStreamId);
-        _stream.tableKey().value(_directoryRequest.streamId());
+        _stream.tableKey(_directoryRequest.streamId());
         _watchlist.streamIdtoWlStreamTable().put(_stream.tableKey(), _stream);
         
         if (_watchlist.role()._directoryRequest != null && !_roleDirectoryRequestAdded)
         {
-            WlInteger wlInteger = ReactorFactory.createWlInteger();
-            wlInteger.value(_watchlist.role().rdmDirectoryRequest().streamId());
-        	if (!_watchlist.streamIdtoWlRequestTable().containsKey(wlInteger))
+            int roleStreamId = _watchlist.role().rdmDirectoryRequest().streamId();
+        	if (!_watchlist.streamIdtoWlRequestTable().containsKey(roleStreamId))
         	{
             	// User has enabled initDefaultRDMDirectoryRequest
                 WlRequest wlRequest = ReactorFactory.createWlRequest();
@@ -1270,18 +1262,13 @@ class WlDirectoryHandler implements WlHandler
                 wlRequest.requestMsg().clear();
                 _tempMsg.copy(wlRequest.requestMsg(), CopyMsgFlags.ALL_FLAGS);
                 wlRequest.handler(this);
-                wlRequest.tableKey(wlInteger);
-                _watchlist.streamIdtoWlRequestTable().put(wlInteger, wlRequest);
+                _watchlist.streamIdtoWlRequestTable().put(roleStreamId, wlRequest);
                 // Go immediately into Refresh Complete Pending state because we do not use Pending Request
                 wlRequest.state(WlRequest.State.PENDING_REFRESH);
             	_stream.userRequestList().add(wlRequest);	
 				wlRequest.stream(_stream);
             	_roleDirectoryRequestAdded = true;
         	}
-        	else
-        	{
-        	    wlInteger.returnToPool();
-        	}
         }
         
         // send directory request for all services and filters
@@ -1387,8 +1374,7 @@ class WlDirectoryHandler implements WlHandler
             	_directoryStatus.filter(wlRequest.requestMsg().msgKey().filter());
             	
                 // callback user
-                _tempWlInteger.value(_statusMsg.streamId());
-                if ((ret = callbackUser("WlDirectoryHandler.fanoutStatus", _statusMsg, _directoryStatus, _watchlist.streamIdtoWlRequestTable().get(_tempWlInteger), _errorInfo)) < ReactorCallbackReturnCodes.SUCCESS)
+                if ((ret = callbackUser("WlDirectoryHandler.fanoutStatus", _statusMsg, _directoryStatus, _watchlist.streamIdtoWlRequestTable().get(_statusMsg.streamId()), _errorInfo)) < ReactorCallbackReturnCodes.SUCCESS)
                  {
                 	// Break out of loop
                 	break;
@@ -1523,7 +1509,6 @@ class WlDirectoryHandler implements WlHandler
         _stream.state().dataState(DataStates.SUSPECT);                
         // remove this stream from watchlist table
         _watchlist.streamIdtoWlStreamTable().remove(_stream.tableKey());
-        _stream.tableKey().returnToPool();
-        _stream.tableKey(null);
+        _stream.clearTableKey();
     }
 }
@@ -0,0 +1,374 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.reactor;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/* Watchlist specific hash table keyed by a primitive int (stream id or service id).
+ * Keys and values are kept in parallel arrays with linear probing, so lookups do not need
+ * a key object and entries do not need a node object. Removed slots are marked deleted and
+ * reclaimed on the next resize. Iteration follows insertion order, the same as LinkedHashMap.
+ * Values must not be null. Not thread safe. */
+class WlIntObjectMap<V>
+{
+    static final int DEFAULT_CAPACITY = 16;
+    static final int NONE = -1;
+
+    /* Marks a slot whose entry was removed, so probing continues past it. */
+    static final Object DELETED = new Object();
+
+    int[] _keys;
+    Object[] _values; // null for a free slot, DELETED for a removed entry
+    int[] _before; // previous slot in insertion order
+    int[] _after; // next slot in insertion order
+    int _head = NONE;
+    int _tail = NONE;
+    int _size;
+    int _used; // live plus deleted slots
+    int _mask;
+    int _modCount;
+
+    WlIntObjectMap()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /* Creates a table that holds expectedSize entries without resizing. */
+    WlIntObjectMap(int expectedSize)
+    {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    /* Keeps the load factor at or below one half. */
+    static int tableSizeFor(int expectedSize)
+    {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < (1 << 30) && capacity < expectedSize * 2)
+        {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    void allocate(int capacity)
+    {
+        _keys = new int[capacity];
+        _values = new Object[capacity];
+        _before = new int[capacity];
+        _after = new int[capacity];
+        _mask = capacity - 1;
+        _head = NONE;
+        _tail = NONE;
+        _size = 0;
+        _used = 0;
+    }
+
+    static int hash(int key)
+    {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /* Returns the slot of key, or NONE if the key is not in the table. */
+    int indexOf(int key)
+    {
+        int index = hash(key) & _mask;
+        Object value;
+        while ((value = _values[index]) != null)
+        {
+            if (value != DELETED && _keys[index] == key)
+            {
+                return index;
+            }
+            index = (index + 1) & _mask;
+        }
+        return NONE;
+    }
+
+    int size()
+    {
+        return _size;
+    }
+
+    boolean isEmpty()
+    {
+        return _size == 0;
+    }
+
+    boolean containsKey(int key)
+    {
+        return indexOf(key) != NONE;
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(int key)
+    {
+        int index = indexOf(key);
+        return index != NONE ? (V)_values[index] : null;
+    }
+
+    /* Adds or replaces the value for key. Returns the previous value, or null if there was none. */
+    @SuppressWarnings("unchecked")
+    V put(int key, V value)
+    {
+        assert (value != null);
+        int index = hash(key) & _mask;
+        int deletedIndex = NONE;
+        Object current;
+        while ((current = _values[index]) != null)
+        {
+            if (current == DELETED)
+            {
+                if (deletedIndex == NONE)
+                {
+                    deletedIndex = index;
+                }
+            }
+            else if (_keys[index] == key)
+            {
+                _values[index] = value;
+                return (V)current;
+            }
+            index = (index + 1) & _mask;
+        }
+
+        if (deletedIndex != NONE)
+        {
+            index = deletedIndex;
+        }
+        else
+        {
+            if ((_used + 1) * 2 > _values.length)
+            {
+                resize();
+                put(key, value);
+                return null;
+            }
+            _used++;
+        }
+
+        _keys[index] = key;
+        _values[index] = value;
+        _before[index] = _tail;
+        _after[index] = NONE;
+        if (_tail == NONE)
+        {
+            _head = index;
+        }
+        else
+        {
+            _after[_tail] = index;
+        }
+        _tail = index;
+        _size++;
+        _modCount++;
+        return null;
+    }
+
+    /* Adds all entries of another table, in its insertion order. */
+    @SuppressWarnings("unchecked")
+    void putAll(WlIntObjectMap<? extends V> other)
+    {
+        for (int index = other._head; index != NONE; index = other._after[index])
+        {
+            put(other._keys[index], (V)other._values[index]);
+        }
+    }
+
+    /* Removes key. Returns its value, or null if the key is not in the table. */
+    @SuppressWarnings("unchecked")
+    V remove(int key)
+    {
+        int index = indexOf(key);
+        if (index == NONE)
+        {
+            return null;
+        }
+        V value = (V)_values[index];
+        removeAt(index);
+        return value;
+    }
+
+    /* Removes the oldest entry. Returns its value, or null if the table is empty. */
+    @SuppressWarnings("unchecked")
+    V removeFirst()
+    {
+        if (_head == NONE)
+        {
+            return null;
+        }
+        V value = (V)_values[_head];
+        removeAt(_head);
+        return value;
+    }
+
+    void removeAt(int index)
+    {
+        int before = _before[index];
+        int after = _after[index];
+        if (before == NONE)
+        {
+            _head = after;
+        }
+        else
+        {
+            _after[before] = after;
+        }
+        if (after == NONE)
+        {
+            _tail = before;
+        }
+        else
+        {
+            _before[after] = before;
+        }
+        _values[index] = DELETED;
+        _size--;
+        _modCount++;
+    }
+
+    /* Rebuilds the table in insertion order, dropping deleted slots and
+     * doubling the capacity only when live entries need it. */
+    void resize()
+    {
+        int[] keys = _keys;
+        Object[] values = _values;
+        int[] after = _after;
+        int head = _head;
+        int capacity = tableSizeFor(_size + 1);
+        if (capacity < values.length)
+        {
+            capacity = values.length;
+        }
+
+        allocate(capacity);
+        for (int index = head; index != NONE; index = after[index])
+        {
+            insertNew(keys[index], values[index]);
+        }
+    }
+
+    /* Inserts a key known not to be present into a table without deleted slots. */
+    void insertNew(int key, Object value)
+    {
+        int index = hash(key) & _mask;
+        while (_values[index] != null)
+        {
+            index = (index + 1) & _mask;
+        }
+        _keys[index] = key;
+        _values[index] = value;
+        _before[index] = _tail;
+        _after[index] = NONE;
+        if (_tail == NONE)
+        {
+            _head = index;
+        }
+        else
+        {
+            _after[_tail] = index;
+        }
+        _tail = index;
+        _size++;
+        _used++;
+    }
+
+    void clear()
+    {
+        if (_used == 0)
+        {
+            return;
+        }
+        Arrays.fill(_values, null);
+        _head = NONE;
+        _tail = NONE;
+        _size = 0;
+        _used = 0;
+        _modCount++;
+    }
+
+    /* Returns an iterator over the values in insertion order. The key of the last
+     * returned value is available from EntryIterator.key(). */
+    EntryIterator iterator()
+    {
+        return new EntryIterator();
+    }
+
+    /* Returns the values in insertion order, for use in for-each loops. */
+    Iterable<V> values()
+    {
+        return new Iterable<V>()
+        {
+            @Override
+            public Iterator<V> iterator()
+            {
+                return new EntryIterator();
+            }
+        };
+    }
+
+    class EntryIterator implements Iterator<V>
+    {
+        int _next = _head;
+        int _current = NONE;
+        int _expectedModCount = _modCount;
+
+        @Override
+        public boolean hasNext()
+        {
+            return _next != NONE;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public V next()
+        {
+            if (_modCount != _expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if (_next == NONE)
+            {
+                throw new NoSuchElementException();
+            }
+            _current = _next;
+            _next = _after[_current];
+            return (V)_values[_current];
+        }
+
+        /* Key of the entry last returned by next(). */
+        int key()
+        {
+            if (_current == NONE)
+            {
+                throw new IllegalStateException();
+            }
+            return _keys[_current];
+        }
+
+        @Override
+        public void remove()
+        {
+            if (_current == NONE)
+            {
+                throw new IllegalStateException();
+            }
+            if (_modCount != _expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(_current);
+            _current = NONE;
+            _expectedModCount = _modCount;
+        }
+    }
+}
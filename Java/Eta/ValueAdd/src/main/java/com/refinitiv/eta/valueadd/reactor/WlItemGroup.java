@@ -2,13 +2,12 @@
  *|            This source code is provided under the Apache 2.0 license
  *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
  *|                See the project's LICENSE.md for details.
- *|           Copyright (C) 2020-2022,2024 LSEG. All rights reserved.
+ *|           Copyright (C) 2020-2022,2024-2025 LSEG. All rights reserved.
  *|-----------------------------------------------------------------------------
  */
 
 package com.refinitiv.eta.valueadd.reactor;
 
-import java.util.HashMap;
 import java.util.LinkedList;
 
 import com.refinitiv.eta.codec.Buffer;
@@ -22,12 +21,12 @@ class WlItemGroup extends VaNode
 	LinkedList<WlStream> _openStreamList;
 	
     /* Table of watchlist streams, by watchlist stream id. Improves lookup when adding WlStreams to existing group. */
-    HashMap<WlInteger,WlStream> _streamIdToItemGroupTable;
+    WlIntObjectMap<WlStream> _streamIdToItemGroupTable;
 	
 	WlItemGroup()
 	{
 		_openStreamList = new LinkedList<WlStream>();
-		_streamIdToItemGroupTable = new HashMap<WlInteger, WlStream>();
+		_streamIdToItemGroupTable = new WlIntObjectMap<WlStream>();
 	}
 	
 	void wlService(WlService service)
@@ -55,7 +54,7 @@ class WlItemGroup extends VaNode
 		return _openStreamList;
 	}
 
-	HashMap<WlInteger,WlStream> streamIdToItemGroupTable()
+	WlIntObjectMap<WlStream> streamIdToItemGroupTable()
     {
         return _streamIdToItemGroupTable;
     }
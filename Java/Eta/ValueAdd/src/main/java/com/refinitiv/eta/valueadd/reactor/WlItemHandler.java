@@ -78,7 +78,7 @@ class WlItemHandler implements WlHandler
     
     // used for requests that are submitted when directory stream is not up
     // two tables are required - one is indexed by service id and one is indexed by service name
-    LinkedHashMap<WlInteger,LinkedHashSet<WlRequest>> _pendingRequestByIdTable = new LinkedHashMap<>();
+    WlIntObjectMap<LinkedHashSet<WlRequest>> _pendingRequestByIdTable = new WlIntObjectMap<>();
     LinkedHashMap<String,LinkedHashSet<WlRequest>> _pendingRequestByNameTable = new LinkedHashMap<>();
     // pool of pending request lists (to avoid GC)
     LinkedList<LinkedHashSet<WlRequest>> _pendingRequestListPool = new LinkedList<>();
@@ -106,7 +106,7 @@ class WlItemHandler implements WlHandler
     LinkedList<StatusMsg> _statusMsgPool = new LinkedList<>();
     
     // List of StatusMsgs to send when dispatch is called
-    LinkedHashMap<WlInteger, StatusMsg> _statusMsgDispatchList = new LinkedHashMap<>();
+    WlIntObjectMap<StatusMsg> _statusMsgDispatchList = new WlIntObjectMap<>();
 
     // TODO: Since Java 21 support, replace LinkedList and HashSet pair with LinkedHashSet
     // List of streams with pending messages to send
@@ -120,7 +120,7 @@ class WlItemHandler implements WlHandler
     DictionaryMsg _rdmDictionaryMsg = DictionaryMsgFactory.createMsg();
 
     // in case of close recover, the streamId list of user streams 
-    LinkedHashSet<WlInteger> _userStreamIdListToRecover = new LinkedHashSet<>();
+    WlIntObjectMap<WlRequest> _userStreamIdListToRecover = new WlIntObjectMap<>();
   
 	// table that maps item provider request aggregation key to application
 	// requests for symbol list data stream
@@ -140,8 +140,6 @@ class WlItemHandler implements WlHandler
 	DecodeIterator _dIter = CodecFactory.createDecodeIterator();
 	DecodeIterator _dIterBatch = CodecFactory.createDecodeIterator();
 
-	WlInteger _tempWlInteger = ReactorFactory.createWlInteger();
-
 	UInt _viewType = CodecFactory.createUInt();
 	boolean _hasViewType;
 	Buffer _viewDataElement = CodecFactory.createBuffer();
@@ -165,9 +163,6 @@ class WlItemHandler implements WlHandler
     // Points to the state of a message being fanned out on a stream. 
     // Set to null if recovery is not needed.
     com.refinitiv.eta.codec.State _msgState;
-    
-    // This is used to keep a list of streamId to remove from _statusMsgDispatchList
-    LinkedList<WlInteger> _removeStatusMsgList = new LinkedList<WlInteger>();
 		
     WlItemHandler(Watchlist watchlist)
     {
@@ -315,8 +310,7 @@ class WlItemHandler implements WlHandler
             else
             {            	
             	// only queue status in case of close recover
-            	_tempWlInteger.value(requestMsg.streamId());
-            	if (_userStreamIdListToRecover.contains(_tempWlInteger))
+            	if (_userStreamIdListToRecover.containsKey(requestMsg.streamId()))
             	{
             		queueStatusForDispatch(requestMsg.streamId(), requestMsg.domainType(), errorInfo.error().text(), requestMsg.checkPrivateStream());
             	}
@@ -591,10 +585,8 @@ class WlItemHandler implements WlHandler
             _streamList.add(wlStream);
 
             // add stream to watchlist table
-            WlInteger wlInteger = ReactorFactory.createWlInteger();
-            wlInteger.value(wlStream.streamId());
-            wlStream.tableKey(wlInteger);
-            _watchlist.streamIdtoWlStreamTable().put(wlInteger, wlStream);
+            wlStream.tableKey(wlStream.streamId());
+            _watchlist.streamIdtoWlStreamTable().put(wlStream.streamId(), wlStream);
 
             // add to _itemAggregationKeytoWlStreamTable if not private stream
             if (!requestMsg.checkPrivateStream())
@@ -674,9 +666,7 @@ class WlItemHandler implements WlHandler
 	    wlRequest.streamInfo().serviceName(submitOptions.serviceName());
 	    wlRequest.streamInfo().userSpecObject(submitOptions.requestMsgOptions().userSpecObj());
 	    
-    	WlInteger wlInteger = ReactorFactory.createWlInteger();
-        wlInteger.value(requestMsg.streamId());
-    	_watchlist.streamIdtoWlRequestTable().put(wlInteger, wlRequest);
+    	_watchlist.streamIdtoWlRequestTable().put(requestMsg.streamId(), wlRequest);
 
     	if (requestMsg.containerType() == DataTypes.ELEMENT_LIST)
     	{
@@ -844,8 +834,7 @@ class WlItemHandler implements WlHandler
 		/* Start at stream ID after batch request. */
 		currentStreamId++;
 		
-		_tempWlInteger.value(currentStreamId);
-		if (_watchlist.streamIdtoWlRequestTable().get(_tempWlInteger) != null)
+		if (_watchlist.streamIdtoWlRequestTable().get(currentStreamId) != null)
 		{
             return _watchlist.reactor().populateErrorInfo(errorInfo,
             		ReactorReturnCodes.FAILURE,
@@ -861,8 +850,7 @@ class WlItemHandler implements WlHandler
 		{
 			itemName.data(itemNames.remove());
 
-			_tempWlInteger.value(possibleStreamId);
-			if (_watchlist.streamIdtoWlRequestTable().get(_tempWlInteger) != null)
+			if (_watchlist.streamIdtoWlRequestTable().get(possibleStreamId) != null)
 			{
 				while (!wlRequestList.isEmpty())
 				{
@@ -926,9 +914,7 @@ class WlItemHandler implements WlHandler
 		{
             
         	// Add watchlist request to request table
-            wlInteger = ReactorFactory.createWlInteger();
-            wlInteger.value(currentStreamId);
-            _watchlist.streamIdtoWlRequestTable().put(wlInteger, wlRequestList.get(currentStreamId));
+            _watchlist.streamIdtoWlRequestTable().put(currentStreamId, wlRequestList.get(currentStreamId));
             
         	ret = handleRequest(wlRequestList.get(currentStreamId), requestMsgList.get(currentStreamId), submitOptions, true, errorInfo);
         	if (ret <= ReactorReturnCodes.FAILURE)
@@ -961,9 +947,7 @@ class WlItemHandler implements WlHandler
 		statusText.data("Stream closed for batch");
 		statusMsg.state().text(statusText);
 		
-		wlInteger = ReactorFactory.createWlInteger();
-		wlInteger.value(originalStreamId);
-		_statusMsgDispatchList.put(wlInteger, statusMsg);
+		_statusMsgDispatchList.put(originalStreamId, statusMsg);
 		
         if (_statusMsgDispatchList.size() == 1)
         {
@@ -1413,8 +1397,7 @@ class WlItemHandler implements WlHandler
     	}
     	else
     	{
-    		_tempWlInteger.value(wlRequest.requestMsg().msgKey().serviceId());
-    		pendingRequestList = _pendingRequestByIdTable.get(_tempWlInteger);
+    		pendingRequestList = _pendingRequestByIdTable.get(wlRequest.requestMsg().msgKey().serviceId());
     	}
 
     	// add to pending request list
@@ -1442,9 +1425,7 @@ class WlItemHandler implements WlHandler
     		}
     		else
     		{
-    			WlInteger wlInteger = ReactorFactory.createWlInteger();
-    			wlInteger.value(wlRequest.requestMsg().msgKey().serviceId());
-    			_pendingRequestByIdTable.put(wlInteger, pendingRequestList);
+    			_pendingRequestByIdTable.put(wlRequest.requestMsg().msgKey().serviceId(), pendingRequestList);
     		}
             
     	}
@@ -1789,25 +1770,21 @@ class WlItemHandler implements WlHandler
         int ret = ReactorReturnCodes.SUCCESS;
 
         // remove from _userStreamIdListToRecover list
-        _tempWlInteger.value(wlRequest.requestMsg().streamId());
-        _userStreamIdListToRecover.remove(_tempWlInteger);
+        _userStreamIdListToRecover.remove(wlRequest.requestMsg().streamId());
 
         // remove from _statusMsgDispatchList list
-        _tempWlInteger.value(wlRequest.requestMsg().streamId());
-        StatusMsg statusMsg = _statusMsgDispatchList.remove(_tempWlInteger);
+        StatusMsg statusMsg = _statusMsgDispatchList.remove(wlRequest.requestMsg().streamId());
         if (statusMsg != null)
         	_statusMsgPool.add(statusMsg);
 
-        Iterator<Map.Entry<WlInteger, LinkedHashSet<WlRequest>>> I = _pendingRequestByIdTable.entrySet().iterator();
+        Iterator<LinkedHashSet<WlRequest>> I = _pendingRequestByIdTable.iterator();
         while (I.hasNext())
         {
-        	Map.Entry<WlInteger, LinkedHashSet<WlRequest>> entry = I.next();
-        	LinkedHashSet<WlRequest> pendingRequests = entry.getValue();
+        	LinkedHashSet<WlRequest> pendingRequests = I.next();
         	pendingRequests.remove(wlRequest);
 
         	if (pendingRequests.isEmpty())
         	{
-        		entry.getKey().returnToPool();
         		I.remove();
         		_pendingRequestListPool.add(pendingRequests);
         	}
@@ -1936,8 +1913,7 @@ class WlItemHandler implements WlHandler
         _statusMsg.state().text().data(text);
   
         // callback user
-        _tempWlInteger.value(_statusMsg.streamId());
-        return callbackUser("WlItemHandler.sendStatus", _statusMsg, null, _watchlist.streamIdtoWlRequestTable().get(_tempWlInteger), _errorInfo);
+        return callbackUser("WlItemHandler.sendStatus", _statusMsg, null, _watchlist.streamIdtoWlRequestTable().get(_statusMsg.streamId()), _errorInfo);
     }
 
     /* Queues a status message for sending on dispatch. */
@@ -1969,9 +1945,7 @@ class WlItemHandler implements WlHandler
         statusMsg.state().text().data(text);
         
         // add StatusMsg to dispatch list and trigger dispatch
-        WlInteger wlInteger = ReactorFactory.createWlInteger();
-        wlInteger.value(streamId);
-        _statusMsgDispatchList.put(wlInteger, statusMsg);
+        _statusMsgDispatchList.put(streamId, statusMsg);
         
         if (_statusMsgDispatchList.size() == 1)
         {
@@ -2084,9 +2058,7 @@ class WlItemHandler implements WlHandler
                 {
                     int origDataState = _msgState.dataState();
 
-                    WlInteger wlInteger = ReactorFactory.createWlInteger();
-                    wlInteger.value(usrRequest.requestMsg().streamId());
-                    _userStreamIdListToRecover.add(wlInteger);
+                    _userStreamIdListToRecover.put(usrRequest.requestMsg().streamId(), usrRequest);
                     usrRequest.state(State.PENDING_REQUEST);
                     
                     _msgState.streamState(StreamStates.OPEN);
@@ -2314,8 +2286,7 @@ class WlItemHandler implements WlHandler
                 }
                 else 
                 {
-                    _tempWlInteger.value(msg.streamId());
-                    if ((ret = callbackUser("WlItemHandler.readRefreshMsg", msg, null, _watchlist.streamIdtoWlRequestTable().get(_tempWlInteger), errorInfo)) < ReactorCallbackReturnCodes.SUCCESS)
+                    if ((ret = callbackUser("WlItemHandler.readRefreshMsg", msg, null, _watchlist.streamIdtoWlRequestTable().get(msg.streamId()), errorInfo)) < ReactorCallbackReturnCodes.SUCCESS)
                     {
                         // break out of loop for error
                         break;
@@ -2401,9 +2372,7 @@ class WlItemHandler implements WlHandler
                 msg.streamId(wlRequest.requestMsg().streamId());
                 
                 // callback user
-                _tempWlInteger.value(msg.streamId());
-                
-                if ((ret = callbackUser("WlItemHandler.readUpdateMsg", msg, null, _watchlist.streamIdtoWlRequestTable().get(_tempWlInteger), errorInfo)) < ReactorCallbackReturnCodes.SUCCESS)
+                if ((ret = callbackUser("WlItemHandler.readUpdateMsg", msg, null, _watchlist.streamIdtoWlRequestTable().get(msg.streamId()), errorInfo)) < ReactorCallbackReturnCodes.SUCCESS)
                 {
                     // break out of loop for error
                     break;
@@ -2439,9 +2408,7 @@ class WlItemHandler implements WlHandler
                 msg.streamId(wlRequest.requestMsg().streamId());
 
                 // callback user
-                _tempWlInteger.value(msg.streamId());
-
-                if (callbackUser("WlItemHandler.readStatusMsg", msg, null, _watchlist.streamIdtoWlRequestTable().get(_tempWlInteger), errorInfo) < ReactorCallbackReturnCodes.SUCCESS)
+                if (callbackUser("WlItemHandler.readStatusMsg", msg, null, _watchlist.streamIdtoWlRequestTable().get(msg.streamId()), errorInfo) < ReactorCallbackReturnCodes.SUCCESS)
                 {
                     // break out of loop for error
                     break;
@@ -2474,8 +2441,7 @@ class WlItemHandler implements WlHandler
                 msg.streamId(wlRequest.requestMsg().streamId());
                 
                 // callback user
-                _tempWlInteger.value(msg.streamId());
-                if ((ret = callbackUser("WlItemHandler.readGenericMsg", msg, null, _watchlist.streamIdtoWlRequestTable().get(_tempWlInteger), errorInfo)) < ReactorCallbackReturnCodes.SUCCESS)
+                if ((ret = callbackUser("WlItemHandler.readGenericMsg", msg, null, _watchlist.streamIdtoWlRequestTable().get(msg.streamId()), errorInfo)) < ReactorCallbackReturnCodes.SUCCESS)
                 {
                     // break out of loop for error
                     break;
@@ -2495,8 +2461,7 @@ class WlItemHandler implements WlHandler
         if (wlStream.handlePostAck(msg))
         {
             // call back user if ACK was processed
-            _tempWlInteger.value(msg.streamId());
-            ret = callbackUser("WlItemHandler.readAckMsg", msg, null, _watchlist.streamIdtoWlRequestTable().get(_tempWlInteger), errorInfo);
+            ret = callbackUser("WlItemHandler.readAckMsg", msg, null, _watchlist.streamIdtoWlRequestTable().get(msg.streamId()), errorInfo);
         }
         
         return ret;
@@ -2509,16 +2474,13 @@ class WlItemHandler implements WlHandler
         
         // dispatch streams
         
-        // send any queued status messages to the user
+        // send any queued status messages to the user; each one is removed before its callback,
+        // and messages queued by the callbacks are left for the next dispatch
         StatusMsg statusMsg;
-        Iterator<Map.Entry<WlInteger, StatusMsg>> statusMsgIter = _statusMsgDispatchList.entrySet().iterator();
-        _removeStatusMsgList.clear();
-        while (statusMsgIter.hasNext())
-        {
-            Map.Entry<WlInteger, StatusMsg> entry = statusMsgIter.next(); // Get an entry and use it to access both key and value
-            statusMsg = entry.getValue();
-            _tempWlInteger.value(statusMsg.streamId());
-            WlRequest wlRequest = _watchlist.streamIdtoWlRequestTable().get(_tempWlInteger);
+        int statusMsgCount = _statusMsgDispatchList.size();
+        while (statusMsgCount-- > 0 && (statusMsg = _statusMsgDispatchList.removeFirst()) != null)
+        {
+            WlRequest wlRequest = _watchlist.streamIdtoWlRequestTable().get(statusMsg.streamId());
             boolean requestClosed = (statusMsg.checkHasState() && statusMsg.state().streamState() != StreamStates.OPEN);
             
             if (requestClosed)
@@ -2532,28 +2494,16 @@ class WlItemHandler implements WlHandler
             // return StatusMsg to pool
             _statusMsgPool.add(statusMsg);
 
-            // return WlInteger to pool
-            entry.getKey().returnToPool();
-            
-            _removeStatusMsgList.add(entry.getKey());
-            
             if (ret < ReactorReturnCodes.SUCCESS)
             {
-            	/* Removes every element in the removeList.*/
-            	Iterator<WlInteger> it = _removeStatusMsgList.iterator();
-            	while(it.hasNext())
-            	{
-            		WlInteger key = it.next();
-            		_statusMsgDispatchList.remove(key);
-            	}
-            	
                 return ret;
             }
         }
-        
-        _removeStatusMsgList.clear();
-        /* Clears all status message after the while loop */
-        _statusMsgDispatchList.clear();
+
+        if (!_statusMsgDispatchList.isEmpty())
+        {
+            _watchlist.reactor().sendWatchlistDispatchNowEvent(_watchlist.reactorChannel());
+        }
         
         // re-submit user requests that had request timeout
         WlRequest wlRequest;
@@ -2688,9 +2638,8 @@ class WlItemHandler implements WlHandler
        	   }
    	   }
    
-   	   for (Map.Entry<WlInteger, LinkedHashSet<WlRequest>> entry : _pendingRequestByIdTable.entrySet())
+   	   for (LinkedHashSet<WlRequest> pendingRequestList : _pendingRequestByIdTable.values())
    	   {
-   		LinkedHashSet<WlRequest> pendingRequestList  = entry.getValue();
    	   	   for (WlRequest usrRequest : pendingRequestList)
        	   { 
    	   		   usrRequest.requestMsg().applyPause();
@@ -2725,9 +2674,8 @@ class WlItemHandler implements WlHandler
            	}
     	}
        
-    	for (Map.Entry<WlInteger, LinkedHashSet<WlRequest>> entry : _pendingRequestByIdTable.entrySet())
+    	for (LinkedHashSet<WlRequest> pendingRequestList : _pendingRequestByIdTable.values())
     	{
-    		LinkedHashSet<WlRequest> pendingRequestList  = entry.getValue();
     		for (WlRequest usrRequest : pendingRequestList)
     		{ 
     			usrRequest.requestMsg().flags(usrRequest.requestMsg().flags() & ~RequestMsgFlags.PAUSE);
@@ -2762,8 +2710,7 @@ class WlItemHandler implements WlHandler
         
         // handle any pending requests
         // retrieve matching requests based on service id or service name
-        _tempWlInteger.value(wlService.rdmService().serviceId());
-        pendingRequestList = _pendingRequestByIdTable.remove(_tempWlInteger);
+        pendingRequestList = _pendingRequestByIdTable.remove(wlService.rdmService().serviceId());
         if (pendingRequestList == null)
         {
             pendingRequestList = _pendingRequestByNameTable.remove(wlService.rdmService().info().serviceName().toString());
@@ -3362,10 +3309,7 @@ class WlItemHandler implements WlHandler
         if (wlItemGroup != null)
         {
             wlItemGroup.openStreamList().remove(wlStream);
-            _tempWlInteger.value(wlStream.streamId());
-            wlItemGroup.streamIdToItemGroupTable().remove(_tempWlInteger);
-            wlStream.groupTableKey().returnToPool();
-            wlStream.groupTableKey(null);
+            wlItemGroup.streamIdToItemGroupTable().remove(wlStream.streamId());
             // If no streams left in group's stream list, remove item group from table
             if (wlItemGroup.openStreamList().isEmpty())
                 wlStream.wlService().itemGroupTableRemove(wlItemGroup.groupId());
@@ -3376,16 +3320,11 @@ class WlItemHandler implements WlHandler
     /* Add a WlStream to an item group. */
     void addStreamToItemGroup(WlItemGroup wlItemGroup, WlStream wlStream)
     {
-        _tempWlInteger.value(wlStream.streamId());
-        if (!wlItemGroup.streamIdToItemGroupTable().containsKey(_tempWlInteger))
+        if (!wlItemGroup.streamIdToItemGroupTable().containsKey(wlStream.streamId()))
         {
             wlStream.itemGroup(wlItemGroup);
             wlItemGroup.openStreamList().add(wlStream);
-
-            WlInteger wlInteger = ReactorFactory.createWlInteger();
-            wlInteger.value(wlStream.streamId());
-            wlStream.groupTableKey(wlInteger);
-            wlItemGroup.streamIdToItemGroupTable().put(wlInteger, wlStream);
+            wlItemGroup.streamIdToItemGroupTable().put(wlStream.streamId(), wlStream);
         }
     }
 
@@ -3619,11 +3558,8 @@ class WlItemHandler implements WlHandler
 						{
 							newWlRequest.requestMsg().clear();
 							_requestMsg.copy(newWlRequest.requestMsg(), CopyMsgFlags.ALL_FLAGS);
-							WlInteger wlInteger = ReactorFactory.createWlInteger();
-					        wlInteger.value(providerProvideStreamId);
 					        newWlRequest.handler(this);
-					        newWlRequest.tableKey(wlInteger);
-							_watchlist.streamIdtoWlRequestTable().put(wlInteger, newWlRequest);
+							_watchlist.streamIdtoWlRequestTable().put(providerProvideStreamId, newWlRequest);
 							if (_requestMsg.checkStreaming())
 								_providerRequestTable.put(_symbolListRequestKey, newWlRequest.requestMsg());
 						} 
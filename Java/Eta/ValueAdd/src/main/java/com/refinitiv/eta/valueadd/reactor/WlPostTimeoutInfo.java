@@ -11,13 +11,44 @@ package com.refinitiv.eta.valueadd.reactor;
 import com.refinitiv.eta.codec.CodecFactory;
 import com.refinitiv.eta.codec.CopyMsgFlags;
 import com.refinitiv.eta.codec.PostMsg;
+import com.refinitiv.eta.valueadd.common.VaDoubleLinkList;
 import com.refinitiv.eta.valueadd.common.VaNode;
+import com.refinitiv.eta.valueadd.common.VaTimerWheel;
 
 /* Used by the watchlist to handle post message timeouts. */
 class WlPostTimeoutInfo extends VaNode
 {
     PostMsg _postMsg = (PostMsg)CodecFactory.createMsg();
     long _timeout;
+    WlStream _stream; // stream the post message was submitted on
+    
+    /* Links the post timeout into the watchlist timer wheel. */
+    private WlPostTimeoutInfo _timerNext, _timerPrev;
+    private int _timerBucket = VaTimerWheel.NOT_SCHEDULED;
+    static class TimerLink implements VaTimerWheel.TimerLink<WlPostTimeoutInfo>
+    {
+        public WlPostTimeoutInfo getPrev(WlPostTimeoutInfo thisPrev) { return thisPrev._timerPrev; }
+        public void setPrev(WlPostTimeoutInfo thisPrev, WlPostTimeoutInfo thatPrev) { thisPrev._timerPrev = thatPrev; }
+        public WlPostTimeoutInfo getNext(WlPostTimeoutInfo thisNext) { return thisNext._timerNext; }
+        public void setNext(WlPostTimeoutInfo thisNext, WlPostTimeoutInfo thatNext) { thisNext._timerNext = thatNext; }
+        public long deadline(WlPostTimeoutInfo timer) { return timer._timeout; }
+        public int bucket(WlPostTimeoutInfo timer) { return timer._timerBucket; }
+        public void bucket(WlPostTimeoutInfo timer, int bucket) { timer._timerBucket = bucket; }
+    }
+
+    static final TimerLink TIMER_LINK = new TimerLink();
+    
+    /* Links the post timeout into the list of post timeouts of its stream. */
+    private WlPostTimeoutInfo _streamNext, _streamPrev;
+    static class StreamLink implements VaDoubleLinkList.Link<WlPostTimeoutInfo>
+    {
+        public WlPostTimeoutInfo getPrev(WlPostTimeoutInfo thisPrev) { return thisPrev._streamPrev; }
+        public void setPrev(WlPostTimeoutInfo thisPrev, WlPostTimeoutInfo thatPrev) { thisPrev._streamPrev = thatPrev; }
+        public WlPostTimeoutInfo getNext(WlPostTimeoutInfo thisNext) { return thisNext._streamNext; }
+        public void setNext(WlPostTimeoutInfo thisNext, WlPostTimeoutInfo thatNext) { thisNext._streamNext = thatNext; }
+    }
+
+    static final StreamLink STREAM_LINK = new StreamLink();
     
     
     /* Returns the post message. */
@@ -49,5 +80,6 @@ class WlPostTimeoutInfo extends VaNode
     {
         _postMsg.clear();
         _timeout = 0;
+        _stream = null;
     }
 }
@@ -46,8 +46,6 @@ class WlRequest extends VaNode
        
     Qos _matchedQos = CodecFactory.createQos();
     
-    WlInteger _tableKey;
-    
     WlRequest()
     {
         _requestMsg.msgClass(MsgClasses.REQUEST);
@@ -296,16 +294,6 @@ class WlRequest extends VaNode
 		this._viewAction = viewAction;
 	}
 
-	void tableKey(WlInteger tableKey)
-    {
-        _tableKey = tableKey;
-    }
-    
-    WlInteger tableKey()
-    {
-        return _tableKey;
-    }
-    
     WlView view()
     {
     	return _view;
@@ -375,7 +363,6 @@ class WlRequest extends VaNode
         _hasServiceId = false;
         _initialResponseReceived = false;
         _symbolListFlags = 0;
-        _tableKey = null;
         _viewElemCount = 0;
         _viewType = 0;
         _fanoutSolicitedAfterView = false;
@@ -387,12 +374,6 @@ class WlRequest extends VaNode
     {
     	assert(_state != State.RETURN_TO_POOL);
     	
-        if (_tableKey != null)
-        {
-            _tableKey.returnToPool();
-            _tableKey = null;
-        }                
-
         /* Mark that this WlRequest is pooled before repooling it. */
         _state = State.RETURN_TO_POOL;
         
@@ -35,7 +35,9 @@ import com.refinitiv.eta.transport.ChannelState;
 import com.refinitiv.eta.transport.IoctlCodes;
 import com.refinitiv.eta.transport.TransportBuffer;
 import com.refinitiv.eta.transport.TransportReturnCodes;
+import com.refinitiv.eta.valueadd.common.VaDoubleLinkList;
 import com.refinitiv.eta.valueadd.common.VaNode;
+import com.refinitiv.eta.valueadd.common.VaTimerWheel;
 
 /* Watchlist stream that handles basic stream management. */
 class WlStream extends VaNode
@@ -104,13 +106,14 @@ class WlStream extends VaNode
     // pool of post messages
     LinkedList<PostMsg> _postMsgPool = new LinkedList<PostMsg>();
     
-    // list to track post ACK timeouts
-    LinkedList<WlPostTimeoutInfo> _postTimeoutInfoList = new LinkedList<WlPostTimeoutInfo>();
+    // post ACK timeouts of the stream, they are scheduled in the watchlist post timer wheel
+    VaDoubleLinkList<WlPostTimeoutInfo> _postTimeoutInfoList = new VaDoubleLinkList<WlPostTimeoutInfo>();
 
     AckMsg _ackMsg;
     CloseMsg _closeMsg;
 
-    WlInteger _tableKey, _groupTableKey;
+    int _tableKey; // stream id of this stream in the watchlist stream table
+    boolean _hasTableKey;
     
     int _requestsPausedCount;
     boolean _paused;
@@ -122,10 +125,21 @@ class WlStream extends VaNode
     Buffer _viewBuffer = CodecFactory.createBuffer();
     ByteBuffer _viewByteBuffer = ByteBuffer.allocateDirect(2048);
         
-    /* This is used to keep track whether this object has been added the watchlist's timeout list
-     * in oder to remove it from the list before returning back to its pool.
-     */
-    boolean _addedToTimeOutList;
+    /* Links the stream into the watchlist timer wheel of request timeouts. */
+    private WlStream _timerNext, _timerPrev;
+    private int _timerBucket = VaTimerWheel.NOT_SCHEDULED;
+    static class TimerLink implements VaTimerWheel.TimerLink<WlStream>
+    {
+        public WlStream getPrev(WlStream thisPrev) { return thisPrev._timerPrev; }
+        public void setPrev(WlStream thisPrev, WlStream thatPrev) { thisPrev._timerPrev = thatPrev; }
+        public WlStream getNext(WlStream thisNext) { return thisNext._timerNext; }
+        public void setNext(WlStream thisNext, WlStream thatNext) { thisNext._timerNext = thatNext; }
+        public long deadline(WlStream timer) { return timer._requestExpireTime; }
+        public int bucket(WlStream timer) { return timer._timerBucket; }
+        public void bucket(WlStream timer, int bucket) { timer._timerBucket = bucket; }
+    }
+
+    static final TimerLink TIMER_LINK = new TimerLink();
 
     WlStream()
     {
@@ -133,7 +147,6 @@ class WlStream extends VaNode
         _ackMsg.msgClass(MsgClasses.ACK);
         _closeMsg = (CloseMsg)CodecFactory.createMsg();
         _closeMsg.msgClass(MsgClasses.CLOSE);
-        _addedToTimeOutList = false;
     }
     
     /* Returns the state of the watchlist stream. */
@@ -330,49 +343,54 @@ class WlStream extends VaNode
             ret = ReactorReturnCodes.SUCCESS;
         }
         
-        // handle any post ACK timeouts
-        if (_postTimeoutInfoList.size() > 0)
+        return ret;
+    }
+    
+    /* Handles a post ACK timeout for the stream. */
+    int postTimeout(WlPostTimeoutInfo postTimeoutInfo, ReactorErrorInfo errorInfo)
+    {
+        int ret = ReactorReturnCodes.SUCCESS;
+        
+        _postTimeoutInfoList.remove(postTimeoutInfo, WlPostTimeoutInfo.STREAM_LINK);
+        
+        // if stream is CLOSED there is nothing to NAK
+        if (_state.streamState() != StreamStates.CLOSED)
         {
-            while (_postTimeoutInfoList.peek() != null && _postTimeoutInfoList.peek().timeout() <= currentTime)
+            // NAK if ACK requested and not already ACKed
+            
+            // retrieve postSeqNumToMsgTable from postIdToMsgTable by post id
+            HashMap<Long,PostMsg> postSeqNumToMsgTable = _postIdToMsgTable.get(postTimeoutInfo.postMsg().postId());
+            if (postSeqNumToMsgTable != null)
             {
-            	WlPostTimeoutInfo postTimeoutInfo = _postTimeoutInfoList.poll();
-                
-                // NAK if ACK requested and not already ACKed
-                
-                // retrieve postSeqNumToMsgTable from postIdToMsgTable by post id
-                HashMap<Long,PostMsg> postSeqNumToMsgTable = _postIdToMsgTable.get(postTimeoutInfo.postMsg().postId());
-                if (postSeqNumToMsgTable != null)
+                // retrieve PostMsg from postSeqNumToMsgTable by sequence number
+                // it will still be in table if it hasn't been ACKed
+                long seqNum = postTimeoutInfo.postMsg().checkHasSeqNum() ? postTimeoutInfo.postMsg().seqNum() : 0;
+                PostMsg postMsg = postSeqNumToMsgTable.get(seqNum);
+                if (postMsg != null)
                 {
-                    // retrieve PostMsg from postSeqNumToMsgTable by sequence number
-                    // it will still be in table if it hasn't been ACKed
-                    long seqNum = postTimeoutInfo.postMsg().checkHasSeqNum() ? postTimeoutInfo.postMsg().seqNum() : 0;
-                    PostMsg postMsg = postSeqNumToMsgTable.get(seqNum);
-                    if (postMsg != null)
+                    // PostMsg hasn't been ACKed, send NAK to user if ACK requested
+                    if (postTimeoutInfo.postMsg().checkAck())
                     {
-                        // PostMsg hasn't been ACKed, send NAK to user if ACK requested
-                        if (postTimeoutInfo.postMsg().checkAck())
-                        {
-                            ret = sendNak(postTimeoutInfo.postMsg(), errorInfo);
-                        }
-                        
-                        // decrement number of outstanding post messages
-                        _watchlist.numOutstandingPosts(_watchlist.numOutstandingPosts() - 1);
-    
-                        // remove PostMsg from postSeqNumToMsgTable and add back to pool
-                        _postMsgPool.add(postSeqNumToMsgTable.remove(postMsg.seqNum()));
-                        /* if there are no more entries in postSeqNumToMsgTable,
-                           remove postSeqNumToMsgTable from postIdToMsgTable and add back to pool */
-                        if (postSeqNumToMsgTable.size() == 0)
-                        {
-                            _postMsgHashMapPool.add(_postIdToMsgTable.remove(postTimeoutInfo.postMsg().postId()));
-                        }
+                        ret = sendNak(postTimeoutInfo.postMsg(), errorInfo);
+                    }
+                    
+                    // decrement number of outstanding post messages
+                    _watchlist.numOutstandingPosts(_watchlist.numOutstandingPosts() - 1);
+
+                    // remove PostMsg from postSeqNumToMsgTable and add back to pool
+                    _postMsgPool.add(postSeqNumToMsgTable.remove(postMsg.seqNum()));
+                    /* if there are no more entries in postSeqNumToMsgTable,
+                       remove postSeqNumToMsgTable from postIdToMsgTable and add back to pool */
+                    if (postSeqNumToMsgTable.size() == 0)
+                    {
+                        _postMsgHashMapPool.add(_postIdToMsgTable.remove(postTimeoutInfo.postMsg().postId()));
                     }
                 }
-                
-                postTimeoutInfo.returnToPool();
             }
         }
         
+        postTimeoutInfo.returnToPool();
+        
         return ret;
     }
 
@@ -660,17 +678,19 @@ class WlStream extends VaNode
         /* this has the dual purpose of aging out entries in the _postIdToMsgTable
            and NAKing when there's no response to the post message */
         long postExpireTime = (_watchlist.watchlistOptions().postAckTimeout() * 1000000L) + System.nanoTime();
-        if (_watchlist.startWatchlistTimer(postExpireTime, this, errorInfo) != ReactorReturnCodes.SUCCESS)
-        {
-            return ReactorReturnCodes.FAILURE;
-        }
         
         // insert PostMsg into timeout list
         WlPostTimeoutInfo postTimeoutInfo = ReactorFactory.createWlPostTimeoutInfo();                        
         postTimeoutInfo.timeout(postExpireTime);            
         postTimeoutInfo.postMsg(postMsg);
+        postTimeoutInfo._stream = this;
         
-        _postTimeoutInfoList.add(postTimeoutInfo);
+        _postTimeoutInfoList.push(postTimeoutInfo, WlPostTimeoutInfo.STREAM_LINK);
+
+        if (_watchlist.startPostTimer(postTimeoutInfo, errorInfo) != ReactorReturnCodes.SUCCESS)
+        {
+            return ReactorReturnCodes.FAILURE;
+        }
 
         return ReactorReturnCodes.SUCCESS;        
     }
@@ -823,12 +843,8 @@ class WlStream extends VaNode
         if (postMsg.checkHasSeqNum())
             _ackMsg.applyHasSeqNum();
          
-        // call back with NAK message
-        WlInteger tempWlInteger = ReactorFactory.createWlInteger();
-        tempWlInteger.value(_ackMsg.streamId());
-        
         // call back item handler with NAK message
-        return _watchlist.itemHandler().callbackUser("WlStream.sendNak", _ackMsg, null, _watchlist.streamIdtoWlRequestTable().get(tempWlInteger), errorInfo);
+        return _watchlist.itemHandler().callbackUser("WlStream.sendNak", _ackMsg, null, _watchlist.streamIdtoWlRequestTable().get(_ackMsg.streamId()), errorInfo);
     }
     
     /* Encodes a ETA message into buffer and writes to channel. */
@@ -943,11 +959,10 @@ class WlStream extends VaNode
         _state.streamState(StreamStates.CLOSED);
         _state.dataState(DataStates.SUSPECT);                
         // remove this stream from watchlist table
-        if (_tableKey != null)
+        if (_hasTableKey)
         {
             _watchlist.streamIdtoWlStreamTable().remove(_tableKey);
-            _tableKey.returnToPool();
-            _tableKey = null;
+            _hasTableKey = false;
         }
         _requestsPausedCount = 0;
         _paused = false;
@@ -970,30 +985,27 @@ class WlStream extends VaNode
         {
             _requestExpireTime = (_watchlist.watchlistOptions().requestTimeout() * 1000000L) + System.nanoTime();
         
-            ret = _watchlist.startWatchlistTimer(_requestExpireTime, this, errorInfo);
+            ret = _watchlist.startRequestTimer(this, errorInfo);
         }
         
         return ret;
     }
     
-    void tableKey(WlInteger tableKey)
+    void tableKey(int tableKey)
     {
         _tableKey = tableKey;
+        _hasTableKey = true;
     }
     
-    WlInteger tableKey()
+    int tableKey()
     {
         return _tableKey;
     }
     
-    void groupTableKey(WlInteger groupTableKey)
+    void clearTableKey()
     {
-        _groupTableKey = groupTableKey;
-    }
-    
-    WlInteger groupTableKey()
-    {
-        return _groupTableKey;
+        _tableKey = 0;
+        _hasTableKey = false;
     }
     
     boolean requestPending()
@@ -1032,16 +1044,16 @@ class WlStream extends VaNode
         _requestExpireTime = 0;
         _submitOptions.clear();
         _itemGroup = null;
-        _tableKey = null;
-        _groupTableKey = null;
+        _tableKey = 0;
+        _hasTableKey = false;
         _wlService = null;
         // return any WlPostTimeoutInfo back to pool
         WlPostTimeoutInfo postTimeoutInfo = null;
-        while ((postTimeoutInfo = _postTimeoutInfoList.poll()) != null)
+        while ((postTimeoutInfo = _postTimeoutInfoList.pop(WlPostTimeoutInfo.STREAM_LINK)) != null)
         {
+            _watchlist._postTimers.cancel(postTimeoutInfo);
             postTimeoutInfo.returnToPool();
         }
-        _postTimeoutInfoList.clear();
         // return any PostMsgs back to pool
         for (HashMap<Long,PostMsg> postMsgHashMap : _postIdToMsgTable.values())
         {
@@ -1064,7 +1076,10 @@ class WlStream extends VaNode
         _requestsWithViewCount = 0;
         _reactorChannel = null;
         _reactor = null;
-        _addedToTimeOutList = false;
+        if (_watchlist != null)
+        {
+            _watchlist._streamTimers.cancel(this);
+        }
     }
     
 	WlView aggregateView()
@@ -1084,11 +1099,11 @@ class WlStream extends VaNode
 		
 		// return any WlPostTimeoutInfo back to pool
 		WlPostTimeoutInfo postTimeoutInfo = null;
-		while ((postTimeoutInfo = _postTimeoutInfoList.poll()) != null)
+		while ((postTimeoutInfo = _postTimeoutInfoList.pop(WlPostTimeoutInfo.STREAM_LINK)) != null)
 		{
+			_watchlist._postTimers.cancel(postTimeoutInfo);
 			postTimeoutInfo.returnToPool();
 		}
-		_postTimeoutInfoList.clear();
         
 		if (_aggregateView != null)
 		{
@@ -1097,10 +1112,9 @@ class WlStream extends VaNode
         		_aggregateView = null;
         }
 
-		if(_addedToTimeOutList)
+		if (_watchlist != null)
 		{
-			_addedToTimeOutList = false;
-			_watchlist._streamTimeoutInfoList.remove(this);
+			_watchlist._streamTimers.cancel(this);
 		}
         
 		_handler  = null;
@@ -1109,8 +1123,8 @@ class WlStream extends VaNode
 		_reactorChannel = null;
 		_reactor = null;
 		_itemGroup = null;
-		_tableKey = null;
-		_groupTableKey = null;
+		_tableKey = 0;
+		_hasTableKey = false;
 		_wlService = null;
 		
 		super.returnToPool();
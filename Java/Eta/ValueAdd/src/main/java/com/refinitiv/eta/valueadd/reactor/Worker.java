@@ -31,6 +31,7 @@ import com.refinitiv.eta.transport.TransportFactory;
 import com.refinitiv.eta.transport.TransportReturnCodes;
 import com.refinitiv.eta.valueadd.common.SelectableBiDirectionalQueue;
 import com.refinitiv.eta.valueadd.common.VaIteratableQueue;
+import com.refinitiv.eta.valueadd.common.VaTimerWheel;
 import com.refinitiv.eta.valueadd.reactor.ReactorAuthTokenInfo.TokenVersion;
 import com.refinitiv.eta.valueadd.reactor.ReactorChannel.State;
 import com.refinitiv.eta.valueadd.reactor.ReactorTokenSession.SessionState;
@@ -55,12 +56,14 @@ class Worker implements Runnable
 
     volatile boolean _running = true;
 
-    VaIteratableQueue _timerEventQueue = new VaIteratableQueue();
+    VaTimerWheel<WorkerEvent> _timerEventQueue = new VaTimerWheel<WorkerEvent>(WorkerEvent.TIMER_LINK);
     
     State _previousReactorChannelState;
 
     Reactor _reactor;
 
+    long _queueSpinTime; // nanoseconds to poll _queue before selecting
+
     Worker(ReactorChannel reactorChannel, SelectableBiDirectionalQueue queue)
     {
         if (reactorChannel == null)
@@ -71,6 +74,7 @@ class Worker implements Runnable
         _reactorReactorChannel = reactorChannel;
         _queue = queue;
         _reactor = reactorChannel.reactor();
+        _queueSpinTime = _reactor._reactorOptions.workerQueueSpinTime() * 1000;
     }
 
     @Override
@@ -87,7 +91,17 @@ class Worker implements Runnable
         {
             try
             {
-                int selectorCount = _selector.select(SELECT_TIME);
+                int selectorCount;
+                if (_queueSpinTime > 0 && _queue.spinForRead(_queueSpinTime))
+                {
+                    // events arrived while polling, handle them and only check the channels without waiting.
+                    processWorkerEvent();
+                    selectorCount = _selector.selectNow();
+                }
+                else
+                {
+                    selectorCount = _selector.select(SELECT_TIME);
+                }
                 if (selectorCount > 0 || !_selector.selectedKeys().isEmpty())
                 {
                     Iterator<SelectionKey> iter = _selector.selectedKeys().iterator();
@@ -142,15 +156,18 @@ class Worker implements Runnable
                 }
 
                 // check guaranteed messaging timers
-                _timerEventQueue.rewind();
-                while (_timerEventQueue.hasNext())
+                _timerEventQueue.expire(System.nanoTime());
+                WorkerEvent event;
+                while ((event = _timerEventQueue.pollExpired()) != null)
                 {
-                    WorkerEvent event = (WorkerEvent)_timerEventQueue.next();
-                    
+                    /* An expired event stays scheduled unless it is removed below. If its timeout is
+                     * changed, the wheel moves it to the new timeout on the next expiry. */
+                    _timerEventQueue.schedule(event);
+
                  	/* This PH timer event is already canceled when a timer is installed */
                 	if(event._isCanceled)
                 	{
-                		_timerEventQueue.remove(event);
+                		_timerEventQueue.cancel(event);
                         event.returnToPool();
                 		continue;
                 	}
@@ -171,7 +188,7 @@ class Worker implements Runnable
                         		tokenSession.tokenReissueEvent(null);
                         	}
 
-                            _timerEventQueue.remove(event);
+                            _timerEventQueue.cancel(event);
                             event.returnToPool();
                         }
                         else if (event.eventType() == WorkerEventTypes.PREFERRED_HOST_TIMER)
@@ -219,7 +236,7 @@ class Worker implements Runnable
                     				 	sendWorkerEvent(_reactorReactorChannel, WorkerEventTypes.SHUTDOWN,
                     	                        ReactorReturnCodes.FAILURE, "Worker.run",
                     	                        "exception occurred, " + e.getLocalizedMessage());
-                    				 	_timerEventQueue.remove(event);
+                    				 	_timerEventQueue.cancel(event);
                     				 	event.returnToPool();
         						}
                     		 }
@@ -252,7 +269,7 @@ class Worker implements Runnable
 											event.reactorChannel().warmStandByHandlerImpl.startingReactorChannel(),
 											reactorWarmStandbyEvent,
 											event.reactorChannel().getEDPErrorInfo());
-									_timerEventQueue.remove(event);
+									_timerEventQueue.cancel(event);
 									event.returnToPool();
 									continue;
                         		}
@@ -275,7 +292,7 @@ class Worker implements Runnable
 
                     							event.reactorChannel().reactor().sendWarmStandbyEvent(event.reactorChannel().warmStandByHandlerImpl.startingReactorChannel(), reactorWarmStandbyEvent, event.reactorChannel().getEDPErrorInfo());
                     							switchingToActive = true;
-                                        		_timerEventQueue.remove(event);
+                                        		_timerEventQueue.cancel(event);
                                         		event.returnToPool();
                                         		break;
                         					}
@@ -387,7 +404,7 @@ class Worker implements Runnable
                     							event.reactorChannel().state(_previousReactorChannelState);	// Reset state
                     							_previousReactorChannelState = null;
                     						}
-                                    		_timerEventQueue.remove(event);
+                                    		_timerEventQueue.cancel(event);
                                     		sendPreferredHostCompleteEvent(event.reactorChannel());
                                     		event.returnToPool();
                                     		continue;
@@ -405,7 +422,7 @@ class Worker implements Runnable
             							_previousReactorChannelState = null;
             						}
             						sendPreferredHostCompleteEvent(event.reactorChannel());
-                            		_timerEventQueue.remove(event);
+                            		_timerEventQueue.cancel(event);
                             		event.returnToPool();
                             		continue;
                         		}
@@ -440,7 +457,7 @@ class Worker implements Runnable
                                             		sendWorkerEvent(event.reactorChannel(), WorkerEventTypes.PREFERRED_HOST_SWITCH_CHANNEL,
                                                             ReactorReturnCodes.SUCCESS, "Worker.run", null);
 
-                                            		_timerEventQueue.remove(event);
+                                            		_timerEventQueue.cancel(event);
 
                                             		event.returnToPool();
                                             		break;
@@ -454,7 +471,7 @@ class Worker implements Runnable
                             							_previousReactorChannelState = null;
                             						}
                                             		sendPreferredHostCompleteEvent(event.reactorChannel());
-                                            		_timerEventQueue.remove(event);
+                                            		_timerEventQueue.cancel(event);
                                             		event.returnToPool();
                                             		break;
                                             	}
@@ -471,7 +488,7 @@ class Worker implements Runnable
                         							_previousReactorChannelState = null;
                         						}
                         						sendPreferredHostCompleteEvent(event.reactorChannel());
-                                        		_timerEventQueue.remove(event);
+                                        		_timerEventQueue.cancel(event);
                                         		event.returnToPool();
                         						break;
                         					}
@@ -493,7 +510,7 @@ class Worker implements Runnable
 	                                    		event.reactorChannel().warmStandByHandlerImpl.startingReactorChannel().preferredHostChannel(event.reactorChannel().preferredHostChannel());
                                                 event.reactorChannel().warmStandByHandlerImpl.startingReactorChannel().oldPHStartingChannel = event.reactorChannel().warmStandByHandlerImpl.startingReactorChannel().channel();
 	                                    		
-	                                    		_timerEventQueue.remove(event);
+	                                    		_timerEventQueue.cancel(event);
 	                                    		event.returnToPool();
 	                                        }
 	                                    	else if (ret == TransportReturnCodes.FAILURE || System.currentTimeMillis() > event.reactorChannel().initializationEndTimeMs())
@@ -505,7 +522,7 @@ class Worker implements Runnable
 	                    							_previousReactorChannelState = null;
 	                    						}
 	                                    		sendPreferredHostCompleteEvent(event.reactorChannel());
-	                                    		_timerEventQueue.remove(event);
+	                                    		_timerEventQueue.cancel(event);
 	                                    		event.returnToPool();
 	                                    	}
                         				}
@@ -520,7 +537,7 @@ class Worker implements Runnable
                         							_previousReactorChannelState = null;
                         						}
                         						sendPreferredHostCompleteEvent(event.reactorChannel());
-                                        		_timerEventQueue.remove(event);
+                                        		_timerEventQueue.cancel(event);
                                         		event.returnToPool();
                         					}
                         				}
@@ -538,7 +555,7 @@ class Worker implements Runnable
                                 		/* Set the old channel to be closed later with PREFERRED_HOST_CHANNEL_CLOSE by the worker thread */
                                 		event.reactorChannel().oldPHStartingChannel = event.reactorChannel().channel();
                                 		
-                                		_timerEventQueue.remove(event);
+                                		_timerEventQueue.cancel(event);
                                 		event.returnToPool();
                                     }
                                 	else if (ret == TransportReturnCodes.FAILURE || System.currentTimeMillis() > event.reactorChannel().initializationEndTimeMs())
@@ -550,7 +567,7 @@ class Worker implements Runnable
                 							_previousReactorChannelState = null;
                 						}
                                 		sendPreferredHostCompleteEvent(event.reactorChannel());
-                                		_timerEventQueue.remove(event);
+                                		_timerEventQueue.cancel(event);
                                 		event.returnToPool();
                                 	}
                         		}
@@ -573,7 +590,7 @@ class Worker implements Runnable
                         		_reactor.populateErrorInfo(event.reactorChannel().getEDPErrorInfo(), ReactorReturnCodes.FAILURE, "ReactorChannel.ioctl",
                 						"Failed to complete ioctl call, no ioctl changes made.");
                         		
-                                _timerEventQueue.remove(event);
+                                _timerEventQueue.cancel(event);
                                 event.returnToPool();
                                 continue;
                         	}
@@ -683,7 +700,7 @@ class Worker implements Runnable
                 			_reactor.sendWorkerEvent(WorkerEventTypes.PREFERRED_HOST_TIMER, event.reactorChannel());
                 			event.reactorChannel()._preferredHostOptionsIoctl = null;
                 			event.reactorChannel()._cronExpressionIoctl = null;
-                            _timerEventQueue.remove(event);
+                            _timerEventQueue.cancel(event);
                             event.reactorChannel()._preferredHostLock.unlock();
                             event.returnToPool();
                         }
@@ -698,7 +715,7 @@ class Worker implements Runnable
                             sendWorkerEvent(event.reactorChannel(), eventType, event.tunnelStream(),
                                     ReactorReturnCodes.SUCCESS, null, null);
 
-                            _timerEventQueue.remove(event);
+                            _timerEventQueue.cancel(event);
                             event.returnToPool();
                         }
 
@@ -1644,6 +1661,8 @@ class Worker implements Runnable
 		                {
 		                	tokenSession.tokenReissueEvent()._tokenSession = null;
 		                	tokenSession.tokenReissueEvent().timeout(System.nanoTime());
+		                	if (_timerEventQueue.isScheduled(tokenSession.tokenReissueEvent()))
+		                		_timerEventQueue.schedule(tokenSession.tokenReissueEvent());
 		                	tokenSession.tokenReissueEvent(event);
 		                }
 		                else
@@ -1652,11 +1671,11 @@ class Worker implements Runnable
 		                }
 	                }
 	
-	                _timerEventQueue.add(event);
+	                _timerEventQueue.schedule(event);
 	                return;
 	            case START_DISPATCH_TIMER:
 	            case START_WATCHLIST_TIMER:
-	                _timerEventQueue.add(event);
+	                _timerEventQueue.schedule(event);
 	                return;
 	            case PREFERRED_HOST_TIMER:
 	            	if (event.reactorChannel()._preferredHostOptions.isPreferredHostEnabled())
@@ -1672,14 +1691,14 @@ class Worker implements Runnable
 	           		 		event.reactorChannel()._nextReconnectTimeMs = event.reactorChannel()._cronNextTime.getTime();
 	           		 		event.timeout(System.nanoTime() + (event.reactorChannel()._cronNextTime.getTime() - event.reactorChannel()._cronCurrentTime.getTime()) * 1000000);
 	           		 		event.reactorChannel()._currentPHTimerEvent = event; // Update with the current PH timer event
-							_timerEventQueue.add(event); 
+							_timerEventQueue.schedule(event); 
 	            		 }
 	            		else if (event.reactorChannel()._preferredHostOptions.detectionTimeInterval() > 0)
 	         		 	{
 	         		 		event.reactorChannel()._nextReconnectTimeMs = System.currentTimeMillis() + event.reactorChannel()._preferredHostOptions.detectionTimeInterval() * 1000;
 	         		 		event.timeout(System.nanoTime() + (event.reactorChannel()._preferredHostOptions.detectionTimeInterval() * 1000000000));
 	         		 		event.reactorChannel()._currentPHTimerEvent = event; // Update with the current PH timer event
-	         		 		_timerEventQueue.add(event); 
+	         		 		_timerEventQueue.schedule(event); 
 	         		 		return;
 	         		 	}
 	            	}
@@ -1691,11 +1710,11 @@ class Worker implements Runnable
 	            	
 	            	return;
 	            case PREFERRED_HOST_START_FALLBACK:
-	   		 		_timerEventQueue.add(event); 
+	   		 		_timerEventQueue.schedule(event); 
 	   		 		return;
 	            case PREFERRED_HOST_IOCTL:
 	        		// Put event into timerEventQueue so we can handle it when we are ready
-	        		_timerEventQueue.add(event); 
+	        		_timerEventQueue.schedule(event); 
 	        		return;
 	            case PREFERRED_HOST_CHANNEL_CLOSE:
 	            	if(reactorChannel.oldPHStartingChannel != null)
@@ -1726,6 +1745,7 @@ class Worker implements Runnable
 	
 	        event.returnToPool();
         }
+        _queue.drainReadChannel();
     }
 
     private void processChannelInit(ReactorChannel reactorChannel)
@@ -1778,6 +1798,10 @@ class Worker implements Runnable
         Channel channel = reactorChannel.channel();
         if (channel != null && channel.state() != ChannelState.INACTIVE && channel.state() != ChannelState.CLOSED)
         {
+            boolean latencyStatSet = _reactor._reactorOptions.latencyStatSet();
+            if (latencyStatSet)
+                reactorChannel.workerFlushStarting();
+
             // attempt to flush
             int retval = channel.flush(_error);
             if (retval > TransportReturnCodes.SUCCESS)
@@ -1820,6 +1844,8 @@ class Worker implements Runnable
                     }
                 }
 
+                if (latencyStatSet)
+                    reactorChannel.workerFlushDone();
                 sendWorkerEvent(reactorChannel, WorkerEventTypes.FLUSH_DONE, ReactorReturnCodes.SUCCESS, null, null);
             }
             else if (retval < TransportReturnCodes.SUCCESS)
@@ -8,6 +8,8 @@
 
 package com.refinitiv.eta.valueadd.reactor;
 
+import com.refinitiv.eta.valueadd.common.VaTimerWheel;
+
 /* Internal event class used by the Reactor and Worker. */
 class WorkerEvent extends ReactorEvent
 {
@@ -23,6 +25,21 @@ class WorkerEvent extends ReactorEvent
 	int _streamId;
 	boolean _isCanceled;
 
+	private WorkerEvent _timerNext, _timerPrev;
+	private int _timerBucket = VaTimerWheel.NOT_SCHEDULED;
+	static class TimerLink implements VaTimerWheel.TimerLink<WorkerEvent>
+	{
+		public WorkerEvent getPrev(WorkerEvent thisPrev) { return thisPrev._timerPrev; }
+		public void setPrev(WorkerEvent thisPrev, WorkerEvent thatPrev) { thisPrev._timerPrev = thatPrev; }
+		public WorkerEvent getNext(WorkerEvent thisNext) { return thisNext._timerNext; }
+		public void setNext(WorkerEvent thisNext, WorkerEvent thatNext) { thisNext._timerNext = thatNext; }
+		public long deadline(WorkerEvent timer) { return timer._timeout; }
+		public int bucket(WorkerEvent timer) { return timer._timerBucket; }
+		public void bucket(WorkerEvent timer, int bucket) { timer._timerBucket = bucket; }
+	}
+
+	static final TimerLink TIMER_LINK = new TimerLink();
+
 	WorkerEventTypes eventType()
     {
         return _eventType;
@@ -11,6 +11,7 @@ package com.refinitiv.eta.valueadd.common;
 import static org.junit.Assert.*;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.nio.channels.spi.SelectorProvider;
@@ -18,6 +19,7 @@ import java.util.Iterator;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
 
@@ -369,6 +371,145 @@ public class SelectableBiDirectionalQueueJunit
         }
     }
 
+    @Test
+    public void coalescedWakeupTest() throws IOException
+    {
+        SelectableBiDirectionalQueue queue = new SelectableBiDirectionalQueue();
+        Selector selector = SelectorProvider.provider().openSelector();
+        try
+        {
+            queue.remote().readChannel().register(selector, SelectionKey.OP_READ);
+
+            // several writes before the reader wakes send a single byte
+            for (int i = 0; i < 10; i++)
+                assertTrue(queue.write(new TestObject(i)));
+            assertTrue(queue.remote()._readNotifier.isSet());
+            assertEquals(1, selector.select(100));
+            selector.selectedKeys().clear();
+
+            for (int i = 0; i < 10; i++)
+                assertEquals(i, ((TestObject)queue.remote().read()).id());
+            assertFalse(queue.remote()._readNotifier.isSet());
+            assertEquals(0, selector.selectNow());
+
+            // the next write wakes the reader again
+            assertTrue(queue.write(new TestObject(10)));
+            assertEquals(1, selector.select(100));
+            selector.selectedKeys().clear();
+            assertEquals(10, ((TestObject)queue.remote().read()).id());
+        }
+        finally
+        {
+            selector.close();
+            queue.shutdown();
+        }
+    }
+
+    @Test
+    public void spinForReadTest() throws Exception
+    {
+        final SelectableBiDirectionalQueue queue = new SelectableBiDirectionalQueue();
+        try
+        {
+            // nothing to read, the spin times out
+            assertFalse(queue.remote().spinForRead(1000000));
+            assertFalse(queue.remote()._readNotifier._spinning);
+
+            // an event already queued is found without spinning
+            assertTrue(queue.write(new TestObject(1)));
+            assertTrue(queue.remote().spinForRead(0));
+            assertEquals(1, ((TestObject)queue.remote().read()).id());
+            assertFalse(queue.remote()._readNotifier.isSet());
+
+            // an event written while the reader spins does not go through the pipe
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try
+            {
+                executor.submit(new Runnable()
+                {
+                    @Override
+                    public void run()
+                    {
+                        while (!queue.remote()._readNotifier._spinning)
+                            Thread.yield();
+                        queue.write(new TestObject(2));
+                    }
+                });
+                assertTrue(queue.remote().spinForRead(10000000000L));
+            }
+            finally
+            {
+                executor.shutdown();
+            }
+            assertFalse(queue._writeNotifier.isSet());
+            assertEquals(2, ((TestObject)queue.remote().read()).id());
+            assertEquals(0, queue.remote().readQueueSize());
+        }
+        finally
+        {
+            queue.shutdown();
+        }
+    }
+
+    @Test
+    public void concurrentWritersDrainPipeTest() throws Exception
+    {
+        final int WRITER_COUNT = 4;
+        final int WRITES_PER_WRITER = 100000;
+        final SelectableBiDirectionalQueue queue = new SelectableBiDirectionalQueue();
+        SelectableBiDirectionalQueue reader = queue.remote();
+        Selector selector = SelectorProvider.provider().openSelector();
+        ExecutorService executor = Executors.newFixedThreadPool(WRITER_COUNT);
+        try
+        {
+            reader.readChannel().register(selector, SelectionKey.OP_READ);
+            for (int i = 0; i < WRITER_COUNT; i++)
+            {
+                executor.submit(new Runnable()
+                {
+                    @Override
+                    public void run()
+                    {
+                        for (int j = 0; j < WRITES_PER_WRITER; j++)
+                            queue.write(new TestObject(j));
+                    }
+                });
+            }
+
+            // read the way the Reactor and Worker do: drain the queue, then the pipe, whenever the selector fires
+            int readCount = 0;
+            long endTime = System.currentTimeMillis() + 30000;
+            while (readCount < WRITER_COUNT * WRITES_PER_WRITER && System.currentTimeMillis() < endTime)
+            {
+                selector.select(10);
+                selector.selectedKeys().clear();
+                while (reader.readQueueSize() > 0)
+                {
+                    assertNotNull(reader.read());
+                    readCount++;
+                }
+                reader.drainReadChannel();
+            }
+            assertEquals(WRITER_COUNT * WRITES_PER_WRITER, readCount);
+
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+            reader.drainReadChannel();
+
+            // no wakeup byte is left behind once every event has been read
+            assertFalse(reader._readNotifier.isSet());
+            assertEquals(0, selector.selectNow());
+            assertEquals(0, reader._readPipe.source().read(ByteBuffer.allocate(1)));
+            assertFalse(reader.isShutDown());
+        }
+        finally
+        {
+            executor.shutdownNow();
+            selector.close();
+            queue.shutdown();
+        }
+    }
+
     /**
      * Test the SelectableBiDirectionalQueue by having two threads randomly
      * writing data to each other and selecting on the readChannel. The main
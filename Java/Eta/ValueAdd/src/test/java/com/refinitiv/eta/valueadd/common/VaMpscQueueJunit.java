@@ -0,0 +1,120 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.common;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+public class VaMpscQueueJunit
+{
+    public class TestObject extends VaNode
+    {
+        int _producer;
+        int _sequence;
+
+        TestObject(int producer, int sequence)
+        {
+            _producer = producer;
+            _sequence = sequence;
+        }
+    }
+
+    @Test
+    public void fifoTest()
+    {
+        VaMpscQueue queue = new VaMpscQueue();
+        assertNull(queue.poll());
+        assertNull(queue.peek());
+        assertEquals(0, queue.size());
+
+        TestObject obj1 = new TestObject(0, 1);
+        TestObject obj2 = new TestObject(0, 2);
+        TestObject obj3 = new TestObject(0, 3);
+        queue.add(obj1);
+        queue.add(obj2);
+        queue.add(obj3);
+        assertEquals(3, queue.size());
+        assertSame(obj1, queue.peek());
+        assertSame(obj2, queue.next(obj1));
+        assertSame(obj3, queue.next(obj2));
+        assertNull(queue.next(obj3));
+
+        assertSame(obj1, queue.poll());
+        assertSame(obj2, queue.poll());
+
+        // re-add a polled node while another node is still queued
+        queue.add(obj1);
+        assertEquals(2, queue.size());
+        assertSame(obj3, queue.poll());
+        assertSame(obj1, queue.poll());
+        assertNull(queue.poll());
+        assertEquals(0, queue.size());
+
+        // the queue is reusable once empty
+        queue.add(obj2);
+        assertSame(obj2, queue.peek());
+        assertSame(obj2, queue.poll());
+        assertNull(queue.peek());
+    }
+
+    @Test
+    public void multipleWritersTest() throws InterruptedException
+    {
+        final int WRITERS = 4;
+        final int COUNT = 200000;
+        final VaMpscQueue queue = new VaMpscQueue();
+        final CountDownLatch start = new CountDownLatch(1);
+        Thread[] writers = new Thread[WRITERS];
+
+        for (int i = 0; i < WRITERS; i++)
+        {
+            final int producer = i;
+            writers[i] = new Thread(new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        start.await();
+                    }
+                    catch (InterruptedException e)
+                    {
+                        return;
+                    }
+                    for (int sequence = 0; sequence < COUNT; sequence++)
+                        queue.add(new TestObject(producer, sequence));
+                }
+            });
+            writers[i].start();
+        }
+        start.countDown();
+
+        // each writer's nodes must arrive complete and in the order written
+        int[] nextSequence = new int[WRITERS];
+        int received = 0;
+        while (received < WRITERS * COUNT)
+        {
+            TestObject obj = (TestObject)queue.poll();
+            if (obj == null)
+                continue;
+            assertEquals(nextSequence[obj._producer], obj._sequence);
+            nextSequence[obj._producer]++;
+            received++;
+        }
+
+        for (Thread writer : writers)
+            writer.join();
+        assertNull(queue.poll());
+        assertEquals(0, queue.size());
+    }
+}
@@ -0,0 +1,209 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.common;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class VaTimerWheelJunit
+{
+    static class TestTimer
+    {
+        final int _id;
+        long _deadline;
+        TestTimer _next, _prev;
+        int _bucket = VaTimerWheel.NOT_SCHEDULED;
+
+        TestTimer(int id, long deadline)
+        {
+            _id = id;
+            _deadline = deadline;
+        }
+    }
+
+    static class TestTimerLink implements VaTimerWheel.TimerLink<TestTimer>
+    {
+        public TestTimer getPrev(TestTimer thisPrev) { return thisPrev._prev; }
+        public void setPrev(TestTimer thisPrev, TestTimer thatPrev) { thisPrev._prev = thatPrev; }
+        public TestTimer getNext(TestTimer thisNext) { return thisNext._next; }
+        public void setNext(TestTimer thisNext, TestTimer thatNext) { thisNext._next = thatNext; }
+        public long deadline(TestTimer timer) { return timer._deadline; }
+        public int bucket(TestTimer timer) { return timer._bucket; }
+        public void bucket(TestTimer timer, int bucket) { timer._bucket = bucket; }
+    }
+
+    static final long TICK = 1000;
+
+    private static List<Integer> expire(VaTimerWheel<TestTimer> wheel, long now)
+    {
+        wheel.expire(now);
+        List<Integer> ids = new ArrayList<Integer>();
+        TestTimer timer;
+        while ((timer = wheel.pollExpired()) != null)
+        {
+            assertTrue(timer._deadline <= now);
+            assertFalse(wheel.isScheduled(timer));
+            ids.add(timer._id);
+        }
+        return ids;
+    }
+
+    @Test
+    public void scheduleExpireCancelTest()
+    {
+        VaTimerWheel<TestTimer> wheel = new VaTimerWheel<TestTimer>(new TestTimerLink(), TICK, 8);
+        long start = System.nanoTime();
+
+        TestTimer timer1 = new TestTimer(1, start + 5 * TICK);
+        TestTimer timer2 = new TestTimer(2, start + 2 * TICK);
+        TestTimer timer3 = new TestTimer(3, start + 3 * TICK);
+        /* More than one rotation away, in the same bucket as timer3. */
+        TestTimer timer4 = new TestTimer(4, start + 11 * TICK);
+        wheel.schedule(timer1);
+        wheel.schedule(timer2);
+        wheel.schedule(timer3);
+        wheel.schedule(timer4);
+        assertEquals(4, wheel.count());
+        assertEquals(timer2._deadline, wheel.nextDeadline());
+
+        assertTrue(expire(wheel, start + TICK).isEmpty());
+        assertEquals(Integer.valueOf(2), expire(wheel, timer2._deadline).get(0));
+
+        assertTrue(wheel.cancel(timer3));
+        assertFalse(wheel.cancel(timer3));
+        assertEquals(2, wheel.count());
+
+        assertTrue(expire(wheel, start + 9 * TICK).contains(1));
+        assertEquals(timer4._deadline, wheel.nextDeadline());
+        assertTrue(expire(wheel, timer4._deadline - 1).isEmpty());
+        assertEquals(Integer.valueOf(4), expire(wheel, timer4._deadline).get(0));
+
+        assertEquals(0, wheel.count());
+        assertEquals(Long.MAX_VALUE, wheel.nextDeadline());
+    }
+
+    @Test
+    public void pastDeadlineAndLongGapTest()
+    {
+        VaTimerWheel<TestTimer> wheel = new VaTimerWheel<TestTimer>(new TestTimerLink(), TICK, 8);
+        long start = System.nanoTime();
+
+        /* A deadline that already passed expires on the next call. */
+        TestTimer timer1 = new TestTimer(1, start - 100 * TICK);
+        wheel.schedule(timer1);
+        assertEquals(Integer.valueOf(1), expire(wheel, start).get(0));
+
+        /* All buckets are visited when more than a rotation passed. */
+        List<TestTimer> timers = new ArrayList<TestTimer>();
+        for (int i = 0; i < 20; i++)
+        {
+            TestTimer timer = new TestTimer(i, start + i * TICK);
+            timers.add(timer);
+            wheel.schedule(timer);
+        }
+        assertEquals(20, expire(wheel, start + 100 * TICK).size());
+        assertEquals(0, wheel.count());
+    }
+
+    @Test
+    public void nextDeadlineAfterExpireTest()
+    {
+        VaTimerWheel<TestTimer> wheel = new VaTimerWheel<TestTimer>(new TestTimerLink(), TICK, 8);
+        long start = System.nanoTime();
+
+        /* The earliest deadline is found again after timers expire, also when a timer more than a
+         * rotation away is in a bucket before the earliest one. */
+        TestTimer timer1 = new TestTimer(1, start + TICK);
+        TestTimer timer2 = new TestTimer(2, start + 6 * TICK);
+        TestTimer timer3 = new TestTimer(3, start + 18 * TICK);
+        wheel.schedule(timer3);
+        wheel.schedule(timer2);
+        wheel.schedule(timer1);
+        assertEquals(timer1._deadline, wheel.nextDeadline());
+
+        assertEquals(Integer.valueOf(1), expire(wheel, timer1._deadline).get(0));
+        assertEquals(timer2._deadline, wheel.nextDeadline());
+
+        assertEquals(Integer.valueOf(2), expire(wheel, timer2._deadline).get(0));
+        assertEquals(timer3._deadline, wheel.nextDeadline());
+    }
+
+    @Test
+    public void deadlineChangedInPlaceTest()
+    {
+        VaTimerWheel<TestTimer> wheel = new VaTimerWheel<TestTimer>(new TestTimerLink(), TICK, 8);
+        long start = System.nanoTime();
+
+        /* An expired timer that is scheduled again with a later deadline set in place is moved. */
+        TestTimer timer = new TestTimer(1, start);
+        wheel.schedule(timer);
+        assertEquals(1, expire(wheel, start).size());
+        wheel.schedule(timer);
+        timer._deadline = start + 3 * TICK;
+        assertTrue(expire(wheel, start + TICK).isEmpty());
+        assertTrue(expire(wheel, start + 2 * TICK).isEmpty());
+        assertEquals(1, expire(wheel, start + 3 * TICK).size());
+
+        /* A canceled expired timer is not polled. */
+        timer._deadline = start + 4 * TICK;
+        wheel.schedule(timer);
+        wheel.expire(start + 4 * TICK);
+        assertTrue(wheel.cancel(timer));
+        assertNull(wheel.pollExpired());
+    }
+
+    @Test
+    public void randomTest()
+    {
+        VaTimerWheel<TestTimer> wheel = new VaTimerWheel<TestTimer>(new TestTimerLink(), TICK, 16);
+        Random random = new Random(1);
+        long now = System.nanoTime();
+        List<TestTimer> pending = new ArrayList<TestTimer>();
+
+        for (int i = 0; i < 10000; i++)
+        {
+            int action = random.nextInt(4);
+            if (action == 0 || pending.isEmpty())
+            {
+                TestTimer timer = new TestTimer(i, now + random.nextInt(100) * TICK / 3);
+                wheel.schedule(timer);
+                pending.add(timer);
+            }
+            else if (action == 1)
+            {
+                TestTimer timer = pending.remove(random.nextInt(pending.size()));
+                assertTrue(wheel.cancel(timer));
+            }
+            else
+            {
+                now += random.nextInt(10) * TICK / 2;
+                List<Integer> expired = expire(wheel, now);
+                List<Integer> expected = new ArrayList<Integer>();
+                for (int j = pending.size() - 1; j >= 0; j--)
+                {
+                    if (pending.get(j)._deadline <= now)
+                        expected.add(pending.remove(j)._id);
+                }
+                assertEquals(expected.size(), expired.size());
+                assertTrue(expired.containsAll(expected));
+            }
+            assertEquals(pending.size(), wheel.count());
+
+            long earliest = Long.MAX_VALUE;
+            for (TestTimer timer : pending)
+                earliest = Math.min(earliest, timer._deadline);
+            assertTrue(wheel.nextDeadline() <= earliest);
+        }
+    }
+}
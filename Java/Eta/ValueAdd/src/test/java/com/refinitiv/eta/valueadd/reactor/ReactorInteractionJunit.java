@@ -8,6 +8,9 @@
 
 package com.refinitiv.eta.valueadd.reactor;
 
+import java.nio.channels.SelectionKey;
+import java.util.HashSet;
+
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -22,7 +25,9 @@ import com.refinitiv.eta.codec.MsgClasses;
 import com.refinitiv.eta.codec.RefreshMsg;
 import com.refinitiv.eta.codec.RequestMsg;
 import com.refinitiv.eta.codec.StreamStates;
+import com.refinitiv.eta.codec.UpdateMsg;
 import com.refinitiv.eta.rdm.DomainTypes;
+import com.refinitiv.eta.transport.TransportReturnCodes;
 import org.junit.rules.TestName;
 
 import static org.junit.Assert.*;
@@ -535,4 +540,248 @@ public class ReactorInteractionJunit
         assertTrue(userNIProviderRole.defaultMsgCallback() == reactorChnlNIProviderRole.defaultMsgCallback());
         assertTrue(userNIProviderRole.loginMsgCallback() == reactorChnlNIProviderRole.loginMsgCallback());
    }
+
+    @Test
+    public void LatencyStatisticsTest()
+    {
+        /* Verify that latency histograms are captured when the LATENCY statistics flag is set. */
+
+        ReactorOptions reactorOptions = ReactorFactory.createReactorOptions();
+        reactorOptions.statistics(ReactorOptions.StatisticFlags.READ | ReactorOptions.StatisticFlags.LATENCY);
+
+        /* Create reactors. */
+        TestReactor consumerReactor = new TestReactor(reactorOptions);
+        TestReactor providerReactor = new TestReactor();
+
+        /* Create consumer. */
+        Consumer consumer = new Consumer(consumerReactor);
+        ConsumerRole consumerRole = (ConsumerRole)consumer.reactorRole();
+        consumerRole.initDefaultRDMLoginRequest();
+        consumerRole.initDefaultRDMDirectoryRequest();
+        consumerRole.channelEventCallback(consumer);
+        consumerRole.loginMsgCallback(consumer);
+        consumerRole.directoryMsgCallback(consumer);
+        consumerRole.dictionaryMsgCallback(consumer);
+        consumerRole.defaultMsgCallback(consumer);
+
+        /* Create provider. */
+        Provider provider = new Provider(providerReactor);
+        ProviderRole providerRole = (ProviderRole)provider.reactorRole();
+        providerRole.channelEventCallback(provider);
+        providerRole.loginMsgCallback(provider);
+        providerRole.directoryMsgCallback(provider);
+        providerRole.dictionaryMsgCallback(provider);
+        providerRole.defaultMsgCallback(provider);
+
+        /* Connect the consumer and provider. Setup login & directory streams automatically. */
+        ConsumerProviderSessionOptions opts = new ConsumerProviderSessionOptions();
+        opts.setupDefaultLoginStream(true);
+        opts.setupDefaultDirectoryStream(true);
+        provider.bind(opts);
+        TestReactor.openSession(consumer, provider, opts);
+
+        /* The login and directory refreshes were read and passed to the consumer callbacks. */
+        ReactorChannelStats stats = ReactorFactory.createReactorChannelStats();
+        assertNull(stats.readToCallbackLatency());
+        assertNull(stats.flushToWriteLatency());
+        consumer.reactorChannel().getReactorChannelStats(stats);
+        assertTrue(stats.bytesRead() > 0);
+        assertTrue(stats.readToCallbackLatency().totalCount() >= 2);
+        assertTrue(stats.callbackLatency().totalCount() >= 2);
+        assertTrue(stats.callbackLatency().valueAtPercentile(100.0) <= stats.callbackLatency().max());
+
+        /* The channel histograms are reset once read. */
+        ReactorChannelStats nextStats = ReactorFactory.createReactorChannelStats();
+        consumer.reactorChannel().getReactorChannelStats(nextStats);
+        assertEquals(0, nextStats.readToCallbackLatency().totalCount());
+        assertEquals(0, nextStats.callbackLatency().totalCount());
+
+        /* The reactor aggregates the latencies of its channels. */
+        ReactorChannelStats reactorStats = ReactorFactory.createReactorChannelStats();
+        consumerReactor._reactor.getReactorLatencyStats(reactorStats);
+        assertEquals(stats.readToCallbackLatency().totalCount(), reactorStats.readToCallbackLatency().totalCount());
+        assertEquals(stats.callbackLatency().totalCount(), reactorStats.callbackLatency().totalCount());
+        assertEquals(0, reactorStats.bytesRead());
+
+        /* Latencies are not captured without the LATENCY flag, and no histograms are allocated for them. */
+        ReactorChannelStats providerStats = ReactorFactory.createReactorChannelStats();
+        provider.reactorChannel().getReactorChannelStats(providerStats);
+        assertNull(providerStats.readToCallbackLatency());
+        assertNull(providerStats.callbackLatency());
+        assertNull(providerStats.submitToFlushLatency());
+        assertNull(providerStats.flushToWriteLatency());
+
+        /* Close session. */
+        TestReactorComponent.closeSession(consumer, provider);
+    }
+
+    /* Receives the given number of updates on the consumer, and verifies their sequence numbers. */
+    private void receiveUpdates(TestReactor consumerReactor, int count, long firstSeqNum)
+    {
+        consumerReactor.dispatch(count);
+        for (int i = 0; i < count; i++)
+        {
+            TestReactorEvent event = consumerReactor.pollEvent();
+            assertEquals(TestReactorEventTypes.MSG, event.type());
+            ReactorMsgEvent msgEvent = (ReactorMsgEvent)event.reactorEvent();
+            assertEquals(MsgClasses.UPDATE, msgEvent.msg().msgClass());
+            assertEquals(firstSeqNum + i, ((UpdateMsg)msgEvent.msg()).seqNum());
+        }
+    }
+
+    @Test
+    public void AutoPackTest()
+    {
+        /* Verify that messages submitted on a channel with auto packing are written in order,
+         * across full packed buffers, before a message that is not packed, and at the end of dispatch. */
+
+        ReactorSubmitOptions submitOptions = ReactorFactory.createReactorSubmitOptions();
+        UpdateMsg updateMsg = (UpdateMsg)CodecFactory.createMsg();
+        long seqNum = 1;
+
+        /* Create reactors. */
+        TestReactor consumerReactor = new TestReactor();
+        TestReactor providerReactor = new TestReactor();
+
+        /* Create consumer. */
+        Consumer consumer = new Consumer(consumerReactor);
+        ConsumerRole consumerRole = (ConsumerRole)consumer.reactorRole();
+        consumerRole.initDefaultRDMLoginRequest();
+        consumerRole.initDefaultRDMDirectoryRequest();
+        consumerRole.channelEventCallback(consumer);
+        consumerRole.loginMsgCallback(consumer);
+        consumerRole.directoryMsgCallback(consumer);
+        consumerRole.dictionaryMsgCallback(consumer);
+        consumerRole.defaultMsgCallback(consumer);
+
+        /* Create provider. */
+        Provider provider = new Provider(providerReactor);
+        initProviderRole(provider);
+
+        /* Connect the consumer and provider. Setup login & directory streams automatically. */
+        ConsumerProviderSessionOptions opts = new ConsumerProviderSessionOptions();
+        opts.setupDefaultLoginStream(true);
+        opts.setupDefaultDirectoryStream(true);
+        provider.bind(opts);
+        TestReactor.openSession(consumer, provider, opts);
+
+        assertEquals(ReactorReturnCodes.PARAMETER_OUT_OF_RANGE, provider.reactorChannel().ioctl(
+                ReactorChannelIOCtlCode.AUTO_PACK_SIZE, -1, _errorInfo));
+        assertEquals(ReactorReturnCodes.SUCCESS, provider.reactorChannel().ioctl(
+                ReactorChannelIOCtlCode.AUTO_PACK_SIZE, 1000, _errorInfo));
+
+        updateMsg.clear();
+        updateMsg.msgClass(MsgClasses.UPDATE);
+        updateMsg.streamId(5);
+        updateMsg.domainType(DomainTypes.MARKET_PRICE);
+        updateMsg.containerType(DataTypes.NO_DATA);
+        updateMsg.applyHasSeqNum();
+
+        /* Packed messages are not written until the provider dispatches. */
+        for (int i = 0; i < 3; i++)
+        {
+            updateMsg.seqNum(seqNum++);
+            assertEquals(ReactorReturnCodes.SUCCESS, provider.submit(updateMsg, submitOptions));
+        }
+        consumerReactor.dispatch(0, 200);
+        providerReactor.dispatch(0);
+        receiveUpdates(consumerReactor, 3, 1);
+
+        /* Messages that do not fit in a packed buffer are packed into the next one. */
+        int count = 90;
+        for (int i = 0; i < count; i++)
+        {
+            updateMsg.seqNum(seqNum++);
+            assertEquals(ReactorReturnCodes.SUCCESS, provider.submit(updateMsg, submitOptions));
+        }
+        providerReactor.dispatch(0);
+        receiveUpdates(consumerReactor, count, 4);
+
+        /* A message larger than the packed buffers is written after the pending packed messages. */
+        updateMsg.seqNum(seqNum++);
+        assertEquals(ReactorReturnCodes.SUCCESS, provider.submit(updateMsg, submitOptions));
+        updateMsg.seqNum(seqNum++);
+        updateMsg.containerType(DataTypes.OPAQUE);
+        updateMsg.encodedDataBody().data(java.nio.ByteBuffer.wrap(new byte[2000]));
+        assertEquals(ReactorReturnCodes.SUCCESS, provider.submit(updateMsg, submitOptions));
+        providerReactor.dispatch(0);
+        receiveUpdates(consumerReactor, 2, 4 + count);
+
+        /* Auto packing is disabled with a size of 0. */
+        assertEquals(ReactorReturnCodes.SUCCESS, provider.reactorChannel().ioctl(
+                ReactorChannelIOCtlCode.AUTO_PACK_SIZE, 0, _errorInfo));
+        updateMsg.clear();
+        updateMsg.msgClass(MsgClasses.UPDATE);
+        updateMsg.streamId(5);
+        updateMsg.domainType(DomainTypes.MARKET_PRICE);
+        updateMsg.containerType(DataTypes.NO_DATA);
+        updateMsg.applyHasSeqNum();
+        updateMsg.seqNum(seqNum++);
+        assertEquals(ReactorReturnCodes.SUCCESS, provider.submit(updateMsg, submitOptions));
+        providerReactor.dispatch(0);
+        receiveUpdates(consumerReactor, 1, 6 + count);
+
+        /* Close session. */
+        TestReactorComponent.closeSession(consumer, provider);
+    }
+
+    @Test
+    public void AutoPackWriteFailureTest()
+    {
+        /* Verify that a packed buffer whose write fails at the end of dispatch is reported with a channel event. */
+
+        ReactorSubmitOptions submitOptions = ReactorFactory.createReactorSubmitOptions();
+        UpdateMsg updateMsg = (UpdateMsg)CodecFactory.createMsg();
+
+        /* Create reactors. */
+        TestReactor consumerReactor = new TestReactor();
+        TestReactor providerReactor = new TestReactor();
+
+        /* Create consumer. */
+        Consumer consumer = new Consumer(consumerReactor);
+        ConsumerRole consumerRole = (ConsumerRole)consumer.reactorRole();
+        consumerRole.initDefaultRDMLoginRequest();
+        consumerRole.initDefaultRDMDirectoryRequest();
+        consumerRole.channelEventCallback(consumer);
+        consumerRole.loginMsgCallback(consumer);
+        consumerRole.directoryMsgCallback(consumer);
+        consumerRole.dictionaryMsgCallback(consumer);
+        consumerRole.defaultMsgCallback(consumer);
+
+        /* Create provider. */
+        Provider provider = new Provider(providerReactor);
+        initProviderRole(provider);
+
+        /* Connect the consumer and provider. Setup login & directory streams automatically. */
+        ConsumerProviderSessionOptions opts = new ConsumerProviderSessionOptions();
+        opts.setupDefaultLoginStream(true);
+        opts.setupDefaultDirectoryStream(true);
+        provider.bind(opts);
+        TestReactor.openSession(consumer, provider, opts);
+
+        assertEquals(ReactorReturnCodes.SUCCESS, provider.reactorChannel().ioctl(
+                ReactorChannelIOCtlCode.AUTO_PACK_SIZE, 1000, _errorInfo));
+
+        updateMsg.clear();
+        updateMsg.msgClass(MsgClasses.UPDATE);
+        updateMsg.streamId(5);
+        updateMsg.domainType(DomainTypes.MARKET_PRICE);
+        updateMsg.containerType(DataTypes.NO_DATA);
+        assertEquals(ReactorReturnCodes.SUCCESS, provider.submit(updateMsg, submitOptions));
+
+        /* The transport channel fails under the reactor before the packed buffer is written. Its selectable
+         * channel is closed, so the reactor is dispatched without a selector and without reading the channel. */
+        assertEquals(TransportReturnCodes.SUCCESS, provider.reactorChannel().channel().close(_errorInfo.error()));
+        providerReactor._reactor.dispatchAll(new HashSet<SelectionKey>(), ReactorFactory.createReactorDispatchOptions(),
+                _errorInfo);
+
+        TestReactorEvent event = providerReactor.pollEvent();
+        assertEquals(TestReactorEventTypes.CHANNEL_EVENT, event.type());
+        ReactorChannelEvent channelEvent = (ReactorChannelEvent)event.reactorEvent();
+        assertEquals(ReactorChannelEventTypes.CHANNEL_DOWN, channelEvent.eventType());
+        assertTrue(channelEvent.errorInfo().error().text().startsWith("channel write failure"));
+
+        consumer.close();
+        provider.close();
+    }
 }
@@ -0,0 +1,111 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.reactor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ReactorLatencyHistogramJunit
+{
+    @Test
+    public void emptyHistogramTest()
+    {
+        ReactorLatencyHistogram histogram = new ReactorLatencyHistogram();
+
+        assertEquals(0, histogram.totalCount());
+        assertEquals(0, histogram.min());
+        assertEquals(0, histogram.max());
+        assertEquals(0.0, histogram.mean(), 0.0);
+        assertEquals(0, histogram.valueAtPercentile(99.0));
+    }
+
+    @Test
+    public void bucketIndexTest()
+    {
+        long previousHighest = -1;
+        for (int i = 0; i < ReactorLatencyHistogram.BUCKET_COUNT; i++)
+        {
+            /* the buckets cover the trackable values without gaps */
+            long lowest = previousHighest + 1;
+            long highest = ReactorLatencyHistogram.highestEquivalentValue(i);
+            assertEquals(i, ReactorLatencyHistogram.bucketIndex(lowest));
+            assertEquals(i, ReactorLatencyHistogram.bucketIndex(highest));
+            assertTrue(highest - lowest <= lowest / ReactorLatencyHistogram.SUB_BUCKET_COUNT);
+            previousHighest = highest;
+        }
+
+        assertEquals(ReactorLatencyHistogram.HIGHEST_TRACKABLE_VALUE, previousHighest);
+    }
+
+    @Test
+    public void percentileTest()
+    {
+        ReactorLatencyHistogram histogram = new ReactorLatencyHistogram();
+
+        for (long value = 1; value <= 1000; value++)
+            histogram.record(value * 1000);
+
+        assertEquals(1000, histogram.totalCount());
+        assertEquals(1000, histogram.min());
+        assertEquals(1000000, histogram.max());
+        assertEquals(500500.0, histogram.mean(), 0.001);
+        long p0 = histogram.valueAtPercentile(0.0);
+        assertTrue(p0 >= 1000 && p0 <= 1000 * 1.04);
+        assertEquals(1000000, histogram.valueAtPercentile(100.0));
+
+        long median = histogram.valueAtPercentile(50.0);
+        assertTrue(median >= 500000 && median <= 500000 * 1.04);
+        long p99 = histogram.valueAtPercentile(99.0);
+        assertTrue(p99 >= 990000 && p99 <= 1000000);
+    }
+
+    @Test
+    public void clampTest()
+    {
+        ReactorLatencyHistogram histogram = new ReactorLatencyHistogram();
+
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(2, histogram.totalCount());
+        assertEquals(0, histogram.min());
+        assertEquals(ReactorLatencyHistogram.HIGHEST_TRACKABLE_VALUE, histogram.max());
+        assertEquals(0, histogram.valueAtPercentile(50.0));
+        assertEquals(ReactorLatencyHistogram.HIGHEST_TRACKABLE_VALUE, histogram.valueAtPercentile(100.0));
+    }
+
+    @Test
+    public void addAndClearTest()
+    {
+        ReactorLatencyHistogram first = new ReactorLatencyHistogram();
+        ReactorLatencyHistogram second = new ReactorLatencyHistogram();
+
+        first.record(10);
+        first.record(20);
+        second.record(5000);
+
+        first.add(second);
+        assertEquals(3, first.totalCount());
+        assertEquals(10, first.min());
+        assertEquals(5000, first.max());
+        assertEquals(20, first.valueAtPercentile(50.0));
+        assertEquals(1, second.totalCount());
+
+        first.clear();
+        assertEquals(0, first.totalCount());
+        assertEquals(0, first.max());
+        assertEquals(0, first.valueAtPercentile(50.0));
+
+        first.record(7);
+        assertEquals(7, first.min());
+        assertEquals(7, first.max());
+    }
+}
@@ -82,6 +82,8 @@ public class ReactorWatchlistItemHandlerJunit {
         when(watchlist.reactorChannel()).thenReturn(reactorChannel);
         when(watchlist.directoryHandler()).thenReturn(directoryHandler);
         when(watchlist.watchlistOptions()).thenReturn(consumerWatchlistOptions);
+        when(watchlist.streamIdtoWlRequestTable()).thenReturn(new WlIntObjectMap<WlRequest>());
+        when(watchlist.streamIdtoWlStreamTable()).thenReturn(new WlIntObjectMap<WlStream>());
 
         when(directoryHandler.service(1)).thenReturn(wlService);
 
@@ -1730,7 +1730,7 @@ public class ReactorWatchlistJunit
             ReactorJunit.dispatchReactor(selector, reactor);
             
             // make sure _postTimeoutInfoList and _postIdToMsgTable is empty
-            assertEquals(0, watchlist.loginHandler().wlStream()._postTimeoutInfoList.size());
+            assertEquals(0, watchlist.loginHandler().wlStream()._postTimeoutInfoList.count());
             assertEquals(0, watchlist.loginHandler().wlStream()._postIdToMsgTable.size()); 
 
             // reset the msgReturnCode to SUCCESS.
@@ -1951,7 +1951,7 @@ public class ReactorWatchlistJunit
             ReactorJunit.dispatchReactor(selector, reactor, 6000);
             
             // make sure _postTimeoutInfoList is empty
-            assertEquals(0, watchlist.loginHandler().wlStream()._postTimeoutInfoList.size());
+            assertEquals(0, watchlist.loginHandler().wlStream()._postTimeoutInfoList.count());
             // make sure _postIdToMsgTable is empty
             assertEquals(0, watchlist.loginHandler().wlStream()._postIdToMsgTable.size());
             
@@ -2003,7 +2003,7 @@ public class ReactorWatchlistJunit
             ReactorJunit.dispatchReactor(selector, reactor);
 
             // make sure _postTimeoutInfoList is empty
-            assertEquals(0, watchlist.loginHandler().wlStream()._postTimeoutInfoList.size());
+            assertEquals(0, watchlist.loginHandler().wlStream()._postTimeoutInfoList.count());
 
             // reset the msgReturnCode to SUCCESS.
             callbackHandler.msgReturnCode(ReactorCallbackReturnCodes.SUCCESS);
@@ -5435,7 +5435,7 @@ public class ReactorWatchlistJunit
             ReactorJunit.dispatchReactor(selector, reactor);
             
             // make sure _postTimeoutInfoList and _postIdToMsgTable is empty
-            assertEquals(0, watchlist.loginHandler().wlStream()._postTimeoutInfoList.size());
+            assertEquals(0, watchlist.loginHandler().wlStream()._postTimeoutInfoList.count());
             assertEquals(0, watchlist.loginHandler().wlStream()._postIdToMsgTable.size());
             
             // now set maxOutstandingPosts to 0, post submit should fail
@@ -5677,7 +5677,7 @@ public class ReactorWatchlistJunit
             ReactorJunit.dispatchReactor(selector, reactor, 16000);
             
             // make sure _postTimeoutInfoList is empty
-            assertEquals(0, watchlist.loginHandler().wlStream()._postTimeoutInfoList.size());
+            assertEquals(0, watchlist.loginHandler().wlStream()._postTimeoutInfoList.count());
             // make sure _postIdToMsgTable is empty
             assertEquals(0, watchlist.loginHandler().wlStream()._postIdToMsgTable.size());
             
@@ -5742,7 +5742,7 @@ public class ReactorWatchlistJunit
             ReactorJunit.dispatchReactor(selector, reactor);
 
             // make sure _postTimeoutInfoList is empty
-            assertEquals(0, watchlist.loginHandler().wlStream()._postTimeoutInfoList.size());
+            assertEquals(0, watchlist.loginHandler().wlStream()._postTimeoutInfoList.count());
 
             // make sure ACK was received in callback
             assertEquals(6, callbackHandler.defaultMsgEventCount());
@@ -5990,7 +5990,7 @@ public class ReactorWatchlistJunit
             ReactorJunit.dispatchReactor(selector, reactor);
             
             // make sure _postTimeoutInfoList is empty
-            assertEquals(0, watchlist.loginHandler().wlStream()._postTimeoutInfoList.size());
+            assertEquals(0, watchlist.loginHandler().wlStream()._postTimeoutInfoList.count());
             // make sure _postIdToMsgTable is empty
             assertEquals(0, watchlist.loginHandler().wlStream()._postIdToMsgTable.size());
             
@@ -6042,7 +6042,7 @@ public class ReactorWatchlistJunit
             ReactorJunit.dispatchReactor(selector, reactor);
 
             // make sure _postTimeoutInfoList is empty
-            assertEquals(0, watchlist.loginHandler().wlStream()._postTimeoutInfoList.size());
+            assertEquals(0, watchlist.loginHandler().wlStream()._postTimeoutInfoList.count());
 
             // reset the msgReturnCode to SUCCESS.
             callbackHandler.msgReturnCode(ReactorCallbackReturnCodes.SUCCESS);
@@ -0,0 +1,184 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.reactor;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/** Tests the int keyed hash table used by the watchlist stream and service id tables. */
+public class WlIntObjectMapJunit
+{
+	@Test
+	public void putGetRemoveTest()
+	{
+		WlIntObjectMap<String> map = new WlIntObjectMap<String>();
+
+		assertTrue(map.isEmpty());
+		assertNull(map.get(5));
+		assertNull(map.remove(5));
+
+		assertNull(map.put(5, "five"));
+		assertNull(map.put(-5, "minus five"));
+		assertNull(map.put(0, "zero"));
+		assertEquals(3, map.size());
+		assertEquals("five", map.get(5));
+		assertEquals("minus five", map.get(-5));
+		assertEquals("zero", map.get(0));
+		assertTrue(map.containsKey(0));
+		assertFalse(map.containsKey(6));
+
+		/* Replacing a value keeps the size. */
+		assertEquals("five", map.put(5, "FIVE"));
+		assertEquals(3, map.size());
+		assertEquals("FIVE", map.get(5));
+
+		assertEquals("minus five", map.remove(-5));
+		assertFalse(map.containsKey(-5));
+		assertEquals(2, map.size());
+
+		map.clear();
+		assertTrue(map.isEmpty());
+		assertNull(map.get(5));
+		assertNull(map.get(0));
+	}
+
+	@Test
+	public void insertionOrderTest()
+	{
+		WlIntObjectMap<Integer> map = new WlIntObjectMap<Integer>();
+
+		for (int i = 100; i > 0; --i)
+			map.put(i * 7, i);
+
+		/* Remove every third entry, then re-add one of them at the end. */
+		for (int i = 100; i > 0; i -= 3)
+			assertEquals(Integer.valueOf(i), map.remove(i * 7));
+		map.put(100 * 7, 100);
+
+		int expected = 99;
+		Iterator<Integer> iter = map.iterator();
+		while (expected > 0)
+		{
+			if ((100 - expected) % 3 != 0)
+			{
+				assertTrue(iter.hasNext());
+				assertEquals(Integer.valueOf(expected), iter.next());
+			}
+			--expected;
+		}
+		assertTrue(iter.hasNext());
+		assertEquals(Integer.valueOf(100), iter.next());
+		assertFalse(iter.hasNext());
+
+		/* removeFirst follows the same order. */
+		assertEquals(Integer.valueOf(99), map.removeFirst());
+		assertEquals(Integer.valueOf(98), map.removeFirst());
+	}
+
+	@Test
+	public void iteratorRemoveTest()
+	{
+		WlIntObjectMap<Integer> map = new WlIntObjectMap<Integer>();
+
+		for (int i = 0; i < 10; ++i)
+			map.put(i, i);
+
+		WlIntObjectMap<Integer>.EntryIterator iter = map.iterator();
+		while (iter.hasNext())
+		{
+			Integer value = iter.next();
+			assertEquals(value.intValue(), iter.key());
+			if (value % 2 == 0)
+				iter.remove();
+		}
+
+		assertEquals(5, map.size());
+		int count = 0;
+		for (Integer value : map.values())
+		{
+			assertTrue(value % 2 == 1);
+			++count;
+		}
+		assertEquals(5, count);
+	}
+
+	@Test
+	public void concurrentModificationTest()
+	{
+		WlIntObjectMap<Integer> map = new WlIntObjectMap<Integer>();
+		map.put(1, 1);
+		map.put(2, 2);
+
+		Iterator<Integer> iter = map.iterator();
+		iter.next();
+		map.put(3, 3);
+		try
+		{
+			iter.next();
+			fail("Expected ConcurrentModificationException");
+		}
+		catch (ConcurrentModificationException e)
+		{
+		}
+	}
+
+	@Test
+	public void putAllTest()
+	{
+		WlIntObjectMap<String> from = new WlIntObjectMap<String>();
+		WlIntObjectMap<String> to = new WlIntObjectMap<String>();
+		from.put(1, "one");
+		from.put(2, "two");
+		to.put(2, "TWO");
+		to.put(3, "three");
+
+		to.putAll(from);
+		assertEquals(3, to.size());
+		assertEquals("one", to.get(1));
+		assertEquals("two", to.get(2));
+		assertEquals("three", to.get(3));
+	}
+
+	@Test
+	public void randomOperationsTest()
+	{
+		/* Compare against HashMap with many inserts and removes, so the table
+		 * resizes and reuses deleted slots. */
+		WlIntObjectMap<Integer> map = new WlIntObjectMap<Integer>(4);
+		HashMap<Integer, Integer> reference = new HashMap<Integer, Integer>();
+		Random random = new Random(1234);
+
+		for (int i = 0; i < 200000; ++i)
+		{
+			int key = random.nextInt(5000) - 2500;
+			if (random.nextInt(3) == 0)
+				assertEquals(reference.remove(key), map.remove(key));
+			else
+				assertEquals(reference.put(key, i), map.put(key, i));
+			assertEquals(reference.size(), map.size());
+		}
+
+		for (Map.Entry<Integer, Integer> entry : reference.entrySet())
+			assertEquals(entry.getValue(), map.get(entry.getKey()));
+
+		int count = 0;
+		for (Integer value : map.values())
+		{
+			assertNotNull(value);
+			++count;
+		}
+		assertEquals(reference.size(), count);
+	}
+}
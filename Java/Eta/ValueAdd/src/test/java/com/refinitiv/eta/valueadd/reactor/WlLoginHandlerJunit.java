@@ -44,6 +44,8 @@ public class WlLoginHandlerJunit {
                 .thenReturn(ReactorCallbackReturnCodes.SUCCESS);
 
         when(watchlist.reactor()).thenReturn(reactor);
+        when(watchlist.streamIdtoWlRequestTable()).thenReturn(new WlIntObjectMap<WlRequest>());
+        when(watchlist.streamIdtoWlStreamTable()).thenReturn(new WlIntObjectMap<WlStream>());
     }
 
     @Test
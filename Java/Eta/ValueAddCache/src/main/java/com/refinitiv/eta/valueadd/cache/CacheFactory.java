@@ -42,6 +42,9 @@ public class CacheFactory
 			return null;
 		}
 
+		if ( configOptions.javaCache() )
+			return JavaPayloadCacheImpl.create(configOptions, error);
+
 		return PayloadCacheImpl.create(configOptions, error);
 	}
 	
@@ -67,6 +70,9 @@ public class CacheFactory
 			return null;
 		}
 
+		if ( cacheInstance instanceof JavaPayloadCacheImpl )
+			return JavaPayloadEntryImpl.create(cacheInstance, error);
+
 		return PayloadEntryImpl.create(cacheInstance, error);
 	}
 	
@@ -0,0 +1,219 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.cache;
+
+import java.util.Arrays;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataDictionary;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.FieldEntry;
+import com.refinitiv.eta.codec.FieldList;
+
+/* FieldList stored by a Java payload entry.
+ *
+ * Fields are kept in the order they were first applied. The encoded value of each field is kept
+ * in the cache's PayloadSlab and is overwritten in place when an update fits in the same chunk.
+ * A small open addressing table maps a field id to its position. */
+class CachedFieldList
+{
+    static final int INITIAL_CAPACITY = 16;
+
+    boolean _hasInfo;
+    int _dictionaryId;
+    int _fieldListNum;
+
+    int _count;
+    int[] _fids = new int[INITIAL_CAPACITY];
+    long[] _handles = new long[INITIAL_CAPACITY];
+    int[] _lengths = new int[INITIAL_CAPACITY];
+    int[] _index = new int[INITIAL_CAPACITY * 2]; // position + 1 of each fid, 0 for an empty slot
+
+    int count()
+    {
+        return _count;
+    }
+
+    static int hash(int fid)
+    {
+        int h = fid * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    int positionOf(int fid)
+    {
+        int mask = _index.length - 1;
+        int slot = hash(fid) & mask;
+        int position;
+        while ((position = _index[slot]) != 0)
+        {
+            if (_fids[position - 1] == fid)
+                return position - 1;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void addToIndex(int position)
+    {
+        int mask = _index.length - 1;
+        int slot = hash(_fids[position]) & mask;
+        while (_index[slot] != 0)
+            slot = (slot + 1) & mask;
+        _index[slot] = position + 1;
+    }
+
+    private int add(int fid)
+    {
+        if (_count == _fids.length)
+        {
+            int capacity = _count * 2;
+            _fids = Arrays.copyOf(_fids, capacity);
+            _handles = Arrays.copyOf(_handles, capacity);
+            _lengths = Arrays.copyOf(_lengths, capacity);
+            _index = new int[capacity * 2];
+            for (int i = 0; i < _count; ++i)
+                addToIndex(i);
+        }
+
+        int position = _count++;
+        _fids[position] = fid;
+        _handles[position] = PayloadSlab.NONE;
+        _lengths[position] = 0;
+        addToIndex(position);
+        return position;
+    }
+
+    /* Applies the FieldList at the position of dIter. Fields that are not yet stored are added only when
+     * addFields is set; otherwise they are skipped and reported as a warning in the cache error.
+     * Fields that are not in the dictionary are skipped and reported the same way. */
+    int apply(DecodeIterator dIter, boolean addFields, JavaPayloadCacheImpl cache, CacheErrorImpl error)
+    {
+        FieldList fieldList = cache._decodeFieldList;
+        FieldEntry fieldEntry = cache._decodeFieldEntry;
+        DataDictionary dictionary = cache._dictionary;
+        PayloadSlab slab = cache._slab;
+        int ret;
+
+        fieldList.clear();
+        if ((ret = fieldList.decode(dIter, null)) < CodecReturnCodes.SUCCESS)
+            return JavaPayloadCacheImpl.populateErrorInfo(error, ret, "CachedFieldList.apply error: unable to decode FieldList.");
+
+        if (fieldList.checkHasSetData())
+            return JavaPayloadCacheImpl.populateErrorInfo(error, CodecReturnCodes.UNSUPPORTED_DATA_TYPE,
+                                                      "CachedFieldList.apply error: FieldList set data is not supported by the Java payload cache.");
+
+        if (fieldList.checkHasInfo())
+        {
+            _hasInfo = true;
+            _dictionaryId = fieldList.dictionaryId();
+            _fieldListNum = fieldList.fieldListNum();
+        }
+
+        fieldEntry.clear();
+        while ((ret = fieldEntry.decode(dIter)) != CodecReturnCodes.END_OF_CONTAINER)
+        {
+            if (ret < CodecReturnCodes.SUCCESS)
+                return JavaPayloadCacheImpl.populateErrorInfo(error, ret, "CachedFieldList.apply error: unable to decode FieldEntry.");
+
+            int fid = fieldEntry.fieldId();
+            int position = positionOf(fid);
+            if (position == -1)
+            {
+                if (!addFields)
+                {
+                    warning(error, "field " + fid + " is not in the cached image and was ignored.");
+                    fieldEntry.clear();
+                    continue;
+                }
+                if (dictionary != null && dictionary.entry(fid) == null)
+                {
+                    warning(error, "field " + fid + " is not in the field dictionary and was ignored.");
+                    fieldEntry.clear();
+                    continue;
+                }
+                position = add(fid);
+            }
+
+            Buffer data = fieldEntry.encodedData();
+            _handles[position] = slab.store(_handles[position], data);
+            _lengths[position] = data.length();
+            fieldEntry.clear();
+        }
+
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    private static void warning(CacheErrorImpl error, String text)
+    {
+        /* errorId stays SUCCESS for warnings. Only the first warning of an apply is kept. */
+        if (error.text() == null)
+            error.text("CachedFieldList.apply warning: " + text);
+    }
+
+    /* Encodes the stored FieldList at the position of eIter. */
+    int encode(EncodeIterator eIter, JavaPayloadCacheImpl cache)
+    {
+        FieldList fieldList = cache._encodeFieldList;
+        FieldEntry fieldEntry = cache._encodeFieldEntry;
+        Buffer data = cache._encodeData;
+        PayloadSlab slab = cache._slab;
+        int ret;
+
+        fieldList.clear();
+        fieldList.applyHasStandardData();
+        if (_hasInfo)
+        {
+            fieldList.applyHasInfo();
+            fieldList.dictionaryId(_dictionaryId);
+            fieldList.fieldListNum(_fieldListNum);
+        }
+
+        if ((ret = fieldList.encodeInit(eIter, null, 0)) < CodecReturnCodes.SUCCESS)
+            return ret;
+
+        for (int i = 0; i < _count; ++i)
+        {
+            fieldEntry.clear();
+            fieldEntry.fieldId(_fids[i]);
+            if (_handles[i] == PayloadSlab.NONE)
+            {
+                ret = fieldEntry.encodeBlank(eIter);
+            }
+            else
+            {
+                slab.wrap(_handles[i], _lengths[i], data);
+                fieldEntry.encodedData(data);
+                ret = fieldEntry.encode(eIter);
+            }
+
+            if (ret < CodecReturnCodes.SUCCESS)
+            {
+                fieldList.encodeComplete(eIter, false);
+                return ret;
+            }
+        }
+
+        return fieldList.encodeComplete(eIter, true);
+    }
+
+    void clear(PayloadSlab slab)
+    {
+        for (int i = 0; i < _count; ++i)
+            slab.free(_handles[i]);
+        _count = 0;
+        Arrays.fill(_index, 0);
+        _hasInfo = false;
+        _dictionaryId = 0;
+        _fieldListNum = 0;
+    }
+}
@@ -0,0 +1,337 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.cache;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.Map;
+import com.refinitiv.eta.codec.MapEntry;
+import com.refinitiv.eta.codec.MapEntryActions;
+
+/* Map stored by a Java payload entry.
+ *
+ * Entries are kept in a linked list in the order they were added and indexed by their encoded key.
+ * Entries with a FieldList payload are stored as a CachedFieldList, so an UPDATE action is merged into
+ * the stored fields; other payloads are stored whole in the cache's PayloadSlab and replaced.
+ * Removed entries keep their next link, so a cursor positioned on a removed entry can continue. */
+class CachedMap
+{
+    static class Node
+    {
+        Buffer _key; // heap copy of the encoded key
+        Buffer _permData;
+        CachedFieldList _fieldList;
+        long _dataHandle = PayloadSlab.NONE;
+        int _dataLength;
+        Node _prev;
+        Node _next;
+        boolean _removed;
+    }
+
+    int _keyPrimitiveType;
+    int _containerType;
+    boolean _hasKeyFieldId;
+    int _keyFieldId;
+    long _summaryHandle = PayloadSlab.NONE;
+    int _summaryLength;
+    boolean _hasSummaryData;
+
+    final HashMap<Buffer, Node> _nodes = new HashMap<Buffer, Node>();
+    Node _head;
+    Node _tail;
+    int _permDataCount; // entries with perm data
+
+    int count()
+    {
+        return _nodes.size();
+    }
+
+    Node first()
+    {
+        return _head;
+    }
+
+    /* Returns the first entry that is not removed, starting at node. */
+    static Node live(Node node)
+    {
+        while (node != null && node._removed)
+            node = node._next;
+        return node;
+    }
+
+    /* Applies the Map at the position of dIter. */
+    int apply(DecodeIterator dIter, JavaPayloadCacheImpl cache, CacheErrorImpl error)
+    {
+        Map map = cache._decodeMap;
+        MapEntry mapEntry = cache._decodeMapEntry;
+        PayloadSlab slab = cache._slab;
+        int ret;
+
+        map.clear();
+        if ((ret = map.decode(dIter)) < CodecReturnCodes.SUCCESS)
+            return JavaPayloadCacheImpl.populateErrorInfo(error, ret, "CachedMap.apply error: unable to decode Map.");
+
+        if (map.checkHasSetDefs())
+            return JavaPayloadCacheImpl.populateErrorInfo(error, CodecReturnCodes.UNSUPPORTED_DATA_TYPE,
+                                                      "CachedMap.apply error: Map set definitions are not supported by the Java payload cache.");
+
+        if (_nodes.isEmpty() && !_hasSummaryData)
+        {
+            _keyPrimitiveType = map.keyPrimitiveType();
+            _containerType = map.containerType();
+        }
+        else if (_keyPrimitiveType != map.keyPrimitiveType() || _containerType != map.containerType())
+        {
+            return JavaPayloadCacheImpl.populateErrorInfo(error, CodecReturnCodes.INVALID_DATA,
+                                                      "CachedMap.apply error: Map key or container type does not match the cached Map.");
+        }
+
+        if (map.checkHasKeyFieldId())
+        {
+            _hasKeyFieldId = true;
+            _keyFieldId = map.keyFieldId();
+        }
+
+        if (map.checkHasSummaryData())
+        {
+            _hasSummaryData = true;
+            _summaryHandle = slab.store(_summaryHandle, map.encodedSummaryData());
+            _summaryLength = map.encodedSummaryData().length();
+        }
+
+        mapEntry.clear();
+        while ((ret = mapEntry.decode(dIter, null)) != CodecReturnCodes.END_OF_CONTAINER)
+        {
+            if (ret < CodecReturnCodes.SUCCESS)
+                return JavaPayloadCacheImpl.populateErrorInfo(error, ret, "CachedMap.apply error: unable to decode MapEntry.");
+
+            Node node = _nodes.get(mapEntry.encodedKey());
+            switch (mapEntry.action())
+            {
+                case MapEntryActions.DELETE:
+                    if (node != null)
+                        remove(node, slab);
+                    break;
+                case MapEntryActions.ADD:
+                case MapEntryActions.UPDATE:
+                {
+                    boolean merge = node != null && mapEntry.action() == MapEntryActions.UPDATE;
+                    if (node == null)
+                        node = add(mapEntry.encodedKey());
+                    else if (!merge)
+                    {
+                        clearPayload(node, slab);
+                        if (node._permData != null && !mapEntry.checkHasPermData())
+                        {
+                            node._permData = null;
+                            _permDataCount--;
+                        }
+                    }
+
+                    if (mapEntry.checkHasPermData())
+                    {
+                        if (node._permData == null)
+                            _permDataCount++;
+                        node._permData = copy(mapEntry.permData());
+                    }
+
+                    if (_containerType == DataTypes.FIELD_LIST)
+                    {
+                        if (node._fieldList == null)
+                            node._fieldList = new CachedFieldList();
+                        if ((ret = node._fieldList.apply(dIter, !merge || node._fieldList.count() == 0, cache, error)) < CodecReturnCodes.SUCCESS)
+                            return ret;
+                    }
+                    else if (_containerType != DataTypes.NO_DATA)
+                    {
+                        node._dataHandle = slab.store(node._dataHandle, mapEntry.encodedData());
+                        node._dataLength = mapEntry.encodedData().length();
+                    }
+                    break;
+                }
+                default:
+                    return JavaPayloadCacheImpl.populateErrorInfo(error, CodecReturnCodes.INVALID_DATA,
+                                                              "CachedMap.apply error: unknown MapEntry action " + mapEntry.action() + ".");
+            }
+            mapEntry.clear();
+        }
+
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    /* Encodes the stored Map at the position of eIter, starting at node. With a cursor, the entries that
+     * fit are encoded and the cursor is moved to the first entry that did not fit; without a cursor all
+     * entries must fit. Summary data and the total count hint are encoded only in the first part. */
+    int encode(EncodeIterator eIter, JavaPayloadCacheImpl cache, Node start, boolean firstPart, PayloadCursorImpl cursor)
+    {
+        Map map = cache._encodeMap;
+        MapEntry mapEntry = cache._encodeMapEntry;
+        Buffer data = cache._encodeData;
+        PayloadSlab slab = cache._slab;
+        int ret;
+
+        map.clear();
+        map.keyPrimitiveType(_keyPrimitiveType);
+        map.containerType(_containerType);
+        if (_hasKeyFieldId)
+        {
+            map.applyHasKeyFieldId();
+            map.keyFieldId(_keyFieldId);
+        }
+        if (_permDataCount > 0)
+            map.applyHasPerEntryPermData();
+        if (firstPart)
+        {
+            map.applyHasTotalCountHint();
+            map.totalCountHint(_nodes.size());
+            if (_hasSummaryData)
+            {
+                map.applyHasSummaryData();
+                slab.wrap(_summaryHandle, _summaryLength, cache._encodeSummaryData);
+                map.encodedSummaryData(cache._encodeSummaryData);
+            }
+        }
+
+        if ((ret = map.encodeInit(eIter, 0, 0)) < CodecReturnCodes.SUCCESS)
+            return ret;
+
+        int encodedCount = 0;
+        Node node = live(start);
+        while (node != null)
+        {
+            mapEntry.clear();
+            mapEntry.action(MapEntryActions.ADD);
+            mapEntry.encodedKey(node._key);
+            if (node._permData != null)
+            {
+                mapEntry.applyHasPermData();
+                mapEntry.permData(node._permData);
+            }
+
+            if (_containerType == DataTypes.FIELD_LIST)
+            {
+                if ((ret = mapEntry.encodeInit(eIter, 0)) >= CodecReturnCodes.SUCCESS)
+                {
+                    ret = node._fieldList.encode(eIter, cache);
+                    if (ret >= CodecReturnCodes.SUCCESS)
+                        ret = mapEntry.encodeComplete(eIter, true);
+                    else
+                        mapEntry.encodeComplete(eIter, false);
+                }
+            }
+            else
+            {
+                if (_containerType != DataTypes.NO_DATA)
+                {
+                    slab.wrap(node._dataHandle, node._dataLength, data);
+                    mapEntry.encodedData(data);
+                }
+                ret = mapEntry.encode(eIter);
+            }
+
+            if (ret < CodecReturnCodes.SUCCESS)
+            {
+                if (ret == CodecReturnCodes.BUFFER_TOO_SMALL && cursor != null && encodedCount > 0)
+                    break;
+                map.encodeComplete(eIter, false);
+                return ret;
+            }
+
+            ++encodedCount;
+            node = live(node._next);
+        }
+
+        if ((ret = map.encodeComplete(eIter, true)) < CodecReturnCodes.SUCCESS)
+            return ret;
+
+        if (cursor != null)
+        {
+            cursor._mapNode = node;
+            cursor._isComplete = node == null;
+        }
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    private Node add(Buffer encodedKey)
+    {
+        Node node = new Node();
+        node._key = copy(encodedKey);
+        node._prev = _tail;
+        if (_tail == null)
+            _head = node;
+        else
+            _tail._next = node;
+        _tail = node;
+        _nodes.put(node._key, node);
+        return node;
+    }
+
+    private void remove(Node node, PayloadSlab slab)
+    {
+        clearPayload(node, slab);
+        if (node._permData != null)
+            _permDataCount--;
+        _nodes.remove(node._key);
+
+        if (node._prev == null)
+            _head = node._next;
+        else
+            node._prev._next = node._next;
+        if (node._next == null)
+            _tail = node._prev;
+        else
+            node._next._prev = node._prev;
+        node._removed = true;
+    }
+
+    private static void clearPayload(Node node, PayloadSlab slab)
+    {
+        if (node._fieldList != null)
+            node._fieldList.clear(slab);
+        slab.free(node._dataHandle);
+        node._dataHandle = PayloadSlab.NONE;
+        node._dataLength = 0;
+    }
+
+    private static Buffer copy(Buffer buffer)
+    {
+        Buffer copy = CodecFactory.createBuffer();
+        copy.data(ByteBuffer.allocate(buffer.length()));
+        buffer.copy(copy);
+        return copy;
+    }
+
+    void clear(PayloadSlab slab)
+    {
+        for (Node node = _head; node != null; node = node._next)
+        {
+            clearPayload(node, slab);
+            node._removed = true;
+        }
+        _nodes.clear();
+        _head = null;
+        _tail = null;
+        _permDataCount = 0;
+        slab.free(_summaryHandle);
+        _summaryHandle = PayloadSlab.NONE;
+        _summaryLength = 0;
+        _hasSummaryData = false;
+        _hasKeyFieldId = false;
+        _keyFieldId = 0;
+        _keyPrimitiveType = 0;
+        _containerType = 0;
+    }
+}
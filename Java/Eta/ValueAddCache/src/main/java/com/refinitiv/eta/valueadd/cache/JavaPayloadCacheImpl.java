@@ -0,0 +1,361 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataDictionary;
+import com.refinitiv.eta.codec.DictionaryEntry;
+import com.refinitiv.eta.codec.FieldEntry;
+import com.refinitiv.eta.codec.FieldList;
+import com.refinitiv.eta.codec.Map;
+import com.refinitiv.eta.codec.MapEntry;
+
+/* Payload cache implemented in Java, without the rsslVACacheJNI library.
+ *
+ * Entries store FieldList and Map payloads. Encoded field values, map summary data and non FieldList
+ * map entry payloads are kept off-heap in a PayloadSlab owned by the cache. All entries of a cache share
+ * the slab and the codec objects below, so their operations are serialized by the cache lock. */
+class JavaPayloadCacheImpl implements PayloadCache
+{
+    private static final Lock _globalLock = new ReentrantLock();
+    private static final List<JavaPayloadCacheImpl> _globalCacheList = new ArrayList<JavaPayloadCacheImpl>();
+    private static final HashMap<String, DataDictionary> _globalDictionaries = new HashMap<String, DataDictionary>();
+
+    final Lock _lock = new ReentrantLock();
+    final PayloadSlab _slab = new PayloadSlab();
+    private final LinkedHashSet<JavaPayloadEntryImpl> _entries = new LinkedHashSet<JavaPayloadEntryImpl>();
+    private final int _maxItems;
+    private boolean _isCacheDestroyed;
+    private String _dictKey;
+    DataDictionary _dictionary;
+
+    // codec objects shared by the entries of this cache, used with _lock held
+    final FieldList _decodeFieldList = CodecFactory.createFieldList();
+    final FieldEntry _decodeFieldEntry = CodecFactory.createFieldEntry();
+    final Map _decodeMap = CodecFactory.createMap();
+    final MapEntry _decodeMapEntry = CodecFactory.createMapEntry();
+    final FieldList _encodeFieldList = CodecFactory.createFieldList();
+    final FieldEntry _encodeFieldEntry = CodecFactory.createFieldEntry();
+    final Map _encodeMap = CodecFactory.createMap();
+    final MapEntry _encodeMapEntry = CodecFactory.createMapEntry();
+    final Buffer _encodeData = CodecFactory.createBuffer();
+    final Buffer _encodeSummaryData = CodecFactory.createBuffer();
+
+    JavaPayloadCacheImpl(PayloadCacheConfigOptions configOptions)
+    {
+        _maxItems = configOptions.maxItems();
+    }
+
+    static PayloadCache create(PayloadCacheConfigOptions configOptions, CacheError error)
+    {
+        JavaPayloadCacheImpl cache = new JavaPayloadCacheImpl(configOptions);
+
+        _globalLock.lock();
+        try
+        {
+            _globalCacheList.add(cache);
+        }
+        finally
+        {
+            _globalLock.unlock();
+        }
+
+        return cache;
+    }
+
+    static int populateErrorInfo(CacheErrorImpl errorInfo, int returnCode, String text)
+    {
+        errorInfo.errorId(returnCode);
+        errorInfo.text(text);
+
+        return returnCode;
+    }
+
+    @Override
+    public int setDictionary(DataDictionary fidDictionary, String dictionaryKey, CacheError error)
+    {
+        if (error == null)
+            throw new UnsupportedOperationException("JavaPayloadCacheImpl.setDictionary: error cannot be null, dictionary not set.");
+
+        if (dictionaryKey == null || fidDictionary == null)
+            return populateErrorInfo((CacheErrorImpl)error, CodecReturnCodes.INVALID_ARGUMENT,
+                                     "JavaPayloadCacheImpl.setDictionary error: dictionaryKey or fidDictionary cannot be null, dictionary not set.");
+
+        _lock.lock();
+        _globalLock.lock();
+        try
+        {
+            if (_isCacheDestroyed)
+                return populateErrorInfo((CacheErrorImpl)error, CodecReturnCodes.INVALID_DATA,
+                                         "JavaPayloadCacheImpl.setDictionary error: the cache instance has been destroyed.");
+
+            if (_dictKey != null && !_dictKey.equals(dictionaryKey))
+                return populateErrorInfo((CacheErrorImpl)error, CodecReturnCodes.INVALID_ARGUMENT,
+                                         "JavaPayloadCacheImpl.setDictionary error: not allow to reload dictonary with new key.");
+
+            DataDictionary current = _globalDictionaries.get(dictionaryKey);
+            if (current != null && current != fidDictionary && !isExtension(current, fidDictionary))
+                return populateErrorInfo((CacheErrorImpl)error, CodecReturnCodes.FAILURE,
+                                         "JavaPayloadCacheImpl.setDictionary error: the dictionary is not a valid extension of the dictionary set with this dictionaryKey.");
+
+            _globalDictionaries.put(dictionaryKey, fidDictionary);
+
+            /* Caches sharing the key use the extended dictionary. */
+            for (JavaPayloadCacheImpl cache : _globalCacheList)
+            {
+                if (dictionaryKey.equals(cache._dictKey))
+                    cache._dictionary = fidDictionary;
+            }
+            _dictKey = dictionaryKey;
+            _dictionary = fidDictionary;
+        }
+        finally
+        {
+            _globalLock.unlock();
+            _lock.unlock();
+        }
+
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    /* A valid extension keeps every field of the current dictionary with the same type. */
+    private static boolean isExtension(DataDictionary current, DataDictionary extension)
+    {
+        for (int fid = current.minFid(); fid <= current.maxFid(); ++fid)
+        {
+            DictionaryEntry currentEntry = current.entry(fid);
+            if (currentEntry == null)
+                continue;
+
+            DictionaryEntry extensionEntry = extension.entry(fid);
+            if (extensionEntry == null || extensionEntry.rwfType() != currentEntry.rwfType())
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int setSharedDictionaryKey(String dictionaryKey, CacheError error)
+    {
+        if (error == null)
+            throw new UnsupportedOperationException("JavaPayloadCacheImpl.setSharedDictionaryKey: error cannot be null, dictionary not set.");
+
+        if (dictionaryKey == null)
+            return populateErrorInfo((CacheErrorImpl)error, CodecReturnCodes.INVALID_ARGUMENT,
+                                     "JavaPayloadCacheImpl.setSharedDictionaryKey error: dictionaryKey cannot be null, dictionary not set.");
+
+        _lock.lock();
+        _globalLock.lock();
+        try
+        {
+            if (_isCacheDestroyed)
+                return populateErrorInfo((CacheErrorImpl)error, CodecReturnCodes.INVALID_DATA,
+                                         "JavaPayloadCacheImpl.setSharedDictionaryKey error: the cache instance has been destroyed.");
+
+            if (_dictKey != null)
+            {
+                if (!_dictKey.equals(dictionaryKey))
+                    return populateErrorInfo((CacheErrorImpl)error, CodecReturnCodes.INVALID_ARGUMENT,
+                                             "JavaPayloadCacheImpl.setSharedDictionaryKey error: not allow to reload dictonary with new key.");
+                return CodecReturnCodes.SUCCESS;
+            }
+
+            DataDictionary dictionary = _globalDictionaries.get(dictionaryKey);
+            if (dictionary == null)
+                return populateErrorInfo((CacheErrorImpl)error, CodecReturnCodes.INVALID_ARGUMENT,
+                                         "JavaPayloadCacheImpl.setSharedDictionaryKey error: the shared dictionary is not available, dictionary not set.");
+
+            _dictKey = dictionaryKey;
+            _dictionary = dictionary;
+        }
+        finally
+        {
+            _globalLock.unlock();
+            _lock.unlock();
+        }
+
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    @Override
+    public int entryCount()
+    {
+        _lock.lock();
+        try
+        {
+            return _isCacheDestroyed ? 0 : _entries.size();
+        }
+        finally
+        {
+            _lock.unlock();
+        }
+    }
+
+    @Override
+    public List<PayloadEntry> entryList()
+    {
+        _lock.lock();
+        try
+        {
+            if (_isCacheDestroyed || _entries.isEmpty())
+                return null;
+
+            return new ArrayList<PayloadEntry>(_entries);
+        }
+        finally
+        {
+            _lock.unlock();
+        }
+    }
+
+    @Override
+    public void destroy()
+    {
+        _lock.lock();
+        try
+        {
+            if (_isCacheDestroyed)
+                return;
+
+            destroyPayloadEntries();
+            _isCacheDestroyed = true;
+        }
+        finally
+        {
+            _lock.unlock();
+        }
+
+        _globalLock.lock();
+        try
+        {
+            _globalCacheList.remove(this);
+            if (_globalCacheList.isEmpty())
+                _globalDictionaries.clear();
+        }
+        finally
+        {
+            _globalLock.unlock();
+        }
+    }
+
+    @Override
+    public void clear()
+    {
+        _lock.lock();
+        try
+        {
+            if (!_isCacheDestroyed)
+                destroyPayloadEntries();
+        }
+        finally
+        {
+            _lock.unlock();
+        }
+    }
+
+    @Override
+    public void destroyAll()
+    {
+        List<JavaPayloadCacheImpl> caches;
+
+        _globalLock.lock();
+        try
+        {
+            caches = new ArrayList<JavaPayloadCacheImpl>(_globalCacheList);
+        }
+        finally
+        {
+            _globalLock.unlock();
+        }
+
+        for (JavaPayloadCacheImpl cache : caches)
+            cache.destroy();
+    }
+
+    /* Called with _lock held. The slab is released as a whole, so entries need not free their chunks. */
+    private void destroyPayloadEntries()
+    {
+        for (JavaPayloadEntryImpl entry : _entries)
+            entry.applyDestroy();
+        _entries.clear();
+        _slab.clear();
+    }
+
+    JavaPayloadEntryImpl createEntry(CacheError error)
+    {
+        _lock.lock();
+        try
+        {
+            if (_isCacheDestroyed)
+            {
+                populateErrorInfo((CacheErrorImpl)error, CodecReturnCodes.FAILURE,
+                                  "JavaPayloadCacheImpl.createEntry error: use invalid cache instance to create cache entry.");
+                return null;
+            }
+
+            if (_maxItems > 0 && _entries.size() >= _maxItems)
+            {
+                populateErrorInfo((CacheErrorImpl)error, CodecReturnCodes.FAILURE,
+                                  "JavaPayloadCacheImpl.createEntry error: the cache has reached maxItems (" + _maxItems + ").");
+                return null;
+            }
+
+            JavaPayloadEntryImpl entry = new JavaPayloadEntryImpl(this);
+            _entries.add(entry);
+            return entry;
+        }
+        finally
+        {
+            _lock.unlock();
+        }
+    }
+
+    /* Called with _lock held. */
+    void removeEntry(JavaPayloadEntryImpl entry)
+    {
+        _entries.remove(entry);
+    }
+
+    /* Bytes of direct memory reserved for the payloads of this cache. */
+    long reservedBytes()
+    {
+        _lock.lock();
+        try
+        {
+            return _slab._reservedBytes;
+        }
+        finally
+        {
+            _lock.unlock();
+        }
+    }
+
+    /* Bytes of direct memory used by the payloads of this cache. */
+    long usedBytes()
+    {
+        _lock.lock();
+        try
+        {
+            return _slab._usedBytes;
+        }
+        finally
+        {
+            _lock.unlock();
+        }
+    }
+}
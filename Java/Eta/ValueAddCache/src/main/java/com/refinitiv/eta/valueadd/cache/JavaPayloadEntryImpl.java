@@ -0,0 +1,367 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.cache;
+
+import java.io.PrintWriter;
+import java.nio.ByteBuffer;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataDictionary;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.FieldList;
+import com.refinitiv.eta.codec.Map;
+import com.refinitiv.eta.codec.Msg;
+import com.refinitiv.eta.codec.MsgClasses;
+import com.refinitiv.eta.codec.RefreshMsg;
+import com.refinitiv.eta.codec.StatusMsg;
+
+/* Payload entry of a JavaPayloadCacheImpl. */
+class JavaPayloadEntryImpl implements PayloadEntry
+{
+    private static int TRACE_BUF_SIZE = 6144;
+
+    private boolean _isEntryDestroyed;
+    private final JavaPayloadCacheImpl _cacheInstance;
+    private short _dataType = DataTypes.UNKNOWN;
+    private int _majorVer = 0;
+    private int _minorVer = 0;
+    int _generation; // changes when the stored data is cleared, invalidating cursors
+
+    private CachedFieldList _fieldList;
+    private CachedMap _map;
+
+    private final DecodeIterator _applyDIter = CodecFactory.createDecodeIterator();
+
+    // Variables for trace function only
+    private FieldList _traceFieldList = null;
+    private Map _traceMap = null;
+    private DecodeIterator _traceDIter = null;
+    private EncodeIterator _traceEIter = null;
+    private Buffer _traceBuffer = null;
+    private ByteBuffer _traceByteBuffer = null;
+    private PayloadCursorImpl _traceCursor = null;
+    private CacheErrorImpl _traceError = null;
+
+    JavaPayloadEntryImpl(JavaPayloadCacheImpl cacheInstance)
+    {
+        _cacheInstance = cacheInstance;
+    }
+
+    static PayloadEntry create(PayloadCache cacheInstance, CacheError error)
+    {
+        return ((JavaPayloadCacheImpl)cacheInstance).createEntry(error);
+    }
+
+    @Override
+    public void destroy()
+    {
+        _cacheInstance._lock.lock();
+        try
+        {
+            if (_isEntryDestroyed)
+                return;
+
+            clearData();
+            _cacheInstance.removeEntry(this);
+            _isEntryDestroyed = true;
+        }
+        finally
+        {
+            _cacheInstance._lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear()
+    {
+        _cacheInstance._lock.lock();
+        try
+        {
+            if (!_isEntryDestroyed)
+                clearData();
+        }
+        finally
+        {
+            _cacheInstance._lock.unlock();
+        }
+    }
+
+    /* Called with the cache lock held. */
+    private void clearData()
+    {
+        if (_fieldList != null)
+            _fieldList.clear(_cacheInstance._slab);
+        if (_map != null)
+            _map.clear(_cacheInstance._slab);
+        _dataType = DataTypes.UNKNOWN;
+        _generation++;
+    }
+
+    @Override
+    public short dataType()
+    {
+        if (_isEntryDestroyed)
+            return DataTypes.UNKNOWN;
+
+        return _dataType;
+    }
+
+    @Override
+    public int apply(DecodeIterator dIter, Msg msg, CacheError error)
+    {
+        if (error == null)
+            throw new UnsupportedOperationException("JavaPayloadEntryImpl.apply: error cannot be null, data not apply.");
+
+        if (dIter == null || msg == null)
+            return JavaPayloadCacheImpl.populateErrorInfo((CacheErrorImpl)error, CodecReturnCodes.INVALID_ARGUMENT,
+                                                          "JavaPayloadEntryImpl.apply error: dIter or msg cannot be null, data not apply.");
+
+        _cacheInstance._lock.lock();
+        try
+        {
+            if (_isEntryDestroyed)
+                return JavaPayloadCacheImpl.populateErrorInfo((CacheErrorImpl)error, CodecReturnCodes.INVALID_DATA,
+                                                              "JavaPayloadEntryImpl.apply error: the cache instance has been destroyed.");
+
+            error.clear();
+
+            boolean addFields;
+            switch (msg.msgClass())
+            {
+                case MsgClasses.REFRESH:
+                    if (((RefreshMsg)msg).checkClearCache())
+                        clearData();
+                    addFields = true;
+                    break;
+                case MsgClasses.UPDATE:
+                    addFields = _dataType == DataTypes.UNKNOWN || _dataType == DataTypes.NO_DATA;
+                    break;
+                case MsgClasses.STATUS:
+                    if (((StatusMsg)msg).checkClearCache())
+                        clearData();
+                    return CodecReturnCodes.SUCCESS;
+                default:
+                    return CodecReturnCodes.SUCCESS;
+            }
+
+            int containerType = msg.containerType();
+            if (containerType == DataTypes.NO_DATA)
+            {
+                if (_dataType == DataTypes.UNKNOWN)
+                    _dataType = DataTypes.NO_DATA;
+                return CodecReturnCodes.SUCCESS;
+            }
+
+            if (_dataType != DataTypes.UNKNOWN && _dataType != DataTypes.NO_DATA && _dataType != containerType)
+                return JavaPayloadCacheImpl.populateErrorInfo((CacheErrorImpl)error, CodecReturnCodes.INVALID_DATA,
+                                                              "JavaPayloadEntryImpl.apply error: container type " + DataTypes.toString(containerType)
+                                                              + " does not match the cached " + DataTypes.toString(_dataType) + ".");
+
+            _majorVer = dIter.majorVersion();
+            _minorVer = dIter.minorVersion();
+            _applyDIter.clear();
+            _applyDIter.setBufferAndRWFVersion(msg.encodedDataBody(), _majorVer, _minorVer);
+
+            int ret;
+            switch (containerType)
+            {
+                case DataTypes.FIELD_LIST:
+                    if (_cacheInstance._dictionary == null)
+                        return JavaPayloadCacheImpl.populateErrorInfo((CacheErrorImpl)error, CodecReturnCodes.FAILURE,
+                                                                      "JavaPayloadEntryImpl.apply error: no dictionary is set on the cache, data not apply.");
+                    if (_fieldList == null)
+                        _fieldList = new CachedFieldList();
+                    ret = _fieldList.apply(_applyDIter, addFields, _cacheInstance, (CacheErrorImpl)error);
+                    break;
+                case DataTypes.MAP:
+                    if (_map == null)
+                        _map = new CachedMap();
+                    ret = _map.apply(_applyDIter, _cacheInstance, (CacheErrorImpl)error);
+                    break;
+                default:
+                    return JavaPayloadCacheImpl.populateErrorInfo((CacheErrorImpl)error, CodecReturnCodes.UNSUPPORTED_DATA_TYPE,
+                                                                  "JavaPayloadEntryImpl.apply error: container type " + DataTypes.toString(containerType)
+                                                                  + " is not supported by the Java payload cache.");
+            }
+
+            if (ret < CodecReturnCodes.SUCCESS)
+                return ret;
+
+            _dataType = (short)containerType;
+            return CodecReturnCodes.SUCCESS;
+        }
+        finally
+        {
+            _cacheInstance._lock.unlock();
+        }
+    }
+
+    @Override
+    public int retrieve(EncodeIterator eIter, PayloadCursor cursor, CacheError error)
+    {
+        if (error == null)
+            throw new UnsupportedOperationException("JavaPayloadEntryImpl.retrieve: error cannot be null, unable receive data.");
+
+        if (eIter == null)
+            return JavaPayloadCacheImpl.populateErrorInfo((CacheErrorImpl)error, CodecReturnCodes.INVALID_ARGUMENT,
+                                                          "JavaPayloadEntryImpl.retrieve error: eIter cannot be null, unable receive data.");
+
+        PayloadCursorImpl cursorUsed = (PayloadCursorImpl)cursor;
+        if (cursorUsed != null && cursorUsed.isDestroyed())
+            return JavaPayloadCacheImpl.populateErrorInfo((CacheErrorImpl)error, CodecReturnCodes.INVALID_ARGUMENT,
+                                                          "JavaPayloadEntryImpl.retrieve error: invalid cursor, unable receive data.");
+
+        _cacheInstance._lock.lock();
+        try
+        {
+            if (_isEntryDestroyed)
+                return JavaPayloadCacheImpl.populateErrorInfo((CacheErrorImpl)error, CodecReturnCodes.INVALID_DATA,
+                                                              "JavaPayloadEntryImpl.retrieve error: the cache instance has been destroyed.");
+
+            return retrieveData(eIter, cursorUsed, (CacheErrorImpl)error);
+        }
+        finally
+        {
+            _cacheInstance._lock.unlock();
+        }
+    }
+
+    /* Called with the cache lock held. */
+    private int retrieveData(EncodeIterator eIter, PayloadCursorImpl cursor, CacheErrorImpl error)
+    {
+        int ret;
+        switch (_dataType)
+        {
+            case DataTypes.FIELD_LIST:
+                if ((ret = _fieldList.encode(eIter, _cacheInstance)) < CodecReturnCodes.SUCCESS)
+                    return JavaPayloadCacheImpl.populateErrorInfo(error, ret,
+                                                                  "JavaPayloadEntryImpl.retrieve error: unable to encode cached FieldList.");
+                if (cursor != null)
+                    cursor.setComplete(true);
+                return CodecReturnCodes.SUCCESS;
+            case DataTypes.MAP:
+            {
+                CachedMap.Node start = _map.first();
+                boolean firstPart = true;
+                if (cursor != null && cursor._javaEntry == this)
+                {
+                    if (cursor.isComplete())
+                        return JavaPayloadCacheImpl.populateErrorInfo(error, CodecReturnCodes.INVALID_ARGUMENT,
+                                                                      "JavaPayloadEntryImpl.retrieve error: the cursor is complete, clear it to retrieve again.");
+                    if (cursor._javaEntryGeneration != _generation)
+                        return JavaPayloadCacheImpl.populateErrorInfo(error, CodecReturnCodes.INVALID_DATA,
+                                                                      "JavaPayloadEntryImpl.retrieve error: the entry was cleared since the previous part was retrieved.");
+                    start = cursor._mapNode;
+                    firstPart = false;
+                }
+                if ((ret = _map.encode(eIter, _cacheInstance, start, firstPart, cursor)) < CodecReturnCodes.SUCCESS)
+                    return JavaPayloadCacheImpl.populateErrorInfo(error, ret,
+                                                                  "JavaPayloadEntryImpl.retrieve error: unable to encode cached Map.");
+                if (cursor != null)
+                {
+                    /* The cursor is bound to the entry once a part has been encoded, so a failed first part can be retried. */
+                    cursor._javaEntry = this;
+                    cursor._javaEntryGeneration = _generation;
+                }
+                return CodecReturnCodes.SUCCESS;
+            }
+            default:
+                if (cursor != null)
+                    cursor.setComplete(true);
+                return CodecReturnCodes.SUCCESS;
+        }
+    }
+
+    @Override
+    public int trace(int traceFormat, PrintWriter fileWriter, DataDictionary dictionary)
+    {
+        if (fileWriter == null || dictionary == null)
+            return CodecReturnCodes.FAILURE;
+
+        if (traceFormat != PayloadEntryTraceFormat.PAYLOAD_ENTRY_TRACE_OPTION_XML)
+        {
+            System.out.println("JavaPayloadEntryImpl.trace error: unsupported trace format.");
+            return CodecReturnCodes.FAILURE;
+        }
+
+        _cacheInstance._lock.lock();
+        try
+        {
+            if (_isEntryDestroyed || (_dataType != DataTypes.FIELD_LIST && _dataType != DataTypes.MAP))
+                return CodecReturnCodes.FAILURE;
+
+            if (_traceCursor == null)
+            {
+                _traceCursor = (PayloadCursorImpl)CacheFactory.createPayloadCursor();
+                _traceDIter = CodecFactory.createDecodeIterator();
+                _traceEIter = CodecFactory.createEncodeIterator();
+                _traceBuffer = CodecFactory.createBuffer();
+                _traceByteBuffer = ByteBuffer.allocate(TRACE_BUF_SIZE);
+                _traceError = new CacheErrorImpl();
+            }
+            else
+                _traceCursor.clear();
+
+            while (!_traceCursor.isComplete())
+            {
+                _traceByteBuffer.clear();
+                _traceBuffer.data(_traceByteBuffer);
+                _traceEIter.clear();
+                _traceEIter.setBufferAndRWFVersion(_traceBuffer, _majorVer, _minorVer);
+
+                int ret = retrieveData(_traceEIter, _traceCursor, _traceError);
+                if (ret == CodecReturnCodes.BUFFER_TOO_SMALL)
+                {
+                    /* A single FieldList or map entry does not fit, so grow the buffer and retry the part. */
+                    _traceByteBuffer = ByteBuffer.allocate(_traceByteBuffer.capacity() * 2);
+                    continue;
+                }
+                else if (ret < CodecReturnCodes.SUCCESS)
+                    return CodecReturnCodes.FAILURE;
+
+                _traceBuffer.data(_traceByteBuffer, 0, _traceByteBuffer.position());
+                _traceDIter.clear();
+                _traceDIter.setBufferAndRWFVersion(_traceBuffer, _majorVer, _minorVer);
+                if (_dataType == DataTypes.FIELD_LIST)
+                {
+                    if (_traceFieldList == null)
+                        _traceFieldList = CodecFactory.createFieldList();
+                    else
+                        _traceFieldList.clear();
+                    fileWriter.printf(_traceFieldList.decodeToXml(_traceDIter, dictionary));
+                }
+                else
+                {
+                    if (_traceMap == null)
+                        _traceMap = CodecFactory.createMap();
+                    else
+                        _traceMap.clear();
+                    fileWriter.printf(_traceMap.decodeToXml(_traceDIter, dictionary));
+                }
+                fileWriter.flush();
+            }
+        }
+        finally
+        {
+            _cacheInstance._lock.unlock();
+        }
+
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    /* Called by the cache with its lock held, when the cache is cleared or destroyed. */
+    void applyDestroy()
+    {
+        _isEntryDestroyed = true;
+    }
+}
@@ -28,5 +28,23 @@ public interface PayloadCacheConfigOptions
 	 * @param maxItems the max limit to set
 	 */
 	public void maxItems(int maxItems); 
+
+	/**
+	 * Indicates whether the cache is implemented in Java instead of the native
+	 * rsslVACacheJNI library. The Java cache keeps encoded payload data in direct
+	 * memory slabs owned by the cache and supports FieldList and Map payloads.
+	 * The default is false.
+	 * 
+	 * @return true if the Java cache implementation is used
+	 */
+	public boolean javaCache();
+
+	/**
+	 * Indicates whether the cache is implemented in Java instead of the native
+	 * rsslVACacheJNI library.
+	 * 
+	 * @param javaCache true to use the Java cache implementation
+	 */
+	public void javaCache(boolean javaCache);
 }
 
@@ -14,6 +14,7 @@ import com.refinitiv.eta.valueadd.cache.PayloadCacheConfigOptions;
 class PayloadCacheConfigOptionsImpl implements PayloadCacheConfigOptions
 {
     private int _maxItems;
+    private boolean _javaCache;
 
     @Override
     public int maxItems()
@@ -27,9 +28,22 @@ class PayloadCacheConfigOptionsImpl implements PayloadCacheConfigOptions
         _maxItems = maxItems;
     }
 
+    @Override
+    public boolean javaCache()
+    {
+        return _javaCache;
+    }
+
+    @Override
+    public void javaCache(boolean javaCache)
+    {
+        _javaCache = javaCache;
+    }
+
     public void clear()
     {
         _maxItems = 0;
+        _javaCache = false;
     }
 
 }
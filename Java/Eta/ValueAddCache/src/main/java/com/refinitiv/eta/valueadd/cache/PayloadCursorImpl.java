@@ -21,16 +21,19 @@ class PayloadCursorImpl extends VaNode implements PayloadCursor
     boolean _isComplete = false;
     long _etaCursorRef = 0;
 
+    // state of a multi-part retrieval from a Java payload entry
+    JavaPayloadEntryImpl _javaEntry = null;
+    int _javaEntryGeneration = 0;
+    CachedMap.Node _mapNode = null;
+
     private static VaIteratableQueue _activeCacheCursorPool = new VaIteratableQueue();
     private static VaIteratableQueue _freeCacheCursorPool = new VaIteratableQueue();
     private static Lock _globalCursorLock = new ReentrantLock();
 
+    /* The eta cursor is created on the first retrieval from a JNI payload entry,
+     * so cursors can be used with the Java payload cache without the JNI library. */
     public PayloadCursorImpl()
     {
-        _etaCursorRef = etaCreateCursor();
-        if (_etaCursorRef == 0)
-            throw new UnsupportedOperationException("PayloadCursorImpl constructor: cannot create eta cursor, PayloadCursor not created.");
-
         _isCursorDestroyed = false;
     }
 
@@ -77,7 +80,10 @@ class PayloadCursorImpl extends VaNode implements PayloadCursor
             return;
 
         _isComplete = false;
-        etaClearCursor(_etaCursorRef);
+        _javaEntry = null;
+        _mapNode = null;
+        if (_etaCursorRef != 0)
+            etaClearCursor(_etaCursorRef);
     }
 
     @Override
@@ -96,6 +102,12 @@ class PayloadCursorImpl extends VaNode implements PayloadCursor
 
     public long getETACursorRef()
     {
+        if (_etaCursorRef == 0)
+        {
+            _etaCursorRef = etaCreateCursor();
+            if (_etaCursorRef == 0)
+                throw new UnsupportedOperationException("PayloadCursorImpl.getETACursorRef: cannot create eta cursor.");
+        }
         return _etaCursorRef;
     }
 
@@ -110,14 +122,23 @@ class PayloadCursorImpl extends VaNode implements PayloadCursor
         _globalCursorLock.lock();
 
         while ((cursor = (PayloadCursorImpl)_freeCacheCursorPool.poll()) != null)
-            cursor.etaDestroyCursor(cursor._etaCursorRef);
+            cursor.destroyETACursor();
 
         while ((cursor = (PayloadCursorImpl)_activeCacheCursorPool.poll()) != null)
-            cursor.etaDestroyCursor(cursor._etaCursorRef);
+            cursor.destroyETACursor();
 
         _globalCursorLock.unlock();
     }
 
+    private void destroyETACursor()
+    {
+        if (_etaCursorRef != 0)
+        {
+            etaDestroyCursor(_etaCursorRef);
+            _etaCursorRef = 0;
+        }
+    }
+
     /* **** native methods ************************************************************/
 
     public native long etaCreateCursor();
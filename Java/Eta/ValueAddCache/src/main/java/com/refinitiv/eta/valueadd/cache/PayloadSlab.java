@@ -0,0 +1,213 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.cache;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import com.refinitiv.eta.codec.Buffer;
+
+/* Off-heap storage for the encoded data of a Java payload cache.
+ *
+ * Memory is taken from direct slabs of SLAB_SIZE bytes. Each slab is carved into chunks of one
+ * power of two size class, from MIN_CHUNK_SIZE to MAX_CHUNK_SIZE, and freed chunks are kept on a
+ * free list per size class. Data larger than MAX_CHUNK_SIZE gets a dedicated direct buffer.
+ * A chunk is identified by a handle holding the slab index and the offset in the slab.
+ * Not thread safe; the owning cache serializes access. */
+class PayloadSlab
+{
+    static final long NONE = -1;
+
+    static final int SLAB_SIZE = 64 * 1024;
+    static final int MIN_CHUNK_SHIFT = 4;
+    static final int MAX_CHUNK_SHIFT = 12;
+    static final int MIN_CHUNK_SIZE = 1 << MIN_CHUNK_SHIFT;
+    static final int MAX_CHUNK_SIZE = 1 << MAX_CHUNK_SHIFT;
+    static final int NUM_CLASSES = MAX_CHUNK_SHIFT - MIN_CHUNK_SHIFT + 1;
+    static final int DEDICATED = -1;
+
+    ByteBuffer[] _slabs = new ByteBuffer[16];
+    int[] _slabClass = new int[16]; // size class of each slab, or DEDICATED
+    int _slabCount;
+    int[] _freeSlabIndexes = new int[16]; // slots of released dedicated slabs
+    int _freeSlabCount;
+
+    long[][] _freeChunks = new long[NUM_CLASSES][];
+    int[] _freeChunkCount = new int[NUM_CLASSES];
+    int[] _carveSlab = new int[NUM_CLASSES]; // slab currently carved for each class, or -1
+    int[] _carveOffset = new int[NUM_CLASSES];
+
+    long _reservedBytes; // bytes of direct memory held by this slab allocator
+    long _usedBytes;     // bytes of chunks currently allocated
+
+    PayloadSlab()
+    {
+        for (int i = 0; i < NUM_CLASSES; ++i)
+        {
+            _freeChunks[i] = new long[16];
+            _carveSlab[i] = -1;
+        }
+    }
+
+    static int sizeClass(int length)
+    {
+        if (length <= MIN_CHUNK_SIZE)
+            return 0;
+        return 32 - Integer.numberOfLeadingZeros(length - 1) - MIN_CHUNK_SHIFT;
+    }
+
+    static int slabIndex(long handle)
+    {
+        return (int)(handle >>> 32);
+    }
+
+    static int offset(long handle)
+    {
+        return (int)handle;
+    }
+
+    ByteBuffer slab(long handle)
+    {
+        return _slabs[slabIndex(handle)];
+    }
+
+    int capacity(long handle)
+    {
+        int slabIndex = slabIndex(handle);
+        int sizeClass = _slabClass[slabIndex];
+        return sizeClass == DEDICATED ? _slabs[slabIndex].capacity() : 1 << (sizeClass + MIN_CHUNK_SHIFT);
+    }
+
+    /* Allocates a chunk that holds at least length bytes. */
+    long allocate(int length)
+    {
+        if (length > MAX_CHUNK_SIZE)
+        {
+            int slabIndex = addSlab(ByteBuffer.allocateDirect(length), DEDICATED);
+            _usedBytes += length;
+            return (long)slabIndex << 32;
+        }
+
+        int sizeClass = sizeClass(length);
+        int chunkSize = 1 << (sizeClass + MIN_CHUNK_SHIFT);
+        _usedBytes += chunkSize;
+
+        if (_freeChunkCount[sizeClass] > 0)
+            return _freeChunks[sizeClass][--_freeChunkCount[sizeClass]];
+
+        if (_carveSlab[sizeClass] == -1 || _carveOffset[sizeClass] + chunkSize > SLAB_SIZE)
+        {
+            _carveSlab[sizeClass] = addSlab(ByteBuffer.allocateDirect(SLAB_SIZE), sizeClass);
+            _carveOffset[sizeClass] = 0;
+        }
+
+        long handle = ((long)_carveSlab[sizeClass] << 32) | _carveOffset[sizeClass];
+        _carveOffset[sizeClass] += chunkSize;
+        return handle;
+    }
+
+    void free(long handle)
+    {
+        if (handle == NONE)
+            return;
+
+        int slabIndex = slabIndex(handle);
+        int sizeClass = _slabClass[slabIndex];
+        if (sizeClass == DEDICATED)
+        {
+            _usedBytes -= _slabs[slabIndex].capacity();
+            _reservedBytes -= _slabs[slabIndex].capacity();
+            _slabs[slabIndex] = null;
+            if (_freeSlabCount == _freeSlabIndexes.length)
+                _freeSlabIndexes = Arrays.copyOf(_freeSlabIndexes, _freeSlabCount * 2);
+            _freeSlabIndexes[_freeSlabCount++] = slabIndex;
+            return;
+        }
+
+        _usedBytes -= 1 << (sizeClass + MIN_CHUNK_SHIFT);
+        if (_freeChunkCount[sizeClass] == _freeChunks[sizeClass].length)
+            _freeChunks[sizeClass] = Arrays.copyOf(_freeChunks[sizeClass], _freeChunkCount[sizeClass] * 2);
+        _freeChunks[sizeClass][_freeChunkCount[sizeClass]++] = handle;
+    }
+
+    /* Stores data, reusing the chunk of handle in place when the data fits. Returns the handle of the data,
+     * or NONE for empty data. */
+    long store(long handle, Buffer data)
+    {
+        int length = data.length();
+        if (length == 0)
+        {
+            free(handle);
+            return NONE;
+        }
+
+        if (handle == NONE || capacity(handle) < length)
+        {
+            free(handle);
+            handle = allocate(length);
+        }
+
+        ByteBuffer slab = slab(handle);
+        slab.position(offset(handle));
+        data.copy(slab);
+        slab.position(0);
+        return handle;
+    }
+
+    /* Points buffer at the stored data. */
+    void wrap(long handle, int length, Buffer buffer)
+    {
+        if (handle == NONE)
+        {
+            buffer.clear();
+            return;
+        }
+        buffer.data(slab(handle), offset(handle), length);
+    }
+
+    private int addSlab(ByteBuffer slab, int sizeClass)
+    {
+        int slabIndex;
+        if (_freeSlabCount > 0)
+        {
+            slabIndex = _freeSlabIndexes[--_freeSlabCount];
+        }
+        else
+        {
+            if (_slabCount == _slabs.length)
+            {
+                _slabs = Arrays.copyOf(_slabs, _slabCount * 2);
+                _slabClass = Arrays.copyOf(_slabClass, _slabCount * 2);
+            }
+            slabIndex = _slabCount++;
+        }
+
+        _slabs[slabIndex] = slab;
+        _slabClass[slabIndex] = sizeClass;
+        _reservedBytes += slab.capacity();
+        return slabIndex;
+    }
+
+    /* Releases all slabs. Handles given out before are no longer valid. */
+    void clear()
+    {
+        for (int i = 0; i < _slabCount; ++i)
+            _slabs[i] = null;
+        _slabCount = 0;
+        _freeSlabCount = 0;
+        for (int i = 0; i < NUM_CLASSES; ++i)
+        {
+            _freeChunkCount[i] = 0;
+            _carveSlab[i] = -1;
+            _carveOffset[i] = 0;
+        }
+        _reservedBytes = 0;
+        _usedBytes = 0;
+    }
+}
@@ -0,0 +1,451 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2025 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.Codec;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataDictionary;
+import com.refinitiv.eta.codec.DataStates;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.FieldEntry;
+import com.refinitiv.eta.codec.FieldList;
+import com.refinitiv.eta.codec.Map;
+import com.refinitiv.eta.codec.MapEntry;
+import com.refinitiv.eta.codec.MapEntryActions;
+import com.refinitiv.eta.codec.Msg;
+import com.refinitiv.eta.codec.MsgClasses;
+import com.refinitiv.eta.codec.Real;
+import com.refinitiv.eta.codec.RealHints;
+import com.refinitiv.eta.codec.RefreshMsg;
+import com.refinitiv.eta.codec.StreamStates;
+import com.refinitiv.eta.rdm.DomainTypes;
+import com.refinitiv.eta.transport.Error;
+import com.refinitiv.eta.transport.TransportFactory;
+
+public class PayloadCacheJunit
+{
+    private static final int BID = 22;
+    private static final int ASK = 25;
+    private static final int BIDSIZE = 30;
+    private static final int ACVOL_1 = 32;
+
+    private DataDictionary _dictionary;
+    private PayloadCache _cache;
+    private CacheError _error;
+    private final DecodeIterator _dIter = CodecFactory.createDecodeIterator();
+
+    @Before
+    public void setUp()
+    {
+        _dictionary = CodecFactory.createDataDictionary();
+        Error error = TransportFactory.createError();
+        assertEquals(CodecReturnCodes.SUCCESS, _dictionary.loadFieldDictionary("../../etc/RDMFieldDictionary", error));
+
+        _error = CacheFactory.createCacheError();
+        PayloadCacheConfigOptions config = CacheFactory.createPayloadCacheConfig();
+        config.javaCache(true);
+        _cache = CacheFactory.createPayloadCache(config, _error);
+        assertNotNull(_cache);
+        assertEquals(CodecReturnCodes.SUCCESS, _cache.setDictionary(_dictionary, "dictKey", _error));
+    }
+
+    @After
+    public void tearDown()
+    {
+        _cache.destroy();
+    }
+
+    /* A field id and a REAL value, or a blank REAL when value is null. */
+    private static Object[] field(int fid, Long value)
+    {
+        return new Object[] { fid, value };
+    }
+
+    private static int encodeFieldList(EncodeIterator eIter, Object[]... fields)
+    {
+        FieldList fieldList = CodecFactory.createFieldList();
+        FieldEntry fieldEntry = CodecFactory.createFieldEntry();
+        Real real = CodecFactory.createReal();
+
+        fieldList.applyHasStandardData();
+        int ret = fieldList.encodeInit(eIter, null, 0);
+        if (ret < CodecReturnCodes.SUCCESS)
+            return ret;
+        for (Object[] field : fields)
+        {
+            fieldEntry.clear();
+            fieldEntry.fieldId((Integer)field[0]);
+            fieldEntry.dataType(DataTypes.REAL);
+            if (field[1] == null)
+                ret = fieldEntry.encodeBlank(eIter);
+            else
+            {
+                real.value((Long)field[1], RealHints.EXPONENT_2);
+                ret = fieldEntry.encode(eIter, real);
+            }
+            if (ret < CodecReturnCodes.SUCCESS)
+                return ret;
+        }
+        return fieldList.encodeComplete(eIter, true);
+    }
+
+    private Msg fieldListMsg(int msgClass, boolean clearCache, Object[]... fields)
+    {
+        Buffer buffer = CodecFactory.createBuffer();
+        buffer.data(ByteBuffer.allocate(1024));
+        EncodeIterator eIter = CodecFactory.createEncodeIterator();
+        eIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion());
+
+        Msg msg = initMsg(msgClass, clearCache, DataTypes.FIELD_LIST);
+        assertEquals(CodecReturnCodes.ENCODE_CONTAINER, msg.encodeInit(eIter, 0));
+        assertEquals(CodecReturnCodes.SUCCESS, encodeFieldList(eIter, fields));
+        assertEquals(CodecReturnCodes.SUCCESS, msg.encodeComplete(eIter, true));
+
+        return decodeMsg(buffer);
+    }
+
+    /* A Map entry with a key, an action and the fields of its FieldList payload. */
+    private static Object[] mapEntry(String key, int action, Object[]... fields)
+    {
+        return new Object[] { key, action, fields };
+    }
+
+    private Msg mapMsg(int msgClass, boolean clearCache, Object[]... entries)
+    {
+        Buffer buffer = CodecFactory.createBuffer();
+        buffer.data(ByteBuffer.allocate(4096));
+        EncodeIterator eIter = CodecFactory.createEncodeIterator();
+        eIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion());
+
+        Msg msg = initMsg(msgClass, clearCache, DataTypes.MAP);
+        assertEquals(CodecReturnCodes.ENCODE_CONTAINER, msg.encodeInit(eIter, 0));
+
+        Map map = CodecFactory.createMap();
+        MapEntry mapEntry = CodecFactory.createMapEntry();
+        Buffer key = CodecFactory.createBuffer();
+        map.keyPrimitiveType(DataTypes.BUFFER);
+        map.containerType(DataTypes.FIELD_LIST);
+        assertEquals(CodecReturnCodes.SUCCESS, map.encodeInit(eIter, 0, 0));
+        for (Object[] entry : entries)
+        {
+            mapEntry.clear();
+            key.data((String)entry[0]);
+            mapEntry.action((Integer)entry[1]);
+            if (mapEntry.action() == MapEntryActions.DELETE)
+                assertEquals(CodecReturnCodes.SUCCESS, mapEntry.encode(eIter, key));
+            else
+            {
+                assertEquals(CodecReturnCodes.SUCCESS, mapEntry.encodeInit(eIter, key, 0));
+                assertEquals(CodecReturnCodes.SUCCESS, encodeFieldList(eIter, (Object[][])entry[2]));
+                assertEquals(CodecReturnCodes.SUCCESS, mapEntry.encodeComplete(eIter, true));
+            }
+        }
+        assertEquals(CodecReturnCodes.SUCCESS, map.encodeComplete(eIter, true));
+        assertEquals(CodecReturnCodes.SUCCESS, msg.encodeComplete(eIter, true));
+
+        return decodeMsg(buffer);
+    }
+
+    private static Msg initMsg(int msgClass, boolean clearCache, int containerType)
+    {
+        Msg msg = CodecFactory.createMsg();
+        msg.msgClass(msgClass);
+        msg.streamId(5);
+        msg.domainType(DomainTypes.MARKET_PRICE);
+        msg.containerType(containerType);
+        if (msgClass == MsgClasses.REFRESH)
+        {
+            ((RefreshMsg)msg).state().streamState(StreamStates.OPEN);
+            ((RefreshMsg)msg).state().dataState(DataStates.OK);
+            if (clearCache)
+                ((RefreshMsg)msg).applyClearCache();
+        }
+        return msg;
+    }
+
+    private Msg decodeMsg(Buffer buffer)
+    {
+        Buffer encoded = CodecFactory.createBuffer();
+        encoded.data(buffer.data(), 0, buffer.data().position());
+        _dIter.clear();
+        _dIter.setBufferAndRWFVersion(encoded, Codec.majorVersion(), Codec.minorVersion());
+        Msg msg = CodecFactory.createMsg();
+        assertEquals(CodecReturnCodes.SUCCESS, msg.decode(_dIter));
+        return msg;
+    }
+
+    /* Applies msg with the iterator that decoded it, positioned at its payload. */
+    private int apply(PayloadEntry entry, Msg msg)
+    {
+        return entry.apply(_dIter, msg, _error);
+    }
+
+    /* Retrieves into a buffer of size bytes, returning the encoded payload or null on failure. */
+    private Buffer retrieve(PayloadEntry entry, PayloadCursor cursor, int size, int[] ret)
+    {
+        Buffer buffer = CodecFactory.createBuffer();
+        buffer.data(ByteBuffer.allocate(size));
+        EncodeIterator eIter = CodecFactory.createEncodeIterator();
+        eIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion());
+
+        ret[0] = entry.retrieve(eIter, cursor, _error);
+        if (ret[0] < CodecReturnCodes.SUCCESS)
+            return null;
+
+        Buffer encoded = CodecFactory.createBuffer();
+        encoded.data(buffer.data(), 0, buffer.data().position());
+        return encoded;
+    }
+
+    /* Decodes a FieldList into fid/value pairs, with a null value for blank fields. */
+    private static List<Object[]> decodeFieldList(DecodeIterator dIter)
+    {
+        FieldList fieldList = CodecFactory.createFieldList();
+        FieldEntry fieldEntry = CodecFactory.createFieldEntry();
+        Real real = CodecFactory.createReal();
+        List<Object[]> fields = new ArrayList<Object[]>();
+
+        assertEquals(CodecReturnCodes.SUCCESS, fieldList.decode(dIter, null));
+        while (fieldEntry.decode(dIter) != CodecReturnCodes.END_OF_CONTAINER)
+        {
+            int ret = real.decode(dIter);
+            fields.add(field(fieldEntry.fieldId(), ret == CodecReturnCodes.BLANK_DATA ? null : real.toLong()));
+        }
+        return fields;
+    }
+
+    private static List<Object[]> decodeFieldList(Buffer encoded)
+    {
+        DecodeIterator dIter = CodecFactory.createDecodeIterator();
+        dIter.setBufferAndRWFVersion(encoded, Codec.majorVersion(), Codec.minorVersion());
+        return decodeFieldList(dIter);
+    }
+
+    /* Decodes a Map into "key:fid=value,..." strings. */
+    private static List<String> decodeMap(Buffer encoded, int[] totalCountHint)
+    {
+        DecodeIterator dIter = CodecFactory.createDecodeIterator();
+        dIter.setBufferAndRWFVersion(encoded, Codec.majorVersion(), Codec.minorVersion());
+        Map map = CodecFactory.createMap();
+        MapEntry mapEntry = CodecFactory.createMapEntry();
+        Buffer key = CodecFactory.createBuffer();
+        List<String> entries = new ArrayList<String>();
+
+        assertEquals(CodecReturnCodes.SUCCESS, map.decode(dIter));
+        totalCountHint[0] = map.checkHasTotalCountHint() ? map.totalCountHint() : -1;
+        while (mapEntry.decode(dIter, key) != CodecReturnCodes.END_OF_CONTAINER)
+        {
+            assertEquals(MapEntryActions.ADD, mapEntry.action());
+            StringBuilder entry = new StringBuilder(key.toString()).append(':');
+            for (Object[] field : decodeFieldList(dIter))
+                entry.append(field[0]).append('=').append(field[1]).append(',');
+            entries.add(entry.toString());
+        }
+        return entries;
+    }
+
+    private static void assertFields(List<Object[]> fields, Object[]... expected)
+    {
+        assertEquals(expected.length, fields.size());
+        for (int i = 0; i < expected.length; ++i)
+        {
+            assertEquals(expected[i][0], fields.get(i)[0]);
+            assertEquals(expected[i][1], fields.get(i)[1]);
+        }
+    }
+
+    @Test
+    public void fieldListRefreshUpdateTest()
+    {
+        PayloadEntry entry = CacheFactory.createPayloadEntry(_cache, _error);
+        assertNotNull(entry);
+        assertTrue(entry instanceof JavaPayloadEntryImpl);
+        assertEquals(1, _cache.entryCount());
+        assertEquals(DataTypes.UNKNOWN, entry.dataType());
+
+        assertEquals(CodecReturnCodes.SUCCESS, apply(entry, fieldListMsg(MsgClasses.REFRESH, true,
+                field(BID, 1000L), field(ASK, 1010L), field(ACVOL_1, null))));
+        assertEquals(DataTypes.FIELD_LIST, entry.dataType());
+        assertNull(_error.text());
+
+        /* BIDSIZE is not in the image, so it is ignored with a warning. */
+        assertEquals(CodecReturnCodes.SUCCESS, apply(entry, fieldListMsg(MsgClasses.UPDATE, false,
+                field(ASK, 1020L), field(BIDSIZE, 5L), field(ACVOL_1, 300L))));
+        assertEquals(CodecReturnCodes.SUCCESS, _error.errorId());
+        assertNotNull(_error.text());
+        assertTrue(_error.text().contains(Integer.toString(BIDSIZE)));
+
+        int[] ret = new int[1];
+        PayloadCursor cursor = CacheFactory.createPayloadCursor();
+        Buffer encoded = retrieve(entry, cursor, 1024, ret);
+        assertEquals(CodecReturnCodes.SUCCESS, ret[0]);
+        assertTrue(cursor.isComplete());
+        assertFields(decodeFieldList(encoded), field(BID, 1000L), field(ASK, 1020L), field(ACVOL_1, 300L));
+
+        /* A refresh without clearCache merges and can add fields. */
+        assertEquals(CodecReturnCodes.SUCCESS, apply(entry, fieldListMsg(MsgClasses.REFRESH, false,
+                field(BIDSIZE, 7L), field(BID, null))));
+        assertFields(decodeFieldList(retrieve(entry, null, 1024, ret)),
+                field(BID, null), field(ASK, 1020L), field(ACVOL_1, 300L), field(BIDSIZE, 7L));
+
+        /* A refresh with clearCache replaces the image. */
+        assertEquals(CodecReturnCodes.SUCCESS, apply(entry, fieldListMsg(MsgClasses.REFRESH, true, field(ASK, 1L))));
+        assertFields(decodeFieldList(retrieve(entry, null, 1024, ret)), field(ASK, 1L));
+
+        assertNull(retrieve(entry, null, 4, ret));
+        assertEquals(CodecReturnCodes.BUFFER_TOO_SMALL, ret[0]);
+
+        entry.clear();
+        assertEquals(DataTypes.UNKNOWN, entry.dataType());
+        assertEquals(0, ((JavaPayloadCacheImpl)_cache).usedBytes());
+
+        cursor.destroy();
+        entry.destroy();
+        assertEquals(0, _cache.entryCount());
+    }
+
+    @Test
+    public void fieldListInPlaceUpdateTest()
+    {
+        PayloadEntry entry = CacheFactory.createPayloadEntry(_cache, _error);
+        JavaPayloadCacheImpl cache = (JavaPayloadCacheImpl)_cache;
+
+        assertEquals(CodecReturnCodes.SUCCESS, apply(entry, fieldListMsg(MsgClasses.REFRESH, true,
+                field(BID, 1000L), field(ASK, 1010L))));
+        long reserved = cache.reservedBytes();
+        long used = cache.usedBytes();
+        assertTrue(reserved > 0);
+
+        for (long i = 0; i < 10000; ++i)
+            assertEquals(CodecReturnCodes.SUCCESS, apply(entry, fieldListMsg(MsgClasses.UPDATE, false,
+                    field(BID, i), field(ASK, i + 1))));
+
+        /* Updated values are written over the stored ones, so no memory is taken. */
+        assertEquals(reserved, cache.reservedBytes());
+        assertEquals(used, cache.usedBytes());
+
+        int[] ret = new int[1];
+        assertFields(decodeFieldList(retrieve(entry, null, 1024, ret)), field(BID, 9999L), field(ASK, 10000L));
+    }
+
+    @Test
+    public void mapTest()
+    {
+        PayloadEntry entry = CacheFactory.createPayloadEntry(_cache, _error);
+
+        assertEquals(CodecReturnCodes.SUCCESS, apply(entry, mapMsg(MsgClasses.REFRESH, true,
+                mapEntry("A", MapEntryActions.ADD, field(BID, 1L), field(ASK, 2L)),
+                mapEntry("B", MapEntryActions.ADD, field(BID, 3L)),
+                mapEntry("C", MapEntryActions.ADD, field(BID, 5L)))));
+        assertEquals(DataTypes.MAP, entry.dataType());
+
+        assertEquals(CodecReturnCodes.SUCCESS, apply(entry, mapMsg(MsgClasses.UPDATE, false,
+                mapEntry("A", MapEntryActions.UPDATE, field(ASK, 20L)),
+                mapEntry("B", MapEntryActions.DELETE),
+                mapEntry("C", MapEntryActions.ADD, field(ASK, 6L)),
+                mapEntry("D", MapEntryActions.ADD, field(BID, 7L)))));
+
+        int[] ret = new int[1];
+        int[] totalCountHint = new int[1];
+        List<String> entries = decodeMap(retrieve(entry, null, 1024, ret), totalCountHint);
+        assertEquals(CodecReturnCodes.SUCCESS, ret[0]);
+        assertEquals(3, totalCountHint[0]);
+        assertEquals(3, entries.size());
+        assertEquals("A:22=1,25=20,", entries.get(0));
+        assertEquals("C:25=6,", entries.get(1));
+        assertEquals("D:22=7,", entries.get(2));
+
+        /* A FieldList payload cannot be applied to an entry holding a Map. */
+        assertEquals(CodecReturnCodes.INVALID_DATA, apply(entry, fieldListMsg(MsgClasses.UPDATE, false, field(BID, 1L))));
+    }
+
+    @Test
+    public void mapMultiPartRetrieveTest()
+    {
+        PayloadEntry entry = CacheFactory.createPayloadEntry(_cache, _error);
+
+        Object[][] entries = new Object[50][];
+        for (int i = 0; i < entries.length; ++i)
+            entries[i] = mapEntry("KEY" + i, MapEntryActions.ADD, field(BID, (long)i), field(ASK, (long)i + 1));
+        assertEquals(CodecReturnCodes.SUCCESS, apply(entry, mapMsg(MsgClasses.REFRESH, true, entries)));
+
+        int[] ret = new int[1];
+        int[] totalCountHint = new int[1];
+        PayloadCursor cursor = CacheFactory.createPayloadCursor();
+        List<String> retrieved = new ArrayList<String>();
+        int parts = 0;
+        while (!cursor.isComplete())
+        {
+            Buffer encoded = retrieve(entry, cursor, 128, ret);
+            assertEquals(CodecReturnCodes.SUCCESS, ret[0]);
+            List<String> part = decodeMap(encoded, totalCountHint);
+            assertFalse(part.isEmpty());
+            assertEquals(parts == 0 ? 50 : -1, totalCountHint[0]);
+            retrieved.addAll(part);
+            ++parts;
+        }
+        assertTrue(parts > 1);
+        assertEquals(50, retrieved.size());
+        for (int i = 0; i < entries.length; ++i)
+            assertEquals("KEY" + i + ":22=" + i + ",25=" + (i + 1) + ",", retrieved.get(i));
+
+        /* The cursor has to be cleared before the entry is retrieved again. */
+        assertNull(retrieve(entry, cursor, 128, ret));
+        assertEquals(CodecReturnCodes.INVALID_ARGUMENT, ret[0]);
+        cursor.clear();
+        assertNotNull(retrieve(entry, cursor, 4096, ret));
+        assertTrue(cursor.isComplete());
+
+        cursor.destroy();
+    }
+
+    @Test
+    public void cacheLimitsTest()
+    {
+        PayloadCacheConfigOptions config = CacheFactory.createPayloadCacheConfig();
+        config.javaCache(true);
+        config.maxItems(1);
+        PayloadCache cache = CacheFactory.createPayloadCache(config, _error);
+
+        /* The dictionary set on the first cache is shared by its key. */
+        assertEquals(CodecReturnCodes.SUCCESS, cache.setSharedDictionaryKey("dictKey", _error));
+        assertEquals(CodecReturnCodes.INVALID_ARGUMENT, cache.setSharedDictionaryKey("otherKey", _error));
+
+        assertNotNull(CacheFactory.createPayloadEntry(cache, _error));
+        assertNull(CacheFactory.createPayloadEntry(cache, _error));
+        assertEquals(CodecReturnCodes.FAILURE, _error.errorId());
+
+        cache.clear();
+        assertEquals(0, cache.entryCount());
+        PayloadEntry entry = CacheFactory.createPayloadEntry(cache, _error);
+        assertNotNull(entry);
+        assertEquals(CodecReturnCodes.SUCCESS, apply(entry, fieldListMsg(MsgClasses.REFRESH, true, field(BID, 1L))));
+
+        cache.destroy();
+        assertEquals(CodecReturnCodes.INVALID_DATA, apply(entry, fieldListMsg(MsgClasses.UPDATE, false, field(BID, 2L))));
+    }
+}